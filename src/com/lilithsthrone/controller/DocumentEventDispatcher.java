@@ -0,0 +1,225 @@
+package com.lilithsthrone.controller;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Function;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.events.Event;
+import org.w3c.dom.events.EventListener;
+import org.w3c.dom.events.EventTarget;
+import org.w3c.dom.events.MouseEvent;
+
+/**
+ * Handles all of a WebView document's events with a single listener per event type, attached to the document itself, instead of binding listeners to every element.<br/>
+ * <br/>
+ * Listeners are registered against element ids, and are called for events on that element or any of its children, in the same order as they would have been by bubbling.
+ *  mouseenter and mouseleave don't bubble, so are worked out from mouseover and mouseout.
+ *  Resolvers can be registered to find listeners for element ids when they are first needed, so that screens which contain one element out of thousands of possible ids don't have to look each one of them up.<br/>
+ * <br/>
+ * Re-rendering a document only needs clear() to be called, rather than each listener being removed from its element.
+ *  clear() also detaches the document's own listeners, so that a document which is written to again, rather than replaced, never ends up with two of them.
+ *
+ * @since 0.3.5.8
+ * @version 0.3.5.8
+ * @author Innoxia
+ */
+class DocumentEventDispatcher {
+
+	private static class Resolver {
+		private final Function<String, EventListener> function;
+		/** Resolved listeners by element id. Ids which resolve to nothing are stored with a null value. */
+		private final Map<String, EventListener> resolved = new HashMap<>();
+
+		private Resolver(Function<String, EventListener> function) {
+			this.function = function;
+		}
+
+		private EventListener resolve(String id) {
+			if(resolved.containsKey(id)) {
+				return resolved.get(id);
+			}
+			EventListener listener = function.apply(id);
+			resolved.put(id, listener);
+			return listener;
+		}
+	}
+
+	private final Document document;
+	private final Map<String, Map<String, List<EventListener>>> listeners = new HashMap<>();
+	private final Map<String, List<Resolver>> resolvers = new HashMap<>();
+	/** The document's own listeners, by the event type which they listen for. mouseenter and mouseleave are listened for as mouseover and mouseout. */
+	private final Map<String, EventListener> documentListeners = new HashMap<>();
+	/** Incremented by clear(), so that an event which causes the document to be re-rendered stops being dispatched to the listeners which have been cleared. */
+	private int generation = 0;
+
+	DocumentEventDispatcher(Document document) {
+		this.document = document;
+	}
+
+	void addEventListener(String id, String type, EventListener listener) {
+		listeners.computeIfAbsent(type, t -> new HashMap<>()).computeIfAbsent(id, i -> new ArrayList<>()).add(listener);
+		listenFor(type);
+	}
+
+	/**
+	 * @param resolver Returns the listener for the element with the supplied id, or null if it doesn't have one. It is called at most once for each id.
+	 */
+	void addEventListenerResolver(String type, Function<String, EventListener> resolver) {
+		resolvers.computeIfAbsent(type, t -> new ArrayList<>()).add(new Resolver(resolver));
+		listenFor(type);
+	}
+
+	/**
+	 * Removes all registered listeners and resolvers, and detaches the document's own listeners until new ones are registered.
+	 */
+	void clear() {
+		listeners.clear();
+		resolvers.clear();
+		for(Entry<String, EventListener> entry : documentListeners.entrySet()) {
+			((EventTarget) document).removeEventListener(entry.getKey(), entry.getValue(), false);
+		}
+		documentListeners.clear();
+		generation++;
+	}
+
+	boolean isForDocument(Document document) {
+		return this.document==document || this.document.isSameNode(document);
+	}
+
+	private void listenFor(String type) {
+		String dispatchedType = type;
+		if(type.equals("mouseenter")) {
+			dispatchedType = "mouseover";
+		} else if(type.equals("mouseleave")) {
+			dispatchedType = "mouseout";
+		}
+		if(!documentListeners.containsKey(dispatchedType)) {
+			String finalType = dispatchedType;
+			EventListener documentListener = e -> dispatch(finalType, e);
+			documentListeners.put(dispatchedType, documentListener);
+			((EventTarget) document).addEventListener(dispatchedType, documentListener, false);
+		}
+	}
+
+	private boolean hasListeners(String type) {
+		return listeners.containsKey(type) || resolvers.containsKey(type);
+	}
+
+	private List<EventListener> getListeners(String type, String id) {
+		List<EventListener> found = new ArrayList<>();
+		Map<String, List<EventListener>> listenersById = listeners.get(type);
+		if(listenersById!=null && listenersById.containsKey(id)) {
+			found.addAll(listenersById.get(id));
+		}
+		List<Resolver> typeResolvers = resolvers.get(type);
+		if(typeResolvers!=null) {
+			for(Resolver resolver : new ArrayList<>(typeResolvers)) {
+				EventListener listener = resolver.resolve(id);
+				if(listener!=null) {
+					found.add(listener);
+				}
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * @return The target element and its ancestors, from the target outwards.
+	 */
+	private static List<Element> getPath(EventTarget target) {
+		List<Element> path = new ArrayList<>();
+		Node node = target instanceof Node ? (Node) target : null;
+		while(node!=null) {
+			if(node instanceof Element) {
+				path.add((Element) node);
+			}
+			node = node.getParentNode();
+		}
+		return path;
+	}
+
+	private static boolean isInside(List<Element> relatedPath, Element element) {
+		for(Element e : relatedPath) {
+			if(e.isSameNode(element)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void dispatch(String dispatchedType, Event event) {
+		switch(dispatchedType) {
+			case "mouseover":
+				if(hasListeners("mouseover")) {
+					dispatchBubbling("mouseover", event, getPath(event.getTarget()));
+				}
+				if(hasListeners("mouseenter")) {
+					dispatchBoundary("mouseenter", (MouseEvent) event, true);
+				}
+				break;
+			case "mouseout":
+				if(hasListeners("mouseout")) {
+					dispatchBubbling("mouseout", event, getPath(event.getTarget()));
+				}
+				if(hasListeners("mouseleave")) {
+					dispatchBoundary("mouseleave", (MouseEvent) event, false);
+				}
+				break;
+			default:
+				if(hasListeners(dispatchedType)) {
+					dispatchBubbling(dispatchedType, event, getPath(event.getTarget()));
+				}
+				break;
+		}
+	}
+
+	private void dispatchBubbling(String type, Event event, List<Element> path) {
+		int startGeneration = generation;
+		for(Element element : path) {
+			String id = element.getAttribute("id");
+			if(id==null || id.isEmpty()) {
+				continue;
+			}
+			for(EventListener listener : getListeners(type, id)) {
+				if(generation!=startGeneration) {
+					return;
+				}
+				listener.handleEvent(event);
+			}
+		}
+	}
+
+	/**
+	 * mouseenter is called for each element which the mouse has moved into, from the outermost inwards, and mouseleave for each element which the mouse has moved out of, from the innermost outwards.
+	 */
+	private void dispatchBoundary(String type, MouseEvent event, boolean outermostFirst) {
+		int startGeneration = generation;
+		List<Element> path = getPath(event.getTarget());
+		List<Element> relatedPath = getPath(event.getRelatedTarget());
+		List<EventListener> toCall = new ArrayList<>();
+		for(Element element : path) {
+			String id = element.getAttribute("id");
+			if(id==null || id.isEmpty() || isInside(relatedPath, element)) {
+				continue;
+			}
+			List<EventListener> elementListeners = getListeners(type, id);
+			if(outermostFirst) {
+				toCall.addAll(0, elementListeners);
+			} else {
+				toCall.addAll(elementListeners);
+			}
+		}
+		for(EventListener listener : toCall) {
+			if(generation!=startGeneration) {
+				return;
+			}
+			listener.handleEvent(event);
+		}
+	}
+}
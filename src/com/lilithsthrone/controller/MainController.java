@@ -10,6 +10,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.ResourceBundle;
+import java.util.function.Function;
 
 import org.w3c.dom.Document;
 import org.w3c.dom.events.EventListener;
@@ -98,6 +99,7 @@ import com.lilithsthrone.game.sex.sexActions.baseActionsMisc.PositioningMenu;
 import com.lilithsthrone.main.Main;
 import com.lilithsthrone.rendering.ImageCache;
 import com.lilithsthrone.rendering.RenderingEngine;
+import com.lilithsthrone.rendering.WebViewRegions;
 import com.lilithsthrone.utils.Colour;
 import com.lilithsthrone.utils.Pathing;
 import com.lilithsthrone.utils.Units;
@@ -949,23 +951,71 @@ public class MainController implements Initializable {
 	static SetContentEventListener previousResponsePageListener = new SetContentEventListener().previousPage();
 	
 	// Temporary ones to clear:
-	static Map<Document, List<EventListenerData>> EventListenerDataMap = new HashMap<>();
+	private static Map<Document, DocumentEventDispatcher> eventDispatchers = new HashMap<>();
 	
 	private void unbindListeners(Document document) {
 		cookieManager.getCookieStore().removeAll();
 		if(document!=null) {
-			for(EventListenerData data : EventListenerDataMap.get(document)) {
-				((EventTarget) document.getElementById(data.ID)).removeEventListener(data.type, data.listener, data.useCapture);
+			DocumentEventDispatcher dispatcher = findEventDispatcher(document);
+			if(dispatcher!=null) {
+				dispatcher.clear();
+				eventDispatchers.values().remove(dispatcher);
 			}
-			EventListenerDataMap.get(document).clear();
-			
-			EventListenerDataMap.remove(document);
 		}
 	}
 	
+	/**
+	 * Clears all of this document's listeners, ready for new ones to be added.
+	 */
+	static void resetEventListeners(Document document) {
+		getEventDispatcher(document).clear();
+	}
+	
+	/**
+	 * Panels which have only had regions replaced keep their document, which might not be returned as the same Java object, so documents are also compared by node.
+	 */
+	private static DocumentEventDispatcher findEventDispatcher(Document document) {
+		DocumentEventDispatcher dispatcher = eventDispatchers.get(document);
+		if(dispatcher==null) {
+			for(DocumentEventDispatcher d : eventDispatchers.values()) {
+				if(d.isForDocument(document)) {
+					return d;
+				}
+			}
+		}
+		return dispatcher;
+	}
+	
+	private static DocumentEventDispatcher getEventDispatcher(Document document) {
+		DocumentEventDispatcher dispatcher = findEventDispatcher(document);
+		if(dispatcher==null) {
+			dispatcher = new DocumentEventDispatcher(document);
+			eventDispatchers.put(document, dispatcher);
+		}
+		return dispatcher;
+	}
+	
+	/**
+	 * Listeners are not bound to the element itself, but are called by the document's DocumentEventDispatcher for events on the element or any of its children. As no listener stops propagation, useCapture makes no difference.
+	 */
 	static void addEventListener(Document document, String ID, String type, EventListener listener, boolean useCapture) {
-		((EventTarget) document.getElementById(ID)).addEventListener(type, listener, useCapture);
-		EventListenerDataMap.get(document).add(new EventListenerData(ID, type, listener, useCapture));
+		getEventDispatcher(document).addEventListener(ID, type, listener);
+	}
+	
+	/**
+	 * @param resolver Returns the listener for the element with the supplied id, or null if it doesn't have one. It is only called when an event first reaches that element.
+	 */
+	static void addEventListenerResolver(Document document, String type, Function<String, EventListener> resolver) {
+		getEventDispatcher(document).addEventListenerResolver(type, resolver);
+	}
+	
+	/**
+	 * Adds the standard tooltip listeners to every element for which the resolver returns a mouseenter listener.
+	 */
+	static void addTooltipListenerResolver(Document document, Function<String, EventListener> resolver) {
+		addEventListenerResolver(document, "mousemove", id -> resolver.apply(id)!=null ? moveTooltipListener : null);
+		addEventListenerResolver(document, "mouseleave", id -> resolver.apply(id)!=null ? hideTooltipListener : null);
+		addEventListenerResolver(document, "mouseenter", resolver);
 	}
 	
 	public static Document document, documentButtons, documentAttributes, documentRight, documentInventory, documentMap, documentMapTitle;
@@ -1096,7 +1146,7 @@ public class MainController implements Initializable {
 			String id = "option_" + i;
 			if (((EventTarget) document.getElementById(id)) != null) {
 				SetContentEventListener el = new SetContentEventListener().setIndex(i);
-				((EventTarget) document.getElementById(id)).addEventListener("click", el, false);
+				addEventListener(document, id, "click", el, false);
 				
 				addEventListener(document, id, "mousemove", responseTooltipListener, false);
 				addEventListener(document, id, "mouseleave", hideTooltipListener, false);
@@ -1127,7 +1177,7 @@ public class MainController implements Initializable {
 			addEventListener(document, id, "mouseenter", el2, false);
 			
 			if(Main.game.getCurrentDialogueNode() == PhoneDialogue.MAP) { // Do not allow fast travel from the library map
-				((EventTarget) document.getElementById(id)).addEventListener("click", e -> {
+				addEventListener(document, id, "click", e -> {
 					Vector2i clickLocation = new Vector2i(j, i);
 					
 					if(Main.game.getWorlds().get(worldType).getCell(clickLocation).getPlace().getPlaceType().getDialogue(false)!=null // Make sure the destination actually has an associated DialogueNode
@@ -1242,7 +1292,7 @@ public class MainController implements Initializable {
 	private static void setResponseTabListeners(int responsePageCounter) {
 		String id = "tab_" + responsePageCounter;
 
-		((EventTarget) document.getElementById(id)).addEventListener("click", e -> {
+		addEventListener(document, id, "click", e -> {
 				Main.game.setResponseTab(responsePageCounter);
 				Main.game.updateResponses();
 			}, false);
@@ -1251,7 +1301,7 @@ public class MainController implements Initializable {
 	static void allocateWorkTime(int i) {
 		String id = i+"_WORK";
 		if (((EventTarget) document.getElementById(id)) != null) {
-			((EventTarget) document.getElementById(id)).addEventListener("click", e -> {
+			addEventListener(document, id, "click", e -> {
 				SlaveJob job = Main.game.getDialogueFlags().getSlaveryManagerJobSelected();
 				if(Main.game.getDialogueFlags().getManagementCompanion().getSlaveJob(i)==job) {
 					Main.game.getDialogueFlags().getManagementCompanion().setSlaveJob(i, SlaveJob.IDLE);
@@ -1278,7 +1328,7 @@ public class MainController implements Initializable {
 		String id = "INV_PAGE_LEFT_"+i;
 		if (((EventTarget) document.getElementById(id)) != null) {
 			if(i!=5 || Main.game.getPlayer().isCarryingQuestItems()) {
-				((EventTarget) document.getElementById(id)).addEventListener("click", e -> {
+				addEventListener(document, id, "click", e -> {
 					RenderingEngine.setPageLeft(i);
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 				}, false);
@@ -1295,7 +1345,7 @@ public class MainController implements Initializable {
 	static void setInventoryPageRight(int i) {
 		String id = "INV_PAGE_RIGHT_"+i;
 		if (((EventTarget) document.getElementById(id)) != null) {
-			((EventTarget) document.getElementById(id)).addEventListener("click", e -> {
+			addEventListener(document, id, "click", e -> {
 				RenderingEngine.setPageRight(i);
 				Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 			}, false);
@@ -1305,7 +1355,7 @@ public class MainController implements Initializable {
 	static void setBreastCountListener(int i) {
 		String id = "BREAST_COUNT_"+i;
 		if (((EventTarget) document.getElementById(id)) != null) {
-			((EventTarget) document.getElementById(id)).addEventListener("click", e -> {
+			addEventListener(document, id, "click", e -> {
 				BodyChanging.getTarget().setBreastRows(i);
 				Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 			}, false);
@@ -1315,7 +1365,7 @@ public class MainController implements Initializable {
 	static void setBreastCrotchCountListener(int i) {
 		String id = "CROTCH_BOOB_COUNT_"+i;
 		if (((EventTarget) document.getElementById(id)) != null) {
-			((EventTarget) document.getElementById(id)).addEventListener("click", e -> {
+			addEventListener(document, id, "click", e -> {
 				BodyChanging.getTarget().setBreastCrotchRows(i);
 				Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 			}, false);
@@ -1325,7 +1375,7 @@ public class MainController implements Initializable {
 	static void setNippleCountListener(int i) {
 		String id = "NIPPLE_COUNT_"+i;
 		if (((EventTarget) document.getElementById(id)) != null) {
-			((EventTarget) document.getElementById(id)).addEventListener("click", e -> {
+			addEventListener(document, id, "click", e -> {
 				BodyChanging.getTarget().setNippleCountPerBreast(i);
 				Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 			}, false);
@@ -1335,7 +1385,7 @@ public class MainController implements Initializable {
 	static void setNippleCrotchCountListener(int i) {
 		String id = "NIPPLE_CROTCH_COUNT_"+i;
 		if (((EventTarget) document.getElementById(id)) != null) {
-			((EventTarget) document.getElementById(id)).addEventListener("click", e -> {
+			addEventListener(document, id, "click", e -> {
 				BodyChanging.getTarget().setNippleCrotchCountPerBreast(i);
 				Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 			}, false);
@@ -1345,7 +1395,7 @@ public class MainController implements Initializable {
 	static void setArmCountListener(int i) {
 		String id = "ARM_COUNT_"+i;
 		if (((EventTarget) document.getElementById(id)) != null) {
-			((EventTarget) document.getElementById(id)).addEventListener("click", e -> {
+			addEventListener(document, id, "click", e -> {
 				BodyChanging.getTarget().setArmRows(i);
 				Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 			}, false);
@@ -1355,7 +1405,7 @@ public class MainController implements Initializable {
 	static void setHornCountListener(int i) {
 		String id = "HORN_COUNT_"+i;
 		if (((EventTarget) document.getElementById(id)) != null) {
-			((EventTarget) document.getElementById(id)).addEventListener("click", e -> {
+			addEventListener(document, id, "click", e -> {
 				BodyChanging.getTarget().setHornRows(i);
 				Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 			}, false);
@@ -1365,7 +1415,7 @@ public class MainController implements Initializable {
 	static void setHornsPerRowCountListener(int i) {
 		String id = "HORN_COUNT_PER_ROW_"+i;
 		if (((EventTarget) document.getElementById(id)) != null) {
-			((EventTarget) document.getElementById(id)).addEventListener("click", e -> {
+			addEventListener(document, id, "click", e -> {
 				BodyChanging.getTarget().setHornsPerRow(i);
 				Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 			}, false);
@@ -1375,7 +1425,7 @@ public class MainController implements Initializable {
 	static void setEyeCountListener(int i) {
 		String id = "EYE_COUNT_"+i;
 		if (((EventTarget) document.getElementById(id)) != null) {
-			((EventTarget) document.getElementById(id)).addEventListener("click", e -> {
+			addEventListener(document, id, "click", e -> {
 				BodyChanging.getTarget().setEyePairs(i);
 				Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 			}, false);
@@ -1385,7 +1435,7 @@ public class MainController implements Initializable {
 	static void setTailCountListener(int i) {
 		String id = "TAIL_COUNT_"+i;
 		if (((EventTarget) document.getElementById(id)) != null) {
-			((EventTarget) document.getElementById(id)).addEventListener("click", e -> {
+			addEventListener(document, id, "click", e -> {
 				BodyChanging.getTarget().setTailCount(i, false);
 				Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 			}, false);
@@ -1396,7 +1446,7 @@ public class MainController implements Initializable {
 	static void setTesticleCountListener(int i) {
 		String id = "TESTICLE_COUNT_"+i;
 		if (((EventTarget) document.getElementById(id)) != null) {
-			((EventTarget) document.getElementById(id)).addEventListener("click", e -> {
+			addEventListener(document, id, "click", e -> {
 				BodyChanging.getTarget().setTesticleCount(i);
 				Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 			}, false);
@@ -1405,7 +1455,7 @@ public class MainController implements Initializable {
 	
 	private void manageButtonListeners() {
 		documentButtons = (Document) webEngineButtons.executeScript("document");
-		EventListenerDataMap.put(documentButtons, new ArrayList<>());
+		resetEventListeners(documentButtons);
 		
 		if(((EventTarget) documentButtons.getElementById("mainMenu"))!=null)
 			addEventListener(documentButtons, "mainMenu", "click", menuButtonListener, true);
@@ -1421,7 +1471,7 @@ public class MainController implements Initializable {
 	
 	private void manageAttributeListeners() {
 		documentAttributes = (Document) webEngineAttributes.executeScript("document");
-		EventListenerDataMap.put(documentAttributes, new ArrayList<>());
+		resetEventListeners(documentAttributes);
 		
 		// Map:
 		if (((EventTarget) documentAttributes.getElementById("upButton")) != null) {
@@ -1467,7 +1517,7 @@ public class MainController implements Initializable {
 		
 		id = "TATTOO_SWITCH_LEFT";
 		if (((EventTarget) documentAttributes.getElementById(id)) != null) {
-			((EventTarget) documentAttributes.getElementById(id)).addEventListener("click", e -> {
+			addEventListener(documentAttributes, id, "click", e -> {
 				RenderingEngine.ENGINE.setRenderingTattoosLeft(!RenderingEngine.ENGINE.isRenderingTattoosLeft());
 				this.updateUILeftPanel();
 			}, false);
@@ -1506,7 +1556,7 @@ public class MainController implements Initializable {
 		
 		id = "DATE_DISPLAY_TOGGLE";
 		if (((EventTarget) documentAttributes.getElementById(id)) != null) {
-			((EventTarget) documentAttributes.getElementById(id)).addEventListener("click", e -> {
+			addEventListener(documentAttributes, id, "click", e -> {
 				Main.getProperties().setValue(PropertyValue.calendarDisplay, !Main.getProperties().hasValue(PropertyValue.calendarDisplay));
 				Main.saveProperties();
 				MainController.updateUI();
@@ -1528,7 +1578,7 @@ public class MainController implements Initializable {
 		
 		id = "TWENTY_FOUR_HOUR_TIME_TOGGLE";
 		if (((EventTarget) documentAttributes.getElementById(id)) != null) {
-			((EventTarget) documentAttributes.getElementById(id)).addEventListener("click", e -> {
+			addEventListener(documentAttributes, id, "click", e -> {
 			    overrideAutoLocale();
 				Main.getProperties().setValue(PropertyValue.twentyFourHourTime, !Main.getProperties().hasValue(PropertyValue.twentyFourHourTime));
 				Main.saveProperties();
@@ -1588,7 +1638,7 @@ public class MainController implements Initializable {
 			for (Attribute a : attributes) {
 				if (((EventTarget) documentAttributes.getElementById(idModifier+a.getName())) != null) {
 					if(a == Attribute.EXPERIENCE) {
-						((EventTarget) documentAttributes.getElementById(idModifier+a.getName())).addEventListener("click", e -> {
+						addEventListener(documentAttributes, idModifier+a.getName(), "click", e -> {
 							
 							if(character.isPlayer()) {
 								// block when in character creation
@@ -1626,7 +1676,7 @@ public class MainController implements Initializable {
 			
 			
 			if(((EventTarget) documentAttributes.getElementById(idModifier+"ATTRIBUTES"))!=null){
-				((EventTarget) documentAttributes.getElementById(idModifier+"ATTRIBUTES")).addEventListener("click", e -> {
+				addEventListener(documentAttributes, idModifier+"ATTRIBUTES", "click", e -> {
 					
 					if(character.isPlayer()) {
 						// block when in character creation
@@ -1788,7 +1838,7 @@ public class MainController implements Initializable {
 	}
 
 	private static void setStatusEffectSexTargetChangeListener(Document document, String id, GameCharacter character, SexAreaInterface si) {
-		((EventTarget) document.getElementById(id)).addEventListener("click", e -> {
+		addEventListener(document, id, "click", e -> {
 			GameCharacter target = Sex.getCharactersHavingOngoingActionWith(character, si).isEmpty()
 					?null
 					:Sex.getCharactersHavingOngoingActionWith(character, si).get(0);
@@ -1803,7 +1853,7 @@ public class MainController implements Initializable {
 	
 	private void manageRightListeners() {
 		documentRight = (Document) webEngineRight.executeScript("document");
-		EventListenerDataMap.put(documentRight, new ArrayList<>());
+		resetEventListeners(documentRight);
 
 		Map<InventorySlot, List<AbstractClothing>> concealedSlots = new HashMap<>();
 		
@@ -1851,7 +1901,7 @@ public class MainController implements Initializable {
 		
 		id = "TATTOO_SWITCH_RIGHT";
 		if (((EventTarget) documentRight.getElementById(id)) != null) {
-			((EventTarget) documentRight.getElementById(id)).addEventListener("click", e -> {
+			addEventListener(documentRight, id, "click", e -> {
 				RenderingEngine.ENGINE.setRenderingTattoosRight(!RenderingEngine.ENGINE.isRenderingTattoosRight());
 				updateUIRightPanel();
 			}, false);
@@ -1960,7 +2010,7 @@ public class MainController implements Initializable {
 			for (Attribute a : attributes) {
 				if (((EventTarget) documentRight.getElementById("NPC_"+idModifier+a.getName())) != null) {
 					if(a == Attribute.EXPERIENCE) {
-						((EventTarget) documentRight.getElementById("NPC_"+idModifier+a.getName())).addEventListener("click", e -> {
+						addEventListener(documentRight, "NPC_"+idModifier+a.getName(), "click", e -> {
 							openCharactersPresent(character);
 						}, false);
 					}
@@ -1975,12 +2025,12 @@ public class MainController implements Initializable {
 			// Extra attribute info:
 			if(((EventTarget) documentRight.getElementById("NPC_"+idModifier+"ATTRIBUTES"))!=null){
 				if(!RenderingEngine.ENGINE.isRenderingCharactersRightPanel()) {
-					((EventTarget) documentRight.getElementById("NPC_"+idModifier+"ATTRIBUTES")).addEventListener("click", e -> {
+					addEventListener(documentRight, "NPC_"+idModifier+"ATTRIBUTES", "click", e -> {
 						openCharactersPresent(character);
 					}, false);
 					
 				} else if(Main.game.isInSex()) {
-					((EventTarget) documentRight.getElementById("NPC_"+idModifier+"ATTRIBUTES")).addEventListener("click", e -> {
+					addEventListener(documentRight, "NPC_"+idModifier+"ATTRIBUTES", "click", e -> {
 						Sex.setTargetedPartner(Main.game.getPlayer(), character);
 						Sex.recalculateSexActions();
 						updateUI();
@@ -1988,7 +2038,7 @@ public class MainController implements Initializable {
 					}, false);
 					
 				} else if(Main.game.isInCombat()) {
-					((EventTarget) documentRight.getElementById("NPC_"+idModifier+"ATTRIBUTES")).addEventListener("click", e -> {
+					addEventListener(documentRight, "NPC_"+idModifier+"ATTRIBUTES", "click", e -> {
 						Combat.setTargetedCombatant((NPC) character);
 						updateUI();
 						Main.game.updateResponses();
@@ -2100,16 +2150,45 @@ public class MainController implements Initializable {
 	
 	private boolean useJavascriptToSetContent = true;
 	
-	private void setWebEngineContent(WebEngine engine, String content) {
+	/** The regions which were last written to each of the panels which are set by setRegionedWebEngineContent(). */
+	private Map<WebEngine, WebViewRegions> renderedRegions = new HashMap<>();
+	
+	private static String getEscapedContent(String content) {
 		content=content.replaceAll("[\r\n]", "");
 		content=content.replaceAll("\"", "'");
-		
+		return content;
+	}
+	
+	private void writeWebEngineContent(WebEngine engine, String escapedContent) {
 		engine.executeScript(
 			"document.open('text/html');"
-			+ "document.write(\""+content+"\");"
+			+ "document.write(\""+escapedContent+"\");"
 			+"document.close();");
 	}
 	
+	private void setWebEngineContent(WebEngine engine, String content) {
+		renderedRegions.remove(engine);
+		writeWebEngineContent(engine, getEscapedContent(content));
+	}
+	
+	/**
+	 * If only the contents of the content's WebViewRegions have changed since it was last set, only the regions which have changed are replaced. Otherwise, the whole document is written again, with the document's listeners being unbound first.
+	 */
+	private void setRegionedWebEngineContent(WebEngine engine, Document document, String content) {
+		String escapedContent = getEscapedContent(content);
+		WebViewRegions regions = WebViewRegions.parse(escapedContent);
+		String patchScript = regions.getPatchScript(renderedRegions.get(engine));
+		if(patchScript!=null) {
+			if(!patchScript.isEmpty()) {
+				engine.executeScript(patchScript);
+			}
+		} else {
+			unbindListeners(document);
+			writeWebEngineContent(engine, escapedContent);
+		}
+		renderedRegions.put(engine, regions);
+	}
+	
 	public void setMainContent(String content) {
 		if(useJavascriptToSetContent
 				 // For rendering images from file:
@@ -2134,30 +2213,30 @@ public class MainController implements Initializable {
 	
 	public void setAttributePanelContent(String content) {
 		if(useJavascriptToSetContent) {
-			unbindListeners(documentAttributes);
-			setWebEngineContent(webEngineAttributes, content);
+			setRegionedWebEngineContent(webEngineAttributes, documentAttributes, content);
 			manageAttributeListeners();
 		} else {
+			renderedRegions.remove(webEngineAttributes);
 			webEngineAttributes.loadContent(content);
 		}
 	}
 	
 	public void setRightPanelContent(String content) {
 		if(useJavascriptToSetContent) {
-			unbindListeners(documentRight);
-			setWebEngineContent(webEngineRight, content);
+			setRegionedWebEngineContent(webEngineRight, documentRight, content);
 			manageRightListeners();
 		} else {
+			renderedRegions.remove(webEngineRight);
 			webEngineRight.loadContent(content);
 		}
 	}
 	
 	public void setButtonsContent(String content) {
 		if(useJavascriptToSetContent) {
-			unbindListeners(documentButtons);
-			setWebEngineContent(webEngineButtons, content);
+			setRegionedWebEngineContent(webEngineButtons, documentButtons, content);
 			manageButtonListeners();
 		} else {
+			renderedRegions.remove(webEngineButtons);
 			webEngineButtons.loadContent(content);
 		}
 	}
@@ -2,7 +2,7 @@ package com.lilithsthrone.controller;
 
 import java.io.File;
 import java.time.Month;
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -208,7 +208,7 @@ public class MainControllerInitMethod {
 
 	public static void initMainControllerListeners() {
 		MainController.document = (Document) MainController.webEngine.executeScript("document");
-		MainController.EventListenerDataMap.put(MainController.document, new ArrayList<>());
+		MainController.resetEventListeners(MainController.document);
 		
 		String id = "";
 		
@@ -283,7 +283,7 @@ public class MainControllerInitMethod {
 			
 			id = "ARTWORK_ADD";
 			if (MainController.document.getElementById(id) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					// Create file chooser for .jpg and .png images in the most recently used directory
 					FileChooser chooser = new FileChooser();
 					chooser.setTitle("Add Images");
@@ -317,7 +317,7 @@ public class MainControllerInitMethod {
 
 					id = "ARTWORK_INFO";
 					if (MainController.document.getElementById(id) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							if(!artwork.getArtist().getWebsites().isEmpty()) {
 								Util.openLinkInDefaultBrowser(artwork.getArtist().getWebsites().get(0).getURL());
 							}
@@ -342,7 +342,7 @@ public class MainControllerInitMethod {
 
 					id = "ARTWORK_PREVIOUS";
 					if (MainController.document.getElementById(id) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							if(artwork.getTotalArtworkCount()>1) {
 								artwork.incrementIndex(-1);
 								if (!character.isPlayer()) CharactersPresentDialogue.resetContent(character);
@@ -353,7 +353,7 @@ public class MainControllerInitMethod {
 
 					id = "ARTWORK_NEXT";
 					if (MainController.document.getElementById(id) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							if(artwork.getTotalArtworkCount()>1) {
 								artwork.incrementIndex(1);
 								if (!character.isPlayer()) CharactersPresentDialogue.resetContent(character);
@@ -364,7 +364,7 @@ public class MainControllerInitMethod {
 
 					id = "ARTWORK_ARTIST_PREVIOUS";
 					if (MainController.document.getElementById(id) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							if(character.getArtworkList().size()>1) {
 								character.incrementArtworkIndex(-1);
 								if (!character.isPlayer()) CharactersPresentDialogue.resetContent(character);
@@ -375,7 +375,7 @@ public class MainControllerInitMethod {
 
 					id = "ARTWORK_ARTIST_NEXT";
 					if (MainController.document.getElementById(id) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							if(character.getArtworkList().size()>1) {
 								character.incrementArtworkIndex(1);
 								if (!character.isPlayer()) CharactersPresentDialogue.resetContent(character);
@@ -394,58 +394,65 @@ public class MainControllerInitMethod {
 		if(Main.game.getCurrentDialogueNode().equals(DebugDialogue.SPAWN_MENU) || Main.game.getCurrentDialogueNode().equals(DebugDialogue.ITEM_VIEWER)) {
 			id = "";
 			
+			// Spawn listeners are resolved when an element is first used, rather than every type of clothing, weapon, and item being looked up in the document:
+			Map<String, AbstractClothingType> spawnClothing = new HashMap<>();
 			for(AbstractClothingType clothingType : ClothingType.getAllClothing()) {
-				id = clothingType.getId() + "_SPAWN";
-				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				spawnClothing.put(clothingType.getId() + "_SPAWN", clothingType);
+			}
+			Map<String, AbstractWeaponType> spawnWeapons = new HashMap<>();
+			for(AbstractWeaponType weaponType : WeaponType.getAllWeapons()) {
+				spawnWeapons.put(weaponType.getId() + "_SPAWN", weaponType);
+			}
+			Map<String, AbstractItemType> spawnItems = new HashMap<>();
+			for(AbstractItemType itemType : ItemType.getAllItems()) {
+				spawnItems.put(itemType.getId() + "_SPAWN", itemType);
+			}
+			
+			MainController.addEventListenerResolver(MainController.document, "click", elementId -> {
+				AbstractClothingType clothingType = spawnClothing.get(elementId);
+				if(clothingType!=null) {
+					return e -> {
 						Main.game.getActiveWorld().getCell(Main.game.getPlayer().getLocation()).getInventory().addClothing(AbstractClothingType.generateClothing(clothingType));
 						MainController.updateUIRightPanel();
-					}, false);
-
-					MainController.addEventListener(MainController.document, id, "mousemove", MainController.moveTooltipListener, false);
-					MainController.addEventListener(MainController.document, id, "mouseleave", MainController.hideTooltipListener, false);
-					
-					TooltipInventoryEventListener el = new TooltipInventoryEventListener().setGenericClothing(clothingType, clothingType.getAvailablePrimaryColours().get(0));
-					MainController.addEventListener(MainController.document, id, "mouseenter", el, false);
+					};
 				}
-			}
-			
-			for(AbstractWeaponType weaponType : WeaponType.getAllWeapons()) {
-				id = weaponType.getId() + "_SPAWN";
-				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				AbstractWeaponType weaponType = spawnWeapons.get(elementId);
+				if(weaponType!=null) {
+					return e -> {
 						Main.game.getActiveWorld().getCell(Main.game.getPlayer().getLocation()).getInventory().addWeapon(AbstractWeaponType.generateWeapon(weaponType));
 						MainController.updateUIRightPanel();
-					}, false);
-
-					MainController.addEventListener(MainController.document, id, "mousemove", MainController.moveTooltipListener, false);
-					MainController.addEventListener(MainController.document, id, "mouseleave", MainController.hideTooltipListener, false);
-					
-					TooltipInventoryEventListener el = new TooltipInventoryEventListener().setGenericWeapon(weaponType, weaponType.getAvailableDamageTypes().get(0));
-					MainController.addEventListener(MainController.document, id, "mouseenter", el, false);
+					};
 				}
-			}
-			
-			for(AbstractItemType itemType : ItemType.getAllItems()) {
-				id = itemType.getId() + "_SPAWN";
-				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				AbstractItemType itemType = spawnItems.get(elementId);
+				if(itemType!=null) {
+					return e -> {
 						Main.game.getActiveWorld().getCell(Main.game.getPlayer().getLocation()).getInventory().addItem(AbstractItemType.generateItem(itemType));
 						MainController.updateUIRightPanel();
-					}, false);
-
-					MainController.addEventListener(MainController.document, id, "mousemove", MainController.moveTooltipListener, false);
-					MainController.addEventListener(MainController.document, id, "mouseleave", MainController.hideTooltipListener, false);
-					
-					TooltipInventoryEventListener el = new TooltipInventoryEventListener().setGenericItem(itemType);
-					MainController.addEventListener(MainController.document, id, "mouseenter", el, false);
+					};
 				}
-			}
+				return null;
+			});
+			
+			MainController.addTooltipListenerResolver(MainController.document, elementId -> {
+				AbstractClothingType clothingType = spawnClothing.get(elementId);
+				if(clothingType!=null) {
+					return new TooltipInventoryEventListener().setGenericClothing(clothingType, clothingType.getAvailablePrimaryColours().get(0));
+				}
+				AbstractWeaponType weaponType = spawnWeapons.get(elementId);
+				if(weaponType!=null) {
+					return new TooltipInventoryEventListener().setGenericWeapon(weaponType, weaponType.getAvailableDamageTypes().get(0));
+				}
+				AbstractItemType itemType = spawnItems.get(elementId);
+				if(itemType!=null) {
+					return new TooltipInventoryEventListener().setGenericItem(itemType);
+				}
+				return null;
+			});
 			
 			for(InventorySlot slot : InventorySlot.values()) {
 				id = slot + "_SPAWN_SELECT";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						DebugDialogue.itemTag = null;
 						DebugDialogue.activeSlot = slot;
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -455,7 +462,7 @@ public class MainControllerInitMethod {
 			}
 			id = "ITEM_SPAWN_SELECT";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					DebugDialogue.activeSlot = null;
 					DebugDialogue.itemTag = null;
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -463,7 +470,7 @@ public class MainControllerInitMethod {
 			}
 			id = "BOOK_SPAWN_SELECT";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					DebugDialogue.activeSlot = null;
 					DebugDialogue.itemTag = ItemTag.BOOK;
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -471,7 +478,7 @@ public class MainControllerInitMethod {
 			}
 			id = "ESSENCE_SPAWN_SELECT";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					DebugDialogue.activeSlot = null;
 					DebugDialogue.itemTag = ItemTag.ESSENCE;
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -479,7 +486,7 @@ public class MainControllerInitMethod {
 			}
 			id = "SPELL_SPAWN_SELECT";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					DebugDialogue.activeSlot = null;
 					DebugDialogue.itemTag = ItemTag.SPELL_BOOK;
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -487,7 +494,7 @@ public class MainControllerInitMethod {
 			}
 			id = "HIDDEN_SPAWN_SELECT";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					DebugDialogue.activeSlot = null;
 					DebugDialogue.itemTag = ItemTag.HIDDEN_IN_DEBUG_SPAWNER;
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -506,7 +513,7 @@ public class MainControllerInitMethod {
 					MainController.addEventListener(MainController.document, id, "mouseleave", MainController.hideTooltipListener, false);
 					MainController.addEventListener(MainController.document, id, "mouseenter", new TooltipInformationEventListener().setPerk(history.getAssociatedPerk(), Main.game.getPlayer()), false);
 					
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", event -> {
+					MainController.addEventListener(MainController.document, id, "click", event -> {
 						Main.game.getPlayer().setHistory(history);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
@@ -526,7 +533,7 @@ public class MainControllerInitMethod {
 				for (Entry<AbstractWeapon, Integer> entry : Main.game.getPlayer().getAllWeaponsInInventory().entrySet()) {
 					id = "GIFT_" + entry.getKey().hashCode();
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							Main.game.setContent(new Response("Give Gift", ":3", GiftDialogue.getDialogueToProceedTo()){
 								@Override
 								public void effects() {
@@ -546,7 +553,7 @@ public class MainControllerInitMethod {
 				for (Entry<AbstractItem, Integer> entry : Main.game.getPlayer().getAllItemsInInventory().entrySet()) {
 					id = "GIFT_" + entry.getKey().hashCode();
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							Main.game.setContent(new Response("Give Gift", ":3", GiftDialogue.getDialogueToProceedTo()){
 								@Override
 								public void effects() {
@@ -566,7 +573,7 @@ public class MainControllerInitMethod {
 				for (Entry<AbstractClothing, Integer> entry : Main.game.getPlayer().getAllClothingInInventory().entrySet()) {
 					id = "GIFT_" + entry.getKey().hashCode();
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							Main.game.setContent(new Response("Give Gift", ":3", GiftDialogue.getDialogueToProceedTo()){
 								@Override
 								public void effects() {
@@ -630,7 +637,7 @@ public class MainControllerInitMethod {
 			}
 			id = "PLAYER_MONEY_TRANSFER_SMALL";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					if(Main.game.getPlayer().getMoney()>0 && InventoryDialogue.getNPCInventoryInteraction()==InventoryInteraction.FULL_MANAGEMENT) {
 						if(InventoryDialogue.getInventoryNPC()==null) {
 							Main.game.getPlayerCell().getInventory().incrementMoney((int) Math.max(1, Main.game.getPlayer().getMoney()*0.01f));
@@ -649,7 +656,7 @@ public class MainControllerInitMethod {
 			}
 			id = "PLAYER_MONEY_TRANSFER_AVERAGE";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					if(Main.game.getPlayer().getMoney()>0 && InventoryDialogue.getNPCInventoryInteraction()==InventoryInteraction.FULL_MANAGEMENT) {
 						if(InventoryDialogue.getInventoryNPC()==null) {
 							Main.game.getPlayerCell().getInventory().incrementMoney((int) Math.max(1, Main.game.getPlayer().getMoney()*0.1f));
@@ -668,7 +675,7 @@ public class MainControllerInitMethod {
 			}
 			id = "PLAYER_MONEY_TRANSFER_BIG";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					if(Main.game.getPlayer().getMoney()>0 && InventoryDialogue.getNPCInventoryInteraction()==InventoryInteraction.FULL_MANAGEMENT) {
 						if(InventoryDialogue.getInventoryNPC()==null) {
 							Main.game.getPlayerCell().getInventory().incrementMoney((int) Math.max(1, Main.game.getPlayer().getMoney()));
@@ -726,7 +733,7 @@ public class MainControllerInitMethod {
 				}
 				id = idModifier+"MONEY_TRANSFER_SMALL";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						if(InventoryDialogue.getInventoryNPC().getMoney()>0 && InventoryDialogue.getNPCInventoryInteraction()==InventoryInteraction.FULL_MANAGEMENT) {
 							Main.game.getPlayer().incrementMoney((int) Math.max(1, InventoryDialogue.getInventoryNPC().getMoney()*0.01f));
 							InventoryDialogue.getInventoryNPC().incrementMoney((int) -Math.max(1, InventoryDialogue.getInventoryNPC().getMoney()*0.01f));
@@ -741,7 +748,7 @@ public class MainControllerInitMethod {
 				}
 				id = idModifier+"MONEY_TRANSFER_AVERAGE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						if(InventoryDialogue.getInventoryNPC().getMoney()>0 && InventoryDialogue.getNPCInventoryInteraction()==InventoryInteraction.FULL_MANAGEMENT) {
 							Main.game.getPlayer().incrementMoney((int) Math.max(1, InventoryDialogue.getInventoryNPC().getMoney()*0.1f));
 							InventoryDialogue.getInventoryNPC().incrementMoney((int) -Math.max(1, InventoryDialogue.getInventoryNPC().getMoney()*0.1f));
@@ -756,7 +763,7 @@ public class MainControllerInitMethod {
 				}
 				id = idModifier+"MONEY_TRANSFER_BIG";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						if(InventoryDialogue.getInventoryNPC().getMoney()>0 && InventoryDialogue.getNPCInventoryInteraction()==InventoryInteraction.FULL_MANAGEMENT) {
 							Main.game.getPlayer().incrementMoney((int) Math.max(1, InventoryDialogue.getInventoryNPC().getMoney()));
 							InventoryDialogue.getInventoryNPC().incrementMoney((int) -Math.max(1, InventoryDialogue.getInventoryNPC().getMoney()));
@@ -812,7 +819,7 @@ public class MainControllerInitMethod {
 				}
 				id = "FLOOR_MONEY_TRANSFER_SMALL";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						if(Main.game.getPlayerCell().getInventory().getMoney()>0 && InventoryDialogue.getNPCInventoryInteraction()==InventoryInteraction.FULL_MANAGEMENT) {
 							Main.game.getPlayer().incrementMoney((int) Math.max(1, Main.game.getPlayerCell().getInventory().getMoney()*0.01f));
 							Main.game.getPlayerCell().getInventory().incrementMoney((int) -Math.max(1, Main.game.getPlayerCell().getInventory().getMoney()*0.01f));
@@ -827,7 +834,7 @@ public class MainControllerInitMethod {
 				}
 				id = "FLOOR_MONEY_TRANSFER_AVERAGE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						if(Main.game.getPlayerCell().getInventory().getMoney()>0 && InventoryDialogue.getNPCInventoryInteraction()==InventoryInteraction.FULL_MANAGEMENT) {
 							Main.game.getPlayer().incrementMoney((int) Math.max(1, Main.game.getPlayerCell().getInventory().getMoney()*0.1f));
 							Main.game.getPlayerCell().getInventory().incrementMoney((int) -Math.max(1, Main.game.getPlayerCell().getInventory().getMoney()*0.1f));
@@ -842,7 +849,7 @@ public class MainControllerInitMethod {
 				}
 				id = "FLOOR_MONEY_TRANSFER_BIG";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						if(Main.game.getPlayerCell().getInventory().getMoney()>0 && InventoryDialogue.getNPCInventoryInteraction()==InventoryInteraction.FULL_MANAGEMENT) {
 							Main.game.getPlayer().incrementMoney((int) Math.max(1, Main.game.getPlayerCell().getInventory().getMoney()));
 							Main.game.getPlayerCell().getInventory().incrementMoney((int) -Math.max(1, Main.game.getPlayerCell().getInventory().getMoney()));
@@ -864,11 +871,11 @@ public class MainControllerInitMethod {
 					for (int i = Main.game.getPlayer().getBuybackStack().size() - 1; i >= 0; i--) {
 						if (((EventTarget) MainController.document.getElementById("WEAPON_" + i)) != null) {
 							InventorySelectedItemEventListener el = new InventorySelectedItemEventListener().setWeaponInventory((AbstractWeapon) Main.game.getPlayer().getBuybackStack().get(i).getAbstractItemSold(), InventoryDialogue.getInventoryNPC(), i);
-							((EventTarget) MainController.document.getElementById("WEAPON_" + i)).addEventListener("click",el, false);
+							MainController.addEventListener(MainController.document, "WEAPON_" + i, "click",el, false);
 							MainController.addEventListener(MainController.document, "WEAPON_" + i, "mousemove", MainController.moveTooltipListener, false);
 							MainController.addEventListener(MainController.document, "WEAPON_" + i, "mouseleave", MainController.hideTooltipListener, false);
 							TooltipInventoryEventListener el2 = new TooltipInventoryEventListener().setWeapon((AbstractWeapon) Main.game.getPlayer().getBuybackStack().get(i).getAbstractItemSold(), InventoryDialogue.getInventoryNPC(), false);
-							((EventTarget) MainController.document.getElementById("WEAPON_" + i)).addEventListener("mouseenter",el2, false);
+							MainController.addEventListener(MainController.document, "WEAPON_" + i, "mouseenter",el2, false);
 						}
 						
 						if (((EventTarget) MainController.document.getElementById("CLOTHING_" + i)) != null) {
@@ -1032,7 +1039,7 @@ public class MainControllerInitMethod {
 				// Ingredient icon:
 				if (((EventTarget) MainController.document.getElementById("INGREDIENT_ENCHANTING")) != null) {
 
-					((EventTarget) MainController.document.getElementById("INGREDIENT_ENCHANTING")).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, "INGREDIENT_ENCHANTING", "click", e -> {
 						Main.game.setResponseTab(1);
 						if(EnchantmentDialogue.getIngredient() instanceof AbstractItem) {
 							Main.game.setContent(new Response("Back", "Stop enchanting.", InventoryDialogue.ITEM_INVENTORY){
@@ -1093,7 +1100,7 @@ public class MainControllerInitMethod {
 				// Output icon:
 				if (((EventTarget) MainController.document.getElementById("OUTPUT_ENCHANTING")) != null) {
 
-					((EventTarget) MainController.document.getElementById("OUTPUT_ENCHANTING")).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, "OUTPUT_ENCHANTING", "click", e -> {
 						if(EnchantmentDialogue.getEffects().isEmpty()) {
 
 						} else if(EnchantmentDialogue.canAffordCost(EnchantmentDialogue.getIngredient(), EnchantmentDialogue.getEffects())) {
@@ -1128,7 +1135,7 @@ public class MainControllerInitMethod {
 				id = "ENCHANT_ADD_BUTTON";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
 
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						if(EnchantmentDialogue.getIngredient().getEnchantmentEffect().getEffectsDescription(
 								EnchantmentDialogue.getPrimaryMod(), EnchantmentDialogue.getSecondaryMod(), EnchantmentDialogue.getPotency(), EnchantmentDialogue.getLimit(), Main.game.getPlayer(), Main.game.getPlayer())==null) {
 
@@ -1197,7 +1204,7 @@ public class MainControllerInitMethod {
 				for(Cell c : OccupantManagementDialogue.getImportantCells()) {
 					id = c.getId();
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()){
 								@Override
 								public void effects() {
@@ -1227,7 +1234,7 @@ public class MainControllerInitMethod {
 					
 					id = c.getId()+"_PRESENT";
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()){
 								@Override
 								public void effects() {
@@ -1274,7 +1281,7 @@ public class MainControllerInitMethod {
 					
 					id = placeUpgrade+"_BUY";
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							Main.game.setContent(
 									new Response("",
 											"",
@@ -1308,7 +1315,7 @@ public class MainControllerInitMethod {
 					
 					id = placeUpgrade+"_SELL";
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()){
 								@Override
 								public void effects() {
@@ -1340,7 +1347,7 @@ public class MainControllerInitMethod {
 
 				id = "rename_room_button";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 
 						boolean unsuitableName = false;
 						if(Main.mainController.getWebEngine().executeScript("document.getElementById('nameInput')")!=null) {
@@ -1384,7 +1391,7 @@ public class MainControllerInitMethod {
 					id ="SLAVE_DAY_"+i;
 					int iMustBeFinalOrEffectivelyFinal = i;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							OccupantManagementDialogue.setDayNumber(Main.game.getDayNumber()-iMustBeFinalOrEffectivelyFinal);
 							Main.game.setContent(new Response("Rename", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -1395,7 +1402,7 @@ public class MainControllerInitMethod {
 			if(Main.game.getDialogueFlags().getManagementCompanion()!=null) {
 				id = Main.game.getDialogueFlags().getManagementCompanion().getId()+"_RENAME";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 	
 						boolean unsuitableName = false;
 					 	if(Main.mainController.getWebEngine().executeScript("document.getElementById('slaveNameInput')")!=null) {
@@ -1428,7 +1435,7 @@ public class MainControllerInitMethod {
 
 				id = Main.game.getDialogueFlags().getManagementCompanion().getId()+"_RENAME_SURNAME";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 	
 						boolean unsuitableName = false;
 					 	if(Main.mainController.getWebEngine().executeScript("document.getElementById('slaveSurnameInput')")!=null) {
@@ -1461,7 +1468,7 @@ public class MainControllerInitMethod {
 				
 				id = Main.game.getDialogueFlags().getManagementCompanion().getId()+"_CALLS_PLAYER";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 	
 						boolean unsuitableName = false;
 					 	if(Main.mainController.getWebEngine().executeScript("document.getElementById('slaveToPlayerNameInput')")!=null) {
@@ -1488,7 +1495,7 @@ public class MainControllerInitMethod {
 				
 				id = "GLOBAL_CALLS_PLAYER";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 
 						boolean unsuitableName = false;
 					 	if(Main.mainController.getWebEngine().executeScript("document.getElementById('slaveToPlayerNameInput')")!=null) {
@@ -1526,7 +1533,7 @@ public class MainControllerInitMethod {
 				for(SlaveJobHours preset : SlaveJobHours.values()) {
 					id = preset+"_TIME";
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							if(preset==SlaveJobHours.NONE) {
 								for(int hour = 0; hour<24; hour++) {
 									SlaveJob job = Main.game.getDialogueFlags().getSlaveryManagerJobSelected();
@@ -1578,7 +1585,7 @@ public class MainControllerInitMethod {
 					
 					id = job+"_ASSIGN";
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							Main.game.getDialogueFlags().setSlaveryManagerJobSelected(job);
 							Main.game.setContent(new Response("", "", CompanionManagement.getSlaveryManagementSlaveJobsDialogue(Main.game.getDialogueFlags().getManagementCompanion())));
 						}, false);
@@ -1595,7 +1602,7 @@ public class MainControllerInitMethod {
 					for(SlaveJobSetting setting : job.getMutualSettings()) {
 						id = job.toString()+setting.toString()+"_ADD";
 						if (((EventTarget) MainController.document.getElementById(id)) != null) {
-							((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+							MainController.addEventListener(MainController.document, id, "click", e -> {
 								Main.game.getDialogueFlags().getManagementCompanion().addSlaveJobSettings(job, setting);
 								Main.game.setContent(new Response("", "", CompanionManagement.getSlaveryManagementSlaveJobsDialogue(Main.game.getDialogueFlags().getManagementCompanion())));
 							}, false);
@@ -1611,7 +1618,7 @@ public class MainControllerInitMethod {
 						
 						id = job.toString()+setting.toString()+"_REMOVE";
 						if (((EventTarget) MainController.document.getElementById(id)) != null) {
-							((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+							MainController.addEventListener(MainController.document, id, "click", e -> {
 								Main.game.getDialogueFlags().getManagementCompanion().removeSlaveJobSettings(job, setting);
 								Main.game.setContent(new Response("", "", CompanionManagement.getSlaveryManagementSlaveJobsDialogue(Main.game.getDialogueFlags().getManagementCompanion())));
 							}, false);
@@ -1631,7 +1638,7 @@ public class MainControllerInitMethod {
 						for(SlaveJobSetting setting : entry.getValue()) {
 							id = setting+"_TOGGLE_ADD";
 							if (((EventTarget) MainController.document.getElementById(id)) != null) {
-								((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+								MainController.addEventListener(MainController.document, id, "click", e -> {
 									for(SlaveJobSetting settingRem : entry.getValue()) {
 										Main.game.getDialogueFlags().getManagementCompanion().removeSlaveJobSettings(job, settingRem);
 									}
@@ -1667,7 +1674,7 @@ public class MainControllerInitMethod {
 					for(SlavePermissionSetting setting : permission.getSettings()) {
 						id = setting+"_ADD";
 						if (((EventTarget) MainController.document.getElementById(id)) != null) {
-							((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+							MainController.addEventListener(MainController.document, id, "click", e -> {
 								Main.game.getDialogueFlags().getManagementCompanion().addSlavePermissionSetting(permission, setting);
 								Main.game.setContent(new Response("", "", CompanionManagement.getSlaveryManagementSlavePermissionsDialogue(Main.game.getDialogueFlags().getManagementCompanion())));
 							}, false);
@@ -1686,7 +1693,7 @@ public class MainControllerInitMethod {
 						
 						id = setting+"_REMOVE";
 						if (((EventTarget) MainController.document.getElementById(id)) != null) {
-							((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+							MainController.addEventListener(MainController.document, id, "click", e -> {
 								Main.game.getDialogueFlags().getManagementCompanion().removeSlavePermissionSetting(permission, setting);
 								Main.game.setContent(new Response("", "", CompanionManagement.getSlaveryManagementSlavePermissionsDialogue(Main.game.getDialogueFlags().getManagementCompanion())));
 							}, false);
@@ -1729,7 +1736,7 @@ public class MainControllerInitMethod {
 					}
 					
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							Main.game.setContent(new Response("", "", CompanionManagement.getSlaveryManagementInspectSlaveDialogue(slave)) {
 								@Override
 								public void effects() {
@@ -1748,7 +1755,7 @@ public class MainControllerInitMethod {
 					
 					id = slaveId+"_JOB";
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							Main.game.setContent(new Response("", "", CompanionManagement.getSlaveryManagementSlaveJobsDialogue(slave)) {
 								@Override
 								public void effects() {
@@ -1767,7 +1774,7 @@ public class MainControllerInitMethod {
 					
 					id = slaveId+"_PERMISSIONS";
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							Main.game.setContent(new Response("", "", CompanionManagement.getSlaveryManagementSlavePermissionsDialogue(slave)) {
 								@Override
 								public void effects() {
@@ -1786,7 +1793,7 @@ public class MainControllerInitMethod {
 					
 					id = slaveId+"_INVENTORY";
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							CompanionManagement.initManagement(Main.game.getCurrentDialogueNode(), CompanionManagement.getDefaultResponseTab(), slave);
 //							Main.game.getDialogueFlags().setManagementCompanion(slave);
 							Main.mainController.openInventory(slave, InventoryInteraction.FULL_MANAGEMENT);
@@ -1801,7 +1808,7 @@ public class MainControllerInitMethod {
 					
 					id = slaveId+"_TRANSFER";
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()) {
 								@Override
 								public void effects() {
@@ -1830,7 +1837,7 @@ public class MainControllerInitMethod {
 					
 					id = slaveId+"_SELL";
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()) {
 								@Override
 								public void effects() {
@@ -1863,7 +1870,7 @@ public class MainControllerInitMethod {
 					
 					id = slaveId+"_COSMETICS";
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							Main.game.setContent(new Response("", "", CompanionManagement.SLAVE_MANAGEMENT_COSMETICS_HAIR) {
 								@Override
 								public void effects() {
@@ -1905,7 +1912,7 @@ public class MainControllerInitMethod {
 					
 					if(occupant!=null) { // It shouldn't equal null...
 						if (((EventTarget) MainController.document.getElementById(id)) != null) {
-							((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+							MainController.addEventListener(MainController.document, id, "click", e -> {
 								Main.game.setContent(new Response("", "", CompanionManagement.getSlaveryManagementInspectSlaveDialogue(occupant)) {
 									@Override
 									public void effects() {
@@ -1942,7 +1949,7 @@ public class MainControllerInitMethod {
 						
 						id = occupantId+"_INVENTORY";
 						if (((EventTarget) MainController.document.getElementById(id)) != null) {
-							((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+							MainController.addEventListener(MainController.document, id, "click", e -> {
 								Main.game.getDialogueFlags().setManagementCompanion(occupant);
 								Main.mainController.openInventory(occupant, InventoryInteraction.FULL_MANAGEMENT);
 							}, false);
@@ -1956,7 +1963,7 @@ public class MainControllerInitMethod {
 						
 						id = occupantId+"_TRANSFER";
 						if (((EventTarget) MainController.document.getElementById(id)) != null) {
-							((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+							MainController.addEventListener(MainController.document, id, "click", e -> {
 								Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()) {
 									@Override
 									public void effects() {
@@ -1985,7 +1992,7 @@ public class MainControllerInitMethod {
 						
 						id = occupantId+"_COSMETICS";
 						if (((EventTarget) MainController.document.getElementById(id)) != null) {
-							((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+							MainController.addEventListener(MainController.document, id, "click", e -> {
 								Main.game.setContent(new Response("", "", CompanionManagement.SLAVE_MANAGEMENT_COSMETICS_HAIR) {
 									@Override
 									public void effects() {
@@ -2026,7 +2033,7 @@ public class MainControllerInitMethod {
 						}
 						
 						if (((EventTarget) MainController.document.getElementById(id)) != null) {
-							((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+							MainController.addEventListener(MainController.document, id, "click", e -> {
 								Main.game.setContent(new Response("", "", CompanionManagement.getSlaveryManagementInspectSlaveDialogue(slave)) {
 									@Override
 									public void effects() {
@@ -2086,7 +2093,7 @@ public class MainControllerInitMethod {
 						
 						id = slaveId+"_BUY";
 						if (((EventTarget) MainController.document.getElementById(id)) != null) {
-							((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+							MainController.addEventListener(MainController.document, id, "click", e -> {
 								Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()) {
 									@Override
 									public void effects() {
@@ -2135,7 +2142,7 @@ public class MainControllerInitMethod {
 			if(Main.game.getActiveNPC()!=null) {
 				id = Main.game.getActiveNPC().getId()+"_PET_NAME";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 	
 						boolean unsuitableName = false;
 					 	if(Main.mainController.getWebEngine().executeScript("document.getElementById('offspringPetNameInput')")!=null) {
@@ -2173,7 +2180,7 @@ public class MainControllerInitMethod {
 					for(Month month : Month.values()) {
 						id = "STARTING_MONTH_"+month;
 						if (((EventTarget) MainController.document.getElementById(id)) != null) {
-							((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+							MainController.addEventListener(MainController.document, id, "click", e -> {
 								Main.game.setStartingDateMonth(month);
 								int age = Math.max(18, Main.game.getPlayer().getAgeValue());
 								CharacterModificationUtils.performPlayerAgeCheck(age);
@@ -2185,7 +2192,7 @@ public class MainControllerInitMethod {
 					// Birth day:
 					id = "BIRTH_DAY_INCREASE";
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							int age = Main.game.getPlayer().getAgeValue();
 							Main.game.getPlayer().setBirthday(Main.game.getPlayer().getBirthday().plusDays(1));
 							CharacterModificationUtils.performPlayerAgeCheck(age);
@@ -2194,7 +2201,7 @@ public class MainControllerInitMethod {
 					}
 					id = "BIRTH_DAY_INCREASE_LARGE";
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							int age = Main.game.getPlayer().getAgeValue();
 							Main.game.getPlayer().setBirthday(Main.game.getPlayer().getBirthday().plusDays(5));
 							CharacterModificationUtils.performPlayerAgeCheck(age);
@@ -2203,7 +2210,7 @@ public class MainControllerInitMethod {
 					}
 					id = "BIRTH_DAY_DECREASE";
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							int age = Main.game.getPlayer().getAgeValue();
 							Main.game.getPlayer().setBirthday(Main.game.getPlayer().getBirthday().minusDays(1));
 							CharacterModificationUtils.performPlayerAgeCheck(age);
@@ -2212,7 +2219,7 @@ public class MainControllerInitMethod {
 					}
 					id = "BIRTH_DAY_DECREASE_LARGE";
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							int age = Main.game.getPlayer().getAgeValue();
 							Main.game.getPlayer().setBirthday(Main.game.getPlayer().getBirthday().minusDays(5));
 							CharacterModificationUtils.performPlayerAgeCheck(age);
@@ -2223,7 +2230,7 @@ public class MainControllerInitMethod {
 					// Birth month:
 					id = "BIRTH_MONTH_INCREASE";
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							int age = Main.game.getPlayer().getAgeValue();
 							Main.game.getPlayer().setBirthday(Main.game.getPlayer().getBirthday().plusMonths(1));
 							CharacterModificationUtils.performPlayerAgeCheck(age);
@@ -2232,7 +2239,7 @@ public class MainControllerInitMethod {
 					}
 					id = "BIRTH_MONTH_INCREASE_LARGE";
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							int age = Main.game.getPlayer().getAgeValue();
 							Main.game.getPlayer().setBirthday(Main.game.getPlayer().getBirthday().plusMonths(5));
 							CharacterModificationUtils.performPlayerAgeCheck(age);
@@ -2241,7 +2248,7 @@ public class MainControllerInitMethod {
 					}
 					id = "BIRTH_MONTH_DECREASE";
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							int age = Main.game.getPlayer().getAgeValue();
 							Main.game.getPlayer().setBirthday(Main.game.getPlayer().getBirthday().minusMonths(1));
 							CharacterModificationUtils.performPlayerAgeCheck(age);
@@ -2250,7 +2257,7 @@ public class MainControllerInitMethod {
 					}
 					id = "BIRTH_MONTH_DECREASE_LARGE";
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							int age = Main.game.getPlayer().getAgeValue();
 							Main.game.getPlayer().setBirthday(Main.game.getPlayer().getBirthday().minusMonths(5));
 							CharacterModificationUtils.performPlayerAgeCheck(age);
@@ -2261,28 +2268,28 @@ public class MainControllerInitMethod {
 					// Age:
 					id = "AGE_INCREASE";
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							Main.game.getPlayer().setBirthday(Main.game.getPlayer().getBirthday().minusYears(1));
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
 					}
 					id = "AGE_INCREASE_LARGE";
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							Main.game.getPlayer().setBirthday(Main.game.getPlayer().getBirthday().minusYears(5));
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
 					}
 					id = "AGE_DECREASE";
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							Main.game.getPlayer().setBirthday(Main.game.getPlayer().getBirthday().plusYears(1));
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
 					}
 					id = "AGE_DECREASE_LARGE";
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							Main.game.getPlayer().setBirthday(Main.game.getPlayer().getBirthday().plusYears(5));
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2298,7 +2305,7 @@ public class MainControllerInitMethod {
 					
 					id = "HANDJOBS_GIVEN_"+i;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							CharacterModificationUtils.setSexExperience(new SexType(SexParticipantType.NORMAL, SexAreaPenetration.FINGER, SexAreaOrifice.URETHRA_PENIS), i);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2306,7 +2313,7 @@ public class MainControllerInitMethod {
 					
 					id = "FINGERINGS_GIVEN_"+i;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							CharacterModificationUtils.setSexExperience(new SexType(SexParticipantType.NORMAL, SexAreaPenetration.FINGER, SexAreaOrifice.VAGINA), i);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2314,7 +2321,7 @@ public class MainControllerInitMethod {
 					
 					id = "BLOWJOBS_GIVEN_"+i;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							CharacterModificationUtils.setSexExperience(new SexType(SexParticipantType.NORMAL, SexAreaOrifice.MOUTH, SexAreaPenetration.PENIS), i);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2322,7 +2329,7 @@ public class MainControllerInitMethod {
 					
 					id = "CUNNILINGUS_GIVEN_"+i;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							CharacterModificationUtils.setSexExperience(new SexType(SexParticipantType.NORMAL, SexAreaPenetration.TONGUE, SexAreaOrifice.VAGINA), i);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2330,7 +2337,7 @@ public class MainControllerInitMethod {
 					
 					id = "VAGINAL_GIVEN_"+i;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							CharacterModificationUtils.setSexExperience(new SexType(SexParticipantType.NORMAL, SexAreaPenetration.PENIS, SexAreaOrifice.VAGINA), i);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2338,7 +2345,7 @@ public class MainControllerInitMethod {
 					
 					id = "ANAL_GIVEN_"+i;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							CharacterModificationUtils.setSexExperience(new SexType(SexParticipantType.NORMAL, SexAreaPenetration.PENIS, SexAreaOrifice.ANUS), i);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2348,7 +2355,7 @@ public class MainControllerInitMethod {
 
 					id = "HANDJOBS_TAKEN_"+i;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							CharacterModificationUtils.setSexExperience(new SexType(SexParticipantType.NORMAL, SexAreaOrifice.URETHRA_PENIS, SexAreaPenetration.FINGER), i);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2356,7 +2363,7 @@ public class MainControllerInitMethod {
 					
 					id = "FINGERINGS_TAKEN_"+i;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							CharacterModificationUtils.setSexExperience(new SexType(SexParticipantType.NORMAL, SexAreaOrifice.VAGINA, SexAreaPenetration.FINGER), i);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2364,7 +2371,7 @@ public class MainControllerInitMethod {
 					
 					id = "BLOWJOBS_TAKEN_"+i;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							CharacterModificationUtils.setSexExperience(new SexType(SexParticipantType.NORMAL, SexAreaPenetration.PENIS, SexAreaOrifice.MOUTH), i);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2372,7 +2379,7 @@ public class MainControllerInitMethod {
 					
 					id = "CUNNILINGUS_TAKEN_"+i;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							CharacterModificationUtils.setSexExperience(new SexType(SexParticipantType.NORMAL, SexAreaOrifice.VAGINA, SexAreaPenetration.TONGUE), i);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2380,7 +2387,7 @@ public class MainControllerInitMethod {
 					
 					id = "VAGINAL_TAKEN_"+i;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							CharacterModificationUtils.setSexExperience(new SexType(SexParticipantType.NORMAL, SexAreaOrifice.VAGINA, SexAreaPenetration.PENIS), i);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2388,7 +2395,7 @@ public class MainControllerInitMethod {
 					
 					id = "ANAL_TAKEN_"+i;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							CharacterModificationUtils.setSexExperience(new SexType(SexParticipantType.NORMAL, SexAreaOrifice.ANUS, SexAreaPenetration.PENIS), i);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2419,7 +2426,7 @@ public class MainControllerInitMethod {
 				// Gender:
 				id = "CHOOSE_GENDER_MALE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						CharacterCreation.setGenderMale();
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
@@ -2427,7 +2434,7 @@ public class MainControllerInitMethod {
 
 				id = "CHOOSE_GENDER_FEMALE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						CharacterCreation.setGenderFemale();
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
@@ -2436,7 +2443,7 @@ public class MainControllerInitMethod {
 				// Femininity
 				id = "CHOOSE_FEM_MASCULINE_STRONG";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().setFemininity(Femininity.MASCULINE_STRONG.getMedianFemininity());
 						if(!Main.game.isInNewWorld()) {
 							CharacterCreation.getDressed();
@@ -2446,7 +2453,7 @@ public class MainControllerInitMethod {
 				}
 				id = "CHOOSE_FEM_MASCULINE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().setFemininity(Femininity.MASCULINE.getMedianFemininity());
 						if(!Main.game.isInNewWorld()) {
 							CharacterCreation.getDressed();
@@ -2456,7 +2463,7 @@ public class MainControllerInitMethod {
 				}
 				id = "CHOOSE_FEM_ANDROGYNOUS";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().setFemininity(Femininity.ANDROGYNOUS.getMedianFemininity());
 						if(!Main.game.isInNewWorld()) {
 							CharacterCreation.getDressed();
@@ -2466,7 +2473,7 @@ public class MainControllerInitMethod {
 				}
 				id = "CHOOSE_FEM_FEMININE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().setFemininity(Femininity.FEMININE.getMedianFemininity());
 						if(!Main.game.isInNewWorld()) {
 							CharacterCreation.getDressed();
@@ -2476,7 +2483,7 @@ public class MainControllerInitMethod {
 				}
 				id = "CHOOSE_FEM_FEMININE_STRONG";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().setFemininity(Femininity.FEMININE_STRONG.getMedianFemininity());
 						if(!Main.game.isInNewWorld()) {
 							CharacterCreation.getDressed();
@@ -2491,28 +2498,28 @@ public class MainControllerInitMethod {
 				
 				id = "FEMININITY_INCREASE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementFemininity(1);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "FEMININITY_INCREASE_LARGE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementFemininity(5);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "FEMININITY_DECREASE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementFemininity(-1);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "FEMININITY_DECREASE_LARGE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementFemininity(-5);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
@@ -2522,7 +2529,7 @@ public class MainControllerInitMethod {
 				for(PersonalityTrait trait : PersonalityTrait.values()) {
 					id = "PERSONALITY_TRAIT_"+trait;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							if(!BodyChanging.getTarget().hasPersonalityTrait(trait)) {
 								BodyChanging.getTarget().addPersonalityTrait(trait);
 							} else {
@@ -2543,7 +2550,7 @@ public class MainControllerInitMethod {
 				for(SexualOrientation orientation : SexualOrientation.values()) {
 					id = "SEXUAL_ORIENTATION_"+orientation;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setSexualOrientation(orientation);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2554,28 +2561,28 @@ public class MainControllerInitMethod {
 				// Age:
 				id = "AGE_APPEARANCE_INCREASE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().setAgeAppearanceDifferenceToAppearAsAge(Math.max(18, Math.min(BodyChanging.getTarget().getAppearsAsAgeValue()+1, BodyChanging.getTarget().getAgeValue()+10)));
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "AGE_APPEARANCE_INCREASE_LARGE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().setAgeAppearanceDifferenceToAppearAsAge(Math.max(18, Math.min(BodyChanging.getTarget().getAppearsAsAgeValue()+5, BodyChanging.getTarget().getAgeValue()+10)));
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "AGE_APPEARANCE_DECREASE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().setAgeAppearanceDifferenceToAppearAsAge(Math.max(18, Math.min(BodyChanging.getTarget().getAppearsAsAgeValue()-1, BodyChanging.getTarget().getAgeValue()+10)));
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "AGE_APPEARANCE_DECREASE_LARGE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().setAgeAppearanceDifferenceToAppearAsAge(Math.max(18, Math.min(BodyChanging.getTarget().getAppearsAsAgeValue()-5, BodyChanging.getTarget().getAgeValue()+10)));
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
@@ -2585,28 +2592,28 @@ public class MainControllerInitMethod {
 				// Height:
 				id = "HEIGHT_INCREASE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementHeight(1, BodyChanging.isDebugMenu());
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "HEIGHT_INCREASE_LARGE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementHeight(5, BodyChanging.isDebugMenu());
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "HEIGHT_DECREASE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementHeight(-1, BodyChanging.isDebugMenu());
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "HEIGHT_DECREASE_LARGE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementHeight(-5, BodyChanging.isDebugMenu());
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
@@ -2616,7 +2623,7 @@ public class MainControllerInitMethod {
 				for(BodySize bs : BodySize.values()) {
 					id = "BODY_SIZE_"+bs;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setBodySize(bs.getMedianValue());
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2627,7 +2634,7 @@ public class MainControllerInitMethod {
 				for(Muscle muscle : Muscle.values()) {
 					id = "MUSCLE_"+muscle;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setMuscle(muscle.getMedianValue());
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2640,7 +2647,7 @@ public class MainControllerInitMethod {
 				for(LipSize ls : LipSize.values()) {
 					id = "LIP_SIZE_"+ls;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setLipSize(ls.getValue());
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2651,14 +2658,14 @@ public class MainControllerInitMethod {
 				// Lip puffiness:
 				id = "LIP_PUFFY_ON";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().addFaceOrificeModifier(OrificeModifier.PUFFY);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "LIP_PUFFY_OFF";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().removeFaceOrificeModifier(OrificeModifier.PUFFY);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
@@ -2667,7 +2674,7 @@ public class MainControllerInitMethod {
 				for(HornLength hornLength : HornLength.values()) {
 					id = "CHANGE_HORN_LENGTH_"+hornLength;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setHornLength(hornLength.getMedianValue());
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2677,7 +2684,7 @@ public class MainControllerInitMethod {
 				for(TongueLength tongueLength : TongueLength.values()) {
 					id = "CHANGE_TONGUE_LENGTH_"+tongueLength;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setTongueLength(tongueLength.getMedianValue());
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2687,7 +2694,7 @@ public class MainControllerInitMethod {
 				for(WingSize wingSize : WingSize.values()) {
 					id = "CHANGE_WING_SIZE_"+wingSize;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setWingSize(wingSize.getValue());
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2698,7 +2705,7 @@ public class MainControllerInitMethod {
 				for(CupSize cs : CupSize.values()) {
 					id = "BREAST_SIZE_"+cs;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setBreastSize(cs.getMeasurement());
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2709,7 +2716,7 @@ public class MainControllerInitMethod {
 				for(BreastShape bs : BreastShape.values()) {
 					id = "BREAST_SHAPE_"+bs;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setBreastShape(bs);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2720,7 +2727,7 @@ public class MainControllerInitMethod {
 				for(BreastShape bs : BreastShape.values()) {
 					id = "CROTCH_BOOB_SHAPE_"+bs;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setBreastCrotchShape(bs);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2731,7 +2738,7 @@ public class MainControllerInitMethod {
 				for(NippleShape ns : NippleShape.values()) {
 					id = "NIPPLE_SHAPE_"+ns;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setNippleShape(ns);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2742,7 +2749,7 @@ public class MainControllerInitMethod {
 				for(NippleShape ns : NippleShape.values()) {
 					id = "NIPPLE_CROTCH_SHAPE_"+ns;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setNippleCrotchShape(ns);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2754,14 +2761,14 @@ public class MainControllerInitMethod {
 				for(NippleSize ns : NippleSize.values()) {
 					id = "NIPPLE_SIZE_"+ns;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setNippleSize(ns.getValue());
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
 					}
 					id = "NIPPLE_CROTCH_SIZE_"+ns;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setNippleCrotchSize(ns.getValue());
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2772,14 +2779,14 @@ public class MainControllerInitMethod {
 				for(AreolaeSize as : AreolaeSize.values()) {
 					id = "AREOLAE_SIZE_"+as;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setAreolaeSize(as.getValue());
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
 					}
 					id = "AREOLAE_CROTCH_SIZE_"+as;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setAreolaeCrotchSize(as.getValue());
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2789,14 +2796,14 @@ public class MainControllerInitMethod {
 				// Nipple puffiness:
 				id = "NIPPLE_PUFFY_ON";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().addNippleOrificeModifier(OrificeModifier.PUFFY);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "NIPPLE_PUFFY_OFF";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().removeNippleOrificeModifier(OrificeModifier.PUFFY);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
@@ -2806,7 +2813,7 @@ public class MainControllerInitMethod {
 				for(AssSize as : CharacterModificationUtils.getAssSizesAvailable()) {
 					id = "ASS_SIZE_"+as;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setAssSize(as.getValue());
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2817,7 +2824,7 @@ public class MainControllerInitMethod {
 				for(HipSize hs : CharacterModificationUtils.getHipSizesAvailable()) {
 					id = "HIP_SIZE_"+hs;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setHipSize(hs.getValue());
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2827,14 +2834,14 @@ public class MainControllerInitMethod {
 				// Bleached anus:
 				id = "ANUS_BLEACHED_ON";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().setAssBleached(true);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "ANUS_BLEACHED_OFF";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().setAssBleached(false);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
@@ -2844,7 +2851,7 @@ public class MainControllerInitMethod {
 				for(int ps : CharacterModificationUtils.getPenisSizesAvailable()) {
 					id = "PENIS_SIZE_"+ps;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setPenisSize(ps);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2855,7 +2862,7 @@ public class MainControllerInitMethod {
 				for(PenisGirth girth : PenisGirth.values()) {
 					id = "PENIS_GIRTH_"+girth;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setPenisGirth(girth.getValue());
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2867,7 +2874,7 @@ public class MainControllerInitMethod {
 				for(TesticleSize ts : CharacterModificationUtils.getTesticleSizesAvailable()) {
 					id = "TESTICLE_SIZE_"+ts;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setTesticleSize(ts.getValue());
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2878,7 +2885,7 @@ public class MainControllerInitMethod {
 				for(Capacity capacity: Capacity.values()) {
 					id = "VAGINA_CAPACITY_"+capacity;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setVaginaCapacity(capacity.getMedianValue(), true);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2889,7 +2896,7 @@ public class MainControllerInitMethod {
 				for(Wetness wetness: Wetness.values()) {
 					id = "VAGINA_WETNESS_"+wetness;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setVaginaWetness(wetness.getValue());
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2900,7 +2907,7 @@ public class MainControllerInitMethod {
 				for(OrificeElasticity elasticity: OrificeElasticity.values()) {
 					id = "VAGINA_ELASTICITY_"+elasticity;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setVaginaElasticity(elasticity.getValue());
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2911,7 +2918,7 @@ public class MainControllerInitMethod {
 				for(OrificePlasticity plasticity: OrificePlasticity.values()) {
 					id = "VAGINA_PLASTICITY_"+plasticity;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setVaginaPlasticity(plasticity.getValue());
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2922,7 +2929,7 @@ public class MainControllerInitMethod {
 				for(ClitorisSize cs: ClitorisSize.values()) {
 					id = "CLITORIS_SIZE_"+cs;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setVaginaClitorisSize(cs.getMedianValue());
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2933,7 +2940,7 @@ public class MainControllerInitMethod {
 				for(LabiaSize ls: LabiaSize.values()) {
 					id = "LABIA_SIZE_"+ls;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setVaginaLabiaSize(ls.getValue());
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2946,7 +2953,7 @@ public class MainControllerInitMethod {
 				for(AbstractArmType armType: ArmType.getAllArmTypes()) {
 					id = "CHANGE_ARM_"+ArmType.getIdFromArmType(armType);
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setArmType(armType);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2956,7 +2963,7 @@ public class MainControllerInitMethod {
 				for(EyeType eyeType: EyeType.values()) {
 					id = "CHANGE_EYE_"+eyeType;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setEyeType(eyeType);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2966,7 +2973,7 @@ public class MainControllerInitMethod {
 				for(AbstractEarType earType: EarType.getAllEarTypes()) {
 					id = "CHANGE_EAR_"+EarType.getIdFromEarType(earType);
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setEarType(earType);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2976,7 +2983,7 @@ public class MainControllerInitMethod {
 				for(AbstractHornType hornType: HornType.getAllHornTypes()) {
 					id = "CHANGE_HORN_"+HornType.getIdFromHornType(hornType);
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setHornType(hornType);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2986,7 +2993,7 @@ public class MainControllerInitMethod {
 				for(AntennaType antennaType: AntennaType.values()) {
 					id = "CHANGE_ANTENNA_"+antennaType;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setAntennaType(antennaType);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -2996,7 +3003,7 @@ public class MainControllerInitMethod {
 				for(HairType hairType: HairType.values()) {
 					id = "CHANGE_HAIR_"+hairType;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setHairType(hairType);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -3007,7 +3014,7 @@ public class MainControllerInitMethod {
 				for(AbstractLegType legType: LegType.getAllLegTypes()) {
 					id = "CHANGE_LEG_"+LegType.getIdFromLegType(legType);
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setLegType(legType);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -3017,7 +3024,7 @@ public class MainControllerInitMethod {
 				for(FaceType faceType: FaceType.values()) {
 					id = "CHANGE_FACE_"+faceType;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setFaceType(faceType);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -3027,7 +3034,7 @@ public class MainControllerInitMethod {
 				for(SkinType skinType: SkinType.values()) {
 					id = "CHANGE_SKIN_"+skinType;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setSkinType(skinType);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -3037,7 +3044,7 @@ public class MainControllerInitMethod {
 				for(GenitalArrangement genitalArrangement: GenitalArrangement.values()) {
 					id = "CHANGE_GENITAL_ARRANGEMENT_"+genitalArrangement;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setGenitalArrangement(genitalArrangement);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -3047,7 +3054,7 @@ public class MainControllerInitMethod {
 				for(LegConfiguration legConfig: LegConfiguration.values()) {
 					id = "CHANGE_LEG_CONFIGURATION_"+legConfig;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().getLegType().applyLegConfigurationTransformation(BodyChanging.getTarget(), legConfig, true, false);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -3057,7 +3064,7 @@ public class MainControllerInitMethod {
 				for(TailType tailType: TailType.values()) {
 					id = "CHANGE_TAIL_"+tailType;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setTailType(tailType);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -3067,7 +3074,7 @@ public class MainControllerInitMethod {
 				for(WingType wingType: WingType.values()) {
 					id = "CHANGE_WING_"+wingType;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setWingType(wingType);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -3077,7 +3084,7 @@ public class MainControllerInitMethod {
 				for(AbstractAssType assType: AssType.getAllAssTypes()) {
 					id = "CHANGE_ASS_"+AssType.getIdFromAssType(assType);
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setAssType(assType);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -3087,14 +3094,14 @@ public class MainControllerInitMethod {
 				for(AbstractBreastType breastType: BreastType.getAllBreastTypes()) {
 					id = "CHANGE_BREAST_"+BreastType.getIdFromBreastType(breastType);
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setBreastType(breastType);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
 					}
 					id = "CHANGE_BREAST_CROTCH_"+BreastType.getIdFromBreastType(breastType);
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setBreastCrotchType(breastType);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -3108,14 +3115,14 @@ public class MainControllerInitMethod {
 				for(EyeShape eyeShape : EyeShape.values()) {
 					id = "CHANGE_IRIS_SHAPE_"+eyeShape;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setIrisShape(eyeShape);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
 					}
 					id = "CHANGE_PUPIL_SHAPE_"+eyeShape;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setPupilShape(eyeShape);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -3125,7 +3132,7 @@ public class MainControllerInitMethod {
 				for(LipSize lipSize : LipSize.values()) {
 					id = "CHANGE_LIP_SIZE_"+lipSize;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setLipSize(lipSize.getValue());
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -3135,7 +3142,7 @@ public class MainControllerInitMethod {
 				for(OrificeModifier orificeMod : OrificeModifier.values()) {
 					id = "CHANGE_MOUTH_MOD_"+orificeMod;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							if(BodyChanging.getTarget().hasFaceOrificeModifier(orificeMod)) {
 								BodyChanging.getTarget().removeFaceOrificeModifier(orificeMod);
 							} else {
@@ -3149,7 +3156,7 @@ public class MainControllerInitMethod {
 				for(TongueModifier tongueMod : TongueModifier.values()) {
 					id = "CHANGE_TONGUE_MOD_"+tongueMod;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							if(BodyChanging.getTarget().hasTongueModifier(tongueMod)) {
 								BodyChanging.getTarget().removeTongueModifier(tongueMod);
 							} else {
@@ -3171,7 +3178,7 @@ public class MainControllerInitMethod {
 				for(FootStructure footStructure : FootStructure.values()) {
 					id = "CHANGE_FOOT_STRUCTURE_"+footStructure;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setFootStructure(footStructure);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -3206,7 +3213,7 @@ public class MainControllerInitMethod {
 				for(OrificeModifier orificeMod : OrificeModifier.values()) {
 					id = "CHANGE_ANUS_MOD_"+orificeMod;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							if(BodyChanging.getTarget().hasAssOrificeModifier(orificeMod)) {
 								BodyChanging.getTarget().removeAssOrificeModifier(orificeMod);
 							} else {
@@ -3221,7 +3228,7 @@ public class MainControllerInitMethod {
 				for(AssSize as : AssSize.values()) {
 					id = "CHANGE_ASS_SIZE_"+as;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setAssSize(as.getValue());
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -3231,7 +3238,7 @@ public class MainControllerInitMethod {
 				for(HipSize hs : HipSize.values()) {
 					id = "CHANGE_HIP_SIZE_"+hs;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setHipSize(hs.getValue());
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -3241,7 +3248,7 @@ public class MainControllerInitMethod {
 				for(Capacity capacity: Capacity.values()) {
 					id = "ANUS_CAPACITY_"+capacity;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setAssCapacity(capacity.getMedianValue(), true);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -3251,7 +3258,7 @@ public class MainControllerInitMethod {
 				for(Wetness wetness: Wetness.values()) {
 					id = "ANUS_WETNESS_"+wetness;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setAssWetness(wetness.getValue());
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -3261,7 +3268,7 @@ public class MainControllerInitMethod {
 				for(OrificeElasticity elasticity: OrificeElasticity.values()) {
 					id = "ANUS_ELASTICITY_"+elasticity;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setAssElasticity(elasticity.getValue());
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -3271,7 +3278,7 @@ public class MainControllerInitMethod {
 				for(OrificePlasticity plasticity: OrificePlasticity.values()) {
 					id = "ANUS_PLASTICITY_"+plasticity;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setAssPlasticity(plasticity.getValue());
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -3284,28 +3291,28 @@ public class MainControllerInitMethod {
 				
 				id = "BREAST_SIZE_INCREASE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementBreastSize(1);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "BREAST_SIZE_INCREASE_LARGE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementBreastSize(5);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "BREAST_SIZE_DECREASE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementBreastSize(-1);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "BREAST_SIZE_DECREASE_LARGE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementBreastSize(-5);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
@@ -3314,28 +3321,28 @@ public class MainControllerInitMethod {
 
 				id = "CROTCH_BOOB_SIZE_INCREASE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementBreastCrotchSize(1);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "CROTCH_BOOB_SIZE_INCREASE_LARGE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementBreastCrotchSize(5);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "CROTCH_BOOB_SIZE_DECREASE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementBreastCrotchSize(-1);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "CROTCH_BOOB_SIZE_DECREASE_LARGE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementBreastCrotchSize(-5);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
@@ -3360,14 +3367,14 @@ public class MainControllerInitMethod {
 				for(Capacity capacity: Capacity.values()) {
 					id = "NIPPLE_CAPACITY_"+capacity;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setNippleCapacity(capacity.getMedianValue(), true);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
 					}
 					id = "NIPPLE_CROTCH_CAPACITY_"+capacity;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setNippleCrotchCapacity(capacity.getMedianValue(), true);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -3378,14 +3385,14 @@ public class MainControllerInitMethod {
 				for(OrificeElasticity elasticity: OrificeElasticity.values()) {
 					id = "NIPPLE_ELASTICITY_"+elasticity;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setNippleElasticity(elasticity.getValue());
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
 					}
 					id = "NIPPLE_CROTCH_ELASTICITY_"+elasticity;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setNippleCrotchElasticity(elasticity.getValue());
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -3396,14 +3403,14 @@ public class MainControllerInitMethod {
 				for(OrificePlasticity plasticity: OrificePlasticity.values()) {
 					id = "NIPPLE_PLASTICITY_"+plasticity;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setNipplePlasticity(plasticity.getValue());
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
 					}
 					id = "NIPPLE_CROTCH_PLASTICITY_"+plasticity;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setNippleCrotchPlasticity(plasticity.getValue());
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -3413,7 +3420,7 @@ public class MainControllerInitMethod {
 				for(OrificeModifier orificeMod : OrificeModifier.values()) {
 					id = "CHANGE_NIPPLE_MOD_"+orificeMod;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							if(BodyChanging.getTarget().hasNippleOrificeModifier(orificeMod)) {
 								BodyChanging.getTarget().removeNippleOrificeModifier(orificeMod);
 							} else {
@@ -3424,7 +3431,7 @@ public class MainControllerInitMethod {
 					}
 					id = "CHANGE_NIPPLE_CROTCH_MOD_"+orificeMod;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							if(BodyChanging.getTarget().hasNippleCrotchOrificeModifier(orificeMod)) {
 								BodyChanging.getTarget().removeNippleCrotchOrificeModifier(orificeMod);
 							} else {
@@ -3438,7 +3445,7 @@ public class MainControllerInitMethod {
 				for(FluidFlavour flavour : FluidFlavour.values()) {
 					id = "MILK_FLAVOUR_"+flavour;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setMilkFlavour(flavour);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -3448,7 +3455,7 @@ public class MainControllerInitMethod {
 				for(FluidFlavour flavour : FluidFlavour.values()) {
 					id = "MILK_CROTCH_FLAVOUR_"+flavour;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setMilkCrotchFlavour(flavour);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -3457,7 +3464,7 @@ public class MainControllerInitMethod {
 
 				id = "MILK_PRODUCTION_INCREASE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().setBreastMilkStorage(Math.min(CharacterModificationUtils.getLactationUpperLimit(), BodyChanging.getTarget().getBreastRawMilkStorageValue()+CharacterModificationUtils.FLUID_INCREMENT_SMALL));
 						BodyChanging.getTarget().fillMilkToMaxStorage();
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -3465,7 +3472,7 @@ public class MainControllerInitMethod {
 				}
 				id = "MILK_PRODUCTION_INCREASE_LARGE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().setBreastMilkStorage(Math.min(CharacterModificationUtils.getLactationUpperLimit(), BodyChanging.getTarget().getBreastRawMilkStorageValue()+CharacterModificationUtils.FLUID_INCREMENT_AVERAGE));
 						BodyChanging.getTarget().fillMilkToMaxStorage();
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -3473,7 +3480,7 @@ public class MainControllerInitMethod {
 				}
 				id = "MILK_PRODUCTION_INCREASE_HUGE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().setBreastMilkStorage(Math.min(CharacterModificationUtils.getLactationUpperLimit(), BodyChanging.getTarget().getBreastRawMilkStorageValue()+CharacterModificationUtils.FLUID_INCREMENT_LARGE));
 						BodyChanging.getTarget().fillMilkToMaxStorage();
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -3481,21 +3488,21 @@ public class MainControllerInitMethod {
 				}
 				id = "MILK_PRODUCTION_DECREASE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementBreastMilkStorage(-CharacterModificationUtils.FLUID_INCREMENT_SMALL);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "MILK_PRODUCTION_DECREASE_LARGE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementBreastMilkStorage(-CharacterModificationUtils.FLUID_INCREMENT_AVERAGE);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "MILK_PRODUCTION_DECREASE_HUGE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementBreastMilkStorage(-CharacterModificationUtils.FLUID_INCREMENT_LARGE);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
@@ -3504,7 +3511,7 @@ public class MainControllerInitMethod {
 				
 				id = "MILK_CROTCH_PRODUCTION_INCREASE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().setBreastCrotchMilkStorage(
 								Math.min(CharacterModificationUtils.getLactationCrotchUpperLimit(), BodyChanging.getTarget().getBreastCrotchRawMilkStorageValue()+CharacterModificationUtils.FLUID_INCREMENT_SMALL));
 						BodyChanging.getTarget().fillMilkCrotchToMaxStorage();
@@ -3513,7 +3520,7 @@ public class MainControllerInitMethod {
 				}
 				id = "MILK_CROTCH_PRODUCTION_INCREASE_LARGE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().setBreastCrotchMilkStorage(
 								Math.min(CharacterModificationUtils.getLactationCrotchUpperLimit(), BodyChanging.getTarget().getBreastCrotchRawMilkStorageValue()+CharacterModificationUtils.FLUID_INCREMENT_AVERAGE));
 						BodyChanging.getTarget().fillMilkCrotchToMaxStorage();
@@ -3522,7 +3529,7 @@ public class MainControllerInitMethod {
 				}
 				id = "MILK_CROTCH_PRODUCTION_INCREASE_HUGE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().setBreastCrotchMilkStorage(
 								Math.min(CharacterModificationUtils.getLactationCrotchUpperLimit(), BodyChanging.getTarget().getBreastCrotchRawMilkStorageValue()+CharacterModificationUtils.FLUID_INCREMENT_LARGE));
 						BodyChanging.getTarget().fillMilkCrotchToMaxStorage();
@@ -3531,21 +3538,21 @@ public class MainControllerInitMethod {
 				}
 				id = "MILK_CROTCH_PRODUCTION_DECREASE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementBreastCrotchMilkStorage(-CharacterModificationUtils.FLUID_INCREMENT_SMALL);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "MILK_CROTCH_PRODUCTION_DECREASE_LARGE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementBreastCrotchMilkStorage(-CharacterModificationUtils.FLUID_INCREMENT_AVERAGE);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "MILK_CROTCH_PRODUCTION_DECREASE_HUGE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementBreastCrotchMilkStorage(-CharacterModificationUtils.FLUID_INCREMENT_LARGE);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
@@ -3554,42 +3561,42 @@ public class MainControllerInitMethod {
 				
 				id = "MILK_REGENERATION_INCREASE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementBreastLactationRegeneration(CharacterModificationUtils.FLUID_REGEN_INCREMENT_SMALL);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "MILK_REGENERATION_INCREASE_LARGE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementBreastLactationRegeneration(CharacterModificationUtils.FLUID_REGEN_INCREMENT_AVERAGE);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "MILK_REGENERATION_INCREASE_HUGE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementBreastLactationRegeneration(CharacterModificationUtils.FLUID_REGEN_INCREMENT_LARGE);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "MILK_REGENERATION_DECREASE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementBreastLactationRegeneration(-CharacterModificationUtils.FLUID_REGEN_INCREMENT_SMALL);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "MILK_REGENERATION_DECREASE_LARGE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementBreastLactationRegeneration(-CharacterModificationUtils.FLUID_REGEN_INCREMENT_AVERAGE);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "MILK_REGENERATION_DECREASE_HUGE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementBreastLactationRegeneration(-CharacterModificationUtils.FLUID_REGEN_INCREMENT_LARGE);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
@@ -3598,42 +3605,42 @@ public class MainControllerInitMethod {
 				
 				id = "MILK_CROTCH_REGENERATION_INCREASE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementBreastCrotchLactationRegeneration(CharacterModificationUtils.FLUID_REGEN_INCREMENT_SMALL);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "MILK_CROTCH_REGENERATION_INCREASE_LARGE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementBreastCrotchLactationRegeneration(CharacterModificationUtils.FLUID_REGEN_INCREMENT_AVERAGE);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "MILK_CROTCH_REGENERATION_INCREASE_HUGE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementBreastCrotchLactationRegeneration(CharacterModificationUtils.FLUID_REGEN_INCREMENT_LARGE);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "MILK_CROTCH_REGENERATION_DECREASE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementBreastCrotchLactationRegeneration(-CharacterModificationUtils.FLUID_REGEN_INCREMENT_SMALL);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "MILK_CROTCH_REGENERATION_DECREASE_LARGE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementBreastCrotchLactationRegeneration(-CharacterModificationUtils.FLUID_REGEN_INCREMENT_AVERAGE);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "MILK_CROTCH_REGENERATION_DECREASE_HUGE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementBreastCrotchLactationRegeneration(-CharacterModificationUtils.FLUID_REGEN_INCREMENT_LARGE);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
@@ -3645,7 +3652,7 @@ public class MainControllerInitMethod {
 				for(VaginaType vaginaType: VaginaType.values()) {
 					id = "CHANGE_VAGINA_"+vaginaType;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setVaginaType(vaginaType);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -3655,7 +3662,7 @@ public class MainControllerInitMethod {
 				for(OrificeModifier orificeMod : OrificeModifier.values()) {
 					id = "CHANGE_VAGINA_MOD_"+orificeMod;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							if(BodyChanging.getTarget().hasVaginaOrificeModifier(orificeMod)) {
 								BodyChanging.getTarget().removeVaginaOrificeModifier(orificeMod);
 							} else {
@@ -3669,7 +3676,7 @@ public class MainControllerInitMethod {
 				for(FluidFlavour flavour : FluidFlavour.values()) {
 					id = "GIRLCUM_FLAVOUR_"+flavour;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setGirlcumFlavour(flavour);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -3679,7 +3686,7 @@ public class MainControllerInitMethod {
 				for(Capacity capacity: Capacity.values()) {
 					id = "VAGINA_URETHRA_CAPACITY_"+capacity;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setVaginaUrethraCapacity(capacity.getMedianValue(), true);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -3688,7 +3695,7 @@ public class MainControllerInitMethod {
 				for(OrificeElasticity elasticity: OrificeElasticity.values()) {
 					id = "VAGINA_URETHRA_ELASTICITY_"+elasticity;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setVaginaUrethraElasticity(elasticity.getValue());
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -3698,7 +3705,7 @@ public class MainControllerInitMethod {
 				for(OrificePlasticity plasticity: OrificePlasticity.values()) {
 					id = "VAGINA_URETHRA_PLASTICITY_"+plasticity;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setVaginaUrethraPlasticity(plasticity.getValue());
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -3708,7 +3715,7 @@ public class MainControllerInitMethod {
 				for(OrificeModifier orificeMod : OrificeModifier.values()) {
 					id = "CHANGE_VAGINA_URETHRA_MOD_"+orificeMod;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							if(BodyChanging.getTarget().hasVaginaUrethraOrificeModifier(orificeMod)) {
 								BodyChanging.getTarget().removeVaginaUrethraOrificeModifier(orificeMod);
 							} else {
@@ -3725,7 +3732,7 @@ public class MainControllerInitMethod {
 				for(PenisType penisType: PenisType.values()) {
 					id = "CHANGE_PENIS_"+penisType;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setPenisType(penisType);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -3734,28 +3741,28 @@ public class MainControllerInitMethod {
 				
 				id = "PENIS_SIZE_INCREASE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementPenisSize(1);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "PENIS_SIZE_INCREASE_LARGE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementPenisSize(5);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "PENIS_SIZE_DECREASE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementPenisSize(-1);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "PENIS_SIZE_DECREASE_LARGE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementPenisSize(-5);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
@@ -3764,7 +3771,7 @@ public class MainControllerInitMethod {
 				for(TesticleSize size : TesticleSize.values()) {
 					id = "TESTICLE_SIZE_"+size;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setTesticleSize(size.getValue());
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -3777,14 +3784,14 @@ public class MainControllerInitMethod {
 				
 				id = "TESTICLES_INTERNAL_ON";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().setInternalTesticles(true);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "TESTICLES_INTERNAL_OFF";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().setInternalTesticles(false);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
@@ -3793,7 +3800,7 @@ public class MainControllerInitMethod {
 				for(FluidFlavour flavour : FluidFlavour.values()) {
 					id = "CUM_FLAVOUR_"+flavour;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setCumFlavour(flavour);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -3802,7 +3809,7 @@ public class MainControllerInitMethod {
 				
 				id = "CUM_PRODUCTION_INCREASE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().setPenisCumStorage(Math.min(CharacterModificationUtils.getCumUpperLimit(), BodyChanging.getTarget().getPenisRawCumStorageValue()+CharacterModificationUtils.FLUID_INCREMENT_SMALL));
 						BodyChanging.getTarget().fillCumToMaxStorage();
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -3810,7 +3817,7 @@ public class MainControllerInitMethod {
 				}
 				id = "CUM_PRODUCTION_INCREASE_LARGE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().setPenisCumStorage(Math.min(CharacterModificationUtils.getCumUpperLimit(), BodyChanging.getTarget().getPenisRawCumStorageValue()+CharacterModificationUtils.FLUID_INCREMENT_AVERAGE));
 						BodyChanging.getTarget().fillCumToMaxStorage();
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -3818,7 +3825,7 @@ public class MainControllerInitMethod {
 				}
 				id = "CUM_PRODUCTION_INCREASE_HUGE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().setPenisCumStorage(Math.min(CharacterModificationUtils.getCumUpperLimit(), BodyChanging.getTarget().getPenisRawCumStorageValue()+CharacterModificationUtils.FLUID_INCREMENT_LARGE));
 						BodyChanging.getTarget().fillCumToMaxStorage();
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -3826,21 +3833,21 @@ public class MainControllerInitMethod {
 				}
 				id = "CUM_PRODUCTION_DECREASE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementPenisCumStorage(-CharacterModificationUtils.FLUID_INCREMENT_SMALL);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "CUM_PRODUCTION_DECREASE_LARGE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementPenisCumStorage(-CharacterModificationUtils.FLUID_INCREMENT_AVERAGE);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "CUM_PRODUCTION_DECREASE_HUGE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementPenisCumStorage(-CharacterModificationUtils.FLUID_INCREMENT_LARGE);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
@@ -3849,42 +3856,42 @@ public class MainControllerInitMethod {
 
 				id = "CUM_REGENERATION_INCREASE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementPenisCumProductionRegeneration(CharacterModificationUtils.FLUID_REGEN_INCREMENT_SMALL);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "CUM_REGENERATION_INCREASE_LARGE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementPenisCumProductionRegeneration(CharacterModificationUtils.FLUID_REGEN_INCREMENT_AVERAGE);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "CUM_REGENERATION_INCREASE_HUGE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementPenisCumProductionRegeneration(CharacterModificationUtils.FLUID_REGEN_INCREMENT_LARGE);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "CUM_REGENERATION_DECREASE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementPenisCumProductionRegeneration(-CharacterModificationUtils.FLUID_REGEN_INCREMENT_SMALL);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "CUM_REGENERATION_DECREASE_LARGE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementPenisCumProductionRegeneration(-CharacterModificationUtils.FLUID_REGEN_INCREMENT_AVERAGE);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "CUM_REGENERATION_DECREASE_HUGE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementPenisCumProductionRegeneration(-CharacterModificationUtils.FLUID_REGEN_INCREMENT_LARGE);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
@@ -3893,28 +3900,28 @@ public class MainControllerInitMethod {
 				
 				id = "CUM_EXPULSION_INCREASE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementPenisCumExpulsion(1);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "CUM_EXPULSION_INCREASE_LARGE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementPenisCumExpulsion(10);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "CUM_EXPULSION_DECREASE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementPenisCumExpulsion(-1);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				}
 				id = "CUM_EXPULSION_DECREASE_LARGE";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						BodyChanging.getTarget().incrementPenisCumExpulsion(-10);
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
@@ -3924,7 +3931,7 @@ public class MainControllerInitMethod {
 				for(Capacity capacity: Capacity.values()) {
 					id = "URETHRA_CAPACITY_"+capacity;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setPenisCapacity(capacity.getMedianValue(), true);
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -3934,7 +3941,7 @@ public class MainControllerInitMethod {
 				for(OrificeElasticity elasticity: OrificeElasticity.values()) {
 					id = "URETHRA_ELASTICITY_"+elasticity;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setUrethraElasticity(elasticity.getValue());
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -3944,7 +3951,7 @@ public class MainControllerInitMethod {
 				for(OrificePlasticity plasticity: OrificePlasticity.values()) {
 					id = "URETHRA_PLASTICITY_"+plasticity;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							BodyChanging.getTarget().setUrethraPlasticity(plasticity.getValue());
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -3954,7 +3961,7 @@ public class MainControllerInitMethod {
 				for(PenetrationModifier orificeMod : PenetrationModifier.values()) {
 					id = "CHANGE_PENIS_MOD_"+orificeMod;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							if(BodyChanging.getTarget().hasPenisModifier(orificeMod)) {
 								BodyChanging.getTarget().removePenisModifier(orificeMod);
 							} else {
@@ -3968,7 +3975,7 @@ public class MainControllerInitMethod {
 				for(OrificeModifier orificeMod : OrificeModifier.values()) {
 					id = "CHANGE_URETHRA_MOD_"+orificeMod;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							if(BodyChanging.getTarget().hasUrethraOrificeModifier(orificeMod)) {
 								BodyChanging.getTarget().removeUrethraOrificeModifier(orificeMod);
 							} else {
@@ -3992,7 +3999,7 @@ public class MainControllerInitMethod {
 				
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
 					
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						if(Main.game.getPlayer().getMoney() >= SuccubisSecrets.getBodyCoveringTypeCost(bct) || noCost) {
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()){
 								@Override
@@ -4021,7 +4028,7 @@ public class MainControllerInitMethod {
 				
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
 					
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()){
 							@Override
 							public void effects() {
@@ -4036,7 +4043,7 @@ public class MainControllerInitMethod {
 				
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
 					
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()){
 							@Override
 							public void effects() {
@@ -4052,7 +4059,7 @@ public class MainControllerInitMethod {
 				
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
 					
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()){
 							@Override
 							public void effects() {
@@ -4067,7 +4074,7 @@ public class MainControllerInitMethod {
 				
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
 					
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()){
 							@Override
 							public void effects() {
@@ -4083,7 +4090,7 @@ public class MainControllerInitMethod {
 					
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
 						
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()){
 								@Override
 								public void effects() {
@@ -4100,7 +4107,7 @@ public class MainControllerInitMethod {
 					
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
 						
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()){
 								@Override
 								public void effects() {
@@ -4116,7 +4123,7 @@ public class MainControllerInitMethod {
 					id = bct+"_PRIMARY_"+colour;
 					
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()){
 								@Override
 								public void effects() {
@@ -4132,7 +4139,7 @@ public class MainControllerInitMethod {
 					id = bct+"_SECONDARY_"+colour;
 					
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()){
 								@Override
 								public void effects() {
@@ -4150,7 +4157,7 @@ public class MainControllerInitMethod {
 				id = "HAIR_LENGTH_"+hairLength;
 				
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						if(Main.game.getPlayer().getMoney() >= SuccubisSecrets.BASE_HAIR_LENGTH_COST || noCost) {
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()){
 								@Override
@@ -4171,7 +4178,7 @@ public class MainControllerInitMethod {
 				
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
 					
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						if(Main.game.getPlayer().getMoney() >= SuccubisSecrets.BASE_HAIR_STYLE_COST || noCost) {
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()){
 								@Override
@@ -4192,7 +4199,7 @@ public class MainControllerInitMethod {
 				
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
 					
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						if(Main.game.getPlayer().getMoney() >= SuccubisSecrets.getPiercingCost(piercingType) || noCost) {
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()){
 								@Override
@@ -4236,7 +4243,7 @@ public class MainControllerInitMethod {
 				
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
 					
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						if(Main.game.getPlayer().getMoney() >= SuccubisSecrets.getPiercingCost(piercingType) || noCost) {
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()){
 								@Override
@@ -4279,7 +4286,7 @@ public class MainControllerInitMethod {
 			
 			if (((EventTarget) MainController.document.getElementById("BLEACHING_OFF")) != null) {
 				
-				((EventTarget) MainController.document.getElementById("BLEACHING_OFF")).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, "BLEACHING_OFF", "click", e -> {
 					if(Main.game.getPlayer().getMoney() >= SuccubisSecrets.BASE_ANAL_BLEACHING_COST || noCost) {
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()){
 							@Override
@@ -4296,7 +4303,7 @@ public class MainControllerInitMethod {
 			
 			if (((EventTarget) MainController.document.getElementById("BLEACHING_ON")) != null) {
 				
-				((EventTarget) MainController.document.getElementById("BLEACHING_ON")).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, "BLEACHING_ON", "click", e -> {
 					if(Main.game.getPlayer().getMoney() >= SuccubisSecrets.BASE_ANAL_BLEACHING_COST || noCost) {
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()){
 							@Override
@@ -4315,7 +4322,7 @@ public class MainControllerInitMethod {
 				
 				id = "ASS_HAIR_"+bodyHair;
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						if(Main.game.getPlayer().getMoney() >= SuccubisSecrets.BASE_BODY_HAIR_COST || noCost) {
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()){
 								@Override
@@ -4332,7 +4339,7 @@ public class MainControllerInitMethod {
 				
 				id = "UNDERARM_HAIR_"+bodyHair;
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						if(Main.game.getPlayer().getMoney() >= SuccubisSecrets.BASE_BODY_HAIR_COST || noCost) {
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()){
 								@Override
@@ -4349,7 +4356,7 @@ public class MainControllerInitMethod {
 				
 				id = "PUBIC_HAIR_"+bodyHair;
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						if(Main.game.getPlayer().getMoney() >= SuccubisSecrets.BASE_BODY_HAIR_COST || noCost) {
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()){
 								@Override
@@ -4366,7 +4373,7 @@ public class MainControllerInitMethod {
 				
 				id = "FACIAL_HAIR_"+bodyHair;
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						if(Main.game.getPlayer().getMoney() >= SuccubisSecrets.BASE_BODY_HAIR_COST || noCost) {
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()){
 								@Override
@@ -4403,7 +4410,7 @@ public class MainControllerInitMethod {
 					id = "TATTOO_ADD_REMOVE_"+invSlot.toString();
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
 						if(BodyChanging.getTarget().getTattooInSlot(invSlot)==null) {
-							((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+							MainController.addEventListener(MainController.document, id, "click", e -> {
 								Main.game.setContent(new Response("", "",
 										Main.game.isInNewWorld()
 											?(Main.game.getCurrentDialogueNode()==SuccubisSecrets.SHOP_BEAUTY_SALON_TATTOOS
@@ -4419,7 +4426,7 @@ public class MainControllerInitMethod {
 							}, false);
 						
 						} else {
-							((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+							MainController.addEventListener(MainController.document, id, "click", e -> {
 								if(Main.game.getPlayer().getMoney()>=100 || !Main.game.isInNewWorld()) {
 									Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()){
 										@Override
@@ -4453,7 +4460,7 @@ public class MainControllerInitMethod {
 					
 					id = "TATTOO_ENCHANT_"+invSlot.toString();
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							Main.game.setContent(new Response("", "", EnchantmentDialogue.ENCHANTMENT_MENU){
 								@Override
 								public DialogueNode getNextDialogue() {
@@ -4482,7 +4489,7 @@ public class MainControllerInitMethod {
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
 						if(type.getSlotAvailability().contains(CharacterModificationUtils.tattooInventorySlot)) {
 							if(!CharacterModificationUtils.tattoo.getType().equals(type)) {
-								((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+								MainController.addEventListener(MainController.document, id, "click", e -> {
 									Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()){
 										@Override
 										public void effects() {
@@ -4509,7 +4516,7 @@ public class MainControllerInitMethod {
 				for(Colour c : CharacterModificationUtils.tattoo.getType().getAvailablePrimaryColours()) {
 					id = "TATTOO_COLOUR_PRIMARY_"+c.toString();
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()){
 								@Override
 								public void effects() {
@@ -4525,7 +4532,7 @@ public class MainControllerInitMethod {
 				for(Colour c : CharacterModificationUtils.tattoo.getType().getAvailableSecondaryColours()) {
 					id = "TATTOO_COLOUR_SECONDARY_"+c.toString();
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()){
 								@Override
 								public void effects() {
@@ -4541,7 +4548,7 @@ public class MainControllerInitMethod {
 				for(Colour c : CharacterModificationUtils.tattoo.getType().getAvailableTertiaryColours()) {
 					id = "TATTOO_COLOUR_TERTIARY_"+c.toString();
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()){
 								@Override
 								public void effects() {
@@ -4556,7 +4563,7 @@ public class MainControllerInitMethod {
 				
 				id = "TATTOO_GLOW";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()){
 							@Override
 							public void effects() {
@@ -4573,7 +4580,7 @@ public class MainControllerInitMethod {
 				for(TattooWritingStyle style : TattooWritingStyle.values()) {
 					id = "TATTOO_WRITING_STYLE_"+style.toString();
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()){
 								@Override
 								public void effects() {
@@ -4593,7 +4600,7 @@ public class MainControllerInitMethod {
 				for(Colour c : TattooWriting.getAvailableColours()) {
 					id = "TATTOO_WRITING_COLOUR_"+c.toString();
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()){
 								@Override
 								public void effects() {
@@ -4608,7 +4615,7 @@ public class MainControllerInitMethod {
 				
 				id = "TATTOO_WRITING_GLOW";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()){
 							@Override
 							public void effects() {
@@ -4625,7 +4632,7 @@ public class MainControllerInitMethod {
 				for(TattooCounterType counterType : TattooCounterType.values()) {
 					id = "TATTOO_COUNTER_TYPE_"+counterType.toString();
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()){
 								@Override
 								public void effects() {
@@ -4646,7 +4653,7 @@ public class MainControllerInitMethod {
 				for(TattooCountType countType : TattooCountType.values()) {
 					id = "TATTOO_COUNT_TYPE_"+countType.toString();
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()){
 								@Override
 								public void effects() {
@@ -4662,7 +4669,7 @@ public class MainControllerInitMethod {
 				for(Colour c : TattooCounter.getAvailableColours()) {
 					id = "TATTOO_COUNTER_COLOUR_"+c.toString();
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()){
 								@Override
 								public void effects() {
@@ -4677,7 +4684,7 @@ public class MainControllerInitMethod {
 				
 				id = "TATTOO_COUNTER_GLOW";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()){
 							@Override
 							public void effects() {
@@ -4705,7 +4712,7 @@ public class MainControllerInitMethod {
 				for (Colour c : clothing.getAllAvailablePrimaryColours()) {
 					id = "PRIMARY_"+clothing.hashCode() + "_" + c.toString();
 					if ((EventTarget) MainController.document.getElementById(id) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							InventoryDialogue.dyePreviewPrimary = c;
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -4720,7 +4727,7 @@ public class MainControllerInitMethod {
 					for (Colour c : clothing.getAllAvailableSecondaryColours()) {
 						id = "SECONDARY_"+clothing.hashCode() + "_" + c.toString();
 						if ((EventTarget) MainController.document.getElementById(id) != null) {
-							((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+							MainController.addEventListener(MainController.document, id, "click", e -> {
 								InventoryDialogue.dyePreviewSecondary = c;
 								Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 							}, false);
@@ -4736,7 +4743,7 @@ public class MainControllerInitMethod {
 					for (Colour c : clothing.getAllAvailableTertiaryColours()) {
 						id = "TERTIARY_"+clothing.hashCode() + "_" + c.toString();
 						if ((EventTarget) MainController.document.getElementById(id) != null) {
-							((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+							MainController.addEventListener(MainController.document, id, "click", e -> {
 								InventoryDialogue.dyePreviewTertiary = c;
 								Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 							}, false);
@@ -4753,7 +4760,7 @@ public class MainControllerInitMethod {
 					
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
 						
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							if(InventoryDialogue.dyePreviewPattern != pattern.getName()){
 								InventoryDialogue.dyePreviewPattern = pattern.getName();
 								Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -4774,7 +4781,7 @@ public class MainControllerInitMethod {
 					for (Colour c : ColourListPresets.ALL) {
 						id = "PATTERN_PRIMARY_"+clothing.hashCode() + "_" + c.toString();
 						if ((EventTarget) MainController.document.getElementById(id) != null) {
-							((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+							MainController.addEventListener(MainController.document, id, "click", e -> {
 								InventoryDialogue.dyePreviewPatternPrimary = c;
 								Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 							}, false);
@@ -4785,7 +4792,7 @@ public class MainControllerInitMethod {
 					for (Colour c : ColourListPresets.ALL) {
 						id = "PATTERN_SECONDARY_"+clothing.hashCode() + "_" + c.toString();
 						if ((EventTarget) MainController.document.getElementById(id) != null) {
-							((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+							MainController.addEventListener(MainController.document, id, "click", e -> {
 								InventoryDialogue.dyePreviewPatternSecondary = c;
 								Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 							}, false);
@@ -4796,7 +4803,7 @@ public class MainControllerInitMethod {
 					for (Colour c : ColourListPresets.ALL) {
 						id = "PATTERN_TERTIARY_"+clothing.hashCode() + "_" + c.toString();
 						if ((EventTarget) MainController.document.getElementById(id) != null) {
-							((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+							MainController.addEventListener(MainController.document, id, "click", e -> {
 								InventoryDialogue.dyePreviewPatternTertiary = c;
 								Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 							}, false);
@@ -4811,7 +4818,7 @@ public class MainControllerInitMethod {
 				for (Colour c : weapon.getAllAvailablePrimaryColours()) {
 					id = "PRIMARY_"+weapon.hashCode() + "_" + c.toString();
 					if ((EventTarget) MainController.document.getElementById(id) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							InventoryDialogue.dyePreviewPrimary = c;
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -4825,7 +4832,7 @@ public class MainControllerInitMethod {
 				for (Colour c : weapon.getAllAvailableSecondaryColours()) {
 					id = "SECONDARY_"+weapon.hashCode() + "_" + c.toString();
 					if ((EventTarget) MainController.document.getElementById(id) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							InventoryDialogue.dyePreviewSecondary = c;
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -4839,7 +4846,7 @@ public class MainControllerInitMethod {
 				for (Colour c : weapon.getAllAvailableTertiaryColours()) {
 					id = "TERTIARY_"+weapon.hashCode() + "_" + c.toString();
 					if ((EventTarget) MainController.document.getElementById(id) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							InventoryDialogue.dyePreviewTertiary = c;
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -4853,7 +4860,7 @@ public class MainControllerInitMethod {
 				for (DamageType dt : weapon.getAvailableDamageTypes()) {
 					id = "DAMAGE_TYPE_"+weapon.hashCode() + "_" + dt.toString();
 					if ((EventTarget) MainController.document.getElementById(id) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							InventoryDialogue.damageTypePreview = dt;
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 						}, false);
@@ -4866,37 +4873,48 @@ public class MainControllerInitMethod {
 				}
 			}
 			
+			// Generic clothing, item, and weapon tooltips are resolved when an element is first hovered over, rather than every colour of every type of clothing being looked up in the document:
+			Map<String, AbstractClothingType> clothingByHashCode = new HashMap<>();
 			for (AbstractClothingType clothing : ClothingType.getAllClothing()) {
-				for (Colour colour : clothing.getAllAvailablePrimaryColours()) {
-					if ((EventTarget) MainController.document.getElementById(clothing.hashCode() + "_" + colour.toString()) != null) {
-						MainController.addEventListener(MainController.document, clothing.hashCode() + "_" + colour.toString(), "mousemove", MainController.moveTooltipListener, false);
-						MainController.addEventListener(MainController.document, clothing.hashCode() + "_" + colour.toString(), "mouseleave", MainController.hideTooltipListener, false);
-						TooltipInventoryEventListener el2 = new TooltipInventoryEventListener().setGenericClothing(clothing, colour);
-						MainController.addEventListener(MainController.document, clothing.hashCode() + "_" + colour.toString(), "mouseenter", el2, false);
+				clothingByHashCode.put(String.valueOf(clothing.hashCode()), clothing);
+			}
+			MainController.addTooltipListenerResolver(MainController.document, elementId -> {
+				int split = elementId.indexOf('_');
+				AbstractClothingType clothing = split<0 ? null : clothingByHashCode.get(elementId.substring(0, split));
+				if(clothing!=null) {
+					for (Colour colour : clothing.getAllAvailablePrimaryColours()) {
+						if(colour.toString().equals(elementId.substring(split+1))) {
+							return new TooltipInventoryEventListener().setGenericClothing(clothing, colour);
+						}
 					}
 				}
-			}
+				return null;
+			});
 			
-			for (AbstractItemType item : ItemType.getAllItems()) {
-				id = ItemType.getItemToIdMap().get(item);
-				if ((EventTarget) MainController.document.getElementById(id) != null) {
-					MainController.addEventListener(MainController.document, id, "mousemove", MainController.moveTooltipListener, false);
-					MainController.addEventListener(MainController.document, id, "mouseleave", MainController.hideTooltipListener, false);
-					TooltipInventoryEventListener el2 = new TooltipInventoryEventListener().setGenericItem(item);
-					MainController.addEventListener(MainController.document, id, "mouseenter", el2, false);
+			MainController.addTooltipListenerResolver(MainController.document, elementId -> {
+				AbstractItemType item = ItemType.getIdToItemMap().get(elementId);
+				if(item!=null && elementId.equals(ItemType.getItemToIdMap().get(item))) {
+					return new TooltipInventoryEventListener().setGenericItem(item);
 				}
-			}
+				return null;
+			});
 			
+			Map<String, AbstractWeaponType> weaponsByHashCode = new HashMap<>();
 			for (AbstractWeaponType weapon : WeaponType.getAllWeapons()) {
-				for (DamageType dt : weapon.getAvailableDamageTypes()) {
-					if ((EventTarget) MainController.document.getElementById(weapon.hashCode() + "_" + dt.toString()) != null) {
-						MainController.addEventListener(MainController.document, weapon.hashCode() + "_" + dt.toString(), "mousemove", MainController.moveTooltipListener, false);
-						MainController.addEventListener(MainController.document, weapon.hashCode() + "_" + dt.toString(), "mouseleave", MainController.hideTooltipListener, false);
-						TooltipInventoryEventListener el2 = new TooltipInventoryEventListener().setGenericWeapon(weapon, dt);
-						MainController.addEventListener(MainController.document, weapon.hashCode() + "_" + dt.toString(), "mouseenter", el2, false);
+				weaponsByHashCode.put(String.valueOf(weapon.hashCode()), weapon);
+			}
+			MainController.addTooltipListenerResolver(MainController.document, elementId -> {
+				int split = elementId.indexOf('_');
+				AbstractWeaponType weapon = split<0 ? null : weaponsByHashCode.get(elementId.substring(0, split));
+				if(weapon!=null) {
+					for (DamageType dt : weapon.getAvailableDamageTypes()) {
+						if(dt.toString().equals(elementId.substring(split+1))) {
+							return new TooltipInventoryEventListener().setGenericWeapon(weapon, dt);
+						}
 					}
 				}
-			}
+				return null;
+			});
 			
 			if (Main.game.getCurrentDialogueNode() == SpellManagement.CHARACTER_SPELLS_ARCANE
 					|| Main.game.getCurrentDialogueNode() == SpellManagement.CHARACTER_SPELLS_EARTH
@@ -4919,7 +4937,7 @@ public class MainControllerInitMethod {
 								MainController.addEventListener(MainController.document, id, "mouseleave", MainController.hideTooltipListener, false);
 								MainController.addEventListener(MainController.document, id, "mouseenter", new TooltipInformationEventListener().setSpellUpgrade(upgrade.getEntry(), SpellManagement.getTarget()), false);
 								
-								((EventTarget) MainController.document.getElementById(id)).addEventListener("click", event -> {
+								MainController.addEventListener(MainController.document, id, "click", event -> {
 									if(Spell.isSpellUpgradeAvailable(SpellManagement.getTarget(), s, upgrade) && SpellManagement.getTarget().getSpellUpgradePoints(upgrade.getCategory())>=upgrade.getEntry().getPointCost()) {
 										SpellManagement.getTarget().addSpellUpgrade(upgrade.getEntry());
 										SpellManagement.getTarget().incrementSpellUpgradePoints(upgrade.getCategory(), -upgrade.getEntry().getPointCost());
@@ -4963,7 +4981,7 @@ public class MainControllerInitMethod {
 
 						
 						if(availableForSelection) {
-							((EventTarget) MainController.document.getElementById(id)).addEventListener("click", event -> {
+							MainController.addEventListener(MainController.document, id, "click", event -> {
 								character.removeTrait(perk);
 								Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 							}, false);
@@ -4996,7 +5014,7 @@ public class MainControllerInitMethod {
 					MainController.addEventListener(MainController.document, id, "mouseleave", MainController.hideTooltipListener, false);
 					MainController.addEventListener(MainController.document, id, "mouseenter", new TooltipInformationEventListener().setCombatMove(move, character), false);
 
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", event -> {
+					MainController.addEventListener(MainController.document, id, "click", event -> {
 						if(character.getEquippedMoves().contains(move)) {
 							character.unequipMove(move.getIdentifier());
 							
@@ -5037,7 +5055,7 @@ public class MainControllerInitMethod {
 								MainController.addEventListener(MainController.document, id, "mouseenter", new TooltipInformationEventListener().setLevelUpPerk(i, e.getEntry(), character, availableForSelection), false);
 								// These two dialogues are just for viewing, not modifying:
 								if(availableForSelection) {
-									((EventTarget) MainController.document.getElementById(id)).addEventListener("click", event -> {
+									MainController.addEventListener(MainController.document, id, "click", event -> {
 										if(e.getEntry().isEquippableTrait() && PerkManager.MANAGER.isPerkOwned(character, e)) {
 											if(!character.hasTraitActivated(e.getEntry())) {
 												character.addTrait(e.getEntry());
@@ -5065,7 +5083,7 @@ public class MainControllerInitMethod {
 				for (Fetish f : Fetish.values()) {
 					id = "fetishUnlock" + f;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							if(Main.game.getPlayer().getEssenceCount(TFEssence.ARCANE)>=f.getCost() && f.getFetishesForAutomaticUnlock().isEmpty()) {
 								if(!Main.game.getPlayer().hasFetish(f)) {
 									Main.game.getPlayer().addFetish(f);
@@ -5090,7 +5108,7 @@ public class MainControllerInitMethod {
 					for (FetishDesire desire : FetishDesire.values()) {
 						id = f+"_"+desire;
 						if (((EventTarget) MainController.document.getElementById(id)) != null) {
-							((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+							MainController.addEventListener(MainController.document, id, "click", e -> {
 								if(Main.game.getPlayer().getEssenceCount(TFEssence.ARCANE)>=FetishDesire.getCostToChange()) {
 									if(Main.game.getPlayer().getBaseFetishDesire(f)!=desire) {
 										Main.game.getPlayer().incrementEssenceCount(TFEssence.ARCANE, -FetishDesire.getCostToChange(), false);
@@ -5166,7 +5184,7 @@ public class MainControllerInitMethod {
 					id = type.toString();
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
 						if(type.isAvailable(null, Main.game.getPlayer())) {
-							((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+							MainController.addEventListener(MainController.document, id, "click", e -> {
 								Pathing.initPathingVariables();
 								Pathing.setMapTravelType(type);
 								Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5193,26 +5211,26 @@ public class MainControllerInitMethod {
 		if (Main.game.getCurrentDialogueNode() == OptionsDialogue.KEYBINDS) {
 			for (KeyboardAction ka : KeyboardAction.values()) {
 				if (((EventTarget) MainController.document.getElementById("primary_" + ka)) != null)
-					((EventTarget) MainController.document.getElementById("primary_" + ka)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, "primary_" + ka, "click", e -> {
 						MainController.actionToBind = ka;
 						MainController.primaryBinding = true;
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				if (((EventTarget) MainController.document.getElementById("primaryClear_" + ka)) != null)
-					((EventTarget) MainController.document.getElementById("primaryClear_" + ka)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, "primaryClear_" + ka, "click", e -> {
 						Main.getProperties().hotkeyMapPrimary.put(ka, null);
 						Main.saveProperties();
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 
 				if (((EventTarget) MainController.document.getElementById("secondary_" + ka)) != null)
-					((EventTarget) MainController.document.getElementById("secondary_" + ka)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, "secondary_" + ka, "click", e -> {
 						MainController.actionToBind = ka;
 						MainController.primaryBinding = false;
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 					}, false);
 				if (((EventTarget) MainController.document.getElementById("secondaryClear_" + ka)) != null)
-					((EventTarget) MainController.document.getElementById("secondaryClear_" + ka)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, "secondaryClear_" + ka, "click", e -> {
 						Main.getProperties().hotkeyMapSecondary.put(ka, null);
 						Main.saveProperties();
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5226,7 +5244,7 @@ public class MainControllerInitMethod {
 			for (Gender g : Gender.values()) {
 				for(ContentPreferenceValue preference : ContentPreferenceValue.values()) {
 					if (((EventTarget) MainController.document.getElementById(preference+"_"+g)) != null) {
-						((EventTarget) MainController.document.getElementById(preference+"_"+g)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, preference+"_"+g, "click", e -> {
 							Main.getProperties().genderPreferencesMap.put(g, preference.getValue());
 							Main.saveProperties();
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5241,7 +5259,7 @@ public class MainControllerInitMethod {
 			for (SexualOrientation o : SexualOrientation.values()) {
 				for(SexualOrientationPreference preference : SexualOrientationPreference.values()) {
 					if (((EventTarget) MainController.document.getElementById(preference+"_"+o)) != null) {
-						((EventTarget) MainController.document.getElementById(preference+"_"+o)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, preference+"_"+o, "click", e -> {
 							Main.getProperties().orientationPreferencesMap.put(o, preference.getValue());
 							Main.saveProperties();
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5257,7 +5275,7 @@ public class MainControllerInitMethod {
 				for(PronounType pronoun : PronounType.values()) {
 					for(ContentPreferenceValue preference : ContentPreferenceValue.values()) {
 						if (((EventTarget) MainController.document.getElementById(pronoun+"_"+preference+"_"+ageCat)) != null) {
-							((EventTarget) MainController.document.getElementById(pronoun+"_"+preference+"_"+ageCat)).addEventListener("click", e -> {
+							MainController.addEventListener(MainController.document, pronoun+"_"+preference+"_"+ageCat, "click", e -> {
 								Main.getProperties().agePreferencesMap.get(pronoun).put(ageCat, preference.getValue());
 								Main.saveProperties();
 								Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5284,7 +5302,7 @@ public class MainControllerInitMethod {
 			
 			// Human encounter rates:
 			if (((EventTarget) MainController.document.getElementById("furry_preference_human_encounter_zero")) != null) {
-				((EventTarget) MainController.document.getElementById("furry_preference_human_encounter_zero")).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, "furry_preference_human_encounter_zero", "click", e -> {
 					Main.getProperties().humanEncountersLevel=0;
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5296,7 +5314,7 @@ public class MainControllerInitMethod {
 				MainController.addEventListener(MainController.document, "furry_preference_human_encounter_zero", "mouseenter", el, false);
 			}
 			if (((EventTarget) MainController.document.getElementById("furry_preference_human_encounter_one")) != null) {
-				((EventTarget) MainController.document.getElementById("furry_preference_human_encounter_one")).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, "furry_preference_human_encounter_one", "click", e -> {
 					Main.getProperties().humanEncountersLevel=1;
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5309,7 +5327,7 @@ public class MainControllerInitMethod {
 				MainController.addEventListener(MainController.document, "furry_preference_human_encounter_one", "mouseenter", el, false);
 			}
 			if (((EventTarget) MainController.document.getElementById("furry_preference_human_encounter_two")) != null) {
-				((EventTarget) MainController.document.getElementById("furry_preference_human_encounter_two")).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, "furry_preference_human_encounter_two", "click", e -> {
 					Main.getProperties().humanEncountersLevel=2;
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5322,7 +5340,7 @@ public class MainControllerInitMethod {
 				MainController.addEventListener(MainController.document, "furry_preference_human_encounter_two", "mouseenter", el, false);
 			}
 			if (((EventTarget) MainController.document.getElementById("furry_preference_human_encounter_three")) != null) {
-				((EventTarget) MainController.document.getElementById("furry_preference_human_encounter_three")).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, "furry_preference_human_encounter_three", "click", e -> {
 					Main.getProperties().humanEncountersLevel=3;
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5335,7 +5353,7 @@ public class MainControllerInitMethod {
 				MainController.addEventListener(MainController.document, "furry_preference_human_encounter_three", "mouseenter", el, false);
 			}
 			if (((EventTarget) MainController.document.getElementById("furry_preference_human_encounter_four")) != null) {
-				((EventTarget) MainController.document.getElementById("furry_preference_human_encounter_four")).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, "furry_preference_human_encounter_four", "click", e -> {
 					Main.getProperties().humanEncountersLevel=4;
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5350,7 +5368,7 @@ public class MainControllerInitMethod {
 			
 			// Taur furry spawns:
 			if (((EventTarget) MainController.document.getElementById("taur_furry_preference_zero")) != null) {
-				((EventTarget) MainController.document.getElementById("taur_furry_preference_zero")).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, "taur_furry_preference_zero", "click", e -> {
 					Main.getProperties().taurFurryLevel=0;
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5363,7 +5381,7 @@ public class MainControllerInitMethod {
 				MainController.addEventListener(MainController.document, "taur_furry_preference_zero", "mouseenter", el, false);
 			}
 			if (((EventTarget) MainController.document.getElementById("taur_furry_preference_one")) != null) {
-				((EventTarget) MainController.document.getElementById("taur_furry_preference_one")).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, "taur_furry_preference_one", "click", e -> {
 					Main.getProperties().taurFurryLevel=1;
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5376,7 +5394,7 @@ public class MainControllerInitMethod {
 				MainController.addEventListener(MainController.document, "taur_furry_preference_one", "mouseenter", el, false);
 			}
 			if (((EventTarget) MainController.document.getElementById("taur_furry_preference_two")) != null) {
-				((EventTarget) MainController.document.getElementById("taur_furry_preference_two")).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, "taur_furry_preference_two", "click", e -> {
 					Main.getProperties().taurFurryLevel=2;
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5389,7 +5407,7 @@ public class MainControllerInitMethod {
 				MainController.addEventListener(MainController.document, "taur_furry_preference_two", "mouseenter", el, false);
 			}
 			if (((EventTarget) MainController.document.getElementById("taur_furry_preference_three")) != null) {
-				((EventTarget) MainController.document.getElementById("taur_furry_preference_three")).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, "taur_furry_preference_three", "click", e -> {
 					Main.getProperties().taurFurryLevel=3;
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5402,7 +5420,7 @@ public class MainControllerInitMethod {
 				MainController.addEventListener(MainController.document, "taur_furry_preference_three", "mouseenter", el, false);
 			}
 			if (((EventTarget) MainController.document.getElementById("taur_furry_preference_four")) != null) {
-				((EventTarget) MainController.document.getElementById("taur_furry_preference_four")).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, "taur_furry_preference_four", "click", e -> {
 					Main.getProperties().taurFurryLevel=4;
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5418,7 +5436,7 @@ public class MainControllerInitMethod {
 			// Forced TF racial limits:
 			id = "forced_tf_limit_human";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().setForcedTFPreference(FurryPreference.HUMAN);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5432,7 +5450,7 @@ public class MainControllerInitMethod {
 			}
 			id = "forced_tf_limit_minimum";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().setForcedTFPreference(FurryPreference.MINIMUM);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5446,7 +5464,7 @@ public class MainControllerInitMethod {
 			}
 			id = "forced_tf_limit_reduced";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().setForcedTFPreference(FurryPreference.REDUCED);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5460,7 +5478,7 @@ public class MainControllerInitMethod {
 			}
 			id = "forced_tf_limit_normal";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().setForcedTFPreference(FurryPreference.NORMAL);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5474,7 +5492,7 @@ public class MainControllerInitMethod {
 			}
 			id = "forced_tf_limit_maximum";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().setForcedTFPreference(FurryPreference.MAXIMUM);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5492,7 +5510,7 @@ public class MainControllerInitMethod {
 			for(FurryPreference preference : FurryPreference.values()) {
 				id = "ALL_FURRY_"+preference;
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						for (Subspecies subspecies : Subspecies.values()) {
 							Main.getProperties().setFeminineFurryPreference(subspecies, preference);
 							Main.getProperties().setMasculineFurryPreference(subspecies, preference);
@@ -5505,7 +5523,7 @@ public class MainControllerInitMethod {
 			for(SubspeciesPreference preference : SubspeciesPreference.values()) {
 				id = "ALL_SPAWN_"+preference;
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						for (Subspecies subspecies : Subspecies.values()) {
 							Main.getProperties().setFeminineSubspeciesPreference(subspecies, preference);
 							Main.getProperties().setMasculineSubspeciesPreference(subspecies, preference);
@@ -5522,7 +5540,7 @@ public class MainControllerInitMethod {
 					id = "FEMININE_" + preference+"_"+s;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
 						if(s.isFurryPreferencesEnabled()) {
-							((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+							MainController.addEventListener(MainController.document, id, "click", e -> {
 								Main.getProperties().setFeminineFurryPreference(s, preference);
 								Main.saveProperties();
 								Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5540,7 +5558,7 @@ public class MainControllerInitMethod {
 					}
 					id = "MASCULINE_" + preference+"_"+s;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							if(s.isFurryPreferencesEnabled()) {
 								Main.getProperties().setMasculineFurryPreference(s, preference);
 								Main.saveProperties();
@@ -5561,7 +5579,7 @@ public class MainControllerInitMethod {
 				for(SubspeciesPreference preference : SubspeciesPreference.values()) {
 					id = "FEMININE_SPAWN_" + preference+"_"+s;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							Main.getProperties().setFeminineSubspeciesPreference(s, preference);
 							Main.saveProperties();
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5577,7 +5595,7 @@ public class MainControllerInitMethod {
 					}
 					id = "MASCULINE_SPAWN_" + preference+"_"+s;
 					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							Main.getProperties().setMasculineSubspeciesPreference(s, preference);
 							Main.saveProperties();
 							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5598,7 +5616,7 @@ public class MainControllerInitMethod {
 //				for(SubspeciesPreference preference : SubspeciesPreference.values()) {
 //					id = "FEMININE_" + preference+"_"+s;
 //					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-//						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+//						MainController.addEventListener(MainController.document, id, "click", e -> {
 //							Main.getProperties().subspeciesFemininePreferencesMap.put(s, preference);
 //							Main.saveProperties();
 //							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5611,7 +5629,7 @@ public class MainControllerInitMethod {
 //					}
 //					id = "MASCULINE_" + preference+"_"+s;
 //					if (((EventTarget) MainController.document.getElementById(id)) != null) {
-//						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+//						MainController.addEventListener(MainController.document, id, "click", e -> {
 //							Main.getProperties().subspeciesFemininePreferencesMap.put(s, preference);
 //							Main.saveProperties();
 //							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5631,7 +5649,7 @@ public class MainControllerInitMethod {
 //			for (Subspecies s : Subspecies.values()) {
 //				for(SubspeciesPreference preference : SubspeciesPreference.values()) {
 //					if (((EventTarget) MainController.document.getElementById(preference+"_"+s)) != null) {
-//						((EventTarget) MainController.document.getElementById(preference+"_"+s)).addEventListener("click", e -> {
+//						MainController.addEventListener(MainController.document, preference+"_"+s, "click", e -> {
 //							Main.getProperties().subspeciesPreferencesMap.put(s, preference);
 //							Main.saveProperties();
 //							Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5683,7 +5701,7 @@ public class MainControllerInitMethod {
 			for(Artist artist : Artwork.allArtists) {
 				id = "ARTIST_"+artist.getFolderName();
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						Main.getProperties().preferredArtist = artist.getFolderName();
 						Main.saveProperties();
 						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5717,6 +5735,8 @@ public class MainControllerInitMethod {
 					new Value<>("THUMBNAIL", PropertyValue.thumbnail),
 					new Value<>("SILLY", PropertyValue.sillyMode),
 					new Value<>("AUTO_SEX_CLOTHING_MANAGEMENT", PropertyValue.autoSexClothingManagement),
+					new Value<>("BACKGROUND_SAVING", PropertyValue.backgroundSaving),
+					new Value<>("DIALOGUE_RELOADING", PropertyValue.dialogueReloading),
 					new Value<>("NON_CON", PropertyValue.nonConContent),
 					new Value<>("SADISTIC_SEX", PropertyValue.sadisticSexContent),
 					new Value<>("VOLUNTARY_NTR", PropertyValue.voluntaryNTR),
@@ -5751,7 +5771,7 @@ public class MainControllerInitMethod {
 
 			id = "FORCED_TF_ON";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().forcedTFPercentage = Math.min(100, Main.getProperties().forcedTFPercentage+10);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5759,7 +5779,7 @@ public class MainControllerInitMethod {
 			}
 			id = "FORCED_TF_OFF";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().forcedTFPercentage = Math.max(0, Main.getProperties().forcedTFPercentage-10);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5769,7 +5789,7 @@ public class MainControllerInitMethod {
 
 			id = "PREGNANCY_BREAST_GROWTH_ON";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().pregnancyBreastGrowth = Math.min(10, Main.getProperties().pregnancyBreastGrowth+1);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5777,7 +5797,7 @@ public class MainControllerInitMethod {
 			}
 			id = "PREGNANCY_BREAST_GROWTH_OFF";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().pregnancyBreastGrowth = Math.max(0, Main.getProperties().pregnancyBreastGrowth-1);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5785,7 +5805,7 @@ public class MainControllerInitMethod {
 			}
 			id = "PREGNANCY_BREAST_GROWTH_UDDERS_ON";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().pregnancyUdderGrowth = Math.min(10, Main.getProperties().pregnancyUdderGrowth+1);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5793,7 +5813,7 @@ public class MainControllerInitMethod {
 			}
 			id = "PREGNANCY_BREAST_GROWTH_UDDERS_OFF";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().pregnancyUdderGrowth = Math.max(0, Main.getProperties().pregnancyUdderGrowth-1);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5802,7 +5822,7 @@ public class MainControllerInitMethod {
 			
 			id = "PREGNANCY_BREAST_GROWTH_LIMIT_ON";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().pregnancyBreastGrowthLimit = Math.min(CupSize.getCupSizeFromInt(100).getMeasurement(), Main.getProperties().pregnancyBreastGrowthLimit+1);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5810,7 +5830,7 @@ public class MainControllerInitMethod {
 			}
 			id = "PREGNANCY_BREAST_GROWTH_LIMIT_OFF";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().pregnancyBreastGrowthLimit = Math.max(0, Main.getProperties().pregnancyBreastGrowthLimit-1);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5818,7 +5838,7 @@ public class MainControllerInitMethod {
 			}
 			id = "PREGNANCY_BREAST_GROWTH_LIMIT_UDDERS_ON";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().pregnancyUdderGrowthLimit = Math.min(CupSize.getCupSizeFromInt(100).getMeasurement(), Main.getProperties().pregnancyUdderGrowthLimit+1);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5826,7 +5846,7 @@ public class MainControllerInitMethod {
 			}
 			id = "PREGNANCY_BREAST_GROWTH_LIMIT_UDDERS_OFF";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().pregnancyUdderGrowthLimit = Math.max(0, Main.getProperties().pregnancyUdderGrowthLimit-1);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5835,7 +5855,7 @@ public class MainControllerInitMethod {
 			
 			id = "PREGNANCY_LACTATION_ON";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().pregnancyLactationIncrease = Math.min(1000, Main.getProperties().pregnancyLactationIncrease+50);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5843,7 +5863,7 @@ public class MainControllerInitMethod {
 			}
 			id = "PREGNANCY_LACTATION_OFF";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().pregnancyLactationIncrease = Math.max(0, Main.getProperties().pregnancyLactationIncrease-50);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5851,7 +5871,7 @@ public class MainControllerInitMethod {
 			}
 			id = "PREGNANCY_LACTATION_UDDERS_ON";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().pregnancyUdderLactationIncrease = Math.min(1000, Main.getProperties().pregnancyUdderLactationIncrease+50);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5859,7 +5879,7 @@ public class MainControllerInitMethod {
 			}
 			id = "PREGNANCY_LACTATION_UDDERS_OFF";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().pregnancyUdderLactationIncrease = Math.max(0, Main.getProperties().pregnancyUdderLactationIncrease-50);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5868,7 +5888,7 @@ public class MainControllerInitMethod {
 			
 			id = "PREGNANCY_LACTATION_LIMIT_ON";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().pregnancyLactationLimit = Math.min(Lactation.SEVEN_MONSTROUS_AMOUNT_POURING.getMaximumValue(), Main.getProperties().pregnancyLactationLimit+500);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5876,7 +5896,7 @@ public class MainControllerInitMethod {
 			}
 			id = "PREGNANCY_LACTATION_LIMIT_OFF";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().pregnancyLactationLimit = Math.max(0, Main.getProperties().pregnancyLactationLimit-500);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5884,7 +5904,7 @@ public class MainControllerInitMethod {
 			}
 			id = "PREGNANCY_LACTATION_LIMIT_UDDERS_ON";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().pregnancyUdderLactationLimit = Math.min(Lactation.SEVEN_MONSTROUS_AMOUNT_POURING.getMaximumValue(), Main.getProperties().pregnancyUdderLactationLimit+500);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5892,7 +5912,7 @@ public class MainControllerInitMethod {
 			}
 			id = "PREGNANCY_LACTATION_LIMIT_UDDERS_OFF";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().pregnancyUdderLactationLimit = Math.max(0, Main.getProperties().pregnancyUdderLactationLimit-500);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5902,7 +5922,7 @@ public class MainControllerInitMethod {
 			
 			id = "BREAST_SIZE_PREFERENCE_ON";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().breastSizePreference = Math.min(20, Main.getProperties().breastSizePreference+1);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5910,7 +5930,7 @@ public class MainControllerInitMethod {
 			}
 			id = "BREAST_SIZE_PREFERENCE_OFF";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().breastSizePreference = Math.max(-20, Main.getProperties().breastSizePreference-1);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5918,7 +5938,7 @@ public class MainControllerInitMethod {
 			}
 			id = "BREAST_SIZE_PREFERENCE_UDDERS_ON";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().udderSizePreference = Math.min(20, Main.getProperties().udderSizePreference+1);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5926,7 +5946,7 @@ public class MainControllerInitMethod {
 			}
 			id = "BREAST_SIZE_PREFERENCE_UDDERS_OFF";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().udderSizePreference = Math.max(-20, Main.getProperties().udderSizePreference-1);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5936,7 +5956,7 @@ public class MainControllerInitMethod {
 			
 			id = "PENIS_SIZE_PREFERENCE_ON";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().penisSizePreference = Math.min(20, Main.getProperties().penisSizePreference+1);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5944,7 +5964,7 @@ public class MainControllerInitMethod {
 			}
 			id = "PENIS_SIZE_PREFERENCE_OFF";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().penisSizePreference = Math.max(-20, Main.getProperties().penisSizePreference-1);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5955,7 +5975,7 @@ public class MainControllerInitMethod {
 			
 			id = "FORCED_FETISH_ON";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().forcedFetishPercentage = Math.min(100, Main.getProperties().forcedFetishPercentage+10);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5963,7 +5983,7 @@ public class MainControllerInitMethod {
 			}
 			id = "FORCED_FETISH_OFF";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().forcedFetishPercentage = Math.max(0, Main.getProperties().forcedFetishPercentage-10);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5974,7 +5994,7 @@ public class MainControllerInitMethod {
 			// Forced TF Tendency setting events
 			id = "FORCED_TF_TENDENCY_"+ForcedTFTendency.NEUTRAL;
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().setForcedTFTendency(ForcedTFTendency.NEUTRAL);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -5991,7 +6011,7 @@ public class MainControllerInitMethod {
 			
 			id = "FORCED_TF_TENDENCY_"+ForcedTFTendency.FEMININE;
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().setForcedTFTendency(ForcedTFTendency.FEMININE);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -6006,7 +6026,7 @@ public class MainControllerInitMethod {
 			
 			id = "FORCED_TF_TENDENCY_"+ForcedTFTendency.FEMININE_HEAVY;
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().setForcedTFTendency(ForcedTFTendency.FEMININE_HEAVY);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -6021,7 +6041,7 @@ public class MainControllerInitMethod {
 			
 			id = "FORCED_TF_TENDENCY_"+ForcedTFTendency.MASCULINE;
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().setForcedTFTendency(ForcedTFTendency.MASCULINE);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -6036,7 +6056,7 @@ public class MainControllerInitMethod {
 			
 			id = "FORCED_TF_TENDENCY_"+ForcedTFTendency.MASCULINE_HEAVY;
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().setForcedTFTendency(ForcedTFTendency.MASCULINE_HEAVY);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -6052,7 +6072,7 @@ public class MainControllerInitMethod {
 			// Forced Fetish Tendency setting events
 			id = "FORCED_FETISH_TENDENCY_"+ForcedFetishTendency.NEUTRAL;
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().setForcedFetishTendency(ForcedFetishTendency.NEUTRAL);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -6069,7 +6089,7 @@ public class MainControllerInitMethod {
 			
 			id = "FORCED_FETISH_TENDENCY_"+ForcedFetishTendency.BOTTOM;
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().setForcedFetishTendency(ForcedFetishTendency.BOTTOM);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -6084,7 +6104,7 @@ public class MainControllerInitMethod {
 			
 			id = "FORCED_FETISH_TENDENCY_"+ForcedFetishTendency.BOTTOM_HEAVY;
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().setForcedFetishTendency(ForcedFetishTendency.BOTTOM_HEAVY);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -6099,7 +6119,7 @@ public class MainControllerInitMethod {
 			
 			id = "FORCED_FETISH_TENDENCY_"+ForcedFetishTendency.TOP;
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().setForcedFetishTendency(ForcedFetishTendency.TOP);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -6114,7 +6134,7 @@ public class MainControllerInitMethod {
 			
 			id = "FORCED_FETISH_TENDENCY_"+ForcedFetishTendency.TOP_HEAVY;
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.getProperties().setForcedFetishTendency(ForcedFetishTendency.TOP_HEAVY);
 					Main.saveProperties();
 					Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -6136,7 +6156,7 @@ public class MainControllerInitMethod {
 				
 				id = "overwrite_saved_" + fileIdentifier;
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						
 						if(!Main.getProperties().hasValue(PropertyValue.overwriteWarning) || OptionsDialogue.overwriteConfirmationName.equals(f.getName())) {
 							OptionsDialogue.overwriteConfirmationName = "";
@@ -6167,7 +6187,7 @@ public class MainControllerInitMethod {
 				}
 				id = "load_saved_" + fileIdentifier;
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						
 						if(!Main.getProperties().hasValue(PropertyValue.overwriteWarning) || OptionsDialogue.loadConfirmationName.equals(f.getName())) {
 							OptionsDialogue.loadConfirmationName = "";
@@ -6189,7 +6209,7 @@ public class MainControllerInitMethod {
 				}
 				id = "delete_saved_" + fileIdentifier;
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						
 						if(!Main.getProperties().hasValue(PropertyValue.overwriteWarning) || OptionsDialogue.deleteConfirmationName.equals(f.getName())) {
 							OptionsDialogue.deleteConfirmationName = "";
@@ -6211,7 +6231,7 @@ public class MainControllerInitMethod {
 			}
 			id = "new_saved";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {//TODO
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.mainController.getWebEngine().executeScript("document.getElementById('hiddenPField').innerHTML=document.getElementById('new_save_name').value;");
 					Main.saveGame(Main.mainController.getWebEngine().getDocument().getElementById("hiddenPField").getTextContent(), false);
 					
@@ -6242,7 +6262,7 @@ public class MainControllerInitMethod {
 				
 				id = "delete_saved_character_" + fileIdentifier;
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						
 						if(!Main.getProperties().hasValue(PropertyValue.overwriteWarning) || OptionsDialogue.deleteConfirmationName.equals(f.getName())) {
 							OptionsDialogue.deleteConfirmationName = "";
@@ -6263,7 +6283,7 @@ public class MainControllerInitMethod {
 				}
 			}
 			if (((EventTarget) MainController.document.getElementById("new_saved")) != null) {
-				((EventTarget) MainController.document.getElementById("new_saved")).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, "new_saved", "click", e -> {
 					Main.mainController.getWebEngine().executeScript("document.getElementById('hiddenPField').innerHTML=document.getElementById('new_save_name').value;");
 					Main.saveGame(Main.mainController.getWebEngine().getDocument().getElementById("hiddenPField").getTextContent(), false);
 					
@@ -6276,7 +6296,7 @@ public class MainControllerInitMethod {
 				String fileIdentifier = Util.getFileIdentifier(f);
 				
 				if (((EventTarget) MainController.document.getElementById("character_import_" + fileIdentifier )) != null) {
-					((EventTarget) MainController.document.getElementById("character_import_" + fileIdentifier )).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, "character_import_" + fileIdentifier , "click", e -> {
 						Main.importCharacter(f);
 						
 					}, false);
@@ -6291,7 +6311,7 @@ public class MainControllerInitMethod {
 				String fileName = Util.getFileName(f);
 				
 				if (((EventTarget) MainController.document.getElementById("import_slave_" + fileIdentifier )) != null) {
-					((EventTarget) MainController.document.getElementById("import_slave_" + fileIdentifier )).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, "import_slave_" + fileIdentifier , "click", e -> {
 						
 						try {
 							Game.importCharacterAsSlave(fileName);
@@ -6312,7 +6332,7 @@ public class MainControllerInitMethod {
 				id = npc.getId()+"_BID";
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
 					if(Main.game.getPlayer().isHasSlaverLicense()) {
-						((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+						MainController.addEventListener(MainController.document, id, "click", e -> {
 							SlaverAlleyDialogue.setupBidding(npc);
 							Main.game.setContent(new Response("", "", SlaverAlleyDialogue.AUCTION_BIDDING));
 						}, false);
@@ -6345,7 +6365,7 @@ public class MainControllerInitMethod {
 				
 				id = "overwrite_saved_" + fileIdentifier;
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						
 						if(!Main.getProperties().hasValue(PropertyValue.overwriteWarning) || EnchantmentDialogue.overwriteConfirmationName.equals(f.getName())) {
 							EnchantmentDialogue.overwriteConfirmationName = "";
@@ -6368,7 +6388,7 @@ public class MainControllerInitMethod {
 				}
 				id = "load_saved_" + fileIdentifier;
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						
 						if(!Main.getProperties().hasValue(PropertyValue.overwriteWarning) || EnchantmentDialogue.loadConfirmationName.equals(f.getName())) {
 							EnchantmentDialogue.loadConfirmationName = "";
@@ -6399,7 +6419,7 @@ public class MainControllerInitMethod {
 				}
 				id = "delete_saved_" + fileIdentifier;
 				if (((EventTarget) MainController.document.getElementById(id)) != null) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						
 						if(!Main.getProperties().hasValue(PropertyValue.overwriteWarning) || EnchantmentDialogue.deleteConfirmationName.equals(f.getName())) {
 							EnchantmentDialogue.deleteConfirmationName = "";
@@ -6425,7 +6445,7 @@ public class MainControllerInitMethod {
 			
 			id = "new_saved";
 			if (((EventTarget) MainController.document.getElementById(id)) != null) {
-				((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+				MainController.addEventListener(MainController.document, id, "click", e -> {
 					Main.mainController.getWebEngine().executeScript("document.getElementById('hiddenPField').innerHTML=document.getElementById('new_save_name').value;");
 					EnchantmentDialogue.saveEnchant(Main.mainController.getWebEngine().getDocument().getElementById("hiddenPField").getTextContent(), false);
 					
@@ -6467,7 +6487,7 @@ public class MainControllerInitMethod {
 
 	private static void createToggleListener(String id, PropertyValue option, boolean value, Runnable action) {
 		if (MainController.document.getElementById(id) != null) {
-			((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+			MainController.addEventListener(MainController.document, id, "click", e -> {
 				Main.getProperties().setValue(option, value);
 				if (action != null) action.run();
 				Main.saveProperties();
@@ -6479,7 +6499,7 @@ public class MainControllerInitMethod {
 	static void setDiceHandler(int i) {
 		String id = "DICE_PLAYER_"+i;
 		if (((EventTarget) MainController.document.getElementById(id)) != null) {
-			((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+			MainController.addEventListener(MainController.document, id, "click", e -> {
 				if(DicePoker.isAbleToSelectReroll()) {
 					DicePoker.setReroll(DicePoker.getPlayerDice().get(i));
 				}
@@ -6495,7 +6515,7 @@ public class MainControllerInitMethod {
 	}
 	
 	static void setMultiBreastPreference(String id, int i) {
-		((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+		MainController.addEventListener(MainController.document, id, "click", e -> {
 			Main.getProperties().multiBreasts=i;
 			Main.saveProperties();
 			Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -6508,7 +6528,7 @@ public class MainControllerInitMethod {
 	}
 
 	static void setUdderPreference(String id, int i) {
-		((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+		MainController.addEventListener(MainController.document, id, "click", e -> {
 			Main.getProperties().udders=i;
 			Main.saveProperties();
 			Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -6521,7 +6541,7 @@ public class MainControllerInitMethod {
 	}
 
 	static void setAutosavePreference(String id, int i) {
-		((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+		MainController.addEventListener(MainController.document, id, "click", e -> {
 			Main.getProperties().autoSaveFrequency=i;
 			Main.saveProperties();
 			Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
@@ -6571,7 +6591,7 @@ public class MainControllerInitMethod {
 				
 
 				if(canIngest) {
-					((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+					MainController.addEventListener(MainController.document, id, "click", e -> {
 						Main.game.getTextEndStringBuilder().append("<p>");
 						
 						if(MilkingRoom.getTargetedCharacter().isPlayer()) {
@@ -6707,7 +6727,7 @@ public class MainControllerInitMethod {
 		
 		String id = idModifier+"_SELL_"+fluid.hashCode();
 		if (((EventTarget) MainController.document.getElementById(id)) != null) {
-			((EventTarget) MainController.document.getElementById(id)).addEventListener("click", e -> {
+			MainController.addEventListener(MainController.document, id, "click", e -> {
 				int income = Math.max(1, (int)(fluid.getFluid().getValuePerMl()*fluid.getMillilitres()));
 				Main.game.getPlayer().incrementMoney(income);
 				room.getFluidsStored().remove(fluid);
@@ -0,0 +1,282 @@
+package com.lilithsthrone.controller.xmlParsing;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * A snapshot of every parsed definition file of one type of content (such as clothing), which is saved in 'data/cache/' so that the files don't need to be parsed again on the next start.<br/>
+ * <br/>
+ * The snapshot is keyed by a hash of the path, size, and last modified time of every one of the files, so if any file is added, removed, or changed, the whole snapshot is ignored
+ *  (and all of the files are parsed, after which the snapshot is written again).<br/>
+ * <br/>
+ * Each document is stored as a compact tree of its elements, attributes, text, and comments, which is much quicker to build a Document from than it is to parse the XML.
+ *  The snapshot is memory mapped when it's read, and each document is only built when it's needed.
+ *
+ * @since 0.3.5.8
+ * @version 0.3.5.8
+ * @author Innoxia
+ */
+final class ContentSnapshot {
+
+	private static final String CACHE_FOLDER = "data/cache/";
+
+	private static final int MAGIC = 0x4C54_4353; // 'LTCS'
+	/** Must be increased whenever the format of the snapshot changes. */
+	private static final int FORMAT_VERSION = 1;
+
+	private static final byte NODE_ELEMENT = 1;
+	private static final byte NODE_TEXT = 2;
+	private static final byte NODE_CDATA = 3;
+	private static final byte NODE_COMMENT = 4;
+
+	private final ByteBuffer buffer;
+	/** The position of each document in the buffer, by the absolute path of its file. */
+	private final Map<String, Integer> positions;
+
+	/**
+	 * @param positions The position in the buffer of each document, as returned by encode(), by the absolute path of its file.
+	 */
+	ContentSnapshot(ByteBuffer buffer, Map<String, Integer> positions) {
+		this.buffer = buffer;
+		this.positions = positions;
+	}
+
+	private static File getFile(String name) {
+		return new File(CACHE_FOLDER + name + ".bin");
+	}
+
+	/**
+	 * @return The hash of the path, size, and last modified time of each file.
+	 */
+	static byte[] getKey(List<File> files) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			ByteBuffer fileData = ByteBuffer.allocate(16);
+			for(File file : files) {
+				digest.update(file.getAbsolutePath().getBytes(StandardCharsets.UTF_8));
+				fileData.clear();
+				fileData.putLong(file.length()).putLong(file.lastModified());
+				digest.update(fileData.array());
+			}
+			return digest.digest();
+
+		} catch(NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * @return The snapshot with this name, or null if there isn't one, or if it was made from different files.
+	 */
+	static ContentSnapshot read(String name, byte[] key) {
+		File file = getFile(name);
+		if(!file.isFile()) {
+			return null;
+		}
+		try(RandomAccessFile raf = new RandomAccessFile(file, "r"); FileChannel channel = raf.getChannel()) {
+			// The header is checked before the file is mapped, as a mapped file can't be replaced (on some systems) until the mapping has been garbage collected:
+			if(raf.readInt()!=MAGIC || raf.readInt()!=FORMAT_VERSION) {
+				return null;
+			}
+			byte[] snapshotKey = new byte[key.length];
+			raf.readFully(snapshotKey);
+			if(!Arrays.equals(snapshotKey, key)) {
+				return null;
+			}
+
+			// The mapping stays valid after the channel is closed:
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			buffer.position(8+key.length);
+			
+			int count = buffer.getInt();
+			Map<String, Integer> positions = new HashMap<>();
+			for(int i=0; i<count; i++) {
+				String path = readString(buffer);
+				int length = buffer.getInt();
+				positions.put(path, buffer.position());
+				buffer.position(buffer.position()+length);
+			}
+			return new ContentSnapshot(buffer, positions);
+
+		} catch(Exception ex) {
+			System.err.println("ContentSnapshot: Could not read '"+file.getPath()+"', so all of its files will be parsed.");
+			ex.printStackTrace(System.err);
+			return null;
+		}
+	}
+
+	/**
+	 * @return A new Document which has the same contents as the one which was saved for this path, or null if there isn't one.
+	 */
+	Document getDocument(String path, Document emptyDocument) {
+		Integer position = positions.get(path);
+		if(position==null) {
+			return null;
+		}
+		// The buffer is shared between threads, so each one reads through its own view of it:
+		ByteBuffer view = buffer.duplicate();
+		view.position(position);
+		int childCount = view.getInt();
+		for(int i=0; i<childCount; i++) {
+			emptyDocument.appendChild(readNode(view, emptyDocument));
+		}
+		return emptyDocument;
+	}
+
+	private static Node readNode(ByteBuffer buffer, Document doc) {
+		byte type = buffer.get();
+		switch(type) {
+			case NODE_ELEMENT:
+				org.w3c.dom.Element element = doc.createElement(readString(buffer));
+				int attributeCount = buffer.getInt();
+				for(int i=0; i<attributeCount; i++) {
+					element.setAttribute(readString(buffer), readString(buffer));
+				}
+				int childCount = buffer.getInt();
+				for(int i=0; i<childCount; i++) {
+					element.appendChild(readNode(buffer, doc));
+				}
+				return element;
+			case NODE_TEXT:
+				return doc.createTextNode(readString(buffer));
+			case NODE_CDATA:
+				return doc.createCDATASection(readString(buffer));
+			case NODE_COMMENT:
+				return doc.createComment(readString(buffer));
+			default:
+				throw new IllegalStateException("Unknown node type: "+type);
+		}
+	}
+
+	private static String readString(ByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.getInt()];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * @return The document in the snapshot's format, or null if it contains something (such as an entity reference) which can't be saved, in which case the file will always be parsed.
+	 */
+	static byte[] encode(Document doc) {
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+			DataOutputStream out = new DataOutputStream(bytes);
+			NodeList children = doc.getChildNodes();
+			out.writeInt(children.getLength());
+			for(int i=0; i<children.getLength(); i++) {
+				if(!writeNode(out, children.item(i))) {
+					return null;
+				}
+			}
+			return bytes.toByteArray();
+
+		} catch(IOException ex) {
+			return null;
+		}
+	}
+
+	private static boolean writeNode(DataOutputStream out, Node node) throws IOException {
+		switch(node.getNodeType()) {
+			case Node.ELEMENT_NODE:
+				out.writeByte(NODE_ELEMENT);
+				writeString(out, node.getNodeName());
+				NamedNodeMap attributes = node.getAttributes();
+				out.writeInt(attributes.getLength());
+				for(int i=0; i<attributes.getLength(); i++) {
+					Attr attribute = (Attr) attributes.item(i);
+					writeString(out, attribute.getName());
+					writeString(out, attribute.getValue());
+				}
+				NodeList children = node.getChildNodes();
+				out.writeInt(children.getLength());
+				for(int i=0; i<children.getLength(); i++) {
+					if(!writeNode(out, children.item(i))) {
+						return false;
+					}
+				}
+				return true;
+			case Node.TEXT_NODE:
+				out.writeByte(NODE_TEXT);
+				writeString(out, node.getNodeValue());
+				return true;
+			case Node.CDATA_SECTION_NODE:
+				out.writeByte(NODE_CDATA);
+				writeString(out, node.getNodeValue());
+				return true;
+			case Node.COMMENT_NODE:
+				out.writeByte(NODE_COMMENT);
+				writeString(out, node.getNodeValue());
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	private static void writeString(DataOutputStream out, String s) throws IOException {
+		byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	/**
+	 * Saves a snapshot of the encoded documents, replacing any which was saved before.
+	 * @param documents The encoded documents, by the absolute paths of their files.
+	 */
+	static void write(String name, byte[] key, Map<String, byte[]> documents) {
+		File file = getFile(name);
+		// The data folder isn't made here, as Main warns the player if it's missing:
+		if(!file.getParentFile().getParentFile().isDirectory()) {
+			return;
+		}
+		File tempFile = new File(file.getPath()+".tmp");
+		try {
+			file.getParentFile().mkdir();
+			try(DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+				out.writeInt(MAGIC);
+				out.writeInt(FORMAT_VERSION);
+				out.write(key);
+				out.writeInt(documents.size());
+				for(Map.Entry<String, byte[]> entry : documents.entrySet()) {
+					writeString(out, entry.getKey());
+					out.writeInt(entry.getValue().length);
+					out.write(entry.getValue());
+				}
+			}
+			// Only replace the old snapshot once the new one is complete:
+			try {
+				Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+
+		} catch(IOException ex) {
+			System.err.println("ContentSnapshot: Could not write '"+file.getPath()+"'.");
+			ex.printStackTrace(System.err);
+			tempFile.delete();
+		}
+	}
+}
@@ -0,0 +1,247 @@
+package com.lilithsthrone.controller.xmlParsing;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.w3c.dom.Document;
+
+/**
+ * Parses content definition files (clothing, weapons, tattoos, outfits) on background threads, so that when ClothingType, WeaponType, etc. then load them one at a time,
+ *  their XML has usually already been parsed.<br/>
+ * <br/>
+ * Only the parsing of the XML into Documents is done in parallel. The types themselves are still made and registered on the loading thread, in the same order as before,
+ *  as their constructors use static game data (which may still be being initialised by that thread). Any error in parsing a file is thrown from parse() for that file,
+ *  so it's reported in exactly the same way as it would have been if the file had been parsed on the loading thread.<br/>
+ * <br/>
+ * The parsed documents of each type of content are also saved as a ContentSnapshot in 'data/cache/'. If none of that type's files have changed on the next start,
+ *  the documents are built from the snapshot instead of being parsed.<br/>
+ * <br/>
+ * The number of threads which parse files is set with -DcontentLoaderThreads (which is the number of available processors by default). Run with -DcontentLoaderThreads=1 to parse every file on the loading thread
+ *  (in which case snapshots are read, but not written), or with -DcontentCache=false to not use snapshots.
+ *
+ * @since 0.3.5.8
+ * @version 0.3.5.8
+ * @author Innoxia
+ */
+public class DocumentPreloader {
+
+	private static final int THREADS = Integer.getInteger("contentLoaderThreads", Runtime.getRuntime().availableProcessors());
+	private static final boolean CACHE = Boolean.valueOf(System.getProperty("contentCache", "true"));
+
+	/** DocumentBuilderFactory.newInstance() looks up the implementation to use every time that it's called, so the factory is only made once. Its builders can't be shared between threads. */
+	private static final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+	private static final ThreadLocal<DocumentBuilder> builders = ThreadLocal.withInitial(() -> {
+		try {
+			synchronized(factory) {
+				return factory.newDocumentBuilder();
+			}
+		} catch(ParserConfigurationException e) {
+			throw new IllegalStateException(e);
+		}
+	});
+
+	private static final Map<String, Future<Document>> preloaded = new ConcurrentHashMap<>();
+	/** The snapshot which each file's document can be built from. */
+	private static final Map<String, ContentSnapshot> snapshots = new ConcurrentHashMap<>();
+	/** The paths of the files which were preloaded for each type of content, so that any which weren't loaded can be released by finish(). */
+	private static final Map<String, List<String>> preloadedPaths = new ConcurrentHashMap<>();
+	private static ExecutorService executor;
+
+	private static synchronized ExecutorService getExecutor() {
+		if(executor==null) {
+			AtomicInteger threadCount = new AtomicInteger();
+			ThreadPoolExecutor pool = new ThreadPoolExecutor(THREADS, THREADS, 5, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+				Thread thread = new Thread(r, "Content loader "+threadCount.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+			// The threads are only needed while the game is starting up:
+			pool.allowCoreThreadTimeOut(true);
+			executor = pool;
+		}
+		return executor;
+	}
+
+	/**
+	 * Starts parsing the files in the background, in the order given, or reads their snapshot if none of them have changed since it was saved.
+	 *  Each file should then be loaded through parse() (or Element.getDocumentRootElement()), which takes its Document, and finish() should be called once they've all been loaded.
+	 * @param name The name of this type of content, which is used as the name of its snapshot.
+	 */
+	public static void preload(String name, List<File> files) {
+		List<String> paths = new ArrayList<>();
+		for(File file : files) {
+			paths.add(file.getAbsolutePath());
+		}
+		preloadedPaths.put(name, paths);
+		
+		byte[] key = null;
+		if(CACHE) {
+			key = ContentSnapshot.getKey(files);
+			ContentSnapshot snapshot = ContentSnapshot.read(name, key);
+			if(snapshot!=null) {
+				for(File file : files) {
+					snapshots.put(file.getAbsolutePath(), snapshot);
+				}
+				return;
+			}
+		}
+		if(THREADS<=1) {
+			return;
+		}
+		
+		Map<String, byte[]> encodedDocuments = CACHE ? new ConcurrentHashMap<>() : null;
+		List<Future<Document>> futures = new ArrayList<>();
+		for(File file : files) {
+			String path = file.getAbsolutePath();
+			Future<Document> future = getExecutor().submit(() -> {
+				Document doc = parseDocument(file);
+				// Encoded here, as once the document has been handed to the loading thread, it can't be safely read from any other thread:
+				if(encodedDocuments!=null) {
+					byte[] encoded = ContentSnapshot.encode(doc);
+					if(encoded!=null) {
+						encodedDocuments.put(path, encoded);
+					}
+				}
+				return doc;
+			});
+			preloaded.put(path, future);
+			futures.add(future);
+		}
+		
+		if(CACHE) {
+			byte[] snapshotKey = key;
+			Thread snapshotThread = new Thread(() -> {
+				for(Future<Document> future : futures) {
+					try {
+						future.get();
+					} catch(Exception ex) {
+						// Files which failed to parse aren't in the snapshot, so they'll be parsed (and their errors reported) on every start.
+					}
+				}
+				ContentSnapshot.write(name, snapshotKey, encodedDocuments);
+			}, "Content snapshot writer");
+			snapshotThread.setDaemon(true);
+			snapshotThread.setPriority(Thread.MIN_PRIORITY);
+			snapshotThread.start();
+		}
+	}
+
+	/**
+	 * Releases the Documents of any of this type's files which were preloaded but never loaded through parse() (such as those in a mod folder which failed to load),
+	 *  so that they can be garbage collected. Should be called at the end of the type's static initialiser.
+	 * @param name The name which was passed to preload().
+	 */
+	public static void finish(String name) {
+		List<String> paths = preloadedPaths.remove(name);
+		if(paths!=null) {
+			// The snapshot writer keeps its own list of this type's futures, so it's unaffected by them being removed here:
+			for(String path : paths) {
+				preloaded.remove(path);
+				snapshots.remove(path);
+			}
+		}
+	}
+
+	/**
+	 * @return The file's normalised Document, which will have been parsed in the background if the file was preloaded.
+	 * @throws Exception The exception which was thrown when parsing the file.
+	 */
+	public static Document parse(File file) throws Exception {
+		String path = file.getAbsolutePath();
+		ContentSnapshot snapshot = snapshots.remove(path);
+		if(snapshot!=null) {
+			try {
+				Document doc = snapshot.getDocument(path, builders.get().newDocument());
+				if(doc!=null) {
+					doc.getDocumentElement().normalize();
+					return doc;
+				}
+			} catch(Exception ex) {
+				System.err.println("DocumentPreloader: Could not build '"+path+"' from its snapshot, so it will be parsed instead.");
+				ex.printStackTrace(System.err);
+			}
+		}
+		
+		Future<Document> future = preloaded.remove(path);
+		if(future==null) {
+			return parseDocument(file);
+		}
+		try {
+			return future.get();
+		} catch(ExecutionException ex) {
+			if(ex.getCause() instanceof Exception) {
+				throw (Exception) ex.getCause();
+			}
+			throw ex;
+		}
+	}
+
+	private static Document parseDocument(File file) throws Exception {
+		DocumentBuilder builder = builders.get();
+		builder.reset();
+		Document doc = builder.parse(file);
+		doc.getDocumentElement().normalize();
+		return doc;
+	}
+
+	/**
+	 * @param contentPath The path of this type of content inside each mod's folder, such as "items/clothing".
+	 * @return Every file in 'res/mods/[mod author]/[contentPath]/[content folder]/' which ends with '.xml', in the order that the content types load them in.
+	 */
+	public static List<File> findModDefinitions(String contentPath) {
+		List<File> files = new ArrayList<>();
+		File[] modDirectoryListing = new File("res/mods").listFiles();
+		if(modDirectoryListing!=null) {
+			for(File modAuthorDirectory : modDirectoryListing) {
+				addDefinitions(new File(modAuthorDirectory.getAbsolutePath()+"/"+contentPath).listFiles(), files);
+			}
+		}
+		return files;
+	}
+
+	/**
+	 * @param resPath The path of this type of content's folder, such as "res/clothing".
+	 * @return Every file in '[resPath]/[author]/[content folder]/' which ends with '.xml', in the order that the content types load them in.
+	 */
+	public static List<File> findResDefinitions(String resPath) {
+		List<File> files = new ArrayList<>();
+		File[] authorDirectoriesListing = new File(resPath).listFiles();
+		if(authorDirectoriesListing!=null) {
+			for(File authorDirectory : authorDirectoriesListing) {
+				if(authorDirectory.isDirectory()) {
+					addDefinitions(authorDirectory.listFiles(), files);
+				}
+			}
+		}
+		return files;
+	}
+
+	private static void addDefinitions(File[] contentDirectories, List<File> files) {
+		if(contentDirectories!=null) {
+			for(File contentDirectory : contentDirectories) {
+				if(contentDirectory.isDirectory()) {
+					File[] innerDirectoryListing = contentDirectory.listFiles((path, filename) -> filename.endsWith(".xml"));
+					if(innerDirectoryListing!=null) {
+						for(File innerChild : innerDirectoryListing) {
+							files.add(innerChild);
+						}
+					}
+				}
+			}
+		}
+	}
+}
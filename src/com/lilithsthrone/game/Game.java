@@ -1,9 +1,13 @@
 package com.lilithsthrone.game;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.StringWriter;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.Month;
 import java.time.temporal.ChronoField;
@@ -12,11 +16,17 @@ import java.util.Comparator;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -25,6 +35,7 @@ import java.util.stream.IntStream;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
@@ -34,6 +45,7 @@ import javax.xml.transform.stream.StreamResult;
 
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
+import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
 import com.lilithsthrone.controller.MainController;
@@ -54,6 +66,7 @@ import com.lilithsthrone.game.character.effects.PerkManager;
 import com.lilithsthrone.game.character.effects.StatusEffect;
 import com.lilithsthrone.game.character.fetishes.Fetish;
 import com.lilithsthrone.game.character.npc.NPC;
+import com.lilithsthrone.game.character.npc.NPCActivityTier;
 import com.lilithsthrone.game.character.npc.dominion.Helena;
 import com.lilithsthrone.game.character.npc.dominion.Amber;
 import com.lilithsthrone.game.character.npc.dominion.Angel;
@@ -179,7 +192,12 @@ import com.lilithsthrone.utils.Units;
 import com.lilithsthrone.utils.Util;
 import com.lilithsthrone.utils.Util.Value;
 import com.lilithsthrone.utils.Vector2i;
+import com.lilithsthrone.utils.XMLBinaryReader;
+import com.lilithsthrone.utils.XMLBinaryWriter;
 import com.lilithsthrone.utils.XMLSaving;
+import com.lilithsthrone.utils.XMLSectionWriter;
+import com.lilithsthrone.utils.XMLSectionBuffer;
+import com.lilithsthrone.utils.XMLStreamSaver;
 import com.lilithsthrone.utils.time.DateAndTime;
 import com.lilithsthrone.utils.time.DayPeriod;
 import com.lilithsthrone.utils.time.SolarElevationAngle;
@@ -193,6 +211,8 @@ import com.lilithsthrone.world.places.AbstractPlaceType;
 import com.lilithsthrone.world.places.PlaceType;
 import com.lilithsthrone.world.places.PlaceUpgrade;
 
+import javafx.application.Platform;
+
 /**
  * @since 0.1.0
  * @version 0.3.5.5
@@ -306,6 +326,15 @@ public class Game implements XMLSaving {
 	private static boolean timeLog = false;
 	private static long timeStart = 0;
 	
+	/** Background saves are written one at a time, in the order that they were requested. The thread is not a daemon, so that a save which is being written is finished before the game exits. */
+	private static final ThreadPoolExecutor SAVE_EXECUTOR = new ThreadPoolExecutor(1, 1, 10, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> new Thread(r, "Save writer"));
+	static {
+		SAVE_EXECUTOR.allowCoreThreadTimeOut(true);
+	}
+	private static volatile Future<?> pendingSave = null;
+	/** Background autosaves which take at least this long to build their sections on the game thread are logged, so that the hitch which they still cause can be seen. */
+	private static final long SLOW_SECTION_BUILD_MILLIS = 50;
+	
 	public static void exportCharacter(GameCharacter character) {
 		try {
 			if(timeLog) {
@@ -422,206 +451,326 @@ public class Game implements XMLSaving {
 		dir.mkdir();
 		
 		boolean overwrite = false;
-		if (dir.isDirectory()) {
-			File[] directoryListing = dir.listFiles((path, filename) -> filename.endsWith(".xml"));
-			if (directoryListing != null) {
-				for (File child : directoryListing) {
-					if (child.getName().equals(exportFileName+".xml")){
-						if(!allowOverwrite) {
-							Main.game.flashMessage(Colour.GENERIC_BAD, "Name already exists!");
-							return;
-						} else {
-							overwrite = true;
-						}
-					}
-				}
+		if(SaveIndex.getEntry(exportFileName)!=null) {
+			if(!allowOverwrite) {
+				Main.game.flashMessage(Colour.GENERIC_BAD, "Name already exists!");
+				return;
+			} else {
+				overwrite = true;
 			}
 		}
 		
-		try {
-			if(timeLog) {
-				timeStart = System.nanoTime();
-				System.out.println(timeStart);
-			}
-			// Starting stuff:
-			
-			DocumentBuilderFactory docFactory = DocumentBuilderFactory.newInstance();
-			DocumentBuilder docBuilder = docFactory.newDocumentBuilder();
-			
-			Document doc = docBuilder.newDocument();
-			
+		Main.game.wakeDormantNPCs(); // So that the saved NPCs are up to date
+		
+		boolean binary = Main.getProperties().hasValue(PropertyValue.binarySaves);
+		String saveLocation = "data/saves/"+exportFileName+(binary?Main.SAVE_EXTENSION_BINARY:Main.SAVE_EXTENSION_XML);
 
-			// Writing game stuff to export:
-			
-			Element game = doc.createElement("game");
-			doc.appendChild(game);
-			
+		if(timeLog) {
+			timeStart = System.nanoTime();
+			System.out.println(timeStart);
+		}
+
+		SaveIndex.Entry indexEntry = SaveIndex.createEntry();
+		
+		if(exportFileName.startsWith("AutoSave") && Main.getProperties().hasValue(PropertyValue.backgroundSaving)) {
+			// This is an asynchronous file write, not an asynchronous save: only encoding the sections and writing them to disk is done on the save thread.
+			//  Building each section's subtree reads the live game, so it's done on this thread, and for a large save it is most of the cost of saving (every character's saveAsXML() runs here),
+			//  so this shortens an autosave's hitch rather than removing it. (This holds every section in memory until it's written, unlike the streamed save below. See XMLSectionBuffer.)
+			long buildStart = System.nanoTime();
+			XMLSectionBuffer sections = new XMLSectionBuffer();
 			try {
-				Element informationNode = doc.createElement("coreInfo");
-				game.appendChild(informationNode);
-				CharacterUtils.addAttribute(doc, informationNode, "version", Main.VERSION_NUMBER);
-				CharacterUtils.addAttribute(doc, informationNode, "lastAutoSaveTime", String.valueOf(Main.game.lastAutoSaveTime));
-				CharacterUtils.addAttribute(doc, informationNode, "secondsPassed", String.valueOf(Main.game.secondsPassed));
-				CharacterUtils.addAttribute(doc, informationNode, "weather", Main.game.currentWeather.toString());
-				CharacterUtils.addAttribute(doc, informationNode, "nextStormTimeInSeconds", String.valueOf(Main.game.nextStormTimeInSeconds));
-				CharacterUtils.addAttribute(doc, informationNode, "gatheringStormDurationInSeconds", String.valueOf(Main.game.gatheringStormDurationInSeconds));
-				CharacterUtils.addAttribute(doc, informationNode, "weatherTimeRemainingInSeconds", String.valueOf(Main.game.weatherTimeRemainingInSeconds));
-
-				Element inventoryNode = doc.createElement("savedInventories");
-				game.appendChild(inventoryNode);
-				for(Entry<String, CharacterInventory> entry : savedInventories.entrySet()) {
-					Element element = doc.createElement("savedInventory");
-					CharacterUtils.addAttribute(doc, element, "character", entry.getKey());
-					inventoryNode.appendChild(element);
-					entry.getValue().saveAsXML(element, doc);
-				}
-				
-				try {
-					Main.game.getOccupancyUtil().saveAsXML(game, doc);
-				}catch(Exception ex) {
-					System.err.println("SlaveryUtil saving failed!");
-					Main.game.addEvent(new EventLogEntry(Main.game.getMinutesPassed(), "<style='color:"+Colour.GENERIC_TERRIBLE.toWebHexString()+";'>Partial Save Fail<b>", "SlaveryUtil failure"), false);
-				}
-				
-				Element dateNode = doc.createElement("date");
-				informationNode.appendChild(dateNode);
-				CharacterUtils.addAttribute(doc, dateNode, "year", String.valueOf(Main.game.startingDate.getYear()));
-				CharacterUtils.addAttribute(doc, dateNode, "month", String.valueOf(Main.game.startingDate.getMonthValue()));
-				CharacterUtils.addAttribute(doc, dateNode, "dayOfMonth", String.valueOf(Main.game.startingDate.getDayOfMonth()));
-				CharacterUtils.addAttribute(doc, dateNode, "hour", String.valueOf(Main.game.startingDate.getHour()));
-				CharacterUtils.addAttribute(doc, dateNode, "minute", String.valueOf(Main.game.startingDate.getMinute()));
+				writeGameSections(sections, indexEntry);
 			} catch(Exception ex) {
-				System.err.println("coreInfo saving failed!");
-				Main.game.addEvent(new EventLogEntry(Main.game.getMinutesPassed(), "<style='color:"+Colour.GENERIC_TERRIBLE.toWebHexString()+";'>Partial Save Fail<b>", "coreInfo failure"), false);
+				System.err.println("XML writing failed!");
+				ex.printStackTrace();
+				Main.game.addEvent(new EventLogEntry(Main.game.getMinutesPassed(), "<style='color:"+Colour.GENERIC_TERRIBLE.toWebHexString()+";'>Partial Save Fail</span>", "XML writing failure"), false);
+				return;
+			}
+			long buildMillis = (System.nanoTime()-buildStart)/1000000;
+			if(timeLog || buildMillis>=SLOW_SECTION_BUILD_MILLIS) {
+				System.out.println("Autosave: Building the save's sections on the game thread took "+buildMillis+"ms, for "+Main.game.getNPCMap().size()+" NPCs.");
 			}
 			
-			Main.game.dialogueFlags.saveAsXML(game, doc);
-			
-			try {
-				Element eventLogNode = doc.createElement("eventLog");
-				game.appendChild(eventLogNode);
-				for(EventLogEntry event : Main.game.getEventLog().subList(Math.max(0, Main.game.getEventLog().size()-50), Main.game.getEventLog().size())) {
-					event.saveAsXML(eventLogNode, doc);
+			Game savingGame = Main.game;
+			pendingSave = SAVE_EXECUTOR.submit(() -> {
+				try {
+					try(XMLSectionWriter saver = openSaveWriter(Paths.get(saveLocation), binary)) {
+						sections.writeTo(saver);
+					}
+					deleteOtherSaveFormat(exportFileName, binary);
+					SaveIndex.addEntry(new File(saveLocation), indexEntry);
+					
+				} catch(Exception ex) {
+					System.err.println("XML writing failed!");
+					ex.printStackTrace();
+					Platform.runLater(() -> {
+						if(Main.game==savingGame) {
+							Main.game.addEvent(new EventLogEntry(Main.game.getMinutesPassed(), "<style='color:"+Colour.GENERIC_TERRIBLE.toWebHexString()+";'>Autosave Fail</span>", "XML writing failure"), false);
+							Main.game.flashMessage(Colour.GENERIC_BAD, "Autosave failed!");
+						}
+					});
 				}
-			} catch(Exception ex) {
-				System.err.println("eventLog saving failed!");
-				Main.game.addEvent(new EventLogEntry(Main.game.getMinutesPassed(), "<style='color:"+Colour.GENERIC_TERRIBLE.toWebHexString()+";'>Partial Save Fail<b>", "eventLog failure"), false);
+			});
+			return;
+		}
+		
+		// Each section is streamed straight to the file as soon as it's been built, so that the whole game never has to be held in memory as a single Document:
+		try {
+			try(XMLSectionWriter saver = openSaveWriter(Paths.get(saveLocation), binary)) {
+				writeGameSections(saver, indexEntry);
 			}
+			deleteOtherSaveFormat(exportFileName, binary);
+			SaveIndex.addEntry(new File(saveLocation), indexEntry);
+
+		} catch(Exception ex) {
+			System.err.println("XML writing failed!");
+			ex.printStackTrace();
+			Main.game.addEvent(new EventLogEntry(Main.game.getMinutesPassed(), "<style='color:"+Colour.GENERIC_TERRIBLE.toWebHexString()+";'>Partial Save Fail</span>", "XML writing failure"), false);
+			return;
+		}
+
+		if(!exportFileName.startsWith("AutoSave")) {
+			if(overwrite) {
+				Main.game.addEvent(new EventLogEntry(Main.game.getMinutesPassed(), "[style.colourGood(Game saved)]", saveLocation), false);
+				Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()), false, Colour.GENERIC_GOOD, "Save game overwritten!");
+			} else {
+				Main.game.addEvent(new EventLogEntry(Main.game.getMinutesPassed(), "[style.colourGood(Game saved)]", saveLocation), false);
+				Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()), false, Colour.GENERIC_GOOD, "Game saved!");
+			}
+		}
+
+		if(timeLog) {
+			System.out.println("Difference: "+(System.nanoTime()-timeStart)/1000000000f);
+		}
+	}
+
+	private static XMLSectionWriter openSaveWriter(Path path, boolean binary) throws IOException, XMLStreamException {
+		if(binary) {
+			return new XMLBinaryWriter(path);
+		}
+		return new XMLStreamSaver(path);
+	}
+	
+	/**
+	 * Each save only exists in one format at a time, so once a save has been written, any copy of it in the other format is removed.
+	 */
+	private static void deleteOtherSaveFormat(String saveName, boolean binary) throws IOException {
+		Files.deleteIfExists(Paths.get("data/saves/"+saveName+(binary?Main.SAVE_EXTENSION_XML:Main.SAVE_EXTENSION_BINARY)));
+	}
+	
+	/**
+	 * Converts a save file between the XML and binary formats. The file is rewritten section by section, so no loading of the game is involved, and the original file is only deleted once the converted file has been written.
+	 * @param file The save file to convert.
+	 * @param toBinary true to convert to the binary format, false to convert to XML.
+	 * @return true if the file was converted, or false if it was already in the requested format.
+	 */
+	public static boolean convertSaveFile(File file, boolean toBinary) throws Exception {
+		boolean isBinary = XMLBinaryReader.isBinaryFile(file);
+		if(isBinary==toBinary) {
+			return false;
+		}
 		
-			try {
-				Element slaveryEventLogNode = doc.createElement("slaveryEventLog");
-				game.appendChild(slaveryEventLogNode);
-				for(Value<Integer, List<SlaveryEventLogEntry>> entry : Main.game.getSlaveryEventLog()) {
-					Element element = doc.createElement("day");
-					slaveryEventLogNode.appendChild(element);
-					CharacterUtils.addAttribute(doc, element, "value", String.valueOf(entry.getKey()));
-					for(SlaveryEventLogEntry event : entry.getValue()) {
-						event.saveAsXML(element, doc);
-					}
+		Document doc = isBinary
+				? XMLBinaryReader.read(file)
+				: DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(file);
+		Element gameElement = doc.getDocumentElement();
+		
+		Path target = file.toPath().resolveSibling(Util.getFileName(file)+(toBinary?Main.SAVE_EXTENSION_BINARY:Main.SAVE_EXTENSION_XML));
+		try(XMLSectionWriter writer = openSaveWriter(target, toBinary)) {
+			writer.writeStartElement(gameElement.getTagName());
+			NodeList sections = gameElement.getChildNodes();
+			for(int i=0; i<sections.getLength(); i++) {
+				if(sections.item(i).getNodeType()!=Node.ELEMENT_NODE) {
+					continue;
 				}
-			} catch(Exception ex) {
-				System.err.println("slaveryEventLog saving failed!");
-				Main.game.addEvent(new EventLogEntry(Main.game.getMinutesPassed(), "<style='color:"+Colour.GENERIC_TERRIBLE.toWebHexString()+";'>Partial Save Fail<b>", "slaveryEventLog failure"), false);
-			}
-			
-			// Add maps:
-			try {
-				Element mapNode = doc.createElement("maps");
-				game.appendChild(mapNode);
-				for(World world : Main.game.getWorlds().values()) {
-//					if(world!=null && world.getWorldType()!=WorldType.WORLD_MAP) { // Do not save world map, as it is for all intents and purposes immutable.
-						world.saveAsXML(mapNode, doc);
-//					}
+				Element section = (Element) sections.item(i);
+				if(section.getTagName().equals("maps")) { // Each world is written as its own section, as they are when saving
+					writer.writeStartElement("maps");
+					writer.writeChildElements(section);
+					writer.writeEndElement();
+				} else {
+					writer.writeElement(section);
 				}
-			} catch(Exception ex) {
-				System.err.println("maps saving failed!");
-				Main.game.addEvent(new EventLogEntry(Main.game.getMinutesPassed(), "<style='color:"+Colour.GENERIC_TERRIBLE.toWebHexString()+";'>Partial Save Fail<b>", "maps failure"), false);
-			}
-			
-			// Add player:
-			try {
-				Element characterNode = doc.createElement("playerCharacter");
-				game.appendChild(characterNode);
-				Main.game.getPlayer().saveAsXML(characterNode, doc);
-			} catch(Exception ex) {
-				System.err.println("playerCharacter saving failed!");
-				Main.game.addEvent(new EventLogEntry(Main.game.getMinutesPassed(), "<style='color:"+Colour.GENERIC_TERRIBLE.toWebHexString()+";'>Partial Save Fail<b>", "playerCharacter failure"), false);
 			}
+			writer.writeEndElement();
+		}
 		
-			// Add all NPCs:
+		if(!target.equals(file.toPath())) {
+			Files.delete(file.toPath());
+		}
+		SaveIndex.updateFileInformation(file, target.toFile());
+		return true;
+	}
+	
+	/**
+	 * Blocks until the save that is currently being written on the save thread (if any) has finished.
+	 */
+	public static void waitForPendingSave() {
+		Future<?> save = pendingSave;
+		if(save!=null) {
 			try {
-				for(GameCharacter character : Main.game.getNPCMap().values()) {
-					Element characterNode = doc.createElement("NPC");
-					game.appendChild(characterNode);
-					character.saveAsXML(characterNode, doc);
-				}
+				save.get();
 			} catch(Exception ex) {
-				System.err.println("NPC saving failed!");
 				ex.printStackTrace();
-				Main.game.addEvent(new EventLogEntry(Main.game.getMinutesPassed(), "<style='color:"+Colour.GENERIC_TERRIBLE.toWebHexString()+";'>Partial Save Fail<b>", "NPC failure"), false);
 			}
-			
-			
-			// Ending stuff:
-			try {
-				TransformerFactory tf = TransformerFactory.newInstance();
-				Transformer transformer1 = tf.newTransformer();
-				transformer1.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
-				StringWriter writer = new StringWriter();
+		}
+	}
 	
-				transformer1.transform(new DOMSource(doc), new StreamResult(writer));
-				
-				// Save this xml:
-				TransformerFactory transformerFactory = TransformerFactory.newInstance();
-				Transformer transformer = transformerFactory.newTransformer();
-				transformer.setOutputProperty(OutputKeys.INDENT, "yes");
-				transformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "2");
-				DOMSource source = new DOMSource(doc);
-				
-				String saveLocation = "data/saves/"+exportFileName+".xml";
-				StreamResult result = new StreamResult(saveLocation);
-				
-				transformer.transform(source, result);
-				
-				if(!exportFileName.startsWith("AutoSave")) {
-					if(overwrite) {
-						Main.game.addEvent(new EventLogEntry(Main.game.getMinutesPassed(), "[style.colourGood(Game saved)]", saveLocation), false);
-						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()), false, Colour.GENERIC_GOOD, "Save game overwritten!");
-					} else {
-						Main.game.addEvent(new EventLogEntry(Main.game.getMinutesPassed(), "[style.colourGood(Game saved)]", saveLocation), false);
-						Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()), false, Colour.GENERIC_GOOD, "Game saved!");
-					}
+	/**
+	 * Writes the 'game' element and all of its sections to the writer. Sections which fail to build are reported in the event log and skipped, as before.
+	 * @param indexEntry The save's entry in the SaveIndex, a copy of which is saved in coreInfo.
+	 */
+	private static void writeGameSections(XMLSectionWriter saver, SaveIndex.Entry indexEntry) throws XMLStreamException, ParserConfigurationException {
+		saver.writeStartElement("game");
+
+		try {
+			Document doc = XMLStreamSaver.newScratchDocument();
+			Element game = doc.createElement("game");
+			doc.appendChild(game);
+
+			Element informationNode = doc.createElement("coreInfo");
+			game.appendChild(informationNode);
+			CharacterUtils.addAttribute(doc, informationNode, "version", Main.VERSION_NUMBER);
+			CharacterUtils.addAttribute(doc, informationNode, "lastAutoSaveTime", String.valueOf(Main.game.lastAutoSaveTime));
+			CharacterUtils.addAttribute(doc, informationNode, "secondsPassed", String.valueOf(Main.game.secondsPassed));
+			CharacterUtils.addAttribute(doc, informationNode, "weather", Main.game.currentWeather.toString());
+			CharacterUtils.addAttribute(doc, informationNode, "nextStormTimeInSeconds", String.valueOf(Main.game.nextStormTimeInSeconds));
+			CharacterUtils.addAttribute(doc, informationNode, "gatheringStormDurationInSeconds", String.valueOf(Main.game.gatheringStormDurationInSeconds));
+			CharacterUtils.addAttribute(doc, informationNode, "weatherTimeRemainingInSeconds", String.valueOf(Main.game.weatherTimeRemainingInSeconds));
+			indexEntry.saveAsXML(informationNode, doc);
+
+			Element inventoryNode = doc.createElement("savedInventories");
+			game.appendChild(inventoryNode);
+			for(Entry<String, CharacterInventory> entry : savedInventories.entrySet()) {
+				Element element = doc.createElement("savedInventory");
+				CharacterUtils.addAttribute(doc, element, "character", entry.getKey());
+				inventoryNode.appendChild(element);
+				entry.getValue().saveAsXML(element, doc);
+			}
+
+			try {
+				Main.game.getOccupancyUtil().saveAsXML(game, doc);
+			}catch(Exception ex) {
+				System.err.println("SlaveryUtil saving failed!");
+				Main.game.addEvent(new EventLogEntry(Main.game.getMinutesPassed(), "<style='color:"+Colour.GENERIC_TERRIBLE.toWebHexString()+";'>Partial Save Fail<b>", "SlaveryUtil failure"), false);
+			}
+
+			Element dateNode = doc.createElement("date");
+			informationNode.appendChild(dateNode);
+			CharacterUtils.addAttribute(doc, dateNode, "year", String.valueOf(Main.game.startingDate.getYear()));
+			CharacterUtils.addAttribute(doc, dateNode, "month", String.valueOf(Main.game.startingDate.getMonthValue()));
+			CharacterUtils.addAttribute(doc, dateNode, "dayOfMonth", String.valueOf(Main.game.startingDate.getDayOfMonth()));
+			CharacterUtils.addAttribute(doc, dateNode, "hour", String.valueOf(Main.game.startingDate.getHour()));
+			CharacterUtils.addAttribute(doc, dateNode, "minute", String.valueOf(Main.game.startingDate.getMinute()));
+
+			saver.writeChildElements(game);
+
+		} catch(Exception ex) {
+			System.err.println("coreInfo saving failed!");
+			Main.game.addEvent(new EventLogEntry(Main.game.getMinutesPassed(), "<style='color:"+Colour.GENERIC_TERRIBLE.toWebHexString()+";'>Partial Save Fail<b>", "coreInfo failure"), false);
+		}
+
+		Main.game.dialogueFlags.saveAsXML(saver);
+
+		try {
+			Document doc = XMLStreamSaver.newScratchDocument();
+			Element eventLogNode = doc.createElement("eventLog");
+			doc.appendChild(eventLogNode);
+			for(EventLogEntry event : Main.game.getEventLog().subList(Math.max(0, Main.game.getEventLog().size()-50), Main.game.getEventLog().size())) {
+				event.saveAsXML(eventLogNode, doc);
+			}
+			saver.writeElement(eventLogNode);
+
+		} catch(Exception ex) {
+			System.err.println("eventLog saving failed!");
+			Main.game.addEvent(new EventLogEntry(Main.game.getMinutesPassed(), "<style='color:"+Colour.GENERIC_TERRIBLE.toWebHexString()+";'>Partial Save Fail<b>", "eventLog failure"), false);
+		}
+
+		try {
+			Document doc = XMLStreamSaver.newScratchDocument();
+			Element slaveryEventLogNode = doc.createElement("slaveryEventLog");
+			doc.appendChild(slaveryEventLogNode);
+			for(Value<Integer, List<SlaveryEventLogEntry>> entry : Main.game.getSlaveryEventLog()) {
+				Element element = doc.createElement("day");
+				slaveryEventLogNode.appendChild(element);
+				CharacterUtils.addAttribute(doc, element, "value", String.valueOf(entry.getKey()));
+				for(SlaveryEventLogEntry event : entry.getValue()) {
+					event.saveAsXML(element, doc);
 				}
-			} catch(Exception ex) {
-				System.err.println("XML writing failed!");
-				ex.printStackTrace();
-				Main.game.addEvent(new EventLogEntry(Main.game.getMinutesPassed(), "<style='color:"+Colour.GENERIC_TERRIBLE.toWebHexString()+";'>Partial Save Fail</span>", "XML writing failure"), false);
 			}
-			
-			if(timeLog) {
-				System.out.println("Difference: "+(System.nanoTime()-timeStart)/1000000000f);
+			saver.writeElement(slaveryEventLogNode);
+
+		} catch(Exception ex) {
+			System.err.println("slaveryEventLog saving failed!");
+			Main.game.addEvent(new EventLogEntry(Main.game.getMinutesPassed(), "<style='color:"+Colour.GENERIC_TERRIBLE.toWebHexString()+";'>Partial Save Fail<b>", "slaveryEventLog failure"), false);
+		}
+
+		// Add maps:
+		saver.writeStartElement("maps");
+		try {
+			for(World world : Main.game.getWorlds().values()) {
+//					if(world!=null && world.getWorldType()!=WorldType.WORLD_MAP) { // Do not save world map, as it is for all intents and purposes immutable.
+					world.saveAsXML(saver);
+//					}
 			}
-		} catch (ParserConfigurationException pce) {
-			pce.printStackTrace();
+		} catch(Exception ex) {
+			System.err.println("maps saving failed!");
+			Main.game.addEvent(new EventLogEntry(Main.game.getMinutesPassed(), "<style='color:"+Colour.GENERIC_TERRIBLE.toWebHexString()+";'>Partial Save Fail<b>", "maps failure"), false);
 		}
+		saver.writeEndElement();
+
+		// Add player:
+		try {
+			Document doc = XMLStreamSaver.newScratchDocument();
+			Element characterNode = doc.createElement("playerCharacter");
+			doc.appendChild(characterNode);
+			Main.game.getPlayer().saveAsXML(characterNode, doc);
+			saver.writeElement(characterNode);
+
+		} catch(Exception ex) {
+			System.err.println("playerCharacter saving failed!");
+			Main.game.addEvent(new EventLogEntry(Main.game.getMinutesPassed(), "<style='color:"+Colour.GENERIC_TERRIBLE.toWebHexString()+";'>Partial Save Fail<b>", "playerCharacter failure"), false);
+		}
+
+		// Add all NPCs:
+		try {
+			for(GameCharacter character : Main.game.getNPCMap().values()) {
+				Document doc = XMLStreamSaver.newScratchDocument();
+				Element characterNode = doc.createElement("NPC");
+				doc.appendChild(characterNode);
+				character.saveAsXML(characterNode, doc);
+				saver.writeElement(characterNode);
+			}
+		} catch(Exception ex) {
+			System.err.println("NPC saving failed!");
+			ex.printStackTrace();
+			Main.game.addEvent(new EventLogEntry(Main.game.getMinutesPassed(), "<style='color:"+Colour.GENERIC_TERRIBLE.toWebHexString()+";'>Partial Save Fail<b>", "NPC failure"), false);
+		}
+
+		saver.writeEndElement();
 	}
-	
+
 	private static boolean debug = false;
 
 	public static void importGame(String name) {
-		File file = new File("data"+System.getProperty("file.separator")+"saves"+System.getProperty("file.separator"), name+".xml");
+		File file = Main.getSaveFile(name);
 		
 		importGame(file);
 	}
 	
 	public static void importGame(File file) {
+		waitForPendingSave();
+		
 		Main.game = new Game();
 		
 		if (file.exists()) {
 			try {
 				DocumentBuilderFactory dbFactory = DocumentBuilderFactory.newInstance();
 				DocumentBuilder dBuilder = dbFactory.newDocumentBuilder();
-				Document doc = dBuilder.parse(file);
+				// Binary saves are read back into the same Document structure as XML saves, so that everything below is the same for both formats:
+				Document doc = XMLBinaryReader.isBinaryFile(file)
+						? XMLBinaryReader.read(file)
+						: dBuilder.parse(file);
 
 				long time = System.nanoTime();
 				if(debug) {
@@ -833,75 +982,108 @@ public class Game implements XMLSaving {
 				}
 
 				// Load NPCs:
+				// For saves from this version, NPCs are constructed and loaded in parallel, each from their own detached Document (as the DOM is not thread-safe, even for reading).
+				//  While being loaded on a worker, an NPC isn't added to any Cell (see GameCharacter.setCellRegistrationDeferred()), and nothing else is shared between the workers.
+				//  Older saves are loaded one at a time on this thread, as their loadFromXML() patches can move NPCs, re-equip them, and use Util.random.
+				// Either way, the NPCs are then added to their cells and the game, and patched, on this thread, in the order in which they were saved.
+				boolean parallelNPCLoading = !Main.isVersionOlderThan(loadingVersion, Main.VERSION_NUMBER);
 				NodeList npcs = gameElement.getElementsByTagName("NPC");
-				Map<String, Class<? extends NPC>> npcClasses = new ConcurrentHashMap<>();
-				Map<Class<? extends NPC>, Method> loadFromXMLMethods = new ConcurrentHashMap<>();
-				Map<Class<? extends NPC>, Constructor<? extends NPC>> constructors = new ConcurrentHashMap<>();
-				int totalNpcCount = npcs.getLength();
-				IntStream.range(0,totalNpcCount).parallel().mapToObj(i -> ((Element) npcs.item(i)))
-						.forEach(e ->{
-							String id = ((Element)e.getElementsByTagName("id").item(0)).getAttribute("value");
-							if(!Main.game.NPCMap.containsKey(id)) {
-								String className = ((Element)e.getElementsByTagName("pathName").item(0)).getAttribute("value");
-								if(Main.isVersionOlderThan(loadingVersion, "0.2.4")) {
-									int lastIndex = className.lastIndexOf('.');
-									if(className.substring(lastIndex-3, lastIndex).equals("npc")) {
-										className = className.substring(0, lastIndex) + ".misc" + className.substring(lastIndex, className.length());
-									}
-								}
-								if(Main.isVersionOlderThan(loadingVersion, "0.3")) {
-									className = className.replace("FortressDemonLeader", "DarkSiren");
-								}
-								if(Main.isVersionOlderThan(loadingVersion, "0.3.5.6")) {
-									className = className.replace("Alexa", "Helena");
-								}
-								
-								NPC npc = loadNPC(doc, e, className, npcClasses, loadFromXMLMethods, constructors);
-								if(npc!=null)  {
-									if(!Main.isVersionOlderThan(loadingVersion, "0.2.11.5")
-											|| (npc.getClass()!=DarkSiren.class
-											&& npc.getClass()!=FortressAlphaLeader.class
-											&& npc.getClass()!=FortressMalesLeader.class
-											&& npc.getClass()!=FortressFemalesLeader.class)) {
-										Main.game.safeAddNPC(npc, true);
-									}
-
-									// To fix issues with older versions hair length:
-									if(Main.isVersionOlderThan(loadingVersion, "0.1.90.5")) {
-										npc.getBody().getHair().setLength(null, npc.isFeminine()?RacialBody.valueOfRace(npc.getRace()).getFemaleHairLength():RacialBody.valueOfRace(npc.getRace()).getMaleHairLength());
-									}
-									// Generate desires in non-unique NPCs:
-									if(Main.isVersionOlderThan(loadingVersion, "0.1.98.5") && !npc.isUnique() && npc.getFetishDesireMap().isEmpty()) {
-										CharacterUtils.generateDesires(npc);
-									}
+				List<Element> npcElements = new ArrayList<>(npcs.getLength());
+				for(int i=0; i<npcs.getLength(); i++) {
+					npcElements.add((Element) npcs.item(i));
+				}
+				List<String> npcIds = new ArrayList<>(npcElements.size());
+				List<String> npcClassNames = new ArrayList<>(npcElements.size());
+				for(int i=0; i<npcElements.size(); i++) {
+					Element e = npcElements.get(i);
+					npcIds.add(((Element)e.getElementsByTagName("id").item(0)).getAttribute("value"));
+					String className = ((Element)e.getElementsByTagName("pathName").item(0)).getAttribute("value");
+					if(Main.isVersionOlderThan(loadingVersion, "0.2.4")) {
+						int lastIndex = className.lastIndexOf('.');
+						if(className.substring(lastIndex-3, lastIndex).equals("npc")) {
+							className = className.substring(0, lastIndex) + ".misc" + className.substring(lastIndex, className.length());
+						}
+					}
+					if(Main.isVersionOlderThan(loadingVersion, "0.3")) {
+						className = className.replace("FortressDemonLeader", "DarkSiren");
+					}
+					if(Main.isVersionOlderThan(loadingVersion, "0.3.5.6")) {
+						className = className.replace("Alexa", "Helena");
+					}
+					npcClassNames.add(className);
+					
+					if(parallelNPCLoading) {
+						Document npcDoc = dBuilder.newDocument();
+						Node npcElement = npcDoc.adoptNode(e);
+						if(npcElement==null) {
+							npcElement = npcDoc.importNode(e, true);
+						}
+						npcDoc.appendChild(npcElement);
+						npcElements.set(i, (Element) npcElement);
+					}
+				}
+				
+				NPC[] loadedNpcs = new NPC[npcElements.size()];
+				if(parallelNPCLoading) {
+					IntStream.range(0, loadedNpcs.length).parallel().forEach(i -> {
+						Element e = npcElements.get(i);
+						loadedNpcs[i] = loadNPC(e.getOwnerDocument(), e, npcClassNames.get(i), true);
+					});
+				}
+				
+				for(int i=0; i<npcElements.size(); i++) {
+					String id = npcIds.get(i);
+					String className = npcClassNames.get(i);
+					if(Main.game.NPCMap.containsKey(id)) {
+						System.err.println("duplicate character attempted to be imported");
+						continue;
+					}
+					
+					NPC npc = parallelNPCLoading ? loadedNpcs[i] : loadNPC(doc, npcElements.get(i), className, false);
+					if(npc!=null)  {
+						npc.registerDeferredCells();
+
+						if(!Main.isVersionOlderThan(loadingVersion, "0.2.11.5")
+								|| (npc.getClass()!=DarkSiren.class
+								&& npc.getClass()!=FortressAlphaLeader.class
+								&& npc.getClass()!=FortressMalesLeader.class
+								&& npc.getClass()!=FortressFemalesLeader.class)) {
+							Main.game.safeAddNPC(npc, true);
+						}
 
-									if(Main.isVersionOlderThan(loadingVersion, "0.2.0") && npc.getFetishDesireMap().size()>10) {
-										npc.clearFetishDesires();
-										CharacterUtils.generateDesires(npc);
-									}
-									if(Main.isVersionOlderThan(loadingVersion, "0.3.5.4") && npc.getWorldLocation()==WorldType.GAMBLING_DEN) {
-										if(npc instanceof Roxy) {
-											npc.setLocation(WorldType.GAMBLING_DEN, PlaceType.GAMBLING_DEN_TRADER, true);
-											
-										} else if(npc instanceof Axel) {
-											npc.setLocation(WorldType.GAMBLING_DEN, PlaceType.GAMBLING_DEN_ENTRANCE, true);
-											
-										} else if(npc instanceof Epona) {
-											npc.setLocation(WorldType.GAMBLING_DEN, PlaceType.GAMBLING_DEN_PREGNANCY_ROULETTE, true);
-											
-										} else {
-											npc.setLocation(WorldType.GAMBLING_DEN, PlaceType.GAMBLING_DEN_GAMBLING, true);
-										}
-									}
+						// To fix issues with older versions hair length:
+						if(Main.isVersionOlderThan(loadingVersion, "0.1.90.5")) {
+							npc.getBody().getHair().setLength(null, npc.isFeminine()?RacialBody.valueOfRace(npc.getRace()).getFemaleHairLength():RacialBody.valueOfRace(npc.getRace()).getMaleHairLength());
+						}
+						// Generate desires in non-unique NPCs:
+						if(Main.isVersionOlderThan(loadingVersion, "0.1.98.5") && !npc.isUnique() && npc.getFetishDesireMap().isEmpty()) {
+							CharacterUtils.generateDesires(npc);
+						}
 
-								} else {
-									System.err.println("LOADNPC returned null: "+id);
-									System.err.println("CLASS: " + className);
-								}
+						if(Main.isVersionOlderThan(loadingVersion, "0.2.0") && npc.getFetishDesireMap().size()>10) {
+							npc.clearFetishDesires();
+							CharacterUtils.generateDesires(npc);
+						}
+						if(Main.isVersionOlderThan(loadingVersion, "0.3.5.4") && npc.getWorldLocation()==WorldType.GAMBLING_DEN) {
+							if(npc instanceof Roxy) {
+								npc.setLocation(WorldType.GAMBLING_DEN, PlaceType.GAMBLING_DEN_TRADER, true);
+								
+							} else if(npc instanceof Axel) {
+								npc.setLocation(WorldType.GAMBLING_DEN, PlaceType.GAMBLING_DEN_ENTRANCE, true);
+								
+							} else if(npc instanceof Epona) {
+								npc.setLocation(WorldType.GAMBLING_DEN, PlaceType.GAMBLING_DEN_PREGNANCY_ROULETTE, true);
+								
 							} else {
-								System.err.println("duplicate character attempted to be imported");
+								npc.setLocation(WorldType.GAMBLING_DEN, PlaceType.GAMBLING_DEN_GAMBLING, true);
 							}
-						});
+						}
+
+					} else {
+						System.err.println("LOADNPC returned null: "+id);
+						System.err.println("CLASS: " + className);
+					}
+				}
 				
 				if(debug) {
 					System.out.println("NPCs finished: "+ (System.nanoTime()-time)/1000000000d);
@@ -1231,7 +1413,7 @@ public class Game implements XMLSaving {
 		Main.game.setRequestAutosave(false);
 		
 		DialogueNode startingDialogueNode = Main.game.getPlayerCell().getPlace().getDialogue(false);
-		Main.game.addEvent(new EventLogEntry(Main.game.getMinutesPassed(), "[style.colourGood(Game loaded)]", "data/saves/"+Util.getFileName(file)+".xml"), false);
+		Main.game.addEvent(new EventLogEntry(Main.game.getMinutesPassed(), "[style.colourGood(Game loaded)]", "data/saves/"+file.getName()), false);
 		Main.game.setContent(new Response(startingDialogueNode.getLabel(), startingDialogueNode.getDescription(), startingDialogueNode), false);
 		
 //		System.out.println(Main.isVersionOlderThan(loadingVersion, "0.2.12.95"));
@@ -1249,40 +1431,33 @@ public class Game implements XMLSaving {
 		Main.game.started = true;
 	}
 
+	/**
+	 * NPC classes, along with their loadFromXML methods and import constructors, are looked up by reflection only once, and are then shared between all loading threads.
+	 */
+	private static Map<String, Class<? extends NPC>> npcClasses = new ConcurrentHashMap<>();
+	private static Map<Class<? extends NPC>, Method> npcLoadFromXMLMethods = new ConcurrentHashMap<>();
+	private static Map<Class<? extends NPC>, Constructor<? extends NPC>> npcConstructors = new ConcurrentHashMap<>();
+	
+	/**
+	 * @param deferCellRegistration true if the NPC is being loaded on a worker thread, in which case the NPC must have registerDeferredCells() called on it once it has been loaded.
+	 *  Otherwise, the loaded NPC is added to cells as normal.
+	 */
 	@SuppressWarnings("unchecked")
-	private static NPC loadNPC(Document doc,
-			Element e,
-			String className, 
-			Map<String, Class<? extends NPC>> classMap,
-			Map<Class<? extends NPC>, Method> loadFromXMLMethodMap,
-			Map<Class<? extends NPC>, Constructor<? extends NPC>> constructorMap){
-		
+	private static NPC loadNPC(Document doc, Element e, String className, boolean deferCellRegistration) {
 		try {
-			Class<? extends NPC> npcClass = classMap.get(className);
-			if (npcClass == null) {
+			Class<? extends NPC> npcClass = npcClasses.get(className);
+			if(npcClass == null) {
 				npcClass = (Class<? extends NPC>) Class.forName(className);
-				synchronized (npcClass) {
-					if(classMap.containsKey(className)){
-						npcClass = classMap.get(className);
-					} else {
-						classMap.putIfAbsent(className, npcClass);
-						Method m = npcClass.getMethod("loadFromXML", Element.class, Document.class, CharacterImportSetting[].class);
-						loadFromXMLMethodMap.put(npcClass, m);
-
-						Constructor<? extends NPC> declaredConstructor = npcClass.getDeclaredConstructor(boolean.class);
-						constructorMap.put(npcClass, declaredConstructor);
-					}
-				}
-			}
-			Constructor<? extends NPC> declaredConstructor = constructorMap.get(npcClass);
-			if (declaredConstructor == null) {
-				synchronized (npcClass) {
-					declaredConstructor = constructorMap.get(npcClass);
-				}
+				// The method and constructor are cached before the class, so that any thread which finds the class in npcClasses will also find them:
+				npcLoadFromXMLMethods.putIfAbsent(npcClass, npcClass.getMethod("loadFromXML", Element.class, Document.class, CharacterImportSetting[].class));
+				npcConstructors.putIfAbsent(npcClass, npcClass.getDeclaredConstructor(boolean.class));
+				npcClasses.putIfAbsent(className, npcClass);
 			}
-			NPC npc = declaredConstructor.newInstance(true);
-			loadFromXMLMethodMap.get(npcClass).invoke(npc, e, doc, new CharacterImportSetting[] {});
+			NPC npc = npcConstructors.get(npcClass).newInstance(true);
+			npc.setCellRegistrationDeferred(deferCellRegistration);
+			npcLoadFromXMLMethods.get(npcClass).invoke(npc, e, doc, new CharacterImportSetting[] {});
 			return npc;
+			
 		} catch(NoSuchMethodException nsme) {
 			System.err.println("Couldn't find required method(loadFromXML or constructor(boolean)) for class: " + className);
 			nsme.printStackTrace();
@@ -1567,6 +1742,9 @@ public class Game implements XMLSaving {
 //		}
 	}
 	
+	/** Run with -DfastForwardSlaveUpdates=false to update every slave's status effects hour by hour, as a comparison for the fast-forwarded updates. */
+	public static final boolean FAST_FORWARD_SLAVE_UPDATES = Boolean.valueOf(System.getProperty("fastForwardSlaveUpdates", "true"));
+	
 	private boolean isInNPCUpdateLoop = false;
 	public boolean pendingSlaveInStocksReset = true;
 	private List<NPC> npcsToRemove = new ArrayList<>();
@@ -1637,15 +1815,34 @@ public class Game implements XMLSaving {
 		int hourStartTo24 = (int) (startHour%24);
 		boolean slavesUpdated = hoursPassed>0;
 		if(slavesUpdated) {
+			// Slaves whose hourly status effect updates have been saved up to be applied in one go (see GameCharacter.deferStatusEffects()):
+			Set<NPC> slavesDeferred = new LinkedHashSet<>();
 			for(int i=1; i <= hoursPassed; i++) {
-				occupancyUtil.performHourlyUpdate(this.getDayNumber((startHour*60*60) + (i*60)), (hourStartTo24+i)%24);
+				int hour = (hourStartTo24+i)%24;
+				for(NPC slave : slavesDeferred) { // Slaves which this hour's update could change, or which it could read the fluids of, need to be brought up to date first.
+					if(!Main.game.getPlayer().getSlavesOwned().contains(slave.getId()) || !occupancyUtil.isSlaveUnaffectedByHourlyUpdate(slave, hour)) {
+						slave.applyDeferredStatusEffects();
+					}
+				}
+				occupancyUtil.performHourlyUpdate(this.getDayNumber((startHour*60*60) + (i*60)), hour);
 				for(String slaveId : Main.game.getPlayer().getSlavesOwned()) { // Update slaves' status effects per hour to give them a chance to refill fluids and such.
 					try {
-						Main.game.getNPCById(slaveId).calculateStatusEffects(3600);
+						NPC slave = (NPC) Main.game.getNPCById(slaveId);
+						if(FAST_FORWARD_SLAVE_UPDATES) {
+							slave.deferStatusEffects(3600);
+							if(slave.hasDeferredStatusEffects()) {
+								slavesDeferred.add(slave);
+							}
+						} else {
+							slave.calculateStatusEffects(3600);
+						}
 					} catch (Exception e) {
 					}
 				}
 			}
+			for(NPC slave : slavesDeferred) {
+				slave.applyDeferredStatusEffects();
+			}
 			for(String slaveId : Main.game.getPlayer().getSlavesOwned()) {// Update slaves' status effects by whatever time is remaining.
 				try {
 					Main.game.getNPCById(slaveId).calculateStatusEffects(secondsPassedThisTurn%3600);
@@ -1705,181 +1902,41 @@ public class Game implements XMLSaving {
 		if(loopDebug) {
 			System.out.println("NPC loop start: "+(System.nanoTime()-tLoopStart)/1000000000f+"s");
 		}
+		// Dormant NPCs are left alone until something needs them, at which point wakeNPC() catches them up in one go.
+		//  Any who are needed again this turn are caught up to the start of this turn before any NPC is planned or updated, so that they are then updated for this turn along with everyone else.
+		long turnStartSeconds = advanceTime ? getSecondsPassed()-secondsPassedThisTurn : getSecondsPassed();
+		Set<String> playerSlaveAndOccupantIds = new HashSet<>(Main.game.getPlayer().getSlavesOwned());
+		playerSlaveAndOccupantIds.addAll(Main.game.getPlayer().getFriendlyOccupants());
+		List<NPC> npcsToUpdate = new ArrayList<>();
 		for(NPC npc : NPCMap.values()) {
-			boolean inGame = !npc.getLocationPlace().getPlaceType().equals(PlaceType.GENERIC_EMPTY_TILE);
-			
-			// Non-slave NPCs clean clothes:
-			if(inGame) {
-				if(!Main.game.getCharactersPresent().contains(npc)) {
-					if(!npc.isSlave() || npc.hasSlavePermissionSetting(SlavePermissionSetting.CLEANLINESS_WASH_CLOTHES)) {
-						npc.cleanAllClothing(true);
-					}
-					if(!npc.isSlave() || npc.hasSlavePermissionSetting(SlavePermissionSetting.CLEANLINESS_WASH_BODY)) {
-						npc.cleanAllDirtySlots();
-					}
-				}
-			}
-			
-			// Set NPC resource values:
-			if(secondsPassedThisTurn>=0) {
-				if(inGame) {
-					if(!Main.game.isInCombat() && !Main.game.isInSex() && Main.game.isPrologueFinished()) { // Do not alter values during combat, sex, or prologue
-						if(!Main.game.getPlayer().getCompanions().contains(npc)) {
-							if(!Main.game.getPlayer().getLocation().equals(npc.getLocation())) {
-								npc.setHealthPercentage(1);
-								npc.setManaPercentage(1);
-							}
-							npc.alignLustToRestingLust(secondsPassedThisTurn*10);
-						} else {
-							// Regenerate health and stamina over time:
-							if (npc.getHealthPercentage() < 1) {
-								npc.incrementHealth((secondsPassedThisTurn/60f) * npc.getRegenerationRate());
-							}
-							if (npc.getManaPercentage() < 1) {
-								npc.incrementMana((secondsPassedThisTurn/60f) * npc.getRegenerationRate());
-							}
-							npc.alignLustToRestingLust(secondsPassedThisTurn);
-						}
-					}
-				}
-				if(!slavesUpdated || !npc.isSlave() || !npc.getOwner().isPlayer()) { // Player-owned slaves already had their status effects updated in the slavery events update loop
-					npc.calculateStatusEffects(secondsPassedThisTurn);
-				}
-			}
-			
-			// Replace clothing if not in player's tile:
-			if(inGame) {
-				if(hoursPassed > 0) {
-					if(!Main.game.isInCombat()
-							&& !Main.game.isInSex()
-							&& !npc.isAllowingPlayerToManageInventory()
-							&& (Main.game.getCurrentDialogueNode().equals(Main.game.getPlayer().getLocationPlace().getDialogue(false))
-									|| !(npc.getWorldLocation()==Main.game.getPlayer().getWorldLocation() && npc.getLocation().equals(Main.game.getPlayer().getLocation())))) {
-						if(npc.isPendingClothingDressing()) {
-							if(!npc.hasFetish(Fetish.FETISH_EXHIBITIONIST)) {
-								npc.replaceAllClothing(); // Not sure why this is here, if clothing is getting replaced anyway...
-							}
-							npc.equipClothing(Util.newArrayListOfValues(EquipClothingSetting.REPLACE_CLOTHING, EquipClothingSetting.ADD_WEAPONS));
-							npc.setPendingClothingDressing(false);
-							
-						} else if(!npc.isSlave()
-								&& !npc.isUnique()
-								&& !npc.hasFetish(Fetish.FETISH_EXHIBITIONIST)
-								&& (npc.hasStatusEffect(StatusEffect.EXPOSED) || npc.hasStatusEffect(StatusEffect.EXPOSED_BREASTS) || npc.hasStatusEffect(StatusEffect.EXPOSED_PLUS_BREASTS))) {
-							// Try to replace clothing to cover themselves up:
-							npc.replaceAllClothing();
-							
-							npc.calculateStatusEffects(0);
-							// If still exposed after this, get new clothes:
-							if(npc.hasStatusEffect(StatusEffect.EXPOSED) || npc.hasStatusEffect(StatusEffect.EXPOSED_BREASTS) || npc.hasStatusEffect(StatusEffect.EXPOSED_PLUS_BREASTS)) {
-								npc.equipClothing(Util.newArrayListOfValues(EquipClothingSetting.REPLACE_CLOTHING, EquipClothingSetting.ADD_WEAPONS));
-	
-								if(loopDebug) {
-									System.out.println(npc.getName(true)+" "+npc.getClass().getName()+" got dressed");
-								}
-							}
-							npc.setPendingClothingDressing(false);
-						}
-					}
+			if(getActivityTier(npc, playerSlaveAndOccupantIds)==NPCActivityTier.DORMANT) {
+				if(!npc.isDormant()) {
+					npc.setDormantSinceSeconds(turnStartSeconds);
 				}
-			
-				if(npc.isPendingTransformationToGenderIdentity()
-						&& !npc.getLocation().equals(Main.game.getPlayer().getLocation())) {
-					boolean assVirgin = npc.isAssVirgin();
-					boolean faceVirgin = npc.isFaceVirgin();
-					boolean nippleVirgin = npc.isNippleVirgin();
-					boolean penisVirgin = npc.isPenisVirgin();
-					boolean urethraVirgin = npc.isUrethraVirgin();
-					boolean vaginaVirgin = npc.isVaginaVirgin();
-					boolean vaginaUrethraVirgin = npc.isVaginaUrethraVirgin();
-					
-					BodyMaterial material = npc.getBodyMaterial();
-					npc.setBody(npc.getGenderIdentity(), RacialBody.valueOfRace(Subspecies.getFleshSubspecies(npc).getRace()), npc.getBody().getRaceStageFromPartWeighting(), false);
-					npc.setBodyMaterial(material);
-					CharacterUtils.randomiseBody(npc, false);
-					
-					npc.setAssVirgin(assVirgin);
-					npc.setFaceVirgin(faceVirgin);
-					npc.setNippleVirgin(nippleVirgin);
-					npc.setPenisVirgin(penisVirgin);
-					npc.setUrethraVirgin(urethraVirgin);
-					npc.setVaginaVirgin(vaginaVirgin);
-					npc.setVaginaUrethraVirgin(vaginaUrethraVirgin);
-				}
-				
-				// Prostitutes stay on promiscuity pills to avoid pregnancies, and, if the NPC is male, to avoid knocking up their clients
-				if((!npc.isPregnant()
-						&& !npc.isSlave()
-						&& npc.getHistory()==Occupation.NPC_PROSTITUTE
-						&& !npc.hasStatusEffect(StatusEffect.PROMISCUITY_PILL)
-						&& !npc.getLocation().equals(Main.game.getPlayer().getLocation()))
-						|| (npc.isSlave() && npc.getSlavePermissionSettings().get(SlavePermission.PREGNANCY).contains(SlavePermissionSetting.PREGNANCY_PROMISCUITY_PILLS))) {
-					npc.useItem(AbstractItemType.generateItem(ItemType.PROMISCUITY_PILL), npc, false);
-				}
-				
-				if(npc.isSlave() && npc.getSlavePermissionSettings().get(SlavePermission.PREGNANCY).contains(SlavePermissionSetting.PREGNANCY_VIXENS_VIRILITY)) {
-					npc.useItem(AbstractItemType.generateItem(ItemType.VIXENS_VIRILITY), npc, false);
-				}
-			}
-			
-			if(npc.hasStatusEffect(StatusEffect.PREGNANT_3) && (Main.game.getSecondsPassed() - npc.getTimeProgressedToFinalPregnancyStage())>(12*60*60)) {
-				if(npc instanceof Lilaya) {
-					// Lilaya will only end pregnancy after you've seen it, or if she's a full demon:
-					if(Main.game.getNpc(Lilaya.class).isCharacterReactedToPregnancy(Main.game.getPlayer()) || npc.getRaceStage()==RaceStage.GREATER) {
-						npc.endPregnancy(true);
-					}
-					
-				} else {
-					npc.endPregnancy(true);
-					if(npc instanceof Kate) {
-						Main.game.getDialogueFlags().values.remove(DialogueFlagValue.reactedToKatePregnancy);
-					}
-				}
-			}
-			
-			if(npc.getWorldLocation()==Main.game.getPlayer().getWorldLocation() && npc.getLocation().equals(Main.game.getPlayer().getLocation())) {
-				for(CoverableArea ca : CoverableArea.values()) {
-					if(npc.isCoverableAreaVisible(ca) && ca!=CoverableArea.MOUTH) {// && Main.game.getPlayerCell().getPlace().getPlaceType()!=PlaceType.WATERING_HOLE_TOILETS) {
-						npc.setAreaKnownByCharacter(ca, Main.game.getPlayer(), true);
-					}
-				}
-			}
-			
-			for(int i=0; i<hoursPassed; i++) {
-				npc.hourlyUpdate();
-				if(inGame) {
-					npc.performHourlyFluidsCheck();
-				}
-			}
-			
-			if(newDay) {
-				long tL = System.nanoTime();
-				if(loopDebug && npc.isUnique()) {
-					System.out.print(npc.getName(true)+" daily reset loop: ");
-				}
-				npc.resetDaysOrgasmCount();
-				try {
-					npc.dailyUpdate();
-				} catch(Exception ex) {
-					System.err.println("Issue in method: dailyReset(), for character ID: "+npc.getId()+"\n"+ex.getMessage());
-					ex.printStackTrace();
-				}
-				if(loopDebug && npc.isUnique()) {
-					System.out.println((System.nanoTime()-tL)/1000000000f+"s");
-				}
-			}
-			
-			// Companions:
-			companions = new ArrayList<>(npc.getCompanions());
-			for(GameCharacter companion : companions) {
-				// Updating companion NPCs:
-				companion.companionshipCheck();
-			}
-			for(GameCharacter character : npc.getCompanions()) {
-				character.setLocation(npc.getWorldLocation(), npc.getLocation(), false);
+			} else {
+				npcsToUpdate.add(npc);
 			}
-			
-			npc.turnUpdate();
+		}
+		for(NPC npc : npcsToUpdate) {
+			wakeNPC(npc, turnStartSeconds);
+		}
+		// Each NPC's housekeeping is planned in parallel, before any NPC is updated. NPCs are then updated one at a time in order of their ids, each with their own Random.
+		//  This is bound as both Util.random and the parser's RND, as the engine keeps whichever Random it was given, rather than reading Util.random again:
+		long npcTurnSeed = Util.random.nextLong();
+		Random turnRandom = Util.random;
+		try {
+			NPC_UPDATE_PHASE.run(npcsToUpdate,
+					NPC::getId,
+					npc -> NPCTurnPlan.create(npc, secondsPassedThisTurn),
+					(npc, plan, random) -> {
+						Util.random = random;
+						UtilText.setScriptRandom(random);
+						updateNPC(npc, secondsPassedThisTurn, hoursPassed, newDay, slavesUpdated, plan, loopDebug);
+					},
+					npcTurnSeed);
+		} finally {
+			Util.random = turnRandom;
+			UtilText.setScriptRandom(turnRandom);
 		}
 		if(loopDebug) {
 			System.out.println("NPC loop end: "+(System.nanoTime()-tLoopStart)/1000000000f+"s");
@@ -2053,6 +2110,241 @@ public class Game implements XMLSaving {
 		return currentWeather;
 	}
 	
+	/** Run with -DnpcUpdateThreads=1 to plan every NPC's housekeeping on the game thread. */
+	private static final int NPC_UPDATE_THREADS = Integer.getInteger("npcUpdateThreads", Runtime.getRuntime().availableProcessors());
+	/** Below 64 NPCs, handing the planning to other threads costs more than it saves. */
+	private static final ParallelUpdatePhase<NPC, NPCTurnPlan> NPC_UPDATE_PHASE = new ParallelUpdatePhase<>(NPC_UPDATE_THREADS, 64);
+	
+	/**
+	 * Applies all of endTurn()'s per-NPC updates to this NPC.
+	 * @param slavesUpdated Whether the player's slaves have already had their status effects updated this turn.
+	 * @param plan This NPC's housekeeping, as planned at the start of endTurn()'s NPC updates, or null if it is to be planned now.
+	 */
+	private void updateNPC(NPC npc, int secondsPassedThisTurn, int hoursPassed, boolean newDay, boolean slavesUpdated, NPCTurnPlan plan, boolean loopDebug) {
+		boolean inGame = !npc.getLocationPlace().getPlaceType().equals(PlaceType.GENERIC_EMPTY_TILE);
+		
+		// Clean and set resource values:
+		if(plan==null || !plan.isCurrent(npc)) {
+			plan = NPCTurnPlan.create(npc, secondsPassedThisTurn);
+		}
+		plan.apply(npc);
+		
+		if(secondsPassedThisTurn>=0) {
+			if(!slavesUpdated || !npc.isSlave() || !npc.getOwner().isPlayer()) { // Player-owned slaves already had their status effects updated in the slavery events update loop
+				npc.calculateStatusEffects(secondsPassedThisTurn);
+			}
+		}
+		
+		// Replace clothing if not in player's tile:
+		if(inGame) {
+			if(hoursPassed > 0) {
+				if(!Main.game.isInCombat()
+						&& !Main.game.isInSex()
+						&& !npc.isAllowingPlayerToManageInventory()
+						&& (Main.game.getCurrentDialogueNode().equals(Main.game.getPlayer().getLocationPlace().getDialogue(false))
+								|| !(npc.getWorldLocation()==Main.game.getPlayer().getWorldLocation() && npc.getLocation().equals(Main.game.getPlayer().getLocation())))) {
+					if(npc.isPendingClothingDressing()) {
+						if(!npc.hasFetish(Fetish.FETISH_EXHIBITIONIST)) {
+							npc.replaceAllClothing(); // Not sure why this is here, if clothing is getting replaced anyway...
+						}
+						npc.equipClothing(Util.newArrayListOfValues(EquipClothingSetting.REPLACE_CLOTHING, EquipClothingSetting.ADD_WEAPONS));
+						npc.setPendingClothingDressing(false);
+						
+					} else if(!npc.isSlave()
+							&& !npc.isUnique()
+							&& !npc.hasFetish(Fetish.FETISH_EXHIBITIONIST)
+							&& (npc.hasStatusEffect(StatusEffect.EXPOSED) || npc.hasStatusEffect(StatusEffect.EXPOSED_BREASTS) || npc.hasStatusEffect(StatusEffect.EXPOSED_PLUS_BREASTS))) {
+						// Try to replace clothing to cover themselves up:
+						npc.replaceAllClothing();
+						
+						npc.calculateStatusEffects(0);
+						// If still exposed after this, get new clothes:
+						if(npc.hasStatusEffect(StatusEffect.EXPOSED) || npc.hasStatusEffect(StatusEffect.EXPOSED_BREASTS) || npc.hasStatusEffect(StatusEffect.EXPOSED_PLUS_BREASTS)) {
+							npc.equipClothing(Util.newArrayListOfValues(EquipClothingSetting.REPLACE_CLOTHING, EquipClothingSetting.ADD_WEAPONS));
+
+							if(loopDebug) {
+								System.out.println(npc.getName(true)+" "+npc.getClass().getName()+" got dressed");
+							}
+						}
+						npc.setPendingClothingDressing(false);
+					}
+				}
+			}
+		
+			if(npc.isPendingTransformationToGenderIdentity()
+					&& !npc.getLocation().equals(Main.game.getPlayer().getLocation())) {
+				boolean assVirgin = npc.isAssVirgin();
+				boolean faceVirgin = npc.isFaceVirgin();
+				boolean nippleVirgin = npc.isNippleVirgin();
+				boolean penisVirgin = npc.isPenisVirgin();
+				boolean urethraVirgin = npc.isUrethraVirgin();
+				boolean vaginaVirgin = npc.isVaginaVirgin();
+				boolean vaginaUrethraVirgin = npc.isVaginaUrethraVirgin();
+				
+				BodyMaterial material = npc.getBodyMaterial();
+				npc.setBody(npc.getGenderIdentity(), RacialBody.valueOfRace(Subspecies.getFleshSubspecies(npc).getRace()), npc.getBody().getRaceStageFromPartWeighting(), false);
+				npc.setBodyMaterial(material);
+				CharacterUtils.randomiseBody(npc, false);
+				
+				npc.setAssVirgin(assVirgin);
+				npc.setFaceVirgin(faceVirgin);
+				npc.setNippleVirgin(nippleVirgin);
+				npc.setPenisVirgin(penisVirgin);
+				npc.setUrethraVirgin(urethraVirgin);
+				npc.setVaginaVirgin(vaginaVirgin);
+				npc.setVaginaUrethraVirgin(vaginaUrethraVirgin);
+			}
+			
+			// Prostitutes stay on promiscuity pills to avoid pregnancies, and, if the NPC is male, to avoid knocking up their clients
+			if((!npc.isPregnant()
+					&& !npc.isSlave()
+					&& npc.getHistory()==Occupation.NPC_PROSTITUTE
+					&& !npc.hasStatusEffect(StatusEffect.PROMISCUITY_PILL)
+					&& !npc.getLocation().equals(Main.game.getPlayer().getLocation()))
+					|| (npc.isSlave() && npc.getSlavePermissionSettings().get(SlavePermission.PREGNANCY).contains(SlavePermissionSetting.PREGNANCY_PROMISCUITY_PILLS))) {
+				npc.useItem(AbstractItemType.generateItem(ItemType.PROMISCUITY_PILL), npc, false);
+			}
+			
+			if(npc.isSlave() && npc.getSlavePermissionSettings().get(SlavePermission.PREGNANCY).contains(SlavePermissionSetting.PREGNANCY_VIXENS_VIRILITY)) {
+				npc.useItem(AbstractItemType.generateItem(ItemType.VIXENS_VIRILITY), npc, false);
+			}
+		}
+		
+		if(npc.hasStatusEffect(StatusEffect.PREGNANT_3) && (Main.game.getSecondsPassed() - npc.getTimeProgressedToFinalPregnancyStage())>(12*60*60)) {
+			if(npc instanceof Lilaya) {
+				// Lilaya will only end pregnancy after you've seen it, or if she's a full demon:
+				if(Main.game.getNpc(Lilaya.class).isCharacterReactedToPregnancy(Main.game.getPlayer()) || npc.getRaceStage()==RaceStage.GREATER) {
+					npc.endPregnancy(true);
+				}
+				
+			} else {
+				npc.endPregnancy(true);
+				if(npc instanceof Kate) {
+					Main.game.getDialogueFlags().values.remove(DialogueFlagValue.reactedToKatePregnancy);
+				}
+			}
+		}
+		
+		if(npc.getWorldLocation()==Main.game.getPlayer().getWorldLocation() && npc.getLocation().equals(Main.game.getPlayer().getLocation())) {
+			for(CoverableArea ca : CoverableArea.values()) {
+				if(npc.isCoverableAreaVisible(ca) && ca!=CoverableArea.MOUTH) {// && Main.game.getPlayerCell().getPlace().getPlaceType()!=PlaceType.WATERING_HOLE_TOILETS) {
+					npc.setAreaKnownByCharacter(ca, Main.game.getPlayer(), true);
+				}
+			}
+		}
+		
+		for(int i=0; i<hoursPassed; i++) {
+			npc.hourlyUpdate();
+			if(inGame) {
+				npc.performHourlyFluidsCheck();
+			}
+		}
+		
+		if(newDay) {
+			long tL = System.nanoTime();
+			if(loopDebug && npc.isUnique()) {
+				System.out.print(npc.getName(true)+" daily reset loop: ");
+			}
+			npc.resetDaysOrgasmCount();
+			try {
+				npc.dailyUpdate();
+			} catch(Exception ex) {
+				System.err.println("Issue in method: dailyReset(), for character ID: "+npc.getId()+"\n"+ex.getMessage());
+				ex.printStackTrace();
+			}
+			if(loopDebug && npc.isUnique()) {
+				System.out.println((System.nanoTime()-tL)/1000000000f+"s");
+			}
+		}
+		
+		// Companions:
+		List<GameCharacter> companions = new ArrayList<>(npc.getCompanions());
+		for(GameCharacter companion : companions) {
+			// Updating companion NPCs:
+			companion.companionshipCheck();
+		}
+		for(GameCharacter character : npc.getCompanions()) {
+			character.setLocation(npc.getWorldLocation(), npc.getLocation(), false);
+		}
+		
+		npc.turnUpdate();
+	}
+	
+	/**
+	 * NPCs which are not near the player, are not needed by the player's slaves, occupants or party, and have no hourly, daily, or turn updates of their own, are DORMANT,
+	 *  and are not updated by endTurn() until they are next needed.
+	 * @param playerSlaveAndOccupantIds The ids of all of the player's slaves and friendly occupants, which is passed in so that it's only built once per turn, rather than the player's lists being searched for every NPC.
+	 */
+	public NPCActivityTier getActivityTier(NPC npc, Set<String> playerSlaveAndOccupantIds) {
+		if(isCharacterPresent(npc)
+				|| Main.game.getPlayer().hasCompanion(npc)
+				|| npc.isSubordinateInParty()
+				|| npc.hasCompanions()
+				|| playerSlaveAndOccupantIds.contains(npc.getId())) {
+			return NPCActivityTier.ACTIVE;
+		}
+		if(npc.getWorldLocation()==Main.game.getPlayer().getWorldLocation() || npc.isUpdatedOverTime()) {
+			return NPCActivityTier.NEARBY;
+		}
+		return NPCActivityTier.DORMANT;
+	}
+	
+	/**
+	 * If this NPC is dormant, brings them up to date by applying endTurn()'s updates to them for all of the time that has passed since they became dormant.<br/>
+	 * <b>Note:</b> NPCs are not woken by being looked up (such as by getNPCById()), so this should be called before reading or changing the time-dependent state (status effects, lust, pregnancies, clothing, etc.) of an NPC who might not be near the player.
+	 *  NPCs who are in the player's cell when the scene changes are woken by setContent(), and those who are needed again are woken by endTurn().<br/>
+	 * <b>Must not</b> be called while endTurn() is planning NPC updates (such as from NPCTurnPlan.create()), as planning must not change anything.
+	 */
+	public void wakeNPC(NPC npc) {
+		wakeNPC(npc, getSecondsPassed());
+	}
+	
+	/**
+	 * Catches the dormant NPC up until the supplied time, one day at a time, so that their daily updates (such as resetDaysOrgasmCount() and dailyUpdate()) are applied once for each day which has passed.
+	 */
+	private void wakeNPC(NPC npc, long untilSeconds) {
+		if(NPC_UPDATE_PHASE.isPlanning()) {
+			throw new IllegalStateException("NPCs can't be woken while endTurn() is planning NPC updates, as planning must not change anything: "+npc.getId());
+		}
+		if(!npc.isDormant()) {
+			return;
+		}
+		long fromSeconds = npc.getDormantSinceSeconds();
+		npc.setDormantSinceSeconds(-1); // Set before updating, as the update might look this NPC up again
+		while(fromSeconds<untilSeconds) {
+			long toSeconds = Math.min(untilSeconds, getDayNumber(fromSeconds) * 24L * 60 * 60); // Up to the start of the next day
+			updateNPC(npc,
+					(int) (toSeconds - fromSeconds),
+					(int) (toSeconds/(60*60) - fromSeconds/(60*60)),
+					getDayNumber(toSeconds) != getDayNumber(fromSeconds),
+					false,
+					null,
+					false);
+			fromSeconds = toSeconds;
+		}
+	}
+	
+	/**
+	 * Brings every dormant NPC up to date, such as before saving.
+	 */
+	public void wakeDormantNPCs() {
+		for(NPC npc : new ArrayList<>(NPCMap.values())) {
+			wakeNPC(npc);
+		}
+	}
+	
+	/**
+	 * Brings every dormant NPC in the player's cell up to date, so that the scene which is about to be shown doesn't use their out-of-date state.
+	 */
+	private void wakeNPCsPresent() {
+		if(player==null || !isStarted()) {
+			return;
+		}
+		for(NPC npc : getCharactersPresent()) {
+			wakeNPC(npc);
+		}
+	}
+	
 	/**
 	 * Sets the content of the main WebView based on the response of the current Dialogue Node's index.
 	 * 
@@ -2085,6 +2377,7 @@ public class Game implements XMLSaving {
 			if(node!=null) {
 				node.applyPreParsingEffects();
 			}
+			wakeNPCsPresent();
 			
 			if(response instanceof ResponseCombat) {
 				setContent(new Response("", "", ((ResponseCombat)response).initCombat()));
@@ -2295,6 +2588,7 @@ public class Game implements XMLSaving {
 		if(node!=null) {
 			node.applyPreParsingEffects();
 		}
+		wakeNPCsPresent();
 		
 		if(response instanceof ResponseCombat) {
 			setContent(new Response("", "", ((ResponseCombat)response).initCombat()));
@@ -3180,11 +3474,40 @@ public class Game implements XMLSaving {
 		return getCharactersPresent(cell.getType(), cell.getLocation());
 	}
 	
+	/**
+	 * @return true if the character is in the same cell as the player. This is equivalent to getCharactersPresent().contains(character), but doesn't need to build the list.
+	 */
+	public boolean isCharacterPresent(GameCharacter character) {
+		if(player==null) {
+			return false;
+		}
+		return isCharacterPresent(player.getCell(), character);
+	}
+	
+	/**
+	 * @return true if the character is in the supplied cell. This is equivalent to getCharactersPresent(cell).contains(character), but doesn't need to build the list.
+	 */
+	public boolean isCharacterPresent(Cell cell, GameCharacter character) {
+		return character instanceof NPC && cell.isCharacterPresentId(character.getId());
+	}
+	
+	/**
+	 * The sorted list of NPCs in each cell is kept by the cell, and is only rebuilt after a character has entered or left it.
+	 * @return A new list of the NPCs present at the location, sorted by level and then name.
+	 */
 	public List<NPC> getCharactersPresent(WorldType worldType, Vector2i location) {
+		Cell cell = getWorlds().get(worldType).getCell(location);
+		List<NPC> sorted = cell.getCharactersPresentSorted();
+		if(sorted!=null) {
+			return new ArrayList<>(sorted);
+		}
+		
+		int modificationCount = cell.getCharactersPresentModificationCount();
+		boolean complete = true;
 		List<NPC> charactersPresent = new ArrayList<>();
 		
-		if(getWorlds().get(worldType).getCell(location).getCharactersPresentIds()!=null) {
-			Set<String> ids = new HashSet<>(getWorlds().get(worldType).getCell(location).getCharactersPresentIds());
+		if(cell.getCharactersPresentIds()!=null) {
+			Set<String> ids = new HashSet<>(cell.getCharactersPresentIds());
 			for(String id : ids) {
 				try {
 					GameCharacter character = getNPCById(id);
@@ -3192,9 +3515,10 @@ public class Game implements XMLSaving {
 						charactersPresent.add((NPC) character);
 					}
 				} catch (Exception e) {
+					complete = false;
 					if(Main.game.isStarted()) { // Only check once game has started, otherwise initialisation methods (such as equipClothing) may end up breaking this:
 						System.err.println("Failed to load character present: "+id);
-						getWorlds().get(worldType).getCell(location).removeCharacterPresentId(id);
+						cell.removeCharacterPresentId(id);
 					}
 //					e.printStackTrace();
 				}
@@ -3207,6 +3531,12 @@ public class Game implements XMLSaving {
 						?c2.getName(true).compareTo(c1.getName(true))
 						:(c2.getLevel()-c1.getLevel()));
 		} catch(Exception ex) {
+			complete = false;
+		}
+		
+		// Characters which couldn't be found may be added later on (such as while loading), so the list is only kept if every character was found:
+		if(complete) {
+			cell.setCharactersPresentSorted(new ArrayList<>(charactersPresent), modificationCount);
 		}
 		
 		return charactersPresent;
@@ -3546,14 +3876,22 @@ public class Game implements XMLSaving {
 	}
 	
 	public List<NPC> getReindeerOverseers() {
-		List<NPC> reindeerOverseers = new ArrayList<>(getAllNPCs());
+		List<NPC> reindeerOverseers = new ArrayList<>(NPCMap.values());
 		
 		reindeerOverseers.removeIf(npc -> !npc.getClass().equals(ReindeerOverseer.class));
+		for(NPC npc : reindeerOverseers) {
+			wakeNPC(npc);
+		}
 		
 		return reindeerOverseers;
 	}
 	
+	/**
+	 * Any dormant NPCs (see wakeNPC()) are brought up to date first, as callers of this method read the state of every NPC.
+	 * @return A new list of every NPC.
+	 */
 	public List<NPC> getAllNPCs() {
+		wakeDormantNPCs();
 		return new ArrayList<NPC>(NPCMap.values());
 	}
 	
@@ -3587,7 +3925,11 @@ public class Game implements XMLSaving {
 		return NPCMap.get(id);
 	}
 	
+	/**
+	 * As with getAllNPCs(), any dormant NPCs are brought up to date first.
+	 */
 	public Map<String, NPC> getNPCMap() {
+		wakeDormantNPCs();
 		return NPCMap;
 	}
 	
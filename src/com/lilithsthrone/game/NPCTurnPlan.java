@@ -0,0 +1,130 @@
+package com.lilithsthrone.game;
+
+import com.lilithsthrone.game.character.npc.NPC;
+import com.lilithsthrone.game.occupantManagement.SlavePermissionSetting;
+import com.lilithsthrone.main.Main;
+import com.lilithsthrone.utils.Vector2i;
+import com.lilithsthrone.world.WorldType;
+import com.lilithsthrone.world.places.PlaceType;
+
+/**
+ * The housekeeping that Game.endTurn() does to an NPC at the start of their update (cleaning, and resetting or regenerating resources).<br/>
+ * <br/>
+ * Working out what needs doing only reads the NPC and the player, so plans for every NPC are created at once in the planning phase of endTurn()'s ParallelUpdatePhase, on any number of threads.
+ *  Each plan is then applied on the game thread, right before the rest of its NPC's update, as the changes themselves go through UtilText and the characters' listeners.<br/>
+ * <br/>
+ * As a plan is made before any NPC is updated, an earlier NPC's update could have changed what it was based on (such as by moving the NPC, or making them a companion).
+ *  isCurrent() checks for this, and such plans are made again on the game thread.
+ *
+ * @since 0.3.5.8
+ * @version 0.3.5.8
+ * @author Innoxia
+ */
+class NPCTurnPlan {
+
+	private final boolean cleanClothing;
+	private final boolean cleanBody;
+	private final boolean restoreResources;
+	private final float healthIncrement;
+	private final float manaIncrement;
+	/** The seconds to pass to alignLustToRestingLust(), or -1 if lust is not to be aligned. */
+	private final int lustAlignmentSeconds;
+
+	// What the plan was based on, which other NPCs' updates could change:
+	private final WorldType worldLocation;
+	private final Vector2i location;
+	private final boolean slave;
+	private final boolean companion;
+
+	private NPCTurnPlan(NPC npc, boolean cleanClothing, boolean cleanBody, boolean restoreResources, float healthIncrement, float manaIncrement, int lustAlignmentSeconds) {
+		this.worldLocation = npc.getWorldLocation();
+		this.location = npc.getLocation();
+		this.slave = npc.isSlave();
+		this.companion = Main.game.getPlayer().hasCompanion(npc);
+		this.cleanClothing = cleanClothing;
+		this.cleanBody = cleanBody;
+		this.restoreResources = restoreResources;
+		this.healthIncrement = healthIncrement;
+		this.manaIncrement = manaIncrement;
+		this.lustAlignmentSeconds = lustAlignmentSeconds;
+	}
+
+	/**
+	 * <b>Must not change anything</b>, as this is called for many NPCs at once from endTurn()'s parallel phase. Reading the NPC's attributes (which can fill in their attribute value cache) is fine, as each NPC is only ever planned by one thread.
+	 */
+	static NPCTurnPlan create(NPC npc, int secondsPassedThisTurn) {
+		boolean inGame = !npc.getLocationPlace().getPlaceType().equals(PlaceType.GENERIC_EMPTY_TILE);
+
+		// Non-slave NPCs clean clothes:
+		boolean cleanClothing = false;
+		boolean cleanBody = false;
+		if(inGame) {
+			if(!Main.game.isCharacterPresent(npc)) {
+				cleanClothing = !npc.isSlave() || npc.hasSlavePermissionSetting(SlavePermissionSetting.CLEANLINESS_WASH_CLOTHES);
+				cleanBody = !npc.isSlave() || npc.hasSlavePermissionSetting(SlavePermissionSetting.CLEANLINESS_WASH_BODY);
+			}
+		}
+
+		// Set NPC resource values:
+		boolean restoreResources = false;
+		float healthIncrement = 0;
+		float manaIncrement = 0;
+		int lustAlignmentSeconds = -1;
+		if(secondsPassedThisTurn>=0) {
+			if(inGame) {
+				if(!Main.game.isInCombat() && !Main.game.isInSex() && Main.game.isPrologueFinished()) { // Do not alter values during combat, sex, or prologue
+					if(!Main.game.getPlayer().hasCompanion(npc)) {
+						restoreResources = !Main.game.getPlayer().getLocation().equals(npc.getLocation());
+						lustAlignmentSeconds = secondsPassedThisTurn*10;
+					} else {
+						// Regenerate health and stamina over time:
+						if (npc.getHealthPercentage() < 1) {
+							healthIncrement = (secondsPassedThisTurn/60f) * npc.getRegenerationRate();
+						}
+						if (npc.getManaPercentage() < 1) {
+							manaIncrement = (secondsPassedThisTurn/60f) * npc.getRegenerationRate();
+						}
+						lustAlignmentSeconds = secondsPassedThisTurn;
+					}
+				}
+			}
+		}
+
+		return new NPCTurnPlan(npc, cleanClothing, cleanBody, restoreResources, healthIncrement, manaIncrement, lustAlignmentSeconds);
+	}
+
+	/**
+	 * @return false if something which this plan was based on has changed since it was made, in which case a new plan should be made.
+	 */
+	boolean isCurrent(NPC npc) {
+		return npc.getWorldLocation()==worldLocation
+				&& npc.getLocation().equals(location)
+				&& npc.isSlave()==slave
+				&& Main.game.getPlayer().hasCompanion(npc)==companion;
+	}
+
+	/**
+	 * Must be called on the game thread.
+	 */
+	void apply(NPC npc) {
+		if(cleanClothing) {
+			npc.cleanAllClothing(true);
+		}
+		if(cleanBody) {
+			npc.cleanAllDirtySlots();
+		}
+		if(restoreResources) {
+			npc.setHealthPercentage(1);
+			npc.setManaPercentage(1);
+		}
+		if(healthIncrement!=0) {
+			npc.incrementHealth(healthIncrement);
+		}
+		if(manaIncrement!=0) {
+			npc.incrementMana(manaIncrement);
+		}
+		if(lustAlignmentSeconds>=0) {
+			npc.alignLustToRestingLust(lustAlignmentSeconds);
+		}
+	}
+}
@@ -0,0 +1,114 @@
+package com.lilithsthrone.game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Runs an update over many items in two phases:<br/>
+ * <b>Planning</b>, in which a plan is made for every item at once, on any number of threads. Planning must only read, so every plan is based on the state from before any item was updated.<br/>
+ * <b>Applying</b>, in which each item's plan is applied (along with anything else that changes shared state), one item at a time, on the calling thread, in order of the items' ids.<br/>
+ * <br/>
+ * Each item is given its own Random while it is being applied, seeded from the phase's seed and the item's id.
+ *  As nothing is changed while planning, and the order in which items are applied (and the randomness that each item sees) doesn't depend on the number of threads, the result is the same no matter how many threads are used.
+ *
+ * @since 0.3.5.8
+ * @version 0.3.5.8
+ * @author Innoxia
+ */
+class ParallelUpdatePhase<T, P> {
+
+	interface Applier<T, P> {
+		/**
+		 * @param plan The item's plan, which was made before any item was applied.
+		 * @param random The Random to use for anything random in this item's update.
+		 */
+		void apply(T item, P plan, Random random);
+	}
+
+	private final ForkJoinPool pool;
+	private final int parallelThreshold;
+	/** Set for the whole of the planning phase, whichever threads it is on, so that methods which change things can refuse to be called from a planner. */
+	private volatile boolean planning = false;
+
+	/**
+	 * @param threads The number of threads to plan on. If this is 1 or less, all planning is done on the calling thread.
+	 * @param parallelThreshold Below this many items, handing the planning to other threads costs more than it saves, so it is done on the calling thread.
+	 */
+	ParallelUpdatePhase(int threads, int parallelThreshold) {
+		this.pool = threads>1 ? new ForkJoinPool(threads) : null;
+		this.parallelThreshold = parallelThreshold;
+	}
+
+	/**
+	 * @param ids Gives each item's id, which must be unique. Items are applied in the ids' natural order.
+	 * @param planner <b>Must not change anything</b> other than the item's own caches, as it is called for many items at once.
+	 * @param seed The seed from which each item's Random is made.
+	 */
+	void run(Collection<T> items, Function<T, String> ids, Function<T, P> planner, Applier<T, P> applier, long seed) {
+		List<T> orderedItems = new ArrayList<>(items);
+		orderedItems.sort(Comparator.comparing(ids));
+
+		List<P> plans;
+		planning = true;
+		try {
+			plans = plan(orderedItems, planner);
+		} finally {
+			planning = false;
+		}
+
+		for(int i=0; i<orderedItems.size(); i++) {
+			T item = orderedItems.get(i);
+			applier.apply(item, plans.get(i), new Random(getItemSeed(seed, ids.apply(item))));
+		}
+	}
+
+	/**
+	 * @return true while plans are being made, during which nothing may be changed.
+	 */
+	boolean isPlanning() {
+		return planning;
+	}
+
+	/**
+	 * @return The plan of each item, at the same index as the item.
+	 */
+	private List<P> plan(List<T> items, Function<T, P> planner) {
+		@SuppressWarnings("unchecked")
+		P[] plans = (P[]) new Object[items.size()];
+		if(pool!=null && plans.length>=parallelThreshold) {
+			try {
+				pool.submit(() -> IntStream.range(0, plans.length).parallel().forEach(i -> plans[i] = planner.apply(items.get(i)))).get();
+				return Arrays.asList(plans);
+
+			} catch(InterruptedException | ExecutionException ex) {
+				System.err.println("ParallelUpdatePhase: Failed to plan in parallel, so planning on the calling thread instead.");
+				ex.printStackTrace();
+				if(ex instanceof InterruptedException) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+		for(int i=0; i<plans.length; i++) {
+			plans[i] = planner.apply(items.get(i));
+		}
+		return Arrays.asList(plans);
+	}
+
+	/**
+	 * Mixes the id into the seed, so that items whose ids are similar still get unrelated Randoms.
+	 */
+	static long getItemSeed(long seed, String id) {
+		long z = seed + id.hashCode() * 0x9E3779B97F4A7C15L;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+}
@@ -2,7 +2,7 @@ package com.lilithsthrone.game;
 
 /**
  * @since 0.2.2
- * @version 0.3.5.5
+ * @version 0.3.5.8
  * @author Innoxia
  */
 public enum PropertyValue {
@@ -18,6 +18,9 @@ public enum PropertyValue {
 	
 	lightTheme(false),
 	overwriteWarning(true),
+	backgroundSaving(true),
+	binarySaves(false),
+	dialogueReloading(false),
 	fadeInText(false),
 	calendarDisplay(true),
 	tattooRemovalConfirmations(true),
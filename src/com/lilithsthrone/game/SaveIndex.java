@@ -0,0 +1,467 @@
+package com.lilithsthrone.game;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import com.lilithsthrone.game.character.PlayerCharacter;
+import com.lilithsthrone.game.character.body.valueEnums.Femininity;
+import com.lilithsthrone.game.character.persona.NameTriplet;
+import com.lilithsthrone.main.Main;
+import com.lilithsthrone.utils.Util;
+import com.lilithsthrone.utils.XMLBinaryReader;
+import com.lilithsthrone.utils.XMLStreamSaver;
+import com.lilithsthrone.world.WorldType;
+
+/**
+ * Keeps a summary of every save file in data/saves/index.idx, so that the save/load menu can show information about each save without having to open the saves themselves.<br/>
+ * Entries are written whenever a game is saved. Each entry records the modification time and size of its save file, and if they no longer match (or there's no entry for a save), the entry is rebuilt from the save file the next time that the index is used.<br/>
+ * <br/>
+ * A copy of each entry is also saved in the save file itself (as the 'saveSummary' element of its coreInfo), so that the entry can be rebuilt exactly (thumbnail included) by reading only the first section of the save.
+ *
+ * @since 0.3.5.8
+ * @version 0.3.5.8
+ * @author Innoxia
+ */
+public class SaveIndex {
+
+	public static final String SAVE_FOLDER = "data/saves";
+	/** Not given an .xml extension, so that it can't clash with a save. */
+	public static final String INDEX_FILE = SAVE_FOLDER+"/index.idx";
+
+	private static final XMLInputFactory INPUT_FACTORY = XMLInputFactory.newInstance();
+	private static final String SUMMARY_TAG = "saveSummary";
+
+	/** Keyed by save name (the file name without its extension). null until the index file has been read. */
+	private static Map<String, Entry> entries = null;
+
+	public static class Entry {
+		private String fileName;
+		private long lastModified;
+		private long length;
+
+		private String version = "";
+		private String playerName = "";
+		private int playerLevel = 0;
+		private String location = "";
+		private long secondsPassed = 0;
+		private String thumbnail = "";
+
+		private Entry() {
+		}
+
+		public File getFile() {
+			return new File(SAVE_FOLDER, fileName);
+		}
+
+		public String getSaveName() {
+			return Util.getFileName(fileName);
+		}
+
+		public long getLastModified() {
+			return lastModified;
+		}
+
+		public String getVersion() {
+			return version;
+		}
+
+		public String getPlayerName() {
+			return playerName;
+		}
+
+		public int getPlayerLevel() {
+			return playerLevel;
+		}
+
+		public String getLocation() {
+			return location;
+		}
+
+		public long getSecondsPassed() {
+			return secondsPassed;
+		}
+
+		public int getDayNumber() {
+			return (int) (1 + (secondsPassed / (24 * 60 * 60)));
+		}
+
+		/**
+		 * @return The SVG icon of the tile that the player was on when the game was saved. Empty if unknown.
+		 */
+		public String getThumbnail() {
+			return thumbnail;
+		}
+
+		private boolean isStale(File file) {
+			return !file.getName().equals(fileName) || file.lastModified()!=lastModified || file.length()!=length;
+		}
+
+		private void setFileInformation(File file) {
+			fileName = file.getName();
+			lastModified = file.lastModified();
+			length = file.length();
+		}
+
+		/**
+		 * Adds this entry's summary of the game (i.e. everything except for its file information) to the element.
+		 */
+		private void writeSummary(Element element, Document doc) {
+			element.setAttribute("version", version);
+			element.setAttribute("playerName", playerName);
+			element.setAttribute("playerLevel", String.valueOf(playerLevel));
+			element.setAttribute("location", location);
+			element.setAttribute("secondsPassed", String.valueOf(secondsPassed));
+			if(!thumbnail.isEmpty()) {
+				element.appendChild(doc.createCDATASection(thumbnail));
+			}
+		}
+
+		private void readSummary(Element element) {
+			version = element.getAttribute("version");
+			playerName = element.getAttribute("playerName");
+			playerLevel = Integer.valueOf(element.getAttribute("playerLevel"));
+			location = element.getAttribute("location");
+			secondsPassed = Long.valueOf(element.getAttribute("secondsPassed"));
+			thumbnail = element.getTextContent();
+		}
+
+		/**
+		 * Saves this entry's summary of the game into the coreInfo of the save that it's for, so that readEntry() can rebuild the entry from only that section.
+		 */
+		public void saveAsXML(Element coreInfo, Document doc) {
+			Element element = doc.createElement(SUMMARY_TAG);
+			coreInfo.appendChild(element);
+			writeSummary(element, doc);
+		}
+	}
+
+	/**
+	 * @return The index entries of all saves, with the most recently saved first.
+	 */
+	public static synchronized List<Entry> getEntries() {
+		validate();
+		List<Entry> list = new ArrayList<>(entries.values());
+		list.sort(Comparator.comparingLong(Entry::getLastModified).reversed());
+		return list;
+	}
+
+	/**
+	 * @return The index entry of the save with this name, or null if there is no such save.
+	 */
+	public static synchronized Entry getEntry(String saveName) {
+		if(entries==null) {
+			validate();
+		}
+		Entry entry = entries.get(saveName);
+		if(entry!=null && entry.isStale(entry.getFile())) {
+			validate();
+			entry = entries.get(saveName);
+		}
+		return entry;
+	}
+
+	/**
+	 * Creates the index entry for the current game, from the game's state. This must be called on the game thread, but the entry is only added to the index with addEntry() once the save file has been written.
+	 */
+	public static Entry createEntry() {
+		Entry entry = new Entry();
+		entry.version = Main.VERSION_NUMBER;
+		PlayerCharacter player = Main.game.getPlayer();
+		if(player!=null) {
+			entry.playerName = player.getNameTriplet().getName(player.getFemininity());
+			entry.playerLevel = player.getLevel();
+			try {
+				entry.location = Main.game.getPlayerCell().getPlace().getName()+", "+player.getWorldLocation().getName();
+				String thumbnail = Main.game.getPlayerCell().getPlace().getSVGString();
+				entry.thumbnail = thumbnail==null ? "" : thumbnail;
+			} catch(Exception ex) {
+				entry.location = player.getWorldLocation().getName();
+			}
+		}
+		entry.secondsPassed = Main.game.getSecondsPassed();
+		return entry;
+	}
+
+	/**
+	 * Adds the entry to the index as the entry for the supplied (newly written) save file, replacing any previous entry for a save of the same name, and then writes the index.
+	 */
+	public static synchronized void addEntry(File saveFile, Entry entry) {
+		if(entries==null) {
+			load();
+		}
+		entry.setFileInformation(saveFile);
+		entries.put(entry.getSaveName(), entry);
+		save();
+	}
+
+	/**
+	 * Updates the file information of an existing entry after its save has been rewritten without being changed (i.e. converted to another format).
+	 */
+	public static synchronized void updateFileInformation(File oldSaveFile, File newSaveFile) {
+		if(entries==null) {
+			load();
+		}
+		Entry entry = entries.get(Util.getFileName(oldSaveFile));
+		if(entry!=null) {
+			entries.remove(entry.getSaveName());
+			entry.setFileInformation(newSaveFile);
+			entries.put(entry.getSaveName(), entry);
+			save();
+		}
+	}
+
+	public static synchronized void removeEntry(String saveName) {
+		if(entries==null) {
+			load();
+		}
+		if(entries.remove(saveName)!=null) {
+			save();
+		}
+	}
+
+	/**
+	 * Lists the save folder (without opening any of the saves), and brings the index up to date with it. Only saves which are new or have been changed since their entry was written are read.
+	 */
+	private static void validate() {
+		if(entries==null) {
+			load();
+		}
+		boolean changed = false;
+		Set<String> saveNames = new HashSet<>();
+
+		File dir = new File(SAVE_FOLDER);
+		File[] saveFiles = dir.isDirectory()
+				? dir.listFiles((path, name) -> Main.isSaveFileName(name))
+				: null;
+		if(saveFiles!=null) {
+			for(File file : saveFiles) {
+				String saveName = Util.getFileName(file);
+				if(!saveNames.add(saveName)) {
+					continue; // Both formats of a save exist; Main.getSaveFile() decides which one is used
+				}
+				File saveFile = Main.getSaveFile(saveName);
+				Entry entry = entries.get(saveName);
+				if(entry==null || entry.isStale(saveFile)) {
+					entries.put(saveName, readEntry(saveFile));
+					changed = true;
+				}
+			}
+		}
+
+		if(entries.keySet().retainAll(saveNames)) {
+			changed = true;
+		}
+		if(changed) {
+			save();
+		}
+	}
+
+	/**
+	 * Builds an entry from the save file itself, reading the save's sections in a single pass.<br/>
+	 * If the save has a copy of its entry in its coreInfo (which is the first section), the entry is rebuilt from that, and nothing after coreInfo is read.
+	 *  Older saves don't, so their entry is built from the coreInfo and playerCharacter sections instead, in which case reading stops as soon as playerCharacter has been read.
+	 *  (As playerCharacter is saved after the maps, this does still mean going past the maps, but no DOM is built for them.) Such entries have no thumbnail,
+	 *  and their location is only the name of the world, as which tile the player was on isn't known without reading the maps.
+	 */
+	private static Entry readEntry(File saveFile) {
+		Entry entry = new Entry();
+		entry.setFileInformation(saveFile);
+		try {
+			Element[] sections = XMLBinaryReader.isBinaryFile(saveFile)
+					? XMLBinaryReader.readSections(saveFile, SaveIndex::hasSummary, "coreInfo", "playerCharacter")
+					: readXMLSections(saveFile, "coreInfo", "playerCharacter");
+			Element coreInfo = sections[0];
+			Element playerCharacter = sections[1];
+
+			if(hasSummary(sections)) {
+				entry.readSummary(getFirstElement(coreInfo, SUMMARY_TAG));
+				return entry;
+			}
+			if(coreInfo!=null) {
+				entry.version = coreInfo.getAttribute("version");
+				if(!coreInfo.getAttribute("secondsPassed").isEmpty()) {
+					entry.secondsPassed = Long.valueOf(coreInfo.getAttribute("secondsPassed"));
+				}
+			}
+			if(playerCharacter!=null) {
+				Element name = getFirstElement(playerCharacter, "name");
+				Element bodyCore = getFirstElement(playerCharacter, "bodyCore");
+				if(name!=null && bodyCore!=null) {
+					// The same as the name in createEntry():
+					NameTriplet nameTriplet = new NameTriplet(name.getAttribute("nameMasculine"), name.getAttribute("nameAndrogynous"), name.getAttribute("nameFeminine"));
+					entry.playerName = nameTriplet.getName(Femininity.valueOf(Integer.valueOf(bodyCore.getAttribute("femininity"))));
+				}
+				Element level = getFirstElement(playerCharacter, "level");
+				if(level!=null) {
+					entry.playerLevel = Integer.valueOf(level.getAttribute("value"));
+				}
+				Element worldLocation = getFirstElement(playerCharacter, "worldLocation");
+				if(worldLocation!=null) {
+					try {
+						entry.location = WorldType.valueOf(worldLocation.getAttribute("value")).getName();
+					} catch(Exception ex) {
+						entry.location = worldLocation.getAttribute("value");
+					}
+				}
+			}
+		} catch(Exception ex) {
+			System.err.println("SaveIndex: Failed to read information from save file: "+saveFile.getName());
+		}
+		return entry;
+	}
+
+	/**
+	 * @param sections The coreInfo section (or null if it hasn't been read), followed by any other sections.
+	 * @return true if the coreInfo section contains the save's index entry, meaning that no other section is needed.
+	 */
+	private static boolean hasSummary(Element[] sections) {
+		return sections[0]!=null && getFirstElement(sections[0], SUMMARY_TAG)!=null;
+	}
+
+	private static Element getFirstElement(Element parent, String tagName) {
+		NodeList nodes = parent.getElementsByTagName(tagName);
+		if(nodes.getLength()==0) {
+			return null;
+		}
+		return (Element) nodes.item(0);
+	}
+
+	/**
+	 * Streams through an XML save, building DOM elements for only the top-level sections with the supplied tag names (attributes, child elements, and text).
+	 *  Stops as soon as all of them have been found, or as soon as the sections found so far satisfy hasSummary().
+	 */
+	private static Element[] readXMLSections(File file, String... tagNames) throws Exception {
+		Element[] sections = new Element[tagNames.length];
+		int found = 0;
+		Document doc = XMLStreamSaver.newScratchDocument();
+
+		try(InputStream is = new BufferedInputStream(new FileInputStream(file))) {
+			XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(is);
+			try {
+				int depth = 0;
+				Element current = null;
+				int sectionIndex = -1;
+				boolean finished = false;
+				while(reader.hasNext() && !finished) {
+					switch(reader.next()) {
+						case XMLStreamConstants.START_ELEMENT:
+							depth++;
+							if(current==null) {
+								if(depth==2) {
+									for(int i=0; i<tagNames.length; i++) {
+										if(sections[i]==null && tagNames[i].equals(reader.getLocalName())) {
+											sectionIndex = i;
+											current = createElement(doc, reader);
+											doc.appendChild(current);
+										}
+									}
+								}
+							} else {
+								Element child = createElement(doc, reader);
+								current.appendChild(child);
+								current = child;
+							}
+							break;
+
+						case XMLStreamConstants.CHARACTERS:
+						case XMLStreamConstants.CDATA:
+							if(current!=null) {
+								current.appendChild(doc.createTextNode(reader.getText()));
+							}
+							break;
+
+						case XMLStreamConstants.END_ELEMENT:
+							depth--;
+							if(current!=null) {
+								if(current.getParentNode()==doc) {
+									sections[sectionIndex] = current;
+									found++;
+									finished = found==tagNames.length || hasSummary(sections);
+									doc = XMLStreamSaver.newScratchDocument();
+									current = null;
+								} else {
+									current = (Element) current.getParentNode();
+								}
+							}
+							break;
+					}
+				}
+			} finally {
+				reader.close();
+			}
+		}
+		return sections;
+	}
+
+	private static Element createElement(Document doc, XMLStreamReader reader) {
+		Element element = doc.createElement(reader.getLocalName());
+		for(int i=0; i<reader.getAttributeCount(); i++) {
+			element.setAttribute(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+		}
+		return element;
+	}
+
+	private static void load() {
+		entries = new HashMap<>();
+		File indexFile = new File(INDEX_FILE);
+		if(!indexFile.exists()) {
+			return;
+		}
+		try {
+			Document doc = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(indexFile);
+			NodeList saveElements = doc.getDocumentElement().getElementsByTagName("save");
+			for(int i=0; i<saveElements.getLength(); i++) {
+				Element e = (Element) saveElements.item(i);
+				Entry entry = new Entry();
+				entry.fileName = e.getAttribute("file");
+				entry.lastModified = Long.valueOf(e.getAttribute("lastModified"));
+				entry.length = Long.valueOf(e.getAttribute("length"));
+				entry.readSummary(e);
+				entries.put(entry.getSaveName(), entry);
+			}
+		} catch(Exception ex) {
+			System.err.println("SaveIndex: Index file could not be read, so it will be rebuilt.");
+			entries.clear();
+		}
+	}
+
+	private static void save() {
+		new File(SAVE_FOLDER).mkdirs();
+		try(XMLStreamSaver saver = new XMLStreamSaver(Paths.get(INDEX_FILE))) {
+			saver.writeStartElement("saveIndex");
+			Document doc = XMLStreamSaver.newScratchDocument();
+			for(Entry entry : entries.values()) {
+				Element e = doc.createElement("save");
+				e.setAttribute("file", entry.fileName);
+				e.setAttribute("lastModified", String.valueOf(entry.lastModified));
+				e.setAttribute("length", String.valueOf(entry.length));
+				entry.writeSummary(e, doc);
+				saver.writeElement(e);
+			}
+			saver.writeEndElement();
+
+		} catch(Exception ex) {
+			System.err.println("SaveIndex: Failed to write index file.");
+			ex.printStackTrace();
+		}
+	}
+}
@@ -136,6 +136,9 @@ import com.lilithsthrone.game.character.effects.Perk;
 import com.lilithsthrone.game.character.effects.PerkCategory;
 import com.lilithsthrone.game.character.effects.PerkManager;
 import com.lilithsthrone.game.character.effects.StatusEffect;
+import com.lilithsthrone.game.character.effects.StatusEffectConditionCache;
+import com.lilithsthrone.game.character.effects.StatusEffectDependency;
+import com.lilithsthrone.game.character.effects.StatusEffectSteps;
 import com.lilithsthrone.game.character.fetishes.Fetish;
 import com.lilithsthrone.game.character.fetishes.FetishDesire;
 import com.lilithsthrone.game.character.fetishes.FetishLevel;
@@ -281,6 +284,9 @@ public abstract class GameCharacter implements XMLSaving {
 	
 	public static final int DEFAULT_TIME_START_VALUE = -1;
 	
+	/** Run with -DverifyAttributes=true to check every cached attribute value against a fresh calculation, logging any which differ. */
+	public static final boolean VERIFY_ATTRIBUTE_CACHE = Boolean.valueOf(System.getProperty("verifyAttributes", "false"));
+	
 	// Core variables:
 	protected String id;
 	protected NameTriplet nameTriplet;
@@ -315,6 +321,9 @@ public abstract class GameCharacter implements XMLSaving {
 	protected Vector2i location;
 	protected Vector2i homeLocation;
 	protected Vector2i globalLocation;
+	/** While true, setting this character's location only changes the fields above, and neither the Cells nor this character's companions are touched. See setCellRegistrationDeferred(). */
+	private boolean cellRegistrationDeferred = false;
+	private boolean globalLocationSetWhileDeferred = false;
 	
 	
 	// Body:
@@ -335,6 +344,14 @@ public abstract class GameCharacter implements XMLSaving {
 	protected Map<Attribute, Float> attributes;
 	protected Map<Attribute, Float> bonusAttributes;
 	protected Map<Attribute, Float> potionAttributes;
+	/** The values returned by getAttributeValue(), indexed by Attribute ordinal, which are only valid while the matching attributeValueCached entry is true. */
+	private final float[] attributeValueCache = new float[Attribute.values().length];
+	private final boolean[] attributeValueCached = new boolean[Attribute.values().length];
+	// The external state which the cached values were calculated with:
+	private boolean attributeValueCacheNewWorld;
+	private CharacterInventory attributeValueCacheInventory;
+	private int attributeValueCacheEquipmentCount;
+	private int attributeValueCacheLevel;
 	protected List<AbstractPerk> traits;
 	protected Map<Integer, Set<AbstractPerk>> perks;
 	protected Set<AbstractPerk> specialPerks;
@@ -345,6 +362,11 @@ public abstract class GameCharacter implements XMLSaving {
 	protected Map<Fetish, Integer> fetishExperienceMap;
 	protected Map<StatusEffect, Integer> statusEffects;
 	protected Map<StatusEffect, String> statusEffectDescriptions;
+	private StatusEffectConditionCache statusEffectConditionCache = new StatusEffectConditionCache();
+	private final StatusEffectSteps.Target<StatusEffect, StatusEffectDependency> statusEffectStepsTarget = new StatusEffectStepsTarget();
+	/** The number of calculateStatusEffects() calls, each of deferredStatusEffectSeconds, which have been saved up by deferStatusEffects(). */
+	private int deferredStatusEffectSteps;
+	private int deferredStatusEffectSeconds;
 	
 	
 	// Relationship stats:
@@ -3651,17 +3673,7 @@ public abstract class GameCharacter implements XMLSaving {
 	}
 	
 	public String getNameIgnoresPlayerKnowledge() {
-		switch(this.getFemininity()) {
-			case MASCULINE_STRONG:
-			case MASCULINE:
-				return nameTriplet.getMasculine();
-			case ANDROGYNOUS:
-				return nameTriplet.getAndrogynous();
-			case FEMININE:
-			case FEMININE_STRONG:
-			default:
-				return nameTriplet.getFeminine();
-		}
+		return nameTriplet.getName(this.getFemininity());
 	}
 	
 	public NameTriplet getNameTriplet() {
@@ -5206,6 +5218,7 @@ public abstract class GameCharacter implements XMLSaving {
 		if (getLevel() == LEVEL_CAP) {
 			experience = 0;
 		}
+		invalidateAttributeValueCache();
 		
 		// Increment health, mana and stamina based on the change:
 		setHealth(getAttributeValue(Attribute.HEALTH_MAXIMUM) * healthPercentage);
@@ -5256,7 +5269,57 @@ public abstract class GameCharacter implements XMLSaving {
 //		return Math.round(bonusAttributes.get(att)*100)/100f;
 	}
 
+	/**
+	 * Marks every cached attribute value as needing to be recalculated. This is called automatically whenever attributes, bonus attributes, level, status effects, or equipment are changed.
+	 */
+	public void invalidateAttributeValueCache() {
+		Arrays.fill(attributeValueCached, false);
+	}
+	
+	/**
+	 * Invalidates the cache if any of the state which is shared with (or can be changed from outside of) this character has changed since the cached values were calculated.
+	 */
+	private void checkAttributeValueCache(Attribute att) {
+		boolean newWorld = Main.game.isInNewWorld();
+		int equipmentCount = inventory==null ? 0 : inventory.getEquipmentModificationCount();
+		if(newWorld!=attributeValueCacheNewWorld || inventory!=attributeValueCacheInventory || equipmentCount!=attributeValueCacheEquipmentCount) {
+			invalidateAttributeValueCache();
+			attributeValueCacheNewWorld = newWorld;
+			attributeValueCacheInventory = inventory;
+			attributeValueCacheEquipmentCount = equipmentCount;
+		}
+		// getLevel() can depend on the player's level and difficulty settings, so is checked every time that an attribute which uses it is requested:
+		if(att == Attribute.HEALTH_MAXIMUM || att == Attribute.MANA_MAXIMUM || att == Attribute.ENCHANTMENT_LIMIT) {
+			int level = getLevel();
+			if(level!=attributeValueCacheLevel) {
+				invalidateAttributeValueCache();
+				attributeValueCacheLevel = level;
+			}
+		}
+	}
+	
 	public float getAttributeValue(Attribute att) {
+		checkAttributeValueCache(att);
+		int index = att.ordinal();
+		
+		if(attributeValueCached[index]) {
+			if(VERIFY_ATTRIBUTE_CACHE) {
+				float value = calculateAttributeValue(att);
+				if(Float.compare(value, attributeValueCache[index])!=0) {
+					System.err.println("Cached attribute value of "+att+" for "+this.getId()+" was "+attributeValueCache[index]+", but should have been "+value+".");
+					attributeValueCache[index] = value;
+				}
+			}
+			return attributeValueCache[index];
+		}
+		
+		float value = calculateAttributeValue(att);
+		attributeValueCache[index] = value;
+		attributeValueCached[index] = true;
+		return value;
+	}
+	
+	private float calculateAttributeValue(Attribute att) {
 		if(!Main.game.isInNewWorld() && att == Attribute.MAJOR_ARCANE) {
 			return 0;
 		}
@@ -5358,6 +5421,7 @@ public abstract class GameCharacter implements XMLSaving {
 		}
 		
 		attributes.put(att, value);
+		invalidateAttributeValueCache();
 		
 		if(isPlayer() && appendAttributeChangeText) {
 			Main.game.addEvent(new EventLogEntryAttributeChange(att, ((int)(increment * 100))/100f, true), !Main.game.isInSex());
@@ -5385,6 +5449,7 @@ public abstract class GameCharacter implements XMLSaving {
 		float manaPercentage = getManaPercentage();
 
 		bonusAttributes.put(att, value);
+		invalidateAttributeValueCache();
 
 		if(Main.game.isStarted()) {
 			setHealth(getAttributeValue(Attribute.HEALTH_MAXIMUM) * healthPercentage);
@@ -5973,70 +6038,203 @@ public abstract class GameCharacter implements XMLSaving {
 	// Status effects:
 
 	public void calculateStatusEffects(int secondsPassed) {
-		// Count down status effects:
+		calculateStatusEffects(secondsPassed, 1);
+	}
+	
+	/**
+	 * Applies the given number of steps of secondsPassed each in one go. This is only the same as calling calculateStatusEffects(secondsPassed) once per step
+	 *  if isStatusEffectsFastForwardable(secondsPassed, steps) returns true, as status effects are only added and removed at the end of the final step.
+	 */
+	private void calculateStatusEffects(int secondsPassed, int steps) {
 		float healthPercentage = this.getHealthPercentage();
 		float manaPercentage = this.getManaPercentage();
-		String s;
-		List<StatusEffect> tempListStatusEffects = new ArrayList<>();
-		for (StatusEffect se : getStatusEffects()) {
-			if (!se.isCombatEffect()){
-				s = se.applyEffect(this, secondsPassed);
-				if(s.length()!=0) {
-					statusEffectDescriptions.put(se, s);
-				}
-			}
-			
-			incrementStatusEffectDuration(se, -secondsPassed);
-			
-			if (statusEffects.get(se) < 0 && !se.isConditionsMet(this)) {
-				tempListStatusEffects.add(se);
+		
+		StatusEffectSteps.calculate(statusEffectStepsTarget, secondsPassed, steps);
+
+		this.setHealthPercentage(healthPercentage);
+		this.setManaPercentage(manaPercentage);
+		
+		updateAttributeListeners();
+	}
+	
+	/**
+	 * @return True if calling calculateStatusEffects(secondsPassed) the given number of times, with nothing else changing this character in between, can be done in one go.
+	 *  This is the case when no status effect would run out in that time, every status effect (and clothing or tattoo effect) is either inert or can be fast-forwarded,
+	 *  and nothing which is changed from one step to the next is read by the conditions of any status effect, whether this character has it or not. (See StatusEffectSteps.)
+	 */
+	public boolean isStatusEffectsFastForwardable(int secondsPassed, int steps) {
+		return StatusEffectSteps.isFastForwardable(statusEffectStepsTarget, secondsPassed, steps);
+	}
+	
+	/**
+	 * How StatusEffectSteps reaches this character's status effects.
+	 */
+	private class StatusEffectStepsTarget implements StatusEffectSteps.Target<StatusEffect, StatusEffectDependency> {
+		
+		@Override
+		public List<StatusEffect> getStatusEffects() {
+			return GameCharacter.this.getStatusEffects();
+		}
+		
+		@Override
+		public List<StatusEffect> getAllStatusEffects() {
+			return Arrays.asList(StatusEffect.values());
+		}
+		
+		@Override
+		public boolean isCombatEffect(StatusEffect effect) {
+			return effect.isCombatEffect();
+		}
+		
+		@Override
+		public void applyEffect(StatusEffect effect, int secondsPassed) {
+			String s = effect.applyEffect(GameCharacter.this, secondsPassed);
+			if(s.length()!=0) {
+				statusEffectDescriptions.put(effect, s);
 			}
 		}
-
-		// Remove all status effects that are no longer applicable:
-		for(StatusEffect se : tempListStatusEffects) {
-			removeStatusEffect(se);
+		
+		@Override
+		public int getDuration(StatusEffect effect) {
+			return statusEffects.get(effect);
 		}
 		
-		if (!Main.game.isInCombat()) {
-			clearCombatStatusEffects();
+		@Override
+		public void incrementDuration(StatusEffect effect, int secondsIncrement) {
+			incrementStatusEffectDuration(effect, secondsIncrement);
 		}
 		
-		// Add all status effects that are applicable:
-		for (StatusEffect se : StatusEffect.values()) {
-			if (se.isConditionsMet(this)) {
-				addStatusEffect(se, -1);
+		@Override
+		public void invalidateConditions() {
+			statusEffectConditionCache.invalidateDependencyKeys();
+		}
+		
+		@Override
+		public boolean isConditionsMet(StatusEffect effect) {
+			return statusEffectConditionCache.isConditionsMet(GameCharacter.this, effect);
+		}
+		
+		@Override
+		public void removeStatusEffect(StatusEffect effect) {
+			GameCharacter.this.removeStatusEffect(effect);
+		}
+		
+		@Override
+		public boolean addStatusEffect(StatusEffect effect) {
+			return GameCharacter.this.addStatusEffect(effect, -1);
+		}
+		
+		@Override
+		public void clearCombatStatusEffects() {
+			if (!Main.game.isInCombat()) {
+				GameCharacter.this.clearCombatStatusEffects();
 			}
 		}
 		
-		// Clothing effects:
-		for(AbstractClothing c : this.getClothingCurrentlyEquipped()) {
-			for(ItemEffect ie : c.getEffects()) {
-				String clothingEffectDescription = ie.applyEffect(this, this, secondsPassed);
-				if (this.isPlayer() && !clothingEffectDescription.isEmpty()) {
-					statusEffectDescriptions.put(StatusEffect.CLOTHING_EFFECT, statusEffectDescriptions.computeIfAbsent(StatusEffect.CLOTHING_EFFECT, x -> "")
-							+ "<p style='margin:0 auto;padding:0 auto;color:"+c.getRarity().getColour().toWebHexString()+";'><b>"+ Util.capitaliseSentence(c.getName())+":</b></p>"
-							+ clothingEffectDescription);
+		@Override
+		public void applyItemEffects(int secondsPassed) {
+			// Clothing effects:
+			for(AbstractClothing c : getClothingCurrentlyEquipped()) {
+				for(ItemEffect ie : c.getEffects()) {
+					String clothingEffectDescription = ie.applyEffect(GameCharacter.this, GameCharacter.this, secondsPassed);
+					if (isPlayer() && !clothingEffectDescription.isEmpty()) {
+						statusEffectDescriptions.put(StatusEffect.CLOTHING_EFFECT, statusEffectDescriptions.computeIfAbsent(StatusEffect.CLOTHING_EFFECT, x -> "")
+								+ "<p style='margin:0 auto;padding:0 auto;color:"+c.getRarity().getColour().toWebHexString()+";'><b>"+ Util.capitaliseSentence(c.getName())+":</b></p>"
+								+ clothingEffectDescription);
+					}
+				}
+			}
+			
+			// Tattoo effects:
+			for(Tattoo tattoo : tattoos.values()) {
+				for(ItemEffect ie : tattoo.getEffects()) {
+					String tattooEffectDescription = ie.applyEffect(GameCharacter.this, GameCharacter.this, secondsPassed);
+					if (isPlayer() && !tattooEffectDescription.isEmpty()) {
+						statusEffectDescriptions.put(StatusEffect.CLOTHING_EFFECT, statusEffectDescriptions.computeIfAbsent(StatusEffect.CLOTHING_EFFECT, x -> "")
+								+ "<p style='margin:0 auto;padding:0 auto;'><b>"+ Util.capitaliseSentence(tattoo.getName())+" tattoo:</b></p>"
+								+ tattooEffectDescription);
+					}
 				}
 			}
 		}
 		
-		// Tattoo effects:
-		for(Tattoo tattoo : tattoos.values()) {
-			for(ItemEffect ie : tattoo.getEffects()) {
-				String tattooEffectDescription = ie.applyEffect(this, this, secondsPassed);
-				if (this.isPlayer() && !tattooEffectDescription.isEmpty()) {
-					statusEffectDescriptions.put(StatusEffect.CLOTHING_EFFECT, statusEffectDescriptions.computeIfAbsent(StatusEffect.CLOTHING_EFFECT, x -> "")
-							+ "<p style='margin:0 auto;padding:0 auto;'><b>"+ Util.capitaliseSentence(tattoo.getName())+" tattoo:</b></p>"
-							+ tattooEffectDescription);
+		@Override
+		public boolean isFastForwardingBlocked() {
+			return Main.game.isInCombat() || Main.game.isInSex();
+		}
+		
+		@Override
+		public boolean isItemEffectsTimeInvariant() {
+			for(AbstractClothing c : getClothingCurrentlyEquipped()) {
+				for(ItemEffect ie : c.getEffects()) {
+					if(!ie.isTimeInvariant()) {
+						return false;
+					}
 				}
 			}
+			for(Tattoo tattoo : tattoos.values()) {
+				for(ItemEffect ie : tattoo.getEffects()) {
+					if(!ie.isTimeInvariant()) {
+						return false;
+					}
+				}
+			}
+			return true;
 		}
-
-		this.setHealthPercentage(healthPercentage);
-		this.setManaPercentage(manaPercentage);
 		
-		updateAttributeListeners();
+		@Override
+		public boolean isFastForwardable(StatusEffect effect, int secondsPassed, int steps) {
+			return effect.isFastForwardable(GameCharacter.this, secondsPassed, steps);
+		}
+		
+		@Override
+		public StatusEffectDependency[] getAppliedEffectDependencies(StatusEffect effect) {
+			return effect.getAppliedEffectDependencies();
+		}
+		
+		@Override
+		public boolean isConditional(StatusEffect effect) {
+			return StatusEffectConditionCache.isConditional(effect);
+		}
+		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies(StatusEffect effect) {
+			return StatusEffectConditionCache.getConditionDependencies(effect);
+		}
+	}
+	
+	/**
+	 * Used in place of calculateStatusEffects(secondsPassed) for hourly updates (such as while sleeping), where many of these calls are made in a row.
+	 *  If this character's status effects can be fast-forwarded, the update is saved up until applyDeferredStatusEffects() is called, at which point all of the saved up updates are applied in one go.<br/>
+	 * <b>applyDeferredStatusEffects() must be called before anything else reads or changes this character.</b>
+	 */
+	public void deferStatusEffects(int secondsPassed) {
+		if(deferredStatusEffectSteps>0 && secondsPassed!=deferredStatusEffectSeconds) {
+			applyDeferredStatusEffects();
+		}
+		if(isStatusEffectsFastForwardable(secondsPassed, deferredStatusEffectSteps+1)) {
+			deferredStatusEffectSeconds = secondsPassed;
+			deferredStatusEffectSteps++;
+			
+		} else {
+			applyDeferredStatusEffects();
+			calculateStatusEffects(secondsPassed);
+		}
+	}
+	
+	/**
+	 * Applies all of the updates which were saved up by deferStatusEffects().
+	 */
+	public void applyDeferredStatusEffects() {
+		if(deferredStatusEffectSteps>0) {
+			int steps = deferredStatusEffectSteps;
+			deferredStatusEffectSteps = 0;
+			calculateStatusEffects(deferredStatusEffectSeconds, steps);
+		}
+	}
+	
+	public boolean hasDeferredStatusEffects() {
+		return deferredStatusEffectSteps>0;
 	}
 	
 	/**
@@ -6063,6 +6261,7 @@ public abstract class GameCharacter implements XMLSaving {
 		}
 		
 		statusEffects.put(statusEffect, seconds);//(Main.game.isInCombat()&&statusEffect.isCombatEffect()&&statusEffect.isBeneficial())?length+1:length);
+		invalidateAttributeValueCache();
 		
 		// Increment bonus attributes from this StatusEffect:
 		if (statusEffect.getAttributeModifiers(this) != null) {
@@ -6092,6 +6291,7 @@ public abstract class GameCharacter implements XMLSaving {
 		String s = se.applyRemoveStatusEffect(this);
 		
 		statusEffects.remove(se);
+		invalidateAttributeValueCache();
 		
 		s+=se.applyPostRemovalStatusEffect(this);
 		
@@ -6113,6 +6313,7 @@ public abstract class GameCharacter implements XMLSaving {
 		}
 		
 		statusEffects.remove(se);
+		invalidateAttributeValueCache();
 
 		s+=se.applyPostRemovalStatusEffect(this);
 		
@@ -16741,6 +16942,11 @@ public abstract class GameCharacter implements XMLSaving {
 	}
 
 	public void setGlobalLocation(Vector2i globalLocation) {
+		if(cellRegistrationDeferred) {
+			this.globalLocation = globalLocation;
+			globalLocationSetWhileDeferred = true;
+			return;
+		}
 		getGlobalCell().removeCharacterGlobalId(this.getId());
 		
 		this.globalLocation = globalLocation;
@@ -16748,6 +16954,34 @@ public abstract class GameCharacter implements XMLSaving {
 		getGlobalCell().addCharacterGlobalId(this.getId());
 	}
 	
+	/**
+	 * Cells must only be changed on the game thread, so while this character is being loaded on another thread, their location, home, and global location are only stored,
+	 *  and the character is not added to (or removed from) any Cell. Companions are not moved along with this character during this time, as they may not have been loaded yet,
+	 *  and the (shared) location listeners are not notified.<br/>
+	 * Once loaded, call registerDeferredCells() on the game thread to add this character to the Cells of the locations which they were given.
+	 */
+	public void setCellRegistrationDeferred(boolean cellRegistrationDeferred) {
+		this.cellRegistrationDeferred = cellRegistrationDeferred;
+		globalLocationSetWhileDeferred = false;
+	}
+	
+	/**
+	 * Adds this character to the Cells of their current location and home (and their global location, if it was set), which were skipped while cell registration was deferred, and stops deferring it.
+	 */
+	public void registerDeferredCells() {
+		if(!cellRegistrationDeferred) {
+			return;
+		}
+		cellRegistrationDeferred = false;
+		getCell().addCharacterPresentId(this.getId());
+		getHomeCell().addCharacterHomeId(this.getId());
+		if(globalLocationSetWhileDeferred) {
+			getGlobalCell().addCharacterGlobalId(this.getId());
+			globalLocationSetWhileDeferred = false;
+		}
+		updateLocationListeners();
+	}
+	
 	public Vector2i getHomeLocation() {
 		return homeLocation;
 	}
@@ -16789,6 +17023,14 @@ public abstract class GameCharacter implements XMLSaving {
 	}
 	
 	public void setLocation(WorldType worldLocation, Vector2i location, boolean setAsHomeLocation) {
+		if(cellRegistrationDeferred) {
+			this.worldLocation = worldLocation;
+			this.location = location;
+			if(setAsHomeLocation) {
+				setHomeLocation(worldLocation, location);
+			}
+			return;
+		}
 		getCell().removeCharacterPresentId(this.getId());
 		
 		if(this.worldLocation != worldLocation && this.isPlayer()) {
@@ -16910,6 +17152,11 @@ public abstract class GameCharacter implements XMLSaving {
 	}
 	
 	public void setHomeLocation(WorldType homeWorldLocation, Vector2i location) {
+		if(cellRegistrationDeferred) {
+			this.homeWorldLocation = homeWorldLocation;
+			this.homeLocation = location;
+			return;
+		}
 		getHomeCell().removeCharacterHomeId(this.getId());
 		this.homeWorldLocation = homeWorldLocation;
 		this.homeLocation = location;
@@ -16957,6 +17204,7 @@ public abstract class GameCharacter implements XMLSaving {
 
 	public void setLevel(int level) {
 		this.level = level;
+		invalidateAttributeValueCache();
 	}
 
 	// -------------------- Inventory -------------------- //
@@ -18474,6 +18722,7 @@ public abstract class GameCharacter implements XMLSaving {
 		}
 		
 		inventory.getClothingCurrentlyEquipped().add(newClothing);
+		inventory.incrementEquipmentModificationCount();
 		newClothing.setSlotEquippedTo(slotToEquipInto);
 		
 		applyEquipClothingEffects(newClothing, false);
@@ -111,6 +111,11 @@ public enum StatusEffect {
 			return PhysiqueLevel.getPhysiqueLevelFromValue(target.getAttributeValue(Attribute.MAJOR_PHYSIQUE)) == PhysiqueLevel.ZERO_WEAK;
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.PHYSIQUE};
+		}
+		
 		@Override
 		public boolean renderInEffectsPanel() {
 			return false;
@@ -144,6 +149,11 @@ public enum StatusEffect {
 			return PhysiqueLevel.getPhysiqueLevelFromValue(target.getAttributeValue(Attribute.MAJOR_PHYSIQUE)) == PhysiqueLevel.ONE_AVERAGE;
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.PHYSIQUE};
+		}
+		
 		@Override
 		public boolean renderInEffectsPanel() {
 			return false;
@@ -178,6 +188,11 @@ public enum StatusEffect {
 			return PhysiqueLevel.getPhysiqueLevelFromValue(target.getAttributeValue(Attribute.MAJOR_PHYSIQUE)) == PhysiqueLevel.TWO_STRONG;
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.PHYSIQUE};
+		}
+		
 		@Override
 		public boolean renderInEffectsPanel() {
 			return false;
@@ -212,6 +227,11 @@ public enum StatusEffect {
 			return PhysiqueLevel.getPhysiqueLevelFromValue(target.getAttributeValue(Attribute.MAJOR_PHYSIQUE)) == PhysiqueLevel.THREE_POWERFUL;
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.PHYSIQUE};
+		}
+		
 		@Override
 		public boolean renderInEffectsPanel() {
 			return false;
@@ -246,6 +266,11 @@ public enum StatusEffect {
 			return PhysiqueLevel.getPhysiqueLevelFromValue(target.getAttributeValue(Attribute.MAJOR_PHYSIQUE)) == PhysiqueLevel.FOUR_MIGHTY;
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.PHYSIQUE};
+		}
+		
 		@Override
 		public boolean renderInEffectsPanel() {
 			return false;
@@ -280,6 +305,11 @@ public enum StatusEffect {
 			return PhysiqueLevel.getPhysiqueLevelFromValue(target.getAttributeValue(Attribute.MAJOR_PHYSIQUE)) == PhysiqueLevel.FIVE_HERCULEAN;
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.PHYSIQUE};
+		}
+		
 		@Override
 		public boolean renderInEffectsPanel() {
 			return false;
@@ -306,6 +336,11 @@ public enum StatusEffect {
 			return IntelligenceLevel.getIntelligenceLevelFromValue(target.getAttributeValue(Attribute.MAJOR_ARCANE)) == IntelligenceLevel.ZERO_AIRHEAD && !Main.game.isInNewWorld();
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.ARCANE, StatusEffectDependency.WORLD};
+		}
+		
 		@Override
 		public boolean renderInEffectsPanel() {
 			return false;
@@ -344,6 +379,11 @@ public enum StatusEffect {
 			return IntelligenceLevel.getIntelligenceLevelFromValue(target.getAttributeValue(Attribute.MAJOR_ARCANE)) == IntelligenceLevel.ZERO_AIRHEAD && Main.game.isInNewWorld();
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.ARCANE, StatusEffectDependency.WORLD};
+		}
+		
 		@Override
 		public boolean renderInEffectsPanel() {
 			return false;
@@ -380,6 +420,11 @@ public enum StatusEffect {
 			return IntelligenceLevel.getIntelligenceLevelFromValue(target.getAttributeValue(Attribute.MAJOR_ARCANE)) == IntelligenceLevel.ONE_AVERAGE;
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.ARCANE};
+		}
+		
 		@Override
 		public boolean renderInEffectsPanel() {
 			return false;
@@ -415,6 +460,11 @@ public enum StatusEffect {
 			return IntelligenceLevel.getIntelligenceLevelFromValue(target.getAttributeValue(Attribute.MAJOR_ARCANE)) == IntelligenceLevel.TWO_SMART;
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.ARCANE};
+		}
+		
 		@Override
 		public boolean renderInEffectsPanel() {
 			return false;
@@ -453,6 +503,11 @@ public enum StatusEffect {
 			return IntelligenceLevel.getIntelligenceLevelFromValue(target.getAttributeValue(Attribute.MAJOR_ARCANE)) == IntelligenceLevel.THREE_BRAINY;
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.ARCANE};
+		}
+		
 		@Override
 		public boolean renderInEffectsPanel() {
 			return false;
@@ -492,6 +547,11 @@ public enum StatusEffect {
 			return IntelligenceLevel.getIntelligenceLevelFromValue(target.getAttributeValue(Attribute.MAJOR_ARCANE)) == IntelligenceLevel.FOUR_GENIUS;
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.ARCANE};
+		}
+		
 		@Override
 		public boolean renderInEffectsPanel() {
 			return false;
@@ -530,6 +590,11 @@ public enum StatusEffect {
 			return IntelligenceLevel.getIntelligenceLevelFromValue(target.getAttributeValue(Attribute.MAJOR_ARCANE)) == IntelligenceLevel.FIVE_POLYMATH;
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.ARCANE};
+		}
+		
 		@Override
 		public boolean renderInEffectsPanel() {
 			return false;
@@ -565,6 +630,11 @@ public enum StatusEffect {
 			return CorruptionLevel.getCorruptionLevelFromValue(target.getAttributeValue(Attribute.MAJOR_CORRUPTION)) == CorruptionLevel.ZERO_PURE;
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.CORRUPTION};
+		}
+		
 		@Override
 		public boolean renderInEffectsPanel() {
 			return false;
@@ -600,6 +670,11 @@ public enum StatusEffect {
 			return CorruptionLevel.getCorruptionLevelFromValue(target.getAttributeValue(Attribute.MAJOR_CORRUPTION)) == CorruptionLevel.ONE_VANILLA;
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.CORRUPTION};
+		}
+		
 		@Override
 		public boolean renderInEffectsPanel() {
 			return false;
@@ -635,6 +710,11 @@ public enum StatusEffect {
 			return CorruptionLevel.getCorruptionLevelFromValue(target.getAttributeValue(Attribute.MAJOR_CORRUPTION)) == CorruptionLevel.TWO_HORNY;
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.CORRUPTION};
+		}
+		
 		@Override
 		public boolean renderInEffectsPanel() {
 			return false;
@@ -691,6 +771,11 @@ public enum StatusEffect {
 			return CorruptionLevel.getCorruptionLevelFromValue(target.getAttributeValue(Attribute.MAJOR_CORRUPTION)) == CorruptionLevel.THREE_DIRTY;
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.CORRUPTION};
+		}
+		
 		@Override
 		public boolean renderInEffectsPanel() {
 			return false;
@@ -750,6 +835,11 @@ public enum StatusEffect {
 			return CorruptionLevel.getCorruptionLevelFromValue(target.getAttributeValue(Attribute.MAJOR_CORRUPTION)) == CorruptionLevel.FOUR_LUSTFUL;
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.CORRUPTION};
+		}
+		
 		@Override
 		public boolean renderInEffectsPanel() {
 			return false;
@@ -787,6 +877,11 @@ public enum StatusEffect {
 			return CorruptionLevel.getCorruptionLevelFromValue(target.getAttributeValue(Attribute.MAJOR_CORRUPTION)) == CorruptionLevel.FIVE_CORRUPT;
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.CORRUPTION};
+		}
+		
 		@Override
 		public boolean renderInEffectsPanel() {
 			return false;
@@ -821,6 +916,11 @@ public enum StatusEffect {
 			return ArousalLevel.getArousalLevelFromValue(target.getAttributeValue(Attribute.AROUSAL)) == ArousalLevel.ZERO_NONE;
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.AROUSAL};
+		}
+		
 		@Override
 		public boolean renderInEffectsPanel() {
 			return false;
@@ -853,6 +953,11 @@ public enum StatusEffect {
 			return ArousalLevel.getArousalLevelFromValue(target.getAttributeValue(Attribute.AROUSAL)) == ArousalLevel.ONE_TURNED_ON;
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.AROUSAL};
+		}
+		
 		@Override
 		public boolean renderInEffectsPanel() {
 			return false;
@@ -885,6 +990,11 @@ public enum StatusEffect {
 			return ArousalLevel.getArousalLevelFromValue(target.getAttributeValue(Attribute.AROUSAL)) == ArousalLevel.TWO_EXCITED;
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.AROUSAL};
+		}
+		
 		@Override
 		public boolean renderInEffectsPanel() {
 			return false;
@@ -917,6 +1027,11 @@ public enum StatusEffect {
 			return ArousalLevel.getArousalLevelFromValue(target.getAttributeValue(Attribute.AROUSAL)) == ArousalLevel.THREE_HEATED;
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.AROUSAL};
+		}
+		
 		@Override
 		public boolean renderInEffectsPanel() {
 			return false;
@@ -949,6 +1064,11 @@ public enum StatusEffect {
 			return ArousalLevel.getArousalLevelFromValue(target.getAttributeValue(Attribute.AROUSAL)) == ArousalLevel.FOUR_PASSIONATE;
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.AROUSAL};
+		}
+		
 		@Override
 		public boolean renderInEffectsPanel() {
 			return false;
@@ -981,6 +1101,11 @@ public enum StatusEffect {
 			return ArousalLevel.getArousalLevelFromValue(target.getAttributeValue(Attribute.AROUSAL)) == ArousalLevel.FIVE_ORGASM_IMMINENT;
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.AROUSAL};
+		}
+		
 		@Override
 		public boolean renderInEffectsPanel() {
 			return false;
@@ -1020,6 +1145,11 @@ public enum StatusEffect {
 			return LustLevel.getLustLevelFromValue(target.getAttributeValue(Attribute.LUST)) == LustLevel.ZERO_COLD;
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.LUST};
+		}
+		
 		@Override
 		public boolean renderInEffectsPanel() {
 			return false;
@@ -1057,6 +1187,11 @@ public enum StatusEffect {
 			return LustLevel.getLustLevelFromValue(target.getAttributeValue(Attribute.LUST)) == LustLevel.ONE_HORNY;
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.LUST};
+		}
+		
 		@Override
 		public boolean renderInEffectsPanel() {
 			return false;
@@ -1094,6 +1229,11 @@ public enum StatusEffect {
 			return LustLevel.getLustLevelFromValue(target.getAttributeValue(Attribute.LUST)) == LustLevel.TWO_AMOROUS;
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.LUST};
+		}
+		
 		@Override
 		public boolean renderInEffectsPanel() {
 			return false;
@@ -1131,6 +1271,11 @@ public enum StatusEffect {
 			return LustLevel.getLustLevelFromValue(target.getAttributeValue(Attribute.LUST)) == LustLevel.THREE_LUSTFUL;
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.LUST};
+		}
+		
 		@Override
 		public boolean renderInEffectsPanel() {
 			return false;
@@ -1168,6 +1313,11 @@ public enum StatusEffect {
 			return LustLevel.getLustLevelFromValue(target.getAttributeValue(Attribute.LUST)) == LustLevel.FOUR_IMPASSIONED;
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.LUST};
+		}
+		
 		@Override
 		public boolean renderInEffectsPanel() {
 			return false;
@@ -1205,6 +1355,11 @@ public enum StatusEffect {
 			return LustLevel.getLustLevelFromValue(target.getAttributeValue(Attribute.LUST)) == LustLevel.FIVE_BURNING;
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.LUST};
+		}
+		
 		@Override
 		public boolean renderInEffectsPanel() {
 			return false;
@@ -1233,6 +1388,11 @@ public enum StatusEffect {
 		public boolean isConditionsMet(GameCharacter target) {
 			return !Main.game.isInNewWorld();
 		}
+		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.WORLD};
+		}
 	},
 	
 	WEATHER_CLEAR(100,
@@ -1259,6 +1419,11 @@ public enum StatusEffect {
 			return Main.game.getCurrentWeather()==Weather.CLEAR && Main.game.isInNewWorld();
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.WORLD};
+		}
+		
 		@Override
 		public String getSVGString(GameCharacter owner) {
 			if(Main.game.isDayTime())
@@ -1301,6 +1466,11 @@ public enum StatusEffect {
 			return Main.game.getCurrentWeather()==Weather.CLOUD && Main.game.isInNewWorld();
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.WORLD};
+		}
+		
 		@Override
 		public String getSVGString(GameCharacter owner) {
 			if(Main.game.isDayTime())
@@ -1343,6 +1513,11 @@ public enum StatusEffect {
 			return Main.game.getCurrentWeather()==Weather.RAIN && Main.game.isInNewWorld();
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.WORLD};
+		}
+		
 		@Override
 		public String getSVGString(GameCharacter owner) {
 			if(Main.game.isDayTime())
@@ -1432,6 +1607,11 @@ public enum StatusEffect {
 			return Main.game.getCurrentWeather()==Weather.SNOW && Main.game.isInNewWorld();
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.WORLD};
+		}
+		
 		@Override
 		public String getSVGString(GameCharacter owner) {
 			if(Main.game.isDayTime())
@@ -1474,6 +1654,11 @@ public enum StatusEffect {
 			return Main.game.getCurrentWeather()==Weather.MAGIC_STORM_GATHERING && Main.game.isInNewWorld();
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.WORLD};
+		}
+		
 		@Override
 		public String getSVGString(GameCharacter owner) {
 			if(Main.game.isDayTime())
@@ -1824,6 +2009,11 @@ public enum StatusEffect {
 		public boolean isConditionsMet(GameCharacter target) {
 			return Main.game.isInNewWorld();
 		}
+		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.WORLD};
+		}
 
 		@Override
 		public Map<Attribute, Float> getAttributeModifiers(GameCharacter target) {
@@ -1874,6 +2064,11 @@ public enum StatusEffect {
 			return target.getSexualOrientation()==SexualOrientation.ANDROPHILIC;
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.ORIENTATION};
+		}
+		
 		@Override
 		public boolean isSexEffect() {
 			return true;
@@ -1903,6 +2098,11 @@ public enum StatusEffect {
 			return target.getSexualOrientation()==SexualOrientation.GYNEPHILIC;
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.ORIENTATION};
+		}
+		
 		@Override
 		public boolean isSexEffect() {
 			return true;
@@ -1931,6 +2131,11 @@ public enum StatusEffect {
 			return target.getSexualOrientation()==SexualOrientation.AMBIPHILIC;
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.ORIENTATION};
+		}
+		
 		@Override
 		public boolean isSexEffect() {
 			return true;
@@ -2010,11 +2215,6 @@ public enum StatusEffect {
 			Util.newHashMapOfValues(new Value<Attribute, Float>(Attribute.MAJOR_ARCANE, -2f)),
 			null) {
 
-		@Override
-		public String applyEffect(GameCharacter target, int secondsPassed) {
-			return "";
-		}
-
 		@Override
 		public String getDescription(GameCharacter target) {
 			if(target.isPlayer())
@@ -2057,11 +2257,6 @@ public enum StatusEffect {
 			Util.newHashMapOfValues(new Value<Attribute, Float>(Attribute.MAJOR_PHYSIQUE, 2f)),
 			null) {
 
-		@Override
-		public String applyEffect(GameCharacter target, int secondsPassed) {
-			return "";
-		}
-
 		@Override
 		public String getDescription(GameCharacter target) {
 			if(target.isPlayer()) {
@@ -2248,11 +2443,6 @@ public enum StatusEffect {
 							+ " If [npc.she] continues equipping enchanted items, this is sure to get much worse...");
 		}
 
-		@Override
-		public String applyEffect(GameCharacter target, int secondsPassed) {
-			return "";
-		}
-
 		@Override
 		public boolean isConditionsMet(GameCharacter target) {
 			int overBy = (int) (target.getEnchantmentPointsUsedTotal()-target.getAttributeValue(Attribute.ENCHANTMENT_LIMIT));
@@ -2279,11 +2469,6 @@ public enum StatusEffect {
 							+ " If [npc.she] continues equipping enchanted items, this is sure to get much worse...");
 		}
 
-		@Override
-		public String applyEffect(GameCharacter target, int secondsPassed) {
-			return "";
-		}
-
 		@Override
 		public boolean isConditionsMet(GameCharacter target) {
 			int overBy = (int) (target.getEnchantmentPointsUsedTotal()-target.getAttributeValue(Attribute.ENCHANTMENT_LIMIT));
@@ -2309,11 +2494,6 @@ public enum StatusEffect {
 					"[npc.NameIsFull] unable to handle the amount of attribute enchantments infused into [npc.her] weapons, clothing, and tattoos, and so [npc.is] suffering from some extremely severe negative side-effects.");
 		}
 
-		@Override
-		public String applyEffect(GameCharacter target, int secondsPassed) {
-			return "";
-		}
-
 		@Override
 		public boolean isConditionsMet(GameCharacter target) {
 			int overBy = (int) (target.getEnchantmentPointsUsedTotal()-target.getAttributeValue(Attribute.ENCHANTMENT_LIMIT));
@@ -2640,6 +2820,11 @@ public enum StatusEffect {
 		public boolean isConditionsMet(GameCharacter target) {
 			return target.isPlayer();
 		}
+		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {};
+		}
 	},
 	
 	PSYCHOACTIVE(
@@ -2858,6 +3043,11 @@ public enum StatusEffect {
 		public boolean isConditionsMet(GameCharacter target) {
 			return target.getAlcoholLevel()==AlcoholLevel.ONE_TIPSY;
 		}
+		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.ALCOHOL};
+		}
 	},
 	
 	DRUNK_2(
@@ -2893,6 +3083,11 @@ public enum StatusEffect {
 		public boolean isConditionsMet(GameCharacter target) {
 			return target.getAlcoholLevel()==AlcoholLevel.TWO_MERRY;
 		}
+		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.ALCOHOL};
+		}
 	},
 	
 	DRUNK_3(
@@ -2934,6 +3129,11 @@ public enum StatusEffect {
 		public boolean isConditionsMet(GameCharacter target) {
 			return target.getAlcoholLevel()==AlcoholLevel.THREE_DRUNK;
 		}
+		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.ALCOHOL};
+		}
 	},
 	
 	DRUNK_4(
@@ -2976,6 +3176,11 @@ public enum StatusEffect {
 		public boolean isConditionsMet(GameCharacter target) {
 			return target.getAlcoholLevel()==AlcoholLevel.FOUR_HAMMERED;
 		}
+		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.ALCOHOL};
+		}
 	},
 	
 	DRUNK_5(
@@ -3018,6 +3223,11 @@ public enum StatusEffect {
 		public boolean isConditionsMet(GameCharacter target) {
 			return target.getAlcoholLevel()==AlcoholLevel.FIVE_WASTED;
 		}
+		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.ALCOHOL};
+		}
 	},
 	
 	ADDICTIONS(
@@ -3411,11 +3621,6 @@ public enum StatusEffect {
 			Util.newArrayListOfValues(
 					"[style.colourBad(Total infertility)]")) {
 
-		@Override
-		public String applyEffect(GameCharacter target, int secondsPassed) {
-			return "";
-		}
-
 		@Override
 		public String getDescription(GameCharacter target) {
 			return UtilText.parse(target,
@@ -3998,6 +4203,16 @@ public enum StatusEffect {
 			return "";
 		}
 
+		@Override
+		public StatusEffectDependency[] getAppliedEffectDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.CUM_STORED};
+		}
+
+		@Override
+		public boolean isFastForwardable(GameCharacter target, int secondsPassed, int steps) {
+			return isFluidStoredBelowCapacity(target.getPenisRawStoredCumValue(), target.getPenisRawCumStorageValue(), secondsPassed * target.getCumRegenerationPerSecond(), steps);
+		}
+
 		@Override
 		public String getDescription(GameCharacter target) {
 			float cumRegenRate = target.getCumRegenerationPerSecond()*60;
@@ -4031,11 +4246,6 @@ public enum StatusEffect {
 					new Value<Attribute, Float>(Attribute.DAMAGE_LUST, 5f)),
 			null) {
 
-		@Override
-		public String applyEffect(GameCharacter target, int secondsPassed) {
-			return "";
-		}
-
 		@Override
 		public String getDescription(GameCharacter target) {
 			float cumRegenRate = target.getCumRegenerationPerSecond()*60;
@@ -4075,6 +4285,16 @@ public enum StatusEffect {
 			return "";
 		}
 
+		@Override
+		public StatusEffectDependency[] getAppliedEffectDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.MILK_STORED};
+		}
+
+		@Override
+		public boolean isFastForwardable(GameCharacter target, int secondsPassed, int steps) {
+			return isFluidStoredBelowCapacity(target.getBreastRawStoredMilkValue(), target.getBreastRawMilkStorageValue(), secondsPassed * target.getLactationRegenerationPerSecond(true), steps);
+		}
+
 		@Override
 		public String getDescription(GameCharacter target) {
 			float milkRegenRate = target.getLactationRegenerationPerSecond(false) * 60;
@@ -4105,11 +4325,6 @@ public enum StatusEffect {
 			Util.newHashMapOfValues(),
 			null) {
 
-		@Override
-		public String applyEffect(GameCharacter target, int secondsPassed) {
-			return "";
-		}
-
 		@Override
 		public String getDescription(GameCharacter target) {
 			float milkRegenRate = target.getLactationRegenerationPerSecond(false) * 60;
@@ -4155,6 +4370,16 @@ public enum StatusEffect {
 			return "";
 		}
 
+		@Override
+		public StatusEffectDependency[] getAppliedEffectDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.CROTCH_MILK_STORED};
+		}
+
+		@Override
+		public boolean isFastForwardable(GameCharacter target, int secondsPassed, int steps) {
+			return isFluidStoredBelowCapacity(target.getBreastCrotchRawStoredMilkValue(), target.getBreastCrotchRawMilkStorageValue(), (secondsPassed) * target.getCrotchLactationRegenerationPerSecond(true), steps);
+		}
+
 		@Override
 		public String getDescription(GameCharacter target) {
 			float milkRegenRate = target.getCrotchLactationRegenerationPerSecond(false) * 60;
@@ -4196,11 +4421,6 @@ public enum StatusEffect {
 			return UtilText.parse(target, "Full [npc.CrotchBoobs]");
 		}
 
-		@Override
-		public String applyEffect(GameCharacter target, int secondsPassed) {
-			return "";
-		}
-
 		@Override
 		public String getDescription(GameCharacter target) {
 			float milkRegenRate = target.getCrotchLactationRegenerationPerSecond(false) * 60;
@@ -7023,6 +7243,11 @@ public enum StatusEffect {
 					&& target.equals(Main.game.getNpc(Silence.class))
 					&& !Combat.getEnemies(Main.game.getPlayer()).contains(Main.game.getNpc(Shadow.class));
 		}
+		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.COMBAT};
+		}
 	},
 
 	SPECIAL_SHADOW_BESERK(
@@ -7047,6 +7272,11 @@ public enum StatusEffect {
 					&& target.equals(Main.game.getNpc(Shadow.class))
 					&& Combat.getEnemies(Main.game.getPlayer()).size()==1;
 		}
+		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.COMBAT};
+		}
 	},
 	
 	COMBAT_HIDDEN(
@@ -7648,6 +7878,11 @@ public enum StatusEffect {
 			return false;
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.COMBAT};
+		}
+		
 		@Override
 		public boolean isCombatEffect() {
 			return true;
@@ -8677,6 +8912,11 @@ public enum StatusEffect {
 			return false;
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.COMBAT};
+		}
+		
 		@Override
 		public boolean isCombatEffect() {
 			return true;
@@ -9827,6 +10067,11 @@ public enum StatusEffect {
 			return false;
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.COMBAT};
+		}
+		
 		@Override
 		public boolean isCombatEffect() {
 			return true;
@@ -10186,6 +10431,11 @@ public enum StatusEffect {
 			return !target.isPlayer() || Main.game.isInSex();
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.SEX};
+		}
+		
 		@Override
 		public boolean isSexEffect() {
 			return true;
@@ -10283,6 +10533,11 @@ public enum StatusEffect {
 			return Main.game.isInSex();
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.SEX};
+		}
+		
 		@Override
 		public boolean isSexEffect() {
 			return true;
@@ -10416,6 +10671,11 @@ public enum StatusEffect {
 							Util.newArrayListOfValues(SexAreaPenetration.values()));
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.SEX};
+		}
+		
 		@Override
 		public boolean isSexEffect() {
 			return true;
@@ -10555,6 +10815,11 @@ public enum StatusEffect {
 							Util.newArrayListOfValues(SexAreaPenetration.values()));
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.SEX};
+		}
+		
 		@Override
 		public boolean isSexEffect() {
 			return true;
@@ -10766,6 +11031,11 @@ public enum StatusEffect {
 					&& Sex.getAllParticipants(true).contains(target);
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.SEX};
+		}
+		
 		@Override
 		public boolean isSexEffect() {
 			return true;
@@ -10936,6 +11206,11 @@ public enum StatusEffect {
 					&& Sex.getAllParticipants(true).contains(target);
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.SEX};
+		}
+		
 		@Override
 		public boolean isSexEffect() {
 			return true;
@@ -11150,6 +11425,11 @@ public enum StatusEffect {
 					&& Sex.getAllParticipants(true).contains(target);
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.SEX};
+		}
+		
 		@Override
 		public boolean isSexEffect() {
 			return true;
@@ -11328,6 +11608,11 @@ public enum StatusEffect {
 					&& Sex.getAllParticipants(true).contains(target);
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.SEX};
+		}
+		
 		@Override
 		public boolean isSexEffect() {
 			return true;
@@ -11501,6 +11786,11 @@ public enum StatusEffect {
 					;
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.SEX};
+		}
+		
 		@Override
 		public boolean isSexEffect() {
 			return true;
@@ -11681,6 +11971,11 @@ public enum StatusEffect {
 					&& Main.getProperties().udders>0;
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.SEX};
+		}
+		
 		@Override
 		public boolean isSexEffect() {
 			return true;
@@ -11867,6 +12162,11 @@ public enum StatusEffect {
 					&& Main.getProperties().hasValue(PropertyValue.nipplePenContent);
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.SEX};
+		}
+		
 		@Override
 		public boolean isSexEffect() {
 			return true;
@@ -12038,6 +12338,11 @@ public enum StatusEffect {
 					&& Main.getProperties().hasValue(PropertyValue.urethralContent);
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.SEX};
+		}
+		
 		@Override
 		public boolean isSexEffect() {
 			return true;
@@ -12209,6 +12514,11 @@ public enum StatusEffect {
 					&& Main.getProperties().hasValue(PropertyValue.urethralContent);
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.SEX};
+		}
+		
 		@Override
 		public boolean isSexEffect() {
 			return true;
@@ -12436,6 +12746,11 @@ public enum StatusEffect {
 					&& target.hasVagina();
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.SEX};
+		}
+		
 		@Override
 		public boolean isSexEffect() {
 			return true;
@@ -12605,6 +12920,11 @@ public enum StatusEffect {
 					&& Sex.getAllParticipants(true).contains(target);
 		}
 		
+		@Override
+		public StatusEffectDependency[] getConditionDependencies() {
+			return new StatusEffectDependency[] {StatusEffectDependency.SEX};
+		}
+		
 		@Override
 		public boolean isSexEffect() {
 			return true;
@@ -12621,6 +12941,8 @@ public enum StatusEffect {
 	private Colour colourShade;
 	private boolean beneficial;
 	private final Map<Attribute, Float> attributeModifiers;
+	/** Whether this status effect overrides applyEffect(). Worked out the first time that isFastForwardable() is called. */
+	private Boolean appliedOverTime;
 
 	protected String SVGString;
 
@@ -12712,6 +13034,46 @@ public enum StatusEffect {
 		return "";
 	}
 
+	/**
+	 * @return True if this status effect can be fast-forwarded through the given number of steps of secondsPassed each, meaning that calling applyEffect() once per step
+	 *  will not change whether this, or any other, status effect has its conditions met, and does not touch anything which another status effect's applyEffect() uses.
+	 *  It is only asked this while the target's status effect durations are not running out.<br/>
+	 * By default, this is only true for non-combat status effects which don't override applyEffect().
+	 */
+	public boolean isFastForwardable(GameCharacter target, int secondsPassed, int steps) {
+		return !isCombatEffect() && !isAppliedOverTime();
+	}
+	
+	private boolean isAppliedOverTime() {
+		if(appliedOverTime==null) {
+			try {
+				appliedOverTime = this.getClass().getMethod("applyEffect", GameCharacter.class, int.class).getDeclaringClass()!=StatusEffect.class;
+			} catch (NoSuchMethodException e) {
+				appliedOverTime = true;
+			}
+		}
+		return appliedOverTime;
+	}
+	
+	/**
+	 * @return Everything that applyEffect() changes on the target, so that fast-forwarding can check that no status effect's conditions read any of it (see StatusEffectSteps).
+	 *  An empty array means that applyEffect() changes nothing. Null (the default for status effects which override applyEffect()) means that it could change anything.
+	 */
+	public StatusEffectDependency[] getAppliedEffectDependencies() {
+		return isAppliedOverTime() ? null : new StatusEffectDependency[0];
+	}
+	
+	/**
+	 * Uses the same arithmetic as the fluid stored setters, so that the result is exactly what incrementing the fluid once per step would give.
+	 * @return True if the fluid stored would still be below its capacity after being incremented by the increment every step.
+	 */
+	private static boolean isFluidStoredBelowCapacity(float stored, int capacity, float increment, int steps) {
+		for(int i=0; i<steps; i++) {
+			stored = Math.max(0, Math.min(stored + increment, capacity));
+		}
+		return stored<capacity;
+	}
+
 	/**
 	 * @param target
 	 * @return True if this status effect should be applied to the target.
@@ -12720,7 +13082,16 @@ public enum StatusEffect {
 	public boolean isConditionsMet(GameCharacter target) {
 		return false;
 	}
-	
+
+	/**
+	 * @return Everything that isConditionsMet() reads, so that its result for a character only needs to be re-checked when one of these has changed. An empty array means that the result never changes for a character.<br/>
+	 *  Null (the default) means that the conditions depend on something else, and so are checked every time. Status effects which don't override isConditionsMet() are never checked at all.<br/>
+	 *  Only return dependencies if isConditionsMet() reads nothing else, as nothing else will cause its result to be re-checked.
+	 */
+	public StatusEffectDependency[] getConditionDependencies() {
+		return null;
+	}
+
 	public boolean renderInEffectsPanel() {
 		return true;
 	}
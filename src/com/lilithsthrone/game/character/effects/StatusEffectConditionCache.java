@@ -0,0 +1,142 @@
+package com.lilithsthrone.game.character.effects;
+
+import java.util.Arrays;
+
+import com.lilithsthrone.game.character.GameCharacter;
+
+/**
+ * Remembers, for a single character, the result of each StatusEffect's isConditionsMet(), along with the keys of the StatusEffectDependency values which that result was calculated from.
+ *  A status effect's conditions are only checked again once one of those keys has changed.<br/>
+ * Status effects which don't override isConditionsMet() can never have their conditions met, so are never checked.<br/>
+ * <br/>
+ * This only covers the status effects which declare their dependencies (the attribute levels, weather, orientation, alcohol, and the combat-only and sex-only effects).
+ *  All of the others (such as those based on clothing, body parts, location, or pregnancy) are still checked every time, exactly as before,
+ *  as they read state which is changed in too many places for it to be reliably marked as dirty.<br/>
+ * Nothing is marked as dirty by the character's mutators. Instead, each dependency's key is read again once per pass of calculateStatusEffects(),
+ *  which is cheap, as attribute values come from the character's own attribute cache, and everything else is a field.<br/>
+ * <br/>
+ * Run with -DverifyStatusEffects=true to also check every condition every time, and to log any status effect whose cached result turned out to be wrong (which means that its getConditionDependencies() is missing something).
+ *
+ * @since 0.3.5.8
+ * @version 0.3.5.8
+ * @author Innoxia
+ */
+public class StatusEffectConditionCache {
+
+	public final static boolean VERIFY = Boolean.valueOf(System.getProperty("verifyStatusEffects", "false"));
+
+	private static final StatusEffect[] STATUS_EFFECTS = StatusEffect.values();
+	private static final StatusEffectDependency[] DEPENDENCY_VALUES = StatusEffectDependency.values();
+
+	/** Whether each status effect (by ordinal) uses the base isConditionsMet(), which always returns false. */
+	private static final boolean[] NEVER_CONDITIONAL = new boolean[STATUS_EFFECTS.length];
+	/** The dependencies of each status effect (by ordinal), or null if it is not tracked. */
+	private static final StatusEffectDependency[][] DEPENDENCIES = new StatusEffectDependency[STATUS_EFFECTS.length][];
+	/** Where each status effect's keys start in the keys array. */
+	private static final int[] KEY_OFFSETS = new int[STATUS_EFFECTS.length];
+	private static final int KEY_COUNT;
+
+	static {
+		int keyCount = 0;
+		for(StatusEffect se : STATUS_EFFECTS) {
+			int i = se.ordinal();
+			try {
+				NEVER_CONDITIONAL[i] = se.getClass().getMethod("isConditionsMet", GameCharacter.class).getDeclaringClass()==StatusEffect.class;
+			} catch (NoSuchMethodException e) {
+				NEVER_CONDITIONAL[i] = false;
+			}
+			DEPENDENCIES[i] = NEVER_CONDITIONAL[i] ? null : se.getConditionDependencies();
+			KEY_OFFSETS[i] = keyCount;
+			if(DEPENDENCIES[i]!=null) {
+				keyCount += DEPENDENCIES[i].length;
+			}
+		}
+		KEY_COUNT = keyCount;
+	}
+
+	private final boolean[] results = new boolean[STATUS_EFFECTS.length];
+	private final boolean[] resultsCached = new boolean[STATUS_EFFECTS.length];
+	private final long[] keys = new long[KEY_COUNT];
+
+	/** The current key of each dependency, calculated at most once between calls to invalidateDependencyKeys(). */
+	private final long[] dependencyKeys = new long[DEPENDENCY_VALUES.length];
+	private final boolean[] dependencyKeysCalculated = new boolean[DEPENDENCY_VALUES.length];
+
+	/**
+	 * @return false if the status effect doesn't override isConditionsMet(), and so can never have its conditions met.
+	 */
+	public static boolean isConditional(StatusEffect statusEffect) {
+		return !NEVER_CONDITIONAL[statusEffect.ordinal()];
+	}
+
+	/**
+	 * @return The status effect's getConditionDependencies(), or null if its conditions can never be met or don't declare their dependencies.
+	 */
+	public static StatusEffectDependency[] getConditionDependencies(StatusEffect statusEffect) {
+		return DEPENDENCIES[statusEffect.ordinal()];
+	}
+
+	/**
+	 * Must be called whenever the character might have changed since the last call to isConditionsMet(), so that dependency keys are calculated again.
+	 */
+	public void invalidateDependencyKeys() {
+		Arrays.fill(dependencyKeysCalculated, false);
+	}
+
+	/**
+	 * Forgets every cached result, so that every condition is checked again.
+	 */
+	public void clear() {
+		Arrays.fill(resultsCached, false);
+		invalidateDependencyKeys();
+	}
+
+	private long getDependencyKey(GameCharacter character, StatusEffectDependency dependency) {
+		int i = dependency.ordinal();
+		if(!dependencyKeysCalculated[i]) {
+			dependencyKeys[i] = dependency.getKey(character);
+			dependencyKeysCalculated[i] = true;
+		}
+		return dependencyKeys[i];
+	}
+
+	/**
+	 * @return The same as statusEffect.isConditionsMet(character), but without checking the conditions if none of the status effect's dependencies have changed.
+	 */
+	public boolean isConditionsMet(GameCharacter character, StatusEffect statusEffect) {
+		int i = statusEffect.ordinal();
+		if(NEVER_CONDITIONAL[i]) {
+			return false;
+		}
+
+		StatusEffectDependency[] dependencies = DEPENDENCIES[i];
+		if(dependencies==null) {
+			return statusEffect.isConditionsMet(character);
+		}
+
+		boolean unchanged = resultsCached[i];
+		int offset = KEY_OFFSETS[i];
+		for(int d=0; d<dependencies.length; d++) {
+			long key = getDependencyKey(character, dependencies[d]);
+			if(key==StatusEffectDependency.UNTRACKED || keys[offset+d]!=key) {
+				unchanged = false;
+			}
+			keys[offset+d] = key;
+		}
+
+		if(unchanged) {
+			if(VERIFY) {
+				boolean result = statusEffect.isConditionsMet(character);
+				if(result!=results[i]) {
+					System.err.println("StatusEffectConditionCache: "+statusEffect+" was cached as "+results[i]+" for "+character.getId()+", but its conditions returned "+result+".");
+					results[i] = result;
+				}
+			}
+			return results[i];
+		}
+
+		results[i] = statusEffect.isConditionsMet(character);
+		resultsCached[i] = true;
+		return results[i];
+	}
+}
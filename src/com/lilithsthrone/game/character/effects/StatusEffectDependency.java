@@ -0,0 +1,116 @@
+package com.lilithsthrone.game.character.effects;
+
+import com.lilithsthrone.game.character.GameCharacter;
+import com.lilithsthrone.game.character.attributes.Attribute;
+import com.lilithsthrone.main.Main;
+
+/**
+ * The pieces of state which StatusEffect.isConditionsMet() methods read, as returned by StatusEffect.getConditionDependencies(), and which StatusEffect.applyEffect() methods change, as returned by StatusEffect.getAppliedEffectDependencies().<br/>
+ * Each one produces a key which exactly identifies its current value, so that if none of a status effect's dependency keys have changed since its conditions were last checked, the previous result can be reused.
+ *
+ * @since 0.3.5.8
+ * @version 0.3.5.8
+ * @author Innoxia
+ */
+public enum StatusEffectDependency {
+
+	PHYSIQUE {
+		@Override
+		public long getKey(GameCharacter character) {
+			return Float.floatToIntBits(character.getAttributeValue(Attribute.MAJOR_PHYSIQUE));
+		}
+	},
+
+	ARCANE {
+		@Override
+		public long getKey(GameCharacter character) {
+			return Float.floatToIntBits(character.getAttributeValue(Attribute.MAJOR_ARCANE));
+		}
+	},
+
+	CORRUPTION {
+		@Override
+		public long getKey(GameCharacter character) {
+			return Float.floatToIntBits(character.getAttributeValue(Attribute.MAJOR_CORRUPTION));
+		}
+	},
+
+	AROUSAL {
+		@Override
+		public long getKey(GameCharacter character) {
+			return Float.floatToIntBits(character.getAttributeValue(Attribute.AROUSAL));
+		}
+	},
+
+	LUST {
+		@Override
+		public long getKey(GameCharacter character) {
+			return Float.floatToIntBits(character.getAttributeValue(Attribute.LUST));
+		}
+	},
+
+	ALCOHOL {
+		@Override
+		public long getKey(GameCharacter character) {
+			return Float.floatToIntBits(character.getAlcoholLevelValue());
+		}
+	},
+
+	ORIENTATION {
+		@Override
+		public long getKey(GameCharacter character) {
+			return character.getSexualOrientation()==null ? -1 : character.getSexualOrientation().ordinal();
+		}
+	},
+
+	CUM_STORED {
+		@Override
+		public long getKey(GameCharacter character) {
+			return Float.floatToIntBits(character.getPenisRawStoredCumValue());
+		}
+	},
+
+	MILK_STORED {
+		@Override
+		public long getKey(GameCharacter character) {
+			return Float.floatToIntBits(character.getBreastRawStoredMilkValue());
+		}
+	},
+
+	CROTCH_MILK_STORED {
+		@Override
+		public long getKey(GameCharacter character) {
+			return Float.floatToIntBits(character.getBreastCrotchRawStoredMilkValue());
+		}
+	},
+
+	/** Whether the game is in the new world, and the current weather. */
+	WORLD {
+		@Override
+		public long getKey(GameCharacter character) {
+			return (Main.game.isInNewWorld() ? 1 : 0)
+					| (Main.game.getCurrentWeather()==null ? 0 : (Main.game.getCurrentWeather().ordinal()+1) << 1);
+		}
+	},
+
+	/** For conditions which are always false outside of combat. While in combat, they are checked every time. */
+	COMBAT {
+		@Override
+		public long getKey(GameCharacter character) {
+			return Main.game.isInCombat() ? UNTRACKED : 0;
+		}
+	},
+
+	/** For conditions which are always false (or always the same) outside of sex. While in sex, they are checked every time. */
+	SEX {
+		@Override
+		public long getKey(GameCharacter character) {
+			return Main.game.isInSex() ? UNTRACKED : 0;
+		}
+	};
+
+	/** A key which never matches a previous key, meaning that conditions depending on it have to be checked again. */
+	public static final long UNTRACKED = Long.MIN_VALUE;
+
+	public abstract long getKey(GameCharacter character);
+}
@@ -0,0 +1,203 @@
+package com.lilithsthrone.game.character.effects;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The order in which GameCharacter.calculateStatusEffects() updates a character's status effects, along with the check for whether several of those updates can be applied in one go.<br/>
+ * It doesn't depend on anything else from the game (the character is reached through a Target), so that stepping and fast-forwarding can be compared on their own (see StatusEffectStepsTest).<br/>
+ * <br/>
+ * Fast-forwarding through several steps only adds and removes status effects at the end of the final step, so it's only the same as applying each step in turn if no status effect's conditions could change in between.
+ *  Each status effect which is applied over time declares which dependencies its applyEffect() changes, and fast-forwarding is only allowed if no status effect
+ *  (other than the ones doing the changing, which check that they stay applicable in their own isFastForwardable()) reads any of those dependencies in its conditions.
+ *  Status effects whose conditions don't declare their dependencies might read anything, so if anything is being changed at all, they prevent fast-forwarding.
+ *
+ * @since 0.3.5.8
+ * @version 0.3.5.8
+ * @author Innoxia
+ */
+public class StatusEffectSteps {
+
+	/**
+	 * @param <E> The type of status effect.
+	 * @param <D> The type of the dependencies which status effects' conditions read, and which their applyEffect() changes.
+	 */
+	public interface Target<E, D> {
+
+		/**
+		 * @return The character's status effects, in the order in which they are to be updated.
+		 */
+		List<E> getStatusEffects();
+
+		/**
+		 * @return Every status effect, in the order in which they are to be checked for being added.
+		 */
+		List<E> getAllStatusEffects();
+
+		boolean isCombatEffect(E effect);
+
+		/**
+		 * Applies the status effect's effect once, for the supplied number of seconds.
+		 */
+		void applyEffect(E effect, int secondsPassed);
+
+		/**
+		 * @return The seconds remaining on the status effect, or a negative number if it lasts for as long as its conditions are met.
+		 */
+		int getDuration(E effect);
+
+		void incrementDuration(E effect, int secondsIncrement);
+
+		/**
+		 * Called whenever the character might have changed since conditions were last checked.
+		 */
+		void invalidateConditions();
+
+		boolean isConditionsMet(E effect);
+
+		void removeStatusEffect(E effect);
+
+		/**
+		 * Adds the status effect for as long as its conditions are met.
+		 * @return true if the character didn't already have it.
+		 */
+		boolean addStatusEffect(E effect);
+
+		/**
+		 * Removes any combat status effects, if the character isn't in combat.
+		 */
+		void clearCombatStatusEffects();
+
+		/**
+		 * Applies the character's clothing and tattoo effects, for the supplied number of seconds.
+		 */
+		void applyItemEffects(int secondsPassed);
+
+		/**
+		 * @return true if status effects can't be fast-forwarded at all right now (such as during combat or sex).
+		 */
+		boolean isFastForwardingBlocked();
+
+		/**
+		 * @return true if the character's clothing and tattoo effects do the same thing no matter how much time has passed.
+		 */
+		boolean isItemEffectsTimeInvariant();
+
+		/**
+		 * @return true if the status effect can be applied once per step, with nothing else changing in between, without changing whether it has its own conditions met.
+		 */
+		boolean isFastForwardable(E effect, int secondsPassed, int steps);
+
+		/**
+		 * @return Everything that the status effect's applyEffect() changes, an empty array if it changes nothing, or null if that isn't known.
+		 */
+		D[] getAppliedEffectDependencies(E effect);
+
+		/**
+		 * @return false if the status effect's conditions can never be met, in which case it's never added.
+		 */
+		boolean isConditional(E effect);
+
+		/**
+		 * @return Everything that the status effect's conditions read, or null if that isn't known.
+		 */
+		D[] getConditionDependencies(E effect);
+	}
+
+	/**
+	 * Applies the given number of steps of secondsPassed each in one go. This is only the same as calling this once per step
+	 *  if isFastForwardable(target, secondsPassed, steps) returns true, as status effects are only added and removed at the end of the final step.
+	 */
+	public static <E, D> void calculate(Target<E, D> target, int secondsPassed, int steps) {
+		// Count down status effects:
+		List<E> tempListStatusEffects = new ArrayList<>();
+		for(E effect : target.getStatusEffects()) {
+			if(!target.isCombatEffect(effect)) {
+				for(int step=0; step<steps; step++) {
+					target.applyEffect(effect, secondsPassed);
+				}
+			}
+
+			target.incrementDuration(effect, -secondsPassed*steps);
+
+			target.invalidateConditions();
+			if(target.getDuration(effect) < 0 && !target.isConditionsMet(effect)) {
+				tempListStatusEffects.add(effect);
+			}
+		}
+
+		// Remove all status effects that are no longer applicable:
+		for(E effect : tempListStatusEffects) {
+			target.removeStatusEffect(effect);
+		}
+
+		target.clearCombatStatusEffects();
+
+		// Add all status effects that are applicable:
+		target.invalidateConditions();
+		for(E effect : target.getAllStatusEffects()) {
+			if(target.isConditionsMet(effect)) {
+				if(target.addStatusEffect(effect)) {
+					// A new status effect may have changed attributes, so dependencies need to be looked at again:
+					target.invalidateConditions();
+				}
+			}
+		}
+
+		target.applyItemEffects(secondsPassed*steps);
+	}
+
+	/**
+	 * @return true if calling calculate(target, secondsPassed, 1) the given number of times, with nothing else changing the character in between, can be done in one go.
+	 *  This is the case when no status effect would run out in that time, every status effect (and clothing or tattoo effect) is either inert or can be fast-forwarded,
+	 *  and nothing which is changed from one step to the next is read by any status effect's conditions.
+	 */
+	public static <E, D> boolean isFastForwardable(Target<E, D> target, int secondsPassed, int steps) {
+		if(target.isFastForwardingBlocked() || !target.isItemEffectsTimeInvariant()) {
+			return false;
+		}
+
+		Set<D> changed = new HashSet<>();
+		Set<E> changing = new HashSet<>();
+		for(E effect : target.getStatusEffects()) {
+			if(target.getDuration(effect)>=0 && target.getDuration(effect) - (long) secondsPassed*steps < 0) {
+				return false;
+			}
+			if(!target.isFastForwardable(effect, secondsPassed, steps)) {
+				return false;
+			}
+			D[] applied = target.getAppliedEffectDependencies(effect);
+			if(applied==null) {
+				return false;
+			}
+			if(applied.length>0) {
+				changing.add(effect);
+				for(D dependency : applied) {
+					changed.add(dependency);
+				}
+			}
+		}
+		if(changed.isEmpty()) {
+			return true; // Nothing changes between steps, so every condition stays the same
+		}
+
+		// Every other status effect, whether the character has it or not, must not read anything which is being changed:
+		for(E effect : target.getAllStatusEffects()) {
+			if(changing.contains(effect) || !target.isConditional(effect)) {
+				continue;
+			}
+			D[] read = target.getConditionDependencies(effect);
+			if(read==null) {
+				return false;
+			}
+			for(D dependency : read) {
+				if(changed.contains(dependency)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+}
@@ -1,7 +1,5 @@
 package com.lilithsthrone.game.character.fetishes;
 
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -13,8 +11,9 @@ import com.lilithsthrone.game.character.attributes.CorruptionLevel;
 import com.lilithsthrone.game.character.body.types.VaginaType;
 import com.lilithsthrone.game.character.effects.Perk;
 import com.lilithsthrone.game.character.persona.SexualOrientation;
-import com.lilithsthrone.game.character.race.Subspecies;
 import com.lilithsthrone.game.dialogue.utils.UtilText;
+import com.lilithsthrone.rendering.AssetRegistry;
+import com.lilithsthrone.rendering.AssetRegistry.Asset;
 import com.lilithsthrone.utils.Colour;
 import com.lilithsthrone.utils.SvgUtil;
 import com.lilithsthrone.utils.Util;
@@ -1358,9 +1357,9 @@ public enum Fetish {
 //			}
 //			return bimboString;
 			if(owner==null || owner.isFeminine()) {
-				return bimboString;
+				return bimboString.get();
 			} else {
-				return broString;
+				return broString.get();
 			}
 		}
 	},
@@ -1539,7 +1538,8 @@ public enum Fetish {
 	private int experienceGainFromSexAction;
 	private HashMap<Attribute, Integer> attributeModifiers;
 
-	private String SVGString;
+	/** Null if this fetish has no icon. */
+	private Asset<String> SVGString;
 
 	private List<String> extraEffects;
 
@@ -1548,29 +1548,10 @@ public enum Fetish {
 	private List<Fetish> fetishesForAutomaticUnlock;
 
 	
-	private static String bimboString = "";
-	private static String broString = "";
-	static {
-		try {
-			InputStream is = Subspecies.class.getClassLoader().getResourceAsStream("com/lilithsthrone/res/fetishes/fetish_bimbo.svg");
-			if(is==null) {
-				System.err.println("Error! Fetish icon file does not exist (Trying to read from 'com/lilithsthrone/res/fetishes/fetish_bimbo')!");
-			}
-			bimboString = Util.inputStreamToString(is);
-			bimboString = SvgUtil.colourReplacement("FETISH_BIMBO", Colour.BASE_PINK, bimboString);
-			is.close();
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
-		try {
-			InputStream is = Subspecies.class.getClassLoader().getResourceAsStream("com/lilithsthrone/res/fetishes/fetish_bro.svg");
-			broString = Util.inputStreamToString(is);
-			broString = SvgUtil.colourReplacement("FETISH_BRO", Colour.BASE_BLUE, broString);
-			is.close();
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
-	}
+	private static final Asset<String> bimboString = AssetRegistry.register("Fetish.bimbo", AssetRegistry.PRIORITY_DEFAULT,
+			() -> SvgUtil.colourReplacement("FETISH_BIMBO", Colour.BASE_PINK, AssetRegistry.readResource("/com/lilithsthrone/res/fetishes/fetish_bimbo.svg")));
+	private static final Asset<String> broString = AssetRegistry.register("Fetish.bro", AssetRegistry.PRIORITY_DEFAULT,
+			() -> SvgUtil.colourReplacement("FETISH_BRO", Colour.BASE_BLUE, AssetRegistry.readResource("/com/lilithsthrone/res/fetishes/fetish_bro.svg")));
 	
 	private Fetish(
 			int renderingPriority,
@@ -1599,19 +1580,10 @@ public enum Fetish {
 		}
 		
 		if(pathName!=null) {
-			try {
-				InputStream is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/fetishes/" + pathName + ".svg");
-				if(is==null) {
-					System.err.println("Error! Fetish icon file does not exist (Trying to read from '"+pathName+"')!");
-				}
-				SVGString = Util.inputStreamToString(is);
-				SVGString = SvgUtil.colourReplacement(this.toString(), colourShade, SVGString);
-				is.close();
-			} catch (IOException e) {
-				e.printStackTrace();
-			}
+			SVGString = AssetRegistry.register("Fetish."+this.toString(), AssetRegistry.PRIORITY_COMMON,
+					() -> SvgUtil.colourReplacement(this.toString(), colourShade, AssetRegistry.readResource("/com/lilithsthrone/res/fetishes/" + pathName + ".svg")));
 		} else {
-			SVGString = "";
+			SVGString = null;
 		}
 		
 		modifiersList = new ArrayList<>();
@@ -1715,7 +1687,10 @@ public enum Fetish {
 	}
 
 	public String getSVGString(GameCharacter owner) {
-		return SVGString;
+		if(SVGString==null) {
+			return "";
+		}
+		return SVGString.get();
 	}
 	
 	public static int getExperienceGainFromTakingVaginalVirginity(GameCharacter owner) {
@@ -6,23 +6,20 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.NodeList;
 
+import com.lilithsthrone.controller.xmlParsing.DocumentPreloader;
 import com.lilithsthrone.game.character.GameCharacter;
 import com.lilithsthrone.game.dialogue.utils.UtilText;
 import com.lilithsthrone.game.inventory.AbstractCoreType;
 import com.lilithsthrone.game.inventory.InventorySlot;
 import com.lilithsthrone.game.inventory.enchanting.AbstractItemEffectType;
 import com.lilithsthrone.game.inventory.enchanting.ItemEffectType;
+import com.lilithsthrone.rendering.SvgVariantCache;
 import com.lilithsthrone.utils.Colour;
 import com.lilithsthrone.utils.ColourListPresets;
 import com.lilithsthrone.utils.SvgUtil;
@@ -54,7 +51,6 @@ public class AbstractTattooType extends AbstractCoreType {
 	private List<Colour> availableTertiaryColours;
 	
 	private String pathName;
-	private Map<Colour, Map<Colour, Map<Colour, String>>> SVGStringMap;
 
 	private String availabilityRequirements;
 	
@@ -94,9 +90,6 @@ public class AbstractTattooType extends AbstractCoreType {
 			this.availableTertiaryColours.addAll(availableTertiaryColours);
 		}
 		
-		
-		SVGStringMap = new HashMap<>();
-		
 		if(slotAvailability==null) {
 			this.slotAvailability = standardInventorySlots;
 		} else {
@@ -109,9 +102,7 @@ public class AbstractTattooType extends AbstractCoreType {
 
 		if (tattooXMLFile.exists()) {
 			try {
-				DocumentBuilderFactory dbFactory = DocumentBuilderFactory.newInstance();
-				DocumentBuilder dBuilder = dbFactory.newDocumentBuilder();
-				Document doc = dBuilder.parse(tattooXMLFile);
+				Document doc = DocumentPreloader.parse(tattooXMLFile);
 				
 				// Cast magic:
 				doc.getDocumentElement().normalize();
@@ -184,8 +175,6 @@ public class AbstractTattooType extends AbstractCoreType {
 				this.availableSecondaryColours = new ArrayList<>(importedSecondaryColours);
 
 				this.availableTertiaryColours = new ArrayList<>(importedTertiaryColours);
-				
-				SVGStringMap = new HashMap<>();
 
 			} catch(Exception ex) {
 				System.err.println("TattooType was unable to be loaded from file! (" + tattooXMLFile.getName() + ")\n" + ex);
@@ -294,28 +283,14 @@ public class AbstractTattooType extends AbstractCoreType {
 		return ItemEffectType.TATTOO;
 	}
 	
+	private static final int SVG_VARIANT_ICON = 0;
+	
 	private void addSVGStringMapping(Colour colour, Colour colourSecondary, Colour colourTertiary, String s) {
-		if(SVGStringMap.get(colour)==null) {
-			SVGStringMap.put(colour, new HashMap<>());
-			SVGStringMap.get(colour).put(colourSecondary, new HashMap<>());
-			
-		} else if(SVGStringMap.get(colour).get(colourSecondary)==null) {
-			SVGStringMap.get(colour).put(colourSecondary, new HashMap<>());
-		}
-		
-		SVGStringMap.get(colour).get(colourSecondary).put(colourTertiary, s);
+		SvgVariantCache.INSTANCE.put(new SvgVariantCache.Key(this, SVG_VARIANT_ICON, colour, colourSecondary, colourTertiary), s);
 	}
 	
 	private String getSVGStringFromMap(Colour colour, Colour colourSecondary, Colour colourTertiary) {
-		if(SVGStringMap.get(colour)==null) {
-			return null;
-		} else {
-			if(SVGStringMap.get(colour).get(colourSecondary)==null) {
-				return null;
-			} else {
-				return SVGStringMap.get(colour).get(colourSecondary).get(colourTertiary);
-			}
-		}
+		return SvgVariantCache.INSTANCE.get(new SvgVariantCache.Key(this, SVG_VARIANT_ICON, colour, colourSecondary, colourTertiary));
 	}
 	
 	public String getSVGImage(GameCharacter character, Colour colour, Colour colourSecondary, Colour colourTertiary) {
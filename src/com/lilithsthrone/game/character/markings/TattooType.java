@@ -7,6 +7,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import com.lilithsthrone.controller.xmlParsing.DocumentPreloader;
 import com.lilithsthrone.game.character.GameCharacter;
 import com.lilithsthrone.utils.ColourListPresets;
 import com.lilithsthrone.utils.Util;
@@ -96,6 +97,9 @@ public class TattooType {
 	
 	static {
 		
+		// Parse the tattoo files in the background while they're loaded:
+		DocumentPreloader.preload("tattoos", Util.mergeLists(DocumentPreloader.findModDefinitions("items/tattoos"), DocumentPreloader.findResDefinitions("res/tattoos")));
+		
 		File dir = new File("res/mods");
 		
 		if (dir.exists() && dir.isDirectory()) {
@@ -182,6 +186,9 @@ public class TattooType {
 				
 			}
 		}
+		
+		// Release any preloaded files which weren't loaded:
+		DocumentPreloader.finish("tattoos");
 	}
 	
 }
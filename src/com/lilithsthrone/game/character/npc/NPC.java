@@ -11,6 +11,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -116,6 +117,12 @@ public abstract class NPC extends GameCharacter implements XMLSaving {
 	protected Subspecies subspeciesPreference = null;
 	protected RaceStage raceStagePreference = null;
 	
+	/** The game time, in seconds, from which this NPC stopped being updated by Game.endTurn(), or -1 if they are not dormant. */
+	private long dormantSinceSeconds = -1;
+	
+	/** Whether each NPC class overrides dailyUpdate(), hourlyUpdate(), or turnUpdate(). */
+	private static Map<Class<?>, Boolean> updatedOverTimeClasses = new ConcurrentHashMap<>();
+	
 	protected NPC(boolean isImported,
 			NameTriplet nameTriplet,
 			String surname,
@@ -383,6 +390,36 @@ public abstract class NPC extends GameCharacter implements XMLSaving {
 	public void turnUpdate() {
 	}
 	
+	/**
+	 * @return True if this NPC's class overrides dailyUpdate(), hourlyUpdate(), or turnUpdate(), meaning that it has things to do on time even when the player is nowhere near, and so should never become dormant.
+	 */
+	public boolean isUpdatedOverTime() {
+		return updatedOverTimeClasses.computeIfAbsent(this.getClass(), c -> {
+			try {
+				return c.getMethod("dailyUpdate").getDeclaringClass()!=NPC.class
+						|| c.getMethod("hourlyUpdate").getDeclaringClass()!=NPC.class
+						|| c.getMethod("turnUpdate").getDeclaringClass()!=NPC.class;
+			} catch (NoSuchMethodException e) {
+				return true;
+			}
+		});
+	}
+	
+	/**
+	 * @return True if this NPC is not being updated every turn. See Game.wakeNPC().
+	 */
+	public boolean isDormant() {
+		return dormantSinceSeconds>=0;
+	}
+	
+	public long getDormantSinceSeconds() {
+		return dormantSinceSeconds;
+	}
+	
+	public void setDormantSinceSeconds(long dormantSinceSeconds) {
+		this.dormantSinceSeconds = dormantSinceSeconds;
+	}
+	
 	public abstract void changeFurryLevel();
 	
 	public abstract DialogueNode getEncounterDialogue();
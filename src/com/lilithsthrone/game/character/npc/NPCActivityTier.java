@@ -0,0 +1,20 @@
+package com.lilithsthrone.game.character.npc;
+
+/**
+ * How much attention an NPC needs from Game.endTurn(), as returned by Game.getActivityTier().
+ *
+ * @since 0.3.5.8
+ * @version 0.3.5.8
+ * @author Innoxia
+ */
+public enum NPCActivityTier {
+	
+	/** Present with the player, in a party, or one of the player's slaves or occupants. Updated every turn. */
+	ACTIVE,
+	
+	/** In the same world as the player, or has hourly, daily, or turn updates of their own. Updated every turn. */
+	NEARBY,
+	
+	/** Everyone else. Not updated until something next needs them, at which point they are caught up by Game.wakeNPC(), one day at a time. */
+	DORMANT;
+}
@@ -1,5 +1,7 @@
 package com.lilithsthrone.game.character.persona;
 
+import com.lilithsthrone.game.character.body.valueEnums.Femininity;
+
 /**
  * @since 0.1.75
  * @version 0.3
@@ -36,4 +38,21 @@ public class NameTriplet {
 	public String getFeminine() {
 		return feminine;
 	}
+	
+	/**
+	 * @return The name which a character of this femininity uses.
+	 */
+	public String getName(Femininity femininity) {
+		switch(femininity) {
+			case MASCULINE_STRONG:
+			case MASCULINE:
+				return masculine;
+			case ANDROGYNOUS:
+				return androgynous;
+			case FEMININE:
+			case FEMININE_STRONG:
+			default:
+				return feminine;
+		}
+	}
 }
\ No newline at end of file
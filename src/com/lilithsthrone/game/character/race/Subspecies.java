@@ -39,6 +39,8 @@ import com.lilithsthrone.game.character.gender.Gender;
 import com.lilithsthrone.game.dialogue.DialogueFlagValue;
 import com.lilithsthrone.game.dialogue.utils.UtilText;
 import com.lilithsthrone.main.Main;
+import com.lilithsthrone.rendering.AssetRegistry;
+import com.lilithsthrone.rendering.AssetRegistry.Asset;
 import com.lilithsthrone.rendering.SVGImages;
 import com.lilithsthrone.utils.Colour;
 import com.lilithsthrone.utils.SvgUtil;
@@ -49,7 +51,7 @@ import com.lilithsthrone.world.WorldType;
 
 /**
  * @since 0.1.91
- * @version 0.3.4
+ * @version 0.3.5.8
  * @author tukaima, Innoxia
  */
 public enum Subspecies {
@@ -1140,17 +1142,17 @@ public enum Subspecies {
 		@Override
 		public String getSVGString(GameCharacter character) {
 			if(character==null) {
-				return youkoIconMap.get(9);
+				return youkoIconMap.get().get(9);
 			}
-			return getBipedBackground(youkoIconMap.get(character.getTailCount()), character, this.getColour(character));
+			return getBipedBackground(youkoIconMap.get().get(character.getTailCount()), character, this.getColour(character));
 		}
 
 		@Override
 		public String getSVGStringDesaturated(GameCharacter character) {
 			if(character==null) {
-				return youkoDesaturatedIconMap.get(9);
+				return youkoDesaturatedIconMap.get().get(9);
 			}
-			return getBipedBackground(youkoDesaturatedIconMap.get(character.getTailCount()), character, Colour.BASE_GREY);
+			return getBipedBackground(youkoDesaturatedIconMap.get().get(character.getTailCount()), character, Colour.BASE_GREY);
 		}
 		
 		@Override
@@ -1158,7 +1160,7 @@ public enum Subspecies {
 			if(character!=null && character.getSubspeciesOverride()!=null && character.getSubspeciesOverride().equals(Subspecies.DEMON)) {
 				return super.getHalfDemonSVGString(character);
 			} else {
-				return getBipedBackground(youkoHalfDemonIconMap.get(character.getTailCount()), character, Colour.RACE_HALF_DEMON);
+				return getBipedBackground(youkoHalfDemonIconMap.get().get(character.getTailCount()), character, Colour.RACE_HALF_DEMON);
 			}
 		}
 	},
@@ -3138,78 +3140,119 @@ public enum Subspecies {
 	private SubspeciesPreference subspeciesPreferenceDefault;
 	private String description;
 	
-	protected String SVGString;
-	protected String SVGStringNoBackground;
-	protected String SVGStringDesaturated;
-	protected String slimeSVGString;
-	protected String halfDemonSVGString;
-	protected String demonSVGString;
+	/** Null if this subspecies has no icon. */
+	private Asset<Icons> icons;
 	
 	private Map<WorldType, SubspeciesSpawnRarity> worldLocations;
 
-	private static Map<Integer, String> youkoIconMap;
-	private static Map<Integer, String> youkoDesaturatedIconMap;
-	private static Map<Integer, String> youkoHalfDemonIconMap;
+	/**
+	 * All of the coloured variants of a subspecies' icon, which are made together the first time that any of them is needed.
+	 */
+	private static class Icons {
+		private String SVGString = "";
+		private String SVGStringNoBackground;
+		private String SVGStringDesaturated;
+		private String slimeSVGString;
+		private String halfDemonSVGString;
+		private String demonSVGString;
+		
+		private Icons() {
+		}
+		
+		private Icons(String id, Colour colour, String iconPathName, String iconBackgroundPathName) {
+			String SVGStringBase = AssetRegistry.readResource("/com/lilithsthrone/res/" + iconPathName + ".svg");
+			
+			String SVGStringBackground = "";
+			if(!iconBackgroundPathName.isEmpty()) {
+				SVGStringBackground = "<div style='width:100%;height:100%;position:absolute;left:0;bottom:0;'>"+AssetRegistry.readResource("/com/lilithsthrone/res/" + iconBackgroundPathName + ".svg")+"</div>";
+			}
+			
+			String baseSVGString = SVGStringBackground + "<div style='width:100%;height:100%;position:absolute;left:0;bottom:0;'>"+SVGStringBase+"</div>";
+			
+			SVGStringNoBackground = SvgUtil.colourReplacement(id,
+					colour,
+					colour,
+					colour,
+					"<div style='width:100%;height:100%;position:absolute;left:0;bottom:0;'>"+SVGStringBase+"</div>");
+			
+			slimeSVGString = SvgUtil.colourReplacement(id,
+					Colour.RACE_SLIME,
+					Colour.RACE_SLIME,
+					Colour.RACE_SLIME,
+					"<div style='width:100%;height:100%;position:absolute;left:0;bottom:0;'>" + SVGImages.SVG_IMAGE_PROVIDER.getRaceBackgroundSlime()+"</div>"
+					+ "<div style='width:100%;height:100%;position:absolute;left:0;bottom:0;'>"+SVGStringBase+"</div>");
+
+			halfDemonSVGString = SvgUtil.colourReplacement(id,
+					Colour.RACE_HALF_DEMON,
+					Colour.RACE_HALF_DEMON,
+					Colour.RACE_HALF_DEMON,
+					"<div style='width:100%;height:100%;position:absolute;left:0;bottom:0;'>" + SVGImages.SVG_IMAGE_PROVIDER.getRaceBackgroundDemon()+"</div>"
+					+ "<div style='width:100%;height:100%;position:absolute;left:0;bottom:0;'>"+SVGStringBase+"</div>");
+
+			demonSVGString = SvgUtil.colourReplacement(id,
+					Colour.RACE_DEMON,
+					Colour.RACE_DEMON,
+					Colour.RACE_DEMON,
+					"<div style='width:100%;height:100%;position:absolute;left:0;bottom:0;'>" + SVGImages.SVG_IMAGE_PROVIDER.getRaceBackgroundDemon()+"</div>"
+					+ "<div style='width:100%;height:100%;position:absolute;left:0;bottom:0;'>"+SVGStringBase+"</div>");
+			
+			SVGStringDesaturated = SvgUtil.colourReplacement(id,
+					Colour.BASE_GREY,
+					Colour.BASE_GREY,
+					Colour.BASE_GREY,
+					baseSVGString);
+			
+			SVGString = SvgUtil.colourReplacement(id,
+					colour,
+					colour,
+					colour,
+					baseSVGString);
+		}
+	}
+	
+	private static final Icons NO_ICONS = new Icons();
+	
+	private static Asset<Map<Integer, String>> youkoIconMap;
+	private static Asset<Map<Integer, String>> youkoDesaturatedIconMap;
+	private static Asset<Map<Integer, String>> youkoHalfDemonIconMap;
 	
 	private static Map<WorldType, Map<Subspecies, SubspeciesSpawnRarity>> worldSpecies;
 	private static Map<Subspecies, SubspeciesSpawnRarity> dominionStormImmuneSpecies;
 	private static Map<Race, List<Subspecies>> subspeciesFromRace;
 	
 	static {
-		youkoIconMap = new HashMap<>();
-		youkoHalfDemonIconMap = new HashMap<>();
-		for(int i=1; i<=9; i++) {
-			try {
-				String SVGStringBackground = "";
-				InputStream is = Subspecies.class.getClassLoader().getResourceAsStream("com/lilithsthrone/res/statusEffects/race/raceBackground.svg");
-				if(is==null) {
-					System.err.println("Error! Subspecies background icon file does not exist (Trying to read from 'statusEffects/race/raceBackground')! (Code 1f)");
-				}
-				SVGStringBackground = "<div style='width:100%;height:100%;position:absolute;left:0;bottom:0;'>"+Util.inputStreamToString(is)+"</div>";
-
-				is.close();
-				
-				String baseSVGString = SVGStringBackground + "<div style='width:100%;height:100%;position:absolute;left:0;bottom:0;'>"+SVGImages.SVG_IMAGE_PROVIDER.getFoxTail(i)+"</div>";
-				youkoIconMap.put(i, baseSVGString);
-
-				baseSVGString = SvgUtil.colourReplacement("youkohalfDemon"+i,
-							Colour.RACE_HALF_DEMON,
-							Colour.RACE_HALF_DEMON,
-							Colour.RACE_HALF_DEMON,
-							"<div style='width:100%;height:100%;position:absolute;left:0;bottom:0;'>" + SVGImages.SVG_IMAGE_PROVIDER.getRaceBackgroundDemon()+"</div>"
-								+ "<div style='width:100%;height:100%;position:absolute;left:0;bottom:0;'>"+SVGImages.SVG_IMAGE_PROVIDER.getFoxTailDemon(i)+"</div>");
-				youkoHalfDemonIconMap.put(i, baseSVGString);
-				
-			} catch (IOException e) {
-				e.printStackTrace();
+		youkoIconMap = AssetRegistry.register("Subspecies.youkoIconMap", AssetRegistry.PRIORITY_DEFAULT, () -> {
+			Map<Integer, String> map = new HashMap<>();
+			for(int i=1; i<=9; i++) {
+				String SVGStringBackground = "<div style='width:100%;height:100%;position:absolute;left:0;bottom:0;'>"+AssetRegistry.readResource("/com/lilithsthrone/res/statusEffects/race/raceBackground.svg")+"</div>";
+				map.put(i, SVGStringBackground + "<div style='width:100%;height:100%;position:absolute;left:0;bottom:0;'>"+SVGImages.SVG_IMAGE_PROVIDER.getFoxTail(i)+"</div>");
 			}
-		}
-		youkoDesaturatedIconMap = new HashMap<>();
-		for(int i=1; i<=9; i++) {
-			try {
-				String SVGStringBackground = "";
-				InputStream is = Subspecies.class.getClassLoader().getResourceAsStream("com/lilithsthrone/res/statusEffects/race/raceBackground.svg");
-				if(is==null) {
-					System.err.println("Error! Subspecies background icon file does not exist (Trying to read from 'statusEffects/race/raceBackground')! (Code 2f)");
-				}
-				SVGStringBackground = "<div style='width:100%;height:100%;position:absolute;left:0;bottom:0;'>"+Util.inputStreamToString(is)+"</div>";
-				
-				is.close();
-				
-				String baseSVGString = SVGStringBackground + "<div style='width:100%;height:100%;position:absolute;left:0;bottom:0;'>"+SVGImages.SVG_IMAGE_PROVIDER.getFoxTailDesaturated(i)+"</div>";
-				
-				baseSVGString = SvgUtil.colourReplacement("youkoGradient"+i,
+			return map;
+		});
+		youkoHalfDemonIconMap = AssetRegistry.register("Subspecies.youkoHalfDemonIconMap", AssetRegistry.PRIORITY_DEFAULT, () -> {
+			Map<Integer, String> map = new HashMap<>();
+			for(int i=1; i<=9; i++) {
+				map.put(i, SvgUtil.colourReplacement("youkohalfDemon"+i,
+						Colour.RACE_HALF_DEMON,
+						Colour.RACE_HALF_DEMON,
+						Colour.RACE_HALF_DEMON,
+						"<div style='width:100%;height:100%;position:absolute;left:0;bottom:0;'>" + SVGImages.SVG_IMAGE_PROVIDER.getRaceBackgroundDemon()+"</div>"
+							+ "<div style='width:100%;height:100%;position:absolute;left:0;bottom:0;'>"+SVGImages.SVG_IMAGE_PROVIDER.getFoxTailDemon(i)+"</div>"));
+			}
+			return map;
+		});
+		youkoDesaturatedIconMap = AssetRegistry.register("Subspecies.youkoDesaturatedIconMap", AssetRegistry.PRIORITY_DEFAULT, () -> {
+			Map<Integer, String> map = new HashMap<>();
+			for(int i=1; i<=9; i++) {
+				String SVGStringBackground = "<div style='width:100%;height:100%;position:absolute;left:0;bottom:0;'>"+AssetRegistry.readResource("/com/lilithsthrone/res/statusEffects/race/raceBackground.svg")+"</div>";
+				map.put(i, SvgUtil.colourReplacement("youkoGradient"+i,
 						Colour.BASE_GREY,
 						Colour.BASE_GREY,
 						Colour.BASE_GREY,
-						baseSVGString);
-				
-				youkoDesaturatedIconMap.put(i, baseSVGString);
-				
-			} catch (IOException e) {
-				e.printStackTrace();
+						SVGStringBackground + "<div style='width:100%;height:100%;position:absolute;left:0;bottom:0;'>"+SVGImages.SVG_IMAGE_PROVIDER.getFoxTailDesaturated(i)+"</div>"));
 			}
-		}
+			return map;
+		});
 		
 		worldSpecies = new HashMap<>();
 		dominionStormImmuneSpecies = new HashMap<>();
@@ -3317,73 +3360,9 @@ public enum Subspecies {
 		}
 		
 		if(iconPathName!=null) {
-			try {
-				InputStream is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/" + iconPathName + ".svg");
-				if(is==null) {
-					System.err.println("Error! Subspecies icon file does not exist (Trying to read from '"+iconPathName+"')! (Code 1)");
-				}
-				SVGString = Util.inputStreamToString(is);
-				
-				is.close();
-				
-				String SVGStringBackground = "";
-				if(!iconBackgroundPathName.isEmpty()) {
-					is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/" + iconBackgroundPathName + ".svg");
-					if(is==null) {
-						System.err.println("Error! Subspecies background icon file does not exist (Trying to read from '"+iconPathName+"')! (Code 1)");
-					}
-					SVGStringBackground = "<div style='width:100%;height:100%;position:absolute;left:0;bottom:0;'>"+Util.inputStreamToString(is)+"</div>";
-					
-					is.close();
-				}
-				
-				String baseSVGString = SVGStringBackground + "<div style='width:100%;height:100%;position:absolute;left:0;bottom:0;'>"+SVGString+"</div>";
-				
-				SVGStringNoBackground = SvgUtil.colourReplacement(this.toString(),
-						colour,
-						colour,
-						colour,
-						"<div style='width:100%;height:100%;position:absolute;left:0;bottom:0;'>"+SVGString+"</div>");
-				
-				slimeSVGString = SvgUtil.colourReplacement(this.toString(),
-						Colour.RACE_SLIME,
-						Colour.RACE_SLIME,
-						Colour.RACE_SLIME,
-						"<div style='width:100%;height:100%;position:absolute;left:0;bottom:0;'>" + SVGImages.SVG_IMAGE_PROVIDER.getRaceBackgroundSlime()+"</div>"
-						+ "<div style='width:100%;height:100%;position:absolute;left:0;bottom:0;'>"+SVGString+"</div>");
-
-				halfDemonSVGString = SvgUtil.colourReplacement(this.toString(),
-						Colour.RACE_HALF_DEMON,
-						Colour.RACE_HALF_DEMON,
-						Colour.RACE_HALF_DEMON,
-						"<div style='width:100%;height:100%;position:absolute;left:0;bottom:0;'>" + SVGImages.SVG_IMAGE_PROVIDER.getRaceBackgroundDemon()+"</div>"
-						+ "<div style='width:100%;height:100%;position:absolute;left:0;bottom:0;'>"+SVGString+"</div>");
-
-				demonSVGString = SvgUtil.colourReplacement(this.toString(),
-						Colour.RACE_DEMON,
-						Colour.RACE_DEMON,
-						Colour.RACE_DEMON,
-						"<div style='width:100%;height:100%;position:absolute;left:0;bottom:0;'>" + SVGImages.SVG_IMAGE_PROVIDER.getRaceBackgroundDemon()+"</div>"
-						+ "<div style='width:100%;height:100%;position:absolute;left:0;bottom:0;'>"+SVGString+"</div>");
-				
-				SVGStringDesaturated = SvgUtil.colourReplacement(this.toString(),
-						Colour.BASE_GREY,
-						Colour.BASE_GREY,
-						Colour.BASE_GREY,
-						baseSVGString);
-				
-				SVGString = SvgUtil.colourReplacement(this.toString(),
-						colour,
-						colour,
-						colour,
-						baseSVGString);
-				
-			} catch (IOException e) {
-				e.printStackTrace();
-			}
-			
+			icons = AssetRegistry.register("Subspecies."+this.toString(), AssetRegistry.PRIORITY_COMMON, () -> new Icons(this.toString(), colour, iconPathName, iconBackgroundPathName));
 		} else {
-			SVGString = "";
+			icons = null;
 		}
 	}
 
@@ -4213,27 +4192,31 @@ public enum Subspecies {
 		return svg;
 	}
 	
+	private Icons getIcons() {
+		return icons==null ? NO_ICONS : icons.get();
+	}
+	
 	public String getSVGString(GameCharacter character) {
-		return getBipedBackground(SVGString, character, this.getColour(character));
+		return getBipedBackground(getIcons().SVGString, character, this.getColour(character));
 	}
 	
 	public String getSVGStringNoBackground() {
-		return SVGStringNoBackground;
+		return getIcons().SVGStringNoBackground;
 	}
 
 	public String getSVGStringDesaturated(GameCharacter character) {
-		return getBipedBackground(SVGStringDesaturated, character, Colour.BASE_GREY);
+		return getBipedBackground(getIcons().SVGStringDesaturated, character, Colour.BASE_GREY);
 	}
 
 	public String getSlimeSVGString(GameCharacter character) {
-		return getBipedBackground(slimeSVGString, character, Colour.RACE_SLIME);
+		return getBipedBackground(getIcons().slimeSVGString, character, Colour.RACE_SLIME);
 	}
 
 	public String getHalfDemonSVGString(GameCharacter character) {
 		if(character!=null && character.getSubspeciesOverride()!=null && character.getSubspeciesOverride().equals(Subspecies.DEMON)) {
-			return getBipedBackground(demonSVGString, character, Colour.RACE_DEMON);
+			return getBipedBackground(getIcons().demonSVGString, character, Colour.RACE_DEMON);
 		} else {
-			return getBipedBackground(halfDemonSVGString, character, Colour.RACE_HALF_DEMON);
+			return getBipedBackground(getIcons().halfDemonSVGString, character, Colour.RACE_HALF_DEMON);
 		}
 	}
 
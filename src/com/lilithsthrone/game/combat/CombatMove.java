@@ -1,7 +1,5 @@
 package com.lilithsthrone.game.combat;
 
-import java.io.IOException;
-import java.io.InputStream;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
@@ -17,6 +15,8 @@ import com.lilithsthrone.game.inventory.enchanting.TFEssence;
 import com.lilithsthrone.game.inventory.item.AbstractItem;
 import com.lilithsthrone.game.inventory.weapon.AbstractWeapon;
 import com.lilithsthrone.main.Main;
+import com.lilithsthrone.rendering.AssetRegistry;
+import com.lilithsthrone.rendering.AssetRegistry.Asset;
 import com.lilithsthrone.utils.Colour;
 import com.lilithsthrone.utils.SvgUtil;
 import com.lilithsthrone.utils.Util;
@@ -45,7 +45,7 @@ public class CombatMove {
     private boolean canTargetEnemies;
     private boolean canTargetAllies;
     private boolean canTargetSelf;
-    private String SVGString;
+    private Asset<String> SVGString;
 
 	private Map<StatusEffect, Integer> statusEffects;
 
@@ -1460,24 +1460,14 @@ public class CombatMove {
         
         this.statusEffects = statusEffects;
         
-        try {
-            InputStream is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/" + pathName + ".svg");
-            if(is==null) {
-                System.err.println("Error! Perk icon file does not exist (Trying to read from '"+pathName+"')!");
-            }
-            SVGString = Util.inputStreamToString(is);
-            
+        SVGString = AssetRegistry.register("CombatMove."+identifier, AssetRegistry.PRIORITY_DEFAULT, () -> {
+            String s = AssetRegistry.readResource("/com/lilithsthrone/res/" + pathName + ".svg");
             if(iconColours!=null) {
-            	SVGString = SvgUtil.colourReplacement(identifier, iconColours.get(0), iconColours.size()>1?iconColours.get(1):null, iconColours.size()>2?iconColours.get(2):null, SVGString);
+            	return SvgUtil.colourReplacement(identifier, iconColours.get(0), iconColours.size()>1?iconColours.get(1):null, iconColours.size()>2?iconColours.get(2):null, s);
             } else {
-            	SVGString = SvgUtil.colourReplacement(identifier, type.getColour(), SVGString);
+            	return SvgUtil.colourReplacement(identifier, type.getColour(), s);
             }
-
-            is.close();
-
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        });
         
     }
     
@@ -1839,7 +1829,7 @@ public class CombatMove {
     }
 
     public String getSVGString() {
-        return SVGString;
+        return SVGString.get();
     }
     
     public Map<StatusEffect, Integer> getStatusEffects(GameCharacter caster, GameCharacter target, boolean isCritical) {
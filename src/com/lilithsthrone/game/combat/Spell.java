@@ -1,7 +1,5 @@
 package com.lilithsthrone.game.combat;
 
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -21,6 +19,8 @@ import com.lilithsthrone.game.inventory.clothing.AbstractClothing;
 import com.lilithsthrone.game.inventory.item.AbstractItem;
 import com.lilithsthrone.game.inventory.weapon.AbstractWeapon;
 import com.lilithsthrone.main.Main;
+import com.lilithsthrone.rendering.AssetRegistry;
+import com.lilithsthrone.rendering.AssetRegistry.Asset;
 import com.lilithsthrone.utils.Colour;
 import com.lilithsthrone.utils.SvgUtil;
 import com.lilithsthrone.utils.Units;
@@ -2710,7 +2710,7 @@ public enum Spell {
 	private List<String> modifiersList;
 
 	private String pathName;
-	private String SVGString;
+	private Asset<String> SVGString;
 
 	private Spell(boolean forbiddenSpell,
 			SpellSchool spellSchool,
@@ -2770,20 +2770,10 @@ public enum Spell {
 		
 		// SVG:
 		this.pathName = pathName;
-		try {
-			InputStream is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/combat/spell/" + pathName + ".svg");
-			if(is==null) {
-				System.err.println("Error! Spell icon file does not exist (Trying to read from '"+pathName+"')!");
-			}
-			SVGString = Util.inputStreamToString(is);
-			
-			SVGString = SvgUtil.colourReplacement(this.toString(), damageType.getMultiplierAttribute().getColour(), SVGString);
-			
-			is.close();
-
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
+		SVGString = AssetRegistry.register("Spell."+this.toString(), AssetRegistry.PRIORITY_DEFAULT, () -> {
+			String s = AssetRegistry.readResource("/com/lilithsthrone/res/combat/spell/" + this.pathName + ".svg");
+			return SvgUtil.colourReplacement(this.toString(), this.damageType.getMultiplierAttribute().getColour(), s);
+		});
 	}
 	
 	private void initialiseBasicSpellUpgradeTree(List<SpellUpgrade> upgradeList) {
@@ -2890,7 +2880,7 @@ public enum Spell {
 	}
 	
 	public String getSVGString() {
-		return SVGString;
+		return SVGString.get();
 	}
 
 	public String getPathName() {
@@ -1086,10 +1086,18 @@ public class DebugDialogue {
 		
 		@Override
 		public String getContent() {
+			long hits = UtilText.getCompiledScriptHits();
+			long misses = UtilText.getCompiledScriptMisses();
 			return  "<p>"
 					+ "<b>Output:</b>"
 					+ "</p>"
-					+ "<p>"+parsedText+"</p>";
+					+ "<p>"+parsedText+"</p>"
+					+ "<p>"
+						+ "<b>Script cache:</b><br/>"
+						+ "Hits: "+hits+" | Misses: "+misses+" | Hit rate: "+(hits+misses==0?"-":(hits*100/(hits+misses))+"%")+"<br/>"
+						+ "Cached scripts: "+UtilText.getCompiledScriptCacheSize()+"<br/>"
+						+ "Time spent evaluating scripts: "+(UtilText.getScriptEvaluationNanoTime()/1_000_000)+"ms"
+					+ "</p>";
 		}
 
 		@Override
@@ -1136,6 +1144,14 @@ public class DebugDialogue {
 					}
 				};
 				
+			} else if (index == 8) {
+				return new Response("Reset script stats", "Reset the script cache's hit, miss, and timing statistics. (The cache itself is kept.)", PARSER){
+					@Override
+					public void effects() {
+						UtilText.resetCompiledScriptStatistics();
+					}
+				};
+				
 			} else if (index == 11) {
 				return new Response("Xml test",
 						"Parse every dialogue entry in the file whose path you've specified in order to check for errors. Lilaya, Brax, Rose, Ralph, Nyan, and Zaranix, are passed in as parser targets.",
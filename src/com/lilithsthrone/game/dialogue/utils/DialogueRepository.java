@@ -0,0 +1,219 @@
+package com.lilithsthrone.game.dialogue.utils;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import com.lilithsthrone.game.PropertyValue;
+import com.lilithsthrone.main.Main;
+import com.lilithsthrone.utils.Util;
+
+/**
+ * Holds the htmlContent entries of the dialogue files in res/txt, so that UtilText.parseFromXMLFile() doesn't need to read and build a DOM of the file every time a line of dialogue is requested.<br/>
+ * Each file is read once with StAX (either lazily on first use, or from the background preload started at launch), and is stored as a map of tag to all of the htmlContent variants with that tag, with the CDATA markers already stripped.<br/>
+ * When in debug mode, or when the 'Reload edited dialogue' option is enabled, files are reloaded if their modification time or size has changed, so that dialogue can be edited while the game is running.
+ *
+ * @since 0.3.5.8
+ * @version 0.3.5.8
+ * @author Innoxia
+ */
+public class DialogueRepository {
+
+	public static final String DIALOGUE_FOLDER = "res/txt/";
+
+	private static final XMLInputFactory INPUT_FACTORY = XMLInputFactory.newInstance();
+	static {
+		INPUT_FACTORY.setProperty(XMLInputFactory.IS_COALESCING, true);
+		INPUT_FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+	}
+
+	private static Map<String, DialogueFile> dialogueFiles = new ConcurrentHashMap<>();
+
+	private static class DialogueFile {
+		private final long lastModified;
+		private final long length;
+		private final Map<String, List<String>> contentByTag;
+
+		private DialogueFile(long lastModified, long length, Map<String, List<String>> contentByTag) {
+			this.lastModified = lastModified;
+			this.length = length;
+			this.contentByTag = contentByTag;
+		}
+
+		private boolean isStale(File file) {
+			return file.lastModified()!=lastModified || file.length()!=length;
+		}
+	}
+
+	/**
+	 * @param pathName The path of the file, relative to res/txt/ and without the '.xml' extension. e.g. "encounters/dominion/alleywayAttack"
+	 * @param tag The tag of the htmlContent entries.
+	 * @return An unmodifiable list of all the (unparsed) htmlContent entries in the file with the supplied tag. Empty if the file or tag does not exist.
+	 */
+	public static List<String> getDialogueVariants(String pathName, String tag) {
+		List<String> variants = getDialogueFile(pathName).contentByTag.get(tag);
+		if(variants==null) {
+			return Collections.emptyList();
+		}
+		return variants;
+	}
+
+	/**
+	 * @return One of the (unparsed) htmlContent entries in the file with the supplied tag, chosen at random. null if the file or tag does not exist.
+	 */
+	public static String getRandomDialogue(String pathName, String tag) {
+		List<String> variants = getDialogueVariants(pathName, tag);
+		if(variants.isEmpty()) {
+			return null;
+		}
+		return variants.get(Util.random.nextInt(variants.size()));
+	}
+
+	/**
+	 * Reads every dialogue file in res/txt which has not yet been loaded.
+	 */
+	public static void preloadAll() {
+		File folder = new File(DIALOGUE_FOLDER);
+		if(!folder.exists()) {
+			return;
+		}
+		try(Stream<Path> paths = Files.walk(folder.toPath())) {
+			paths.filter(p -> p.toString().endsWith(".xml"))
+				.forEach(p -> {
+					String pathName = folder.toPath().relativize(p).toString().replace(File.separatorChar, '/');
+					getDialogueFile(pathName.substring(0, pathName.length()-4));
+				});
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Starts a low-priority daemon thread which calls preloadAll().
+	 */
+	public static void preloadAllInBackground() {
+		Thread preloadThread = new Thread(DialogueRepository::preloadAll, "Dialogue preloader");
+		preloadThread.setDaemon(true);
+		preloadThread.setPriority(Thread.MIN_PRIORITY);
+		preloadThread.start();
+	}
+
+	/**
+	 * Discards all loaded dialogue, so that every file is read again on next use.
+	 */
+	public static void clear() {
+		dialogueFiles.clear();
+	}
+
+	private static boolean isReloadOnChange() {
+		return Main.DEBUG
+				|| (Main.game!=null && Main.game.isDebugMode())
+				|| (Main.getProperties()!=null && Main.getProperties().hasValue(PropertyValue.dialogueReloading));
+	}
+
+	private static DialogueFile getDialogueFile(String pathName) {
+		DialogueFile dialogueFile = dialogueFiles.get(pathName);
+		if(dialogueFile!=null) {
+			if(!isReloadOnChange() || !dialogueFile.isStale(new File(DIALOGUE_FOLDER+pathName+".xml"))) {
+				return dialogueFile;
+			}
+			dialogueFiles.remove(pathName, dialogueFile);
+		}
+		return dialogueFiles.computeIfAbsent(pathName, DialogueRepository::loadDialogueFile);
+	}
+
+	private static DialogueFile loadDialogueFile(String pathName) {
+		File file = new File(DIALOGUE_FOLDER+pathName+".xml");
+		Map<String, List<String>> contentByTag = new HashMap<>();
+
+		if(file.exists()) {
+			try(InputStream is = new BufferedInputStream(new FileInputStream(file))) {
+				XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(is);
+				try {
+					readDialogue(reader, contentByTag);
+				} finally {
+					reader.close();
+				}
+
+			} catch (Exception e) {
+				System.err.println("Error loading dialogue file: "+file.getPath());
+				e.printStackTrace();
+			}
+		}
+
+		for(Map.Entry<String, List<String>> entry : contentByTag.entrySet()) {
+			entry.setValue(Collections.unmodifiableList(entry.getValue()));
+		}
+		return new DialogueFile(file.lastModified(), file.length(), contentByTag);
+	}
+
+	/**
+	 * Collects the text content of every htmlContent element within the first 'dialogue' element of the document.
+	 */
+	private static void readDialogue(XMLStreamReader reader, Map<String, List<String>> contentByTag) throws XMLStreamException {
+		boolean inDialogue = false;
+		int dialogueDepth = 0;
+		int depth = 0;
+
+		String currentTag = null;
+		int contentDepth = 0;
+		StringBuilder content = new StringBuilder();
+
+		while(reader.hasNext()) {
+			switch(reader.next()) {
+				case XMLStreamConstants.START_ELEMENT:
+					depth++;
+					if(!inDialogue) {
+						if(reader.getLocalName().equals("dialogue")) {
+							inDialogue = true;
+							dialogueDepth = depth;
+						}
+
+					} else if(currentTag==null && reader.getLocalName().equals("htmlContent")) {
+						currentTag = reader.getAttributeValue(null, "tag");
+						if(currentTag==null) {
+							currentTag = "";
+						}
+						contentDepth = depth;
+						content.setLength(0);
+					}
+					break;
+
+				case XMLStreamConstants.CHARACTERS:
+				case XMLStreamConstants.CDATA:
+				case XMLStreamConstants.SPACE:
+					if(currentTag!=null) {
+						content.append(reader.getText());
+					}
+					break;
+
+				case XMLStreamConstants.END_ELEMENT:
+					if(currentTag!=null && depth==contentDepth) {
+						contentByTag.computeIfAbsent(currentTag, t -> new ArrayList<>()).add(content.toString().replaceFirst("<!\\[CDATA\\[", "").replaceAll("\\]\\]>", ""));
+						currentTag = null;
+					}
+					if(inDialogue && depth==dialogueDepth) {
+						return; // Only the first dialogue element is used
+					}
+					depth--;
+					break;
+			}
+		}
+	}
+}
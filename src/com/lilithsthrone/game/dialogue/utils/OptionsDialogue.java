@@ -2,6 +2,7 @@ package com.lilithsthrone.game.dialogue.utils;
 
 import com.lilithsthrone.game.Game;
 import com.lilithsthrone.game.PropertyValue;
+import com.lilithsthrone.game.SaveIndex;
 import com.lilithsthrone.game.character.CharacterUtils;
 import com.lilithsthrone.game.character.attributes.Attribute;
 import com.lilithsthrone.game.character.body.valueEnums.AgeCategory;
@@ -39,6 +40,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.time.Instant;
 import java.util.List;
 import java.util.*;
 
@@ -332,14 +334,13 @@ public class OptionsDialogue {
 			int i=0;
 			
 			if(Main.game.isStarted()) {
-				saveLoadSB.append(getSaveLoadRow(null, null, i%2==0));
+				saveLoadSB.append(getSaveLoadRow(null, null, null, i%2==0));
 				i++;
 			}
 			
-			Main.getSavedGames().sort(Comparator.comparingLong(File::lastModified).reversed());
-			
-			for(File f : Main.getSavedGames()){
-				saveLoadSB.append(getSaveLoadRow("<span style='color:"+Colour.TEXT_GREY.toWebHexString()+";'>"+Util.getFileTime(f)+"</span>", f.getName(), i%2==0));
+			// Only the save index is read here, so that none of the save files need to be opened:
+			for(SaveIndex.Entry entry : SaveIndex.getEntries()){
+				saveLoadSB.append(getSaveLoadRow("<span style='color:"+Colour.TEXT_GREY.toWebHexString()+";'>"+Units.dateTime(Instant.ofEpochMilli(entry.getLastModified()))+"</span>", entry.getFile().getName(), entry, i%2==0));
 				i++;
 			}
 			
@@ -373,6 +374,56 @@ public class OptionsDialogue {
 					}
 				};
 
+			} else if (index == 2) {
+				return new Response("Format: ",
+						"Toggle which format games are saved in."
+							+ "<br/>[style.italicsMinorGood(XML)] saves are human-readable and can be edited by hand."
+							+ "<br/>[style.italicsMinorGood(Binary)] saves are much smaller, and are faster to save and load."
+							+ "<br/>Games can be loaded from either format, no matter which one is selected.",
+						SAVE_LOAD) {
+					@Override
+					public String getTitle() {
+						return "Format: "+(Main.getProperties().hasValue(PropertyValue.binarySaves)
+								?"<span style='color:"+Colour.GENERIC_ARCANE.toWebHexString()+";'>Binary</span>"
+								:"<span style='color:"+Colour.GENERIC_GOOD.toWebHexString()+";'>XML</span>");
+					}
+					
+					@Override
+					public void effects() {
+						Main.getProperties().setValue(PropertyValue.binarySaves, !Main.getProperties().hasValue(PropertyValue.binarySaves));
+						Main.getProperties().savePropertiesAsXML();
+					}
+				};
+
+			} else if (index == 3) {
+				boolean toBinary = Main.getProperties().hasValue(PropertyValue.binarySaves);
+				return new Response("Convert saves",
+						"Convert all of your saved games into the "+(toBinary?"binary":"XML")+" format.",
+						SAVE_LOAD) {
+					@Override
+					public void effects() {
+						Game.waitForPendingSave();
+						int converted = 0;
+						int failed = 0;
+						for(File f : Main.getSavedGames()) {
+							try {
+								if(Game.convertSaveFile(f, toBinary)) {
+									converted++;
+								}
+							} catch(Exception ex) {
+								System.err.println("Failed to convert save: "+f.getName());
+								ex.printStackTrace();
+								failed++;
+							}
+						}
+						if(failed>0) {
+							Main.game.flashMessage(Colour.GENERIC_BAD, "Failed to convert "+failed+" save"+(failed==1?"":"s")+"!");
+						} else {
+							Main.game.flashMessage(Colour.GENERIC_GOOD, "Converted "+converted+" save"+(converted==1?"":"s")+"!");
+						}
+					}
+				};
+
 			} else if (index == 0) {
 				return new Response("Back", "Back to the main menu.", MENU);
 
@@ -480,7 +531,7 @@ public class OptionsDialogue {
 		}
 	};
 	
-	private static String getSaveLoadRow(String date, String name, boolean altColour) {
+	private static String getSaveLoadRow(String date, String name, SaveIndex.Entry indexEntry, boolean altColour) {
 		if(name!=null){
 			String baseName = Util.getFileName(name);
 			String identifierName = Util.getFileIdentifier(name);
@@ -490,7 +541,18 @@ public class OptionsDialogue {
 							+ date
 						+ "</div>"
 						+ "<div class='container-full-width' style='width:calc(50% - 16px); background:transparent;'>"
+							+ (indexEntry!=null && !indexEntry.getThumbnail().isEmpty()
+								?"<div style='width:32px; height:32px; float:left; margin-right:8px;'>"+indexEntry.getThumbnail()+"</div>"
+								:"")
 							+ baseName
+							+ (indexEntry!=null && !indexEntry.getPlayerName().isEmpty()
+								?"<br/><span style='color:"+Colour.TEXT_GREY.toWebHexString()+"; font-size:0.8em;'>"
+									+ indexEntry.getPlayerName()+" (Level "+indexEntry.getPlayerLevel()+")"
+									+ (indexEntry.getLocation().isEmpty()?"":" | "+indexEntry.getLocation())
+									+ " | Day "+indexEntry.getDayNumber()
+									+ (indexEntry.getVersion().isEmpty()?"":" | v"+indexEntry.getVersion())
+								+ "</span>"
+								:"")
 						+ "</div>"
 						+ "<div class='container-full-width' style='width:calc(25% - 16px);text-align:center; background:transparent;'>"
 							+ (Main.isSaveGameAvailable()
@@ -1891,6 +1953,20 @@ public class OptionsDialogue {
 			}
 			UtilText.nodeContentSB.append("</div></div>");
 			
+			UtilText.nodeContentSB.append(getContentPreferenceDiv(
+							"BACKGROUND_SAVING",
+							Colour.BASE_GREEN_LIGHT,
+							"Background autosave writing",
+							"When enabled, autosaves are written to disk in the background. The game still has to be gathered up before it can be written, so this shortens the pause which autosaves cause while travelling, rather than removing it. Disable this if you experience any problems with autosaves.",
+							Main.getProperties().hasValue(PropertyValue.backgroundSaving)));
+			
+			UtilText.nodeContentSB.append(getContentPreferenceDiv(
+							"DIALOGUE_RELOADING",
+							Colour.BASE_GREEN_LIGHT,
+							"Reload edited dialogue",
+							"When enabled, dialogue files in res/txt are read again whenever they have been edited, so that changes to them are shown without restarting the game. This is meant for anyone writing dialogue, as each file is checked every time that it's used.",
+							Main.getProperties().hasValue(PropertyValue.dialogueReloading)));
+			
 			UtilText.nodeContentSB.append(getContentPreferenceDiv(
 							"AUTO_SEX_CLOTHING_MANAGEMENT",
 							Colour.BASE_BLUE_STEEL,
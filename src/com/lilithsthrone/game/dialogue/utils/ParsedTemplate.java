@@ -0,0 +1,525 @@
+package com.lilithsthrone.game.dialogue.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * An immutable, pre-tokenised form of a String that is to be run through UtilText.parse().<br/>
+ * Each distinct input is only scanned once, with the resulting list of literal, command, script and conditional nodes being held in a bounded LRU cache.
+ * UtilText then evaluates the nodes against the current special NPC list, so that re-rendering the same dialogue doesn't have to re-scan the raw String.<br/>
+ * <br/>
+ * The caches are keyed by the input itself, as two different Strings with the same hash and length would otherwise be given the same template.
+ *  Looking an input up costs one pass over it to hash it (which String then remembers) and one to compare it, both of which are far cheaper than tokenising it again.<br/>
+ * Each cached template keeps its input alive, along with copies of that input's pieces in its nodes, which comes to around four bytes per character of input.
+ *  So rather than holding a number of templates, each cache holds templates for up to MAX_CACHED_LENGTH characters of input (about 8MB, or 16MB for both caches),
+ *  and inputs longer than MAX_CACHED_INPUT_LENGTH (such as whole generated pages, which are rarely parsed twice) aren't cached at all.
+ *
+ * @since 0.3.5.8
+ * @version 0.3.5.8
+ * @author Innoxia
+ */
+public class ParsedTemplate {
+
+	/** The maximum total length of the inputs whose templates are held in each of the initial and nested caches. */
+	public static final int MAX_CACHED_LENGTH = 2_000_000;
+	/** Inputs longer than this are compiled every time that they're parsed, rather than pushing many smaller templates out of the cache. */
+	public static final int MAX_CACHED_INPUT_LENGTH = 50_000;
+
+	private static final Pattern VAR_PATTERN = Pattern.compile("(?s)#VAR(.*?)#ENDVAR");
+
+	private static TemplateCache initialTemplates = new TemplateCache();
+	private static TemplateCache nestedTemplates = new TemplateCache();
+
+	private final String input;
+	private final List<String> variableCalls;
+	private final List<Node> nodes;
+	private final String parsingError;
+
+	/**
+	 * A single segment of a parsed template.<br/>
+	 * The ParseMode defines how the node is to be evaluated:<br/>
+	 * <b>UNKNOWN</b>: Literal text, which is appended as-is.<br/>
+	 * <b>REGULAR</b>: A [target.command(arguments)] parser command.<br/>
+	 * <b>REGULAR_SCRIPT</b>: A [#script] or [##script] block.<br/>
+	 * <b>CONDITIONAL</b>: An #IF/#ELSEIF/#ELSE/#ENDIF block.
+	 */
+	public static class Node {
+		private final ParseMode parseMode;
+		private final String text;
+		private final String target;
+		private final String command;
+		private final String arguments;
+		private final Map<String, String> conditionals;
+		private final boolean suppressOutput;
+		private final boolean nested;
+
+		private Node(ParseMode parseMode, String text, String target, String command, String arguments, Map<String, String> conditionals, boolean suppressOutput, boolean nested) {
+			this.parseMode = parseMode;
+			this.text = text;
+			this.target = target;
+			this.command = command;
+			this.arguments = arguments;
+			this.conditionals = conditionals==null?null:Collections.unmodifiableMap(conditionals);
+			this.suppressOutput = suppressOutput;
+			this.nested = nested;
+		}
+
+		private static Node literal(String text) {
+			return new Node(ParseMode.UNKNOWN, text, null, null, null, null, false, false);
+		}
+
+		public ParseMode getParseMode() {
+			return parseMode;
+		}
+
+		/**
+		 * @return The literal text of an UNKNOWN node.
+		 */
+		public String getText() {
+			return text;
+		}
+
+		public String getTarget() {
+			return target;
+		}
+
+		/**
+		 * @return The command of a REGULAR node, or the script of a REGULAR_SCRIPT node.
+		 */
+		public String getCommand() {
+			return command;
+		}
+
+		public String getArguments() {
+			return arguments;
+		}
+
+		/**
+		 * @return The conditional statements of a CONDITIONAL node, mapped to their content, in the order in which they are to be tested.
+		 */
+		public Map<String, String> getConditionals() {
+			return conditionals;
+		}
+
+		public boolean isSuppressOutput() {
+			return suppressOutput;
+		}
+
+		/**
+		 * @return true if this node contained further parser syntax, meaning that its result needs to be parsed again.
+		 */
+		public boolean isNested() {
+			return nested;
+		}
+
+		public boolean isSpeech() {
+			return parseMode==ParseMode.REGULAR && command!=null && (command.equals("speech") || command.equals("speechNoEffects"));
+		}
+	}
+
+	private ParsedTemplate(String input, List<String> variableCalls, List<Node> nodes, String parsingError) {
+		this.input = input;
+		this.variableCalls = Collections.unmodifiableList(variableCalls);
+		this.nodes = Collections.unmodifiableList(nodes);
+		this.parsingError = parsingError;
+	}
+
+	/**
+	 * An LRU cache of templates, which is limited by the total length of their inputs rather than by their number.
+	 */
+	private static class TemplateCache {
+		private final LinkedHashMap<String, ParsedTemplate> templates = new LinkedHashMap<>(256, 0.75f, true);
+		private long cachedLength = 0;
+
+		private synchronized ParsedTemplate get(String input) {
+			return templates.get(input);
+		}
+
+		private synchronized void put(String input, ParsedTemplate template) {
+			if(input.length()>MAX_CACHED_INPUT_LENGTH) {
+				return;
+			}
+			if(templates.put(input, template)==null) {
+				cachedLength += input.length();
+			}
+			Iterator<String> eldest = templates.keySet().iterator();
+			while(cachedLength>MAX_CACHED_LENGTH) {
+				cachedLength -= eldest.next().length();
+				eldest.remove();
+			}
+		}
+
+		private synchronized void clear() {
+			templates.clear();
+			cachedLength = 0;
+		}
+
+		private synchronized int size() {
+			return templates.size();
+		}
+
+		private synchronized long getCachedLength() {
+			return cachedLength;
+		}
+	}
+
+	/**
+	 * @param input The raw String to be parsed.
+	 * @param initialCall true if #VAR blocks are to be extracted from the input. (i.e. If this is the top-level call to the parser.)
+	 * @return The cached template for this input, compiling it first if necessary. If the input could not be tokenised, the returned template is malformed (and is cached like any other), and getParsingError() describes why.
+	 */
+	public static ParsedTemplate getTemplate(String input, boolean initialCall) {
+		TemplateCache cache = initialCall?initialTemplates:nestedTemplates;
+		ParsedTemplate template = cache.get(input);
+		if(template==null) {
+			template = compile(input, initialCall);
+			cache.put(input, template);
+		}
+		return template;
+	}
+
+	public static void clearCache() {
+		initialTemplates.clear();
+		nestedTemplates.clear();
+	}
+
+	public static int getCacheSize() {
+		return initialTemplates.size() + nestedTemplates.size();
+	}
+
+	/**
+	 * @return The total length of the inputs whose templates are cached.
+	 */
+	public static long getCachedLength() {
+		return initialTemplates.getCachedLength() + nestedTemplates.getCachedLength();
+	}
+
+	/**
+	 * @return The input which this template was compiled from, with #VAR blocks removed.
+	 */
+	public String getInput() {
+		return input;
+	}
+
+	/**
+	 * @return The contents of each #VAR block, which are to be evaluated before every conditional.
+	 */
+	public List<String> getVariableCalls() {
+		return variableCalls;
+	}
+
+	public List<Node> getNodes() {
+		return nodes;
+	}
+
+	/**
+	 * @return true if the input contained an unterminated parser segment, in which case the unparsed input should be returned.
+	 */
+	public boolean isMalformed() {
+		return parsingError!=null;
+	}
+
+	public String getParsingError() {
+		return parsingError;
+	}
+
+	/**
+	 * Tokenises the input in the same manner as the original single-pass parser, but instead of evaluating each segment as it is found, stores it as a Node.
+	 */
+	private static ParsedTemplate compile(String input, boolean initialCall) {
+		List<String> variableCalls = new ArrayList<>();
+
+		if(initialCall && input.contains("#VAR")) {
+			Matcher matcherVAR = VAR_PATTERN.matcher(input);
+			while(matcherVAR.find()) {
+				variableCalls.add(matcherVAR.group(1));
+			}
+			input = matcherVAR.replaceAll("");
+		}
+
+		List<Node> nodes = new ArrayList<>();
+
+		StringBuilder sb = new StringBuilder();
+		int openBrackets = 0;
+		int closeBrackets = 0;
+		int openArg = 0;
+		int closeArg = 0;
+		int startIndex = 0;
+		int endIndex = 0;
+
+		String target = null;
+		String command = null;
+		String arguments = null;
+		String conditionalStatement = null;
+		boolean usingConditionalBrackets = false;
+		boolean lastConditionalUsedBrackets = false;
+		boolean suppressOutput = false;
+		int conditionalOpenBrackets = 0;
+		int conditionalCloseBrackets = 0;
+
+		Map<String, String> conditionals = null;
+
+		boolean conditionalElseFound = false;
+		ParseMode currentParseMode = ParseMode.UNKNOWN;
+
+		int startedParsingSegmentAt = 0;
+
+		for (int i = 0; i < input.length(); i++) {
+			char c = input.charAt(i);
+
+			if(usingConditionalBrackets) {
+				if(c=='(') {
+					conditionalOpenBrackets++;
+
+				} else if(c==')') {
+					conditionalCloseBrackets++;
+				}
+			}
+
+			if (currentParseMode != ParseMode.REGULAR && currentParseMode != ParseMode.REGULAR_SCRIPT) {
+				suppressOutput = false;
+				if (c == 'F' && substringMatchesInReverseAtIndex(input, "#IF", i)) {
+					if (openBrackets == 0) {
+						conditionals = new LinkedHashMap<>();
+						currentParseMode = ParseMode.CONDITIONAL;
+						startIndex = i-2;
+
+						for(int j=i+1;j<input.length();j++) {
+							if(!Character.isWhitespace(input.charAt(j))) {
+								usingConditionalBrackets = input.charAt(j)=='(';
+								lastConditionalUsedBrackets = usingConditionalBrackets;
+								break;
+							}
+						}
+					} else {
+						lastConditionalUsedBrackets = false;
+					}
+
+					openBrackets++;
+
+				} else if (currentParseMode == ParseMode.CONDITIONAL) {
+					if(usingConditionalBrackets) {
+						if(conditionalOpenBrackets>0 && conditionalOpenBrackets==conditionalCloseBrackets && openBrackets-1==closeBrackets) {
+							conditionalStatement = sb.toString().substring(1, sb.length())+")";
+							conditionalStatement = conditionalStatement.replaceAll("\n", "").replaceAll("\t", "");
+							conditionalStatement = conditionalStatement.trim();
+
+							usingConditionalBrackets = false;
+							conditionalOpenBrackets = 0;
+							conditionalCloseBrackets = 0;
+
+							sb.setLength(0);
+
+						} else if(c == 'F' && substringMatchesInReverseAtIndex(input, "#ELSEIF", i) && openBrackets-1==closeBrackets && conditionalStatement!=null) {
+							conditionals.put(conditionalStatement, sb.toString().substring(1, sb.length()-6)); // Cut off the '#ELSEIF' at the end of this section.
+
+							for(int j=i+1;j<input.length();j++) {
+								if(!Character.isWhitespace(input.charAt(j))) {
+									usingConditionalBrackets = input.charAt(j)=='(';
+									break;
+								}
+							}
+
+							sb.setLength(0);
+
+						} else if(c == 'E' && substringMatchesInReverseAtIndex(input, "#ELSE", i) && (i+1==input.length()||input.charAt(i+1)!='I') && openBrackets-1==closeBrackets && conditionalStatement!=null) {
+							conditionalElseFound = true;
+							conditionals.put(conditionalStatement, sb.toString().substring(1, sb.length()-4)); // Cut off the '#ELSE' at the end of this section.
+							sb.setLength(0);
+
+						} else if(c == 'F' && substringMatchesInReverseAtIndex(input, "#ENDIF", i)) {
+							closeBrackets++;
+
+							if (openBrackets == closeBrackets) {
+								if (conditionalElseFound) {
+									conditionals.put("true", sb.toString().substring(1, sb.length()-5)); // Cut off the '#ENDIF' at the end.
+								} else {
+									conditionals.put(conditionalStatement, sb.toString().substring(1, sb.length()-5)); // Cut off the '#ENDIF' at the end of this section.
+								}
+
+								endIndex = i;
+							}
+						}
+
+					} else {
+						if(c == 'N' && substringMatchesInReverseAtIndex(input, "#THEN", i)) {
+							// If last conditional was brackets, remove the THEN
+							if(lastConditionalUsedBrackets) {
+								sb.replace(sb.length()-4, sb.length(), ""); // Reset StringBuilder to exclude #THEN
+								i++;
+								c = input.charAt(i);
+
+							} else if (openBrackets-1==closeBrackets) {
+								conditionalStatement = sb.toString().substring(1, sb.length()-4); // Cut off the '#THEN' at the end of the conditional statement.
+								conditionalStatement = conditionalStatement.replaceAll("\n", "").replaceAll("\t", "");
+								conditionalStatement = conditionalStatement.trim();
+								sb.setLength(0);
+							}
+
+						} else if(c == 'F' && substringMatchesInReverseAtIndex(input, "#ELSEIF", i) && openBrackets-1==closeBrackets) {
+							conditionals.put(conditionalStatement, sb.toString().substring(1, sb.length()-6)); // Cut off the '#ELSEIF' at the end of this section.
+
+							for(int j=i+1;j<input.length();j++) {
+								if(!Character.isWhitespace(input.charAt(j))) {
+									usingConditionalBrackets = input.charAt(j)=='(';
+									break;
+								}
+							}
+
+							sb.setLength(0);
+
+						} else if(c == 'E' && substringMatchesInReverseAtIndex(input, "#ELSE", i) && (i+1==input.length()||input.charAt(i+1)!='I') && openBrackets-1==closeBrackets) {
+							conditionalElseFound = true;
+							conditionals.put(conditionalStatement, sb.toString().substring(1, sb.length()-4)); // Cut off the '#ELSE' at the end of this section.
+							sb.setLength(0);
+
+						} else if(c == 'F' && substringMatchesInReverseAtIndex(input, "#ENDIF", i)) {
+							closeBrackets++;
+
+							if (openBrackets == closeBrackets) {
+								if (conditionalElseFound) {
+									// The last conditional's content has already been set in the #ELSE catch
+									conditionals.put("true", sb.toString().substring(1, sb.length()-5)); // Cut off the '#ENDIF' at the end.
+								} else {
+									conditionals.put(conditionalStatement, sb.toString().substring(1, sb.length()-5)); // Cut off the '#ENDIF' at the end of this section.
+								}
+
+								endIndex = i;
+							}
+						}
+					}
+				}
+			}
+
+			if (currentParseMode != ParseMode.CONDITIONAL) {
+				suppressOutput = false;
+				if (c == '[') {
+					if(openBrackets==0) {
+						if(input.charAt(i+1) == '#') {
+							currentParseMode = ParseMode.REGULAR_SCRIPT;
+						} else {
+							currentParseMode = ParseMode.REGULAR;
+						}
+						startIndex = i;
+					}
+
+					openBrackets++;
+
+				} else if (currentParseMode == ParseMode.REGULAR) {
+					if (c =='.' && target == null) {
+						target = sb.toString().substring(1); // Cut off the '[' at the start.
+						sb.setLength(0);
+
+					} else if (c == '(') {
+						if(command == null) {
+							command = sb.toString().substring(1); // Cut off the '.' at the start.
+							sb.setLength(0);
+						}
+
+						openArg++;
+
+					} else if (c == ')') {
+						closeArg++;
+
+						if (openArg == closeArg){
+							arguments = sb.toString().substring(1);
+						}
+
+					} else if (c == ']') {
+						closeBrackets++;
+
+						if (openBrackets == closeBrackets) {
+							if (command == null) {
+								command = sb.toString().substring(1); // Cut off the '.' at the start.
+								sb.setLength(0);
+							}
+
+							endIndex = i;
+						}
+					}
+
+				} else if (currentParseMode == ParseMode.REGULAR_SCRIPT) {
+					if (c == ']') {
+						closeBrackets++;
+
+						if (openBrackets == closeBrackets) {
+							if(command == null) {
+								if(sb.charAt(2)=='#') {
+									suppressOutput = true;
+									command = sb.toString().substring(3); // Cut off the '[##' at the start.
+								} else {
+									suppressOutput = false;
+									command = sb.toString().substring(2); // Cut off the '[#' at the start.
+								}
+								sb.setLength(0);
+							}
+
+							endIndex = i;
+						}
+					}
+				}
+			}
+
+			if (openBrackets>0 && ((target!=null && command!=null) || (!Character.isWhitespace(c) || c==' '))) {
+				sb.append(c);
+			}
+
+			if (endIndex != 0) {
+				if(startIndex>startedParsingSegmentAt) {
+					nodes.add(Node.literal(input.substring(startedParsingSegmentAt, startIndex)));
+				}
+				if(currentParseMode == ParseMode.CONDITIONAL) {
+					nodes.add(new Node(currentParseMode, null, null, null, null, conditionals, false, openBrackets > 1));
+				} else {
+					nodes.add(new Node(currentParseMode, null, target, command, arguments, null, suppressOutput, openBrackets > 1));
+				}
+				startedParsingSegmentAt = endIndex + 1;
+
+				sb = new StringBuilder();
+
+				openBrackets = 0;
+				closeBrackets = 0;
+				openArg = 0;
+				closeArg = 0;
+				startIndex = 0;
+				endIndex = 0;
+
+				target = null;
+				command = null;
+				arguments = null;
+				conditionalStatement = null;
+				conditionals = null;
+				conditionalOpenBrackets = 0;
+				conditionalCloseBrackets = 0;
+
+				conditionalElseFound = false;
+				currentParseMode = ParseMode.UNKNOWN;
+			}
+		}
+
+		String parsingError = null;
+		if (startIndex != 0) {
+			parsingError = "Error in parsing: StartIndex:"+startIndex+" ("+target+", "+command+") - "+input.substring(startIndex, Math.min(input.length()-1, startIndex+20));
+
+		} else if (startedParsingSegmentAt < input.length()) {
+			nodes.add(Node.literal(input.substring(startedParsingSegmentAt, input.length())));
+		}
+
+		return new ParsedTemplate(input, variableCalls, nodes, parsingError);
+	}
+
+	private static boolean substringMatchesInReverseAtIndex(String input, String stringToMatch, int index) {
+		index++;
+		int startingLocation = index - stringToMatch.length();
+		if (startingLocation < 0 || index > input.length()) {
+			return false;
+		}
+		return input.startsWith(stringToMatch, startingLocation);
+	}
+}
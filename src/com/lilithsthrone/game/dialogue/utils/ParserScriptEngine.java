@@ -0,0 +1,183 @@
+package com.lilithsthrone.game.dialogue.utils;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
+import javax.script.ScriptContext;
+import javax.script.ScriptEngine;
+import javax.script.ScriptException;
+import javax.script.SimpleBindings;
+
+import jdk.nashorn.api.scripting.NashornScriptEngineFactory;
+
+/**
+ * The script engine which UtilText evaluates parser conditionals and script blocks in, along with its cache of compiled scripts.
+ *  It doesn't depend on anything else from the game (UtilText supplies the bindings), so it can be tested on its own (see ParserScriptEngineTest).<br/>
+ * <br/>
+ * Bindings are kept in two layers. Values which never change during a session (such as enum constants) are put into a shared GLOBAL_SCOPE layer, which is only populated once,
+ *  while values which change between games and scenes (along with anything which scripts define) live in the engine's own ENGINE_SCOPE layer, which is replaced whenever markSceneBindingsStale() has been called.
+ *
+ * @since 0.3.5.8
+ * @version 0.3.5.8
+ * @author Innoxia
+ */
+class ParserScriptEngine {
+
+	private final int cacheSize;
+	private final Consumer<Bindings> globalBindingsInitialiser;
+	private final Consumer<ParserScriptEngine> sceneBindingsInitialiser;
+
+	private ScriptEngine engine;
+	private Bindings globalBindings;
+	private boolean sceneBindingsStale = false;
+
+	private final Map<String, CompiledScript> compiledScripts;
+	// Text isn't guaranteed to only ever be parsed on one thread, so the statistics are kept in LongAdders (which can be safely incremented from any thread):
+	private final LongAdder compiledScriptHits = new LongAdder();
+	private final LongAdder compiledScriptMisses = new LongAdder();
+	private final LongAdder scriptEvaluationNanoTime = new LongAdder();
+	/** How many evaluate() calls are in progress on each thread, as a script can parse text which contains scripts of its own. Only the outermost call is timed, so that no time is counted twice. */
+	private final ThreadLocal<int[]> scriptEvaluationDepth = ThreadLocal.withInitial(() -> new int[1]);
+
+	/**
+	 * @param cacheSize The maximum number of compiled scripts to keep.
+	 * @param globalBindingsInitialiser Puts the values which never change during a session into the GLOBAL_SCOPE Bindings. Only called once.
+	 * @param sceneBindingsInitialiser Puts the per-scene values into the engine, with put(). Called whenever the ENGINE_SCOPE Bindings have been replaced.
+	 */
+	ParserScriptEngine(int cacheSize, Consumer<Bindings> globalBindingsInitialiser, Consumer<ParserScriptEngine> sceneBindingsInitialiser) {
+		this.cacheSize = cacheSize;
+		this.globalBindingsInitialiser = globalBindingsInitialiser;
+		this.sceneBindingsInitialiser = sceneBindingsInitialiser;
+		this.compiledScripts = Collections.synchronizedMap(new LinkedHashMap<String, CompiledScript>(256, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CompiledScript> eldest) {
+				return size() > ParserScriptEngine.this.cacheSize;
+			}
+		});
+	}
+
+	/**
+	 * Creates the script engine, along with fresh per-scene bindings. The global bindings are kept if they have already been populated.
+	 */
+	void create() {
+		NashornScriptEngineFactory factory = new NashornScriptEngineFactory();
+		// http://hg.openjdk.java.net/jdk8/jdk8/nashorn/rev/eb7b8340ce3a
+		engine = factory.getScriptEngine("-strict", "--no-java", "--no-syntax-extensions", "-scripting");
+		compiledScripts.clear(); // Compiled scripts are bound to the engine that compiled them
+
+		if(globalBindings==null) {
+			globalBindings = new SimpleBindings();
+			globalBindingsInitialiser.accept(globalBindings);
+		}
+		engine.setBindings(globalBindings, ScriptContext.GLOBAL_SCOPE);
+
+		initSceneBindings();
+	}
+
+	boolean isCreated() {
+		return engine!=null;
+	}
+
+	/**
+	 * Creates the script engine if it has not yet been created, and refreshes its per-scene bindings if they have been marked as stale.
+	 */
+	void createIfRequired() {
+		if(engine==null) {
+			create();
+
+		} else if(sceneBindingsStale) {
+			// The ENGINE_SCOPE Bindings are replaced rather than cleared, as variables which scripts have declared can't be deleted from them in strict mode:
+			engine.setBindings(engine.createBindings(), ScriptContext.ENGINE_SCOPE);
+			initSceneBindings();
+		}
+	}
+
+	private void initSceneBindings() {
+		sceneBindingsInitialiser.accept(this);
+		sceneBindingsStale = false;
+	}
+
+	/**
+	 * Marks the per-scene bindings as needing to be replaced before the next script is evaluated.
+	 *  When they are, everything in the engine's ENGINE_SCOPE (including anything which scripts have defined) is discarded, just as if a new engine had been created.
+	 *  The engine itself, along with its global bindings and its compiled scripts, is kept.
+	 */
+	void markSceneBindingsStale() {
+		sceneBindingsStale = true;
+	}
+
+	/**
+	 * Puts a value into the per-scene (ENGINE_SCOPE) bindings.
+	 */
+	void put(String name, Object value) {
+		engine.put(name, value);
+	}
+
+	/**
+	 * Removes a value from the per-scene (ENGINE_SCOPE) bindings.
+	 */
+	void remove(String name) {
+		engine.getBindings(ScriptContext.ENGINE_SCOPE).remove(name);
+	}
+
+	/**
+	 * Evaluates the supplied script, creating the engine first if required. The compiled form of each script is cached (keyed by the script's source), so that identical scripts and conditionals are only parsed and linked by Nashorn once.
+	 */
+	Object evaluate(String script) throws ScriptException {
+		createIfRequired();
+		int[] depth = scriptEvaluationDepth.get();
+		boolean outermost = depth[0]==0;
+		long startTime = outermost ? System.nanoTime() : 0;
+		depth[0]++;
+		try {
+			CompiledScript compiledScript = compiledScripts.get(script);
+			if(compiledScript==null) {
+				compiledScriptMisses.increment();
+				compiledScript = ((Compilable) engine).compile(script);
+				compiledScripts.put(script, compiledScript);
+			} else {
+				compiledScriptHits.increment();
+			}
+			return compiledScript.eval();
+
+		} finally {
+			depth[0]--;
+			if(outermost) {
+				scriptEvaluationNanoTime.add(System.nanoTime()-startTime);
+			}
+		}
+	}
+
+	long getCompiledScriptHits() {
+		return compiledScriptHits.sum();
+	}
+
+	long getCompiledScriptMisses() {
+		return compiledScriptMisses.sum();
+	}
+
+	int getCompiledScriptCacheSize() {
+		return compiledScripts.size();
+	}
+
+	/**
+	 * @return The total time, in nanoseconds, spent compiling and evaluating scripts since the statistics were last reset.
+	 */
+	long getScriptEvaluationNanoTime() {
+		return scriptEvaluationNanoTime.sum();
+	}
+
+	void resetStatistics() {
+		compiledScriptHits.reset();
+		compiledScriptMisses.reset();
+		scriptEvaluationNanoTime.reset();
+	}
+}
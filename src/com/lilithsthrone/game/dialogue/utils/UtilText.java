@@ -8,16 +8,14 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.EnumMap;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Random;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
-import javax.script.ScriptEngine;
+import javax.script.Bindings;
 import javax.script.ScriptException;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -101,8 +99,6 @@ import com.lilithsthrone.world.Season;
 import com.lilithsthrone.world.Weather;
 import com.lilithsthrone.world.places.PlaceUpgrade;
 
-import jdk.nashorn.api.scripting.NashornScriptEngineFactory;
-
 /**
  * @since 0.1.0
  * @version 0.3.1
@@ -123,7 +119,9 @@ public class UtilText {
 	private static boolean parseCapitalise;
 	private static boolean parseAddPronoun;
 	
-	private static ScriptEngine engine;
+	/** The maximum number of compiled scripts to keep in the script engine's cache. */
+	public static final int COMPILED_SCRIPT_CACHE_SIZE = 2048;
+	private static final ParserScriptEngine scriptEngine = new ParserScriptEngine(COMPILED_SCRIPT_CACHE_SIZE, UtilText::initGlobalBindings, UtilText::initSceneBindings);
 	
 	private static List<String> specialParsingStrings = new ArrayList<>();
 
@@ -544,37 +542,13 @@ public class UtilText {
 	 * Parses the tagged htmlContent from an xml file. If there is more than one htmlContent entry, it returns a random one.
 	 */
 	public static String parseFromXMLFile(List<ParserTag> parserTags, String pathName, String tag, List<GameCharacter> specialNPC) {
-		File file = new File("res/txt/"+pathName+".xml");
-
-		List<String> strings = new ArrayList<>();
-		
-		if (file.exists()) {
-			try {
-				DocumentBuilderFactory dbFactory = DocumentBuilderFactory.newInstance();
-				DocumentBuilder dBuilder = dbFactory.newDocumentBuilder();
-				Document doc = dBuilder.parse(file);
-				
-				// Cast magic:
-				doc.getDocumentElement().normalize();
-				
-				for(int i=0; i<((Element) doc.getElementsByTagName("dialogue").item(0)).getElementsByTagName("htmlContent").getLength(); i++){
-					Element e = (Element) ((Element) doc.getElementsByTagName("dialogue").item(0)).getElementsByTagName("htmlContent").item(i);
-					
-					if(e.getAttribute("tag").equals(tag)) {
-						strings.add(e.getTextContent().replaceFirst("<!\\[CDATA\\[", "").replaceAll("\\]\\]>", ""));
-					}
-				}
-				
-			} catch (Exception e) {
-				e.printStackTrace();
-			}
-		}
+		String dialogue = DialogueRepository.getRandomDialogue(pathName, tag);
 		
-		if(strings.isEmpty()) {
+		if(dialogue==null) {
 			return "<p><span style='color:"+Colour.GENERIC_BAD.toWebHexString()+";'>Dialogue for '"+tag+"' not found! (Make sure that the 'res' folder is in the same directory as the .jar or .exe.)</span></p>";
 
 		} else {
-			return parse(new ArrayList<>(specialNPC), strings.get(Util.random.nextInt(strings.size())), true, parserTags);
+			return parse(new ArrayList<>(specialNPC), dialogue, true, parserTags);
 		}
 	}
 	
@@ -654,334 +628,62 @@ public class UtilText {
 	}
 	
 	/**
-	 * Parses supplied text.
+	 * Parses supplied text.<br/>
+	 * The input is compiled into a ParsedTemplate (which is cached), and the template's nodes are then evaluated against the supplied special NPCs.
 	 */
 	public static String parse(List<GameCharacter> specialNPC, String input, boolean initialCall, List<ParserTag> tags) {
-
-//		System.out.println("---");
-//		try {
-//			for(GameCharacter c : specialNPC) {
-//				if(c==null) {
-//					System.out.println("null");
-//				} else {
-//					System.out.println(c.getName());
-//				}
-//			}
-//		} catch(Exception ex) {
-//		}
-		
 		parserTags = (tags);
 		
 		if(Main.game!=null && Main.game.getCurrentDialogueNode()==DebugDialogue.PARSER) {
 			input = input.replaceAll("\u200b", "");
 		}
-		input = input.replaceAll("", "");
+		
+		ParsedTemplate template;
+		try {
+			template = ParsedTemplate.getTemplate(input, initialCall);
+		} catch(Exception ex) {
+			System.err.println("Failed to parse: "+input);
+			ex.printStackTrace();
+			return "";
+		}
 		
 		if(initialCall) { // Set variables to be parsed on each conditional:
-//			specialNPCList = new ArrayList<>(specialNPC);
-//			if(specialNPC!=null)
-//				System.out.println("s set: "+specialNPC.size()+" | "+specialNPCList.size());
 			speechTarget = "";
-			parserVariableCalls = new ArrayList<>();
-			Matcher matcherVAR = Pattern.compile("(?s)#VAR(.*?)#ENDVAR").matcher(input);
-			while(matcherVAR.find()) {
-				parserVariableCalls.add(matcherVAR.group().replaceAll("#VAR", "").replaceAll("#ENDVAR", ""));
-			}
-			input = input.replaceAll("(?s)#VAR(.*?)#ENDVAR", "");
-			//  This was removed as it was causing issues with the UI rendering:
-//			input = input.replaceAll("(?<!:)//(.*?)\n", "\n"); // Replace comments (but not URLs, like http://)
+			parserVariableCalls = new ArrayList<>(template.getVariableCalls());
 		}
 		
 		try {
 			StringBuilder resultBuilder = new StringBuilder();
-			StringBuilder sb = new StringBuilder();
-			int openBrackets = 0;
-			int closeBrackets = 0;
-			int openArg = 0;
-			int closeArg = 0;
-//			int conditionalThens = 0;
-			int startIndex = 0;
-			int endIndex = 0;
-			
-			String target = null;
-			String command = null;
-			String arguments = null;
-			String conditionalStatement = null;
-//			String conditionalTrue = null;
-//			String conditionalFalse = null;
-			boolean usingConditionalBrackets = false;
-			boolean lastConditionalUsedBrackets = false;
-			int conditionalOpenBrackets = 0;
-			int conditionalCloseBrackets = 0;
-			
-			Map<String, String> conditionals = null;
 			
-			boolean conditionalElseFound = false;
-			ParseMode currentParseMode = ParseMode.UNKNOWN;
-			
-			int startedParsingSegmentAt = 0;
-			
-			for (int i = 0; i < input.length(); i++) {
-				char c = input.charAt(i);
-				
-				if(usingConditionalBrackets) {
-					if(input.charAt(i)=='(') {
-						conditionalOpenBrackets++;
-						
-					} else if(input.charAt(i)==')') {
-						conditionalCloseBrackets++;
-					}
-//					System.out.println("o: " +conditionalOpenBrackets);
-//					System.out.println("c: " +conditionalCloseBrackets);
+			for(ParsedTemplate.Node node : template.getNodes()) {
+				if(node.getParseMode()==ParseMode.UNKNOWN) {
+					resultBuilder.append(node.getText());
+					continue;
 				}
 				
-				if (currentParseMode != ParseMode.REGULAR && currentParseMode != ParseMode.REGULAR_SCRIPT) {
+				String subResult;
+				if(node.getParseMode() == ParseMode.CONDITIONAL) {
 					suppressOutput = false;
-					if (c == 'F' && substringMatchesInReverseAtIndex(input, "#IF", i)) {
-						if (openBrackets == 0) {
-							conditionals = new LinkedHashMap<>(); //TODO
-							currentParseMode = ParseMode.CONDITIONAL;
-							startIndex = i-2;
-							
-							for(int j=i+1;j<input.length();j++) {
-								if(!Character.isWhitespace(input.charAt(j))) {
-									usingConditionalBrackets = input.charAt(j)=='(';
-									lastConditionalUsedBrackets = usingConditionalBrackets;
-//									System.out.println("usingConditionalBrackets: "+usingConditionalBrackets);
-									break;
-								}
-							}
-						} else {
-							lastConditionalUsedBrackets = false;
-						}
-						
-						openBrackets++;
-						
-					} else if (currentParseMode == ParseMode.CONDITIONAL) {
-						if(usingConditionalBrackets) {
-							//TODO
-							if(conditionalOpenBrackets>0 && conditionalOpenBrackets==conditionalCloseBrackets && openBrackets-1==closeBrackets) {
-								conditionalStatement = sb.toString().substring(1, sb.length())+")";
-								conditionalStatement = conditionalStatement.replaceAll("\n", "").replaceAll("\t", "");
-								conditionalStatement = conditionalStatement.trim();
-								
-//								System.out.println("statement: " +conditionalStatement);
-								
-								usingConditionalBrackets = false;
-								conditionalOpenBrackets = 0;
-								conditionalCloseBrackets = 0;
-								
-								sb.setLength(0);
-								
-							} else if(c == 'F' && substringMatchesInReverseAtIndex(input, "#ELSEIF", i) && openBrackets-1==closeBrackets && conditionalStatement!=null) {
-								conditionals.put(conditionalStatement, sb.toString().substring(1, sb.length()-6)); // Cut off the '#ELSEIF' at the end of this section.
-								
-								for(int j=i+1;j<input.length();j++) {
-									if(!Character.isWhitespace(input.charAt(j))) {
-										usingConditionalBrackets = input.charAt(j)=='(';
-										break;
-									}
-								}
-								
-								sb.setLength(0);
-								
-							} else if(c == 'E' && substringMatchesInReverseAtIndex(input, "#ELSE", i) && (i+1==input.length()||input.charAt(i+1)!='I') && openBrackets-1==closeBrackets && conditionalStatement!=null) {
-								conditionalElseFound = true;
-								conditionals.put(conditionalStatement, sb.toString().substring(1, sb.length()-4)); // Cut off the '#ELSE' at the end of this section.
-								sb.setLength(0);
-								
-							} else if(c == 'F' && substringMatchesInReverseAtIndex(input, "#ENDIF", i)) {
-								closeBrackets++;
-								
-								if (openBrackets == closeBrackets) {
-									if (conditionalElseFound) {
-										conditionals.put("true", sb.toString().substring(1, sb.length()-5)); // Cut off the '#ENDIF' at the end.
-									} else {
-										conditionals.put(conditionalStatement, sb.toString().substring(1, sb.length()-5)); // Cut off the '#ENDIF' at the end of this section.
-									}
-				
-									endIndex = i;
-								}
-							}
-							
-						} else {
-							if(c == 'N' && substringMatchesInReverseAtIndex(input, "#THEN", i)) {
-								// If last conditional was brackets, remove the THEN
-								if(lastConditionalUsedBrackets) {
-									sb.replace(sb.length()-4, sb.length(), ""); // Reset StringBuilder to exclude #THEN
-									i++;
-									c = input.charAt(i);
-									
-								} else if (openBrackets-1==closeBrackets) {
-									conditionalStatement = sb.toString().substring(1, sb.length()-4); // Cut off the '#THEN' at the end of the conditional statement.
-									conditionalStatement = conditionalStatement.replaceAll("\n", "").replaceAll("\t", "");
-									conditionalStatement = conditionalStatement.trim();
-									sb.setLength(0);
-								}
-								
-							} else if(c == 'F' && substringMatchesInReverseAtIndex(input, "#ELSEIF", i) && openBrackets-1==closeBrackets) { //TODO
-								conditionals.put(conditionalStatement, sb.toString().substring(1, sb.length()-6)); // Cut off the '#ELSEIF' at the end of this section.
-
-								for(int j=i+1;j<input.length();j++) {
-									if(!Character.isWhitespace(input.charAt(j))) {
-										usingConditionalBrackets = input.charAt(j)=='(';
-										break;
-									}
-								}
-								
-								sb.setLength(0);
-								
-							} else if(c == 'E' && substringMatchesInReverseAtIndex(input, "#ELSE", i) && (i+1==input.length()||input.charAt(i+1)!='I') && openBrackets-1==closeBrackets) {
-								conditionalElseFound = true;
-	//							conditionalTrue = sb.toString().substring(1, sb.length()-4); // Cut off the '#ELSE' at the end of this section.
-								conditionals.put(conditionalStatement, sb.toString().substring(1, sb.length()-4)); // Cut off the '#ELSE' at the end of this section.
-								sb.setLength(0);
-								
-							} else if(c == 'F' && substringMatchesInReverseAtIndex(input, "#ENDIF", i)) {
-								closeBrackets++;
-								
-								if (openBrackets == closeBrackets) {
-									
-									if (conditionalElseFound) {
-										// conditionalTrue has already been set in the #ELSE catch
-	//									conditionalFalse = sb.toString().substring(1, sb.length()-5); // Cut off the '#ENDIF' at the end.
-										conditionals.put("true", sb.toString().substring(1, sb.length()-5)); // Cut off the '#ENDIF' at the end.
-									} else {
-	//									conditionalTrue = sb.toString().substring(1, sb.length()-5); // Cut off the '#ENDIF' at the end.
-	//									conditionalFalse = "";
-										conditionals.put(conditionalStatement, sb.toString().substring(1, sb.length()-5)); // Cut off the '#ENDIF' at the end of this section.
-									}
-				
-									endIndex = i;
-								}
-							}
-						}
-					}
-				}
-				
-				if (currentParseMode != ParseMode.CONDITIONAL) {
-					suppressOutput = false;
-					if (c == '[') {
-						if(openBrackets==0) {
-							if(input.charAt(i+1) == '#') {
-								currentParseMode = ParseMode.REGULAR_SCRIPT;
-							} else {
-								currentParseMode = ParseMode.REGULAR;
-							}
-							startIndex = i;
-						}
-						
-						openBrackets++;
-						
-					} else if (currentParseMode == ParseMode.REGULAR) {
-						if (c =='.' && target == null) {
-							target = sb.toString().substring(1); // Cut off the '[' at the start.
-							sb.setLength(0);
-						
-						} else if (c == '(') {
-							if(command == null) {
-								command = sb.toString().substring(1); // Cut off the '.' at the start.
-								if(command.equals("speech") || command.equals("speechNoEffects")) {
-									speechTarget = target;
-								}
-								sb.setLength(0);
-							}
-							
-							openArg++;
-							
-						} else if (c == ')') {
-							closeArg++;
-							
-							if (openArg == closeArg){
-								arguments = sb.toString().substring(1);
-							}
-							
-						} else if (c == ']') {
-							closeBrackets++;
-							
-							if (openBrackets == closeBrackets) {
-								if (command == null) {
-									command = sb.toString().substring(1); // Cut off the '.' at the start.
-									sb.setLength(0);
-								}
-			
-								endIndex = i;
-							}
-						}
-						
-					} else if (currentParseMode == ParseMode.REGULAR_SCRIPT) {
-						if (c == ']') {
-							closeBrackets++;
-							
-							if (openBrackets == closeBrackets) {
-								if(command == null) {
-									if(sb.charAt(2)=='#') {
-										suppressOutput = true;
-										command = sb.toString().substring(3); // Cut off the '[##' at the start.
-									} else {
-										suppressOutput = false;
-										command = sb.toString().substring(2); // Cut off the '[#' at the start.
-									}
-									sb.setLength(0);
-								}
-			
-								endIndex = i;
-							}
-						}
+					subResult = parseConditionalSyntaxNew(specialNPC, node.getConditionals());
+				} else {
+					if(node.isSpeech()) {
+						speechTarget = node.getTarget();
 					}
+					suppressOutput = node.isSuppressOutput();
+					subResult = parseSyntaxNew(specialNPC, node.getTarget(), node.getCommand(), node.getArguments(), node.getParseMode());
 				}
-				
-				if (openBrackets>0 && ((target!=null && command!=null) || (!Character.isWhitespace(c) || c==' '))) {
-					sb.append(c);
+				if (node.isNested()) {
+					subResult = parse(specialNPC, subResult, false, tags);
 				}
-				
-				if (endIndex != 0) {
-					resultBuilder.append(input.substring(startedParsingSegmentAt, startIndex));
-					String subResult;
-					if(currentParseMode == ParseMode.CONDITIONAL) {
-//						System.out.println(specialNPC.size());
-//						System.out.println(specialNPCList.size());
-						subResult = parseConditionalSyntaxNew(specialNPC, conditionals);
-					} else {
-						subResult = parseSyntaxNew(specialNPC, target, command, arguments, currentParseMode);
-					}
-					if (openBrackets > 1) {
-						subResult = parse(specialNPC, subResult, false, tags);
-					}
-					if(command!=null && (command.equals("speech") || command.equals("speechNoEffects"))) {
-						speechTarget = "";
-					}
-					resultBuilder.append(subResult);
-					startedParsingSegmentAt = endIndex + 1;
-					//This is the lamest version of recursion unrolling there is: just reset all your variables by hand.
-					sb = new StringBuilder();
-					
-					openBrackets = 0;
-					closeBrackets = 0;
-					openArg = 0;
-					closeArg = 0;
-					startIndex = 0;
-					endIndex = 0;
-					
-					target = null;
-					command = null;
-					arguments = null;
-					conditionalStatement = null;
-					conditionals = null;
-					conditionalOpenBrackets = 0;
-					conditionalCloseBrackets = 0;
-					
-					conditionalElseFound = false;
-					currentParseMode = ParseMode.UNKNOWN;
+				if(node.isSpeech()) {
+					speechTarget = "";
 				}
+				resultBuilder.append(subResult);
 			}
 			
-			if (startIndex != 0) {//TODO
-				System.err.println("Error in parsing: StartIndex:"+startIndex+" ("+target+", "+command+") - "+input.substring(startIndex, Math.min(input.length()-1, startIndex+20)));
-				return input;
-			}
-			if (startedParsingSegmentAt < input.length()) {
-				resultBuilder.append(input.substring(startedParsingSegmentAt, input.length()));
+			if (template.isMalformed()) {
+				System.err.println(template.getParsingError());
+				return template.getInput();
 			}
 			
 			return resultBuilder.toString();
@@ -992,19 +694,12 @@ public class UtilText {
 		}
 	}
 	
-	private static boolean substringMatchesInReverseAtIndex(String input, String stringToMatch, int index) {
-		index++;//this fixes my off by one error and I'm too tired to figure out why
-		int startingLocation = index - stringToMatch.length();
-		if (startingLocation < 0 || index > input.length()) {
-			return false;
-		}
-		return input.substring(startingLocation, index).equals(stringToMatch);
-	}
-	
-
-	
 	public static List<ParserCommand> commandsList = new ArrayList<>();
 	public static Map<BodyPartType, List<ParserCommand>> commandsMap = new EnumMap<>(BodyPartType.class);
+	/** Case-folded tag -> command index, built from commandsList. */
+	private static Map<String, ParserCommand> commandsByTag = new HashMap<>();
+	/** Case-folded tag -> target index. Built lazily, as ParserTarget may not be initialised when UtilText is. */
+	private static Map<String, ParserTarget> parserTargetsByTag = null;
 
 	private static String[] lastDescriptors = new String[2];
 	
@@ -6359,6 +6054,7 @@ public class UtilText {
 		}
 		for(ParserCommand cmd : commandsList) {
 			commandsMap.get(cmd.getRelatedBodyPart()).add(cmd);
+			indexCommandTags(cmd);
 		}
 	}
 
@@ -6366,19 +6062,17 @@ public class UtilText {
 		GameCharacter character;
 		
 		if(currentParseMode == ParseMode.REGULAR_SCRIPT) {
-			if(engine==null) {
-				initScriptEngine();
-			}
+			scriptEngine.createIfRequired();
 			if(!specialNPCs.isEmpty()) {
 				for(int i = 0; i<specialNPCs.size(); i++) {
 					if(i==0) {
-						engine.put("npc", specialNPCs.get(i));
+						scriptEngine.put("npc", specialNPCs.get(i));
 					}
-					engine.put("npc"+(i+1), specialNPCs.get(i));
+					scriptEngine.put("npc"+(i+1), specialNPCs.get(i));
 				}
 			} else {
 				try { // Getting the target NPC can throw a NullPointerException, so if it does (i.e., there's no NPC suitable for parsing), just catch it and carry on.
-					engine.put("npc", ParserTarget.NPC.getCharacter("npc", specialNPCs));
+					scriptEngine.put("npc", ParserTarget.NPC.getCharacter("npc", specialNPCs));
 				} catch(Exception ex) {
 //					System.err.println("Parsing error: Could not initialise npc");
 				}
@@ -6386,10 +6080,10 @@ public class UtilText {
 			
 			try {
 				if(suppressOutput) {
-					engine.eval(command);
+					scriptEngine.evaluate(command);
 					return "";
 				}
-				return String.valueOf(engine.eval(command));
+				return String.valueOf(scriptEngine.evaluate(command));
 				
 			} catch (ScriptException e) {
 				System.err.println("Scripting parsing error: "+command);
@@ -6399,19 +6093,17 @@ public class UtilText {
 			}
 			
 		} else if(Main.game.isStarted()) { //TODO test:
-			if(engine==null) {
-				initScriptEngine();
-			}
+			scriptEngine.createIfRequired();
 			if(!specialNPCs.isEmpty()) {
 				for(int i = 0; i<specialNPCs.size(); i++) {
 					if(i==0) {
-						engine.put("npc", specialNPCs.get(i));
+						scriptEngine.put("npc", specialNPCs.get(i));
 					}
-					engine.put("npc"+(i+1), specialNPCs.get(i));
+					scriptEngine.put("npc"+(i+1), specialNPCs.get(i));
 				}
 			} else {
 				try { // Getting the target NPC can throw a NullPointerException, so if it does (i.e., there's no NPC suitable for parsing), just catch it and carry on.
-					engine.put("npc", ParserTarget.NPC.getCharacter("npc", specialNPCs));
+					scriptEngine.put("npc", ParserTarget.NPC.getCharacter("npc", specialNPCs));
 				} catch(Exception ex) {
 //					System.err.println("Parsing error: Could not initialise npc 2");
 				}
@@ -6423,18 +6115,21 @@ public class UtilText {
 		parseCapitalise = false;
 		parseAddPronoun = false;
 		
-		if(command.split("_").length==2) {
-			if(Character.isUpperCase(command.split("_")[0].charAt(0)))
-				parseCapitalise = true;
-			command = command.split("_")[1];
-			parseAddPronoun = true;
-		} 
+		if(command.indexOf('_')!=-1) {
+			String[] commandSplit = command.split("_");
+			if(commandSplit.length==2) {
+				if(Character.isUpperCase(commandSplit[0].charAt(0)))
+					parseCapitalise = true;
+				command = commandSplit[1];
+				parseAddPronoun = true;
+			}
+		}
 			
 		if(Character.isUpperCase(command.charAt(0))) {
 			parseCapitalise = true;
 		}
 		
-		ParserTarget parserTarget = findParserTargetWithTag(target.replaceAll("\u200b", ""));
+		ParserTarget parserTarget = findParserTargetWithTag(removeZeroWidthSpaces(target));
 		if (parserTarget == null) {
 			return "INVALID_TARGET_NAME("+target+")";
 		}
@@ -6447,7 +6142,7 @@ public class UtilText {
 		}
 		
 		// Commands with arguments:
-		ParserCommand cmd = findCommandWithTag(command.replaceAll("\u200b", ""));
+		ParserCommand cmd = findCommandWithTag(removeZeroWidthSpaces(command));
 		if (cmd == null) {
 			return "<i style='color:"+Colour.GENERIC_BAD.toWebHexString()+";'>command_unknown</i>";
 		}
@@ -6469,31 +6164,86 @@ public class UtilText {
 		return output;
 	}
 
+	private static String removeZeroWidthSpaces(String input) {
+		if(input.indexOf('\u200b')==-1) {
+			return input;
+		}
+		return input.replace("\u200b", "");
+	}
+	
 	private static ParserTarget findParserTargetWithTag(String target) {
-		for(ParserTarget parserTarget : ParserTarget.values()) {
-			for(String s : parserTarget.getTags()) {
-				if(s.toLowerCase().equals(target.toLowerCase())) {
-					return parserTarget;
+		if(parserTargetsByTag==null) {
+			Map<String, ParserTarget> targetIndex = new HashMap<>();
+			for(ParserTarget parserTarget : ParserTarget.values()) {
+				for(String s : parserTarget.getTags()) {
+					targetIndex.putIfAbsent(s.toLowerCase(Locale.ROOT), parserTarget);
 				}
 			}
+			parserTargetsByTag = targetIndex;
 		}
-		return null;
+		return parserTargetsByTag.get(target.toLowerCase(Locale.ROOT));
 	}
 
 	private static ParserCommand findCommandWithTag(String command) {
-		for(ParserCommand cmd : commandsList) {
-			for(String s : cmd.getTags()) {
-				if(command.equalsIgnoreCase(s)) {
-					return cmd;
-				}
-			}
+		return commandsByTag.get(command.toLowerCase(Locale.ROOT));
+	}
+	
+	/**
+	 * Adds each of the command's tags to the case-folded tag index. As with the original linear search of commandsList, a tag which is already registered keeps resolving to the command which registered it first.
+	 */
+	private static void indexCommandTags(ParserCommand cmd) {
+		for(String s : cmd.getTags()) {
+			commandsByTag.putIfAbsent(s.toLowerCase(Locale.ROOT), cmd);
 		}
-		return null;
 	}
 	
+	/**
+	 * Registers an additional parser command, making it available to the parser under all of its tags. Intended for use by mods and other content which is loaded after the core commands.
+	 */
+	public static void addParserCommand(ParserCommand cmd) {
+		commandsList.add(cmd);
+		commandsMap.get(cmd.getRelatedBodyPart()).add(cmd);
+		indexCommandTags(cmd);
+	}
+	
+	/**
+	 * @return The parser command which is registered under this tag (case-insensitive), or null if there is none.
+	 */
+	public static ParserCommand getParserCommand(String tag) {
+		return findCommandWithTag(tag);
+	}
+	
+	public static long getCompiledScriptHits() {
+		return scriptEngine.getCompiledScriptHits();
+	}
+
+	public static long getCompiledScriptMisses() {
+		return scriptEngine.getCompiledScriptMisses();
+	}
+
+	public static int getCompiledScriptCacheSize() {
+		return scriptEngine.getCompiledScriptCacheSize();
+	}
+	
+	/**
+	 * @return The total time, in nanoseconds, spent compiling and evaluating scripts since the statistics were last reset.
+	 */
+	public static long getScriptEvaluationNanoTime() {
+		return scriptEngine.getScriptEvaluationNanoTime();
+	}
+	
+	public static void resetCompiledScriptStatistics() {
+		scriptEngine.resetStatistics();
+	}
+	
+	/**
+	 * Marks the per-scene script bindings (special NPCs, game, special parsing strings, etc.) as needing to be refreshed before the next script is evaluated.
+	 *  When they are, everything in the engine's ENGINE_SCOPE (including anything which scripts have defined) is discarded, just as if a new engine had been created.<br/>
+	 * The engine itself, along with its global bindings of enum constants and its compiled scripts, is kept.
+	 */
 	public static void resetParsingEngine() {
-		engine = null;
-		specialParsingStrings = new ArrayList<>();
+		clearSpecialParsingStrings();
+		scriptEngine.markSceneBindingsStale();
 	}
 	
 	/**
@@ -6505,23 +6255,42 @@ public class UtilText {
 			clearSpecialParsingStrings();
 		}
 		specialParsingStrings.add(string);
-		initScriptEngine();
+		if(scriptEngine.isCreated()) {
+			scriptEngine.put("SPECIAL_PARSE_"+(specialParsingStrings.size()-1), string);
+		}
 		return specialParsingStrings.size();
 	}
 	
 	public static void clearSpecialParsingStrings() {
+		if(scriptEngine.isCreated()) {
+			for(int i=0; i<specialParsingStrings.size(); i++) {
+				scriptEngine.remove("SPECIAL_PARSE_"+i);
+			}
+		}
 		specialParsingStrings = new ArrayList<>();
 	}
 	
+	/**
+	 * Creates the script engine, with fresh per-scene bindings. The global bindings of enum constants are only populated once, and are kept.
+	 */
 	public static void initScriptEngine() {
-		
-		NashornScriptEngineFactory factory = new NashornScriptEngineFactory();
-		// http://hg.openjdk.java.net/jdk8/jdk8/nashorn/rev/eb7b8340ce3a
-		engine = factory.getScriptEngine("-strict", "--no-java", "--no-syntax-extensions", "-scripting");
-		
-//		ScriptEngineManager manager = new ScriptEngineManager();
-//		engine = manager.getEngineByName("javascript");
-		
+		scriptEngine.create();
+	}
+	
+	/**
+	 * Binds RND, which scripts use for randomness, to the supplied Random. The engine keeps the Random which it was given, so this needs to be called whenever Util.random is replaced (such as for each NPC's update in Game.endTurn()).
+	 */
+	public static void setScriptRandom(Random random) {
+		if(scriptEngine.isCreated()) {
+			scriptEngine.put("RND", random);
+		}
+	}
+	
+	/**
+	 * Binds the values which change between games and scenes: parser target characters, game, sex, properties, RND, and special parsing strings.
+	 *  The ENGINE_SCOPE Bindings are always empty when this is called, so that nothing from a previous game or scene is left in them.
+	 */
+	private static void initSceneBindings(ParserScriptEngine engine) {
 		for(ParserTarget target : ParserTarget.values()) {
 			if(target!=ParserTarget.STYLE && target!=ParserTarget.UNIT && target!=ParserTarget.NPC && target!=ParserTarget.COMPANION) {
 				for(String tag : target.getTags()) {
@@ -6536,131 +6305,131 @@ public class UtilText {
 		for(int i=0; i<specialParsingStrings.size(); i++) {
 			engine.put("SPECIAL_PARSE_"+i, specialParsingStrings.get(i));
 		}
-		
+		engine.put("RND", Util.random);
+	}
+	
+	private static void initGlobalBindings(Bindings globalBindings) {
 		// Enums:
 		for(Race race : Race.values()) {
-			engine.put("RACE_"+race.toString(), race);
+			globalBindings.put("RACE_"+race.toString(), race);
 		}
 		for(RaceStage raceStage : RaceStage.values()) {
-			engine.put("RACE_STAGE_"+raceStage.toString(), raceStage);
+			globalBindings.put("RACE_STAGE_"+raceStage.toString(), raceStage);
 		}
 		for(Subspecies subspecies : Subspecies.values()) {
-			engine.put("SUBSPECIES_"+subspecies.toString(), subspecies);
+			globalBindings.put("SUBSPECIES_"+subspecies.toString(), subspecies);
 		}
 		for(LegConfiguration legConf : LegConfiguration.values()) {
-			engine.put("LEG_CONFIGURATION_"+legConf.toString(), legConf);
+			globalBindings.put("LEG_CONFIGURATION_"+legConf.toString(), legConf);
 		}
 		for(FootStructure footStructure : FootStructure.values()) {
-			engine.put("FOOT_STRUCTURE_"+footStructure.toString(), footStructure);
+			globalBindings.put("FOOT_STRUCTURE_"+footStructure.toString(), footStructure);
 		}
 		for(BodyMaterial material : BodyMaterial.values()) {
-			engine.put("BODY_MATERIAL_"+material.toString(), material);
+			globalBindings.put("BODY_MATERIAL_"+material.toString(), material);
 		}
 		for(NippleShape nippleShape : NippleShape.values()) {
-			engine.put("NIPPLE_SHAPE_"+nippleShape.toString(), nippleShape);
+			globalBindings.put("NIPPLE_SHAPE_"+nippleShape.toString(), nippleShape);
 		}
 		for(Fetish f : Fetish.values()) {
-			engine.put(f.toString(), f);
+			globalBindings.put(f.toString(), f);
 		}
 		for(FetishDesire fetishDesire : FetishDesire.values()) {
-			engine.put("FETISH_DESIRE_"+fetishDesire.toString(), fetishDesire);
+			globalBindings.put("FETISH_DESIRE_"+fetishDesire.toString(), fetishDesire);
 		}
 		for(PersonalityTrait personalityTrait : PersonalityTrait.values()) {
-			engine.put("PERSONALITY_TRAIT_"+personalityTrait.toString(), personalityTrait);
+			globalBindings.put("PERSONALITY_TRAIT_"+personalityTrait.toString(), personalityTrait);
 		}
 		for(Occupation occ : Occupation.values()) {
-			engine.put("OCCUPATION_"+occ.toString(), occ);
+			globalBindings.put("OCCUPATION_"+occ.toString(), occ);
 		}
 		for (OccupationTag occupationTag : OccupationTag.values()) {
-			engine.put("OCCUPATION_TAG_" + occupationTag.toString(), occupationTag);
+			globalBindings.put("OCCUPATION_TAG_" + occupationTag.toString(), occupationTag);
 		}
 		for(AbstractPerk p : Perk.getAllPerks()) {
-			engine.put("PERK_"+Perk.getIdFromPerk(p), p);
+			globalBindings.put("PERK_"+Perk.getIdFromPerk(p), p);
 		}
 		for(StatusEffect sa : StatusEffect.values()) {
-			engine.put("SE_"+sa.toString(), sa);
+			globalBindings.put("SE_"+sa.toString(), sa);
 		}
 		for(Attribute att : Attribute.values()) {
-			engine.put("ATTRIBUTE_"+att.toString(), att);
+			globalBindings.put("ATTRIBUTE_"+att.toString(), att);
 		}
 		for(AbstractClothingType ct : ClothingType.getAllClothing()) {
-			engine.put("CT_"+ClothingType.getIdFromClothingType(ct), ct);
+			globalBindings.put("CT_"+ClothingType.getIdFromClothingType(ct), ct);
 		}
 		for(CoverableArea ca : CoverableArea.values()) {
-			engine.put("CA_"+ca.toString(), ca);
+			globalBindings.put("CA_"+ca.toString(), ca);
 		}
 		for(InventorySlot is : InventorySlot.values()) {
-			engine.put("IS_"+is.toString(), is);
+			globalBindings.put("IS_"+is.toString(), is);
 		}
 		for(DamageType damageType : DamageType.values()) {
-			engine.put("DAMAGE_TYPE_"+damageType.toString(), damageType);
+			globalBindings.put("DAMAGE_TYPE_"+damageType.toString(), damageType);
 		}
 		for(ItemTag it : ItemTag.values()) {
-			engine.put("ITEM_TAG_"+it.toString(), it);
+			globalBindings.put("ITEM_TAG_"+it.toString(), it);
 		}
 		for(Season season : Season.values()) {
-			engine.put("SEASON_"+season.toString(), season);
+			globalBindings.put("SEASON_"+season.toString(), season);
 		}
 		for(Weather w : Weather.values()) {
-			engine.put("WEATHER_"+w.toString(), w);
+			globalBindings.put("WEATHER_"+w.toString(), w);
 		}
 		for(DialogueFlagValue flag : DialogueFlagValue.values()) {
-			engine.put("FLAG_"+flag.toString(), flag);
+			globalBindings.put("FLAG_"+flag.toString(), flag);
 		}
 		for(NPCFlagValue flag : NPCFlagValue.values()) {
-			engine.put("NPC_FLAG_"+flag.toString(), flag);
+			globalBindings.put("NPC_FLAG_"+flag.toString(), flag);
 		}
 		for(SlavePermissionSetting permission : SlavePermissionSetting.values()) {
-			engine.put("SLAVE_PERMISSION_SETTING_"+permission.toString(), permission);
+			globalBindings.put("SLAVE_PERMISSION_SETTING_"+permission.toString(), permission);
 		}
 		for(QuestLine questLine : QuestLine.values()) {
-			engine.put("QUEST_LINE_"+questLine.toString(), questLine);
+			globalBindings.put("QUEST_LINE_"+questLine.toString(), questLine);
 		}
 		for(Quest quest : Quest.values()) {
-			engine.put("QUEST_"+quest.toString(), quest);
+			globalBindings.put("QUEST_"+quest.toString(), quest);
 		}
 		for(SexualOrientation orientation : SexualOrientation.values()) {
-			engine.put("ORIENTATION_"+orientation.toString(), orientation);
+			globalBindings.put("ORIENTATION_"+orientation.toString(), orientation);
 		}
 		for(Femininity femininity : Femininity.values()) {
-			engine.put("FEMININITY_"+femininity.toString(), femininity);
+			globalBindings.put("FEMININITY_"+femininity.toString(), femininity);
 		}
 		for(AffectionLevel affectionLevel : AffectionLevel.values()) {
-			engine.put("AFFECTION_"+affectionLevel.toString(), affectionLevel);
+			globalBindings.put("AFFECTION_"+affectionLevel.toString(), affectionLevel);
 		}
 		for(AffectionLevelBasic affectionLevelBasic : AffectionLevelBasic.values()) {
-			engine.put("AFFECTION_BASIC_"+affectionLevelBasic.toString(), affectionLevelBasic);
+			globalBindings.put("AFFECTION_BASIC_"+affectionLevelBasic.toString(), affectionLevelBasic);
 		}
 		for(ObedienceLevel obedienceLevel : ObedienceLevel.values()) {
-			engine.put("OBEDIENCE_"+obedienceLevel.toString(), obedienceLevel);
+			globalBindings.put("OBEDIENCE_"+obedienceLevel.toString(), obedienceLevel);
 		}
 		for(ObedienceLevelBasic obedienceLevelBasic : ObedienceLevelBasic.values()) {
-			engine.put("OBEDIENCE_BASIC_"+obedienceLevelBasic.toString(), obedienceLevelBasic);
+			globalBindings.put("OBEDIENCE_BASIC_"+obedienceLevelBasic.toString(), obedienceLevelBasic);
 		}
 		for(Relationship relationship : Relationship.values()) {
-			engine.put("RELATIONSHIP_"+relationship.toString(), relationship);
+			globalBindings.put("RELATIONSHIP_"+relationship.toString(), relationship);
 		}
 		for(FurryPreference furryPreference : FurryPreference.values()) {
-			engine.put("FURRY_PREF_"+furryPreference.toString(), furryPreference);
+			globalBindings.put("FURRY_PREF_"+furryPreference.toString(), furryPreference);
 		}
 		for(ForcedTFTendency tfTendency : ForcedTFTendency.values()) {
-			engine.put("FORCED_TF_"+tfTendency.toString(), tfTendency);
+			globalBindings.put("FORCED_TF_"+tfTendency.toString(), tfTendency);
 		}
 		for(ForcedFetishTendency fetishTendency : ForcedFetishTendency.values()) {
-			engine.put("FORCED_FETISH_"+fetishTendency.toString(), fetishTendency);
+			globalBindings.put("FORCED_FETISH_"+fetishTendency.toString(), fetishTendency);
 		}
 		for(SexAreaOrifice orifice : SexAreaOrifice.values()) {
-			engine.put("ORIFICE_"+orifice.toString(), orifice);
+			globalBindings.put("ORIFICE_"+orifice.toString(), orifice);
 		}
 		for(SexAreaPenetration penetration : SexAreaPenetration.values()) {
-			engine.put("PENETRATION_"+penetration.toString(), penetration);
+			globalBindings.put("PENETRATION_"+penetration.toString(), penetration);
 		}
 		for(PlaceUpgrade upgrade : PlaceUpgrade.values()) {
-			engine.put("PLACE_UPGRADE_"+upgrade.toString(), upgrade);
+			globalBindings.put("PLACE_UPGRADE_"+upgrade.toString(), upgrade);
 		}
-		engine.put("RND", Util.random);
-
-		
 		
 		//TODO static methods don't work unless initialised like so:
 //		try {
@@ -6734,23 +6503,21 @@ public class UtilText {
 //	}
 	
 	private static String parseConditionalSyntaxNew(List<GameCharacter> specialNPCs, Map<String, String> conditionals) {
-		if(engine==null) {
-			initScriptEngine();
-		}
+		scriptEngine.createIfRequired();
 		
 		if(!specialNPCs.isEmpty()) {
 //			System.out.println("List size: "+specialNPCList.size());
 			for(int i = 0; i<specialNPCs.size(); i++) {
 				if(i==0) {
-					engine.put("npc", specialNPCs.get(i));
+					scriptEngine.put("npc", specialNPCs.get(i));
 				}
-				engine.put("npc"+(i+1), specialNPCs.get(i));
+				scriptEngine.put("npc"+(i+1), specialNPCs.get(i));
 //				System.out.println("Added: npc"+(i+1));
 			}
 			
 		} else {
 			try { // Getting the target NPC can throw a NullPointerException, so if it does (i.e., there's no NPC suitable for parsing), just catch it and carry on.
-				engine.put("npc", ParserTarget.NPC.getCharacter("npc", specialNPCs));
+				scriptEngine.put("npc", ParserTarget.NPC.getCharacter("npc", specialNPCs));
 //				System.out.println("specialNPCList is empty");
 			} catch(Exception ex) {
 //				System.err.println("Parsing error 2: Could not initialise npc");
@@ -6770,7 +6537,7 @@ public class UtilText {
 			String conditionalStatement = sb.toString();
 			
 			try {
-				if((boolean) engine.eval(conditionalStatement)){
+				if((boolean) scriptEngine.evaluate(conditionalStatement)){
 					return UtilText.parse(specialNPCs, entry.getValue(), false);
 				}
 				
@@ -7273,7 +7040,8 @@ public class UtilText {
 
 	public static void setClothingTypeForParsing(AbstractClothingType clothingTypeForParsing) {
 		UtilText.clothingTypeForParsing = clothingTypeForParsing;
-		engine.put("clothing", getClothingTypeForParsing());
+		scriptEngine.createIfRequired();
+		scriptEngine.put("clothing", getClothingTypeForParsing());
 	}
 	
 }
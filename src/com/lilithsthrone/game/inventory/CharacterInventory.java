@@ -82,6 +82,9 @@ public class CharacterInventory implements XMLSaving {
 	private AbstractWeapon[] offhandWeapon;
 
 	private List<AbstractClothing> clothingCurrentlyEquipped;
+	
+	/** Incremented every time that clothing or a weapon is equipped or unequipped. */
+	private int equipmentModificationCount;
 
 	// ClothingSets being worn:
 	private final Map<ClothingSet, Integer> clothingSetCount;
@@ -310,6 +313,7 @@ public class CharacterInventory implements XMLSaving {
 			AbstractClothing clothing = AbstractClothing.loadFromXML(e, doc);
 			if(clothing!=null) {
 				inventory.getClothingCurrentlyEquipped().add(clothing);
+				inventory.incrementEquipmentModificationCount();
 				if(clothing.getSlotEquippedTo()==null) { // If this is pre-version 0.3.3.9, set slot to default:
 					clothing.setSlotEquippedTo(clothing.getClothingType().getEquipSlots().get(0));
 				}
@@ -781,10 +785,12 @@ public class CharacterInventory implements XMLSaving {
 			throw new IllegalArgumentException("Equipping main weapon failed! Row was passed in as "+armRow+", but maximum arm rows is "+Arm.MAXIMUM_ROWS+"!");
 		}
 		mainWeapon[armRow] = weapon;
+		equipmentModificationCount++;
 	}
 	
 	public void unequipMainWeapon(int armRow) {
 		mainWeapon[armRow] = null;
+		equipmentModificationCount++;
 	}
 	
 	public AbstractWeapon getOffhandWeapon(int armRow) {
@@ -806,10 +812,12 @@ public class CharacterInventory implements XMLSaving {
 			throw new IllegalArgumentException("Equipping main weapon failed! Row was passed in as "+armRow+", but maximum arm rows is "+Arm.MAXIMUM_ROWS+"!");
 		}
 		offhandWeapon[armRow] = weapon;
+		equipmentModificationCount++;
 	}
 	
 	public void unequipOffhandWeapon(int armRow) {
 		offhandWeapon[armRow] = null;
+		equipmentModificationCount++;
 	}
 	
 	
@@ -955,6 +963,20 @@ public class CharacterInventory implements XMLSaving {
 	public List<AbstractClothing> getClothingCurrentlyEquipped() {
 		return clothingCurrentlyEquipped;
 	}
+	
+	/**
+	 * @return A count which changes every time that clothing or a weapon is equipped or unequipped, so that values calculated from equipment (such as GameCharacter's cached attribute values) know when they need to be recalculated.
+	 */
+	public int getEquipmentModificationCount() {
+		return equipmentModificationCount;
+	}
+	
+	/**
+	 * Must be called after modifying the list returned by getClothingCurrentlyEquipped() directly.
+	 */
+	public void incrementEquipmentModificationCount() {
+		equipmentModificationCount++;
+	}
 
 	/**
 	 * @return Map of concealed slots as keys, with a list of clothing that's concealing said slot as the value. 
@@ -1421,6 +1443,7 @@ public class CharacterInventory implements XMLSaving {
 
 				// Actually equip the newClothing:
 				clothingCurrentlyEquipped.add(newClothing);
+				equipmentModificationCount++;
 				newClothing.setSlotEquippedTo(slotToEquipInto);
 				
 				equipTextSB.append((equipTextSB.length() == 0 ? "" : "<br/>")
@@ -1460,6 +1483,7 @@ public class CharacterInventory implements XMLSaving {
 	public void forceUnequipClothingIntoVoid(GameCharacter characterClothingOwner, GameCharacter characterRemovingClothing, AbstractClothing clothing) {
 		clothing.onUnequipApplyEffects(characterClothingOwner, characterRemovingClothing, false);
 		clothingCurrentlyEquipped.remove(clothing);
+		equipmentModificationCount++;
 		clothing.getDisplacedList().clear();
 	}
 	
@@ -1605,6 +1629,7 @@ public class CharacterInventory implements XMLSaving {
 
 			// Actually unequip the clothing:
 			clothingCurrentlyEquipped.remove(clothing);
+			equipmentModificationCount++;
 			clothing.setSlotEquippedTo(null);
 
 			// If it was displaced, clear it's displacements:
@@ -8,6 +8,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import com.lilithsthrone.controller.xmlParsing.DocumentPreloader;
 import com.lilithsthrone.controller.xmlParsing.XMLLoadException;
 import com.lilithsthrone.game.character.GameCharacter;
 import com.lilithsthrone.game.character.body.CoverableArea;
@@ -8262,6 +8263,9 @@ public class ClothingType {
 		
 		// Load in modded clothing:
 		moddedClothingList = new ArrayList<>();
+		// Start parsing every clothing file in the background, so that most are ready by the time they're loaded below:
+		DocumentPreloader.preload("clothing", Util.mergeLists(DocumentPreloader.findModDefinitions("items/clothing"), DocumentPreloader.findResDefinitions("res/clothing")));
+		
 		File dir = new File("res/mods");
 		
 		if (dir.exists() && dir.isDirectory()) {
@@ -8473,6 +8477,9 @@ public class ClothingType {
 						ClothingType.PIERCING_PENIS_RING,
 						ClothingType.PIERCING_TONGUE_BAR,
 						ClothingType.PIERCING_VAGINA_BARBELL_RING));
+		
+		// Release any preloaded files which weren't loaded:
+		DocumentPreloader.finish("clothing");
 	}
 	
 	public static List<AbstractClothingType> getAllClothing() {
@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
+import com.lilithsthrone.controller.xmlParsing.DocumentPreloader;
 import com.lilithsthrone.controller.xmlParsing.XMLLoadException;
 import com.lilithsthrone.utils.Util;
 
@@ -99,6 +100,9 @@ public enum OutfitType {
 		
 		// Load in modded outfits:
 		moddedOutfits = new ArrayList<>();
+		// Parse the outfit files in the background while they're loaded:
+		DocumentPreloader.preload("outfits", Util.mergeLists(DocumentPreloader.findModDefinitions("outfits"), DocumentPreloader.findResDefinitions("res/outfits")));
+		
 		File dir = new File("res/mods");
 		
 		if (dir.exists() && dir.isDirectory()) {
@@ -173,5 +177,8 @@ public enum OutfitType {
 				}
 			}
 		}
+		
+		// Release any preloaded files which weren't loaded:
+		DocumentPreloader.finish("outfits");
 	}
 }
@@ -157,6 +157,13 @@ public abstract class AbstractItemEffectType {
 	
 	public abstract String applyEffect(TFModifier primaryModifier, TFModifier secondaryModifier, TFPotency potency, int limit, GameCharacter user, GameCharacter target, ItemEffectTimer timer);
 	
+	/**
+	 * @return True if applyEffect() does nothing with these modifiers, no matter how much time has passed, so that the effect can be fast-forwarded. By default this is false.
+	 */
+	public boolean isTimeInvariant(TFModifier primaryModifier, TFModifier secondaryModifier) {
+		return false;
+	}
+	
 	public static String getBookEffect(GameCharacter reader, Subspecies subspecies, boolean withDescription) {
 		Main.getProperties().addRaceDiscovered(subspecies);
 		if(Main.getProperties().addAdvancedRaceKnowledge(subspecies) && ItemType.getLoreBook(subspecies)!=null) {
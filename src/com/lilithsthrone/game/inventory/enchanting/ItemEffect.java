@@ -248,6 +248,13 @@ public class ItemEffect implements XMLSaving {
 		return getItemEffectType().applyEffect(getPrimaryModifier(), getSecondaryModifier(), getPotency(), getLimit(), user, target, this.timer);
 	}
 	
+	/**
+	 * @return True if applying this effect over any amount of time does nothing other than advance its timer.
+	 */
+	public boolean isTimeInvariant() {
+		return getItemEffectType().isTimeInvariant(getPrimaryModifier(), getSecondaryModifier());
+	}
+	
 	public List<String> getEffectsDescription(GameCharacter user, GameCharacter target) {
 		return getItemEffectType().getEffectsDescription(getPrimaryModifier(), getSecondaryModifier(), getPotency(), getLimit(), user, target);
 	}
@@ -3136,17 +3136,22 @@ public class ItemEffectType {
 		
 		@Override
 		public String applyEffect(TFModifier primaryModifier, TFModifier secondaryModifier, TFPotency potency, int limit, GameCharacter user, GameCharacter target, ItemEffectTimer timer) {
-			if(primaryModifier == TFModifier.CLOTHING_ATTRIBUTE
+			if(isTimeInvariant(primaryModifier, secondaryModifier)) {
+				return "";
+			}
+			return applyClothingTF(primaryModifier, secondaryModifier, potency, limit, user, target, timer);
+		}
+		
+		@Override
+		public boolean isTimeInvariant(TFModifier primaryModifier, TFModifier secondaryModifier) {
+			return primaryModifier == TFModifier.CLOTHING_ATTRIBUTE
 					|| primaryModifier == TFModifier.CLOTHING_MAJOR_ATTRIBUTE
 					|| secondaryModifier == TFModifier.CLOTHING_ENSLAVEMENT
 					|| secondaryModifier == TFModifier.CLOTHING_SERVITUDE
 					|| secondaryModifier == TFModifier.CLOTHING_SEALING
 					|| primaryModifier == TFModifier.TF_MOD_FETISH_BEHAVIOUR
 					|| primaryModifier == TFModifier.TF_MOD_FETISH_BODY_PART
-					|| primaryModifier == TFModifier.CLOTHING_CONDOM) {
-				return "";
-			}
-			return applyClothingTF(primaryModifier, secondaryModifier, potency, limit, user, target, timer);
+					|| primaryModifier == TFModifier.CLOTHING_CONDOM;
 		}
 	};
 	
@@ -3238,14 +3243,19 @@ public class ItemEffectType {
 		
 		@Override
 		public String applyEffect(TFModifier primaryModifier, TFModifier secondaryModifier, TFPotency potency, int limit, GameCharacter user, GameCharacter target, ItemEffectTimer timer) {
-			if(primaryModifier == TFModifier.CLOTHING_ATTRIBUTE
-					|| primaryModifier == TFModifier.CLOTHING_MAJOR_ATTRIBUTE
-					|| primaryModifier == TFModifier.TF_MOD_FETISH_BEHAVIOUR
-					|| primaryModifier == TFModifier.TF_MOD_FETISH_BODY_PART) {
+			if(isTimeInvariant(primaryModifier, secondaryModifier)) {
 				return "";
 			}
 			return applyClothingTF(primaryModifier, secondaryModifier, potency, limit, user, target, timer);
 		}
+		
+		@Override
+		public boolean isTimeInvariant(TFModifier primaryModifier, TFModifier secondaryModifier) {
+			return primaryModifier == TFModifier.CLOTHING_ATTRIBUTE
+					|| primaryModifier == TFModifier.CLOTHING_MAJOR_ATTRIBUTE
+					|| primaryModifier == TFModifier.TF_MOD_FETISH_BEHAVIOUR
+					|| primaryModifier == TFModifier.TF_MOD_FETISH_BODY_PART;
+		}
 	};
 	
 
@@ -1,19 +1,17 @@
 package com.lilithsthrone.game.inventory.enchanting;
 
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import com.lilithsthrone.game.character.attributes.Attribute;
 import com.lilithsthrone.game.character.fetishes.Fetish;
-import com.lilithsthrone.game.character.race.Subspecies;
 import com.lilithsthrone.game.inventory.Rarity;
 import com.lilithsthrone.main.Main;
+import com.lilithsthrone.rendering.AssetRegistry;
+import com.lilithsthrone.rendering.AssetRegistry.Asset;
 import com.lilithsthrone.utils.Colour;
 import com.lilithsthrone.utils.SvgUtil;
-import com.lilithsthrone.utils.Util;
 
 /**
  * @since 0.1.7
@@ -1435,7 +1433,7 @@ public enum TFModifier {
 	private String name;
 	private String description;
 	private String descriptor;
-	private String SVGString;
+	private Asset<String> SVGString;
 	
 	private Colour colour;
 	private Rarity rarity;
@@ -1451,36 +1449,7 @@ public enum TFModifier {
 		this.rarity=rarity;
 		
 		// Set this item's file image:
-		try {
-			InputStream is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/crafting/" + SVGString + ".svg");
-			if(is==null) {
-				System.err.println("Error! TFModifier icon file does not exist (Trying to read from '"+SVGString+"')! (Code 1)");
-			}
-			String s = Util.inputStreamToString(is);
-
-			is.close();
-			
-			if(SVGString.contains("flavour")) {
-				String SVGStringBackground = "";
-				is = Subspecies.class.getClassLoader().getResourceAsStream("com/lilithsthrone/res/crafting/modifier_circle_flavour_background.svg");
-				if(is==null) {
-					System.err.println("Error! Subspecies background icon file does not exist (Trying to read from 'modifier_circle_flavour_background')!");
-				}
-				SVGStringBackground = "<div style='width:100%;height:100%;position:absolute;left:0;bottom:0;'>"+SvgUtil.colourReplacement(this.toString()+"_B", colour, Util.inputStreamToString(is))+"</div>";
-				
-				s = SVGStringBackground + "<div style='width:100%;height:100%;position:absolute;left:0;bottom:0;'>" + SvgUtil.colourReplacement(this.toString(), colour, s)+"</div>";
-				
-			} else {
-				s = SvgUtil.colourReplacement(this.toString(), colour, s);
-			}
-			
-			this.SVGString = s;
-
-			is.close();
-
-		} catch (IOException e1) {
-			e1.printStackTrace();
-		}
+		this.SVGString = registerIcon(SVGString);
 	}
 	
 	private TFModifier(String name, String description, String descriptor, String SVGString, Colour colour, Rarity rarity) {
@@ -1496,36 +1465,7 @@ public enum TFModifier {
 		}
 		
 		// Set this item's file image:
-		try {
-			InputStream is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/crafting/" + SVGString + ".svg");
-			if(is==null) {
-				System.err.println("Error! TFModifier icon file does not exist (Trying to read from '"+SVGString+"')! (Code 2)");
-			}
-			String s = Util.inputStreamToString(is);
-
-			is.close();
-			
-			if(SVGString.contains("flavour")) {
-				String SVGStringBackground = "";
-				is = Subspecies.class.getClassLoader().getResourceAsStream("com/lilithsthrone/res/crafting/modifier_circle_flavour_background.svg");
-				if(is==null) {
-					System.err.println("Error! Subspecies background icon file does not exist (Trying to read from 'modifier_circle_flavour_background')!");
-				}
-				SVGStringBackground = "<div style='width:100%;height:100%;position:absolute;left:0;bottom:0;'>"+SvgUtil.colourReplacement(this.toString()+"_B", colour, Util.inputStreamToString(is))+"</div>";
-				
-				s = SVGStringBackground + "<div style='width:100%;height:100%;position:absolute;left:0;bottom:0;'>" + SvgUtil.colourReplacement(this.toString(), colour, s)+"</div>";
-				
-			} else {
-				s = SvgUtil.colourReplacement(this.toString(), colour, s);
-			}
-			
-			this.SVGString = s;
-
-			is.close();
-
-		} catch (IOException e1) {
-			e1.printStackTrace();
-		}
+		this.SVGString = registerIcon(SVGString);
 	}
 	
 	private TFModifier(Fetish f) {
@@ -1535,7 +1475,24 @@ public enum TFModifier {
 		this.rarity = Rarity.EPIC;
 		this.colour = Colour.FETISH;
 		this.fetish = f;
-		this.SVGString = f.getSVGString(null);
+		this.SVGString = AssetRegistry.register("TFModifier."+this.toString(), AssetRegistry.PRIORITY_DEFAULT, () -> f.getSVGString(null));
+	}
+	
+	private Asset<String> registerIcon(String pathName) {
+		return AssetRegistry.register("TFModifier."+this.toString(), AssetRegistry.PRIORITY_DEFAULT, () -> {
+			String s = AssetRegistry.readResource("/com/lilithsthrone/res/crafting/" + pathName + ".svg");
+			
+			if(pathName.contains("flavour")) {
+				String SVGStringBackground = "<div style='width:100%;height:100%;position:absolute;left:0;bottom:0;'>"
+						+SvgUtil.colourReplacement(this.toString()+"_B", colour, AssetRegistry.readResource("/com/lilithsthrone/res/crafting/modifier_circle_flavour_background.svg"))
+						+"</div>";
+				
+				return SVGStringBackground + "<div style='width:100%;height:100%;position:absolute;left:0;bottom:0;'>" + SvgUtil.colourReplacement(this.toString(), colour, s)+"</div>";
+				
+			} else {
+				return SvgUtil.colourReplacement(this.toString(), colour, s);
+			}
+		});
 	}
 	
 	public int getValue() {
@@ -1579,7 +1536,7 @@ public enum TFModifier {
 	}
 
 	public String getSVGString() {
-		return SVGString;
+		return SVGString.get();
 	}
 
 	public Colour getColour() {
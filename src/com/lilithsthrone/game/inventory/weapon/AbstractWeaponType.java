@@ -19,11 +19,6 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-
-import org.w3c.dom.Document;
-
 import com.lilithsthrone.controller.xmlParsing.Element;
 import com.lilithsthrone.controller.xmlParsing.XMLMissingTagException;
 import com.lilithsthrone.game.character.GameCharacter;
@@ -41,6 +36,7 @@ import com.lilithsthrone.game.inventory.enchanting.ItemEffect;
 import com.lilithsthrone.game.inventory.enchanting.ItemEffectType;
 import com.lilithsthrone.game.inventory.enchanting.TFEssence;
 import com.lilithsthrone.main.Main;
+import com.lilithsthrone.rendering.SvgVariantCache;
 import com.lilithsthrone.utils.Colour;
 import com.lilithsthrone.utils.ColourListPresets;
 import com.lilithsthrone.utils.SvgUtil;
@@ -98,8 +94,9 @@ public abstract class AbstractWeaponType extends AbstractCoreType {
 	private int enchantmentLimit; // Removed as part of 0.3.3.7's update to add enchantment capacity mechanics.
 	protected List<ItemEffect> effects;
 	
-	private Map<DamageType, Map<Colour, Map<Colour, Map<Colour, String>>>> SVGStringMap;
-	private Map<DamageType, Map<Colour, Map<Colour, Map<Colour, String>>>> SVGStringEquippedMap;
+	/** The variants which are cached in SvgVariantCache. */
+	private static final int SVG_VARIANT_ICON = 0;
+	private static final int SVG_VARIANT_EQUIPPED = 1;
 	
 	private List<Colour> availablePrimaryColours;
 	private List<Colour> availablePrimaryDyeColours;
@@ -271,8 +268,6 @@ public abstract class AbstractWeaponType extends AbstractCoreType {
 				availableTertiaryColours,
 				availableTertiaryDyeColours);
 
-		SVGStringMap = new HashMap<>();
-		SVGStringEquippedMap = new HashMap<>();
 		
 		if(equipText!=null) {
 			this.equipText = equipText;
@@ -308,13 +303,6 @@ public abstract class AbstractWeaponType extends AbstractCoreType {
 
 		if (weaponXMLFile.exists()) {
 			try {
-				DocumentBuilderFactory dbFactory = DocumentBuilderFactory.newInstance();
-				DocumentBuilder dBuilder = dbFactory.newDocumentBuilder();
-				Document doc = dBuilder.parse(weaponXMLFile);
-				
-				// Cast magic:
-				doc.getDocumentElement().normalize();
-				
 				Element weaponElement = Element.getDocumentRootElement(weaponXMLFile); // Loads the document and returns the root element - in clothing mods it's <clothing>
 				Element coreAttributes = null;
 				try {
@@ -479,9 +467,6 @@ public abstract class AbstractWeaponType extends AbstractCoreType {
 						importedTertiaryColours,
 						importedTertiaryColoursDye);
 				
-				SVGStringMap = new HashMap<>();
-				SVGStringEquippedMap = new HashMap<>();
-				
 			} catch(Exception ex) {
 				ex.printStackTrace();
 				System.err.println("WeaponType was unable to be loaded from file! (" + weaponXMLFile.getName() + ")\n" + ex);
@@ -991,36 +976,11 @@ public abstract class AbstractWeaponType extends AbstractCoreType {
 	}
 
 	private void addSVGStringMapping(DamageType dt, Colour colourPrimary, Colour colourSecondary, Colour colourTertiary, String s) {
-		if(SVGStringMap.get(dt)==null) {
-			SVGStringMap.put(dt, new HashMap<>());
-			SVGStringMap.get(dt).put(colourPrimary, new HashMap<>());
-			SVGStringMap.get(dt).get(colourPrimary).put(colourSecondary, new HashMap<>());
-			
-		} else if(SVGStringMap.get(dt).get(colourPrimary)==null) {
-			SVGStringMap.get(dt).put(colourPrimary, new HashMap<>());
-			SVGStringMap.get(dt).get(colourPrimary).put(colourSecondary, new HashMap<>());
-			
-		} else if(SVGStringMap.get(dt).get(colourPrimary).get(colourSecondary)==null) {
-			SVGStringMap.get(dt).get(colourPrimary).put(colourSecondary, new HashMap<>());
-		}
-		
-		SVGStringMap.get(dt).get(colourPrimary).get(colourSecondary).put(colourTertiary, s);
+		SvgVariantCache.INSTANCE.put(new SvgVariantCache.Key(this, SVG_VARIANT_ICON, dt, colourPrimary, colourSecondary, colourTertiary), s);
 	}
 	
 	private String getSVGStringFromMap(DamageType dt, Colour colourPrimary, Colour colourSecondary, Colour colourTertiary) {
-		if(SVGStringMap.get(dt)==null) {
-			return null;
-		} else {
-			if(SVGStringMap.get(dt).get(colourPrimary)==null) {
-				return null;
-				
-			} else if(SVGStringMap.get(dt).get(colourPrimary).get(colourSecondary)==null) {
-				return null;
-				
-			} else {
-				return SVGStringMap.get(dt).get(colourPrimary).get(colourSecondary).get(colourTertiary);
-			}
-		}
+		return SvgVariantCache.INSTANCE.get(new SvgVariantCache.Key(this, SVG_VARIANT_ICON, dt, colourPrimary, colourSecondary, colourTertiary));
 	}
 	
 	public String getSVGImage() {
@@ -1088,36 +1048,11 @@ public abstract class AbstractWeaponType extends AbstractCoreType {
 	}
 	
 	private void addSVGStringEquippedMapping(DamageType dt, Colour colourPrimary, Colour colourSecondary, Colour colourTertiary, String s) {
-		if(SVGStringEquippedMap.get(dt)==null) {
-			SVGStringEquippedMap.put(dt, new HashMap<>());
-			SVGStringEquippedMap.get(dt).put(colourPrimary, new HashMap<>());
-			SVGStringEquippedMap.get(dt).get(colourPrimary).put(colourSecondary, new HashMap<>());
-			
-		} else if(SVGStringEquippedMap.get(dt).get(colourPrimary)==null) {
-			SVGStringEquippedMap.get(dt).put(colourPrimary, new HashMap<>());
-			SVGStringEquippedMap.get(dt).get(colourPrimary).put(colourSecondary, new HashMap<>());
-			
-		} else if(SVGStringEquippedMap.get(dt).get(colourPrimary).get(colourSecondary)==null) {
-			SVGStringEquippedMap.get(dt).get(colourPrimary).put(colourSecondary, new HashMap<>());
-		}
-		
-		SVGStringEquippedMap.get(dt).get(colourPrimary).get(colourSecondary).put(colourTertiary, s);
+		SvgVariantCache.INSTANCE.put(new SvgVariantCache.Key(this, SVG_VARIANT_EQUIPPED, dt, colourPrimary, colourSecondary, colourTertiary), s);
 	}
 	
 	private String getSVGStringEquippedFromMap(DamageType dt, Colour colourPrimary, Colour colourSecondary, Colour colourTertiary) {
-		if(SVGStringEquippedMap.get(dt)==null) {
-			return null;
-		} else {
-			if(SVGStringEquippedMap.get(dt).get(colourPrimary)==null) {
-				return null;
-				
-			} else if(SVGStringEquippedMap.get(dt).get(colourPrimary).get(colourSecondary)==null) {
-				return null;
-				
-			} else {
-				return SVGStringEquippedMap.get(dt).get(colourPrimary).get(colourSecondary).get(colourTertiary);
-			}
-		}
+		return SvgVariantCache.INSTANCE.get(new SvgVariantCache.Key(this, SVG_VARIANT_EQUIPPED, dt, colourPrimary, colourSecondary, colourTertiary));
 	}
 	
 	public String getSVGEquippedImage() {
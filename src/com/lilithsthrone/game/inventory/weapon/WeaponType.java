@@ -7,6 +7,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import com.lilithsthrone.controller.xmlParsing.DocumentPreloader;
 import com.lilithsthrone.game.character.GameCharacter;
 import com.lilithsthrone.game.combat.DamageType;
 import com.lilithsthrone.game.combat.DamageVariance;
@@ -731,6 +732,9 @@ public class WeaponType {
 	static {
 		// Load in modded weapons:
 		moddedWeapons = new ArrayList<>();
+		// Parse the weapon files in the background while they're loaded:
+		DocumentPreloader.preload("weapons", Util.mergeLists(DocumentPreloader.findModDefinitions("items/weapons"), DocumentPreloader.findResDefinitions("res/weapons")));
+		
 		File dir = new File("res/mods");
 		
 		if (dir.exists() && dir.isDirectory()) {
@@ -825,6 +829,9 @@ public class WeaponType {
 				}
 			}
 		}
+		
+		// Release any preloaded files which weren't loaded:
+		DocumentPreloader.finish("weapons");
 	}
 
 	public static List<AbstractWeaponType> getAllWeapons() {
@@ -144,12 +144,33 @@ public class OccupancyUtil implements XMLSaving {
 		}
 	}
 	
+	/**
+	 * Used by Game.endTurn() to decide which slaves' hourly status effect updates can be fast-forwarded through this hour (see GameCharacter.deferStatusEffects()).
+	 *  Any slave involved in an event has their deferred status effects applied before the event is generated.
+	 * @return True if performHourlyUpdate(day, hour) will not change anything that the slave's status effects depend on, or read anything which those status effects change over time.
+	 */
+	public boolean isSlaveUnaffectedByHourlyUpdate(NPC slave, int hour) {
+		if(Main.game.getPlayer().hasCompanion(slave)) { // Companions are skipped by the hourly update
+			return true;
+		}
+		if(hour%24==0) { // Daily updates
+			return false;
+		}
+		return slave.getSlaveJob(hour)==SlaveJob.IDLE
+				&& slave.getSlaveJob(hour-1)==SlaveJob.IDLE
+				&& !slave.isAtWork(hour)
+				&& slave.getWorldLocation()==slave.getHomeWorldLocation()
+				&& slave.getLocation().equals(slave.getHomeLocation())
+				&& !(slave.hasSlavePermissionSetting(SlavePermissionSetting.SEX_MASTURBATE)
+						&& (slave.getLastTimeOrgasmed()+(60*(24+6))<Main.game.getMinutesPassed()));
+	}
+	
 	public void performHourlyUpdate(int day, int hour) {
 		// Non-slave occupants:
 		for(String id : Main.game.getPlayer().getFriendlyOccupants()) {
 			try {
 				NPC occupant = (NPC) Main.game.getNPCById(id);
-				if(!Main.game.getCharactersPresent().contains(occupant)) { // If the player isn't interacting with them, then move them:
+				if(!Main.game.isCharacterPresent(occupant)) { // If the player isn't interacting with them, then move them:
 //					if(!occupant.getHistory().getOccupationTags().contains(OccupationTag.LOWLIFE)) {
 						if(occupant.getHistory().isAtWork(hour)) {
 							occupant.setLocation(WorldType.EMPTY, PlaceType.GENERIC_HOLDING_CELL);
@@ -180,7 +201,7 @@ public class OccupancyUtil implements XMLSaving {
 					continue;
 				}
 				
-				if(!Main.game.getCharactersPresent().contains(slave) // If the player isn't interacting with them, then move them
+				if(!Main.game.isCharacterPresent(slave) // If the player isn't interacting with them, then move them
 						|| Main.game.getCurrentDialogueNode()==RoomPlayer.AUNT_HOME_PLAYERS_ROOM_SLEEP) { // Also move slaves who are in bedroom but have elsewhere to be
 					slavesAtJob.get(currentJob).add(slave);
 					
@@ -290,7 +311,7 @@ public class OccupancyUtil implements XMLSaving {
 			if(slave.hasSlavePermissionSetting(SlavePermissionSetting.CLEANLINESS_WASH_BODY)
 					&& !isAtWork
 					&& !slave.getDirtySlots().isEmpty()
-					&& !Main.game.getCharactersPresent().contains(slave)) {
+					&& !Main.game.isCharacterPresent(slave)) {
 				SlaveryEventLogEntry entry = new SlaveryEventLogEntry(hour,
 						slave,
 						SlaveEvent.WASHED_BODY,
@@ -314,7 +335,7 @@ public class OccupancyUtil implements XMLSaving {
 			if((slave.hasStatusEffect(StatusEffect.CLOTHING_CUM) || !slave.getDirtySlots().isEmpty())
 					&& !isAtWork
 					&& slave.hasSlavePermissionSetting(SlavePermissionSetting.CLEANLINESS_WASH_CLOTHES)
-					&& !Main.game.getCharactersPresent().contains(slave)) {
+					&& !Main.game.isCharacterPresent(slave)) {
 				Main.game.addSlaveryEvent(day, new SlaveryEventLogEntry(hour,
 						slave,
 						SlaveEvent.WASHED_CLOTHES,
@@ -328,6 +349,11 @@ public class OccupancyUtil implements XMLSaving {
 			// Interaction events:
 			if(slavesAtJob.get(currentJob).size()>1 || currentJob==SlaveJob.IDLE) {
 				if(Math.random()<0.25f) {
+					// Events can involve any of the slaves at this job, so they all need to be up to date:
+					slave.applyDeferredStatusEffects();
+					for(NPC otherSlave : slavesAtJob.get(currentJob)) {
+						otherSlave.applyDeferredStatusEffects();
+					}
 					entry = generateNPCInteractionEvent(day, hour, slave, slavesAtJob.get(currentJob));
 					if(entry!=null) {
 						Main.game.addSlaveryEvent(day, entry);
@@ -351,6 +377,7 @@ public class OccupancyUtil implements XMLSaving {
 				
 				if(Math.random()<0.05f || currentJob==SlaveJob.MILKING) {
 //						|| (Math.random()<0.5f && (currentJob==SlaveJob.PUBLIC_STOCKS || currentJob==SlaveJob.PROSTITUTE))) {
+					slave.applyDeferredStatusEffects();
 					List<SlaveryEventLogEntry> entries = generateEvents(hour, slave);
 					for(SlaveryEventLogEntry e : entries) {
 						Main.game.addSlaveryEvent(day, e);
@@ -1216,7 +1243,7 @@ public class OccupancyUtil implements XMLSaving {
 						
 						// Can reach each other:
 						if(npc.getSlaveJob(hour)==SlaveJob.IDLE) {
-							if(!Main.game.getCharactersPresent(slave.getCell()).contains(npc) && !slave.hasSlavePermissionSetting(SlavePermissionSetting.GENERAL_HOUSE_FREEDOM)) {
+							if(!Main.game.isCharacterPresent(slave.getCell(), npc) && !slave.hasSlavePermissionSetting(SlavePermissionSetting.GENERAL_HOUSE_FREEDOM)) {
 								continue;
 							}
 						}
@@ -14,6 +14,7 @@ import com.lilithsthrone.controller.TooltipUpdateThread;
 import com.lilithsthrone.game.Game;
 import com.lilithsthrone.game.Properties;
 import com.lilithsthrone.game.PropertyValue;
+import com.lilithsthrone.game.SaveIndex;
 import com.lilithsthrone.game.character.CharacterImportSetting;
 import com.lilithsthrone.game.character.CharacterUtils;
 import com.lilithsthrone.game.character.PlayerCharacter;
@@ -27,9 +28,11 @@ import com.lilithsthrone.game.dialogue.DialogueNode;
 import com.lilithsthrone.game.dialogue.DialogueNodeType;
 import com.lilithsthrone.game.dialogue.responses.Response;
 import com.lilithsthrone.game.dialogue.story.CharacterCreation;
+import com.lilithsthrone.game.dialogue.utils.DialogueRepository;
 import com.lilithsthrone.game.dialogue.utils.OptionsDialogue;
 import com.lilithsthrone.game.inventory.enchanting.TFEssence;
 import com.lilithsthrone.game.sex.Sex;
+import com.lilithsthrone.rendering.AssetRegistry;
 import com.lilithsthrone.utils.Colour;
 import com.lilithsthrone.utils.CreditsSlot;
 import com.lilithsthrone.world.Generation;
@@ -738,6 +741,8 @@ public class Main extends Application {
 		
 		Main.game.setContent(new Response("", "", OptionsDialogue.MENU));
 		
+		AssetRegistry.logStartupTime("Main menu shown");
+		AssetRegistry.startPrewarm();
 	}
 	
 	protected static void CheckForDataDirectory() {
@@ -850,6 +855,8 @@ public class Main extends Application {
 			properties.savePropertiesAsXML();
 		}
 		
+		DialogueRepository.preloadAllInBackground();
+		
 		launch(args);
 	}
 	
@@ -1016,10 +1023,29 @@ public class Main extends Application {
 		}
 	}
 
+	public static final String SAVE_EXTENSION_XML = ".xml";
+	public static final String SAVE_EXTENSION_BINARY = ".ltsb";
+	
+	/**
+	 * @return true if the file name has the extension of either of the save formats.
+	 */
+	public static boolean isSaveFileName(String fileName) {
+		return fileName.endsWith(SAVE_EXTENSION_XML) || fileName.endsWith(SAVE_EXTENSION_BINARY);
+	}
+	
+	/**
+	 * @return The save file with this name, in whichever format it was saved in. If there is no save with this name, the returned File will not exist.
+	 */
+	public static File getSaveFile(String name) {
+		File binaryFile = new File("data/saves/"+name+SAVE_EXTENSION_BINARY);
+		if(binaryFile.exists()) {
+			return binaryFile;
+		}
+		return new File("data/saves/"+name+SAVE_EXTENSION_XML);
+	}
+	
 	public static boolean isLoadGameAvailable(String name) {
-		File file = new File("data/saves/"+name+".xml");
-
-		return file.exists();
+		return SaveIndex.getEntry(name)!=null;
 	}
 	
 	public static void loadGame(String name) {
@@ -1033,11 +1059,12 @@ public class Main extends Application {
 	}
 	
 	public static void deleteGame(String name) {
-		File file = new File("data/saves/"+name+".xml");
+		File file = getSaveFile(name);
 
 		if (file.exists()) {
 			try {
 				file.delete();
+				SaveIndex.removeEntry(name);
 				Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 			} catch (Exception ex) {
 				ex.printStackTrace();
@@ -1049,11 +1076,12 @@ public class Main extends Application {
 	}
 	
 	public static void deleteExportedGame(String name) {
-		File file = new File("data/saves/"+name+".xml");
+		File file = getSaveFile(name);
 
 		if (file.exists()) {
 			try {
 				file.delete();
+				SaveIndex.removeEntry(name);
 				Main.game.setContent(new Response("", "", Main.game.getCurrentDialogueNode()));
 			} catch (Exception ex) {
 				ex.printStackTrace();
@@ -1080,18 +1108,15 @@ public class Main extends Application {
 		}
 	}
 	
+	/**
+	 * @return All save files, with the most recently saved first. The save folder's index is used, so none of the saves are opened.
+	 */
 	public static List<File> getSavedGames() {
 		List<File> filesList = new ArrayList<>();
 		
-		File dir = new File("data/saves");
-		if (dir.isDirectory()) {
-			File[] directoryListing = dir.listFiles((path, name) -> name.endsWith(".xml"));
-			if (directoryListing != null) {
-				filesList.addAll(Arrays.asList(directoryListing));
-			}
+		for(SaveIndex.Entry entry : SaveIndex.getEntries()) {
+			filesList.add(entry.getFile());
 		}
-
-		filesList.sort(Comparator.comparingLong(File::lastModified).reversed());
 		
 		return filesList;
 	}
@@ -1133,7 +1158,7 @@ public class Main extends Application {
 		
 		File dir = new File("data/saves");
 		if (dir.isDirectory()) {
-			File[] directoryListing = dir.listFiles((path, name) -> name.endsWith(".xml"));
+			File[] directoryListing = dir.listFiles((path, name) -> isSaveFileName(name));
 			if (directoryListing != null) {
 				filesList.addAll(Arrays.asList(directoryListing));
 			}
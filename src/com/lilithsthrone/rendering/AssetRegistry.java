@@ -0,0 +1,184 @@
+package com.lilithsthrone.rendering;
+
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import com.lilithsthrone.utils.Util;
+
+/**
+ * Keeps track of the icons and other assets which used to be loaded (and coloured) in the constructors and static blocks of SVGImages, Subspecies, Fetish, TFModifier, Spell, CombatMove, and AbstractPlaceType,
+ *  all of which had to finish before the main menu could be shown.<br/>
+ * <br/>
+ * Each asset is now only loaded the first time that it's asked for, and is then kept. Once the main menu is showing, startPrewarm() loads all of the assets which haven't been needed yet on a background thread,
+ *  in order of priority, so that they're usually ready by the time they're first shown. Run with -DprewarmAssets=false to only ever load assets on demand.
+ *
+ * @since 0.3.5.8
+ * @version 0.3.5.8
+ * @author Innoxia
+ */
+public class AssetRegistry {
+
+	/** Shown on the main menu or in the UI which surrounds every scene. */
+	public static final int PRIORITY_UI = 0;
+	/** Icons which are shown in most scenes, such as those of subspecies, fetishes, and status effects. */
+	public static final int PRIORITY_COMMON = 1;
+	public static final int PRIORITY_DEFAULT = 2;
+	/** Never prewarmed, such as assets which depend on modded content that may still be loading. */
+	public static final int PRIORITY_ON_DEMAND = Integer.MAX_VALUE;
+
+	private static final boolean PREWARM = Boolean.valueOf(System.getProperty("prewarmAssets", "true"));
+
+	private static final List<Asset<?>> assets = new ArrayList<>();
+	private static boolean prewarmStarted = false;
+
+	/**
+	 * An asset which is loaded the first time that get() is called, by whichever thread calls it first.
+	 */
+	public static final class Asset<T> {
+		private final String name;
+		private final int priority;
+		private final int order;
+		private Supplier<T> loader;
+		private volatile boolean loaded = false;
+		private T value;
+
+		private Asset(String name, int priority, int order, Supplier<T> loader) {
+			this.name = name;
+			this.priority = priority;
+			this.order = order;
+			this.loader = loader;
+		}
+
+		public T get() {
+			if(!loaded) {
+				synchronized(this) {
+					if(!loaded) {
+						value = loader.get();
+						loader = null;
+						loaded = true;
+					}
+				}
+			}
+			return value;
+		}
+
+		public boolean isLoaded() {
+			return loaded;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	/**
+	 * @param name Only used for logging errors.
+	 * @param loader Must be able to be called from any thread.
+	 */
+	public static <T> Asset<T> register(String name, int priority, Supplier<T> loader) {
+		synchronized(assets) {
+			Asset<T> asset = new Asset<>(name, priority, assets.size(), loader);
+			assets.add(asset);
+			return asset;
+		}
+	}
+
+	/**
+	 * @param path The path of the resource from the root of the classpath, such as "/com/lilithsthrone/res/UIElements/menu.svg".
+	 * @return The resource's contents, or an empty String (after logging an error) if it doesn't exist.
+	 */
+	public static String readResource(String path) {
+		InputStream is = AssetRegistry.class.getResourceAsStream(path);
+		if(is==null) {
+			System.err.println("Error! Resource file does not exist (Trying to read from '"+path+"')!");
+		}
+		return Util.inputStreamToString(is);
+	}
+
+	/**
+	 * Starts a low-priority daemon thread which loads every registered asset which hasn't been loaded yet, in order of priority and then of registration.
+	 *  Assets which are registered while it's running are picked up once it has finished its current list. Does nothing if prewarming is disabled or has already been started.
+	 */
+	public static void startPrewarm() {
+		synchronized(assets) {
+			if(!PREWARM || prewarmStarted) {
+				return;
+			}
+			prewarmStarted = true;
+		}
+		Thread prewarmThread = new Thread(AssetRegistry::prewarm, "Asset prewarmer");
+		prewarmThread.setDaemon(true);
+		prewarmThread.setPriority(Thread.MIN_PRIORITY);
+		prewarmThread.start();
+	}
+
+	private static void prewarm() {
+		long startTime = System.nanoTime();
+		int loadedCount = 0;
+		// Assets which fail to load stay unloaded, so this makes sure that each one is only tried once:
+		Set<Asset<?>> attempted = Collections.newSetFromMap(new IdentityHashMap<>());
+		List<Asset<?>> toLoad = getAssetsToPrewarm(attempted);
+		while(!toLoad.isEmpty()) {
+			for(Asset<?> asset : toLoad) {
+				attempted.add(asset);
+				if(!asset.isLoaded()) {
+					try {
+						asset.get();
+						loadedCount++;
+					} catch(Exception ex) {
+						System.err.println("AssetRegistry: Failed to prewarm '"+asset.getName()+"'.");
+						ex.printStackTrace();
+					}
+				}
+			}
+			toLoad = getAssetsToPrewarm(attempted);
+		}
+		System.err.println("Prewarmed "+loadedCount+" assets in "+((System.nanoTime()-startTime)/1_000_000)+"ms");
+	}
+
+	private static List<Asset<?>> getAssetsToPrewarm(Set<Asset<?>> attempted) {
+		List<Asset<?>> toLoad = new ArrayList<>();
+		synchronized(assets) {
+			for(Asset<?> asset : assets) {
+				if(!asset.isLoaded() && asset.priority!=PRIORITY_ON_DEMAND && !attempted.contains(asset)) {
+					toLoad.add(asset);
+				}
+			}
+		}
+		toLoad.sort(Comparator.<Asset<?>>comparingInt(a -> a.priority).thenComparingInt(a -> a.order));
+		return toLoad;
+	}
+
+	public static int getRegisteredCount() {
+		synchronized(assets) {
+			return assets.size();
+		}
+	}
+
+	public static int getLoadedCount() {
+		synchronized(assets) {
+			int count = 0;
+			for(Asset<?> asset : assets) {
+				if(asset.isLoaded()) {
+					count++;
+				}
+			}
+			return count;
+		}
+	}
+
+	/**
+	 * Logs the time from the JVM starting up until now, along with how many assets were needed in that time.
+	 */
+	public static void logStartupTime(String milestone) {
+		long uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+		System.err.println("Startup: "+milestone+" after "+uptime+"ms ("+getLoadedCount()+" of "+getRegisteredCount()+" assets loaded)");
+	}
+}
@@ -4,7 +4,6 @@ import java.io.File;
 import java.io.FilenameFilter;
 import java.io.IOException;
 import java.nio.file.Files;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
@@ -33,7 +32,6 @@ public class Pattern {
 	private boolean tertiaryRecolourAvailable;
 	
 	private String baseSVGString;
-	private Map<Colour, Map<Colour, Map<Colour, String>>> SVGStringMap;
 	
 	static {
 		allPatterns = new TreeMap<>();
@@ -78,7 +76,6 @@ public class Pattern {
 	
 	public Pattern(String name) {
 		this.name = name;
-		SVGStringMap = new HashMap<>();
 		
 		baseSVGString = "";
 		if(!name.equals("none")) {
@@ -196,26 +193,13 @@ public class Pattern {
 	}
 
 	public String getSVGString(Colour colour, Colour colourSecondary, Colour colourTertiary) {
-		if(!SVGStringMap.containsKey(colour) || !SVGStringMap.get(colour).containsKey(colourSecondary) || !SVGStringMap.get(colour).get(colourSecondary).containsKey(colourTertiary)) {
-			generateSVGImage(colour, colourSecondary, colourTertiary);
+		SvgVariantCache.Key key = new SvgVariantCache.Key(this, 0, colour, colourSecondary, colourTertiary);
+		String s = SvgVariantCache.INSTANCE.get(key);
+		if(s==null) {
+			s = SvgUtil.colourReplacementPattern(this.getName(), colour, colourSecondary, colourTertiary, baseSVGString);
+			SvgVariantCache.INSTANCE.put(key, s);
 		}
-		return SVGStringMap.get(colour).get(colourSecondary).get(colourTertiary);
-	}
-	
-	private void generateSVGImage(Colour colour, Colour colourSecondary, Colour colourTertiary) {
-		addSVGStringMapping(colour, colourSecondary, colourTertiary, SvgUtil.colourReplacementPattern(this.getName(), colour, colourSecondary, colourTertiary, baseSVGString));
-	}
-	
-	private void addSVGStringMapping(Colour colour, Colour colourSecondary, Colour colourTertiary, String s) {
-		if(SVGStringMap.get(colour)==null) {
-			SVGStringMap.put(colour, new HashMap<>());
-			SVGStringMap.get(colour).put(colourSecondary, new HashMap<>());
-			
-		} else if(SVGStringMap.get(colour).get(colourSecondary)==null) {
-			SVGStringMap.get(colour).put(colourSecondary, new HashMap<>());
-		}
-		
-		SVGStringMap.get(colour).get(colourSecondary).put(colourTertiary, s);
+		return s;
 	}
 }
 
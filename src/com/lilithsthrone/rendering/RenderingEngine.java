@@ -1072,7 +1072,8 @@ public enum RenderingEngine {
 						+"</p>"
 					+ "</div>"
 				+ "</div>"
-				+ "<div class='full-width-container' style='height: calc(100% - 128vw); overflow-y: auto;'>");
+				+ "<div class='full-width-container' style='height: calc(100% - 128vw); overflow-y: auto;'>"
+				+ WebViewRegions.start("characters"));
 			
 			if(Sex.isDom(Main.game.getPlayer())) {
 				for(GameCharacter character : Sex.getDominantParticipants(true).keySet()) {
@@ -1085,7 +1086,7 @@ public enum RenderingEngine {
 				}
 			}
 			
-			uiAttributeSB.append("</div>");
+			uiAttributeSB.append(WebViewRegions.end("characters") + "</div>");
 						
 		} else if(Main.game.isInCombat()) {
 			
@@ -1098,7 +1099,8 @@ public enum RenderingEngine {
 						+"</p>"
 					+ "</div>"
 				+ "</div>"
-				+ "<div class='full-width-container' style='height: calc(100% - 128vw); overflow-y: auto;'>");
+				+ "<div class='full-width-container' style='height: calc(100% - 128vw); overflow-y: auto;'>"
+				+ WebViewRegions.start("characters"));
 			
 			uiAttributeSB.append(getCharacterPanelDiv(Combat.getAllies(Main.game.getPlayer()).size()>0, "PLAYER_", Main.game.getPlayer()));
 			
@@ -1107,7 +1109,7 @@ public enum RenderingEngine {
 			}
 			
 			
-			uiAttributeSB.append("</div>");
+			uiAttributeSB.append(WebViewRegions.end("characters") + "</div>");
 			
 			
 		} else {
@@ -1115,7 +1117,8 @@ public enum RenderingEngine {
 			uiAttributeSB.append("<div class='full-width-container' style='background-color:#19191a; border-radius:5px; margin-bottom:8px;'>"
 									+ getDefaultAttributeColumnHeader()
 									+"</div>"
-							+ "<div class='full-width-container' style='height: calc(100% - 138vw); overflow-y: auto;'>");
+							+ "<div class='full-width-container' style='height: calc(100% - 138vw); overflow-y: auto;'>"
+							+ WebViewRegions.start("characters"));
 			
 			uiAttributeSB.append(getCharacterPanelDiv(!Main.game.getPlayer().getCompanions().isEmpty(), "PLAYER_", Main.game.getPlayer()));
 			
@@ -1127,7 +1130,7 @@ public enum RenderingEngine {
 //				}
 			}
 			
-			uiAttributeSB.append("</div>");
+			uiAttributeSB.append(WebViewRegions.end("characters") + "</div>");
 		}
 
 		uiAttributeSB.append("</div>");
@@ -1147,7 +1150,8 @@ public enum RenderingEngine {
 				break;
 		}
 		
-		uiAttributeSB.append("<div class='full-width-container' style='background-color:"+background.toWebHexString()+"; border-radius:5px; margin-bottom:1px; padding:4px;'>");
+		uiAttributeSB.append("<div class='full-width-container' style='background-color:"+background.toWebHexString()+"; border-radius:5px; margin-bottom:1px; padding:4px;'>"
+				+ WebViewRegions.start("time"));
 		if(Main.game.getCurrentDialogueNode().getDialogueNodeType() == DialogueNodeType.INVENTORY && Main.game.isEnchantmentCapacityEnabled()) {
 			int enchantmentPointsUsed = Main.game.getPlayer().getEnchantmentPointsUsedTotal();
 			uiAttributeSB.append(UtilText.parse(
@@ -1197,14 +1201,16 @@ public enum RenderingEngine {
 							+ "</div>"
 						+ "</div>");
 		}
-		uiAttributeSB.append("</div>");
+		uiAttributeSB.append(WebViewRegions.end("time") + "</div>");
 		
+		uiAttributeSB.append(WebViewRegions.start("lower"));
 		if(Main.game.getCurrentDialogueNode().getDialogueNodeType() == DialogueNodeType.INVENTORY || Main.game.isInCombat() || Main.game.isInSex()) {
 			uiAttributeSB.append(getInventoryEquippedPanel(Main.game.getPlayer()));
 			
 		} else {
 			uiAttributeSB.append("<div>" + renderedHTMLMap() + "</div>");
 		}
+		uiAttributeSB.append(WebViewRegions.end("lower"));
 		
 		uiAttributeSB.append("</body>");
 
@@ -1367,7 +1373,7 @@ public enum RenderingEngine {
 			}
 			uiAttributeSB.append("</div>");
 			
-			uiAttributeSB.append(getInventoryEquippedPanel(getCharacterToRender()));
+			uiAttributeSB.append(WebViewRegions.region("equipped", getInventoryEquippedPanel(getCharacterToRender())));
 				
 		} else {
 			uiAttributeSB.append("<div class='full'>");
@@ -1384,7 +1390,8 @@ public enum RenderingEngine {
 			
 			// Characters Present:
 			uiAttributeSB.append("<div class='attribute-container effects'>"
-								+ "<p style='text-align:center;padding:0;margin:0;'><b>Characters Present</b></p>");
+								+ "<p style='text-align:center;padding:0;margin:0;'><b>Characters Present</b></p>"
+								+ WebViewRegions.start("characters-present"));
 			List <NPC> charactersPresent = Main.game.getCharactersPresent();
 			if(charactersPresent.isEmpty() && (place.getPopulation()==null || place.getPopulation().getSpecies().isEmpty())) {
 				uiAttributeSB.append("<p style='text-align:center;padding:0;margin:0;'><span style='color:"+Colour.TEXT_GREY.toWebHexString()+";'>None...</span></p>");
@@ -1445,12 +1452,13 @@ public enum RenderingEngine {
 //								"<p style='text-align:center;padding:0;margin:0;'>"+Util.capitaliseSentence(pop.getDensity().getName())+" "+pop.getType().getName()+"</p>");
 				}
 			}
-			uiAttributeSB.append("</div>");
+			uiAttributeSB.append(WebViewRegions.end("characters-present") + "</div>");
 			
 			
 			// Items Present:
 			uiAttributeSB.append("<div class='attribute-container effects'>"
-								+ "<p style='text-align:center;padding:0;margin:0;'><b>Items Present</b></p>");
+								+ "<p style='text-align:center;padding:0;margin:0;'><b>Items Present</b></p>"
+								+ WebViewRegions.start("items-present"));
 			
 			int count = 0;
 			if(Main.game.isInNewWorld()) {
@@ -1507,7 +1515,7 @@ public enum RenderingEngine {
 				uiAttributeSB.append("<p style='text-align:center;padding:0;margin:0;'><span style='color:"+Colour.TEXT_GREY.toWebHexString()+";'>None...</span></p>");
 			}
 			uiAttributeSB.append(
-					"</div>");
+					WebViewRegions.end("items-present") + "</div>");
 						
 			
 			// Event log:
@@ -1515,7 +1523,8 @@ public enum RenderingEngine {
 					"</div>"
 						+ "<div class='event-log'>"
 							+ "<p style='text-align:center;padding:0;margin:0;'><b>Event Log</b></p>"
-							+ "<div class='event-log-inner' id='event-log-inner-id'>");
+							+ "<div class='event-log-inner' id='event-log-inner-id'>"
+								+ WebViewRegions.start("event-log"));
 			
 			if(Main.game.getEventLog().isEmpty()) {
 				uiAttributeSB.append("<p style='text-align:center;padding:0;margin:0;'><span style='color:"+Colour.TEXT_GREY.toWebHexString()+";'>No events yet...</span></p>");
@@ -1547,7 +1556,8 @@ public enum RenderingEngine {
 					count++;
 				}
 			}
-			uiAttributeSB.append("</div>"
+			uiAttributeSB.append(WebViewRegions.end("event-log")
+						+ "</div>"
 					+ "</div>");
 		
 		}
@@ -1,7 +1,5 @@
 package com.lilithsthrone.rendering;
 
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
@@ -9,1471 +7,1003 @@ import java.util.Map;
 import com.lilithsthrone.game.inventory.enchanting.AbstractItemEffectType;
 import com.lilithsthrone.game.inventory.enchanting.ItemEffectType;
 import com.lilithsthrone.game.inventory.enchanting.TFModifier;
+import com.lilithsthrone.rendering.AssetRegistry.Asset;
 import com.lilithsthrone.utils.Colour;
 import com.lilithsthrone.utils.SvgUtil;
-import com.lilithsthrone.utils.Util;
 
 /**
  * @since 0.1.0
- * @version 0.3.5.5
+ * @version 0.3.5.8
  * @author Innoxia
  */
 public enum SVGImages {
 	SVG_IMAGE_PROVIDER;
 
-	private String
-
-			displacedIcon, concealedIcon, cummedInIcon, feminineWarningIcon, masculineWarningIcon, jinxedIcon, tattooSwitchTattoo, tattooSwitchClothing, scarIcon,
-
-			menuIcon,
-			inventoryIcon, inventoryIconDisabled,
-			questInventoryIcon, questInventoryIconDisabled,
-			journalIcon, peopleIcon, zoomInIcon, zoomOutIcon, copyIcon, exportIcon, calendarIcon, informationIcon, addIcon,
-
-			diskSave, diskSaveDisabled, diskSaveConfirm, diskOverwrite, diskLoad, diskLoadConfirm, diskLoadDisabled, diskDelete, diskDeleteConfirm,
-			
-			itemsOnFloorIcon,
-			
-			cornerGlowNight, cornerGlowTwilight,
-			
-			drinkSmall, drink,
-			
-			dice1, dice2, dice3, dice4, dice5, dice6, diceGlow,
-			
-			playerMapIconMasculine,
-			playerMapIconAndrogynous,
-			playerMapIconFeminine,
-			playerMapDangerousIcon,
-
-			raceBackground, raceBackgroundHalf, raceBackgroundSlime, raceBackgroundDemon, raceUnknown, raceDobermann, raceDobermannDesaturated,
-			
-			perkTreeArrow, spellOverlay,
-
-			weatherDayClear, weatherDayCloud, weatherDayRain, weatherDaySnow, weatherDayStormIncoming, weatherDayStorm, weatherDayStormProtected,
-			weatherNightClear, weatherNightCloud, weatherNightRain, weatherNightSnow, weatherNightStormIncoming, weatherNightStorm, weatherNightStormProtected,
-
-			womensWatchHourHand, womensWatchMinuteHand, mensWatchHourHand, mensWatchMinuteHand,
-			
-			protectionEnabled, protectionDisabled, tattoo,
-			
-			responseCombat, responseSex, responseLocked, responseUnlocked, responseUnlockedDisabled, responseOption, responseOptionDisabled, responseCorruptionBypass,
-			responseSubResist, responseSubNormal, responseSubEager,
-			responseDomGentle, responseDomNormal, responseDomRough,
-			responseSexSwitch, responseSexAdditional,
-			
-			NPCWarningMale, NPCWarningFemale, NPCWarningDemon,
-
-			stopwatch,
-			
-			counterZero, counterOne, counterTwo, counterThree, counterFour, counterFive, counterFivePlus,
-			counterZeroDisabled, counterOneDisabled, counterTwoDisabled, counterThreeDisabled, counterFourDisabled, counterFiveDisabled, counterFivePlusDisabled,
-			
-			scaleZero, scaleOne, scaleTwo, scaleThree, scaleFour,
-			scaleZeroDisabled, scaleOneDisabled, scaleTwoDisabled, scaleThreeDisabled, scaleFourDisabled,
-
-			slaveBuy, slaveBuyDisabled, slaveSell, slaveSellDisabled, slaveInspect, slaveInspectDisabled, slaveJob, slaveJobDisabled,
-			slavePermissionsDisabled, slavePermissions, slaveTransfer, slaveTransferDisabled, slaveCosmetics, slaveCosmeticsDisabled,
-			
-			transactionBuy, transactionBuyDisabled, transactionBid, transactionBidDisabled, transactionSell, transactionSellDisabled,
-			
-			// Effects:
-			creampie, creampieMasochist,
-			fluidIngested, fluidIngestedMasochist,
-			
-			// Items:
-			
-			hypnoWatchBase, hypnoWatchGynephilic, hypnoWatchAmbiphilic, hypnoWatchAndrophilic,
-			
-			// Sex:
-			coverableAreaMouth,
-			coverableAreaAnus, coverableAreaAss,
-			coverableAreaBreasts, coverableAreaBreastsFlat, coverableAreaNipple,
-			coverableAreaBreastsCrotch, coverableAreaUdders, coverableAreaNippleCrotch,
-			coverableAreaVagina, coverableAreaUrethraVagina,
-			coverableAreaMound,
-			coverableAreaThighs,
-			coverableAreaUrethraPenis,
-			
-			penetrationTypeFinger, penetrationTypePenis, penetrationTypeTail, penetrationTypeTongue, penetrationTypeFoot, penetrationTypeClit,
-			combinationStretching, combinationTooLoose, combinationWet, combinationDry,
-			stretching, holeTooBig,
-			activeSexBackground;
-
-	private Map<Integer, String> youkoTailsMap = new HashMap<>();
-	private Map<Integer, String> youkoTailsDesaturatedMap = new HashMap<>();
-	private Map<Integer, String> youkoTailsDemonMap = new HashMap<>();
-	
+	/*
+	 * Each icon is only read (and coloured) the first time that it's needed, or when AssetRegistry prewarms it once the main menu is showing.
+	 */
+
+	private final Asset<String> displacedIcon = svg("/com/lilithsthrone/res/InventoryIcons/displacedWarningIcon.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> concealedIcon = svg("/com/lilithsthrone/res/InventoryIcons/concealed.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> cummedInIcon = svg("/com/lilithsthrone/res/InventoryIcons/cummedInWarningIcon.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> feminineWarningIcon = svg("/com/lilithsthrone/res/InventoryIcons/feminineWarningIcon.svg", Colour.FEMININE, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> masculineWarningIcon = svg("/com/lilithsthrone/res/InventoryIcons/masculineWarningIcon.svg", Colour.BASE_BLUE_LIGHT, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> jinxedIcon = svg("/com/lilithsthrone/res/InventoryIcons/jinxed.svg", Colour.ATTRIBUTE_CORRUPTION, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> tattooSwitchTattoo = svg("/com/lilithsthrone/res/InventoryIcons/tattooSwitchTattoo.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> tattooSwitchClothing = svg("/com/lilithsthrone/res/InventoryIcons/tattooSwitchClothing.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> scarIcon = svg("/com/lilithsthrone/res/InventoryIcons/scar.svg", null, AssetRegistry.PRIORITY_COMMON);
+
+	private final Asset<String> menuIcon = svg("/com/lilithsthrone/res/UIElements/menu.svg", null, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> inventoryIcon = svg("/com/lilithsthrone/res/UIElements/inventory.svg", Colour.BASE_BLACK, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> inventoryIconDisabled = svg("/com/lilithsthrone/res/UIElements/inventory.svg", Colour.BASE_PITCH_BLACK, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> questInventoryIcon = svg("/com/lilithsthrone/res/UIElements/questInventory.svg", Colour.BASE_BLACK, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> questInventoryIconDisabled = svg("/com/lilithsthrone/res/UIElements/questInventory.svg", Colour.BASE_PITCH_BLACK, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> itemsOnFloorIcon = svg("/com/lilithsthrone/res/UIElements/itemsOnFloor.svg", Colour.BASE_BLACK, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> cornerGlowNight = svg("/com/lilithsthrone/res/UIElements/cornerGlow.svg", Colour.BASE_PITCH_BLACK, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> cornerGlowTwilight = svg("/com/lilithsthrone/res/UIElements/cornerGlowLight.svg", Colour.BASE_PITCH_BLACK, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> drinkSmall = svg("/com/lilithsthrone/res/UIElements/drink_small.svg", Colour.BASE_WHITE, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> drink = svg("/com/lilithsthrone/res/UIElements/drink.svg", Colour.BASE_WHITE, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> dice1 = svg("/com/lilithsthrone/res/UIElements/dice1.svg", Colour.BASE_WHITE, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> dice2 = svg("/com/lilithsthrone/res/UIElements/dice2.svg", Colour.BASE_WHITE, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> dice3 = svg("/com/lilithsthrone/res/UIElements/dice3.svg", Colour.BASE_WHITE, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> dice4 = svg("/com/lilithsthrone/res/UIElements/dice4.svg", Colour.BASE_WHITE, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> dice5 = svg("/com/lilithsthrone/res/UIElements/dice5.svg", Colour.BASE_WHITE, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> dice6 = svg("/com/lilithsthrone/res/UIElements/dice6.svg", Colour.BASE_WHITE, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> diceGlow = svg("/com/lilithsthrone/res/UIElements/glow.svg", Colour.BASE_GOLD, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> journalIcon = svg("/com/lilithsthrone/res/UIElements/journal.svg", null, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> peopleIcon = svg("/com/lilithsthrone/res/UIElements/people.svg", null, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> zoomInIcon = svg("/com/lilithsthrone/res/UIElements/zoomIn.svg", null, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> zoomOutIcon = svg("/com/lilithsthrone/res/UIElements/zoomOut.svg", null, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> copyIcon = svg("/com/lilithsthrone/res/UIElements/copy.svg", Colour.BASE_BLACK, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> exportIcon = svg("/com/lilithsthrone/res/UIElements/export.svg", Colour.BASE_BLACK, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> informationIcon = svg("/com/lilithsthrone/res/UIElements/information.svg", Colour.BASE_BLACK, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> addIcon = svg("/com/lilithsthrone/res/UIElements/add.svg", Colour.BASE_BLACK, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> calendarIcon = svg("/com/lilithsthrone/res/UIElements/calendar.svg", Colour.BASE_CRIMSON, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> diskSave = svg("/com/lilithsthrone/res/UIElements/diskSave.svg", Colour.BASE_BLACK, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> diskSaveDisabled = svg("/com/lilithsthrone/res/UIElements/diskSave.svg", Colour.BASE_GREY, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> diskOverwrite = svg("/com/lilithsthrone/res/UIElements/diskSave.svg", Colour.BASE_BLACK, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> diskSaveConfirm = svg("/com/lilithsthrone/res/UIElements/diskSave.svg", Colour.GENERIC_EXCELLENT, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> diskLoad = svg("/com/lilithsthrone/res/UIElements/diskLoad.svg", Colour.BASE_BLUE_LIGHT, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> diskLoadConfirm = svg("/com/lilithsthrone/res/UIElements/diskLoad.svg", Colour.GENERIC_EXCELLENT, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> diskLoadDisabled = svg("/com/lilithsthrone/res/UIElements/diskLoad.svg", Colour.BASE_GREY, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> diskDelete = svg("/com/lilithsthrone/res/UIElements/diskDelete.svg", Colour.BASE_CRIMSON, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> diskDeleteConfirm = svg("/com/lilithsthrone/res/UIElements/diskDelete.svg", Colour.GENERIC_EXCELLENT, AssetRegistry.PRIORITY_UI);
+
+	private final Asset<String> playerMapIconMasculine = svg("/com/lilithsthrone/res/map/playerIcon.svg", Colour.MASCULINE_PLUS, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> playerMapIconAndrogynous = svg("/com/lilithsthrone/res/map/playerIcon.svg", Colour.ANDROGYNOUS, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> playerMapIconFeminine = svg("/com/lilithsthrone/res/map/playerIcon.svg", Colour.FEMININE_PLUS, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> playerMapDangerousIcon = svg("/com/lilithsthrone/res/map/playerIcon.svg", Colour.GENERIC_BAD, AssetRegistry.PRIORITY_COMMON);
+
+	private final Asset<String> raceBackground = svg("/com/lilithsthrone/res/statusEffects/race/raceBackground.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> raceBackgroundHalf = svg("/com/lilithsthrone/res/statusEffects/race/raceBackgroundHalf.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> raceBackgroundSlime = svg("/com/lilithsthrone/res/statusEffects/race/raceBackgroundSlime.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> raceBackgroundDemon = svg("/com/lilithsthrone/res/statusEffects/race/raceBackgroundDemon.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> raceUnknown = svg("/com/lilithsthrone/res/statusEffects/race/raceUnknown.svg", Colour.RACE_UNKNOWN, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> raceDobermann = svg("/com/lilithsthrone/res/statusEffects/race/raceDogMorphDobermann.svg", Colour.RACE_DOG_MORPH, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> raceDobermannDesaturated = svg("/com/lilithsthrone/res/statusEffects/race/raceDogMorphDobermann.svg", Colour.BASE_GREY, AssetRegistry.PRIORITY_COMMON);
+
+	private final Asset<String> perkTreeArrow = svg("/com/lilithsthrone/res/UIElements/perkTreeArrow.svg", null, AssetRegistry.PRIORITY_UI);
+
+	private final Asset<String> spellOverlay = svg("/com/lilithsthrone/res/combat/spell/spell_overlay.svg", null, AssetRegistry.PRIORITY_COMMON);
+
+	private final Asset<String> womensWatchHourHand = svg("/com/lilithsthrone/res/clothing/wrist_womens_watch_hourhand.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> womensWatchMinuteHand = svg("/com/lilithsthrone/res/clothing/wrist_womens_watch_minutehand.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> mensWatchHourHand = svg("/com/lilithsthrone/res/clothing/wrist_mens_watch_hourhand.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> mensWatchMinuteHand = svg("/com/lilithsthrone/res/clothing/wrist_mens_watch_minutehand.svg", null, AssetRegistry.PRIORITY_COMMON);
+
+	private final Asset<String> weatherDayClear = svg("/com/lilithsthrone/res/statusEffects/weatherDayClear.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> weatherDayCloud = svg("/com/lilithsthrone/res/statusEffects/weatherDayCloudy.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> weatherDayRain = svg("/com/lilithsthrone/res/statusEffects/weatherDayRain.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> weatherDaySnow = svg("/com/lilithsthrone/res/statusEffects/weatherDaySnow.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> weatherDayStormIncoming = svg("/com/lilithsthrone/res/statusEffects/weatherDayStormIncoming.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> weatherDayStorm = svg("/com/lilithsthrone/res/statusEffects/weatherDayStorm.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> weatherDayStormProtected = svg("/com/lilithsthrone/res/statusEffects/weatherDayStormProtected.svg", Colour.CLOTHING_BLUE_LIGHT, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> weatherNightClear = svg("/com/lilithsthrone/res/statusEffects/weatherNightClear.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> weatherNightCloud = svg("/com/lilithsthrone/res/statusEffects/weatherNightCloudy.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> weatherNightRain = svg("/com/lilithsthrone/res/statusEffects/weatherNightRain.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> weatherNightSnow = svg("/com/lilithsthrone/res/statusEffects/weatherNightSnow.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> weatherNightStormIncoming = svg("/com/lilithsthrone/res/statusEffects/weatherNightStormIncoming.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> weatherNightStorm = svg("/com/lilithsthrone/res/statusEffects/weatherNightStorm.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> weatherNightStormProtected = svg("/com/lilithsthrone/res/statusEffects/weatherNightStormProtected.svg", Colour.CLOTHING_BLUE_LIGHT, AssetRegistry.PRIORITY_COMMON);
+
+	private final Asset<String> protectionDisabled = svg("/com/lilithsthrone/res/UIElements/protection.svg", Colour.CLOTHING_BLACK, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> protectionEnabled = svg("/com/lilithsthrone/res/UIElements/protection.svg", Colour.GENERIC_GOOD, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> tattoo = svg("/com/lilithsthrone/res/UIElements/tattoo.svg", Colour.CLOTHING_BLACK, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> responseCombat = svg("/com/lilithsthrone/res/UIElements/responseCombat.svg", null, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> responseSex = svg("/com/lilithsthrone/res/UIElements/responseSex.svg", null, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> responseLocked = svg("/com/lilithsthrone/res/UIElements/responseLocked.svg", Colour.GENERIC_BAD, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> responseUnlocked = svg("/com/lilithsthrone/res/UIElements/responseUnlocked.svg", Colour.GENERIC_GOOD, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> responseUnlockedDisabled = svg("/com/lilithsthrone/res/UIElements/responseUnlocked.svg", Colour.BASE_BLACK, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> responseOption = svg("/com/lilithsthrone/res/UIElements/responseOption.svg", Colour.GENERIC_GOOD, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> responseOptionDisabled = svg("/com/lilithsthrone/res/UIElements/responseOption.svg", Colour.BASE_BLACK, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> responseCorruptionBypass = svg("/com/lilithsthrone/res/UIElements/responseCorruptionBypass.svg", Colour.GENERIC_ARCANE, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> responseSubResist = svg("/com/lilithsthrone/res/UIElements/responseSubResist.svg", null, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> responseSubNormal = svg("/com/lilithsthrone/res/UIElements/responseSubNormal.svg", null, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> responseSubEager = svg("/com/lilithsthrone/res/UIElements/responseSubEager.svg", null, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> responseDomGentle = svg("/com/lilithsthrone/res/UIElements/responseDomGentle.svg", null, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> responseDomNormal = svg("/com/lilithsthrone/res/UIElements/responseDomNormal.svg", null, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> responseDomRough = svg("/com/lilithsthrone/res/UIElements/responseDomRough.svg", null, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> responseSexSwitch = svg("/com/lilithsthrone/res/UIElements/responseSexSwitch.svg", null, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> responseSexAdditional = svg("/com/lilithsthrone/res/UIElements/responseSexAdditional.svg", null, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> NPCWarningMale = svg("/com/lilithsthrone/res/UIElements/responseNPC.svg", Colour.MASCULINE_PLUS, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> NPCWarningFemale = svg("/com/lilithsthrone/res/UIElements/responseNPC.svg", Colour.FEMININE_PLUS, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> NPCWarningDemon = svg("/com/lilithsthrone/res/UIElements/responseNPC.svg", Colour.GENERIC_ARCANE, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> stopwatch = svg("/com/lilithsthrone/res/UIElements/stopwatch.svg", Colour.BASE_GREY, AssetRegistry.PRIORITY_UI);
+
+	// scales:
+
+	private final Asset<String> counterZero = svg("/com/lilithsthrone/res/fetishes/overlay0.svg", Colour.BASE_PINK, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> counterOne = svg("/com/lilithsthrone/res/fetishes/overlay1.svg", Colour.BASE_PINK, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> counterTwo = svg("/com/lilithsthrone/res/fetishes/overlay2.svg", Colour.BASE_PINK, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> counterThree = svg("/com/lilithsthrone/res/fetishes/overlay3.svg", Colour.BASE_PINK, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> counterFour = svg("/com/lilithsthrone/res/fetishes/overlay4.svg", Colour.BASE_PINK, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> counterFive = svg("/com/lilithsthrone/res/fetishes/overlay5.svg", Colour.BASE_PINK, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> counterFivePlus = svg("/com/lilithsthrone/res/fetishes/overlay5Plus.svg", Colour.BASE_PINK, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> counterZeroDisabled = svg("/com/lilithsthrone/res/fetishes/overlay0.svg", Colour.BASE_BLACK, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> counterOneDisabled = svg("/com/lilithsthrone/res/fetishes/overlay1.svg", Colour.BASE_BLACK, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> counterTwoDisabled = svg("/com/lilithsthrone/res/fetishes/overlay2.svg", Colour.BASE_BLACK, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> counterThreeDisabled = svg("/com/lilithsthrone/res/fetishes/overlay3.svg", Colour.BASE_BLACK, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> counterFourDisabled = svg("/com/lilithsthrone/res/fetishes/overlay4.svg", Colour.BASE_BLACK, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> counterFiveDisabled = svg("/com/lilithsthrone/res/fetishes/overlay5.svg", Colour.BASE_BLACK, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> counterFivePlusDisabled = svg("/com/lilithsthrone/res/fetishes/overlay5Plus.svg", Colour.BASE_BLACK, AssetRegistry.PRIORITY_COMMON);
+
+	private final Asset<String> scaleZero = svg("/com/lilithsthrone/res/UIElements/scale_zero.svg", Colour.BASE_MAGENTA, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> scaleOne = svg("/com/lilithsthrone/res/UIElements/scale_one.svg", Colour.BASE_GREEN, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> scaleTwo = svg("/com/lilithsthrone/res/UIElements/scale_two.svg", Colour.BASE_GREEN, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> scaleThree = svg("/com/lilithsthrone/res/UIElements/scale_three.svg", Colour.BASE_GREEN, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> scaleFour = svg("/com/lilithsthrone/res/UIElements/scale_four.svg", Colour.BASE_GREEN, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> scaleZeroDisabled = svg("/com/lilithsthrone/res/UIElements/scale_zero.svg", Colour.BASE_GREY, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> scaleOneDisabled = svg("/com/lilithsthrone/res/UIElements/scale_one.svg", Colour.BASE_GREY, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> scaleTwoDisabled = svg("/com/lilithsthrone/res/UIElements/scale_two.svg", Colour.BASE_GREY, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> scaleThreeDisabled = svg("/com/lilithsthrone/res/UIElements/scale_three.svg", Colour.BASE_GREY, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> scaleFourDisabled = svg("/com/lilithsthrone/res/UIElements/scale_four.svg", Colour.BASE_GREY, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> slaveBuy = svg("/com/lilithsthrone/res/UIElements/slaveBuy.svg", Colour.GENERIC_BAD, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> slaveBuyDisabled = svg("/com/lilithsthrone/res/UIElements/slaveBuyDisabled.svg", Colour.BASE_GREY, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> slaveSell = svg("/com/lilithsthrone/res/UIElements/slaveSell.svg", Colour.GENERIC_GOOD, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> slaveSellDisabled = svg("/com/lilithsthrone/res/UIElements/slaveSellDisabled.svg", Colour.BASE_GREY, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> slaveInspect = svg("/com/lilithsthrone/res/UIElements/slaveInspect.svg", Colour.BASE_BLUE_STEEL, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> slaveInspectDisabled = svg("/com/lilithsthrone/res/UIElements/slaveInspect.svg", Colour.BASE_GREY, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> slaveJob = svg("/com/lilithsthrone/res/UIElements/slaveJob.svg", Colour.BASE_BROWN_DARK, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> slaveJobDisabled = svg("/com/lilithsthrone/res/UIElements/slaveJob.svg", Colour.BASE_GREY, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> slavePermissions = svg("/com/lilithsthrone/res/UIElements/slavePermissions.svg", Colour.BASE_GREY, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> slavePermissionsDisabled = svg("/com/lilithsthrone/res/UIElements/slavePermissionsDisabled.svg", Colour.BASE_GREY, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> slaveTransfer = svg("/com/lilithsthrone/res/UIElements/slaveTransfer.svg", Colour.GENERIC_GOOD, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> slaveTransferDisabled = svg("/com/lilithsthrone/res/UIElements/slaveTransfer.svg", Colour.BASE_GREY, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> slaveCosmetics = svg("/com/lilithsthrone/res/UIElements/slaveCosmetics.svg", Colour.BASE_CRIMSON, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> slaveCosmeticsDisabled = svg("/com/lilithsthrone/res/UIElements/slaveCosmetics.svg", Colour.BASE_GREY, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> transactionBuy = svg("/com/lilithsthrone/res/UIElements/transactionBuy.svg", null, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> transactionBuyDisabled = svg("/com/lilithsthrone/res/UIElements/transactionBuyDisabled.svg", Colour.BASE_GREY, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> transactionBid = svg("/com/lilithsthrone/res/UIElements/transactionBid.svg", Colour.BASE_BROWN, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> transactionBidDisabled = svg("/com/lilithsthrone/res/UIElements/transactionBid.svg", Colour.BASE_GREY, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> transactionSell = svg("/com/lilithsthrone/res/UIElements/transactionSell.svg", null, AssetRegistry.PRIORITY_UI);
+	private final Asset<String> transactionSellDisabled = svg("/com/lilithsthrone/res/UIElements/transactionSellDisabled.svg", Colour.BASE_GREY, AssetRegistry.PRIORITY_UI);
+
+	// Effects:
+
+	private final Asset<String> creampie = svg("/com/lilithsthrone/res/statusEffects/creampie.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> creampieMasochist = svg("/com/lilithsthrone/res/statusEffects/creampieMasochist.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> fluidIngested = svg("/com/lilithsthrone/res/statusEffects/fluidIngested.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> fluidIngestedMasochist = svg("/com/lilithsthrone/res/statusEffects/fluidIngestedMasochist.svg", null, AssetRegistry.PRIORITY_COMMON);
+
+	// Items:
+
+	private final Asset<String> hypnoWatchBase = svg("/com/lilithsthrone/res/items/hypnoClockBase.svg", Colour.BASE_GREY, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> hypnoWatchGynephilic = svg("/com/lilithsthrone/res/items/hypnoClockGyne.svg", Colour.FEMININE_PLUS, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> hypnoWatchAmbiphilic = svg("/com/lilithsthrone/res/items/hypnoClockAmbi.svg", Colour.ANDROGYNOUS, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> hypnoWatchAndrophilic = svg("/com/lilithsthrone/res/items/hypnoClockAndro.svg", Colour.MASCULINE_PLUS, AssetRegistry.PRIORITY_COMMON);
+
+	// Sex:
+
+	private final Asset<String> coverableAreaAnus = svg("/com/lilithsthrone/res/statusEffects/sexEffects/coverableAreaAnus.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> coverableAreaAss = svg("/com/lilithsthrone/res/statusEffects/sexEffects/coverableAreaAss.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> coverableAreaMouth = svg("/com/lilithsthrone/res/statusEffects/sexEffects/coverableAreaMouth.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> coverableAreaBreasts = svg("/com/lilithsthrone/res/statusEffects/sexEffects/coverableAreaBreasts.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> coverableAreaBreastsFlat = svg("/com/lilithsthrone/res/statusEffects/sexEffects/coverableAreaBreastsFlat.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> coverableAreaNipple = svg("/com/lilithsthrone/res/statusEffects/sexEffects/coverableAreaNipple.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> coverableAreaVagina = svg("/com/lilithsthrone/res/statusEffects/sexEffects/coverableAreaVagina.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> coverableAreaMound = svg("/com/lilithsthrone/res/statusEffects/sexEffects/coverableAreaMound.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> coverableAreaBreastsCrotch = svg("/com/lilithsthrone/res/statusEffects/sexEffects/coverableAreaBreastsCrotch.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> coverableAreaUdders = svg("/com/lilithsthrone/res/statusEffects/sexEffects/coverableAreaUdders.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> coverableAreaNippleCrotch = svg("/com/lilithsthrone/res/statusEffects/sexEffects/coverableAreaNippleCrotch.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> coverableAreaUrethraVagina = svg("/com/lilithsthrone/res/statusEffects/sexEffects/coverableAreaUrethraVagina.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> coverableAreaUrethraPenis = svg("/com/lilithsthrone/res/statusEffects/sexEffects/coverableAreaUrethraPenis.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> coverableAreaThighs = svg("/com/lilithsthrone/res/statusEffects/sexEffects/coverableAreaThighs.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> penetrationTypeFinger = svg("/com/lilithsthrone/res/statusEffects/sexEffects/penetrationTypeFinger.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> penetrationTypePenis = svg("/com/lilithsthrone/res/statusEffects/sexEffects/penetrationTypePenis.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> penetrationTypeTail = svg("/com/lilithsthrone/res/statusEffects/sexEffects/penetrationTypeTail.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> penetrationTypeTongue = svg("/com/lilithsthrone/res/statusEffects/sexEffects/penetrationTypeTongue.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> penetrationTypeFoot = svg("/com/lilithsthrone/res/statusEffects/sexEffects/penetrationTypeFoot.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> penetrationTypeClit = svg("/com/lilithsthrone/res/statusEffects/sexEffects/penetrationTypeClit.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> combinationStretching = svg("/com/lilithsthrone/res/statusEffects/sexEffects/combinationStretching.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> combinationTooLoose = svg("/com/lilithsthrone/res/statusEffects/sexEffects/combinationTooLoose.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> combinationWet = svg("/com/lilithsthrone/res/statusEffects/sexEffects/combinationWet.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> combinationDry = svg("/com/lilithsthrone/res/statusEffects/sexEffects/combinationDry.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> stretching = svg("/com/lilithsthrone/res/statusEffects/sexEffects/stretching.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> holeTooBig = svg("/com/lilithsthrone/res/statusEffects/sexEffects/holeTooBig.svg", null, AssetRegistry.PRIORITY_COMMON);
+	private final Asset<String> activeSexBackground = svg("/com/lilithsthrone/res/statusEffects/sexEffects/active_background.svg", null, AssetRegistry.PRIORITY_COMMON);
+
+	private final Asset<Map<Integer, String>> youkoTailsMap = foxTails(Colour.RACE_FOX_MORPH);
+	private final Asset<Map<Integer, String>> youkoTailsDesaturatedMap = foxTails(Colour.BASE_GREY);
+	private final Asset<Map<Integer, String>> youkoTailsDemonMap = foxTails(Colour.RACE_HALF_DEMON);
+
+	// These depend on the item effect types, which may include modded ones that are still loading, so are never prewarmed:
+	private final Asset<Map<Colour, String>> refinedBackgroundMap = AssetRegistry.register("refinedBackgroundMap", AssetRegistry.PRIORITY_ON_DEMAND, () -> {
+		String baseSVGString = AssetRegistry.readResource("/com/lilithsthrone/res/items/refined_background.svg");
+		Map<Colour, String> map = new EnumMap<>(Colour.class);
+		for(AbstractItemEffectType effect : ItemEffectType.getAllEffectTypes()) {
+			map.put(effect.getColour(), setColour(baseSVGString, effect.getColour()));
+		}
+		return map;
+	});
+	private final Asset<Map<Colour, String>> refinedSwirlsMap = AssetRegistry.register("refinedSwirlsMap", AssetRegistry.PRIORITY_ON_DEMAND, () -> {
+		String baseSVGString = AssetRegistry.readResource("/com/lilithsthrone/res/items/refined_swirls.svg");
+		Map<Colour, String> map = new EnumMap<>(Colour.class);
+		for(TFModifier secondaryModifier : TFModifier.values()) {
+			map.put(secondaryModifier.getColour(), setColour(baseSVGString, secondaryModifier.getColour()));
+		}
+		return map;
+	});
+
+	/**
+	 * @param colourShade The colour to replace the SVG's primary colour with, or null if it's not to be recoloured.
+	 */
+	private static Asset<String> svg(String path, Colour colourShade, int priority) {
+		return AssetRegistry.register(path, priority, () -> {
+			String s = AssetRegistry.readResource(path);
+			if(colourShade!=null) {
+				s = setColour(s, colourShade);
+			}
+			return s;
+		});
+	}
 
-	private Map<Colour, String> refinedBackgroundMap = new EnumMap<>(Colour.class);
-	private Map<Colour, String> refinedSwirlsMap = new EnumMap<>(Colour.class);
-
-	@SuppressWarnings("resource")
-	private SVGImages() {
-
-		try {
-			InputStream is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/InventoryIcons/displacedWarningIcon.svg");
-			displacedIcon = Util.inputStreamToString(is);
-
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/InventoryIcons/concealed.svg");
-			concealedIcon = Util.inputStreamToString(is);
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/InventoryIcons/cummedInWarningIcon.svg");
-			cummedInIcon = Util.inputStreamToString(is);
-
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/InventoryIcons/feminineWarningIcon.svg");
-			feminineWarningIcon = Util.inputStreamToString(is);
-			feminineWarningIcon = setColour(feminineWarningIcon, Colour.FEMININE);
-
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/InventoryIcons/masculineWarningIcon.svg");
-			masculineWarningIcon = Util.inputStreamToString(is);
-			masculineWarningIcon = setColour(masculineWarningIcon, Colour.BASE_BLUE_LIGHT);
-
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/InventoryIcons/jinxed.svg");
-			jinxedIcon = Util.inputStreamToString(is);
-			jinxedIcon = setColour(jinxedIcon, Colour.ATTRIBUTE_CORRUPTION);
-
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/InventoryIcons/tattooSwitchTattoo.svg");
-			tattooSwitchTattoo = Util.inputStreamToString(is);
-
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/InventoryIcons/tattooSwitchClothing.svg");
-			tattooSwitchClothing = Util.inputStreamToString(is);
-
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/InventoryIcons/scar.svg");
-			scarIcon = Util.inputStreamToString(is);
-
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/menu.svg");
-			menuIcon = Util.inputStreamToString(is);
-
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/inventory.svg");
-			inventoryIcon = Util.inputStreamToString(is);
-			inventoryIcon = setColour(inventoryIcon, Colour.BASE_BLACK);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/inventory.svg");
-			inventoryIconDisabled = Util.inputStreamToString(is);
-			inventoryIconDisabled = setColour(inventoryIconDisabled, Colour.BASE_PITCH_BLACK);
-
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/questInventory.svg");
-			questInventoryIcon = Util.inputStreamToString(is);
-			questInventoryIcon = setColour(questInventoryIcon, Colour.BASE_BLACK);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/questInventory.svg");
-			questInventoryIconDisabled = Util.inputStreamToString(is);
-			questInventoryIconDisabled = setColour(questInventoryIconDisabled, Colour.BASE_PITCH_BLACK);
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/itemsOnFloor.svg");
-			itemsOnFloorIcon = Util.inputStreamToString(is);
-			itemsOnFloorIcon = setColour(itemsOnFloorIcon, Colour.BASE_BLACK);
-
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/cornerGlow.svg");
-			cornerGlowNight = Util.inputStreamToString(is);
-			cornerGlowNight = setColour(cornerGlowNight, Colour.BASE_PITCH_BLACK);
-
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/cornerGlowLight.svg");
-			cornerGlowTwilight = Util.inputStreamToString(is);
-			cornerGlowTwilight = setColour(cornerGlowTwilight, Colour.BASE_PITCH_BLACK);
-			
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/drink_small.svg");
-			drinkSmall = Util.inputStreamToString(is);
-			drinkSmall = setColour(drinkSmall, Colour.BASE_WHITE);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/drink.svg");
-			drink = Util.inputStreamToString(is);
-			drink = setColour(drink, Colour.BASE_WHITE);
-
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/dice1.svg");
-			dice1 = Util.inputStreamToString(is);
-			dice1 = setColour(dice1, Colour.BASE_WHITE);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/dice2.svg");
-			dice2 = Util.inputStreamToString(is);
-			dice2 = setColour(dice2, Colour.BASE_WHITE);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/dice3.svg");
-			dice3 = Util.inputStreamToString(is);
-			dice3 = setColour(dice3, Colour.BASE_WHITE);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/dice4.svg");
-			dice4 = Util.inputStreamToString(is);
-			dice4 = setColour(dice4, Colour.BASE_WHITE);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/dice5.svg");
-			dice5 = Util.inputStreamToString(is);
-			dice5 = setColour(dice5, Colour.BASE_WHITE);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/dice6.svg");
-			dice6 = Util.inputStreamToString(is);
-			dice6 = setColour(dice6, Colour.BASE_WHITE);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/glow.svg");
-			diceGlow = Util.inputStreamToString(is);
-			diceGlow = setColour(diceGlow, Colour.BASE_GOLD);
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/journal.svg");
-			journalIcon = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/people.svg");
-			peopleIcon = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/zoomIn.svg");
-			zoomInIcon = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/zoomOut.svg");
-			zoomOutIcon = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/copy.svg");
-			copyIcon = Util.inputStreamToString(is);
-			copyIcon = setColour(copyIcon, Colour.BASE_BLACK);
-
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/export.svg");
-			exportIcon = Util.inputStreamToString(is);
-			exportIcon = setColour(exportIcon, Colour.BASE_BLACK);
-
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/information.svg");
-			informationIcon = Util.inputStreamToString(is);
-			informationIcon = setColour(informationIcon, Colour.BASE_BLACK);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/add.svg");
-			addIcon = Util.inputStreamToString(is);
-			addIcon = setColour(addIcon, Colour.BASE_BLACK);
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/calendar.svg");
-			calendarIcon = Util.inputStreamToString(is);
-			calendarIcon = setColour(calendarIcon, Colour.BASE_CRIMSON);
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/diskSave.svg");
-			diskSave = Util.inputStreamToString(is);
-			diskSave = setColour(diskSave, Colour.BASE_BLACK);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/diskSave.svg");
-			diskSaveDisabled = Util.inputStreamToString(is);
-			diskSaveDisabled = setColour(diskSaveDisabled, Colour.BASE_GREY);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/diskSave.svg");
-			diskOverwrite = Util.inputStreamToString(is);
-			diskOverwrite = setColour(diskOverwrite, Colour.BASE_BLACK);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/diskSave.svg");
-			diskSaveConfirm = Util.inputStreamToString(is);
-			diskSaveConfirm = setColour(diskSaveConfirm, Colour.GENERIC_EXCELLENT);
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/diskLoad.svg");
-			diskLoad = Util.inputStreamToString(is);
-			diskLoad = setColour(diskLoad, Colour.BASE_BLUE_LIGHT);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/diskLoad.svg");
-			diskLoadConfirm = Util.inputStreamToString(is);
-			diskLoadConfirm = setColour(diskLoadConfirm, Colour.GENERIC_EXCELLENT);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/diskLoad.svg");
-			diskLoadDisabled = Util.inputStreamToString(is);
-			diskLoadDisabled = setColour(diskLoadDisabled, Colour.BASE_GREY);
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/diskDelete.svg");
-			diskDelete = Util.inputStreamToString(is);
-			diskDelete = setColour(diskDelete, Colour.BASE_CRIMSON);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/diskDelete.svg");
-			diskDeleteConfirm = Util.inputStreamToString(is);
-			diskDeleteConfirm = setColour(diskDeleteConfirm, Colour.GENERIC_EXCELLENT);
-			
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/map/playerIcon.svg");
-			playerMapIconMasculine = Util.inputStreamToString(is);
-			playerMapIconMasculine = setColour(playerMapIconMasculine, Colour.MASCULINE_PLUS);
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/map/playerIcon.svg");
-			playerMapIconAndrogynous = Util.inputStreamToString(is);
-			playerMapIconAndrogynous = setColour(playerMapIconAndrogynous, Colour.ANDROGYNOUS);
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/map/playerIcon.svg");
-			playerMapIconFeminine = Util.inputStreamToString(is);
-			playerMapIconFeminine = setColour(playerMapIconFeminine, Colour.FEMININE_PLUS);
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/map/playerIcon.svg");
-			playerMapDangerousIcon = Util.inputStreamToString(is);
-			playerMapDangerousIcon = setColour(playerMapDangerousIcon, Colour.GENERIC_BAD);
-
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/race/raceBackground.svg");
-			raceBackground = Util.inputStreamToString(is);
-
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/race/raceBackgroundHalf.svg");
-			raceBackgroundHalf = Util.inputStreamToString(is);
-
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/race/raceBackgroundSlime.svg");
-			raceBackgroundSlime = Util.inputStreamToString(is);
-
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/race/raceBackgroundDemon.svg");
-			raceBackgroundDemon = Util.inputStreamToString(is);
-			
-			
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/race/raceUnknown.svg");
-			raceUnknown = Util.inputStreamToString(is);
-			raceUnknown = setColour(raceUnknown, Colour.RACE_UNKNOWN);
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/race/raceDogMorphDobermann.svg");
-			raceDobermann = Util.inputStreamToString(is);
-			raceDobermann = setColour(raceDobermann, Colour.RACE_DOG_MORPH);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/race/raceDogMorphDobermann.svg");
-			raceDobermannDesaturated = Util.inputStreamToString(is);
-			raceDobermannDesaturated = setColour(raceDobermannDesaturated, Colour.BASE_GREY);
-			
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/perkTreeArrow.svg");
-			perkTreeArrow = Util.inputStreamToString(is);
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/combat/spell/spell_overlay.svg");
-			spellOverlay = Util.inputStreamToString(is);
-
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/clothing/wrist_womens_watch_hourhand.svg");
-			womensWatchHourHand = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/clothing/wrist_womens_watch_minutehand.svg");
-			womensWatchMinuteHand = Util.inputStreamToString(is);
-
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/clothing/wrist_mens_watch_hourhand.svg");
-			mensWatchHourHand = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/clothing/wrist_mens_watch_minutehand.svg");
-			mensWatchMinuteHand = Util.inputStreamToString(is);
-
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/weatherDayClear.svg");
-			weatherDayClear = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/weatherDayCloudy.svg");
-			weatherDayCloud = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/weatherDayRain.svg");
-			weatherDayRain = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/weatherDaySnow.svg");
-			weatherDaySnow = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/weatherDayStormIncoming.svg");
-			weatherDayStormIncoming = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/weatherDayStorm.svg");
-			weatherDayStorm = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/weatherDayStormProtected.svg");
-			weatherDayStormProtected = Util.inputStreamToString(is);
-			weatherDayStormProtected = setColour(weatherDayStormProtected, Colour.CLOTHING_BLUE_LIGHT);
-
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/weatherNightClear.svg");
-			weatherNightClear = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/weatherNightCloudy.svg");
-			weatherNightCloud = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/weatherNightRain.svg");
-			weatherNightRain = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/weatherNightSnow.svg");
-			weatherNightSnow = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/weatherNightStormIncoming.svg");
-			weatherNightStormIncoming = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/weatherNightStorm.svg");
-			weatherNightStorm = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/weatherNightStormProtected.svg");
-			weatherNightStormProtected = Util.inputStreamToString(is);
-			weatherNightStormProtected = setColour(weatherNightStormProtected, Colour.CLOTHING_BLUE_LIGHT);
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/protection.svg");
-			protectionDisabled = Util.inputStreamToString(is);
-			protectionDisabled = setColour(protectionDisabled, Colour.CLOTHING_BLACK);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/protection.svg");
-			protectionEnabled = Util.inputStreamToString(is);
-			protectionEnabled = setColour(protectionEnabled, Colour.GENERIC_GOOD);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/tattoo.svg");
-			tattoo = Util.inputStreamToString(is);
-			tattoo = setColour(tattoo, Colour.CLOTHING_BLACK);
-			
-
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/responseCombat.svg");
-			responseCombat = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/responseSex.svg");
-			responseSex = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/responseLocked.svg");
-			responseLocked = Util.inputStreamToString(is);
-			responseLocked = setColour(responseLocked, Colour.GENERIC_BAD);
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/responseUnlocked.svg");
-			responseUnlocked = Util.inputStreamToString(is);
-			responseUnlocked = setColour(responseUnlocked, Colour.GENERIC_GOOD);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/responseUnlocked.svg");
-			responseUnlockedDisabled = Util.inputStreamToString(is);
-			responseUnlockedDisabled = setColour(responseUnlockedDisabled, Colour.BASE_BLACK);
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/responseOption.svg");
-			responseOption = Util.inputStreamToString(is);
-			responseOption = setColour(responseOption, Colour.GENERIC_GOOD);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/responseOption.svg");
-			responseOptionDisabled = Util.inputStreamToString(is);
-			responseOptionDisabled = setColour(responseOptionDisabled, Colour.BASE_BLACK);
-			
-			
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/responseCorruptionBypass.svg");
-			responseCorruptionBypass = Util.inputStreamToString(is);
-			responseCorruptionBypass = setColour(responseCorruptionBypass, Colour.GENERIC_ARCANE);
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/responseSubResist.svg");
-			responseSubResist = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/responseSubNormal.svg");
-			responseSubNormal = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/responseSubEager.svg");
-			responseSubEager = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/responseDomGentle.svg");
-			responseDomGentle = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/responseDomNormal.svg");
-			responseDomNormal = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/responseDomRough.svg");
-			responseDomRough = Util.inputStreamToString(is);
-
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/responseSexSwitch.svg");
-			responseSexSwitch = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/responseSexAdditional.svg");
-			responseSexAdditional = Util.inputStreamToString(is);
-			
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/responseNPC.svg");
-			NPCWarningMale = Util.inputStreamToString(is);
-			NPCWarningMale = setColour(NPCWarningMale, Colour.MASCULINE_PLUS);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/responseNPC.svg");
-			NPCWarningFemale = Util.inputStreamToString(is);
-			NPCWarningFemale = setColour(NPCWarningFemale, Colour.FEMININE_PLUS);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/responseNPC.svg");
-			NPCWarningDemon = Util.inputStreamToString(is);
-			NPCWarningDemon = setColour(NPCWarningDemon, Colour.GENERIC_ARCANE);
-			
-			
-
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/stopwatch.svg");
-			stopwatch = Util.inputStreamToString(is);
-			stopwatch = setColour(stopwatch, Colour.BASE_GREY);
-			
-			// scales:
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/fetishes/overlay0.svg");
-			counterZero = Util.inputStreamToString(is);
-			counterZero = setColour(counterZero, Colour.BASE_PINK);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/fetishes/overlay1.svg");
-			counterOne = Util.inputStreamToString(is);
-			counterOne = setColour(counterOne, Colour.BASE_PINK);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/fetishes/overlay2.svg");
-			counterTwo = Util.inputStreamToString(is);
-			counterTwo = setColour(counterTwo, Colour.BASE_PINK);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/fetishes/overlay3.svg");
-			counterThree = Util.inputStreamToString(is);
-			counterThree = setColour(counterThree, Colour.BASE_PINK);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/fetishes/overlay4.svg");
-			counterFour = Util.inputStreamToString(is);
-			counterFour = setColour(counterFour, Colour.BASE_PINK);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/fetishes/overlay5.svg");
-			counterFive = Util.inputStreamToString(is);
-			counterFive = setColour(counterFive, Colour.BASE_PINK);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/fetishes/overlay5Plus.svg");
-			counterFivePlus = Util.inputStreamToString(is);
-			counterFivePlus = setColour(counterFivePlus, Colour.BASE_PINK);
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/fetishes/overlay0.svg");
-			counterZeroDisabled = Util.inputStreamToString(is);
-			counterZeroDisabled = setColour(counterZeroDisabled, Colour.BASE_BLACK);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/fetishes/overlay1.svg");
-			counterOneDisabled = Util.inputStreamToString(is);
-			counterOneDisabled = setColour(counterOneDisabled, Colour.BASE_BLACK);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/fetishes/overlay2.svg");
-			counterTwoDisabled = Util.inputStreamToString(is);
-			counterTwoDisabled = setColour(counterTwoDisabled, Colour.BASE_BLACK);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/fetishes/overlay3.svg");
-			counterThreeDisabled = Util.inputStreamToString(is);
-			counterThreeDisabled = setColour(counterThreeDisabled, Colour.BASE_BLACK);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/fetishes/overlay4.svg");
-			counterFourDisabled = Util.inputStreamToString(is);
-			counterFourDisabled = setColour(counterFourDisabled, Colour.BASE_BLACK);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/fetishes/overlay5.svg");
-			counterFiveDisabled = Util.inputStreamToString(is);
-			counterFiveDisabled = setColour(counterFiveDisabled, Colour.BASE_BLACK);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/fetishes/overlay5Plus.svg");
-			counterFivePlusDisabled = Util.inputStreamToString(is);
-			counterFivePlusDisabled = setColour(counterFivePlusDisabled, Colour.BASE_BLACK);
-			
-
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/scale_zero.svg");
-			scaleZero = Util.inputStreamToString(is);
-			scaleZero = setColour(scaleZero, Colour.BASE_MAGENTA);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/scale_one.svg");
-			scaleOne = Util.inputStreamToString(is);
-			scaleOne = setColour(scaleOne, Colour.BASE_GREEN);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/scale_two.svg");
-			scaleTwo = Util.inputStreamToString(is);
-			scaleTwo = setColour(scaleTwo, Colour.BASE_GREEN);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/scale_three.svg");
-			scaleThree = Util.inputStreamToString(is);
-			scaleThree = setColour(scaleThree, Colour.BASE_GREEN);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/scale_four.svg");
-			scaleFour = Util.inputStreamToString(is);
-			scaleFour = setColour(scaleFour, Colour.BASE_GREEN);
-
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/scale_zero.svg");
-			scaleZeroDisabled = Util.inputStreamToString(is);
-			scaleZeroDisabled = setColour(scaleZeroDisabled, Colour.BASE_GREY);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/scale_one.svg");
-			scaleOneDisabled = Util.inputStreamToString(is);
-			scaleOneDisabled = setColour(scaleOneDisabled, Colour.BASE_GREY);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/scale_two.svg");
-			scaleTwoDisabled = Util.inputStreamToString(is);
-			scaleTwoDisabled = setColour(scaleTwoDisabled, Colour.BASE_GREY);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/scale_three.svg");
-			scaleThreeDisabled = Util.inputStreamToString(is);
-			scaleThreeDisabled = setColour(scaleThreeDisabled, Colour.BASE_GREY);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/scale_four.svg");
-			scaleFourDisabled = Util.inputStreamToString(is);
-			scaleFourDisabled = setColour(scaleFourDisabled, Colour.BASE_GREY);
-			
-			
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/slaveBuy.svg");
-			slaveBuy = Util.inputStreamToString(is);
-			slaveBuy = setColour(slaveBuy, Colour.GENERIC_BAD);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/slaveBuyDisabled.svg");
-			slaveBuyDisabled = Util.inputStreamToString(is);
-			slaveBuyDisabled = setColour(slaveBuyDisabled, Colour.BASE_GREY);
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/slaveSell.svg");
-			slaveSell = Util.inputStreamToString(is);
-			slaveSell = setColour(slaveSell, Colour.GENERIC_GOOD);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/slaveSellDisabled.svg");
-			slaveSellDisabled = Util.inputStreamToString(is);
-			slaveSellDisabled = setColour(slaveSellDisabled, Colour.BASE_GREY);
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/slaveInspect.svg");
-			slaveInspect = Util.inputStreamToString(is);
-			slaveInspect = setColour(slaveInspect, Colour.BASE_BLUE_STEEL);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/slaveInspect.svg");
-			slaveInspectDisabled = Util.inputStreamToString(is);
-			slaveInspectDisabled = setColour(slaveInspectDisabled, Colour.BASE_GREY);
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/slaveJob.svg");
-			slaveJob = Util.inputStreamToString(is);
-			slaveJob = setColour(slaveJob, Colour.BASE_BROWN_DARK);
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/slaveJob.svg");
-			slaveJobDisabled = Util.inputStreamToString(is);
-			slaveJobDisabled = setColour(slaveJobDisabled, Colour.BASE_GREY);
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/slavePermissions.svg");
-			slavePermissions = Util.inputStreamToString(is);
-			slavePermissions = setColour(slavePermissions, Colour.BASE_GREY);
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/slavePermissionsDisabled.svg");
-			slavePermissionsDisabled = Util.inputStreamToString(is);
-			slavePermissionsDisabled = setColour(slavePermissionsDisabled, Colour.BASE_GREY);
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/slaveTransfer.svg");
-			slaveTransfer = Util.inputStreamToString(is);
-			slaveTransfer = setColour(slaveTransfer, Colour.GENERIC_GOOD);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/slaveTransfer.svg");
-			slaveTransferDisabled = Util.inputStreamToString(is);
-			slaveTransferDisabled = setColour(slaveTransferDisabled, Colour.BASE_GREY);
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/slaveCosmetics.svg");
-			slaveCosmetics = Util.inputStreamToString(is);
-			slaveCosmetics = setColour(slaveCosmetics, Colour.BASE_CRIMSON);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/slaveCosmetics.svg");
-			slaveCosmeticsDisabled  = Util.inputStreamToString(is);
-			slaveCosmeticsDisabled = setColour(slaveCosmeticsDisabled, Colour.BASE_GREY);
-			
-			
-			
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/transactionBuy.svg");
-			transactionBuy = Util.inputStreamToString(is);
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/transactionBuyDisabled.svg");
-			transactionBuyDisabled = Util.inputStreamToString(is);
-			transactionBuyDisabled = setColour(transactionBuyDisabled, Colour.BASE_GREY);
-			
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/transactionBid.svg");
-			transactionBid = Util.inputStreamToString(is);
-			transactionBid = setColour(transactionBid, Colour.BASE_BROWN);
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/transactionBid.svg");
-			transactionBidDisabled = Util.inputStreamToString(is);
-			transactionBidDisabled = setColour(transactionBidDisabled, Colour.BASE_GREY);
-			
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/transactionSell.svg");
-			transactionSell = Util.inputStreamToString(is);
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/UIElements/transactionSellDisabled.svg");
-			transactionSellDisabled = Util.inputStreamToString(is);
-			transactionSellDisabled = setColour(transactionSellDisabled, Colour.BASE_GREY);
-			
-			
-			
+	private static Asset<Map<Integer, String>> foxTails(Colour colour) {
+		return AssetRegistry.register("foxTails"+colour, AssetRegistry.PRIORITY_DEFAULT, () -> {
+			Map<Integer, String> map = new HashMap<>();
 			for(int i=1; i<=9; i++) {
-				is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/race/raceFoxTail"+i+".svg");
-				String svg = Util.inputStreamToString(is);
-				svg = SvgUtil.colourReplacement("foxTail"+i,
-						Colour.RACE_FOX_MORPH,
-						Colour.RACE_FOX_MORPH,
-						Colour.RACE_FOX_MORPH,
-						svg);
-				
-				youkoTailsMap.put(i, svg);
-
-				is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/race/raceFoxTail"+i+".svg");
-				svg = Util.inputStreamToString(is);
+				String svg = AssetRegistry.readResource("/com/lilithsthrone/res/statusEffects/race/raceFoxTail"+i+".svg");
 				svg = SvgUtil.colourReplacement("foxTail"+i,
-						Colour.RACE_HALF_DEMON,
-						Colour.RACE_HALF_DEMON,
-						Colour.RACE_HALF_DEMON,
+						colour,
+						colour,
+						colour,
 						svg);
-				youkoTailsDemonMap.put(i, svg);
-
-				is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/race/raceFoxTail"+i+".svg");
-				svg = Util.inputStreamToString(is);
-				svg = SvgUtil.colourReplacement("foxTail"+i,
-						Colour.BASE_GREY,
-						Colour.BASE_GREY,
-						Colour.BASE_GREY,
-						svg);
-				
-				youkoTailsDesaturatedMap.put(i, svg);
-			}
-			
-
-			// Effects:
-
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/creampie.svg");
-			creampie = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/creampieMasochist.svg");
-			creampieMasochist = Util.inputStreamToString(is);
-
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/fluidIngested.svg");
-			fluidIngested = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/fluidIngestedMasochist.svg");
-			fluidIngestedMasochist = Util.inputStreamToString(is);
-			
-			
-			// Items:
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/items/hypnoClockBase.svg");
-			hypnoWatchBase = Util.inputStreamToString(is);
-			hypnoWatchBase = setColour(hypnoWatchBase, Colour.BASE_GREY);
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/items/hypnoClockGyne.svg");
-			hypnoWatchGynephilic = Util.inputStreamToString(is);
-			hypnoWatchGynephilic = setColour(hypnoWatchGynephilic, Colour.FEMININE_PLUS);
-
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/items/hypnoClockAmbi.svg");
-			hypnoWatchAmbiphilic = Util.inputStreamToString(is);
-			hypnoWatchAmbiphilic = setColour(hypnoWatchAmbiphilic, Colour.ANDROGYNOUS);
-
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/items/hypnoClockAndro.svg");
-			hypnoWatchAndrophilic = Util.inputStreamToString(is);
-			hypnoWatchAndrophilic = setColour(hypnoWatchAndrophilic, Colour.MASCULINE_PLUS);
-			
-			
-			// Sex:
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/sexEffects/coverableAreaAnus.svg");
-			coverableAreaAnus = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/sexEffects/coverableAreaAss.svg");
-			coverableAreaAss = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/sexEffects/coverableAreaMouth.svg");
-			coverableAreaMouth = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/sexEffects/coverableAreaBreasts.svg");
-			coverableAreaBreasts = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/sexEffects/coverableAreaBreastsFlat.svg");
-			coverableAreaBreastsFlat = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/sexEffects/coverableAreaNipple.svg");
-			coverableAreaNipple = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/sexEffects/coverableAreaVagina.svg");
-			coverableAreaVagina = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/sexEffects/coverableAreaMound.svg");
-			coverableAreaMound = Util.inputStreamToString(is);
-			
-
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/sexEffects/coverableAreaBreastsCrotch.svg");
-			coverableAreaBreastsCrotch = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/sexEffects/coverableAreaUdders.svg");
-			coverableAreaUdders = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/sexEffects/coverableAreaNippleCrotch.svg");
-			coverableAreaNippleCrotch = Util.inputStreamToString(is);
-
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/sexEffects/coverableAreaUrethraVagina.svg");
-			coverableAreaUrethraVagina = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/sexEffects/coverableAreaUrethraPenis.svg");
-			coverableAreaUrethraPenis = Util.inputStreamToString(is);
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/sexEffects/coverableAreaThighs.svg");
-			coverableAreaThighs = Util.inputStreamToString(is);
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/sexEffects/penetrationTypeFinger.svg");
-			penetrationTypeFinger = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/sexEffects/penetrationTypePenis.svg");
-			penetrationTypePenis = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/sexEffects/penetrationTypeTail.svg");
-			penetrationTypeTail = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/sexEffects/penetrationTypeTongue.svg");
-			penetrationTypeTongue = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/sexEffects/penetrationTypeFoot.svg");
-			penetrationTypeFoot = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/sexEffects/penetrationTypeClit.svg");
-			penetrationTypeClit = Util.inputStreamToString(is);
-			
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/sexEffects/combinationStretching.svg");
-			combinationStretching = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/sexEffects/combinationTooLoose.svg");
-			combinationTooLoose = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/sexEffects/combinationWet.svg");
-			combinationWet = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/sexEffects/combinationDry.svg");
-			combinationDry = Util.inputStreamToString(is);
-			
-			
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/sexEffects/stretching.svg");
-			stretching = Util.inputStreamToString(is);
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/sexEffects/holeTooBig.svg");
-			holeTooBig = Util.inputStreamToString(is);
-
-			is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/statusEffects/sexEffects/active_background.svg");
-			activeSexBackground = Util.inputStreamToString(is);
-			
-			
-			String tempString = "";
-			for(AbstractItemEffectType effect : ItemEffectType.getAllEffectTypes()) {
-				is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/items/refined_background.svg");
-				tempString = Util.inputStreamToString(is);
-				tempString = setColour(tempString, effect.getColour());
-				
-				refinedBackgroundMap.put(effect.getColour(), tempString);
+				map.put(i, svg);
 			}
-			
-			tempString = "";
-			for(TFModifier secondaryModifier : TFModifier.values()) {
-				is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/items/refined_swirls.svg");
-				tempString = Util.inputStreamToString(is);
-				tempString = setColour(tempString, secondaryModifier.getColour());
-				
-				refinedSwirlsMap.put(secondaryModifier.getColour(), tempString);
-			}
-
-			is.close();
-
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
+			return map;
+		});
 	}
 
-	private String setColour(String stringSVG, Colour colourShade) {
+	private static String setColour(String stringSVG, Colour colourShade) {
 		String s = stringSVG;
 		s = SvgUtil.colourReplacement(null, colourShade, s);
 		return s;
 	}
 
 	public String getDisplacedIcon() {
-		return displacedIcon;
+		return displacedIcon.get();
 	}
 
 	public String getConcealedIcon() {
-		return concealedIcon;
+		return concealedIcon.get();
 	}
 	
 	public String getCummedInIcon() {
-		return cummedInIcon;
+		return cummedInIcon.get();
 	}
 
 	public String getFeminineWarningIcon() {
-		return feminineWarningIcon;
+		return feminineWarningIcon.get();
 	}
 
 	public String getMasculineWarningIcon() {
-		return masculineWarningIcon;
+		return masculineWarningIcon.get();
 	}
 
 	public String getJinxedIcon() {
-		return jinxedIcon;
+		return jinxedIcon.get();
 	}
 
 	public String getTattooSwitchTattoo() {
-		return tattooSwitchTattoo;
+		return tattooSwitchTattoo.get();
 	}
 
 	public String getTattooSwitchClothing() {
-		return tattooSwitchClothing;
+		return tattooSwitchClothing.get();
 	}
 
 	public String getScarIcon() {
-		return scarIcon;
+		return scarIcon.get();
 	}
 
 	public String getMenuIcon() {
-		return menuIcon;
+		return menuIcon.get();
 	}
 
 	public String getInventoryIcon() {
-		return inventoryIcon;
+		return inventoryIcon.get();
 	}
 
 	public String getInventoryIconDisabled() {
-		return inventoryIconDisabled;
+		return inventoryIconDisabled.get();
 	}
 
 	public String getQuestInventoryIcon() {
-		return questInventoryIcon;
+		return questInventoryIcon.get();
 	}
 
 	public String getQuestInventoryIconDisabled() {
-		return questInventoryIconDisabled;
+		return questInventoryIconDisabled.get();
 	}
 
 	public String getJournalIcon() {
-		return journalIcon;
+		return journalIcon.get();
 	}
 
 	public String getPeopleIcon() {
-		return peopleIcon;
+		return peopleIcon.get();
 	}
 
 	public String getZoomInIcon() {
-		return zoomInIcon;
+		return zoomInIcon.get();
 	}
 
 	public String getZoomOutIcon() {
-		return zoomOutIcon;
+		return zoomOutIcon.get();
 	}
 
 	public String getCopyIcon() {
-		return copyIcon;
+		return copyIcon.get();
 	}
 	
 	public String getExportIcon() {
-		return exportIcon;
+		return exportIcon.get();
 	}
 
 	public String getInformationIcon() {
-		return informationIcon;
+		return informationIcon.get();
 	}
 
 	public String getAddIcon() {
-		return addIcon;
+		return addIcon.get();
 	}
 
 	public String getCalendarIcon() {
-		return calendarIcon;
+		return calendarIcon.get();
 	}
 
 	public String getDiskSave() {
-		return diskSave;
+		return diskSave.get();
 	}
 	public String getDiskSaveDisabled() {
-		return diskSaveDisabled;
+		return diskSaveDisabled.get();
 	}
 	
 	public String getDiskSaveConfirm() {
-		return diskSaveConfirm;
+		return diskSaveConfirm.get();
 	}
 
 	public String getDiskOverwrite() {
-		return diskOverwrite;
+		return diskOverwrite.get();
 	}
 
 	public String getDiskLoad() {
-		return diskLoad;
+		return diskLoad.get();
 	}
 	
 	public String getDiskLoadConfirm() {
-		return diskLoadConfirm;
+		return diskLoadConfirm.get();
 	}
 
 	public String getDiskLoadDisabled() {
-		return diskLoadDisabled;
+		return diskLoadDisabled.get();
 	}
 
 	public String getDiskDelete() {
-		return diskDelete;
+		return diskDelete.get();
 	}
 	
 	public String getDiskDeleteConfirm() {
-		return diskDeleteConfirm;
+		return diskDeleteConfirm.get();
 	}
 
 	public String getItemsOnFloorIcon() {
-		return itemsOnFloorIcon;
+		return itemsOnFloorIcon.get();
 	}
 
 	public String getCornerGlowNight() {
-		return cornerGlowNight;
+		return cornerGlowNight.get();
 	}
 
 	public String getCornerGlowTwilight() {
-		return cornerGlowTwilight;
+		return cornerGlowTwilight.get();
 	}
 	
 	public String getPlayerMapIconMasculine() {
-		return playerMapIconMasculine;
+		return playerMapIconMasculine.get();
 	}
 
 	public String getPlayerMapIconAndrogynous() {
-		return playerMapIconAndrogynous;
+		return playerMapIconAndrogynous.get();
 	}
 
 	public String getPlayerMapIconFeminine() {
-		return playerMapIconFeminine;
+		return playerMapIconFeminine.get();
 	}
 
 	public String getPlayerMapDangerousIcon() {
-		return playerMapDangerousIcon;
+		return playerMapDangerousIcon.get();
 	}
 
 	public String getPerkTreeArrow() {
-		return perkTreeArrow;
+		return perkTreeArrow.get();
 	}
 	
 	public String getSpellOverlay() {
-		return spellOverlay;
+		return spellOverlay.get();
 	}
 
 	public String getWomensWatchHourHand() {
-		return womensWatchHourHand;
+		return womensWatchHourHand.get();
 	}
 
 	public String getWomensWatchMinuteHand() {
-		return womensWatchMinuteHand;
+		return womensWatchMinuteHand.get();
 	}
 
 	public String getMensWatchHourHand() {
-		return mensWatchHourHand;
+		return mensWatchHourHand.get();
 	}
 
 	public String getMensWatchMinuteHand() {
-		return mensWatchMinuteHand;
+		return mensWatchMinuteHand.get();
 	}
 
 	public String getWeatherDayClear() {
-		return weatherDayClear;
+		return weatherDayClear.get();
 	}
 
 	public String getWeatherDayCloud() {
-		return weatherDayCloud;
+		return weatherDayCloud.get();
 	}
 
 	public String getWeatherDayRain() {
-		return weatherDayRain;
+		return weatherDayRain.get();
 	}
 	
 	public String getWeatherDaySnow() {
-		return weatherDaySnow;
+		return weatherDaySnow.get();
 	}
 
 	public String getWeatherDayStormIncoming() {
-		return weatherDayStormIncoming;
+		return weatherDayStormIncoming.get();
 	}
 
 	public String getWeatherDayStormProtected() {
-		return weatherDayStormProtected;
+		return weatherDayStormProtected.get();
 	}
 
 	public String getWeatherDayStorm() {
-		return weatherDayStorm;
+		return weatherDayStorm.get();
 	}
 
 	public String getWeatherNightClear() {
-		return weatherNightClear;
+		return weatherNightClear.get();
 	}
 
 	public String getWeatherNightCloud() {
-		return weatherNightCloud;
+		return weatherNightCloud.get();
 	}
 
 	public String getWeatherNightRain() {
-		return weatherNightRain;
+		return weatherNightRain.get();
 	}
 	
 	public String getWeatherNightSnow() {
-		return weatherNightSnow;
+		return weatherNightSnow.get();
 	}
 
 	public String getWeatherNightStormIncoming() {
-		return weatherNightStormIncoming;
+		return weatherNightStormIncoming.get();
 	}
 
 	public String getWeatherNightStorm() {
-		return weatherNightStorm;
+		return weatherNightStorm.get();
 	}
 
 	public String getWeatherNightStormProtected() {
-		return weatherNightStormProtected;
+		return weatherNightStormProtected.get();
 	}
 
 	public String getProtectionEnabled() {
-		return protectionEnabled;
+		return protectionEnabled.get();
 	}
 
 	public String getProtectionDisabled() {
-		return protectionDisabled;
+		return protectionDisabled.get();
 	}
 
 	public String getTattoo() {
-		return tattoo;
+		return tattoo.get();
 	}
 
 	public String getResponseCombat() {
-		return responseCombat;
+		return responseCombat.get();
 	}
 
 	public String getResponseSex() {
-		return responseSex;
+		return responseSex.get();
 	}
 
 	public String getResponseLocked() {
-		return responseLocked;
+		return responseLocked.get();
 	}
 
 	public String getResponseUnlocked() {
-		return responseUnlocked;
+		return responseUnlocked.get();
 	}
 	
 	public String getResponseUnlockedDisabled() {
-		return responseUnlockedDisabled;
+		return responseUnlockedDisabled.get();
 	}
 
 	public String getResponseCorruptionBypass() {
-		return responseCorruptionBypass;
+		return responseCorruptionBypass.get();
 	}
 
 	public String getResponseSubResist() {
-		return responseSubResist;
+		return responseSubResist.get();
 	}
 
 	public String getResponseSubNormal() {
-		return responseSubNormal;
+		return responseSubNormal.get();
 	}
 
 	public String getResponseSubEager() {
-		return responseSubEager;
+		return responseSubEager.get();
 	}
 
 	public String getResponseDomGentle() {
-		return responseDomGentle;
+		return responseDomGentle.get();
 	}
 
 	public String getResponseDomNormal() {
-		return responseDomNormal;
+		return responseDomNormal.get();
 	}
 
 	public String getResponseDomRough() {
-		return responseDomRough;
+		return responseDomRough.get();
 	}
 
 	public String getResponseSexSwitch() {
-		return responseSexSwitch;
+		return responseSexSwitch.get();
 	}
 
 	public String getResponseSexAdditional() {
-		return responseSexAdditional;
+		return responseSexAdditional.get();
 	}
 	
 	public String getNPCWarningMale() {
-		return NPCWarningMale;
+		return NPCWarningMale.get();
 	}
 
 	public String getNPCWarningFemale() {
-		return NPCWarningFemale;
+		return NPCWarningFemale.get();
 	}
 
 	public String getNPCWarningDemon() {
-		return NPCWarningDemon;
+		return NPCWarningDemon.get();
 	}
 
 	public String getCoverableAreaMouth() {
-		return coverableAreaMouth;
+		return coverableAreaMouth.get();
 	}
 
 	public String getCoverableAreaAnus() {
-		return coverableAreaAnus;
+		return coverableAreaAnus.get();
 	}
 
 	public String getCoverableAreaAss() {
-		return coverableAreaAss;
+		return coverableAreaAss.get();
 	}
 	
 	public String getCoverableAreaNipple() {
-		return coverableAreaNipple;
+		return coverableAreaNipple.get();
 	}
 	
 	public String getCoverableAreaBreasts() {
-		return coverableAreaBreasts;
+		return coverableAreaBreasts.get();
 	}
 	
 	public String getCoverableAreaBreastsFlat() {
-		return coverableAreaBreastsFlat;
+		return coverableAreaBreastsFlat.get();
 	}
 
 	public String getCoverableAreaBreastsCrotch() {
-		return coverableAreaBreastsCrotch;
+		return coverableAreaBreastsCrotch.get();
 	}
 
 	public String getCoverableAreaUdders() {
-		return coverableAreaUdders;
+		return coverableAreaUdders.get();
 	}
 
 	public String getCoverableAreaNippleCrotch() {
-		return coverableAreaNippleCrotch;
+		return coverableAreaNippleCrotch.get();
 	}
 
 	public String getCoverableAreaVagina() {
-		return coverableAreaVagina;
+		return coverableAreaVagina.get();
 	}
 
 	public String getCoverableAreaMound() {
-		return coverableAreaMound;
+		return coverableAreaMound.get();
 	}
 	
 	public String getCoverableAreaUrethraVagina() {
-		return coverableAreaUrethraVagina;
+		return coverableAreaUrethraVagina.get();
 	}
 	
 	public String getCoverableAreaUrethraPenis() {
-		return coverableAreaUrethraPenis;
+		return coverableAreaUrethraPenis.get();
 	}
 	
 	public String getCoverableAreaThighs() {
-		return coverableAreaThighs;
+		return coverableAreaThighs.get();
 	}
 
 	public String getPenetrationTypeFinger() {
-		return penetrationTypeFinger;
+		return penetrationTypeFinger.get();
 	}
 	
 	public String getPenetrationTypeTail() {
-		return penetrationTypeTail;
+		return penetrationTypeTail.get();
 	}
 	
 	public String getPenetrationTypeTongue() {
-		return penetrationTypeTongue;
+		return penetrationTypeTongue.get();
 	}
 	
 	public String getPenetrationTypePenis() {
-		return penetrationTypePenis;
+		return penetrationTypePenis.get();
 	}
 
 	public String getPenetrationTypeFoot() {
-		return penetrationTypeFoot;
+		return penetrationTypeFoot.get();
 	}
 	
 	public String getPenetrationTypeClit() {
-		return penetrationTypeClit;
+		return penetrationTypeClit.get();
 	}
 	
 	public String getCombinationStretching() {
-		return combinationStretching;
+		return combinationStretching.get();
 	}
 
 	public String getCombinationTooLoose() {
-		return combinationTooLoose;
+		return combinationTooLoose.get();
 	}
 
 	public String getCombinationWet() {
-		return combinationWet;
+		return combinationWet.get();
 	}
 
 	public String getCombinationDry() {
-		return combinationDry;
+		return combinationDry.get();
 	}
 
 	public String getStretching() {
-		return stretching;
+		return stretching.get();
 	}
 	
 	public String getHoleTooBig() {
-		return holeTooBig;
+		return holeTooBig.get();
 	}
 
 	public String getActiveSexBackground() {
-		return activeSexBackground;
+		return activeSexBackground.get();
 	}
 
 	public Map<Colour, String> getRefinedBackgroundMap() {
-		return refinedBackgroundMap;
+		return refinedBackgroundMap.get();
 	}
 
 	public Map<Colour, String> getRefinedSwirlsMap() {
-		return refinedSwirlsMap;
+		return refinedSwirlsMap.get();
 	}
 	
 	public String getHypnoWatchBase() {
-		return hypnoWatchBase;
+		return hypnoWatchBase.get();
 	}
 	
 	public String getHypnoWatchGynephilic() {
-		return hypnoWatchGynephilic;
+		return hypnoWatchGynephilic.get();
 	}
 
 	public String getHypnoWatchAmbiphilic() {
-		return hypnoWatchAmbiphilic;
+		return hypnoWatchAmbiphilic.get();
 	}
 
 	public String getHypnoWatchAndrophilic() {
-		return hypnoWatchAndrophilic;
+		return hypnoWatchAndrophilic.get();
 	}
 
 	public String getScaleZero() {
-		return scaleZero;
+		return scaleZero.get();
 	}
 
 	public String getScaleOne() {
-		return scaleOne;
+		return scaleOne.get();
 	}
 
 	public String getScaleTwo() {
-		return scaleTwo;
+		return scaleTwo.get();
 	}
 
 	public String getScaleThree() {
-		return scaleThree;
+		return scaleThree.get();
 	}
 
 	public String getScaleFour() {
-		return scaleFour;
+		return scaleFour.get();
 	}
 
 	public String getScaleZeroDisabled() {
-		return scaleZeroDisabled;
+		return scaleZeroDisabled.get();
 	}
 
 	public String getScaleOneDisabled() {
-		return scaleOneDisabled;
+		return scaleOneDisabled.get();
 	}
 
 	public String getScaleTwoDisabled() {
-		return scaleTwoDisabled;
+		return scaleTwoDisabled.get();
 	}
 
 	public String getScaleThreeDisabled() {
-		return scaleThreeDisabled;
+		return scaleThreeDisabled.get();
 	}
 
 	public String getScaleFourDisabled() {
-		return scaleFourDisabled;
+		return scaleFourDisabled.get();
 	}
 
 	public String getSlaveBuy() {
-		return slaveBuy;
+		return slaveBuy.get();
 	}
 
 	public String getSlaveSell() {
-		return slaveSell;
+		return slaveSell.get();
 	}
 
 	public String getSlaveInspect() {
-		return slaveInspect;
+		return slaveInspect.get();
 	}
 	
 	public String getSlaveInspectDisabled() {
-		return slaveInspectDisabled;
+		return slaveInspectDisabled.get();
 	}
 
 	public String getSlaveJob() {
-		return slaveJob;
+		return slaveJob.get();
 	}
 	
 	public String getSlaveJobDisabled() {
-		return slaveJobDisabled;
+		return slaveJobDisabled.get();
 	}
 
 	public String getSlavePermissions() {
-		return slavePermissions;
+		return slavePermissions.get();
 	}
 	
 	public String getSlavePermissionsDisabled() {
-		return slavePermissionsDisabled;
+		return slavePermissionsDisabled.get();
 	}
 
 	public String getSlaveTransfer() {
-		return slaveTransfer;
+		return slaveTransfer.get();
 	}
 
 	public String getSlaveBuyDisabled() {
-		return slaveBuyDisabled;
+		return slaveBuyDisabled.get();
 	}
 
 	public String getSlaveSellDisabled() {
-		return slaveSellDisabled;
+		return slaveSellDisabled.get();
 	}
 
 	public String getSlaveTransferDisabled() {
-		return slaveTransferDisabled;
+		return slaveTransferDisabled.get();
 	}
 	
 	public String getSlaveCosmetics() {
-		return slaveCosmetics;
+		return slaveCosmetics.get();
 	}
 	
 	public String getSlaveCosmeticsDisabled() {
-		return slaveCosmeticsDisabled;
+		return slaveCosmeticsDisabled.get();
 	}
 
 	public String getTransactionBuy() {
-		return transactionBuy;
+		return transactionBuy.get();
 	}
 
 	public String getTransactionBuyDisabled() {
-		return transactionBuyDisabled;
+		return transactionBuyDisabled.get();
 	}
 	
 	public String getTransactionBid() {
-		return transactionBid;
+		return transactionBid.get();
 	}
 	
 	public String getTransactionBidDisabled() {
-		return transactionBidDisabled;
+		return transactionBidDisabled.get();
 	}
 
 	public String getTransactionSell() {
-		return transactionSell;
+		return transactionSell.get();
 	}
 
 	public String getTransactionSellDisabled() {
-		return transactionSellDisabled;
+		return transactionSellDisabled.get();
 	}
 
 	public String getResponseOption() {
-		return responseOption;
+		return responseOption.get();
 	}
 
 	public String getResponseOptionDisabled() {
-		return responseOptionDisabled;
+		return responseOptionDisabled.get();
 	}
 
 	public String getCreampie() {
-		return creampie;
+		return creampie.get();
 	}
 
 	public String getCreampieMasochist() {
-		return creampieMasochist;
+		return creampieMasochist.get();
 	}
 
 	public String getRaceBackground() {
-		return raceBackground;
+		return raceBackground.get();
 	}
 
 	public String getRaceBackgroundHalf() {
-		return raceBackgroundHalf;
+		return raceBackgroundHalf.get();
 	}
 
 	public String getRaceBackgroundSlime() {
-		return raceBackgroundSlime;
+		return raceBackgroundSlime.get();
 	}
 
 	public String getRaceBackgroundDemon() {
-		return raceBackgroundDemon;
+		return raceBackgroundDemon.get();
 	}
 
 	public String getRaceUnknown() {
-		return raceUnknown;
+		return raceUnknown.get();
 	}
 
 	public String getRaceDobermann() {
-		return raceDobermann;
+		return raceDobermann.get();
 	}
 	
 	public String getRaceDobermannDesaturated() {
-		return raceDobermannDesaturated;
+		return raceDobermannDesaturated.get();
 	}
 
 	public String getCounterZero() {
-		return counterZero;
+		return counterZero.get();
 	}
 
 	public String getCounterOne() {
-		return counterOne;
+		return counterOne.get();
 	}
 
 	public String getCounterTwo() {
-		return counterTwo;
+		return counterTwo.get();
 	}
 
 	public String getCounterThree() {
-		return counterThree;
+		return counterThree.get();
 	}
 
 	public String getCounterFour() {
-		return counterFour;
+		return counterFour.get();
 	}
 
 	public String getCounterFive() {
-		return counterFive;
+		return counterFive.get();
 	}
 
 	public String getCounterFivePlus() {
-		return counterFivePlus;
+		return counterFivePlus.get();
 	}
 
 	public String getCounterZeroDisabled() {
-		return counterZeroDisabled;
+		return counterZeroDisabled.get();
 	}
 
 	public String getCounterOneDisabled() {
-		return counterOneDisabled;
+		return counterOneDisabled.get();
 	}
 
 	public String getCounterTwoDisabled() {
-		return counterTwoDisabled;
+		return counterTwoDisabled.get();
 	}
 
 	public String getCounterThreeDisabled() {
-		return counterThreeDisabled;
+		return counterThreeDisabled.get();
 	}
 
 	public String getCounterFourDisabled() {
-		return counterFourDisabled;
+		return counterFourDisabled.get();
 	}
 
 	public String getCounterFiveDisabled() {
-		return counterFiveDisabled;
+		return counterFiveDisabled.get();
 	}
 
 	public String getCounterFivePlusDisabled() {
-		return counterFivePlusDisabled;
+		return counterFivePlusDisabled.get();
 	}
 
 	public String getStopwatch() {
-		return stopwatch;
+		return stopwatch.get();
 	}
 
 	public String getDrinkSmall() {
-		return drinkSmall;
+		return drinkSmall.get();
 	}
 	
 	public String getDrink() {
-		return drink;
+		return drink.get();
 	}
 
 	public String getDice1() {
-		return dice1;
+		return dice1.get();
 	}
 
 	public String getDice2() {
-		return dice2;
+		return dice2.get();
 	}
 
 	public String getDice3() {
-		return dice3;
+		return dice3.get();
 	}
 
 	public String getDice4() {
-		return dice4;
+		return dice4.get();
 	}
 
 	public String getDice5() {
-		return dice5;
+		return dice5.get();
 	}
 
 	public String getDice6() {
-		return dice6;
+		return dice6.get();
 	}
 
 	public String getDiceGlow() {
-		return diceGlow;
+		return diceGlow.get();
 	}
 
 	public String getFluidIngested() {
-		return fluidIngested;
+		return fluidIngested.get();
 	}
 
 	public String getFluidIngestedMasochist() {
-		return fluidIngestedMasochist;
+		return fluidIngestedMasochist.get();
 	}
 
 	public String getFoxTail(int i) {
-		return youkoTailsMap.get(i);
+		return youkoTailsMap.get().get(i);
 	}
 
 	public String getFoxTailDesaturated(int i) {
-		return youkoTailsDesaturatedMap.get(i);
+		return youkoTailsDesaturatedMap.get().get(i);
 	}
 
 	public String getFoxTailDemon(int i) {
-		return youkoTailsDemonMap.get(i);
+		return youkoTailsDemonMap.get().get(i);
 	}
 	
 }
@@ -0,0 +1,153 @@
+package com.lilithsthrone.rendering;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The one cache for every coloured variant of clothing, weapon, tattoo, and pattern SVGs.<br/>
+ * <br/>
+ * Each of those types used to keep its own nested maps of every variant which had ever been rendered, which were never cleared, so every dye combination seen during a session stayed in memory.
+ *  This cache is shared between them, and once its variants take up more than its budget, the least recently used ones are dropped (and will just be rendered again if they're needed).<br/>
+ * <br/>
+ * The budget is set in megabytes with -DsvgVariantCacheMB (64 by default), and is measured as two bytes for each character of the cached SVGs, plus a fixed amount for each entry.
+ *
+ * @since 0.3.5.8
+ * @version 0.3.5.8
+ * @author Innoxia
+ */
+public enum SvgVariantCache {
+	INSTANCE;
+
+	/**
+	 * Identifies a variant. The owner is the type which the SVG belongs to, and is compared by identity, so that a type which is loaded again (such as a modded one) never gets another instance's variants.
+	 *  The other parts (slot, damage type, colours, pattern, etc.) are compared with equals(), and may be null.
+	 */
+	public static final class Key {
+		private final Object owner;
+		private final int variant;
+		private final Object[] parts;
+		private final int hashCode;
+
+		/**
+		 * @param variant Distinguishes the different SVGs which one owner has (such as 0 for an icon and 1 for an equipped image).
+		 */
+		public Key(Object owner, int variant, Object... parts) {
+			this.owner = owner;
+			this.variant = variant;
+			this.parts = parts;
+			this.hashCode = 31 * (31 * System.identityHashCode(owner) + variant) + Arrays.hashCode(parts);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if(this==o) {
+				return true;
+			}
+			if(o instanceof Key) {
+				Key key = (Key) o;
+				return key.owner==owner
+						&& key.variant==variant
+						&& key.hashCode==hashCode
+						&& Arrays.equals(key.parts, parts);
+			}
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
+	/** A rough size, in bytes, of a map entry and its key, on top of the SVG itself. */
+	private static final long ENTRY_OVERHEAD = 128;
+
+	private final long budget = Long.getLong("svgVariantCacheMB", 64) * 1024 * 1024;
+
+	private final LinkedHashMap<Key, String> cache = new LinkedHashMap<>(256, 0.75f, true);
+	private long size = 0;
+
+	private long hits = 0;
+	private long misses = 0;
+	private long evictions = 0;
+
+	/**
+	 * @return The cached variant, or null if it isn't cached.
+	 */
+	public synchronized String get(Key key) {
+		String svg = cache.get(key);
+		if(svg==null) {
+			misses++;
+		} else {
+			hits++;
+		}
+		return svg;
+	}
+
+	public synchronized void put(Key key, String svg) {
+		String previous = cache.put(key, svg);
+		if(previous!=null) {
+			size -= getSize(previous);
+		}
+		size += getSize(svg);
+
+		// Always keep the variant which has just been added, even if it's larger than the whole budget:
+		Iterator<Map.Entry<Key, String>> it = cache.entrySet().iterator();
+		while(size>budget && cache.size()>1) {
+			Map.Entry<Key, String> eldest = it.next();
+			size -= getSize(eldest.getValue());
+			it.remove();
+			evictions++;
+		}
+	}
+
+	private static long getSize(String svg) {
+		return ENTRY_OVERHEAD + svg.length()*2L;
+	}
+
+	public synchronized void clear() {
+		cache.clear();
+		size = 0;
+	}
+
+	public synchronized int getEntryCount() {
+		return cache.size();
+	}
+
+	/**
+	 * @return The estimated size of the cached variants, in bytes.
+	 */
+	public synchronized long getSize() {
+		return size;
+	}
+
+	public long getBudget() {
+		return budget;
+	}
+
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	public synchronized long getEvictions() {
+		return evictions;
+	}
+
+	public synchronized void resetStatistics() {
+		hits = 0;
+		misses = 0;
+		evictions = 0;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "SvgVariantCache: "+cache.size()+" variants, "+(size/1024)+"KB of "+(budget/1024)+"KB"
+				+" | Hits: "+hits+" | Misses: "+misses+" | Hit rate: "+(hits+misses==0?"-":(hits*100/(hits+misses))+"%")+" | Evictions: "+evictions;
+	}
+}
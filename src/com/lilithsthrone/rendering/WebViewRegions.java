@@ -0,0 +1,95 @@
+package com.lilithsthrone.rendering;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Splits WebView content into the parts which often change from one render to the next (regions), and everything else (the shell).<br/>
+ * <br/>
+ * RenderingEngine wraps each region in start(key) and end(key). If a panel's shell is exactly the same as when it was last written, MainController only needs to replace the contents of the regions which have changed,
+ *  instead of writing the whole document again (which makes WebKit parse the stylesheet and lay out the whole panel again, even when only a number has changed).<br/>
+ * <br/>
+ * Regions cannot be nested, and as replaced regions don't run any scripts, they should only be used in panels which have JavaScript disabled.
+ *
+ * @since 0.3.5.8
+ * @version 0.3.5.8
+ * @author Innoxia
+ */
+public class WebViewRegions {
+
+	private static final String START_PREFIX = "<!--REGION_START_";
+	private static final String END_PREFIX = "<!--REGION_END_";
+	private static final String MARKER_SUFFIX = "-->";
+
+	private final String shell;
+	private final Map<String, String> regions;
+
+	private WebViewRegions(String shell, Map<String, String> regions) {
+		this.shell = shell;
+		this.regions = regions;
+	}
+
+	/**
+	 * @param key Must be unique within the document, and may only contain characters which are valid in an element id.
+	 * @return The HTML which opens a region. The region's contents are placed in their own div, with an id of 'REGION_'+key.
+	 */
+	public static String start(String key) {
+		return "<div id='REGION_"+key+"'>"+START_PREFIX+key+MARKER_SUFFIX;
+	}
+
+	public static String end(String key) {
+		return END_PREFIX+key+MARKER_SUFFIX+"</div>";
+	}
+
+	public static String region(String key, String html) {
+		return start(key)+html+end(key);
+	}
+
+	/**
+	 * @param content The content as it is going to be written to the document.
+	 */
+	public static WebViewRegions parse(String content) {
+		StringBuilder shell = new StringBuilder();
+		Map<String, String> regions = new LinkedHashMap<>();
+		int position = 0;
+		while(true) {
+			int start = content.indexOf(START_PREFIX, position);
+			if(start<0) {
+				break;
+			}
+			int keyEnd = content.indexOf(MARKER_SUFFIX, start);
+			if(keyEnd<0) {
+				break;
+			}
+			String key = content.substring(start+START_PREFIX.length(), keyEnd);
+			int contentStart = keyEnd+MARKER_SUFFIX.length();
+			int end = content.indexOf(END_PREFIX+key+MARKER_SUFFIX, contentStart);
+			if(end<0) {
+				break;
+			}
+			shell.append(content, position, contentStart);
+			regions.put(key, content.substring(contentStart, end));
+			position = end;
+		}
+		shell.append(content, position, content.length());
+		return new WebViewRegions(shell.toString(), regions);
+	}
+
+	/**
+	 * @param rendered The regions which are currently in the document.
+	 * @return The JavaScript which changes the rendered document into this one (which is empty if nothing has changed), or null if the whole document has to be written again.
+	 */
+	public String getPatchScript(WebViewRegions rendered) {
+		if(rendered==null || !shell.equals(rendered.shell)) {
+			return null;
+		}
+		StringBuilder script = new StringBuilder();
+		for(Entry<String, String> region : regions.entrySet()) {
+			if(!region.getValue().equals(rendered.regions.get(region.getKey()))) {
+				script.append("document.getElementById('REGION_").append(region.getKey()).append("').innerHTML=\"").append(region.getValue()).append("\";");
+			}
+		}
+		return script.toString();
+	}
+}
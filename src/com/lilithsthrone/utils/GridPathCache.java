@@ -0,0 +1,147 @@
+package com.lilithsthrone.utils;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * The caches behind Pathing.aStarPathing(): the travel costs of each grid, and the most recently found paths.
+ *  Like GridPathing, this doesn't depend on anything else from the game, so it can be tested on its own (see GridPathCacheTest).<br/>
+ * <br/>
+ * Travel costs are held weakly by their grid, so that a grid (along with its world) can be collected as soon as the game stops using it, such as after loading a save.
+ *  Paths are keyed by the Costs that they were found with rather than by the grid, so the path cache doesn't keep grids reachable either.
+ *  As new Costs are made whenever a grid's old ones are no longer current, paths found with out-of-date costs are never looked up again, and are soon dropped from the cache.
+ *
+ * @since 0.3.5.8
+ * @version 0.3.5.8
+ * @author Innoxia
+ */
+public class GridPathCache<G, C extends GridPathCache.Costs> {
+
+	/**
+	 * The cost of moving into each cell of a grid (indexed by x*height+y). <b>Must not reference the grid</b>, or the grid would be kept reachable by the caches.
+	 */
+	public static class Costs {
+		private final int width;
+		private final int height;
+		private final int[] costs;
+		private final int[] safeCosts;
+		private final int diagonalCost;
+
+		/**
+		 * @param costs The cost of moving into each cell when not avoiding dangerous cells.
+		 * @param safeCosts The cost of moving into each cell when avoiding dangerous cells.
+		 * @param diagonalCost The cost of a diagonal step (with an orthogonal step costing GridPathing.ORTHOGONAL_COST).
+		 */
+		public Costs(int width, int height, int[] costs, int[] safeCosts, int diagonalCost) {
+			this.width = width;
+			this.height = height;
+			this.costs = costs;
+			this.safeCosts = safeCosts;
+			this.diagonalCost = diagonalCost;
+		}
+	}
+
+	private static class PathKey {
+		private final Costs costs;
+		private final int start;
+		private final int end;
+		private final boolean preferSafe;
+
+		private PathKey(Costs costs, int start, int end, boolean preferSafe) {
+			this.costs = costs;
+			this.start = start;
+			this.end = end;
+			this.preferSafe = preferSafe;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if(o instanceof PathKey) {
+				PathKey key = (PathKey) o;
+				return key.costs==costs && key.start==start && key.end==end && key.preferSafe==preferSafe;
+			}
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			int result = 17;
+			result = 31 * result + System.identityHashCode(costs);
+			result = 31 * result + start;
+			result = 31 * result + end;
+			result = 31 * result + (preferSafe?1:0);
+			return result;
+		}
+	}
+
+	/** Stands in for a path which could not be found, as the path cache can't hold null values. */
+	private static final int[] NO_PATH = new int[0];
+
+	private final Function<G, C> costFactory;
+	private final BiPredicate<G, C> isCurrent;
+	private final Map<G, C> costCache = Collections.synchronizedMap(new WeakHashMap<>());
+	/** The indices of the cells on each recently found path, or NO_PATH if the destination could not be reached. */
+	private final Map<PathKey, int[]> pathCache;
+
+	/**
+	 * @param costFactory Works out the travel costs of a grid.
+	 * @param isCurrent Whether the grid's cached costs are still correct. If not, they're worked out again.
+	 * @param pathCacheSize How many of the most recently found paths are kept.
+	 */
+	public GridPathCache(Function<G, C> costFactory, BiPredicate<G, C> isCurrent, int pathCacheSize) {
+		this.costFactory = costFactory;
+		this.isCurrent = isCurrent;
+		this.pathCache = Collections.synchronizedMap(new LinkedHashMap<PathKey, int[]>(pathCacheSize, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<PathKey, int[]> eldest) {
+				return size() > pathCacheSize;
+			}
+		});
+	}
+
+	/**
+	 * @return The grid's travel costs, which are only worked out again if the cached ones are no longer current.
+	 */
+	public C getCosts(G grid) {
+		synchronized(costCache) {
+			C costs = costCache.get(grid);
+			if(costs==null || !isCurrent.test(grid, costs)) {
+				costs = costFactory.apply(grid);
+				costCache.put(grid, costs);
+			}
+			return costs;
+		}
+	}
+
+	/**
+	 * @return The indices (x*height+y) of the cells on the cheapest path from start to end, not including the start cell, or null if the end could not be reached.
+	 *  <b>The returned array is shared with the cache, so must not be changed.</b>
+	 */
+	public int[] findPath(G grid, int start, int end, boolean preferSafe) {
+		Costs costs = getCosts(grid);
+		PathKey key = new PathKey(costs, start, end, preferSafe);
+
+		int[] path = pathCache.get(key);
+		if(path==null) {
+			path = GridPathing.findPath(costs.width, costs.height, preferSafe?costs.safeCosts:costs.costs, costs.diagonalCost, start, end);
+			if(path==null) {
+				path = NO_PATH;
+			}
+			pathCache.put(key, path);
+		}
+		return path==NO_PATH ? null : path;
+	}
+
+	public int getCachedPathCount() {
+		return pathCache.size();
+	}
+
+	public int getCachedCostCount() {
+		return costCache.size();
+	}
+}
@@ -0,0 +1,85 @@
+package com.lilithsthrone.utils;
+
+import java.util.BitSet;
+
+/**
+ * The A* search which Pathing uses to find routes across a world's cell grid. It works only on arrays of travel costs, so it doesn't need the grid itself,
+ *  or anything else from the game, and can be tested and timed on its own (see GridPathingTest and PathingBenchmarkTest).
+ *
+ * @since 0.3.5.8
+ * @version 0.3.5.8
+ * @author Innoxia
+ */
+public class GridPathing {
+
+	public static final int ORTHOGONAL_COST = 10;
+
+	/**
+	 * A* over a grid of cells indexed by x*height+y, using an IndexedMinHeap as the open list and a BitSet as the closed list.<br/>
+	 * Moving orthogonally costs ORTHOGONAL_COST, and moving diagonally costs diagonalCost.
+	 * The heuristic is the Chebyshev distance multiplied by the orthogonal step cost, which is never more than the true remaining cost (as every step costs at least that much), so the path found is always the cheapest one.
+	 * @param costs The cost of moving into each cell, on top of the cost of the step itself.
+	 * @return The indices of the cells on the path, not including the start, or null if the end cannot be reached.
+	 */
+	public static int[] findPath(int width, int height, int[] costs, int diagonalCost, int start, int end) {
+		int cellCount = width*height;
+		int endX = end/height;
+		int endY = end%height;
+		
+		long[] g = new long[cellCount];
+		int[] parents = new int[cellCount];
+		BitSet closed = new BitSet(cellCount);
+		IndexedMinHeap open = new IndexedMinHeap(cellCount);
+		
+		parents[start] = -1;
+		open.add(start, ORTHOGONAL_COST * Math.max(Math.abs(start/height - endX), Math.abs(start%height - endY)));
+		
+		while(!open.isEmpty()) {
+			int current = open.poll();
+			if(current==end) {
+				int length = 0;
+				for(int n = end; n!=start; n = parents[n]) {
+					length++;
+				}
+				int[] path = new int[length];
+				for(int n = end; n!=start; n = parents[n]) {
+					path[--length] = n;
+				}
+				return path;
+			}
+			closed.set(current);
+			
+			int x = current/height;
+			int y = current%height;
+			for (int i = -1; i <= 1; i++) {
+				for (int j = -1; j <= 1; j++) {
+					int neighbourX = x+i;
+					int neighbourY = y+j;
+					if((i == 0 && j == 0) || neighbourX<0 || neighbourX>=width || neighbourY<0 || neighbourY>=height) {
+						continue;
+					}
+					int neighbour = neighbourX*height + neighbourY;
+					if(closed.get(neighbour)) {
+						continue;
+					}
+					
+					long neighbourG = g[current] + ((i == 0 || j == 0) ? ORTHOGONAL_COST : diagonalCost) + costs[neighbour];
+					long f = neighbourG + ORTHOGONAL_COST * Math.max(Math.abs(neighbourX - endX), Math.abs(neighbourY - endY));
+					
+					if(!open.contains(neighbour)) {
+						g[neighbour] = neighbourG;
+						parents[neighbour] = current;
+						open.add(neighbour, f);
+						
+					} else if(neighbourG < g[neighbour]) {
+						g[neighbour] = neighbourG;
+						parents[neighbour] = current;
+						open.decreasePriority(neighbour, f);
+					}
+				}
+			}
+		}
+		
+		return null;
+	}
+}
@@ -0,0 +1,113 @@
+package com.lilithsthrone.utils;
+
+import java.util.Arrays;
+
+/**
+ * A binary min-heap of the integers from 0 to (capacity-1), each with a long priority.
+ *  Unlike a PriorityQueue, checking whether an element is in the heap is O(1), and an element's priority can be lowered in place in O(log n), which is what A* needs for its open list.
+ *
+ * @since 0.3.5.8
+ * @version 0.3.5.8
+ * @author Innoxia
+ */
+public class IndexedMinHeap {
+
+	private final int[] heap;
+	/** The position of each element in the heap array, or -1 if the element is not in the heap. */
+	private final int[] positions;
+	private final long[] priorities;
+	private int size;
+
+	public IndexedMinHeap(int capacity) {
+		heap = new int[capacity];
+		positions = new int[capacity];
+		priorities = new long[capacity];
+		Arrays.fill(positions, -1);
+	}
+
+	public boolean isEmpty() {
+		return size==0;
+	}
+
+	public boolean contains(int element) {
+		return positions[element]!=-1;
+	}
+
+	public long getPriority(int element) {
+		return priorities[element];
+	}
+
+	/**
+	 * Adds an element which is not already in the heap.
+	 */
+	public void add(int element, long priority) {
+		priorities[element] = priority;
+		heap[size] = element;
+		positions[element] = size;
+		size++;
+		siftUp(size-1);
+	}
+
+	/**
+	 * Lowers the priority of an element which is already in the heap. Does nothing if the supplied priority is not lower than its current one.
+	 */
+	public void decreasePriority(int element, long priority) {
+		if(priority<priorities[element]) {
+			priorities[element] = priority;
+			siftUp(positions[element]);
+		}
+	}
+
+	/**
+	 * Removes and returns the element with the lowest priority.
+	 */
+	public int poll() {
+		int element = heap[0];
+		size--;
+		positions[element] = -1;
+		if(size>0) {
+			heap[0] = heap[size];
+			positions[heap[0]] = 0;
+			siftDown(0);
+		}
+		return element;
+	}
+
+	private void siftUp(int position) {
+		int element = heap[position];
+		while(position>0) {
+			int parentPosition = (position-1)/2;
+			int parent = heap[parentPosition];
+			if(priorities[parent]<=priorities[element]) {
+				break;
+			}
+			heap[position] = parent;
+			positions[parent] = position;
+			position = parentPosition;
+		}
+		heap[position] = element;
+		positions[element] = position;
+	}
+
+	private void siftDown(int position) {
+		int element = heap[position];
+		while(true) {
+			int childPosition = position*2+1;
+			if(childPosition>=size) {
+				break;
+			}
+			if(childPosition+1<size && priorities[heap[childPosition+1]]<priorities[heap[childPosition]]) {
+				childPosition++;
+			}
+			int child = heap[childPosition];
+			if(priorities[element]<=priorities[child]) {
+				break;
+			}
+			heap[position] = child;
+			positions[child] = position;
+			position = childPosition;
+		}
+		heap[position] = element;
+		positions[element] = position;
+	}
+}
@@ -1,12 +1,10 @@
 package com.lilithsthrone.utils;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.PriorityQueue;
-import java.util.Queue;
 
 import com.lilithsthrone.game.character.GameCharacter;
 import com.lilithsthrone.game.character.effects.AbstractPerk;
@@ -18,7 +16,9 @@ import com.lilithsthrone.game.dialogue.responses.Response;
 import com.lilithsthrone.game.dialogue.utils.MapTravelType;
 import com.lilithsthrone.main.Main;
 import com.lilithsthrone.world.Cell;
+import com.lilithsthrone.world.World;
 import com.lilithsthrone.world.WorldType;
+import com.lilithsthrone.world.places.AbstractPlaceType;
 import com.lilithsthrone.world.places.PlaceType;
 
 /**
@@ -55,138 +55,120 @@ public class Pathing {
 		return aStarPathing(grid, start.getX(), start.getY(), endX, endY, preferSafe);
 	}
 	
-	// Implemented using http://www.policyalmanac.org/games/aStarTutorial.htm
-	public static List<Cell> aStarPathing(Cell[][] grid, int startX, int startY, int endX, int endY, boolean preferSafe) {
-		/*
-		 * 1) Add the starting square (or node) to the open list.
-		 * 
-		 * 2) Repeat the following:
-		 * 
-		 * a) Look for the lowest F cost square on the open list. We refer to
-		 * this as the current square.
-		 * 
-		 * b) Switch it to the closed list.
-		 * 
-		 * c) For each of the 8 squares adjacent to this current square �
-		 * 
-		 * i) If it is not walkable or if it is on the closed list, ignore it.
-		 * Otherwise do the following.
-		 * 
-		 * ii) If it isn't on the open list, add it to the open list. Make the
-		 * current square the parent of this square. Record the F, G, and H
-		 * costs of the square.
-		 * 
-		 * iii) If it is on the open list already, check to see if this path to
-		 * that square is better, using G cost as the measure. A lower G cost
-		 * means that this is a better path. If so, change the parent of the
-		 * square to the current square, and recalculate the G and F scores of
-		 * the square. If you are keeping your open list sorted by F score, you
-		 * may need to resort the list to account for the change.
-		 * 
-		 * d) Stop when you:
-		 * 
-		 * i) Add the target square to the closed list, in which case the path
-		 * has been found (see note below), or ii) Fail to find the target
-		 * square, and the open list is empty. In this case, there is no path.
-		 * 
-		 * 3) Save the path. Working backwards from the target square, go from
-		 * each square to its parent square until you reach the starting square.
-		 * That is your path.
-		 */
-		List<Cell> path = new ArrayList<>();
-		impossibleDestination = true;
+	/**
+	 * The cost of entering each cell of a world's grid, which only has to be calculated again when a place in the world changes, the party's travel speed changes,
+	 *  or the travel time or danger of one of the grid's place types changes (as these can depend on the weather, flags, and quests).
+	 */
+	private static class TravelCosts extends GridPathCache.Costs {
+		private final int placeModificationCount;
+		private final long speedKey;
+		/** Each different place type in the grid, along with its travel time and danger from when these costs were calculated. */
+		private final AbstractPlaceType[] placeTypes;
+		private final long[] placeTypeStates;
 		
-		Node[][] nodeArray = new Node[grid.length][grid[0].length];
-		for (int i = 0; i < grid.length; i++) {
-			for (int j = 0; j < grid[0].length; j++) {
-				nodeArray[i][j] = new Node(null, i, j, 0, 0, 0);
-			}
+		private TravelCosts(Cell[][] grid, int placeModificationCount, long speedKey, AbstractPlaceType[] placeTypes, long[] placeTypeStates, int[] costs, int[] safeCosts, int diagonalCost) {
+			super(grid.length, grid[0].length, costs, safeCosts, diagonalCost);
+			this.placeModificationCount = placeModificationCount;
+			this.speedKey = speedKey;
+			this.placeTypes = placeTypes;
+			this.placeTypeStates = placeTypeStates;
 		}
 		
-		Queue<Node> openList = new PriorityQueue<>(10, new Comparator<Node>() {
-			@Override
-			// Sort by F value
-			public int compare(Node o1, Node o2) {
-				return o1.getF() - o2.getF();
+		private static TravelCosts create(Cell[][] grid) {
+			int placeModificationCount = getPlaceModificationCount(grid);
+			long speedKey = getSpeedKey();
+			int height = grid[0].length;
+			int[] costs = new int[grid.length*height];
+			int[] safeCosts = new int[grid.length*height];
+			// Modified travel time only depends on whether the tile is on land and its base time, of which there are very few different combinations:
+			Map<Long, Integer> modifiedTimes = new HashMap<>();
+			// A place type's travel time and danger are the same for every one of its cells, so are only worked out once for each type:
+			Map<AbstractPlaceType, Long> states = new LinkedHashMap<>();
+			
+			for (int i = 0; i < grid.length; i++) {
+				for (int j = 0; j < height; j++) {
+					AbstractPlaceType placeType = grid[i][j].getPlace().getPlaceType();
+					long state = states.computeIfAbsent(placeType, Pathing::getPlaceTypeState);
+					boolean land = placeType.isLand();
+					int seconds = (int) (state >> 1);
+					int time = modifiedTimes.computeIfAbsent((((long) seconds) << 1) | (land?1:0), k -> Main.game.getModifierTravelTime(land, seconds));
+					
+					int index = i*height + j;
+					costs[index] = time + (placeType.equals(PlaceType.GENERIC_IMPASSABLE)?100_000_000:0);
+					safeCosts[index] = costs[index] + ((state & 1)==1?100_000:0);
+				}
 			}
-		});
-		List<Node> closedList = new ArrayList<>();
-
-		// 1)
-		openList.add(nodeArray[startX][startY]);
-
-		Node n;
-		// 2) d) ii)
-		while (!openList.isEmpty()) {
-			// 2) a) Priority queue always gives the lowest F cost square
-			n = openList.poll();
-
-			// 2) b)
-			closedList.add(n);
 			
-			// 2) d) i)
-			if (n.getX() == endX && n.getY() == endY) {
-				impossibleDestination = false;
-				break;
+			AbstractPlaceType[] placeTypes = states.keySet().toArray(new AbstractPlaceType[0]);
+			long[] placeTypeStates = new long[placeTypes.length];
+			int k = 0;
+			for(long state : states.values()) {
+				placeTypeStates[k++] = state;
 			}
-
-			// 2) c)
-			for (int i = -1; i <= 1; i++) {
-				for (int j = -1; j <= 1; j++) {
-					if (!(i == 0 && j == 0) // Do not calculate the current tile
-							// Make sure we don't go out of bounds:
-							&& n.getX() + i >= 0
-							&& n.getX() + i < grid.length
-							&& n.getY() + j >= 0
-							&& n.getY() + j < grid[0].length) { 
-						if (!closedList.contains(nodeArray[n.getX() + i][n.getY() + j])) { // c) i)
-							// Deny diagonals unless in main world map
-							Cell c = grid[n.getX() + i][n.getY() + j];
-
-							int time = Main.game.getModifierTravelTime(c.getPlace().getPlaceType().isLand(), (c.getPlace().getPlaceType().getDialogue(false)!=null? c.getPlace().getPlaceType().getDialogue(false).getSecondsPassed() : 10000));
-							
-							int g = ((i == 0 || j == 0) ? 10 : c.getType().equals(WorldType.WORLD_MAP)?12:1_000_000)
-									+ time
-									+ (c.getPlace().getPlaceType().equals(PlaceType.GENERIC_IMPASSABLE)?100_000_000:0)
-									+ (preferSafe && c.getPlace().getPlaceType()!=null && c.getPlace().getPlaceType().isDangerous()?100_000:0);
-							
-							
-							if (!openList.contains(nodeArray[n.getX() + i][n.getY() + j])) { // c) ii)
-								nodeArray[n.getX() + i][n.getY() + j].setParent(n);
-								nodeArray[n.getX() + i][n.getY() + j].setG(n.getG() + g);
-//								if (heuristic) {
-									nodeArray[n.getX() + i][n.getY() + j].setH(Math.abs((n.getX() + i) - endX) + Math.abs((n.getX() + j) - endY)); // Manhattan distance
-//								} else {
-//									nodeArray[n.getX() + i][n.getY() + j].setH(0);
-//								}
-								nodeArray[n.getX() + i][n.getY() + j].setF();
-
-								openList.add(nodeArray[n.getX() + i][n.getY() + j]);
-								
-							} else { // c) iii)
-								if ((n.getG() + g) < nodeArray[n.getX() + i][n.getY() + j].getG()) {
-									openList.remove(nodeArray[n.getX() + i][n.getY() + j]);
-
-									nodeArray[n.getX() + i][n.getY() + j].setParent(n);
-									nodeArray[n.getX() + i][n.getY() + j].setG(n.getG() + g);
-									nodeArray[n.getX() + i][n.getY() + j].setF();
-
-									openList.add(nodeArray[n.getX() + i][n.getY() + j]);
-								}
-							}
-						}
-					}
+			
+			// Deny diagonals unless in main world map:
+			int diagonalCost = grid[0][0].getType().equals(WorldType.WORLD_MAP)?12:1_000_000;
+			
+			return new TravelCosts(grid, placeModificationCount, speedKey, placeTypes, placeTypeStates, costs, safeCosts, diagonalCost);
+		}
+		
+		/**
+		 * @return true if nothing which these costs were calculated from has changed since.
+		 */
+		private boolean isCurrent(Cell[][] grid) {
+			int placeModificationCount = getPlaceModificationCount(grid);
+			if(placeModificationCount==-1 || placeModificationCount!=this.placeModificationCount || getSpeedKey()!=speedKey) {
+				return false;
+			}
+			for(int i=0; i<placeTypes.length; i++) {
+				if(getPlaceTypeState(placeTypes[i])!=placeTypeStates[i]) {
+					return false;
 				}
 			}
+			return true;
 		}
-
-		// 3)
-		n = nodeArray[endX][endY];
-		while (n.getParent() != null) {
-			path.add(grid[n.getX()][n.getY()]);
-			n = n.getParent();
+	}
+	
+	/**
+	 * @return The number of times that the grid's world has had a place changed, or -1 if the grid isn't part of a world (in which case its costs are never reused).
+	 */
+	private static int getPlaceModificationCount(Cell[][] grid) {
+		World world = grid[0][0].getWorld();
+		return world==null ? -1 : world.getPlaceModificationCount();
+	}
+	
+	/** A travel time which is large enough for getModifierTravelTime() to give a different result for every party speed modifier. */
+	private static final int SPEED_PROBE_TIME = 1_000_000;
+	
+	private static long getSpeedKey() {
+		return (((long) Main.game.getModifierTravelTime(true, SPEED_PROBE_TIME)) << 32) | (Main.game.getModifierTravelTime(false, SPEED_PROBE_TIME) & 0xFFFFFFFFL);
+	}
+	
+	/**
+	 * @return The place type's base travel time (shifted left by one), with the lowest bit set if it's dangerous.
+	 */
+	private static long getPlaceTypeState(AbstractPlaceType placeType) {
+		int seconds = placeType.getDialogue(false)!=null ? placeType.getDialogue(false).getSecondsPassed() : 10000;
+		return (((long) seconds) << 1) | (placeType.isDangerous()?1:0);
+	}
+	
+	private static final GridPathCache<Cell[][], TravelCosts> pathCache = new GridPathCache<>(TravelCosts::create, (grid, costs) -> costs.isCurrent(grid), 32);
+	
+	/**
+	 * Finds the cheapest path from the start to the end, moving between adjacent cells (including diagonally). Travel costs, and the most recently found paths, are cached until a place in the world, the party's travel speed, or the travel time or danger of one of the world's place types changes.
+	 * @return The cells of the path, not including the start cell. isImpossibleDestination() will return true if the end could not be reached.
+	 */
+	public static List<Cell> aStarPathing(Cell[][] grid, int startX, int startY, int endX, int endY, boolean preferSafe) {
+		int height = grid[0].length;
+		int[] cellIndices = pathCache.findPath(grid, startX*height + startY, endX*height + endY, preferSafe);
+		
+		List<Cell> path = new ArrayList<>();
+		impossibleDestination = cellIndices==null;
+		if(cellIndices!=null) {
+			for(int index : cellIndices) {
+				path.add(grid[index/height][index%height]);
+			}
 		}
-		Collections.reverse(path);
 		return path;
 	}
 	
@@ -362,117 +344,6 @@ public class Pathing {
 			Map<Integer, Map<PerkCategory, List<TreeEntry<PerkCategory, AbstractPerk>>>> perkTree,
 			TreeEntry<PerkCategory, AbstractPerk> start,
 			TreeEntry<PerkCategory, AbstractPerk> destination) {
-
-		List<TreeEntry<PerkCategory, AbstractPerk>> perkList = new ArrayList<>();
-		
-		for(Map<PerkCategory, List<TreeEntry<PerkCategory, AbstractPerk>>> entry1 : perkTree.values()) {
-			for(List<TreeEntry<PerkCategory, AbstractPerk>> entry2 : entry1.values()) {
-				for(TreeEntry<PerkCategory, AbstractPerk> entry3 : entry2) {
-					if(entry3.getRow()>0) {
-						perkList.add(entry3);
-					}
-				}
-			}
-		}
-		
-		List<TreeEntry<PerkCategory, AbstractPerk>> path = new ArrayList<>();
-		
-		List<PerkNode> nodeArray = new ArrayList<>();
-		PerkNode startNode = null;
-		for (int i = 0; i < perkList.size(); i++) {
-			PerkNode createdNode = new PerkNode(null, perkList.get(i), 0, 0, 0);
-			if(perkList.get(i).equals(start)) {
-				startNode = createdNode;
-			}
-			nodeArray.add(createdNode);
-//			System.out.println("Added:: "+perkList.get(i).getEntry().getName(null));
-		}
-		
-		Queue<PerkNode> openList = new PriorityQueue<>(10, new Comparator<PerkNode>() {
-			@Override
-			// Sort by F value
-			public int compare(PerkNode o1, PerkNode o2) {
-				return o1.getF() - o2.getF();
-			}
-		});
-		List<PerkNode> closedList = new ArrayList<>();
-
-		// 1)
-		openList.add(startNode);//nodeArray.get(0));
-
-		PerkNode n = null;
-		PerkNode destinationNode = null;
-		// 2) d) ii)
-		while (!openList.isEmpty()) {
-			// 2) a) Priority queue always gives the lowest F cost square
-			n = openList.poll();
-
-			// 2) b)
-			closedList.add(n);
-
-			// 2) d) i)
-//			if (n.getPerkTreeEntry().equals(destination)) {
-			if(n.getPerkTreeEntry().equals(destination)) {
-				destinationNode = n;
-				break;
-			}
-
-			// 2) c)
-			for(TreeEntry<PerkCategory, AbstractPerk> link : Util.mergeLists(n.getPerkTreeEntry().getSiblingLinks(), n.getPerkTreeEntry().getChildLinks())) {
-				boolean containsLink = false;
-				PerkNode closedNode = null;
-				for(PerkNode node : closedList) {
-					if(node.getPerkTreeEntry().equals(link)) {
-						containsLink = true;
-						break;
-					}
-				}
-				for(PerkNode node : nodeArray) {
-					if(node.getPerkTreeEntry().equals(link)) {
-						closedNode = node;
-						break;
-					}
-				}
-//				if(closedNode!=null) {
-				if(!containsLink) { // c) i)
-					int g = 1;
-
-					if (!openList.contains(closedNode)) { // c) ii)
-						closedNode.setParent(n);
-						closedNode.setG(n.getG() + g);
-						closedNode.setH(1); //0?
-						closedNode.setF();
-
-						openList.add(closedNode);
-						
-					} else { // c) iii)
-						if ((n.getG() + g) < closedNode.getG()) {
-							openList.remove(closedNode);
-
-							closedNode.setParent(n);
-							closedNode.setG(n.getG() + g);
-							closedNode.setF();
-
-							openList.add(closedNode);
-						}
-					}
-				}
-//				}
-			}
-		}
-
-		// 3)
-		n = destinationNode;
-		path.add(n.getPerkTreeEntry());
-		while(n.getParent() != null) {
-			path.add(n.getParent().getPerkTreeEntry());
-			n = n.getParent();
-		}
-		Collections.reverse(path);
-		
-//		for(TreeEntry<PerkCategory, AbstractPerk> link : path) {
-//			System.out.println(link.getEntry().getName(null)+", "+link.getRow()+", "+link.getCategory());
-//		}
-		return path;
+		return TreePathing.findPath(perkTree, start, destination);
 	}
 }
@@ -1,47 +1,28 @@
 package com.lilithsthrone.utils;
 
 /**
- * Put any static util methods related to .svg files in here.
+ * Put any static util methods related to .svg files in here.<br/>
+ * <br/>
+ * Colour replacement is done by SvgColourTemplate, which writes each variant in a single pass. SvgColourTemplateTest checks that this gives the same output as the original replaceAll() passes for every clothing SVG.
+ *  As a backstop for SVGs added since, run with -DverifySvgColourReplacement=true to also do every replacement with the replaceAll() passes, and to log (and use their result on) any difference.
  * 
  * @since 0.2.12
- * @version 0.2.12
+ * @version 0.3.5.8
  * @author Innoxia
  */
 public class SvgUtil {
 
-	public static String colourReplacementPattern(String gradientReplacementID, Colour colour, Colour colourSecondary, Colour colourTertiary, String inputString) {
-		String s = inputString;
-	
-		s = s.replaceAll("linearGradient\\d|innoGrad\\d|radialGradient\\d",
-				gradientReplacementID + colour.toString() + (colourSecondary!=null?colourSecondary.toString():"") + (colourTertiary!=null?colourTertiary.toString():"") + "$0");
+	private static final boolean VERIFY = Boolean.valueOf(System.getProperty("verifySvgColourReplacement", "false"));
 
-		s = sanitizeImageString(s, false);
-		
-		if(colour!=null) {
-			s = s.replaceAll("#f4d7d7", colour.getShades()[0]);
-			s = s.replaceAll("#e9afaf", colour.getShades()[1]);
-			s = s.replaceAll("#de8787", colour.getShades()[2]);
-			s = s.replaceAll("#d35f5f", colour.getShades()[3]);
-			s = s.replaceAll("#c83737", colour.getShades()[4]);
-		}
+	public static String colourReplacementPattern(String gradientReplacementID, Colour colour, Colour colourSecondary, Colour colourTertiary, String inputString) {
+		String gradientPrefix = gradientReplacementID + colour.toString() + (colourSecondary!=null?colourSecondary.toString():"") + (colourTertiary!=null?colourTertiary.toString():"");
 		
-		if(colourSecondary!=null) {
-			s = s.replaceAll("#f4e3d7", colourSecondary.getShades()[0]);
-			s = s.replaceAll("#e9c6af", colourSecondary.getShades()[1]);
-			s = s.replaceAll("#deaa87", colourSecondary.getShades()[2]);
-			s = s.replaceAll("#d38d5f", colourSecondary.getShades()[3]);
-			s = s.replaceAll("#c87137", colourSecondary.getShades()[4]);
-		}
+		String[] values = new String[SvgColourTemplate.PATTERN.getPassCount()];
+		setShades(values, 0, colour==null?null:colour.getShades());
+		setShades(values, 1, colourSecondary==null?null:colourSecondary.getShades());
+		setShades(values, 2, colourTertiary==null?null:colourTertiary.getShades());
 		
-		if(colourTertiary!=null) {
-			s = s.replaceAll("#f4eed7", colourTertiary.getShades()[0]);
-			s = s.replaceAll("#e9ddaf", colourTertiary.getShades()[1]);
-			s = s.replaceAll("#decd87", colourTertiary.getShades()[2]);
-			s = s.replaceAll("#d3bc5f", colourTertiary.getShades()[3]);
-			s = s.replaceAll("#c8ab37", colourTertiary.getShades()[4]);
-		}
-	
-		return s;
+		return replace(SvgColourTemplate.PATTERN, gradientPrefix, values, inputString);
 	}
 	
 	public static String colourReplacement(String gradientReplacementID, Colour colour, String inputString) {
@@ -53,126 +34,72 @@ public class SvgUtil {
 	}
 
 	public static String colourReplacement(String gradientReplacementID, Colour colour, Colour colourSecondary, Colour colourTertiary, Colour colourQuaternary, String inputString) {
-		String s = inputString;
-		
+		String gradientPrefix = null;
 		if(gradientReplacementID!=null) {
-			s = s.replaceAll("linearGradient\\d|innoGrad\\d|radialGradient\\d",
-					gradientReplacementID + colour.toString() + (colourSecondary!=null?colourSecondary.toString():"") + (colourTertiary!=null?colourTertiary.toString():"") + (colourQuaternary!=null?colourQuaternary.toString():"") + "$0");
+			gradientPrefix = gradientReplacementID + colour.toString() + (colourSecondary!=null?colourSecondary.toString():"") + (colourTertiary!=null?colourTertiary.toString():"") + (colourQuaternary!=null?colourQuaternary.toString():"");
 		}
-
-		s = sanitizeImageString(s, true);
 		
-		if(colour!=null) {
-			s = s.replaceAll("#ff2a2a", colour.getShades()[0]);
-			s = s.replaceAll("#ff5555|#f55(?!\\d)", colour.getShades()[1]);
-			s = s.replaceAll("#ff8080", colour.getShades()[2]);
-			s = s.replaceAll("#ffaaaa|#faa(?!\\d)", colour.getShades()[3]);
-			s = s.replaceAll("#ffd5d5", colour.getShades()[4]);
-		}
-		
-		if(colourSecondary!=null) {
-			s = s.replaceAll("#ff7f2a", colourSecondary.getShades()[0]);
-			s = s.replaceAll("#ff9955|#f95(?!\\d)", colourSecondary.getShades()[1]);
-			s = s.replaceAll("#ffb380", colourSecondary.getShades()[2]);
-			s = s.replaceAll("#ffccaa|#fca(?!\\d)", colourSecondary.getShades()[3]);
-			s = s.replaceAll("#ffe6d5", colourSecondary.getShades()[4]);
-		}
-		
-		if(colourTertiary!=null) {
-			s = s.replaceAll("#ffd42a", colourTertiary.getShades()[0]);
-			s = s.replaceAll("#ffdd55|#fd5(?!\\d)", colourTertiary.getShades()[1]);
-			s = s.replaceAll("#ffe680", colourTertiary.getShades()[2]);
-			s = s.replaceAll("#ffeeaa|#fea(?!\\d)", colourTertiary.getShades()[3]);
-			s = s.replaceAll("#fff6d5", colourTertiary.getShades()[4]);
-		}
+		String[] values = new String[SvgColourTemplate.STANDARD.getPassCount()];
+		setShades(values, 0, colour==null?null:colour.getShades());
+		setShades(values, 1, colourSecondary==null?null:colourSecondary.getShades());
+		setShades(values, 2, colourTertiary==null?null:colourTertiary.getShades());
+		setShades(values, 3, colourQuaternary==null?null:colourQuaternary.getShades());
 		
-		if(colourQuaternary!=null) {
-			s = s.replaceAll("#abc837", colourQuaternary.getShades()[0]);
-			s = s.replaceAll("#bcd35f", colourQuaternary.getShades()[1]);
-			s = s.replaceAll("#cdde87", colourQuaternary.getShades()[2]);
-			s = s.replaceAll("#dde9af", colourQuaternary.getShades()[3]);
-			s = s.replaceAll("#eef4d7", colourQuaternary.getShades()[4]);
-		}
-		
-		return s;
+		return replace(SvgColourTemplate.STANDARD, gradientPrefix, values, inputString);
 	}
 	
-
-	
 	public static String colourReplacement(String gradientReplacementID, BaseColour colour, String inputString) {
 		return colourReplacement(gradientReplacementID, colour, null, null, inputString);
 	}
 
 	public static String colourReplacement(String gradientReplacementID, BaseColour colour, BaseColour colourSecondary, BaseColour colourTertiary, String inputString) {
-		String s = inputString;
-	
+		String gradientPrefix = null;
 		if(gradientReplacementID!=null) {
-			s = s.replaceAll("linearGradient\\d|innoGrad\\d|radialGradient\\d",
-					gradientReplacementID + colour.toString() + (colourSecondary!=null?colourSecondary.toString():"") + (colourTertiary!=null?colourTertiary.toString():"") + "$0");
-		}
-
-		s = sanitizeImageString(s, true);
-		
-		if(colour!=null) {
-			s = s.replaceAll("#ff2a2a", colour.getShades()[0]);
-			s = s.replaceAll("#ff5555|#f55(?!\\d)", colour.getShades()[1]);
-			s = s.replaceAll("#ff8080", colour.getShades()[2]);
-			s = s.replaceAll("#ffaaaa|#faa(?!\\d)", colour.getShades()[3]);
-			s = s.replaceAll("#ffd5d5", colour.getShades()[4]);
-		}
-		
-		if(colourSecondary!=null) {
-			s = s.replaceAll("#ff7f2a", colourSecondary.getShades()[0]);
-			s = s.replaceAll("#ff9955|#f95(?!\\d)", colourSecondary.getShades()[1]);
-			s = s.replaceAll("#ffb380", colourSecondary.getShades()[2]);
-			s = s.replaceAll("#ffccaa|#fca(?!\\d)", colourSecondary.getShades()[3]);
-			s = s.replaceAll("#ffe6d5", colourSecondary.getShades()[4]);
+			gradientPrefix = gradientReplacementID + colour.toString() + (colourSecondary!=null?colourSecondary.toString():"") + (colourTertiary!=null?colourTertiary.toString():"");
 		}
 		
-		if(colourTertiary!=null) {
-			s = s.replaceAll("#ffd42a", colourTertiary.getShades()[0]);
-			s = s.replaceAll("#ffdd55|#fd5(?!\\d)", colourTertiary.getShades()[1]);
-			s = s.replaceAll("#ffe680", colourTertiary.getShades()[2]);
-			s = s.replaceAll("#ffeeaa|#fea(?!\\d)", colourTertiary.getShades()[3]);
-			s = s.replaceAll("#fff6d5", colourTertiary.getShades()[4]);
-		}
+		String[] values = new String[SvgColourTemplate.STANDARD.getPassCount()];
+		setShades(values, 0, colour==null?null:colour.getShades());
+		setShades(values, 1, colourSecondary==null?null:colourSecondary.getShades());
+		setShades(values, 2, colourTertiary==null?null:colourTertiary.getShades());
 		
-		return s;
+		return replace(SvgColourTemplate.STANDARD, gradientPrefix, values, inputString);
 	}
 
-
 	public static String colourReplacement(String gradientReplacementID, String colour, String inputString) {
-		String s = inputString;
-	
+		String gradientPrefix = null;
 		if(gradientReplacementID!=null) {
-			s = s.replaceAll("linearGradient\\d|innoGrad\\d|radialGradient\\d",
-					gradientReplacementID + colour.toString() + "$0");
+			gradientPrefix = gradientReplacementID + colour.toString();
 		}
-
-		s = sanitizeImageString(s, true);
 		
+		String[] values = new String[SvgColourTemplate.STANDARD.getPassCount()];
 		if(colour!=null) {
-			s = s.replaceAll("#ff2a2a", colour);
-			s = s.replaceAll("#ff5555|#f55(?!\\d)", colour);
-			s = s.replaceAll("#ff8080", colour);
-			s = s.replaceAll("#ffaaaa|#faa(?!\\d)", colour);
-			s = s.replaceAll("#ffd5d5", colour);
+			setShades(values, 0, new String[] {colour, colour, colour, colour, colour});
 		}
 		
-		return s;
+		return replace(SvgColourTemplate.STANDARD, gradientPrefix, values, inputString);
 	}
-
-	private static String sanitizeImageString(String imageString, boolean sanitizeSizes) {
-		String s = imageString;
-
-		// Remove xml header from svg, if it has one
-		s = s.replaceFirst("<\\?xml[^?]*\\?>", "");
-
-		if (sanitizeSizes) {
-			// Fixes issue of SVG icons overflowing:
-			s = s.replaceFirst("width=\"100%\"\\R   height=\"100%\"", "");
+	
+	/**
+	 * @param shades The five shades of a colour, or null if the colour is not being replaced.
+	 */
+	private static void setShades(String[] values, int colourIndex, String[] shades) {
+		if(shades!=null) {
+			System.arraycopy(shades, 0, values, colourIndex*5, 5);
 		}
-
+	}
+	
+	private static String replace(SvgColourTemplate.Palette palette, String gradientPrefix, String[] values, String inputString) {
+		String s = palette.getTemplate(inputString).render(gradientPrefix, values);
+		
+		if(VERIFY) {
+			String expected = SvgColourTemplate.renderByRegex(palette, gradientPrefix, values, inputString);
+			if(!expected.equals(s)) {
+				System.err.println("SvgUtil: Colour replacement differed from the regex replacement for gradient prefix '"+gradientPrefix+"'.");
+				return expected;
+			}
+		}
+		
 		return s;
 	}
 }
@@ -0,0 +1,101 @@
+package com.lilithsthrone.utils;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.lilithsthrone.game.character.effects.TreeEntry;
+
+/**
+ * The search which Pathing.aStarPathingPerkTree() uses to find routes through a perk tree.
+ *  It works on any tree of TreeEntries, so (like GridPathing) it doesn't need anything else from the game, and can be tested on its own (see TreePathingTest).
+ *
+ * @since 0.3.5.8
+ * @version 0.3.5.8
+ * @author Innoxia
+ */
+public class TreePathing {
+
+	/**
+	 * Finds the shortest route from start to destination, moving from each entry to its siblings (in the same row) or its children (in the next rows). Entries in row 0 are not part of the tree.
+	 * @param tree The entries of each row, grouped by category.
+	 * @return The entries on the route, including both start and destination, or an empty list if start isn't in the tree or destination can't be reached from it.
+	 */
+	public static <C, E> List<TreeEntry<C, E>> findPath(Map<Integer, Map<C, List<TreeEntry<C, E>>>> tree, TreeEntry<C, E> start, TreeEntry<C, E> destination) {
+		List<TreeEntry<C, E>> entries = new ArrayList<>();
+
+		for(Map<C, List<TreeEntry<C, E>>> row : tree.values()) {
+			for(List<TreeEntry<C, E>> categoryEntries : row.values()) {
+				for(TreeEntry<C, E> entry : categoryEntries) {
+					if(entry.getRow()>0) {
+						entries.add(entry);
+					}
+				}
+			}
+		}
+
+		List<TreeEntry<C, E>> path = new ArrayList<>();
+
+		Map<TreeEntry<C, E>, Integer> indices = new HashMap<>();
+		for (int i = 0; i < entries.size(); i++) {
+			indices.putIfAbsent(entries.get(i), i);
+		}
+		Integer startIndex = indices.get(start);
+		if(startIndex==null) {
+			return path;
+		}
+
+		// Every link costs the same, and the heuristic is a constant 1, so this is effectively a breadth-first search:
+		long[] g = new long[entries.size()];
+		int[] parents = new int[entries.size()];
+		BitSet closed = new BitSet(entries.size());
+		IndexedMinHeap open = new IndexedMinHeap(entries.size());
+
+		parents[startIndex] = -1;
+		open.add(startIndex, 1);
+
+		int destinationIndex = -1;
+		while (!open.isEmpty()) {
+			int current = open.poll();
+
+			if(entries.get(current).equals(destination)) {
+				destinationIndex = current;
+				break;
+			}
+			closed.set(current);
+
+			List<TreeEntry<C, E>> links = new ArrayList<>(entries.get(current).getSiblingLinks());
+			links.addAll(entries.get(current).getChildLinks());
+			for(TreeEntry<C, E> link : links) {
+				Integer linkIndex = indices.get(link);
+				if(linkIndex==null || closed.get(linkIndex)) {
+					continue;
+				}
+				long linkG = g[current] + 1;
+
+				if(!open.contains(linkIndex)) {
+					g[linkIndex] = linkG;
+					parents[linkIndex] = current;
+					open.add(linkIndex, linkG + 1);
+
+				} else if(linkG < g[linkIndex]) {
+					g[linkIndex] = linkG;
+					parents[linkIndex] = current;
+					open.decreasePriority(linkIndex, linkG + 1);
+				}
+			}
+		}
+
+		if(destinationIndex==-1) {
+			return path;
+		}
+		for(int n = destinationIndex; n!=-1; n = parents[n]) {
+			path.add(entries.get(n));
+		}
+		Collections.reverse(path);
+		return path;
+	}
+}
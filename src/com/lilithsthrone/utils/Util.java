@@ -6,6 +6,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -113,12 +117,29 @@ public class Util {
 		put(KeyCode.TAB, "Tab");
 	}};
 
-	// What madness is this
+	/**
+	 * Reads the whole stream through a byte channel, and decodes it in one go, rather than having a Scanner match it against a regex. The stream is closed afterwards.
+	 * @return The stream's contents, in the platform's default charset, or an empty String if the stream is null.
+	 */
 	public static String inputStreamToString(InputStream is) {
 		if (is == null)
 			return "";
-		try (java.util.Scanner s = new java.util.Scanner(is)) {
-			return s.useDelimiter("\\A").hasNext() ? s.next() : "";
+		try (ReadableByteChannel channel = Channels.newChannel(is)) {
+			ByteBuffer buffer = ByteBuffer.allocate(Math.max(8192, is.available()+1));
+			while(channel.read(buffer)!=-1) {
+				if(!buffer.hasRemaining()) {
+					ByteBuffer larger = ByteBuffer.allocate(buffer.capacity()*2);
+					buffer.flip();
+					larger.put(buffer);
+					buffer = larger;
+				}
+			}
+			buffer.flip();
+			return Charset.defaultCharset().decode(buffer).toString();
+			
+		} catch (IOException e) {
+			e.printStackTrace();
+			return "";
 		}
 	}
 	
@@ -0,0 +1,265 @@
+package com.lilithsthrone.utils;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+/**
+ * Reads files written by XMLBinaryWriter back into a DOM Document, so that they can be loaded through exactly the same loadFromXML() methods as XML files.
+ *
+ * @since 0.3.5.8
+ * @version 0.3.5.8
+ * @author Innoxia
+ */
+public class XMLBinaryReader {
+
+	/**
+	 * @return true if the file starts with the binary format's magic bytes.
+	 */
+	public static boolean isBinaryFile(File file) {
+		if(!file.isFile()) {
+			return false;
+		}
+		try(InputStream is = new FileInputStream(file)) {
+			byte[] header = new byte[XMLBinaryWriter.MAGIC.length];
+			int read = 0;
+			while(read<header.length) {
+				int count = is.read(header, read, header.length-read);
+				if(count<0) {
+					return false;
+				}
+				read += count;
+			}
+			return Arrays.equals(header, XMLBinaryWriter.MAGIC);
+
+		} catch(IOException e) {
+			return false;
+		}
+	}
+
+	public static Document read(File file) throws IOException, ParserConfigurationException {
+		Document doc = XMLStreamSaver.newScratchDocument();
+
+		try(DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), 64*1024))) {
+			byte[] header = new byte[XMLBinaryWriter.MAGIC.length];
+			in.readFully(header);
+			if(!Arrays.equals(header, XMLBinaryWriter.MAGIC)) {
+				throw new IOException("Not a binary save file: "+file.getPath());
+			}
+			int version = readVarInt(in);
+			if(version>XMLBinaryWriter.FORMAT_VERSION) {
+				throw new IOException("Binary save file '"+file.getPath()+"' is of format version "+version+", but only versions up to "+XMLBinaryWriter.FORMAT_VERSION+" are supported.");
+			}
+
+			Deque<Node> openElements = new ArrayDeque<>();
+			openElements.push(doc);
+			Inflater inflater = new Inflater();
+			try {
+				while(true) {
+					int record = in.readUnsignedByte();
+					switch(record) {
+						case XMLBinaryWriter.RECORD_START:
+							Element element = doc.createElement(readString(in));
+							openElements.peek().appendChild(element);
+							openElements.push(element);
+							break;
+
+						case XMLBinaryWriter.RECORD_SECTION:
+							byte[] section = new byte[readVarInt(in)];
+							in.readFully(section);
+							inflater.reset();
+							try(DataInputStream sectionInput = new DataInputStream(new BufferedInputStream(new InflaterInputStream(new ByteArrayInputStream(section), inflater, 8*1024), 8*1024))) {
+								if(sectionInput.readUnsignedByte()!=XMLBinaryWriter.NODE_ELEMENT) {
+									throw new IOException("Malformed section in binary save file: "+file.getPath());
+								}
+								openElements.peek().appendChild(readElement(sectionInput, doc, new ArrayList<>()));
+							}
+							break;
+
+						case XMLBinaryWriter.RECORD_END:
+							if(openElements.size()<=1) {
+								throw new IOException("Malformed binary save file: "+file.getPath());
+							}
+							openElements.pop();
+							break;
+
+						case XMLBinaryWriter.RECORD_EOF:
+							return doc;
+
+						default:
+							throw new IOException("Unknown record type "+record+" in binary save file: "+file.getPath());
+					}
+				}
+			} finally {
+				inflater.end();
+			}
+
+		} catch(EOFException e) {
+			throw new IOException("Binary save file is truncated: "+file.getPath(), e);
+		}
+	}
+
+	/**
+	 * Finds the first section with each of the supplied tag names in a single pass through the file, without decompressing any of the other sections past their first few bytes.
+	 *  Reading stops as soon as every section has been found, or as soon as isFinished returns true.
+	 * @param isFinished Called with the sections found so far, each time that one is found.
+	 * @return The element of each section (in the same order as tagNames), each in a new Document, or null for each section which wasn't found.
+	 */
+	public static Element[] readSections(File file, Predicate<Element[]> isFinished, String... tagNames) throws IOException, ParserConfigurationException {
+		Element[] sections = new Element[tagNames.length];
+		int found = 0;
+		try(DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), 64*1024))) {
+			byte[] header = new byte[XMLBinaryWriter.MAGIC.length];
+			in.readFully(header);
+			if(!Arrays.equals(header, XMLBinaryWriter.MAGIC)) {
+				throw new IOException("Not a binary save file: "+file.getPath());
+			}
+			readVarInt(in);
+
+			while(true) {
+				int record = in.readUnsignedByte();
+				switch(record) {
+					case XMLBinaryWriter.RECORD_START:
+						readString(in);
+						break;
+
+					case XMLBinaryWriter.RECORD_SECTION:
+						byte[] section = new byte[readVarInt(in)];
+						in.readFully(section);
+						int sectionIndex = -1;
+						try(DataInputStream sectionInput = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(section)))) {
+							if(sectionInput.readUnsignedByte()==XMLBinaryWriter.NODE_ELEMENT) {
+								String sectionTagName = readTableString(sectionInput, new ArrayList<>());
+								for(int i=0; i<tagNames.length; i++) {
+									if(sections[i]==null && tagNames[i].equals(sectionTagName)) {
+										sectionIndex = i;
+										break;
+									}
+								}
+							}
+						}
+						if(sectionIndex==-1) {
+							break;
+						}
+						Document doc = XMLStreamSaver.newScratchDocument();
+						try(DataInputStream sectionInput = new DataInputStream(new BufferedInputStream(new InflaterInputStream(new ByteArrayInputStream(section)), 8*1024))) {
+							sectionInput.readUnsignedByte();
+							Element element = readElement(sectionInput, doc, new ArrayList<>());
+							doc.appendChild(element);
+							sections[sectionIndex] = element;
+						}
+						found++;
+						if(found==tagNames.length || isFinished.test(sections)) {
+							return sections;
+						}
+						break;
+
+					case XMLBinaryWriter.RECORD_END:
+						break;
+
+					case XMLBinaryWriter.RECORD_EOF:
+						return sections;
+
+					default:
+						throw new IOException("Unknown record type "+record+" in binary save file: "+file.getPath());
+				}
+			}
+
+		} catch(EOFException e) {
+			throw new IOException("Binary save file is truncated: "+file.getPath(), e);
+		}
+	}
+
+	/**
+	 * Reads an element whose NODE_ELEMENT marker has already been read.
+	 */
+	private static Element readElement(DataInputStream in, Document doc, List<String> stringTable) throws IOException {
+		Element element = doc.createElement(readTableString(in, stringTable));
+
+		int attributeCount = readVarInt(in);
+		for(int i=0; i<attributeCount; i++) {
+			String name = readTableString(in, stringTable);
+			int valueType = in.readUnsignedByte();
+			if(valueType==XMLBinaryWriter.VALUE_INTEGER) {
+				long zigzag = readVarLong(in);
+				element.setAttribute(name, String.valueOf((zigzag >>> 1) ^ -(zigzag & 1)));
+			} else {
+				element.setAttribute(name, readTableString(in, stringTable));
+			}
+		}
+
+		while(true) {
+			int node = in.readUnsignedByte();
+			switch(node) {
+				case XMLBinaryWriter.NODE_END:
+					return element;
+				case XMLBinaryWriter.NODE_ELEMENT:
+					element.appendChild(readElement(in, doc, stringTable));
+					break;
+				case XMLBinaryWriter.NODE_TEXT:
+					element.appendChild(doc.createTextNode(readString(in)));
+					break;
+				case XMLBinaryWriter.NODE_CDATA:
+					element.appendChild(doc.createCDATASection(readString(in)));
+					break;
+				default:
+					throw new IOException("Unknown node type "+node+" in binary save file.");
+			}
+		}
+	}
+
+	private static String readTableString(DataInputStream in, List<String> stringTable) throws IOException {
+		int index = readVarInt(in);
+		if(index==0) {
+			String value = readString(in);
+			stringTable.add(value);
+			return value;
+		}
+		if(index>stringTable.size()) {
+			throw new IOException("Invalid string table index "+index+" in binary save file.");
+		}
+		return stringTable.get(index-1);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[readVarInt(in)];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static int readVarInt(DataInputStream in) throws IOException {
+		return (int) readVarLong(in);
+	}
+
+	private static long readVarLong(DataInputStream in) throws IOException {
+		long value = 0;
+		for(int shift=0; shift<64; shift+=7) {
+			int b = in.readUnsignedByte();
+			value |= (long) (b & 0x7F) << shift;
+			if((b & 0x80)==0) {
+				return value;
+			}
+		}
+		throw new IOException("Malformed varint in binary save file.");
+	}
+}
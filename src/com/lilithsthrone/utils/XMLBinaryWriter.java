@@ -0,0 +1,262 @@
+package com.lilithsthrone.utils;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Writes the same element tree as XMLStreamSaver, but in a compact binary format which can be read back into a DOM by XMLBinaryReader much faster than XML can be parsed.<br/>
+ * <br/>
+ * Format (version 1):<br/>
+ * - The magic bytes 'LTSB', followed by the format version as a varint.<br/>
+ * - A sequence of records, each starting with a record type byte: START (followed by an element name, as a varint length and UTF-8 bytes), SECTION (followed by a varint length and that many bytes of deflated element data), END, and finally EOF.<br/>
+ * - Each section is a single element subtree, compressed independently and with its own string table.
+ *  Element names, attribute names and non-numeric attribute values are written as references into the string table, with the string itself only being written the first time that it is used.
+ *  Attribute values which are integers are written as zigzag varints.<br/>
+ * <br/>
+ * Like XMLStreamSaver, output is written to a temporary file next to the target, which only replaces the target once it has been completely written and closed.
+ *
+ * @since 0.3.5.8
+ * @version 0.3.5.8
+ * @author Innoxia
+ */
+public class XMLBinaryWriter implements XMLSectionWriter {
+
+	public static final byte[] MAGIC = new byte[] {'L', 'T', 'S', 'B'};
+	public static final int FORMAT_VERSION = 1;
+
+	static final int RECORD_EOF = 0;
+	static final int RECORD_START = 1;
+	static final int RECORD_SECTION = 2;
+	static final int RECORD_END = 3;
+
+	static final int NODE_END = 0;
+	static final int NODE_ELEMENT = 1;
+	static final int NODE_TEXT = 2;
+	static final int NODE_CDATA = 3;
+
+	static final int VALUE_STRING = 0;
+	static final int VALUE_INTEGER = 1;
+
+	private final Path path;
+	private final Path temporaryPath;
+	private final DataOutputStream output;
+	private int openElements = 0;
+
+	private final ByteArrayOutputStream sectionBytes = new ByteArrayOutputStream(64*1024);
+	private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+	/** The string table of the section currently being written. */
+	private final Map<String, Integer> stringTable = new HashMap<>();
+
+	/**
+	 * Opens a temporary file next to the supplied path (creating or truncating it) and writes the file header. The file at the supplied path is not touched until close() is called.
+	 */
+	public XMLBinaryWriter(Path path) throws IOException {
+		this.path = path;
+		this.temporaryPath = path.resolveSibling(path.getFileName()+".tmp");
+		FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+		output = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 64*1024));
+		output.write(MAGIC);
+		writeVarInt(output, FORMAT_VERSION);
+	}
+
+	@Override
+	public void writeStartElement(String name) throws XMLStreamException {
+		try {
+			output.writeByte(RECORD_START);
+			writeString(output, name);
+			openElements++;
+		} catch (IOException e) {
+			throw new XMLStreamException(e);
+		}
+	}
+
+	@Override
+	public void writeEndElement() throws XMLStreamException {
+		try {
+			output.writeByte(RECORD_END);
+			openElements--;
+		} catch (IOException e) {
+			throw new XMLStreamException(e);
+		}
+	}
+
+	@Override
+	public void writeElement(Element element) throws XMLStreamException {
+		try {
+			sectionBytes.reset();
+			deflater.reset();
+			stringTable.clear();
+			DeflaterOutputStream deflaterStream = new DeflaterOutputStream(sectionBytes, deflater, 8*1024);
+			DataOutputStream sectionOutput = new DataOutputStream(new BufferedOutputStream(deflaterStream, 8*1024));
+			writeNode(sectionOutput, element);
+			sectionOutput.flush();
+			deflaterStream.finish();
+
+			output.writeByte(RECORD_SECTION);
+			writeVarInt(output, sectionBytes.size());
+			sectionBytes.writeTo(output);
+
+		} catch (IOException e) {
+			throw new XMLStreamException(e);
+		}
+	}
+
+	private void writeNode(DataOutputStream out, Element element) throws IOException {
+		out.writeByte(NODE_ELEMENT);
+		writeTableString(out, element.getTagName());
+
+		NamedNodeMap attributes = element.getAttributes();
+		writeVarInt(out, attributes.getLength());
+		for(int i=0; i<attributes.getLength(); i++) {
+			Attr attribute = (Attr) attributes.item(i);
+			writeTableString(out, attribute.getName());
+			String value = attribute.getValue();
+			if(isCanonicalInteger(value)) {
+				out.writeByte(VALUE_INTEGER);
+				writeVarLong(out, zigzag(Long.parseLong(value)));
+			} else {
+				out.writeByte(VALUE_STRING);
+				writeTableString(out, value);
+			}
+		}
+
+		NodeList children = element.getChildNodes();
+		boolean hasChildElements = false;
+		for(int i=0; i<children.getLength(); i++) {
+			if(children.item(i).getNodeType()==Node.ELEMENT_NODE) {
+				hasChildElements = true;
+				break;
+			}
+		}
+		for(int i=0; i<children.getLength(); i++) {
+			Node child = children.item(i);
+			switch(child.getNodeType()) {
+				case Node.ELEMENT_NODE:
+					writeNode(out, (Element) child);
+					break;
+				case Node.TEXT_NODE:
+					// Whitespace between child elements is only indentation, so it isn't kept:
+					if(!hasChildElements || !child.getNodeValue().trim().isEmpty()) {
+						out.writeByte(NODE_TEXT);
+						writeString(out, child.getNodeValue());
+					}
+					break;
+				case Node.CDATA_SECTION_NODE:
+					out.writeByte(NODE_CDATA);
+					writeString(out, child.getNodeValue());
+					break;
+				default:
+					break;
+			}
+		}
+		out.writeByte(NODE_END);
+	}
+
+	/**
+	 * @return true if the value would be written back out identically by Long.toString(Long.parseLong(value)).
+	 */
+	private static boolean isCanonicalInteger(String value) {
+		int length = value.length();
+		if(length==0 || length>18) {
+			return false;
+		}
+		int start = value.charAt(0)=='-' ? 1 : 0;
+		if(start==length || (value.charAt(start)=='0' && (length-start>1 || start==1))) {
+			return false; // Leading zeros and "-0" would not survive the round trip
+		}
+		for(int i=start; i<length; i++) {
+			char c = value.charAt(i);
+			if(c<'0' || c>'9') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static long zigzag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	/**
+	 * Strings which have been written before in this section are written as their (1-based) index in the string table. New strings are written as a 0 followed by the string itself.
+	 */
+	private void writeTableString(DataOutputStream out, String value) throws IOException {
+		Integer index = stringTable.get(value);
+		if(index!=null) {
+			writeVarInt(out, index);
+		} else {
+			writeVarInt(out, 0);
+			writeString(out, value);
+			stringTable.put(value, stringTable.size()+1);
+		}
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		writeVarInt(out, bytes.length);
+		out.write(bytes);
+	}
+
+	static void writeVarInt(OutputStream out, int value) throws IOException {
+		writeVarLong(out, value & 0xFFFFFFFFL);
+	}
+
+	static void writeVarLong(OutputStream out, long value) throws IOException {
+		while((value & ~0x7FL) != 0) {
+			out.write((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.write((int) value);
+	}
+
+	/**
+	 * Writes the end of the file, flushes and closes the temporary file, and then moves it over the file at the target path.<br/>
+	 * If any element is still open (i.e. writing was interrupted by an exception), or if anything fails before the move, the temporary file is deleted and the target file is left as it was.
+	 */
+	@Override
+	public void close() throws IOException {
+		boolean complete = openElements==0;
+		try {
+			try {
+				output.writeByte(RECORD_EOF);
+			} finally {
+				output.close();
+				deflater.end();
+			}
+			if(!complete) {
+				throw new IOException("Incomplete save was not written to "+path);
+			}
+			try {
+				Files.move(temporaryPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException e) {
+			Files.deleteIfExists(temporaryPath);
+			throw e;
+		}
+	}
+}
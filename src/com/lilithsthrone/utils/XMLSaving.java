@@ -1,11 +1,14 @@
 package com.lilithsthrone.utils;
 
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
+
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 
 /**
  * @since 0.1.87
- * @version 0.1.87
+ * @version 0.3.5.8
  * @author Innoxia
  */
 public interface XMLSaving {
@@ -16,6 +19,15 @@ public interface XMLSaving {
 	 * @return The base element for this object's XML export.
 	 */
 	public Element saveAsXML(Element parentElement, Document doc);
+	
+	/**
+	 * Writes this object's XML export to the writer, producing the same output as saveAsXML(Element, Document) would under the writer's currently open element.<br/>
+	 * By default, this builds only this object's subtree in a scratch Document before writing it, so implementations don't need to override it to avoid holding an entire export in memory.
+	 * @param saver The XMLSectionWriter to write this object to.
+	 */
+	public default void saveAsXML(XMLSectionWriter saver) throws XMLStreamException, ParserConfigurationException {
+		saver.writeSaveable(this);
+	}
 
 	/**
 	 * @param parentElement The parent element from which to load this object from.
@@ -0,0 +1,69 @@
+package com.lilithsthrone.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.w3c.dom.Element;
+
+/**
+ * Holds the sections of an XML export in memory, so that they can be built on the game thread and then serialised and written to disk by an XMLStreamSaver (or XMLBinaryWriter) on another thread.<br/>
+ * Each element is a detached subtree in its own scratch Document, so nothing in the buffer is shared with live game state.
+ *  The buffer is <b>not</b> a cheap snapshot of the game, though: building those subtrees is most of the work of saving, and it all still happens on the game thread. Only the encoding and file IO are moved off it.<br/>
+ * <br/>
+ * This is a trade-off of memory for a shorter pause. Unlike streaming straight to an XMLStreamSaver (which only ever holds one section in memory), the buffer holds the DOM of every section until it's written,
+ *  so while a background write is in progress, its peak memory use is about the same as building the whole save as a single Document (several times the size of the save file).
+ *  Each section is released as soon as it has been written, so that memory is given back gradually rather than all at the end.
+ *
+ * @since 0.3.5.8
+ * @version 0.3.5.8
+ * @author Innoxia
+ */
+public class XMLSectionBuffer implements XMLSectionWriter {
+
+	private static final Object END_ELEMENT = new Object();
+
+	/** Each entry is either a String (start of an element with that name), an Element (a complete subtree), or END_ELEMENT (end of the last started element). */
+	private List<Object> sections = new ArrayList<>();
+
+	@Override
+	public void writeStartElement(String name) {
+		sections.add(name);
+	}
+
+	@Override
+	public void writeElement(Element element) {
+		sections.add(element);
+	}
+
+	@Override
+	public void writeEndElement() {
+		sections.add(END_ELEMENT);
+	}
+
+	/**
+	 * Nothing is held open by a buffer, so this does nothing.
+	 */
+	@Override
+	public void close() {
+	}
+
+	/**
+	 * Writes every buffered section, in order, to the supplied writer. Each section is released once it has been written, so a buffer can only be written once.
+	 */
+	public void writeTo(XMLSectionWriter writer) throws XMLStreamException {
+		for(int i=0; i<sections.size(); i++) {
+			Object section = sections.set(i, null);
+			if(section==END_ELEMENT) {
+				writer.writeEndElement();
+			} else if(section instanceof String) {
+				writer.writeStartElement((String) section);
+			} else if(section instanceof Element) {
+				writer.writeElement((Element) section);
+			} else {
+				throw new IllegalStateException("XMLSectionBuffer has already been written.");
+			}
+		}
+	}
+}
@@ -0,0 +1,54 @@
+package com.lilithsthrone.utils;
+
+import java.io.Closeable;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Something which large XML exports can be written to one section at a time, either straight to disk (XMLStreamSaver or XMLBinaryWriter) or into memory, to be written to disk later (XMLSectionBuffer).
+ *
+ * @since 0.3.5.8
+ * @version 0.3.5.8
+ * @author Innoxia
+ */
+public interface XMLSectionWriter extends Closeable {
+
+	public void writeStartElement(String name) throws XMLStreamException;
+
+	/**
+	 * Writes the supplied DOM element, along with all of its attributes and children. The element must not be modified afterwards.
+	 */
+	public void writeElement(Element element) throws XMLStreamException;
+
+	public void writeEndElement() throws XMLStreamException;
+
+	/**
+	 * Writes every child element of the supplied DOM element, but not the element itself.
+	 */
+	public default void writeChildElements(Element parent) throws XMLStreamException {
+		NodeList children = parent.getChildNodes();
+		for(int i=0; i<children.getLength(); i++) {
+			if(children.item(i).getNodeType()==Node.ELEMENT_NODE) {
+				writeElement((Element) children.item(i));
+			}
+		}
+	}
+
+	/**
+	 * Writes the XML export of the supplied object, as if saveAsXML(parentElement, doc) had been called with the currently open element as parentElement.<br/>
+	 * Only this object's subtree is built, in its own scratch Document.
+	 */
+	public default void writeSaveable(XMLSaving saveable) throws XMLStreamException, ParserConfigurationException {
+		Document doc = XMLStreamSaver.newScratchDocument();
+		Element parentElement = doc.createElement("parent");
+		doc.appendChild(parentElement);
+		saveable.saveAsXML(parentElement, doc);
+		writeChildElements(parentElement);
+	}
+}
@@ -0,0 +1,304 @@
+package com.lilithsthrone.utils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
+
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Writes indented XML straight to a file, so that large exports (such as save games) don't need to be held in memory as a single DOM.<br/>
+ * Objects which only know how to save themselves through XMLSaving.saveAsXML(Element, Document) can be streamed with writeSaveable(), which builds just that object's subtree in a scratch Document, writes it out, and then discards it.<br/>
+ * Output is written to a temporary file next to the target, which only replaces the target once it has been completely written and closed.<br/>
+ * <br/>
+ * The XML is written here rather than through an XMLStreamWriter, as the JDK's XMLStreamWriter doesn't escape line breaks or tabs in attribute values,
+ *  which a parser then turns into spaces (so multi-line descriptions would lose their line breaks when loaded).
+ *
+ * @since 0.3.5.8
+ * @version 0.3.5.8
+ * @author Innoxia
+ */
+public class XMLStreamSaver implements XMLSectionWriter {
+
+	private static final String INDENT = "  ";
+
+	private static DocumentBuilder scratchDocumentBuilder;
+
+	private final Path path;
+	private final Path temporaryPath;
+	private final Writer writer;
+	/** For each open element, whether it has had a child element written to it (in which case its end tag is indented). */
+	private final Deque<Boolean> openElements = new ArrayDeque<>();
+	private final Deque<String> openElementNames = new ArrayDeque<>();
+	/** Whether the last start tag is still waiting for its '&gt;', so that attributes can be added to it. */
+	private boolean startTagOpen = false;
+
+	/**
+	 * Opens a temporary file next to the supplied path (creating or truncating it) and writes the XML declaration. The file at the supplied path is not touched until close() is called.
+	 */
+	public XMLStreamSaver(Path path) throws IOException, XMLStreamException {
+		this.path = path;
+		this.temporaryPath = path.resolveSibling(path.getFileName()+".tmp");
+		FileChannel channel = FileChannel.open(temporaryPath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+		writer = new BufferedWriter(new OutputStreamWriter(Channels.newOutputStream(channel), StandardCharsets.UTF_8), 64*1024);
+		write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>");
+	}
+
+	/**
+	 * @return A new, empty Document, for building the subtree of a single object before it is streamed.
+	 */
+	public static synchronized Document newScratchDocument() throws ParserConfigurationException {
+		if(scratchDocumentBuilder==null) {
+			scratchDocumentBuilder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+		}
+		return scratchDocumentBuilder.newDocument();
+	}
+
+	private void write(String s) throws XMLStreamException {
+		try {
+			writer.write(s);
+		} catch (IOException e) {
+			throw new XMLStreamException(e);
+		}
+	}
+
+	private void closeStartTag() throws XMLStreamException {
+		if(startTagOpen) {
+			write(">");
+			startTagOpen = false;
+		}
+	}
+
+	private void writeIndent() throws XMLStreamException {
+		closeStartTag();
+		write("\n");
+		for(int i=0; i<openElements.size(); i++) {
+			write(INDENT);
+		}
+	}
+
+	private void writeStartTag(String name) throws XMLStreamException {
+		closeStartTag();
+		write("<");
+		write(name);
+		startTagOpen = true;
+	}
+
+	/**
+	 * Ends the element whose start tag was last written. If nothing has been written since its start tag, it's written as an empty element.
+	 */
+	private void writeEndTag(String name) throws XMLStreamException {
+		if(startTagOpen) {
+			write("/>");
+			startTagOpen = false;
+		} else {
+			write("</");
+			write(name);
+			write(">");
+		}
+	}
+
+	private void markParentAsHavingChildren() {
+		if(!openElements.isEmpty()) {
+			openElements.pop();
+			openElements.push(true);
+		}
+	}
+
+	@Override
+	public void writeStartElement(String name) throws XMLStreamException {
+		markParentAsHavingChildren();
+		writeIndent();
+		writeStartTag(name);
+		openElements.push(false);
+		openElementNames.push(name);
+	}
+
+	/**
+	 * Adds an attribute to the element which was just started. Must be called before anything is written inside of that element.
+	 */
+	public void writeAttribute(String name, String value) throws XMLStreamException {
+		if(!startTagOpen) {
+			throw new XMLStreamException("Attribute '"+name+"' was written after the content of its element.");
+		}
+		write(" ");
+		write(name);
+		write("=\"");
+		write(escape(value, true));
+		write("\"");
+	}
+
+	@Override
+	public void writeEndElement() throws XMLStreamException {
+		boolean hadChildElements = openElements.pop();
+		if(hadChildElements) {
+			writeIndent();
+		}
+		writeEndTag(openElementNames.pop());
+	}
+
+	@Override
+	public void writeElement(Element element) throws XMLStreamException {
+		markParentAsHavingChildren();
+		writeIndent();
+		writeElementContent(element, true);
+	}
+
+	private void writeElementContent(Element element, boolean indentChildren) throws XMLStreamException {
+		NodeList children = element.getChildNodes();
+
+		writeStartTag(element.getTagName());
+		writeAttributes(element);
+		if(children.getLength()==0) {
+			writeEndTag(element.getTagName());
+			return;
+		}
+
+		// Elements with text content are written exactly as they are, so as to not alter their content with indentation:
+		boolean hasText = false;
+		for(int i=0; i<children.getLength(); i++) {
+			if(children.item(i).getNodeType()!=Node.ELEMENT_NODE) {
+				hasText = true;
+				break;
+			}
+		}
+		boolean indent = indentChildren && !hasText;
+
+		openElements.push(false);
+		for(int i=0; i<children.getLength(); i++) {
+			Node child = children.item(i);
+			switch(child.getNodeType()) {
+				case Node.ELEMENT_NODE:
+					if(indent) {
+						markParentAsHavingChildren();
+						writeIndent();
+					}
+					writeElementContent((Element) child, indent);
+					break;
+				case Node.TEXT_NODE:
+					closeStartTag();
+					write(escape(child.getNodeValue(), false));
+					break;
+				case Node.CDATA_SECTION_NODE:
+					closeStartTag();
+					write("<![CDATA[");
+					write(child.getNodeValue());
+					write("]]>");
+					break;
+				case Node.COMMENT_NODE:
+					closeStartTag();
+					write("<!--");
+					write(child.getNodeValue());
+					write("-->");
+					break;
+				default:
+					break;
+			}
+		}
+		boolean hadChildElements = openElements.pop();
+		if(hadChildElements) {
+			writeIndent();
+		}
+		writeEndTag(element.getTagName());
+	}
+
+	private void writeAttributes(Element element) throws XMLStreamException {
+		NamedNodeMap attributes = element.getAttributes();
+		for(int i=0; i<attributes.getLength(); i++) {
+			Attr attribute = (Attr) attributes.item(i);
+			writeAttribute(attribute.getName(), attribute.getValue());
+		}
+	}
+
+	/**
+	 * @param attribute Whether this is an attribute value, in which case quotes, line breaks, and tabs are also escaped (as a parser would otherwise turn the line breaks and tabs into spaces).
+	 * @return The text, escaped so that it's read back exactly as it is. Carriage returns are always escaped, as a parser would otherwise remove them.
+	 */
+	static String escape(String text, boolean attribute) {
+		StringBuilder sb = null;
+		for(int i=0; i<text.length(); i++) {
+			char c = text.charAt(i);
+			String replacement;
+			switch(c) {
+				case '&':
+					replacement = "&amp;";
+					break;
+				case '<':
+					replacement = "&lt;";
+					break;
+				case '>':
+					replacement = "&gt;";
+					break;
+				case '\r':
+					replacement = "&#13;";
+					break;
+				case '"':
+					replacement = attribute ? "&quot;" : null;
+					break;
+				case '\n':
+					replacement = attribute ? "&#10;" : null;
+					break;
+				case '\t':
+					replacement = attribute ? "&#9;" : null;
+					break;
+				default:
+					replacement = null;
+					break;
+			}
+			if(replacement!=null) {
+				if(sb==null) {
+					sb = new StringBuilder(text.length()+16);
+					sb.append(text, 0, i);
+				}
+				sb.append(replacement);
+			} else if(sb!=null) {
+				sb.append(c);
+			}
+		}
+		return sb==null ? text : sb.toString();
+	}
+
+	/**
+	 * Ends the document, flushes and closes the temporary file, and then moves it over the file at the target path.<br/>
+	 * If any element is still open (i.e. writing was interrupted by an exception), or if anything fails before the move, the temporary file is deleted and the target file is left as it was.
+	 */
+	@Override
+	public void close() throws IOException {
+		boolean complete = openElements.isEmpty();
+		try {
+			writer.close();
+			if(!complete) {
+				throw new IOException("Incomplete XML was not written to "+path);
+			}
+			try {
+				Files.move(temporaryPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException e) {
+			Files.deleteIfExists(temporaryPath);
+			throw e;
+		}
+	}
+}
@@ -12,6 +12,7 @@ import org.w3c.dom.Node;
 
 import com.lilithsthrone.game.Game;
 import com.lilithsthrone.game.character.CharacterUtils;
+import com.lilithsthrone.game.character.npc.NPC;
 import com.lilithsthrone.game.inventory.CharacterInventory;
 import com.lilithsthrone.game.inventory.Rarity;
 import com.lilithsthrone.game.inventory.clothing.AbstractClothing;
@@ -20,6 +21,7 @@ import com.lilithsthrone.game.inventory.weapon.AbstractWeapon;
 import com.lilithsthrone.main.Main;
 import com.lilithsthrone.utils.Vector2i;
 import com.lilithsthrone.utils.XMLSaving;
+import com.lilithsthrone.world.places.AbstractPlaceType;
 import com.lilithsthrone.world.places.GenericPlace;
 import com.lilithsthrone.world.places.PlaceUpgrade;
 
@@ -33,6 +35,8 @@ public class Cell implements XMLSaving {
 	public static final int CELL_MAXIMUM_INVENTORY_SPACE = 48;
 	
 	private WorldType type;
+	/** The World whose grid this cell is in, which is notified when this cell's place changes. Null until the cell has been added to a World. */
+	private World world;
 
 	private Vector2i location;
 
@@ -41,6 +45,10 @@ public class Cell implements XMLSaving {
 	private GenericPlace place;
 	private CharacterInventory inventory;
 	private Set<String> charactersPresentIds;
+	/** Incremented every time that charactersPresentIds changes. Cells are only changed and queried on the game thread, so this and charactersPresentSorted need no locking. */
+	private int charactersPresentModificationCount;
+	/** The NPCs present in this cell, sorted as returned by Game.getCharactersPresent(), or null if occupancy has changed since it was set. */
+	private List<NPC> charactersPresentSorted;
 	private Set<String> charactersHomeIds;
 	private Set<String> charactersGlobalIds;
 
@@ -51,6 +59,7 @@ public class Cell implements XMLSaving {
 		discovered = false;
 		travelledTo = false;
 		place = new GenericPlace(type.getStandardPlace());
+		place.setCell(this);
 		
 		inventory = new CharacterInventory(0, CELL_MAXIMUM_INVENTORY_SPACE);
 	}
@@ -159,12 +168,57 @@ public class Cell implements XMLSaving {
 	}
 
 	public void setPlace(GenericPlace place, boolean applyInventoryInit) {
+		GenericPlace oldPlace = this.place;
+		if(oldPlace!=null) {
+			oldPlace.setCell(null);
+		}
 		this.place = place;
+		place.setCell(this);
+		if(world!=null) {
+			world.updatePlaceTypeIndex(this, oldPlace==null?null:oldPlace.getPlaceType(), place.getPlaceType());
+			if(oldPlace!=null) {
+				for(PlaceUpgrade upgrade : oldPlace.getPlaceUpgrades()) {
+					world.updatePlaceUpgradeIndex(this, upgrade, false);
+				}
+			}
+			for(PlaceUpgrade upgrade : place.getPlaceUpgrades()) {
+				world.updatePlaceUpgradeIndex(this, upgrade, true);
+			}
+		}
 		if(applyInventoryInit) {
 			place.getPlaceType().applyInventoryInit(this.getInventory());
 		}
 	}
 
+	/**
+	 * @return The World whose grid this cell is in, or null if it has not been added to a World.
+	 */
+	public World getWorld() {
+		return world;
+	}
+	
+	void setWorld(World world) {
+		this.world = world;
+	}
+	
+	/**
+	 * Called by this cell's GenericPlace when its type changes, so that the World's index of place types can be kept up to date.
+	 */
+	public void onPlaceTypeChanged(AbstractPlaceType oldPlaceType, AbstractPlaceType newPlaceType) {
+		if(world!=null) {
+			world.updatePlaceTypeIndex(this, oldPlaceType, newPlaceType);
+		}
+	}
+	
+	/**
+	 * Called by this cell's GenericPlace when an upgrade is added or removed, so that the World's index of place upgrades can be kept up to date.
+	 */
+	public void onPlaceUpgradeChanged(PlaceUpgrade upgrade, boolean added) {
+		if(world!=null) {
+			world.updatePlaceUpgradeIndex(this, upgrade, added);
+		}
+	}
+
 	public boolean addPlaceUpgrade(PlaceUpgrade upgrade) {
 		return getPlace().addPlaceUpgrade(this, upgrade);
 	}
@@ -245,7 +299,9 @@ public class Cell implements XMLSaving {
 			charactersPresentIds = Collections.synchronizedSet(new HashSet<>());
 		}
 		synchronized (charactersPresentIds) {
-			charactersPresentIds.add(id);
+			if(charactersPresentIds.add(id)) {
+				charactersPresentModified();
+			}
 		}
 	}
 
@@ -255,7 +311,42 @@ public class Cell implements XMLSaving {
 		}
 		synchronized (charactersPresentIds) {
 //			System.out.println("removed "+id);
-			charactersPresentIds.remove(id);
+			if(charactersPresentIds.remove(id)) {
+				charactersPresentModified();
+			}
+		}
+	}
+	
+	public boolean isCharacterPresentId(String id) {
+		return charactersPresentIds!=null && charactersPresentIds.contains(id);
+	}
+	
+	private void charactersPresentModified() {
+		charactersPresentModificationCount++;
+		charactersPresentSorted = null;
+	}
+	
+	/**
+	 * @return A count which changes every time that a character enters or leaves this cell. Pass it to setCharactersPresentSorted() after building a list of the characters present.
+	 */
+	public int getCharactersPresentModificationCount() {
+		return charactersPresentModificationCount;
+	}
+	
+	/**
+	 * @return The list most recently passed to setCharactersPresentSorted(), or null if a character has entered or left this cell since then. <b>Do not modify the returned list.</b>
+	 */
+	public List<NPC> getCharactersPresentSorted() {
+		return charactersPresentSorted;
+	}
+	
+	/**
+	 * Stores the list of NPCs present in this cell, so that it doesn't need to be built again until a character enters or leaves.
+	 * @param modificationCount The value of getCharactersPresentModificationCount() from before the list was built. If occupancy has changed since then, the list is not stored.
+	 */
+	public void setCharactersPresentSorted(List<NPC> charactersPresent, int modificationCount) {
+		if(modificationCount==charactersPresentModificationCount) {
+			charactersPresentSorted = charactersPresent;
 		}
 	}
 
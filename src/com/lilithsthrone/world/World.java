@@ -1,7 +1,11 @@
 package com.lilithsthrone.world;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -29,6 +33,13 @@ public class World implements XMLSaving {
 	
 	private Cell[][] grid;
 	private WorldType worldType;
+	
+	/** The cells of each place type, each list being in the order in which the grid is scanned (i.e. by x, then by y). Kept up to date by Cell whenever a place's type changes. */
+	private final Map<AbstractPlaceType, List<Cell>> placeTypeIndex = new HashMap<>();
+	/** The cells with each place upgrade, in the same order as placeTypeIndex. Kept up to date by Cell whenever a place's upgrades change. */
+	private final Map<PlaceUpgrade, List<Cell>> placeUpgradeIndex = new EnumMap<>(PlaceUpgrade.class);
+	/** Incremented whenever the type or upgrades of a place in this world change, so that anything derived from the world's places (such as Pathing's travel costs) knows when to be recalculated. */
+	private volatile int placeModificationCount;
 
 	public World(int worldWidth, int worldHeight, Cell[][] grid, WorldType worldType) {
 		WORLD_WIDTH = worldWidth;
@@ -36,6 +47,90 @@ public class World implements XMLSaving {
 
 		this.grid = grid;
 		this.worldType = worldType;
+		
+		rebuildPlaceIndex();
+	}
+	
+	private synchronized void rebuildPlaceIndex() {
+		placeModificationCount++;
+		placeTypeIndex.clear();
+		placeUpgradeIndex.clear();
+		if(grid==null) {
+			return;
+		}
+		for(int i=0; i<grid.length; i++) {
+			for(int j=0; j<grid[0].length; j++) {
+				Cell cell = grid[i][j];
+				cell.setWorld(this);
+				if(cell.getPlace().getPlaceType()!=null) {
+					placeTypeIndex.computeIfAbsent(cell.getPlace().getPlaceType(), pt -> new ArrayList<>()).add(cell);
+				}
+				for(PlaceUpgrade upgrade : cell.getPlace().getPlaceUpgrades()) {
+					placeUpgradeIndex.computeIfAbsent(upgrade, pu -> new ArrayList<>()).add(cell);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Inserts the cell into the list, keeping the list in grid scan order.
+	 */
+	private static <T> void addToIndex(Map<T, List<Cell>> index, T key, Cell cell) {
+		if(key==null) {
+			return;
+		}
+		List<Cell> cells = index.computeIfAbsent(key, k -> new ArrayList<>());
+		int position = Collections.binarySearch(cells, cell, (c1, c2) -> c1.getLocation().getX()!=c2.getLocation().getX()
+				? Integer.compare(c1.getLocation().getX(), c2.getLocation().getX())
+				: Integer.compare(c1.getLocation().getY(), c2.getLocation().getY()));
+		if(position<0) {
+			cells.add(-position-1, cell);
+		}
+	}
+	
+	private static <T> void removeFromIndex(Map<T, List<Cell>> index, T key, Cell cell) {
+		if(key==null) {
+			return;
+		}
+		List<Cell> cells = index.get(key);
+		if(cells!=null) {
+			cells.remove(cell);
+			if(cells.isEmpty()) {
+				index.remove(key);
+			}
+		}
+	}
+	
+	/**
+	 * Called by cells in this world's grid when their place's type changes.
+	 */
+	synchronized void updatePlaceTypeIndex(Cell cell, AbstractPlaceType oldPlaceType, AbstractPlaceType newPlaceType) {
+		if(oldPlaceType!=newPlaceType) {
+			placeModificationCount++;
+			removeFromIndex(placeTypeIndex, oldPlaceType, cell);
+			addToIndex(placeTypeIndex, newPlaceType, cell);
+		}
+	}
+	
+	/**
+	 * Called by cells in this world's grid when an upgrade is added to or removed from their place.
+	 */
+	synchronized void updatePlaceUpgradeIndex(Cell cell, PlaceUpgrade upgrade, boolean added) {
+		placeModificationCount++;
+		if(added) {
+			addToIndex(placeUpgradeIndex, upgrade, cell);
+		} else {
+			removeFromIndex(placeUpgradeIndex, upgrade, cell);
+		}
+	}
+	
+	public int getPlaceModificationCount() {
+		return placeModificationCount;
+	}
+	
+	private synchronized List<Cell> getIndexedCells(AbstractPlaceType place) {
+		List<Cell> cells = placeTypeIndex.get(place);
+		return cells==null ? new ArrayList<>() : new ArrayList<>(cells);
 	}
 	
 	@Override
@@ -110,15 +205,12 @@ public class World implements XMLSaving {
 	 * @param place The AbstractPlaceType to find a Cell of.
 	 * @return A Cell of the PlaceType defined by the argument 'place'. If there are multiple Cells with the same PlaceType, the first one that is found is returned.
 	 */
-	public Cell getCell(AbstractPlaceType place) {
-		for(int i=0; i<grid.length; i++) {
-			for(int j=0; j<grid[0].length; j++) {
-				if(grid[i][j].getPlace().getPlaceType().equals(place)) {
-					return grid[i][j];
-				}
-			}
+	public synchronized Cell getCell(AbstractPlaceType place) {
+		List<Cell> cells = placeTypeIndex.get(place);
+		if(cells==null) {
+			return null;
 		}
-		return null;
+		return cells.get(0);
 	}
 
 	/**
@@ -126,49 +218,26 @@ public class World implements XMLSaving {
 	 * @return A List of Cells of the PlaceType defined by the argument 'place'.
 	 */
 	public List<Cell> getCells(AbstractPlaceType place) {
-		List<Cell> cellsFound = new ArrayList<>();
-		
-		for(int i=0; i<grid.length; i++) {
-			for(int j=0; j<grid[0].length; j++) {
-				if(grid[i][j].getPlace().getPlaceType().equals(place)) {
-					cellsFound.add(grid[i][j]);
-				}
-			}
-		}
-		
-		return cellsFound;
+		return getIndexedCells(place);
 	}
 
 	/**
 	 * @param place The PlaceUpgrade to find all Cells of.
 	 * @return A List of Cells which have the specified upgrade.
 	 */
-	public List<Cell> getCells(PlaceUpgrade placeUpgrade) {
-		List<Cell> cellsFound = new ArrayList<>();
-		
-		for(int i=0; i<grid.length; i++) {
-			for(int j=0; j<grid[0].length; j++) {
-				if(grid[i][j].getPlace().getPlaceUpgrades().contains(placeUpgrade)) {
-					cellsFound.add(grid[i][j]);
-				}
-			}
-		}
-		
-		return cellsFound;
+	public synchronized List<Cell> getCells(PlaceUpgrade placeUpgrade) {
+		List<Cell> cells = placeUpgradeIndex.get(placeUpgrade);
+		return cells==null ? new ArrayList<>() : new ArrayList<>(cells);
 	}
 	
 	public Cell getClosestCell(Vector2i location, AbstractPlaceType place) {
 		float distance = 10000f;
 		Cell closestCell = null;
-		for(int i=0; i<grid.length; i++) {
-			for(int j=0; j<grid[0].length; j++) {
-				if(grid[i][j].getPlace().getPlaceType().equals(place)) {
-					float newDistance = Vector2i.getDistance(location, grid[i][j].getLocation());
-					if(newDistance < distance) {
-						closestCell = grid[i][j];
-						distance = newDistance;
-					}
-				}
+		for(Cell cell : getIndexedCells(place)) {
+			float newDistance = Vector2i.getDistance(location, cell.getLocation());
+			if(newDistance < distance) {
+				closestCell = cell;
+				distance = newDistance;
 			}
 		}
 		return closestCell;
@@ -179,14 +248,11 @@ public class World implements XMLSaving {
 	 * @return A random, unoccupied Cell of the PlaceType defined by the argument 'place'. If there are no unoccupied Cells with this PlaceType, a random occupied one is returned instead.
 	 */
 	public Cell getRandomUnoccupiedCell(AbstractPlaceType place) {
-		List<Cell> cells = new ArrayList<>();
-		for(int i=0; i<grid.length; i++) {
-			for(int j=0; j<grid[0].length; j++) {
-				if(grid[i][j].getPlace().getPlaceType().equals(place) && Main.game.getCharactersPresent(grid[i][j]).isEmpty()) {
-					cells.add(grid[i][j]);
-				}
-			}
-		}
+		List<Cell> cells = getIndexedCells(place);
+		// Cells with no characters at all are unoccupied, so only cells with characters need their NPCs to be looked up:
+		cells.removeIf(cell -> cell.getCharactersPresentIds()!=null
+				&& !cell.getCharactersPresentIds().isEmpty()
+				&& !Main.game.getCharactersPresent(cell).isEmpty());
 		if(cells.isEmpty()) {
 //			if(Main.DEBUG) {
 //				System.err.println("World.getRandomUnoccupiedCell() - No unoccupied cells found, occupied one returned instead.");
@@ -201,34 +267,24 @@ public class World implements XMLSaving {
 	 * @return A Cell of the PlaceType defined by the argument 'place'. If there are multiple Cells with the same PlaceType, a random one is returned.
 	 */
 	public Cell getRandomCell(AbstractPlaceType place) {
-		List<Cell> corridorCells = new ArrayList<>();
-		for(int i=0; i<grid.length; i++) {
-			for(int j=0; j<grid[0].length; j++) {
-				if(grid[i][j].getPlace().getPlaceType().equals(place)) {
-					corridorCells.add(grid[i][j]);
-				}
+		synchronized(this) {
+			List<Cell> cells = placeTypeIndex.get(place);
+			if(cells==null) {
+				return null;
 			}
+			return cells.get(Util.random.nextInt(cells.size()));
 		}
-		if(corridorCells.isEmpty()) {
-			return null;
-		}
-		
-		return corridorCells.get(Util.random.nextInt(corridorCells.size()));
 	}
 	
 	public Cell getNearestCell(AbstractPlaceType place, Vector2i startLocation) {
 		Cell nearestCell = null;
 		float closestDistance = 10000f;
 		
-		for(int i=0; i<grid.length; i++) {
-			for(int j=0; j<grid[0].length; j++) {
-				if(grid[i][j].getPlace().getPlaceType().equals(place)) {
-					float distance = (float) Math.sqrt(Math.pow(Math.abs(i-startLocation.getX()), 2) + Math.pow(Math.abs(j-startLocation.getY()), 2));
-					if(distance < closestDistance) {
-						nearestCell = grid[i][j];
-						closestDistance = distance;
-					}
-				}
+		for(Cell cell : getIndexedCells(place)) {
+			float distance = (float) Math.sqrt(Math.pow(Math.abs(cell.getLocation().getX()-startLocation.getX()), 2) + Math.pow(Math.abs(cell.getLocation().getY()-startLocation.getY()), 2));
+			if(distance < closestDistance) {
+				nearestCell = cell;
+				closestDistance = distance;
 			}
 		}
 		
@@ -254,5 +310,6 @@ public class World implements XMLSaving {
 
 	public void setGrid(Cell[][] grid) {
 		this.grid = grid;
+		rebuildPlaceIndex();
 	}
 }
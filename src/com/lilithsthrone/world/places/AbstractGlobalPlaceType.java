@@ -1,12 +1,9 @@
 package com.lilithsthrone.world.places;
 
-import java.io.IOException;
-import java.io.InputStream;
-
 import com.lilithsthrone.game.dialogue.DialogueNode;
 import com.lilithsthrone.game.dialogue.encounters.Encounter;
+import com.lilithsthrone.rendering.AssetRegistry;
 import com.lilithsthrone.utils.SvgUtil;
-import com.lilithsthrone.utils.Util;
 import com.lilithsthrone.world.WorldType;
 
 /**
@@ -53,27 +50,16 @@ public abstract class AbstractGlobalPlaceType extends AbstractPlaceType {
 		this.globalMapTile = true;
 		
 		if(SVGPath!=null) {
-			try {
-				InputStream is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/map/" + SVGPath + ".svg");
-				if(is==null) {
-					System.err.println("Error! PlaceType icon file does not exist (Trying to read from '"+SVGPath+"')! (Code 1)");
-				}
-				String s = Util.inputStreamToString(is);
-				
+			final int id = colourReplacementId++;
+			SVGString = AssetRegistry.register("PlaceType."+SVGPath, AssetRegistry.PRIORITY_DEFAULT, () -> {
+				String s = AssetRegistry.readResource("/com/lilithsthrone/res/map/" + SVGPath + ".svg");
 				try {
-					s = SvgUtil.colourReplacement("placeColour"+colourReplacementId, colourString, s);
-					colourReplacementId++;
+					s = SvgUtil.colourReplacement("placeColour"+id, colourString, s);
 				} catch(Exception ex) {
 					System.err.println(SVGPath+" error!");
 				}
-				
-				SVGString = s;
-	
-				is.close();
-	
-			} catch (IOException e1) {
-				e1.printStackTrace();
-			}
+				return s;
+			});
 		} else {
 			SVGString = null;
 		}
@@ -1,6 +1,5 @@
 package com.lilithsthrone.world.places;
 
-import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -12,6 +11,8 @@ import java.util.Set;
 import com.lilithsthrone.game.dialogue.DialogueNode;
 import com.lilithsthrone.game.dialogue.encounters.Encounter;
 import com.lilithsthrone.game.inventory.CharacterInventory;
+import com.lilithsthrone.rendering.AssetRegistry;
+import com.lilithsthrone.rendering.AssetRegistry.Asset;
 import com.lilithsthrone.utils.BaseColour;
 import com.lilithsthrone.utils.Colour;
 import com.lilithsthrone.utils.SvgUtil;
@@ -31,7 +32,7 @@ public class AbstractPlaceType {
 
 	protected String name;
 	protected String tooltipDescription;
-	protected String SVGString;
+	protected Asset<String> SVGString;
 	protected String colourString;
 	protected String backgroundColourString;
 	protected BaseColour colour;
@@ -82,27 +83,17 @@ public class AbstractPlaceType {
 		this.teleportPermissions = TeleportPermissions.BOTH;
 		
 		if(SVGPath!=null) {
-			try {
-				InputStream is = this.getClass().getResourceAsStream("/com/lilithsthrone/res/map/" + SVGPath + ".svg");
-				if(is==null) {
-					System.err.println("Error! PlaceType icon file does not exist (Trying to read from '"+SVGPath+"')! (Code 1)");
-				}
-				String s = Util.inputStreamToString(is);
-				
+			// The id is taken now, so that each place type's gradients keep the same unique id no matter when its icon is first loaded:
+			final int id = colourReplacementId++;
+			SVGString = AssetRegistry.register("PlaceType."+SVGPath, AssetRegistry.PRIORITY_DEFAULT, () -> {
+				String s = AssetRegistry.readResource("/com/lilithsthrone/res/map/" + SVGPath + ".svg");
 				try {
-					s = SvgUtil.colourReplacement("placeColour"+colourReplacementId, colour, s);
-					colourReplacementId++;
+					s = SvgUtil.colourReplacement("placeColour"+id, colour, s);
 				} catch(Exception ex) {
 					System.err.println(SVGPath+" error!");
 				}
-				
-				SVGString = s;
-	
-				is.close();
-	
-			} catch (IOException e1) {
-				e1.printStackTrace();
-			}
+				return s;
+			});
 		} else {
 			SVGString = null;
 		}
@@ -258,7 +249,7 @@ public class AbstractPlaceType {
 	}
 	
 	public String getSVGString(Set<PlaceUpgrade> upgrades) {
-		return SVGString;
+		return SVGString==null ? null : SVGString.get();
 	}
 	
 	public void applyInventoryInit(CharacterInventory inventory) {
@@ -342,7 +333,7 @@ public class AbstractPlaceType {
 			return getSVGOverride("dominion/lilayasHome/roomSlaveQuadruple", Colour.BASE_MAGENTA);
 			
 		} else {
-			return SVGString;
+			return SVGString==null ? null : SVGString.get();
 		}
 	}
 
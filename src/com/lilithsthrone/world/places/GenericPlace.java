@@ -28,6 +28,8 @@ public class GenericPlace implements XMLSaving {
 	private String name;
 	private AbstractPlaceType placeType;
 	private Set<PlaceUpgrade> placeUpgrades;
+	/** The Cell which this place belongs to, which is notified when this place's type or upgrades change. */
+	private Cell cell;
 	
 	public static Map<AbstractPlaceType, Integer> placeCountMap = new HashMap<>();
 
@@ -237,6 +239,9 @@ public class GenericPlace implements XMLSaving {
 	
 	public boolean addPlaceUpgrade(Cell c, PlaceUpgrade upgrade) {
 		if(placeUpgrades.add(upgrade)) {
+			if(cell!=null) {
+				cell.onPlaceUpgradeChanged(upgrade, true);
+			}
 			upgrade.applyInstallationEffects(c);
 			return true;
 		} else {
@@ -246,6 +251,9 @@ public class GenericPlace implements XMLSaving {
 	
 	public boolean removePlaceUpgrade(Cell c, PlaceUpgrade upgrade) {
 		if(placeUpgrades.remove(upgrade)) {
+			if(cell!=null) {
+				cell.onPlaceUpgradeChanged(upgrade, false);
+			}
 			upgrade.applyRemovalEffects(c);
 			return true;
 		} else {
@@ -311,7 +319,22 @@ public class GenericPlace implements XMLSaving {
 	}
 
 	public void setPlaceType(AbstractPlaceType placeType) {
+		AbstractPlaceType oldPlaceType = this.placeType;
 		this.placeType = placeType;
+		if(cell!=null) {
+			cell.onPlaceTypeChanged(oldPlaceType, placeType);
+		}
+	}
+	
+	public Cell getCell() {
+		return cell;
+	}
+	
+	/**
+	 * Only to be called by Cell, when this place is set as (or stops being) that cell's place.
+	 */
+	public void setCell(Cell cell) {
+		this.cell = cell;
 	}
 
 }
@@ -2047,7 +2047,7 @@ public class PlaceType {
 			if(Main.game.getPlayer().isQuestCompleted(QuestLine.RELATIONSHIP_NYAN_HELP)) {
 				return getSVGOverride("dominion/shoppingArcade/supplierDepot", Colour.BASE_GREEN);
 			} else {
-				return SVGString;
+				return super.getSVGString(upgrades);
 			}
 		}
 	}.initWeatherImmune();
@@ -2121,7 +2121,7 @@ public class PlaceType {
 			if(Main.game.getPlayer().isQuestCompleted(QuestLine.RELATIONSHIP_NYAN_HELP)) {
 				return getSVGOverride("dominion/shoppingArcade/exit", Colour.BASE_GREEN);
 			} else {
-				return SVGString;
+				return super.getSVGString(upgrades);
 			}
 		}
 	}.initWeatherImmune();
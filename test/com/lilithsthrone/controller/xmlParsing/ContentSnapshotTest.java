@@ -0,0 +1,175 @@
+package com.lilithsthrone.controller.xmlParsing;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Checks that a Document built from a ContentSnapshot has exactly the same contents as the Document which was encoded.
+ *
+ * @since 0.3.5.8
+ * @version 0.3.5.8
+ * @author Innoxia
+ */
+public class ContentSnapshotTest {
+
+	private static final String PATH = "/res/clothing/innoxia/test/test_clothing.xml";
+
+	private static final String CLOTHING_XML =
+			"<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"no\"?>\n"
+			+ "<!-- The clothing's definition -->\n"
+			+ "<clothing>\n"
+			+ "\t<coreAtributes>\n"
+			+ "\t\t<name appendColourName=\"true\"><![CDATA[test <b>shirt</b> & tie]]></name>\n"
+			+ "\t\t<description><![CDATA[A shirt which is \"only\" used for testing.\n\tIt has a second line.]]></description>\n"
+			+ "\t\t<value>100</value>\n"
+			+ "\t\t<!-- Comments inside elements are kept too -->\n"
+			+ "\t\t<effects>\n"
+			+ "\t\t\t<effect itemEffectType=\"CLOTHING\" limit=\"0\" potency=\"MINOR_BOOST\" primaryModifier=\"CLOTHING_ATTRIBUTE\" secondaryModifier=\"RESISTANCE_PHYSICAL\" timer=\"0\"/>\n"
+			+ "\t\t</effects>\n"
+			+ "\t\t<empty/>\n"
+			+ "\t</coreAtributes>\n"
+			+ "</clothing>\n";
+
+	private static DocumentBuilder newDocumentBuilder() throws Exception {
+		return DocumentBuilderFactory.newInstance().newDocumentBuilder();
+	}
+
+	private static Document parse(String xml) throws Exception {
+		return newDocumentBuilder().parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	/**
+	 * Reads the encoded document back in the same way as a snapshot which has been read from 'data/cache/', without going through the file.
+	 */
+	private static Document roundTrip(Document doc) throws Exception {
+		byte[] encoded = ContentSnapshot.encode(doc);
+		assertNotNull(encoded);
+
+		Map<String, Integer> positions = new HashMap<>();
+		positions.put(PATH, 0);
+		Document loaded = createSnapshot(encoded, positions).getDocument(PATH, newDocumentBuilder().newDocument());
+		assertNotNull(loaded);
+		return loaded;
+	}
+
+	private static ContentSnapshot createSnapshot(byte[] encoded, Map<String, Integer> positions) {
+		return new ContentSnapshot(ByteBuffer.wrap(encoded), positions);
+	}
+
+	private static void assertSameNode(Node expected, Node actual) {
+		assertEquals(expected.getNodeType(), actual.getNodeType());
+		assertEquals(expected.getNodeName(), actual.getNodeName());
+		assertEquals(expected.getNodeValue(), actual.getNodeValue());
+
+		if(expected.getNodeType()==Node.ELEMENT_NODE) {
+			Element expectedElement = (Element) expected;
+			Element actualElement = (Element) actual;
+			assertEquals(expectedElement.getAttributes().getLength(), actualElement.getAttributes().getLength());
+			for(int i=0; i<expectedElement.getAttributes().getLength(); i++) {
+				Node attribute = expectedElement.getAttributes().item(i);
+				assertTrue(actualElement.hasAttribute(attribute.getNodeName()));
+				assertEquals(attribute.getNodeValue(), actualElement.getAttribute(attribute.getNodeName()));
+			}
+		}
+
+		NodeList expectedChildren = expected.getChildNodes();
+		NodeList actualChildren = actual.getChildNodes();
+		assertEquals(expectedChildren.getLength(), actualChildren.getLength());
+		for(int i=0; i<expectedChildren.getLength(); i++) {
+			assertSameNode(expectedChildren.item(i), actualChildren.item(i));
+		}
+	}
+
+	@Test
+	public void documentRoundTrip() throws Exception {
+		Document doc = parse(CLOTHING_XML);
+		assertSameNode(doc, roundTrip(doc));
+	}
+
+	@Test
+	public void attributesRoundTrip() throws Exception {
+		Document loaded = roundTrip(parse(CLOTHING_XML));
+
+		Element effect = (Element) loaded.getElementsByTagName("effect").item(0);
+		assertEquals("CLOTHING", effect.getAttribute("itemEffectType"));
+		assertEquals("RESISTANCE_PHYSICAL", effect.getAttribute("secondaryModifier"));
+		assertEquals(6, effect.getAttributes().getLength());
+		assertEquals("true", ((Element) loaded.getElementsByTagName("name").item(0)).getAttribute("appendColourName"));
+	}
+
+	@Test
+	public void whitespaceTextRoundTrip() throws Exception {
+		Document loaded = roundTrip(parse(CLOTHING_XML));
+
+		Node indentation = loaded.getElementsByTagName("coreAtributes").item(0).getFirstChild();
+		assertEquals(Node.TEXT_NODE, indentation.getNodeType());
+		assertEquals("\n\t\t", indentation.getNodeValue());
+		assertEquals("100", loaded.getElementsByTagName("value").item(0).getTextContent());
+	}
+
+	@Test
+	public void cdataRoundTrip() throws Exception {
+		Document loaded = roundTrip(parse(CLOTHING_XML));
+
+		Node name = loaded.getElementsByTagName("name").item(0).getFirstChild();
+		assertEquals(Node.CDATA_SECTION_NODE, name.getNodeType());
+		assertEquals("test <b>shirt</b> & tie", name.getNodeValue());
+		assertEquals("A shirt which is \"only\" used for testing.\n\tIt has a second line.", loaded.getElementsByTagName("description").item(0).getTextContent());
+	}
+
+	@Test
+	public void commentsRoundTrip() throws Exception {
+		Document loaded = roundTrip(parse(CLOTHING_XML));
+
+		Node first = loaded.getFirstChild();
+		assertEquals(Node.COMMENT_NODE, first.getNodeType());
+		assertEquals(" The clothing's definition ", first.getNodeValue());
+		assertEquals("clothing", loaded.getDocumentElement().getTagName());
+
+		int comments = 0;
+		NodeList children = loaded.getElementsByTagName("coreAtributes").item(0).getChildNodes();
+		for(int i=0; i<children.getLength(); i++) {
+			if(children.item(i).getNodeType()==Node.COMMENT_NODE) {
+				assertEquals(" Comments inside elements are kept too ", children.item(i).getNodeValue());
+				comments++;
+			}
+		}
+		assertEquals(1, comments);
+	}
+
+	@Test
+	public void unknownPathIsNotFound() throws Exception {
+		byte[] encoded = ContentSnapshot.encode(parse(CLOTHING_XML));
+		Map<String, Integer> positions = new HashMap<>();
+		positions.put(PATH, 0);
+
+		assertNull(createSnapshot(encoded, positions).getDocument("/res/clothing/innoxia/test/missing.xml", newDocumentBuilder().newDocument()));
+	}
+
+	@Test
+	public void doctypeIsNotEncoded() throws Exception {
+		Document doc = parse(
+				"<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+				+ "<!DOCTYPE clothing [<!ELEMENT clothing (#PCDATA)>]>\n"
+				+ "<clothing>test</clothing>\n");
+
+		assertNull(ContentSnapshot.encode(doc));
+	}
+}
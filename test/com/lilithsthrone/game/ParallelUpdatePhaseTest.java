@@ -0,0 +1,270 @@
+package com.lilithsthrone.game;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.script.Compilable;
+import javax.script.CompiledScript;
+import javax.script.ScriptEngine;
+import javax.script.ScriptException;
+
+import org.junit.Test;
+
+import jdk.nashorn.api.scripting.NashornScriptEngineFactory;
+
+/**
+ * Checks that a ParallelUpdatePhase gives the same result from the same seed, no matter how many threads it plans on, or what order the items are given in.<br/>
+ * <br/>
+ * As the game itself can't be started without JavaFX, this uses a small stand-in for endTurn()'s NPC updates:
+ *  a world of characters with a value each, in which each character's plan reads other characters, and applying it changes other characters and uses randomness.
+ *  Like the game, that randomness comes from a shared Random (standing in for Util.random) and from scripts' RND, both of which are bound to each character's own Random in the same way as endTurn() binds them.
+ *
+ * @since 0.3.5.8
+ * @version 0.3.5.8
+ * @author Innoxia
+ */
+public class ParallelUpdatePhaseTest {
+
+	private static final int CHARACTERS = 500;
+	private static final long SEED = 5318008;
+
+	private static class World {
+		/** Like Game's NPCMap, this doesn't iterate in id order. */
+		private final Map<String, Integer> values = new ConcurrentHashMap<>();
+		private final List<String> eventLog = new ArrayList<>();
+		private final Map<String, List<Integer>> scriptRolls = new TreeMap<>();
+		private int changes = 0;
+		/** Stands in for Util.random. */
+		private Random random = new Random(SEED);
+		/** Stands in for UtilText's script engine, which binds RND to the Random it's given. */
+		private final ScriptEngine scriptEngine = new NashornScriptEngineFactory().getScriptEngine("-strict", "--no-java", "--no-syntax-extensions", "-scripting");
+		private final CompiledScript scriptRoll;
+
+		private World() {
+			for(int i=0; i<CHARACTERS; i++) {
+				values.put(getId(i), i);
+			}
+			scriptEngine.put("RND", random);
+			try {
+				scriptRoll = ((Compilable) scriptEngine).compile("RND.nextInt(1000)");
+			} catch(ScriptException ex) {
+				throw new IllegalStateException(ex);
+			}
+		}
+
+		/**
+		 * As endTurn() does with Util.random and UtilText.setScriptRandom().
+		 */
+		private void setRandom(Random random) {
+			this.random = random;
+			scriptEngine.put("RND", random);
+		}
+
+		private static String getId(int index) {
+			return "-1,Character"+index;
+		}
+
+		private static int getIndex(String id) {
+			return Integer.parseInt(id.substring("-1,Character".length()));
+		}
+
+		/**
+		 * Only reads the world.
+		 */
+		private int plan(String id) {
+			int index = getIndex(id);
+			return values.get(getId((index+1)%CHARACTERS)) - values.get(getId((index+CHARACTERS-1)%CHARACTERS)) + changes;
+		}
+
+		private void apply(String id, int plan, Random random) {
+			setRandom(random);
+			int index = getIndex(id);
+			values.put(id, values.get(id) + plan + this.random.nextInt(1000));
+			String other = getId(this.random.nextInt(CHARACTERS));
+			values.put(other, values.get(other) + 1);
+			eventLog.add(id+" ("+plan+") nudged "+other);
+			changes++;
+			if(index%50==0) {
+				eventLog.add(id+" rolled "+this.random.nextLong());
+			}
+			int roll = evaluateScriptRoll();
+			values.put(id, values.get(id) + roll);
+			scriptRolls.computeIfAbsent(id, key -> new ArrayList<>()).add(roll);
+		}
+
+		private int evaluateScriptRoll() {
+			try {
+				return ((Number) scriptRoll.eval()).intValue();
+			} catch(ScriptException ex) {
+				throw new IllegalStateException(ex);
+			}
+		}
+
+		private Map<String, Integer> getState() {
+			return new TreeMap<>(values);
+		}
+	}
+
+	private static World runTurns(int threads, int parallelThreshold, long seed, boolean shuffle, int turns) {
+		World world = new World();
+		runTurns(world, new ArrayList<>(world.values.keySet()), threads, parallelThreshold, seed, shuffle, turns);
+		return world;
+	}
+
+	/**
+	 * Updates only the supplied characters each turn, in the same way as endTurn() updates its NPCs.
+	 */
+	private static void runTurns(World world, List<String> characters, int threads, int parallelThreshold, long seed, boolean shuffle, int turns) {
+		ParallelUpdatePhase<String, Integer> phase = new ParallelUpdatePhase<>(threads, parallelThreshold);
+		Random turnRandom = new Random(seed);
+		world.setRandom(turnRandom);
+		for(int turn=0; turn<turns; turn++) {
+			List<String> ids = new ArrayList<>(characters);
+			if(shuffle) {
+				Collections.shuffle(ids, new Random(turn));
+			}
+			try {
+				phase.run(ids, id -> id, world::plan, world::apply, world.random.nextLong());
+			} finally {
+				world.setRandom(turnRandom);
+			}
+			world.eventLog.add("Turn "+turn+" ended with "+world.random.nextInt(1000)+" and "+world.evaluateScriptRoll());
+		}
+	}
+
+	@Test
+	public void sameSeedGivesSameWorld() {
+		World first = runTurns(1, 0, SEED, false, 5);
+		World second = runTurns(1, 0, SEED, false, 5);
+
+		assertEquals(first.getState(), second.getState());
+		assertEquals(first.eventLog, second.eventLog);
+		assertEquals(first.scriptRolls, second.scriptRolls);
+	}
+
+	@Test
+	public void scriptRandomnessIsEachCharactersOwn() {
+		World everyone = new World();
+		List<String> all = new ArrayList<>(everyone.values.keySet());
+		runTurns(everyone, all, 4, 0, SEED, false, 1);
+
+		// Leaving out half of the characters mustn't change the rolls of the others, as each character's scripts use the character's own Random:
+		World half = new World();
+		List<String> evens = new ArrayList<>();
+		for(String id : all) {
+			if(World.getIndex(id)%2==0) {
+				evens.add(id);
+			}
+		}
+		runTurns(half, evens, 4, 0, SEED, false, 1);
+
+		assertEquals(evens.size(), half.scriptRolls.size());
+		for(String id : evens) {
+			assertEquals(id, everyone.scriptRolls.get(id), half.scriptRolls.get(id));
+		}
+		// ...and once the turn has ended, scripts are back to using the same Random as everything else:
+		assertEquals(everyone.eventLog.get(everyone.eventLog.size()-1), half.eventLog.get(half.eventLog.size()-1));
+	}
+
+	@Test
+	public void isPlanningOnlyWhilePlanning() {
+		World world = new World();
+		ParallelUpdatePhase<String, Integer> phase = new ParallelUpdatePhase<>(4, 0);
+		List<Boolean> planningSeenByPlans = Collections.synchronizedList(new ArrayList<>());
+		List<Boolean> planningSeenByAppliers = new ArrayList<>();
+		assertFalse(phase.isPlanning());
+		phase.run(world.values.keySet(),
+				id -> id,
+				id -> {
+					planningSeenByPlans.add(phase.isPlanning());
+					return world.plan(id);
+				},
+				(id, plan, random) -> planningSeenByAppliers.add(phase.isPlanning()),
+				SEED);
+
+		assertEquals(Collections.nCopies(CHARACTERS, true), planningSeenByPlans);
+		assertEquals(Collections.nCopies(CHARACTERS, false), planningSeenByAppliers);
+		assertFalse(phase.isPlanning());
+	}
+
+	@Test
+	public void isPlanningClearedWhenPlanningFails() {
+		ParallelUpdatePhase<String, Integer> phase = new ParallelUpdatePhase<>(1, 0);
+		boolean failed = false;
+		try {
+			phase.run(Collections.singletonList("a"), id -> id, id -> { throw new IllegalStateException("Planner failed"); }, (id, plan, random) -> {}, SEED);
+		} catch(IllegalStateException ex) {
+			failed = true;
+		}
+		assertTrue(failed);
+		assertFalse(phase.isPlanning());
+	}
+
+	@Test
+	public void parallelMatchesSingleThreaded() {
+		World singleThreaded = runTurns(1, 0, SEED, false, 5);
+		for(int threads : new int[] {2, 4, 8}) {
+			World parallel = runTurns(threads, 0, SEED, false, 5);
+
+			assertEquals("Threads: "+threads, singleThreaded.getState(), parallel.getState());
+			assertEquals("Threads: "+threads, singleThreaded.eventLog, parallel.eventLog);
+		}
+	}
+
+	@Test
+	public void inputOrderDoesNotMatter() {
+		World ordered = runTurns(4, 0, SEED, false, 5);
+		World shuffled = runTurns(4, 0, SEED, true, 5);
+
+		assertEquals(ordered.getState(), shuffled.getState());
+		assertEquals(ordered.eventLog, shuffled.eventLog);
+	}
+
+	@Test
+	public void differentSeedGivesDifferentWorld() {
+		assertNotEquals(runTurns(4, 0, SEED, false, 1).getState(), runTurns(4, 0, SEED+1, false, 1).getState());
+	}
+
+	@Test
+	public void plansAreMadeBeforeAnythingIsApplied() {
+		World world = new World();
+		List<Integer> changesSeenByPlans = Collections.synchronizedList(new ArrayList<>());
+		new ParallelUpdatePhase<String, Integer>(4, 0).run(world.values.keySet(),
+				id -> id,
+				id -> {
+					changesSeenByPlans.add(world.changes);
+					return world.plan(id);
+				},
+				world::apply,
+				SEED);
+
+		assertEquals(CHARACTERS, changesSeenByPlans.size());
+		assertEquals(Collections.nCopies(CHARACTERS, 0), changesSeenByPlans);
+		assertEquals(CHARACTERS, world.changes);
+	}
+
+	@Test
+	public void appliedInIdOrder() {
+		World world = new World();
+		List<String> applied = new ArrayList<>();
+		new ParallelUpdatePhase<String, Integer>(4, 0).run(world.values.keySet(),
+				id -> id,
+				world::plan,
+				(id, plan, random) -> applied.add(id),
+				SEED);
+
+		List<String> sorted = new ArrayList<>(world.values.keySet());
+		Collections.sort(sorted);
+		assertEquals(sorted, applied);
+	}
+}
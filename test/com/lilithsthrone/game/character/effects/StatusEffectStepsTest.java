@@ -0,0 +1,378 @@
+package com.lilithsthrone.game.character.effects;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Checks that fast-forwarding through several status effect updates with StatusEffectSteps gives the same status effects, durations, and attributes as applying each update in turn,
+ *  and that fast-forwarding is refused whenever a status effect's conditions could change part of the way through.<br/>
+ * <br/>
+ * The game's status effects can't be used without starting the game, so a stand-in character is given status effects which work in the same ways:
+ *  ones which run out, ones which are applied over time (filling up a fluid, or raising lust), and ones whose conditions read those values, both with and without declared dependencies.
+ *
+ * @since 0.3.5.8
+ * @version 0.3.5.8
+ * @author Innoxia
+ */
+public class StatusEffectStepsTest {
+
+	private static final int HOUR = 60*60;
+	private static final float CAPACITY = 500;
+	private static final float PRODUCTION_PER_SECOND = 0.01f;
+	private static final float LUST_PER_SECOND = 0.002f;
+
+	private enum Dependency {
+		STORED,
+		LUST,
+		COLLAR;
+	}
+
+	private enum Effect {
+		/** Lasts for a set time, and adds to the character's attribute. */
+		WELL_RESTED(5),
+		/** Fills up the character's stored fluid, for as long as it's not full. */
+		PRODUCTION(0),
+		FULL(2),
+		/** Raises the character's lust, for as long as they're under the effect of an aphrodisiac. */
+		APHRODISIAC(0),
+		/** Raises the character's lust further, for as long as it's at least 50. */
+		AROUSED(3),
+		CALM(-1),
+		/** Only applies while wearing a collar, but doesn't declare what its conditions read. */
+		COLLARED(1);
+
+		private final int attributeModifier;
+
+		private Effect(int attributeModifier) {
+			this.attributeModifier = attributeModifier;
+		}
+	}
+
+	private static class TestCharacter implements StatusEffectSteps.Target<Effect, Dependency> {
+		private final Map<Effect, Integer> statusEffects = new EnumMap<>(Effect.class);
+		private float stored;
+		private float lust;
+		private boolean aphrodisiac;
+		private boolean collar;
+		private int attribute;
+
+		TestCharacter copy() {
+			TestCharacter copy = new TestCharacter();
+			copy.statusEffects.putAll(statusEffects);
+			copy.stored = stored;
+			copy.lust = lust;
+			copy.aphrodisiac = aphrodisiac;
+			copy.collar = collar;
+			copy.attribute = attribute;
+			return copy;
+		}
+
+		void addTimedStatusEffect(Effect effect, int seconds) {
+			if(!statusEffects.containsKey(effect)) {
+				attribute += effect.attributeModifier;
+			}
+			statusEffects.put(effect, seconds);
+		}
+
+		void calculateStatusEffects(int secondsPassed) {
+			StatusEffectSteps.calculate(this, secondsPassed, 1);
+		}
+
+		/**
+		 * As GameCharacter.deferStatusEffects() and applyDeferredStatusEffects() do for the given number of hourly updates.
+		 */
+		void calculateStatusEffectsDeferred(int secondsPassed, int steps) {
+			if(StatusEffectSteps.isFastForwardable(this, secondsPassed, steps)) {
+				StatusEffectSteps.calculate(this, secondsPassed, steps);
+			} else {
+				for(int i=0; i<steps; i++) {
+					calculateStatusEffects(secondsPassed);
+				}
+			}
+		}
+
+		String getState() {
+			return "effects="+statusEffects+", stored="+stored+", lust="+lust+", attribute="+attribute;
+		}
+
+		@Override
+		public List<Effect> getStatusEffects() {
+			return new ArrayList<>(statusEffects.keySet());
+		}
+
+		@Override
+		public List<Effect> getAllStatusEffects() {
+			return Arrays.asList(Effect.values());
+		}
+
+		@Override
+		public boolean isCombatEffect(Effect effect) {
+			return false;
+		}
+
+		@Override
+		public void applyEffect(Effect effect, int secondsPassed) {
+			if(effect==Effect.PRODUCTION) {
+				stored = Math.max(0, Math.min(stored + secondsPassed*PRODUCTION_PER_SECOND, CAPACITY));
+			} else if(effect==Effect.APHRODISIAC || effect==Effect.AROUSED) {
+				lust = Math.min(100, lust + secondsPassed*LUST_PER_SECOND);
+			}
+		}
+
+		@Override
+		public int getDuration(Effect effect) {
+			return statusEffects.get(effect);
+		}
+
+		@Override
+		public void incrementDuration(Effect effect, int secondsIncrement) {
+			if(statusEffects.get(effect)!=-1) {
+				statusEffects.put(effect, statusEffects.get(effect)+secondsIncrement);
+			}
+		}
+
+		@Override
+		public void invalidateConditions() {
+		}
+
+		@Override
+		public boolean isConditionsMet(Effect effect) {
+			switch(effect) {
+				case PRODUCTION:
+					return stored<CAPACITY;
+				case FULL:
+					return stored==CAPACITY;
+				case APHRODISIAC:
+					return aphrodisiac;
+				case AROUSED:
+					return lust>=50;
+				case CALM:
+					return lust<50;
+				case COLLARED:
+					return collar;
+				default:
+					return false;
+			}
+		}
+
+		@Override
+		public void removeStatusEffect(Effect effect) {
+			if(statusEffects.remove(effect)!=null) {
+				attribute -= effect.attributeModifier;
+			}
+		}
+
+		@Override
+		public boolean addStatusEffect(Effect effect) {
+			if(statusEffects.containsKey(effect)) {
+				statusEffects.put(effect, -1);
+				return false;
+			}
+			statusEffects.put(effect, -1);
+			attribute += effect.attributeModifier;
+			applyEffect(effect, 0);
+			return true;
+		}
+
+		@Override
+		public void clearCombatStatusEffects() {
+		}
+
+		@Override
+		public void applyItemEffects(int secondsPassed) {
+		}
+
+		@Override
+		public boolean isFastForwardingBlocked() {
+			return false;
+		}
+
+		@Override
+		public boolean isItemEffectsTimeInvariant() {
+			return true;
+		}
+
+		@Override
+		public boolean isFastForwardable(Effect effect, int secondsPassed, int steps) {
+			if(effect==Effect.PRODUCTION) {
+				float simulated = stored;
+				for(int i=0; i<steps; i++) {
+					simulated = Math.max(0, Math.min(simulated + secondsPassed*PRODUCTION_PER_SECOND, CAPACITY));
+				}
+				return simulated<CAPACITY;
+			}
+			return true;
+		}
+
+		@Override
+		public Dependency[] getAppliedEffectDependencies(Effect effect) {
+			switch(effect) {
+				case PRODUCTION:
+					return new Dependency[] {Dependency.STORED};
+				case APHRODISIAC:
+				case AROUSED:
+					return new Dependency[] {Dependency.LUST};
+				default:
+					return new Dependency[0];
+			}
+		}
+
+		@Override
+		public boolean isConditional(Effect effect) {
+			return effect!=Effect.WELL_RESTED;
+		}
+
+		@Override
+		public Dependency[] getConditionDependencies(Effect effect) {
+			switch(effect) {
+				case PRODUCTION:
+				case FULL:
+					return new Dependency[] {Dependency.STORED};
+				case APHRODISIAC:
+					return new Dependency[0];
+				case AROUSED:
+				case CALM:
+					return new Dependency[] {Dependency.LUST};
+				default:
+					return null;
+			}
+		}
+	}
+
+	private static TestCharacter createRandomCharacter(Random random) {
+		TestCharacter character = new TestCharacter();
+		character.stored = random.nextBoolean() ? CAPACITY : random.nextInt((int) CAPACITY);
+		character.lust = random.nextInt(100);
+		character.aphrodisiac = random.nextInt(3)==0;
+		character.collar = random.nextBoolean();
+		if(random.nextBoolean()) {
+			character.addTimedStatusEffect(Effect.WELL_RESTED, random.nextInt(48)*HOUR + random.nextInt(HOUR));
+		}
+		character.calculateStatusEffects(0);
+		return character;
+	}
+
+	@Test
+	public void fastForwardedSameAsStepped() {
+		Random random = new Random(1234);
+		int fastForwarded = 0;
+		int stepped = 0;
+
+		for(int i=0; i<2000; i++) {
+			TestCharacter character = createRandomCharacter(random);
+			int steps = 1+random.nextInt(24);
+			int secondsPassed = random.nextInt(4)==0 ? random.nextInt(HOUR) : HOUR;
+
+			TestCharacter expected = character.copy();
+			for(int step=0; step<steps; step++) {
+				expected.calculateStatusEffects(secondsPassed);
+			}
+
+			if(StatusEffectSteps.isFastForwardable(character, secondsPassed, steps)) {
+				fastForwarded++;
+			} else {
+				stepped++;
+			}
+			String start = character.getState();
+			character.calculateStatusEffectsDeferred(secondsPassed, steps);
+
+			assertEquals(start+" after "+steps+" steps of "+secondsPassed+"s", expected.getState(), character.getState());
+		}
+
+		// Both paths need to have been taken for the comparison to mean anything:
+		assertTrue("Fast-forwarded "+fastForwarded+" times", fastForwarded>100);
+		assertTrue("Stepped "+stepped+" times", stepped>100);
+	}
+
+	@Test
+	public void refusedWhenAnAbsentEffectsConditionsWouldChange() {
+		TestCharacter character = new TestCharacter();
+		character.stored = CAPACITY;
+		character.lust = 40;
+		character.aphrodisiac = true;
+		character.calculateStatusEffects(0);
+		assertTrue(character.statusEffects.containsKey(Effect.CALM));
+		assertFalse(character.statusEffects.containsKey(Effect.AROUSED));
+
+		// The aphrodisiac raises lust, which AROUSED and CALM read, so it can't be skipped over when lust reaches 50 part of the way through:
+		assertFalse(StatusEffectSteps.isFastForwardable(character, HOUR, 4));
+
+		TestCharacter stepped = character.copy();
+		for(int step=0; step<4; step++) {
+			stepped.calculateStatusEffects(HOUR);
+		}
+		character.calculateStatusEffectsDeferred(HOUR, 4);
+		assertEquals(stepped.getState(), character.getState());
+
+		// Whereas fast-forwarding anyway would only add AROUSED at the end, missing the lust which it would have added in the steps after it was gained:
+		TestCharacter forced = new TestCharacter();
+		forced.stored = CAPACITY;
+		forced.lust = 40;
+		forced.aphrodisiac = true;
+		forced.calculateStatusEffects(0);
+		StatusEffectSteps.calculate(forced, HOUR, 4);
+		assertTrue(forced.statusEffects.containsKey(Effect.AROUSED));
+		assertNotEquals(stepped.lust, forced.lust, 0.001f);
+	}
+
+	@Test
+	public void refusedWhenFillingUpWouldChangeConditions() {
+		TestCharacter character = new TestCharacter();
+		character.stored = CAPACITY - 100;
+		character.calculateStatusEffects(0);
+		assertTrue(character.statusEffects.containsKey(Effect.PRODUCTION));
+
+		// PRODUCTION keeps itself applicable while filling up, but FULL reads what it fills:
+		assertFalse(StatusEffectSteps.isFastForwardable(character, 60, 2));
+	}
+
+	@Test
+	public void undeclaredConditionsOnlyMatterWhenSomethingChanges() {
+		TestCharacter character = new TestCharacter();
+		character.stored = CAPACITY;
+		character.collar = true;
+		character.calculateStatusEffects(0);
+		assertTrue(character.statusEffects.containsKey(Effect.COLLARED));
+		// Nothing is applied over time, so nothing can change:
+		assertTrue(StatusEffectSteps.isFastForwardable(character, HOUR, 24));
+
+		character.collar = false;
+		character.aphrodisiac = true;
+		character.lust = 0;
+		character.calculateStatusEffects(0);
+		assertTrue(character.statusEffects.containsKey(Effect.APHRODISIAC));
+		// COLLARED doesn't say what it reads, so while lust is changing, it has to be assumed that it might read that:
+		assertFalse(StatusEffectSteps.isFastForwardable(character, 60, 2));
+	}
+
+	@Test
+	public void refusedWhenATimedEffectWouldRunOut() {
+		TestCharacter character = new TestCharacter();
+		character.stored = CAPACITY;
+		character.addTimedStatusEffect(Effect.WELL_RESTED, 3*HOUR);
+		character.calculateStatusEffects(0);
+
+		assertTrue(StatusEffectSteps.isFastForwardable(character, HOUR, 3));
+		assertFalse(StatusEffectSteps.isFastForwardable(character, HOUR, 4));
+
+		TestCharacter stepped = character.copy();
+		for(int step=0; step<4; step++) {
+			stepped.calculateStatusEffects(HOUR);
+		}
+		character.calculateStatusEffectsDeferred(HOUR, 4);
+		assertEquals(stepped.getState(), character.getState());
+		assertFalse(character.statusEffects.containsKey(Effect.WELL_RESTED));
+		assertEquals(Effect.FULL.attributeModifier+Effect.CALM.attributeModifier, character.attribute);
+	}
+}
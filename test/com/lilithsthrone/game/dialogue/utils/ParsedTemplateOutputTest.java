@@ -0,0 +1,559 @@
+package com.lilithsthrone.game.dialogue.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.NodeList;
+
+/**
+ * Checks that parsing text from cached ParsedTemplates gives exactly the same output as the original single-pass parser, for every htmlContent entry in res/txt, along with inputs which exercise the parser's edge cases.<br/>
+ * <br/>
+ * The game's commands and conditionals can't be evaluated without starting the game, so both parsers are given the same stand-in evaluators.
+ *  These write out everything that they were passed (including the speech target, the #VAR calls, and whether output was suppressed), and pick a conditional's branch from its statement,
+ *  so that any difference in how the input was split up shows up in the output.
+ *
+ * @since 0.3.5.8
+ * @version 0.3.5.8
+ * @author Innoxia
+ */
+public class ParsedTemplateOutputTest {
+
+	private static final List<String> EDGE_CASES = Arrays.asList(
+			"",
+			"No parser syntax at all.",
+			"[npc.Name] smiles at [pc.name].",
+			"[npc.speech(Hello, [pc.name]!)] [npc2.speechNoEffects(Hi!)] [npc.name]",
+			"[npc.speech([npc2.speech(Nested speech)])]",
+			"[#npc.getName()] and [##npc.setFlag(true)]",
+			"[#npc.getLevel()>5 ? '[npc.name]' : '[npc2.name]']",
+			"[style.boldPink([npc.name]'s [npc.eyes])]",
+			"#IF(npc.isFeminine()) She #ELSE He #ENDIF smiles.",
+			"#IF npc.isFeminine() #THEN She #ELSEIF npc.isMasculine() #THEN He #ELSE They #ENDIF",
+			"#IF(npc.isFeminine())\n\t[npc.speech(I'm a girl!)]\n#ELSEIF(npc.isMasculine())\n\t#IF(pc.isFeminine()) A #ELSE B #ENDIF\n#ELSE\n\t[npc.name]\n#ENDIF",
+			"#IF(npc.hasFetish(FETISH_DOMINANT) && (npc.getLevel()>(5)))[npc.name]#ENDIF",
+			"#IF npc.isFeminine() #THEN #IF(pc.isFeminine()) A #ENDIF #ENDIF",
+			"#VAR var level = npc.getLevel(); #ENDVAR #IF(level>5) High #ELSE Low #ENDIF",
+			"#VAR var a = 1; #ENDVAR text #VAR var b = 2; #ENDVAR #IF(a<b) [npc.name] #ENDIF",
+			"Malformed [npc.name",
+			"Malformed #IF(npc.isFeminine()) She",
+			"[npc.name] then malformed [npc.speech(Unterminated",
+			"Text ending in a bracket [",
+			"Spaces and\ttabs [npc.speech(  Hello\n\tthere  )] kept");
+
+	/**
+	 * The stand-in command and conditional evaluators which both parsers use, along with the parsing state that UtilText keeps between calls.
+	 */
+	private static abstract class StubParser {
+		protected List<String> variableCalls = new ArrayList<>();
+		protected String speechTarget = "";
+		protected boolean suppressOutput = false;
+
+		abstract String parse(String input, boolean initialCall);
+
+		protected String parseSyntax(String target, String command, String arguments, ParseMode parseMode) {
+			return "{"+parseMode+"|"+target+"|"+command+"|"+arguments+"|"+suppressOutput+"|"+speechTarget+"}";
+		}
+
+		protected String parseConditionalSyntax(Map<String, String> conditionals) {
+			for(Entry<String, String> entry : conditionals.entrySet()) {
+				StringBuilder sb = new StringBuilder();
+				for(String s : variableCalls) {
+					sb.append(s+";");
+				}
+				sb.append(entry.getKey());
+				String conditionalStatement = sb.toString();
+				if(entry.getKey().equals("true") || conditionalStatement.hashCode()%3!=0) {
+					return "<"+conditionalStatement+">"+parse(entry.getValue(), false);
+				}
+			}
+			return "<none>";
+		}
+	}
+
+	/**
+	 * The parser as it was before ParsedTemplate, which evaluated each segment as soon as it had been scanned.
+	 */
+	private static class LegacyParser extends StubParser {
+		@Override
+		String parse(String input, boolean initialCall) {
+			if(initialCall) {
+				speechTarget = "";
+				variableCalls = new ArrayList<>();
+				Matcher matcherVAR = Pattern.compile("(?s)#VAR(.*?)#ENDVAR").matcher(input);
+				while(matcherVAR.find()) {
+					variableCalls.add(matcherVAR.group().replaceAll("#VAR", "").replaceAll("#ENDVAR", ""));
+				}
+				input = input.replaceAll("(?s)#VAR(.*?)#ENDVAR", "");
+			}
+
+			try {
+				StringBuilder resultBuilder = new StringBuilder();
+				StringBuilder sb = new StringBuilder();
+				int openBrackets = 0;
+				int closeBrackets = 0;
+				int openArg = 0;
+				int closeArg = 0;
+				int startIndex = 0;
+				int endIndex = 0;
+
+				String target = null;
+				String command = null;
+				String arguments = null;
+				String conditionalStatement = null;
+				boolean usingConditionalBrackets = false;
+				boolean lastConditionalUsedBrackets = false;
+				int conditionalOpenBrackets = 0;
+				int conditionalCloseBrackets = 0;
+
+				Map<String, String> conditionals = null;
+
+				boolean conditionalElseFound = false;
+				ParseMode currentParseMode = ParseMode.UNKNOWN;
+
+				int startedParsingSegmentAt = 0;
+
+				for (int i = 0; i < input.length(); i++) {
+					char c = input.charAt(i);
+
+					if(usingConditionalBrackets) {
+						if(input.charAt(i)=='(') {
+							conditionalOpenBrackets++;
+
+						} else if(input.charAt(i)==')') {
+							conditionalCloseBrackets++;
+						}
+					}
+
+					if (currentParseMode != ParseMode.REGULAR && currentParseMode != ParseMode.REGULAR_SCRIPT) {
+						suppressOutput = false;
+						if (c == 'F' && substringMatchesInReverseAtIndex(input, "#IF", i)) {
+							if (openBrackets == 0) {
+								conditionals = new LinkedHashMap<>();
+								currentParseMode = ParseMode.CONDITIONAL;
+								startIndex = i-2;
+
+								for(int j=i+1;j<input.length();j++) {
+									if(!Character.isWhitespace(input.charAt(j))) {
+										usingConditionalBrackets = input.charAt(j)=='(';
+										lastConditionalUsedBrackets = usingConditionalBrackets;
+										break;
+									}
+								}
+							} else {
+								lastConditionalUsedBrackets = false;
+							}
+
+							openBrackets++;
+
+						} else if (currentParseMode == ParseMode.CONDITIONAL) {
+							if(usingConditionalBrackets) {
+								if(conditionalOpenBrackets>0 && conditionalOpenBrackets==conditionalCloseBrackets && openBrackets-1==closeBrackets) {
+									conditionalStatement = sb.toString().substring(1, sb.length())+")";
+									conditionalStatement = conditionalStatement.replaceAll("\n", "").replaceAll("\t", "");
+									conditionalStatement = conditionalStatement.trim();
+
+									usingConditionalBrackets = false;
+									conditionalOpenBrackets = 0;
+									conditionalCloseBrackets = 0;
+
+									sb.setLength(0);
+
+								} else if(c == 'F' && substringMatchesInReverseAtIndex(input, "#ELSEIF", i) && openBrackets-1==closeBrackets && conditionalStatement!=null) {
+									conditionals.put(conditionalStatement, sb.toString().substring(1, sb.length()-6));
+
+									for(int j=i+1;j<input.length();j++) {
+										if(!Character.isWhitespace(input.charAt(j))) {
+											usingConditionalBrackets = input.charAt(j)=='(';
+											break;
+										}
+									}
+
+									sb.setLength(0);
+
+								} else if(c == 'E' && substringMatchesInReverseAtIndex(input, "#ELSE", i) && (i+1==input.length()||input.charAt(i+1)!='I') && openBrackets-1==closeBrackets && conditionalStatement!=null) {
+									conditionalElseFound = true;
+									conditionals.put(conditionalStatement, sb.toString().substring(1, sb.length()-4));
+									sb.setLength(0);
+
+								} else if(c == 'F' && substringMatchesInReverseAtIndex(input, "#ENDIF", i)) {
+									closeBrackets++;
+
+									if (openBrackets == closeBrackets) {
+										if (conditionalElseFound) {
+											conditionals.put("true", sb.toString().substring(1, sb.length()-5));
+										} else {
+											conditionals.put(conditionalStatement, sb.toString().substring(1, sb.length()-5));
+										}
+
+										endIndex = i;
+									}
+								}
+
+							} else {
+								if(c == 'N' && substringMatchesInReverseAtIndex(input, "#THEN", i)) {
+									if(lastConditionalUsedBrackets) {
+										sb.replace(sb.length()-4, sb.length(), "");
+										i++;
+										c = input.charAt(i);
+
+									} else if (openBrackets-1==closeBrackets) {
+										conditionalStatement = sb.toString().substring(1, sb.length()-4);
+										conditionalStatement = conditionalStatement.replaceAll("\n", "").replaceAll("\t", "");
+										conditionalStatement = conditionalStatement.trim();
+										sb.setLength(0);
+									}
+
+								} else if(c == 'F' && substringMatchesInReverseAtIndex(input, "#ELSEIF", i) && openBrackets-1==closeBrackets) {
+									conditionals.put(conditionalStatement, sb.toString().substring(1, sb.length()-6));
+
+									for(int j=i+1;j<input.length();j++) {
+										if(!Character.isWhitespace(input.charAt(j))) {
+											usingConditionalBrackets = input.charAt(j)=='(';
+											break;
+										}
+									}
+
+									sb.setLength(0);
+
+								} else if(c == 'E' && substringMatchesInReverseAtIndex(input, "#ELSE", i) && (i+1==input.length()||input.charAt(i+1)!='I') && openBrackets-1==closeBrackets) {
+									conditionalElseFound = true;
+									conditionals.put(conditionalStatement, sb.toString().substring(1, sb.length()-4));
+									sb.setLength(0);
+
+								} else if(c == 'F' && substringMatchesInReverseAtIndex(input, "#ENDIF", i)) {
+									closeBrackets++;
+
+									if (openBrackets == closeBrackets) {
+										if (conditionalElseFound) {
+											conditionals.put("true", sb.toString().substring(1, sb.length()-5));
+										} else {
+											conditionals.put(conditionalStatement, sb.toString().substring(1, sb.length()-5));
+										}
+
+										endIndex = i;
+									}
+								}
+							}
+						}
+					}
+
+					if (currentParseMode != ParseMode.CONDITIONAL) {
+						suppressOutput = false;
+						if (c == '[') {
+							if(openBrackets==0) {
+								if(input.charAt(i+1) == '#') {
+									currentParseMode = ParseMode.REGULAR_SCRIPT;
+								} else {
+									currentParseMode = ParseMode.REGULAR;
+								}
+								startIndex = i;
+							}
+
+							openBrackets++;
+
+						} else if (currentParseMode == ParseMode.REGULAR) {
+							if (c =='.' && target == null) {
+								target = sb.toString().substring(1);
+								sb.setLength(0);
+
+							} else if (c == '(') {
+								if(command == null) {
+									command = sb.toString().substring(1);
+									if(command.equals("speech") || command.equals("speechNoEffects")) {
+										speechTarget = target;
+									}
+									sb.setLength(0);
+								}
+
+								openArg++;
+
+							} else if (c == ')') {
+								closeArg++;
+
+								if (openArg == closeArg){
+									arguments = sb.toString().substring(1);
+								}
+
+							} else if (c == ']') {
+								closeBrackets++;
+
+								if (openBrackets == closeBrackets) {
+									if (command == null) {
+										command = sb.toString().substring(1);
+										sb.setLength(0);
+									}
+
+									endIndex = i;
+								}
+							}
+
+						} else if (currentParseMode == ParseMode.REGULAR_SCRIPT) {
+							if (c == ']') {
+								closeBrackets++;
+
+								if (openBrackets == closeBrackets) {
+									if(command == null) {
+										if(sb.charAt(2)=='#') {
+											suppressOutput = true;
+											command = sb.toString().substring(3);
+										} else {
+											suppressOutput = false;
+											command = sb.toString().substring(2);
+										}
+										sb.setLength(0);
+									}
+
+									endIndex = i;
+								}
+							}
+						}
+					}
+
+					if (openBrackets>0 && ((target!=null && command!=null) || (!Character.isWhitespace(c) || c==' '))) {
+						sb.append(c);
+					}
+
+					if (endIndex != 0) {
+						resultBuilder.append(input.substring(startedParsingSegmentAt, startIndex));
+						String subResult;
+						if(currentParseMode == ParseMode.CONDITIONAL) {
+							subResult = parseConditionalSyntax(conditionals);
+						} else {
+							subResult = parseSyntax(target, command, arguments, currentParseMode);
+						}
+						if (openBrackets > 1) {
+							subResult = parse(subResult, false);
+						}
+						if(command!=null && (command.equals("speech") || command.equals("speechNoEffects"))) {
+							speechTarget = "";
+						}
+						resultBuilder.append(subResult);
+						startedParsingSegmentAt = endIndex + 1;
+						sb = new StringBuilder();
+
+						openBrackets = 0;
+						closeBrackets = 0;
+						openArg = 0;
+						closeArg = 0;
+						startIndex = 0;
+						endIndex = 0;
+
+						target = null;
+						command = null;
+						arguments = null;
+						conditionalStatement = null;
+						conditionals = null;
+						conditionalOpenBrackets = 0;
+						conditionalCloseBrackets = 0;
+
+						conditionalElseFound = false;
+						currentParseMode = ParseMode.UNKNOWN;
+					}
+				}
+
+				if (startIndex != 0) {
+					return input;
+				}
+				if (startedParsingSegmentAt < input.length()) {
+					resultBuilder.append(input.substring(startedParsingSegmentAt, input.length()));
+				}
+
+				return resultBuilder.toString();
+			} catch(Exception ex) {
+				return "";
+			}
+		}
+
+		private static boolean substringMatchesInReverseAtIndex(String input, String stringToMatch, int index) {
+			index++;
+			int startingLocation = index - stringToMatch.length();
+			if (startingLocation < 0 || index > input.length()) {
+				return false;
+			}
+			return input.substring(startingLocation, index).equals(stringToMatch);
+		}
+	}
+
+	/**
+	 * Evaluates ParsedTemplate nodes in the same way as UtilText.parse().
+	 */
+	private static class TemplateParser extends StubParser {
+		@Override
+		String parse(String input, boolean initialCall) {
+			ParsedTemplate template;
+			try {
+				template = ParsedTemplate.getTemplate(input, initialCall);
+			} catch(Exception ex) {
+				return "";
+			}
+
+			if(initialCall) {
+				speechTarget = "";
+				variableCalls = new ArrayList<>(template.getVariableCalls());
+			}
+
+			try {
+				StringBuilder resultBuilder = new StringBuilder();
+
+				for(ParsedTemplate.Node node : template.getNodes()) {
+					if(node.getParseMode()==ParseMode.UNKNOWN) {
+						resultBuilder.append(node.getText());
+						continue;
+					}
+
+					String subResult;
+					if(node.getParseMode() == ParseMode.CONDITIONAL) {
+						suppressOutput = false;
+						subResult = parseConditionalSyntax(node.getConditionals());
+					} else {
+						if(node.isSpeech()) {
+							speechTarget = node.getTarget();
+						}
+						suppressOutput = node.isSuppressOutput();
+						subResult = parseSyntax(node.getTarget(), node.getCommand(), node.getArguments(), node.getParseMode());
+					}
+					if (node.isNested()) {
+						subResult = parse(subResult, false);
+					}
+					if(node.isSpeech()) {
+						speechTarget = "";
+					}
+					resultBuilder.append(subResult);
+				}
+
+				if (template.isMalformed()) {
+					return template.getInput();
+				}
+
+				return resultBuilder.toString();
+			} catch(Exception ex) {
+				return "";
+			}
+		}
+	}
+
+	/**
+	 * @return The contents of every htmlContent element in res/txt, in file order.
+	 */
+	private static List<String> getDialogue() throws Exception {
+		Path root = Paths.get("res/txt");
+		assertTrue("Missing folder: "+root.toAbsolutePath(), Files.isDirectory(root));
+		List<Path> files;
+		try(Stream<Path> paths = Files.walk(root)) {
+			files = paths.filter(p -> p.toString().endsWith(".xml")).sorted().collect(Collectors.toList());
+		}
+
+		List<String> dialogue = new ArrayList<>();
+		for(Path file : files) {
+			Document doc = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(file.toFile());
+			NodeList htmlContent = doc.getElementsByTagName("htmlContent");
+			for(int i=0; i<htmlContent.getLength(); i++) {
+				dialogue.add(htmlContent.item(i).getTextContent());
+			}
+		}
+		return dialogue;
+	}
+
+	/**
+	 * @return false if compiling the input throws an exception (such as for a '[' at the very end), in which case nothing is cached and the parser returns an empty String.
+	 */
+	private static boolean isCompilable(String input) {
+		try {
+			ParsedTemplate.getTemplate(input, true);
+			return true;
+		} catch(Exception ex) {
+			return false;
+		}
+	}
+
+	private static void assertSameOutput(List<String> inputs) {
+		LegacyParser legacy = new LegacyParser();
+		TemplateParser templates = new TemplateParser();
+
+		ParsedTemplate.clearCache();
+		List<String> uncachedOutput = new ArrayList<>();
+		for(String input : inputs) {
+			String expected = legacy.parse(input, true);
+			String uncached = templates.parse(input, true);
+			assertEquals(input, expected, uncached);
+			uncachedOutput.add(uncached);
+		}
+
+		// The second time around, every template (other than those for inputs which are too long to cache) comes from the cache:
+		for(int i=0; i<inputs.size(); i++) {
+			String input = inputs.get(i);
+			if(input.length()<=ParsedTemplate.MAX_CACHED_INPUT_LENGTH && isCompilable(input)) {
+				assertSame(ParsedTemplate.getTemplate(input, true), ParsedTemplate.getTemplate(input, true));
+			}
+			assertEquals(input, uncachedOutput.get(i), templates.parse(input, true));
+		}
+	}
+
+	@Test
+	public void edgeCasesSameAsLegacyParser() {
+		assertSameOutput(EDGE_CASES);
+	}
+
+	@Test
+	public void dialogueSameAsLegacyParser() throws Exception {
+		List<String> dialogue = getDialogue();
+		assertTrue(dialogue.size()>1000);
+		assertSameOutput(dialogue);
+	}
+
+	/**
+	 * Only runs with -Dbenchmark=true.
+	 */
+	@Test
+	public void timing() throws Exception {
+		assumeTrue("Run with -Dbenchmark=true to time parsing", Boolean.getBoolean("benchmark"));
+		List<String> dialogue = getDialogue();
+		LegacyParser legacy = new LegacyParser();
+		TemplateParser templates = new TemplateParser();
+		int rounds = 5;
+
+		for(int warmUp=0; warmUp<2; warmUp++) {
+			long start = System.nanoTime();
+			for(int i=0; i<rounds; i++) {
+				for(String input : dialogue) {
+					legacy.parse(input, true);
+				}
+			}
+			long legacyTime = System.nanoTime()-start;
+
+			ParsedTemplate.clearCache();
+			start = System.nanoTime();
+			for(int i=0; i<rounds; i++) {
+				for(String input : dialogue) {
+					templates.parse(input, true);
+				}
+			}
+			long templateTime = System.nanoTime()-start;
+
+			if(warmUp==1) {
+				System.out.println(String.format("ParsedTemplateOutputTest: %d parses: legacy: %dms, cached templates: %dms",
+						rounds*dialogue.size(), legacyTime/1_000_000, templateTime/1_000_000));
+			}
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package com.lilithsthrone.game.dialogue.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Checks that ParsedTemplate's caches stay within their memory budget.
+ *
+ * @since 0.3.5.8
+ * @version 0.3.5.8
+ * @author Innoxia
+ */
+public class ParsedTemplateTest {
+
+	private static String createInput(int index, int length) {
+		StringBuilder sb = new StringBuilder("[npc.name] "+index+" ");
+		while(sb.length()<length) {
+			sb.append('a');
+		}
+		return sb.toString();
+	}
+
+	@Test
+	public void sameInputIsCompiledOnce() {
+		ParsedTemplate.clearCache();
+		String input = createInput(0, 100);
+
+		assertSame(ParsedTemplate.getTemplate(input, true), ParsedTemplate.getTemplate(new String(input), true));
+		assertNotSame(ParsedTemplate.getTemplate(input, true), ParsedTemplate.getTemplate(input, false));
+	}
+
+	@Test
+	public void cacheStaysWithinItsLength() {
+		ParsedTemplate.clearCache();
+		int inputLength = ParsedTemplate.MAX_CACHED_INPUT_LENGTH;
+		int inputs = ParsedTemplate.MAX_CACHED_LENGTH/inputLength + 10;
+
+		String first = createInput(0, inputLength);
+		ParsedTemplate firstTemplate = ParsedTemplate.getTemplate(first, true);
+		for(int i=1; i<inputs; i++) {
+			ParsedTemplate.getTemplate(createInput(i, inputLength), true);
+			assertTrue(ParsedTemplate.getCachedLength()<=ParsedTemplate.MAX_CACHED_LENGTH);
+		}
+
+		assertEquals(ParsedTemplate.MAX_CACHED_LENGTH/inputLength, ParsedTemplate.getCacheSize());
+		assertNotSame("The least recently used template should have been removed", firstTemplate, ParsedTemplate.getTemplate(first, true));
+	}
+
+	@Test
+	public void recentlyUsedTemplatesAreKept() {
+		ParsedTemplate.clearCache();
+		int inputLength = ParsedTemplate.MAX_CACHED_INPUT_LENGTH;
+		int inputs = ParsedTemplate.MAX_CACHED_LENGTH/inputLength + 10;
+
+		String first = createInput(0, inputLength);
+		ParsedTemplate firstTemplate = ParsedTemplate.getTemplate(first, true);
+		for(int i=1; i<inputs; i++) {
+			ParsedTemplate.getTemplate(createInput(i, inputLength), true);
+			ParsedTemplate.getTemplate(first, true);
+		}
+
+		assertSame(firstTemplate, ParsedTemplate.getTemplate(first, true));
+	}
+
+	@Test
+	public void longInputsAreNotCached() {
+		ParsedTemplate.clearCache();
+		String input = createInput(0, ParsedTemplate.MAX_CACHED_INPUT_LENGTH+1);
+
+		ParsedTemplate template = ParsedTemplate.getTemplate(input, true);
+		assertEquals(0, ParsedTemplate.getCacheSize());
+		assertEquals(0, ParsedTemplate.getCachedLength());
+		assertNotSame(template, ParsedTemplate.getTemplate(input, true));
+		assertEquals(template.getNodes().size(), ParsedTemplate.getTemplate(input, true).getNodes().size());
+	}
+}
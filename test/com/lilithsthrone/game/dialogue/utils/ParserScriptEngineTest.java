@@ -0,0 +1,223 @@
+package com.lilithsthrone.game.dialogue.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.script.Bindings;
+import javax.script.ScriptContext;
+import javax.script.ScriptEngine;
+import javax.script.SimpleBindings;
+
+import org.junit.Test;
+
+import jdk.nashorn.api.scripting.NashornScriptEngineFactory;
+
+/**
+ * Checks that ParserScriptEngine's compiled scripts give the same results as evaluating the scripts directly, and that its layered bindings don't leak variables from one scene to the next.<br/>
+ * <br/>
+ * The game's characters and enums can't be bound without starting the game, so simple stand-ins are bound instead, and the scripts are in the same style as the parser's conditionals and script blocks.
+ *
+ * @since 0.3.5.8
+ * @version 0.3.5.8
+ * @author Innoxia
+ */
+public class ParserScriptEngineTest {
+
+	public static class TestCharacter {
+		private final String name;
+		private final int level;
+		private final boolean feminine;
+
+		public TestCharacter(String name, int level, boolean feminine) {
+			this.name = name;
+			this.level = level;
+			this.feminine = feminine;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public int getLevel() {
+			return level;
+		}
+
+		public boolean isFeminine() {
+			return feminine;
+		}
+
+		public boolean hasFetish(String fetish) {
+			return fetish.equals("FETISH_DOMINANT") == feminine;
+		}
+	}
+
+	/** Conditionals (including ones with the #VAR prefix which UtilText adds) and script blocks, in the style of those in the game's dialogue. */
+	private static final List<String> SCRIPTS = Arrays.asList(
+			"npc.isFeminine()",
+			"!npc.isFeminine() && npc.getLevel()>=5",
+			"npc.hasFetish(FETISH_DOMINANT) || npc2.hasFetish(FETISH_SUBMISSIVE)",
+			"var level = npc.getLevel(); var partner = npc2;level>partner.getLevel()",
+			"npc.getName()+' and '+npc2.getName()",
+			"npc.getLevel()*2 + npc2.getLevel()",
+			"SPECIAL_PARSE_0",
+			"SPECIAL_PARSE_0.length>3 ? 'long' : 'short'",
+			"var total = 0; for(var i=0; i<npc.getLevel(); i++) { total += i; } total",
+			"typeof undefinedValue");
+
+	private static TestCharacter npc = new TestCharacter("Lilaya", 12, true);
+	private static TestCharacter npc2 = new TestCharacter("Brax", 4, false);
+	private static String specialParse = "Dominion";
+	private static int globalBindingsInitialised = 0;
+
+	private static void initGlobalBindings(Bindings globalBindings) {
+		globalBindingsInitialised++;
+		globalBindings.put("FETISH_DOMINANT", "FETISH_DOMINANT");
+		globalBindings.put("FETISH_SUBMISSIVE", "FETISH_SUBMISSIVE");
+	}
+
+	private static ParserScriptEngine createScriptEngine(int cacheSize) {
+		globalBindingsInitialised = 0;
+		return new ParserScriptEngine(cacheSize, ParserScriptEngineTest::initGlobalBindings, engine -> {
+			engine.put("npc", npc);
+			engine.put("npc2", npc2);
+			engine.put("SPECIAL_PARSE_0", specialParse);
+		});
+	}
+
+	/**
+	 * @return A new engine, with the same bindings, which evaluates scripts from their source each time, as the parser did before it cached compiled scripts.
+	 */
+	private static ScriptEngine createUncachedEngine() {
+		ScriptEngine engine = new NashornScriptEngineFactory().getScriptEngine("-strict", "--no-java", "--no-syntax-extensions", "-scripting");
+		Bindings globalBindings = new SimpleBindings();
+		initGlobalBindings(globalBindings);
+		engine.setBindings(globalBindings, ScriptContext.GLOBAL_SCOPE);
+		engine.put("npc", npc);
+		engine.put("npc2", npc2);
+		engine.put("SPECIAL_PARSE_0", specialParse);
+		return engine;
+	}
+
+	@Test
+	public void cachedSameAsUncached() throws Exception {
+		ParserScriptEngine scriptEngine = createScriptEngine(64);
+		ScriptEngine uncached = createUncachedEngine();
+
+		for(int i=0; i<3; i++) {
+			for(String script : SCRIPTS) {
+				assertEquals(script, String.valueOf(uncached.eval(script)), String.valueOf(scriptEngine.evaluate(script)));
+			}
+		}
+		assertEquals(SCRIPTS.size(), scriptEngine.getCompiledScriptMisses());
+		assertEquals(SCRIPTS.size()*2, scriptEngine.getCompiledScriptHits());
+		assertEquals(SCRIPTS.size(), scriptEngine.getCompiledScriptCacheSize());
+	}
+
+	@Test
+	public void cacheStaysWithinItsSize() throws Exception {
+		ParserScriptEngine scriptEngine = createScriptEngine(4);
+		for(int i=0; i<20; i++) {
+			assertEquals(i, ((Number) scriptEngine.evaluate(String.valueOf(i))).intValue());
+			assertTrue(scriptEngine.getCompiledScriptCacheSize()<=4);
+		}
+		scriptEngine.evaluate("19");
+		assertEquals(1, scriptEngine.getCompiledScriptHits());
+		scriptEngine.evaluate("0");
+		assertEquals(21, scriptEngine.getCompiledScriptMisses());
+	}
+
+	@Test
+	public void sceneVariablesDontLeak() throws Exception {
+		ParserScriptEngine scriptEngine = createScriptEngine(64);
+
+		assertEquals("secret", scriptEngine.evaluate("var leaked = 'secret'; leaked"));
+		// Within a scene, variables which scripts declare are kept, as they were before:
+		assertEquals("secret", scriptEngine.evaluate("leaked"));
+
+		scriptEngine.markSceneBindingsStale();
+		assertEquals("undefined", scriptEngine.evaluate("typeof leaked"));
+
+		// Values which were put into the scene's bindings are gone too, until they're put again:
+		scriptEngine.put("clothing", "collar");
+		assertEquals("collar", scriptEngine.evaluate("clothing"));
+		scriptEngine.markSceneBindingsStale();
+		assertEquals("undefined", scriptEngine.evaluate("typeof clothing"));
+		assertEquals("Lilaya", scriptEngine.evaluate("npc.getName()"));
+	}
+
+	@Test
+	public void globalBindingsAreShared() throws Exception {
+		ParserScriptEngine scriptEngine = createScriptEngine(64);
+
+		assertEquals("FETISH_DOMINANT", scriptEngine.evaluate("FETISH_DOMINANT"));
+		// A script's own variable of the same name only hides the global one until the scene changes:
+		assertEquals("changed", scriptEngine.evaluate("var FETISH_DOMINANT = 'changed'; FETISH_DOMINANT"));
+		scriptEngine.markSceneBindingsStale();
+		assertEquals("FETISH_DOMINANT", scriptEngine.evaluate("FETISH_DOMINANT"));
+
+		// A new engine (as when starting a new game) keeps the global bindings rather than populating them again:
+		scriptEngine.create();
+		assertEquals("FETISH_DOMINANT", scriptEngine.evaluate("FETISH_DOMINANT"));
+		assertEquals(1, globalBindingsInitialised);
+	}
+
+	@Test
+	public void cachedScriptsUseTheCurrentScene() throws Exception {
+		TestCharacter original = npc;
+		try {
+			ParserScriptEngine scriptEngine = createScriptEngine(64);
+			assertEquals("Lilaya", scriptEngine.evaluate("npc.getName()"));
+
+			npc = new TestCharacter("Rose", 3, true);
+			scriptEngine.markSceneBindingsStale();
+			assertEquals("Rose", scriptEngine.evaluate("npc.getName()"));
+			assertEquals(1, scriptEngine.getCompiledScriptHits());
+
+			// A new engine can't use the scripts compiled by the old one:
+			scriptEngine.create();
+			assertEquals(0, scriptEngine.getCompiledScriptCacheSize());
+			assertEquals("Rose", scriptEngine.evaluate("npc.getName()"));
+
+		} finally {
+			npc = original;
+		}
+	}
+
+	/**
+	 * Only runs with -Dbenchmark=true.
+	 */
+	@Test
+	public void timing() throws Exception {
+		assumeTrue("Run with -Dbenchmark=true to time script evaluation", Boolean.getBoolean("benchmark"));
+		int rounds = 2000;
+		ParserScriptEngine scriptEngine = createScriptEngine(64);
+		ScriptEngine uncached = createUncachedEngine();
+
+		for(int warmUp=0; warmUp<2; warmUp++) {
+			long start = System.nanoTime();
+			for(int i=0; i<rounds; i++) {
+				for(String script : SCRIPTS) {
+					uncached.eval(script);
+				}
+			}
+			long uncachedTime = System.nanoTime()-start;
+
+			start = System.nanoTime();
+			for(int i=0; i<rounds; i++) {
+				for(String script : SCRIPTS) {
+					scriptEngine.evaluate(script);
+				}
+			}
+			long cachedTime = System.nanoTime()-start;
+
+			if(warmUp==1) {
+				System.out.println(String.format("ParserScriptEngineTest: %d evaluations: uncached: %dms, cached: %dms",
+						rounds*SCRIPTS.size(), uncachedTime/1_000_000, cachedTime/1_000_000));
+			}
+		}
+	}
+}
@@ -0,0 +1,161 @@
+package com.lilithsthrone.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.lilithsthrone.utils.PathingTestGrids.Grid;
+
+/**
+ * Checks that GridPathCache works out travel costs again once a grid has changed, and doesn't keep old grids reachable.<br/>
+ * <br/>
+ * Pathing can't be used without starting the game, so the grids here stand in for a world's Cell[][], with a modification count standing in for World.getPlaceModificationCount().
+ *
+ * @since 0.3.5.8
+ * @version 0.3.5.8
+ * @author Innoxia
+ */
+public class GridPathCacheTest {
+
+	private static class TestGrid {
+		private final Grid grid;
+		private int modificationCount = 0;
+
+		private TestGrid(Grid grid) {
+			this.grid = grid;
+		}
+
+		private void setCost(int index, int cost) {
+			grid.costs[index] = cost;
+			modificationCount++;
+		}
+	}
+
+	private static class TestCosts extends GridPathCache.Costs {
+		private final int modificationCount;
+
+		private TestCosts(TestGrid testGrid) {
+			super(testGrid.grid.width, testGrid.grid.height, testGrid.grid.costs.clone(), testGrid.grid.costs.clone(), testGrid.grid.diagonalCost);
+			this.modificationCount = testGrid.modificationCount;
+		}
+	}
+
+	private static class Counter {
+		private int count = 0;
+	}
+
+	private static GridPathCache<TestGrid, TestCosts> createCache(Counter costsCreated) {
+		return new GridPathCache<>(
+				grid -> {
+					costsCreated.count++;
+					return new TestCosts(grid);
+				},
+				(grid, costs) -> costs.modificationCount==grid.modificationCount,
+				32);
+	}
+
+	private static TestGrid loadGrid() throws Exception {
+		return new TestGrid(PathingTestGrids.load(PathingTestGrids.LARGEST_MAPS[0], false));
+	}
+
+	@Test
+	public void costsAreReusedUntilTheGridChanges() throws Exception {
+		Counter costsCreated = new Counter();
+		GridPathCache<TestGrid, TestCosts> cache = createCache(costsCreated);
+		TestGrid grid = loadGrid();
+
+		TestCosts costs = cache.getCosts(grid);
+		assertSame(costs, cache.getCosts(grid));
+		cache.findPath(grid, 0, grid.grid.costs.length-1, false);
+		assertEquals(1, costsCreated.count);
+
+		grid.setCost(5, 600);
+		assertNotSame(costs, cache.getCosts(grid));
+		assertEquals(2, costsCreated.count);
+	}
+
+	@Test
+	public void pathsAreReused() throws Exception {
+		GridPathCache<TestGrid, TestCosts> cache = createCache(new Counter());
+		TestGrid grid = loadGrid();
+
+		int[] path = cache.findPath(grid, 0, grid.grid.costs.length-1, false);
+		assertSame(path, cache.findPath(grid, 0, grid.grid.costs.length-1, false));
+		assertNotSame(path, cache.findPath(grid, 0, grid.grid.costs.length-1, true));
+	}
+
+	@Test
+	public void changedCellsChangeThePath() throws Exception {
+		GridPathCache<TestGrid, TestCosts> cache = createCache(new Counter());
+		TestGrid grid = loadGrid();
+		int end = grid.grid.costs.length-1;
+
+		int[] path = cache.findPath(grid, 0, end, false);
+		int blocked = path[path.length/2];
+		grid.setCost(blocked, 100_000_000);
+
+		int[] newPath = cache.findPath(grid, 0, end, false);
+		assertNotSame(path, newPath);
+		for(int index : newPath) {
+			assertTrue("The path should go around the cell which was made impassable", index!=blocked);
+		}
+		assertEquals(PathingTestGrids.getPathCost(grid.grid, 0, GridPathing.findPath(grid.grid.width, grid.grid.height, grid.grid.costs, grid.grid.diagonalCost, 0, end)),
+				PathingTestGrids.getPathCost(grid.grid, 0, newPath));
+	}
+
+	@Test
+	public void unchangedCellsKeepThePath() throws Exception {
+		GridPathCache<TestGrid, TestCosts> cache = createCache(new Counter());
+		TestGrid grid = loadGrid();
+
+		int[] path = cache.findPath(grid, 0, grid.grid.costs.length-1, false);
+		grid.grid.costs[5] = 600; // Without the grid's modification count changing, the cached costs are still used
+		assertSame(path, cache.findPath(grid, 0, grid.grid.costs.length-1, false));
+	}
+
+	/**
+	 * The old grid is only referenced from this method, so that nothing on the test's stack can keep it reachable once it has returned.
+	 */
+	private static WeakReference<TestGrid> findPathsOnOldGrid(GridPathCache<TestGrid, TestCosts> cache) throws Exception {
+		TestGrid old = loadGrid();
+		assertNotNull(cache.findPath(old, 0, old.grid.costs.length-1, false));
+		assertNotNull(cache.findPath(old, old.grid.costs.length-1, 0, true));
+		return new WeakReference<>(old);
+	}
+
+	@Test
+	public void oldGridsAreNotKept() throws Exception {
+		Counter costsCreated = new Counter();
+		GridPathCache<TestGrid, TestCosts> cache = createCache(costsCreated);
+		TestGrid current = loadGrid();
+
+		List<WeakReference<TestGrid>> oldGrids = new ArrayList<>();
+		for(int i=0; i<8; i++) {
+			oldGrids.add(findPathsOnOldGrid(cache));
+		}
+		cache.findPath(current, 0, current.grid.costs.length-1, false);
+		assertEquals(17, cache.getCachedPathCount());
+
+		for(int attempt=0; attempt<50 && oldGrids.stream().anyMatch(ref -> ref.get()!=null); attempt++) {
+			System.gc();
+			Thread.sleep(20);
+		}
+		for(WeakReference<TestGrid> oldGrid : oldGrids) {
+			assertNull("An old grid is still reachable from the path cache", oldGrid.get());
+		}
+		assertEquals(1, cache.getCachedCostCount());
+		assertFalse(cache.getCachedPathCount()==0);
+		assertSame(cache.getCosts(current), cache.getCosts(current));
+		assertEquals(9, costsCreated.count);
+	}
+}
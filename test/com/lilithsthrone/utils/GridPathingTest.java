@@ -0,0 +1,86 @@
+package com.lilithsthrone.utils;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.lilithsthrone.utils.PathingTestGrids.Grid;
+
+/**
+ * Checks that GridPathing finds the same paths as the A* search which Pathing used before it, on grids built from the largest WorldTypes' maps.
+ *
+ * @since 0.3.5.8
+ * @version 0.3.5.8
+ * @author Innoxia
+ */
+public class GridPathingTest {
+
+	private static final int ROUTES = 300;
+
+	@Test
+	public void sameCostAsLegacyPathing() throws Exception {
+		for(String map : PathingTestGrids.LARGEST_MAPS) {
+			for(boolean preferSafe : new boolean[] {false, true}) {
+				Grid grid = PathingTestGrids.load(map, preferSafe);
+				for(int[] route : PathingTestGrids.createRoutes(grid, ROUTES)) {
+					int[] path = GridPathing.findPath(grid.width, grid.height, grid.costs, grid.diagonalCost, route[0], route[1]);
+					assertNotNull(path);
+					assertEquals(grid.getName()+" from "+route[0]+" to "+route[1],
+							PathingTestGrids.getPathCost(grid, route[0], PathingTestGrids.findLegacyPath(grid, route[0], route[1])),
+							PathingTestGrids.getPathCost(grid, route[0], path));
+				}
+			}
+		}
+	}
+
+	/**
+	 * When there is more than one cheapest path, the two searches can pick different ones, as they visit cells in a different order. Otherwise, they must find the same path.<br/>
+	 * The maps' large areas of one colour give many equally cheap paths, so each grid is also checked with slightly varied costs, which leaves most routes with only one cheapest path.
+	 */
+	@Test
+	public void samePathAsLegacyPathing() throws Exception {
+		for(String map : PathingTestGrids.LARGEST_MAPS) {
+			for(boolean preferSafe : new boolean[] {false, true}) {
+				Grid mapGrid = PathingTestGrids.load(map, preferSafe);
+				int uniqueRoutes = 0;
+				for(Grid grid : new Grid[] {mapGrid, PathingTestGrids.withVariedCosts(mapGrid, 1)}) {
+					for(int[] route : PathingTestGrids.createRoutes(grid, ROUTES)) {
+						int[] path = GridPathing.findPath(grid.width, grid.height, grid.costs, grid.diagonalCost, route[0], route[1]);
+						int[] legacyPath = PathingTestGrids.findLegacyPath(grid, route[0], route[1]);
+						assertEquals(grid.getName()+" from "+route[0]+" to "+route[1], PathingTestGrids.getPathCost(grid, route[0], legacyPath), PathingTestGrids.getPathCost(grid, route[0], path));
+						if(PathingTestGrids.isCheapestPathUnique(grid, route[0], route[1])) {
+							uniqueRoutes++;
+							assertArrayEquals(grid.getName()+" from "+route[0]+" to "+route[1], legacyPath, path);
+						}
+					}
+				}
+				assertTrue(mapGrid.getName()+" has too few routes with only one cheapest path to be checked", uniqueRoutes>=ROUTES/4);
+			}
+		}
+	}
+
+	@Test
+	public void pathsAreConnected() throws Exception {
+		for(String map : PathingTestGrids.LARGEST_MAPS) {
+			Grid grid = PathingTestGrids.load(map, true);
+			for(int[] route : PathingTestGrids.createRoutes(grid, ROUTES)) {
+				int[] path = GridPathing.findPath(grid.width, grid.height, grid.costs, grid.diagonalCost, route[0], route[1]);
+				int previous = route[0];
+				for(int index : path) {
+					assertTrue(Math.abs(index/grid.height - previous/grid.height)<=1 && Math.abs(index%grid.height - previous%grid.height)<=1 && index!=previous);
+					previous = index;
+				}
+				assertEquals(route[1], previous);
+			}
+		}
+	}
+
+	@Test
+	public void startIsDestination() throws Exception {
+		Grid grid = PathingTestGrids.load(PathingTestGrids.LARGEST_MAPS[0], false);
+		assertEquals(0, GridPathing.findPath(grid.width, grid.height, grid.costs, grid.diagonalCost, 7, 7).length);
+	}
+}
@@ -0,0 +1,80 @@
+package com.lilithsthrone.utils;
+
+import static org.junit.Assume.assumeTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.lilithsthrone.utils.PathingTestGrids.Grid;
+
+/**
+ * Times GridPathing against the A* search which Pathing used before it, and times paths found through GridPathCache (as Pathing.aStarPathing() does), on the largest of the WorldType grids.<br/>
+ * <br/>
+ * These only run when asked for, with -Dbenchmark=true, as they take a while and only print their timings. GridPathingTest and GridPathCacheTest check the results.
+ *
+ * @since 0.3.5.8
+ * @version 0.3.5.8
+ * @author Innoxia
+ */
+public class PathingBenchmarkTest {
+
+	private static final int ROUTES = 200;
+	private static final int WARM_UP_ROUNDS = 5;
+
+	@Before
+	public void setUp() {
+		assumeTrue("Run with -Dbenchmark=true to time pathing", Boolean.getBoolean("benchmark"));
+	}
+
+	private interface PathFinder {
+		void findPath(int start, int end);
+	}
+
+	/**
+	 * @return The average time taken to find each route, in microseconds.
+	 */
+	private static float time(int[][] routes, PathFinder pathFinder) {
+		for(int i=0; i<WARM_UP_ROUNDS; i++) {
+			for(int[] route : routes) {
+				pathFinder.findPath(route[0], route[1]);
+			}
+		}
+		long start = System.nanoTime();
+		for(int[] route : routes) {
+			pathFinder.findPath(route[0], route[1]);
+		}
+		return (System.nanoTime()-start)/1000f/routes.length;
+	}
+
+	@Test
+	public void gridPathing() throws Exception {
+		for(String map : PathingTestGrids.LARGEST_MAPS) {
+			Grid grid = PathingTestGrids.load(map, true);
+			int[][] routes = PathingTestGrids.createRoutes(grid, ROUTES);
+
+			float gridPathingTime = time(routes, (start, end) -> GridPathing.findPath(grid.width, grid.height, grid.costs, grid.diagonalCost, start, end));
+			float legacyTime = time(routes, (start, end) -> PathingTestGrids.findLegacyPath(grid, start, end));
+
+			System.out.println(String.format("PathingBenchmarkTest: %s (%dx%d): GridPathing: %.1fus per path, previous A*: %.1fus per path",
+					grid.getName(), grid.width, grid.height, gridPathingTime, legacyTime));
+		}
+	}
+
+	@Test
+	public void cachedPaths() throws Exception {
+		for(String map : PathingTestGrids.LARGEST_MAPS) {
+			Grid grid = PathingTestGrids.load(map, false);
+			int[][] routes = PathingTestGrids.createRoutes(grid, ROUTES);
+			GridPathCache<Grid, GridPathCache.Costs> cache = new GridPathCache<>(
+					g -> new GridPathCache.Costs(g.width, g.height, g.costs, g.costs, g.diagonalCost),
+					(g, costs) -> true,
+					ROUTES);
+
+			// After the warm up, every route is in the cache, as it is when the map redraws the same route as the mouse moves:
+			float cachedTime = time(routes, (start, end) -> cache.findPath(grid, start, end, false));
+
+			System.out.println(String.format("PathingBenchmarkTest: %s (%dx%d): cached: %.2fus per path",
+					grid.getName(), grid.width, grid.height, cachedTime));
+		}
+	}
+}
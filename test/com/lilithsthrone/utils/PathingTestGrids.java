@@ -0,0 +1,249 @@
+package com.lilithsthrone.utils;
+
+import static org.junit.Assert.assertNotNull;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import javax.imageio.ImageIO;
+
+/**
+ * Travel cost grids for the pathing tests, built from the same map images as the largest of the WorldTypes, along with the A* search which Pathing used before GridPathing.<br/>
+ * <br/>
+ * As the place types (and so the real travel times) can't be loaded without starting the game, each colour in a map is given its own travel time instead,
+ *  with the same spread of costs as Pathing's travel cost grid (including dangerous tiles when preferring safe routes). Diagonal steps cost the same as in Pathing.
+ *
+ * @since 0.3.5.8
+ * @version 0.3.5.8
+ * @author Innoxia
+ */
+class PathingTestGrids {
+
+	/** The map images of the largest WorldTypes (WORLD_MAP, DOMINION, and SUBMISSION). */
+	static final String[] LARGEST_MAPS = {
+			"/com/lilithsthrone/res/map/global/world_map.png",
+			"/com/lilithsthrone/res/map/dominion/dominion.png",
+			"/com/lilithsthrone/res/map/submission/submission.png"};
+
+	static class Grid {
+		final String map;
+		final int width;
+		final int height;
+		final int[] costs;
+		final int diagonalCost;
+
+		Grid(String map, int width, int height, int[] costs, int diagonalCost) {
+			this.map = map;
+			this.width = width;
+			this.height = height;
+			this.costs = costs;
+			this.diagonalCost = diagonalCost;
+		}
+
+		String getName() {
+			return map.substring(map.lastIndexOf('/')+1);
+		}
+	}
+
+	/**
+	 * @param preferSafe true to add the same extra cost to 'dangerous' colours as Pathing does for dangerous tiles.
+	 */
+	static Grid load(String map, boolean preferSafe) throws IOException {
+		BufferedImage img;
+		try(InputStream in = PathingTestGrids.class.getResourceAsStream(map)) {
+			assertNotNull("Missing map: "+map, in);
+			img = ImageIO.read(in);
+		}
+		int width = img.getWidth();
+		int height = img.getHeight();
+		int[] costs = new int[width*height];
+		for(int w=0; w<width; w++) {
+			for(int h=0; h<height; h++) {
+				// Cells are placed in the same way as in Generation:
+				int rgb = img.getRGB(w, h) & 0xFFFFFF;
+				int index = w*height + (height-1-h);
+				int colourHash = (rgb * 0x9E3779B1) >>> 8;
+				costs[index] = 60 + (colourHash % 10) * 60;
+				if(preferSafe && colourHash % 7 == 0) {
+					costs[index] += 100_000;
+				}
+			}
+		}
+		// Diagonals are denied unless in the world map:
+		return new Grid(map, width, height, costs, map.endsWith("world_map.png")?12:1_000_000);
+	}
+
+	/**
+	 * @return A copy of the grid with a small, random extra cost on each cell. Large areas of one colour give many equally cheap paths, so this gives routes with only one cheapest path to compare.
+	 */
+	static Grid withVariedCosts(Grid grid, long seed) {
+		Random random = new Random(seed);
+		int[] costs = grid.costs.clone();
+		for(int i=0; i<costs.length; i++) {
+			costs[i] += random.nextInt(7);
+		}
+		return new Grid(grid.map, grid.width, grid.height, costs, grid.diagonalCost);
+	}
+
+	/**
+	 * @return Pairs of start and end cells, always including the route between opposite corners, which is the longest that can be asked for.
+	 */
+	static int[][] createRoutes(Grid grid, int count) {
+		Random random = new Random(1234);
+		int[][] routes = new int[count][];
+		for(int i=0; i<count; i++) {
+			routes[i] = new int[] {random.nextInt(grid.costs.length), random.nextInt(grid.costs.length)};
+		}
+		routes[0] = new int[] {0, grid.costs.length-1};
+		return routes;
+	}
+
+	static long getPathCost(Grid grid, int start, int[] path) {
+		long cost = 0;
+		int previous = start;
+		for(int index : path) {
+			boolean orthogonal = index/grid.height==previous/grid.height || index%grid.height==previous%grid.height;
+			cost += (orthogonal ? GridPathing.ORTHOGONAL_COST : grid.diagonalCost) + grid.costs[index];
+			previous = index;
+		}
+		return cost;
+	}
+
+	/**
+	 * @return true if there is only one cheapest path from start to end, found by Dijkstra's algorithm while counting the cheapest paths to each cell.
+	 */
+	static boolean isCheapestPathUnique(Grid grid, int start, int end) {
+		long[] distances = new long[grid.costs.length];
+		Arrays.fill(distances, Long.MAX_VALUE);
+		int[] pathCounts = new int[grid.costs.length];
+		distances[start] = 0;
+		pathCounts[start] = 1;
+		PriorityQueue<long[]> open = new PriorityQueue<>((a, b) -> Long.compare(a[0], b[0]));
+		open.add(new long[] {0, start});
+		while(!open.isEmpty()) {
+			long[] entry = open.poll();
+			int current = (int) entry[1];
+			if(entry[0]>distances[current]) {
+				continue;
+			}
+			if(current==end) {
+				return pathCounts[end]==1;
+			}
+			int x = current/grid.height;
+			int y = current%grid.height;
+			for(int i=-1; i<=1; i++) {
+				for(int j=-1; j<=1; j++) {
+					int neighbourX = x+i;
+					int neighbourY = y+j;
+					if((i==0 && j==0) || neighbourX<0 || neighbourX>=grid.width || neighbourY<0 || neighbourY>=grid.height) {
+						continue;
+					}
+					int neighbour = neighbourX*grid.height + neighbourY;
+					long distance = entry[0] + ((i==0 || j==0) ? GridPathing.ORTHOGONAL_COST : grid.diagonalCost) + grid.costs[neighbour];
+					if(distance<distances[neighbour]) {
+						distances[neighbour] = distance;
+						pathCounts[neighbour] = pathCounts[current];
+						open.add(new long[] {distance, neighbour});
+					} else if(distance==distances[neighbour]) {
+						pathCounts[neighbour] = Math.min(2, pathCounts[neighbour]+pathCounts[current]);
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	private static class LegacyNode {
+		private LegacyNode parent;
+		private int f;
+		private int g;
+		private int h;
+		private final int x;
+		private final int y;
+
+		private LegacyNode(int x, int y) {
+			this.x = x;
+			this.y = y;
+		}
+	}
+
+	/**
+	 * The A* search from Pathing.aStarPathing() before it was replaced by GridPathing, reading the costs from the grid rather than from each cell's place type.<br/>
+	 * Its open and closed lists were Lists searched with contains(), which are replaced here with flags, as those searches didn't change the result but would make this test very slow.
+	 * @return The indices of the cells on the path, not including the start.
+	 */
+	static int[] findLegacyPath(Grid grid, int start, int end) {
+		int startX = start/grid.height;
+		int startY = start%grid.height;
+		int endX = end/grid.height;
+		int endY = end%grid.height;
+
+		LegacyNode[][] nodeArray = new LegacyNode[grid.width][grid.height];
+		for (int i = 0; i < grid.width; i++) {
+			for (int j = 0; j < grid.height; j++) {
+				nodeArray[i][j] = new LegacyNode(i, j);
+			}
+		}
+		boolean[][] open = new boolean[grid.width][grid.height];
+		boolean[][] closed = new boolean[grid.width][grid.height];
+		PriorityQueue<LegacyNode> openList = new PriorityQueue<>(10, (o1, o2) -> o1.f - o2.f);
+
+		openList.add(nodeArray[startX][startY]);
+		open[startX][startY] = true;
+
+		while (!openList.isEmpty()) {
+			LegacyNode n = openList.poll();
+			open[n.x][n.y] = false;
+			closed[n.x][n.y] = true;
+			if (n.x == endX && n.y == endY) {
+				break;
+			}
+
+			for (int i = -1; i <= 1; i++) {
+				for (int j = -1; j <= 1; j++) {
+					if (!(i == 0 && j == 0)
+							&& n.x + i >= 0
+							&& n.x + i < grid.width
+							&& n.y + j >= 0
+							&& n.y + j < grid.height
+							&& !closed[n.x + i][n.y + j]) {
+						LegacyNode neighbour = nodeArray[n.x + i][n.y + j];
+						int g = ((i == 0 || j == 0) ? GridPathing.ORTHOGONAL_COST : grid.diagonalCost) + grid.costs[(n.x + i)*grid.height + n.y + j];
+
+						if (!open[neighbour.x][neighbour.y]) {
+							neighbour.parent = n;
+							neighbour.g = n.g + g;
+							neighbour.h = Math.abs((n.x + i) - endX) + Math.abs((n.x + j) - endY); // Including the old heuristic's use of x in place of y
+							neighbour.f = neighbour.g + neighbour.h;
+							openList.add(neighbour);
+							open[neighbour.x][neighbour.y] = true;
+
+						} else if ((n.g + g) < neighbour.g) {
+							openList.remove(neighbour);
+							neighbour.parent = n;
+							neighbour.g = n.g + g;
+							neighbour.f = neighbour.g + neighbour.h;
+							openList.add(neighbour);
+						}
+					}
+				}
+			}
+		}
+
+		List<Integer> path = new ArrayList<>();
+		LegacyNode n = nodeArray[endX][endY];
+		while (n.parent != null) {
+			path.add(n.x*grid.height + n.y);
+			n = n.parent;
+		}
+		Collections.reverse(path);
+		return path.stream().mapToInt(Integer::intValue).toArray();
+	}
+}
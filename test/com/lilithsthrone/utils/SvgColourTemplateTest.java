@@ -0,0 +1,128 @@
+package com.lilithsthrone.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+/**
+ * Checks that SvgColourTemplate gives exactly the same output as the original replaceAll() passes for every clothing SVG in res/clothing, and every pattern in res/patterns.<br/>
+ * <br/>
+ * Each SVG is coloured several times, with and without gradient ids, with colours left out, and with shades which are themselves key shades of the palette (which the later passes then replace again).
+ *
+ * @since 0.3.5.8
+ * @version 0.3.5.8
+ * @author Innoxia
+ */
+public class SvgColourTemplateTest {
+
+	private static final int VARIANTS = 4;
+
+	private static List<Path> getSvgs(String folder) throws IOException {
+		Path root = Paths.get(folder);
+		assertTrue("Missing folder: "+root.toAbsolutePath(), Files.isDirectory(root));
+		try(Stream<Path> paths = Files.walk(root)) {
+			return paths.filter(p -> p.toString().endsWith(".svg")).sorted().collect(Collectors.toList());
+		}
+	}
+
+	private static String read(Path svg) throws IOException {
+		return new String(Files.readAllBytes(svg), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * @return Either one of the palettes' key shades (in full), or a random shade.
+	 */
+	private static String randomShade(Random random, List<String> keyShades) {
+		if(random.nextBoolean()) {
+			return keyShades.get(random.nextInt(keyShades.size()));
+		}
+		return String.format("#%06x", random.nextInt(0x1000000));
+	}
+
+	private static List<String> getKeyShades() {
+		List<String> keyShades = new ArrayList<>();
+		for(SvgColourTemplate.Palette palette : new SvgColourTemplate.Palette[] {SvgColourTemplate.STANDARD, SvgColourTemplate.PATTERN}) {
+			for(int pass=0; pass<palette.getPassCount(); pass++) {
+				keyShades.add(palette.getRegex(pass).split("\\|")[0]);
+			}
+		}
+		return keyShades;
+	}
+
+	/**
+	 * @param colourCount The number of colours to replace, each of which has five passes.
+	 */
+	private static String[] randomValues(Random random, SvgColourTemplate.Palette palette, int colourCount, List<String> keyShades) {
+		String[] values = new String[palette.getPassCount()];
+		for(int pass=0; pass<colourCount*5; pass++) {
+			values[pass] = randomShade(random, keyShades);
+		}
+		return values;
+	}
+
+	private static void assertSameOutput(String name, SvgColourTemplate.Palette palette, String gradientPrefix, String[] values, String svg) {
+		assertEquals(name+" with gradient prefix "+gradientPrefix,
+				SvgColourTemplate.renderByRegex(palette, gradientPrefix, values, svg),
+				palette.getTemplate(svg).render(gradientPrefix, values));
+	}
+
+	@Test
+	public void clothingSameAsRegex() throws IOException {
+		List<String> keyShades = getKeyShades();
+		List<Path> svgs = getSvgs("res/clothing");
+		assertTrue(svgs.size()>100);
+
+		for(Path path : svgs) {
+			String svg = read(path);
+			String name = path.toString();
+			Random random = new Random(name.hashCode());
+			for(int i=0; i<VARIANTS; i++) {
+				// As colourReplacement() with up to four colours:
+				int colourCount = 1+random.nextInt(4);
+				assertSameOutput(name, SvgColourTemplate.STANDARD, i%2==0 ? null : "gradient"+i+"CLOTHING_RED", randomValues(random, SvgColourTemplate.STANDARD, colourCount, keyShades), svg);
+			}
+			// As colourReplacement() with a single hex colour:
+			String colour = randomShade(random, keyShades);
+			String[] values = new String[SvgColourTemplate.STANDARD.getPassCount()];
+			for(int pass=0; pass<5; pass++) {
+				values[pass] = colour;
+			}
+			assertSameOutput(name, SvgColourTemplate.STANDARD, "gradient"+colour, values, svg);
+			// As colourReplacementPattern(), which clothing is also coloured by when it has a pattern:
+			assertSameOutput(name, SvgColourTemplate.PATTERN, "patternCLOTHING_BLUE", randomValues(random, SvgColourTemplate.PATTERN, 3, keyShades), svg);
+		}
+	}
+
+	@Test
+	public void patternsSameAsRegex() throws IOException {
+		List<String> keyShades = getKeyShades();
+		for(Path path : getSvgs("res/patterns")) {
+			String svg = read(path);
+			String name = path.toString();
+			Random random = new Random(name.hashCode());
+			for(int i=0; i<VARIANTS; i++) {
+				assertSameOutput(name, SvgColourTemplate.PATTERN, "pattern"+i, randomValues(random, SvgColourTemplate.PATTERN, 1+random.nextInt(3), keyShades), svg);
+			}
+		}
+	}
+
+	@Test
+	public void unchangedWithoutValues() throws IOException {
+		for(Path path : getSvgs("res/clothing")) {
+			String svg = read(path);
+			assertSameOutput(path.toString(), SvgColourTemplate.STANDARD, null, new String[SvgColourTemplate.STANDARD.getPassCount()], svg);
+		}
+	}
+}
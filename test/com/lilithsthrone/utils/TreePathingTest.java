@@ -0,0 +1,240 @@
+package com.lilithsthrone.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.lilithsthrone.game.character.effects.TreeEntry;
+
+/**
+ * Checks that TreePathing finds the same routes as the search which Pathing.aStarPathingPerkTree() used before it.<br/>
+ * <br/>
+ * The perk tree can't be built without starting the game, so the tree here has the same shape instead: a few categories, each with a few entries per row,
+ *  linked to entries in the same row (of their own or neighbouring categories) and in the next row.
+ *
+ * @since 0.3.5.8
+ * @version 0.3.5.8
+ * @author Innoxia
+ */
+public class TreePathingTest {
+
+	private static final String[] CATEGORIES = {"PHYSICAL", "LUST", "ARCANE"};
+	private static final int ROWS = 12;
+
+	private static Map<Integer, Map<String, List<TreeEntry<String, String>>>> createTree(long seed) {
+		Random random = new Random(seed);
+		Map<Integer, Map<String, List<TreeEntry<String, String>>>> tree = new LinkedHashMap<>();
+		for(int row=0; row<ROWS; row++) {
+			Map<String, List<TreeEntry<String, String>>> rowEntries = new LinkedHashMap<>();
+			for(String category : CATEGORIES) {
+				List<TreeEntry<String, String>> entries = new ArrayList<>();
+				int count = row==0 ? 1 : 1+random.nextInt(3);
+				for(int i=0; i<count; i++) {
+					entries.add(new TreeEntry<>(category, row, category+"_"+row+"_"+i));
+				}
+				rowEntries.put(category, entries);
+			}
+			tree.put(row, rowEntries);
+		}
+
+		for(int row=0; row<ROWS; row++) {
+			List<TreeEntry<String, String>> rowEntries = getRow(tree, row);
+			for(int i=0; i<rowEntries.size(); i++) {
+				TreeEntry<String, String> entry = rowEntries.get(i);
+				if(row+1<ROWS) {
+					List<TreeEntry<String, String>> nextRow = new ArrayList<>(tree.get(row+1).get(entry.getCategory()));
+					entry.addLink(nextRow.get(random.nextInt(nextRow.size())));
+					if(random.nextInt(3)==0) {
+						entry.addLink(nextRow.get(random.nextInt(nextRow.size())));
+					}
+				}
+				if(i+1<rowEntries.size() && random.nextInt(3)==0) {
+					entry.addLink(rowEntries.get(i+1));
+				}
+			}
+		}
+		return tree;
+	}
+
+	private static List<TreeEntry<String, String>> getRow(Map<Integer, Map<String, List<TreeEntry<String, String>>>> tree, int row) {
+		List<TreeEntry<String, String>> entries = new ArrayList<>();
+		for(List<TreeEntry<String, String>> categoryEntries : tree.get(row).values()) {
+			entries.addAll(categoryEntries);
+		}
+		return entries;
+	}
+
+	private static List<TreeEntry<String, String>> getLinks(TreeEntry<String, String> entry) {
+		List<TreeEntry<String, String>> links = new ArrayList<>(entry.getSiblingLinks());
+		links.addAll(entry.getChildLinks());
+		return links;
+	}
+
+	private static class LegacyNode {
+		private LegacyNode parent;
+		private final TreeEntry<String, String> entry;
+		private int f;
+		private int g;
+
+		private LegacyNode(TreeEntry<String, String> entry) {
+			this.entry = entry;
+		}
+	}
+
+	/**
+	 * The search from Pathing.aStarPathingPerkTree() before it was replaced by TreePathing.
+	 * @return The route, or an empty list if the destination can't be reached (in which case the old search would have thrown a NullPointerException).
+	 */
+	private static List<TreeEntry<String, String>> findLegacyPath(Map<Integer, Map<String, List<TreeEntry<String, String>>>> tree, TreeEntry<String, String> start, TreeEntry<String, String> destination) {
+		List<LegacyNode> nodeArray = new ArrayList<>();
+		LegacyNode startNode = null;
+		for(Map<String, List<TreeEntry<String, String>>> row : tree.values()) {
+			for(List<TreeEntry<String, String>> categoryEntries : row.values()) {
+				for(TreeEntry<String, String> entry : categoryEntries) {
+					if(entry.getRow()>0) {
+						LegacyNode node = new LegacyNode(entry);
+						if(entry.equals(start)) {
+							startNode = node;
+						}
+						nodeArray.add(node);
+					}
+				}
+			}
+		}
+
+		PriorityQueue<LegacyNode> openList = new PriorityQueue<>(10, (o1, o2) -> o1.f - o2.f);
+		List<LegacyNode> closedList = new ArrayList<>();
+		openList.add(startNode);
+
+		LegacyNode destinationNode = null;
+		while(!openList.isEmpty()) {
+			LegacyNode n = openList.poll();
+			closedList.add(n);
+			if(n.entry.equals(destination)) {
+				destinationNode = n;
+				break;
+			}
+			for(TreeEntry<String, String> link : getLinks(n.entry)) {
+				boolean containsLink = false;
+				LegacyNode closedNode = null;
+				for(LegacyNode node : closedList) {
+					if(node.entry.equals(link)) {
+						containsLink = true;
+						break;
+					}
+				}
+				for(LegacyNode node : nodeArray) {
+					if(node.entry.equals(link)) {
+						closedNode = node;
+						break;
+					}
+				}
+				if(!containsLink) {
+					if(!openList.contains(closedNode)) {
+						closedNode.parent = n;
+						closedNode.g = n.g + 1;
+						closedNode.f = closedNode.g + 1;
+						openList.add(closedNode);
+
+					} else if((n.g + 1) < closedNode.g) {
+						openList.remove(closedNode);
+						closedNode.parent = n;
+						closedNode.g = n.g + 1;
+						closedNode.f = closedNode.g + 1;
+						openList.add(closedNode);
+					}
+				}
+			}
+		}
+
+		List<TreeEntry<String, String>> path = new ArrayList<>();
+		for(LegacyNode n = destinationNode; n!=null; n = n.parent) {
+			path.add(n.entry);
+		}
+		Collections.reverse(path);
+		return path;
+	}
+
+	/**
+	 * @return The number of shortest routes from start to destination (up to 2), or 0 if it can't be reached.
+	 */
+	private static int countShortestPaths(TreeEntry<String, String> start, TreeEntry<String, String> destination) {
+		Map<TreeEntry<String, String>, Integer> distances = new HashMap<>();
+		Map<TreeEntry<String, String>, Integer> counts = new HashMap<>();
+		List<TreeEntry<String, String>> frontier = new ArrayList<>();
+		distances.put(start, 0);
+		counts.put(start, 1);
+		frontier.add(start);
+		for(int distance=1; !frontier.isEmpty(); distance++) {
+			List<TreeEntry<String, String>> next = new ArrayList<>();
+			for(TreeEntry<String, String> entry : frontier) {
+				for(TreeEntry<String, String> link : getLinks(entry)) {
+					if(link.getRow()==0) {
+						continue;
+					}
+					Integer linkDistance = distances.get(link);
+					if(linkDistance==null) {
+						distances.put(link, distance);
+						counts.put(link, counts.get(entry));
+						next.add(link);
+					} else if(linkDistance==distance) {
+						counts.put(link, Math.min(2, counts.get(link)+counts.get(entry)));
+					}
+				}
+			}
+			frontier = next;
+		}
+		return counts.getOrDefault(destination, 0);
+	}
+
+	@Test
+	public void sameRoutesAsLegacyPathing() {
+		int uniqueRoutes = 0;
+		for(long seed=0; seed<20; seed++) {
+			Map<Integer, Map<String, List<TreeEntry<String, String>>>> tree = createTree(seed);
+			List<TreeEntry<String, String>> entries = new ArrayList<>();
+			for(int row=1; row<ROWS; row++) {
+				entries.addAll(getRow(tree, row));
+			}
+			for(TreeEntry<String, String> start : entries) {
+				for(TreeEntry<String, String> destination : entries) {
+					List<TreeEntry<String, String>> path = TreePathing.findPath(tree, start, destination);
+					List<TreeEntry<String, String>> legacyPath = findLegacyPath(tree, start, destination);
+					int shortestPaths = countShortestPaths(start, destination);
+
+					String route = "Tree "+seed+" from "+start.getEntry()+" to "+destination.getEntry();
+					assertEquals(route, legacyPath.size(), path.size());
+					assertEquals(route, shortestPaths==0, path.isEmpty());
+					if(shortestPaths==1) {
+						uniqueRoutes++;
+						assertEquals(route, legacyPath, path);
+					}
+					if(!path.isEmpty()) {
+						assertEquals(start, path.get(0));
+						assertEquals(destination, path.get(path.size()-1));
+					}
+				}
+			}
+		}
+		assertTrue(uniqueRoutes>1000);
+	}
+
+	@Test
+	public void startNotInTree() {
+		Map<Integer, Map<String, List<TreeEntry<String, String>>>> tree = createTree(0);
+		TreeEntry<String, String> destination = getRow(tree, ROWS-1).get(0);
+
+		assertTrue(TreePathing.findPath(tree, getRow(tree, 0).get(0), destination).isEmpty());
+		assertTrue(TreePathing.findPath(tree, new TreeEntry<>("PHYSICAL", 1, "missing"), destination).isEmpty());
+	}
+}
@@ -0,0 +1,222 @@
+package com.lilithsthrone.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Checks that a save converted from XML to the binary format and back (as Game.convertSaveFile() does) is the same document as the original,
+ *  using saveFixture.xml, which has the same sections as a real save, along with negative and non-canonical numbers, empty sections, and non-ASCII strings.<br/>
+ * <br/>
+ * Comments, and the whitespace used to indent elements, are not kept in the binary format, so are left out of the comparison.
+ *
+ * @since 0.3.5.8
+ * @version 0.3.5.8
+ * @author Innoxia
+ */
+public class XMLBinaryWriterTest {
+
+	private Path binaryPath;
+	private Path xmlPath;
+
+	@Before
+	public void setUp() throws Exception {
+		binaryPath = Files.createTempFile("xmlBinaryWriterTest", ".ltsb");
+		xmlPath = Files.createTempFile("xmlBinaryWriterTest", ".xml");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		Files.deleteIfExists(binaryPath);
+		Files.deleteIfExists(xmlPath);
+	}
+
+	private static Document loadFixture() throws Exception {
+		try(InputStream in = XMLBinaryWriterTest.class.getResourceAsStream("saveFixture.xml")) {
+			assertNotNull("Missing saveFixture.xml", in);
+			return DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(in);
+		}
+	}
+
+	/**
+	 * Writes the document's sections in the same way as Game.convertSaveFile().
+	 */
+	private static void writeSave(Document doc, XMLSectionWriter writer) throws Exception {
+		Element gameElement = doc.getDocumentElement();
+		writer.writeStartElement(gameElement.getTagName());
+		NodeList sections = gameElement.getChildNodes();
+		for(int i=0; i<sections.getLength(); i++) {
+			if(sections.item(i).getNodeType()!=Node.ELEMENT_NODE) {
+				continue;
+			}
+			Element section = (Element) sections.item(i);
+			if(section.getTagName().equals("maps")) {
+				writer.writeStartElement("maps");
+				writer.writeChildElements(section);
+				writer.writeEndElement();
+			} else {
+				writer.writeElement(section);
+			}
+		}
+		writer.writeEndElement();
+	}
+
+	/**
+	 * Removes comments, and whitespace between child elements, from the node and everything below it.
+	 */
+	private static void removeIgnoredNodes(Node node) {
+		NodeList children = node.getChildNodes();
+		boolean hasChildElements = false;
+		for(int i=0; i<children.getLength(); i++) {
+			if(children.item(i).getNodeType()==Node.ELEMENT_NODE) {
+				hasChildElements = true;
+			}
+		}
+		for(int i=children.getLength()-1; i>=0; i--) {
+			Node child = children.item(i);
+			if(child.getNodeType()==Node.COMMENT_NODE
+					|| (hasChildElements && child.getNodeType()==Node.TEXT_NODE && child.getNodeValue().trim().isEmpty())) {
+				node.removeChild(child);
+			} else {
+				removeIgnoredNodes(child);
+			}
+		}
+	}
+
+	/**
+	 * Fails with the path to the first difference, as Node.isEqualNode() would only say that there is one.
+	 */
+	private static void assertSameNode(String path, Node expected, Node actual) {
+		assertEquals(path, expected.getNodeType(), actual.getNodeType());
+		assertEquals(path, expected.getNodeName(), actual.getNodeName());
+		assertEquals(path, expected.getNodeValue(), actual.getNodeValue());
+
+		NamedNodeMap expectedAttributes = expected.getAttributes();
+		NamedNodeMap actualAttributes = actual.getAttributes();
+		if(expectedAttributes!=null) {
+			assertEquals(path+" attributes", expectedAttributes.getLength(), actualAttributes.getLength());
+			for(int i=0; i<expectedAttributes.getLength(); i++) {
+				Node attribute = expectedAttributes.item(i);
+				Node actualAttribute = actualAttributes.getNamedItem(attribute.getNodeName());
+				assertNotNull(path+"@"+attribute.getNodeName(), actualAttribute);
+				assertEquals(path+"@"+attribute.getNodeName(), attribute.getNodeValue(), actualAttribute.getNodeValue());
+			}
+		}
+
+		NodeList expectedChildren = expected.getChildNodes();
+		NodeList actualChildren = actual.getChildNodes();
+		assertEquals(path+" children", expectedChildren.getLength(), actualChildren.getLength());
+		for(int i=0; i<expectedChildren.getLength(); i++) {
+			assertSameNode(path+"/"+expectedChildren.item(i).getNodeName()+"["+i+"]", expectedChildren.item(i), actualChildren.item(i));
+		}
+		assertTrue(path, expected.isEqualNode(actual));
+	}
+
+	@Test
+	public void saveRoundTrip() throws Exception {
+		Document original = loadFixture();
+		try(XMLBinaryWriter writer = new XMLBinaryWriter(binaryPath)) {
+			writeSave(original, writer);
+		}
+		assertTrue(XMLBinaryReader.isBinaryFile(binaryPath.toFile()));
+
+		Document fromBinary = XMLBinaryReader.read(binaryPath.toFile());
+		try(XMLStreamSaver saver = new XMLStreamSaver(xmlPath)) {
+			writeSave(fromBinary, saver);
+		}
+		assertFalse(XMLBinaryReader.isBinaryFile(xmlPath.toFile()));
+		Document roundTripped = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(xmlPath.toFile());
+
+		removeIgnoredNodes(original);
+		removeIgnoredNodes(fromBinary);
+		removeIgnoredNodes(roundTripped);
+		assertSameNode("", original.getDocumentElement(), fromBinary.getDocumentElement());
+		assertSameNode("", original.getDocumentElement(), roundTripped.getDocumentElement());
+	}
+
+	@Test
+	public void valuesAreKeptExactly() throws Exception {
+		Document original = loadFixture();
+		try(XMLBinaryWriter writer = new XMLBinaryWriter(binaryPath)) {
+			writeSave(original, writer);
+		}
+		Document doc = XMLBinaryReader.read(binaryPath.toFile());
+
+		// Negative numbers, and numbers which would not be written back the same way if they were stored as integers:
+		assertEquals("-9223372036854775808", getValue(doc, "lastTimeHadSex"));
+		assertEquals("-2147483648", getValue(doc, "lastTimeOrgasmed"));
+		assertEquals("-4", getValue(doc, "ageAppearanceDifference"));
+		assertEquals("-0", getValue(doc, "lostCombatCount"));
+		assertEquals("007", getValue(doc, "wonCombatCount"));
+		assertEquals("+35", getValue(doc, "experience"));
+		assertEquals("-12.5", getValue(doc, "obedience"));
+		assertEquals("-320", ((Element) doc.getElementsByTagName("slavery").item(0)).getAttribute("generatedUpkeep"));
+
+		// Non-ASCII strings:
+		assertEquals("\u00d3 S\u00failleabh\u00e1in", getValue(doc, "surname"));
+		Element gift = (Element) doc.getElementsByTagName("eventLogEntry").item(2);
+		assertEquals("\u00c6lfwynn gave you a gift: \u72d0\u306e\u9762 (fox mask) \ud83e\udd8a", gift.getAttribute("description"));
+
+		// Line breaks, tabs, and markup:
+		Element metLilaya = (Element) doc.getElementsByTagName("eventLogEntry").item(1);
+		assertEquals("You met your aunt Lilaya.\n\nShe said \"Welcome home!\" & showed you to your room.\r\n\t<b>Quest updated</b>", metLilaya.getAttribute("description"));
+
+		// Empty sections, and an element with only whitespace as its text:
+		Element savedInventories = (Element) doc.getElementsByTagName("savedInventories").item(0);
+		assertFalse(savedInventories.hasChildNodes());
+		assertFalse(savedInventories.hasAttributes());
+		assertFalse(doc.getElementsByTagName("slaveryEventLog").item(0).hasChildNodes());
+		assertFalse(doc.getElementsByTagName("grid").item(1).hasChildNodes());
+		assertEquals(" ", doc.getElementsByTagName("trait").item(2).getTextContent());
+	}
+
+	private static String getValue(Document doc, String tagName) {
+		return ((Element) doc.getElementsByTagName(tagName).item(0)).getAttribute("value");
+	}
+
+	@Test
+	public void readSections() throws Exception {
+		Document original = loadFixture();
+		try(XMLBinaryWriter writer = new XMLBinaryWriter(binaryPath)) {
+			writeSave(original, writer);
+		}
+		removeIgnoredNodes(original);
+
+		Element[] sections = XMLBinaryReader.readSections(binaryPath.toFile(), found -> false, "coreInfo", "playerCharacter", "missingSection");
+		assertSameNode("coreInfo", original.getElementsByTagName("coreInfo").item(0), sections[0]);
+		assertSameNode("playerCharacter", original.getElementsByTagName("playerCharacter").item(0), sections[1]);
+		assertNull(sections[2]);
+	}
+
+	@Test
+	public void emptySave() throws Exception {
+		try(XMLBinaryWriter writer = new XMLBinaryWriter(binaryPath)) {
+			writer.writeStartElement("game");
+			writer.writeStartElement("maps");
+			writer.writeEndElement();
+			writer.writeEndElement();
+		}
+		Element game = XMLBinaryReader.read(binaryPath.toFile()).getDocumentElement();
+		assertEquals("game", game.getTagName());
+		assertEquals(1, game.getChildNodes().getLength());
+		assertEquals("maps", game.getFirstChild().getNodeName());
+		assertFalse(game.getFirstChild().hasChildNodes());
+	}
+}
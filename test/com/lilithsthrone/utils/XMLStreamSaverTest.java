@@ -0,0 +1,96 @@
+package com.lilithsthrone.utils;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import com.lilithsthrone.game.dialogue.eventLog.EventLogEntry;
+
+/**
+ * Checks that everything written by XMLStreamSaver is read back exactly as it was, including line breaks and tabs in attribute values.
+ *
+ * @since 0.3.5.8
+ * @version 0.3.5.8
+ * @author Innoxia
+ */
+public class XMLStreamSaverTest {
+
+	private static final String MULTI_LINE_DESCRIPTION = "A tall, broad-shouldered wolf-boy.\n\nHe has \"piercing\" yellow eyes & <sharp> teeth.\r\n\tHe is wearing a coat.";
+
+	private Path path;
+
+	@Before
+	public void setUp() throws Exception {
+		path = Files.createTempFile("xmlStreamSaverTest", ".xml");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		Files.deleteIfExists(path);
+	}
+
+	private Document read() throws Exception {
+		Document doc = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new File(path.toString()));
+		doc.getDocumentElement().normalize();
+		return doc;
+	}
+
+	@Test
+	public void multiLineAttributeRoundTrip() throws Exception {
+		Document scratch = XMLStreamSaver.newScratchDocument();
+		Element description = scratch.createElement("description");
+		description.setAttribute("value", MULTI_LINE_DESCRIPTION);
+		
+		try(XMLStreamSaver saver = new XMLStreamSaver(path)) {
+			saver.writeStartElement("characterCoreInfo");
+			saver.writeElement(description);
+			saver.writeEndElement();
+		}
+		
+		Element loaded = (Element) read().getElementsByTagName("description").item(0);
+		assertEquals(MULTI_LINE_DESCRIPTION, loaded.getAttribute("value"));
+	}
+
+	@Test
+	public void multiLineTextRoundTrip() throws Exception {
+		Document scratch = XMLStreamSaver.newScratchDocument();
+		Element text = scratch.createElement("text");
+		text.appendChild(scratch.createTextNode(MULTI_LINE_DESCRIPTION));
+		
+		try(XMLStreamSaver saver = new XMLStreamSaver(path)) {
+			saver.writeStartElement("root");
+			saver.writeElement(text);
+			saver.writeEndElement();
+		}
+		
+		Element loaded = (Element) read().getElementsByTagName("text").item(0);
+		assertEquals(MULTI_LINE_DESCRIPTION, loaded.getTextContent());
+	}
+
+	@Test
+	public void eventLogEntryRoundTrip() throws Exception {
+		EventLogEntry entry = new EventLogEntry(3600, "Met Lilaya", MULTI_LINE_DESCRIPTION);
+		
+		try(XMLStreamSaver saver = new XMLStreamSaver(path)) {
+			saver.writeStartElement("eventLog");
+			saver.writeSaveable(entry);
+			saver.writeEndElement();
+		}
+		
+		Document doc = read();
+		EventLogEntry loaded = EventLogEntry.loadFromXML((Element) doc.getElementsByTagName("eventLogEntry").item(0), doc);
+		assertEquals(entry.getTime(), loaded.getTime());
+		assertEquals(entry.getName(), loaded.getName());
+		assertEquals(entry.getDescription(), loaded.getDescription());
+	}
+}